@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import net.mtrop.doom.WadBuffer;
+import net.mtrop.doom.graphics.Flat;
+import net.mtrop.doom.graphics.Palette;
+import net.mtrop.doom.graphics.Picture;
+import net.mtrop.doom.texture.DoomTextureList;
+import net.mtrop.doom.texture.PatchNames;
+import net.mtrop.doom.texture.TextureSet;
+import net.mtrop.doom.tools.common.ParseException;
+import net.mtrop.doom.tools.common.Utility;
+import net.mtrop.doom.tools.struct.util.FileUtils;
+
+/**
+ * Synthetic input generators for the benchmarks.
+ * Everything is made from a seeded {@link Random}, so the same seed always makes the same data,
+ * and nothing outside of the build tree needs to be downloaded or checked in.
+ * @author Matthew Tropiano
+ */
+public final class BenchmarkData
+{
+	/** The seed that all benchmarks use, so runs are comparable across commits. */
+	public static final long SEED = 0x00D00D1E5L;
+
+	private static final String[] SPRITES = {"POSS", "SPOS", "TROO", "SARG", "HEAD", "BOSS", "SKUL", "CPOS"};
+	private static final String[] ACTIONS = {"A_Look", "A_Chase", "A_FaceTarget", "A_Pain", "A_Scream", "A_Fall", "A_XScream", "A_TroopAttack"};
+
+	private BenchmarkData() {}
+
+	/**
+	 * @return a new random number generator with the common seed.
+	 */
+	public static Random random()
+	{
+		return new Random(SEED);
+	}
+
+	/**
+	 * @return an output stream that throws away everything written to it.
+	 */
+	public static OutputStream nullOutputStream()
+	{
+		return new OutputStream()
+		{
+			@Override
+			public void write(int b)
+			{
+				// Do nothing.
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len)
+			{
+				// Do nothing.
+			}
+		};
+	}
+
+	/**
+	 * Creates a new temporary directory for generated files.
+	 * @param prefix the directory name prefix.
+	 * @return the new directory.
+	 * @throws IOException if the directory could not be created.
+	 */
+	public static File createTempDirectory(String prefix) throws IOException
+	{
+		return Files.createTempDirectory("doomtools-jmh-" + prefix).toFile();
+	}
+
+	/**
+	 * Deletes a directory made by {@link #createTempDirectory(String)}, and everything in it.
+	 * @param directory the directory (can be null).
+	 */
+	public static void deleteDirectory(File directory)
+	{
+		if (directory != null && directory.exists())
+		{
+			FileUtils.deleteDirectory(directory, true);
+			directory.delete();
+		}
+	}
+
+	/**
+	 * Creates a random palette.
+	 * @param random the random number generator.
+	 * @return the new palette.
+	 */
+	public static Palette palette(Random random)
+	{
+		Palette out = new Palette();
+		for (int i = 0; i < 256; i++)
+			out.setColor(i, 0xff000000 | random.nextInt(0x01000000));
+		return out;
+	}
+
+	/**
+	 * Creates a random image, with a few transparent pixels.
+	 * @param random the random number generator.
+	 * @param width the image width.
+	 * @param height the image height.
+	 * @return the new image.
+	 */
+	public static BufferedImage image(Random random, int width, int height)
+	{
+		BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+				out.setRGB(x, y, random.nextInt(16) == 0 ? 0 : 0xff000000 | random.nextInt(0x01000000));
+		return out;
+	}
+
+	/**
+	 * Writes a folder of random PNG images.
+	 * @param random the random number generator.
+	 * @param directory the directory to write to (created if it does not exist).
+	 * @param count the amount of images.
+	 * @param width the image width.
+	 * @param height the image height.
+	 * @return the directory.
+	 * @throws IOException if the images could not be written.
+	 */
+	public static File pngFolder(Random random, File directory, int count, int width, int height) throws IOException
+	{
+		if (!FileUtils.createPath(directory.getPath()))
+			throw new IOException("Could not create directory: " + directory.getPath());
+		for (int i = 0; i < count; i++)
+			ImageIO.write(image(random, width, height), "png", new File(directory, String.format("IMG%05d.png", i)));
+		return directory;
+	}
+
+	/**
+	 * Creates a random picture (patch).
+	 * @param random the random number generator.
+	 * @param width the picture width.
+	 * @param height the picture height.
+	 * @return the new picture.
+	 */
+	public static Picture picture(Random random, int width, int height)
+	{
+		Picture out = new Picture(width, height);
+		for (int x = 0; x < width; x++)
+			for (int y = 0; y < height; y++)
+				out.setPixel(x, y, random.nextInt(8) == 0 ? Picture.PIXEL_TRANSLUCENT : random.nextInt(256));
+		return out;
+	}
+
+	/**
+	 * Creates a random 64x64 flat.
+	 * @param random the random number generator.
+	 * @return the new flat.
+	 */
+	public static Flat flat(Random random)
+	{
+		Flat out = new Flat(64, 64);
+		for (int x = 0; x < 64; x++)
+			for (int y = 0; y < 64; y++)
+				out.setPixel(x, y, random.nextInt(256));
+		return out;
+	}
+
+	/**
+	 * Writes a WAD of random lumps, with random names and sizes.
+	 * @param random the random number generator.
+	 * @param file the WAD file to write.
+	 * @param lumps the amount of lumps.
+	 * @param maxLength the largest lump length in bytes.
+	 * @return the file.
+	 * @throws IOException if the WAD could not be written.
+	 */
+	public static File randomWad(Random random, File file, int lumps, int maxLength) throws IOException
+	{
+		WadBuffer wad = new WadBuffer(lumps, 16);
+		for (int i = 0; i < lumps; i++)
+		{
+			byte[] data = new byte[random.nextInt(maxLength + 1)];
+			random.nextBytes(data);
+			wad.addData(String.format("LMP%05d", i), data);
+		}
+		wad.writeToFile(file);
+		return file;
+	}
+
+	/**
+	 * Writes a texture WAD: a PLAYPAL, PNAMES and TEXTURE1, and patches and flats between markers.
+	 * Textures are named <code>TEX00000</code> and up, made of one to three of the patches (named <code>PAT00000</code> and up),
+	 * and flats are named <code>FLT00000</code> and up.
+	 * @param random the random number generator.
+	 * @param file the WAD file to write.
+	 * @param textures the amount of textures.
+	 * @param patches the amount of patches.
+	 * @param flats the amount of flats.
+	 * @return the file.
+	 * @throws IOException if the WAD could not be written.
+	 */
+	public static File textureWad(Random random, File file, int textures, int patches, int flats) throws IOException
+	{
+		StringBuilder deutex = new StringBuilder(textures * 64);
+		for (int i = 0; i < textures; i++)
+		{
+			deutex.append(String.format("TEX%05d 64 128\n", i));
+			int count = 1 + random.nextInt(3);
+			for (int p = 0; p < count; p++)
+				deutex.append(String.format("* PAT%05d %d 0\n", random.nextInt(patches), p * 32));
+		}
+
+		TextureSet textureSet;
+		try {
+			textureSet = Utility.readDEUTEXFile(new BufferedReader(new StringReader(deutex.toString())));
+		} catch (ParseException e) {
+			throw new IOException(e);
+		}
+		PatchNames patchNames = new PatchNames();
+		DoomTextureList textureList = new DoomTextureList(textures);
+		textureSet.export(patchNames, textureList);
+
+		WadBuffer wad = new WadBuffer(textures + patches + flats + 8, 16);
+		wad.addData("PLAYPAL", palette(random));
+		wad.addData("PNAMES", patchNames);
+		wad.addData("TEXTURE1", textureList);
+		wad.addMarker("P_START");
+		for (int i = 0; i < patches; i++)
+			wad.addData(String.format("PAT%05d", i), picture(random, 32, 128));
+		wad.addMarker("P_END");
+		wad.addMarker("F_START");
+		for (int i = 0; i < flats; i++)
+			wad.addData(String.format("FLT%05d", i), flat(random));
+		wad.addMarker("F_END");
+		wad.writeToFile(file);
+		return file;
+	}
+
+	/**
+	 * Creates DECOHack source: new things with states and properties, on top of a DSDHacked patch
+	 * so that there are always enough free things and states.
+	 * @param random the random number generator.
+	 * @param things the amount of things.
+	 * @return the source text.
+	 */
+	public static String decoHackSource(Random random, int things)
+	{
+		StringBuilder sb = new StringBuilder(things * 512);
+		sb.append("#include <dsdhacked>\n\n");
+		for (int i = 0; i < things; i++)
+		{
+			String sprite = SPRITES[random.nextInt(SPRITES.length)];
+			sb.append("// Generated thing ").append(i).append('\n');
+			sb.append("auto thing Gen").append(i).append(" \"Generated ").append(i).append("\"\n");
+			sb.append("{\n");
+			sb.append("\tHealth ").append(10 + random.nextInt(1000)).append('\n');
+			sb.append("\tSpeed ").append(1 + random.nextInt(20)).append('\n');
+			sb.append("\tRadius ").append(16 + random.nextInt(48)).append('\n');
+			sb.append("\tHeight ").append(32 + random.nextInt(64)).append('\n');
+			sb.append("\tPainChance ").append(random.nextInt(256)).append('\n');
+			sb.append("\tclear flags\n\t+SOLID\n\t+SHOOTABLE\n\t+COUNTKILL\n");
+			sb.append("\tSeeSound \"posit1\"\n");
+			sb.append("\tstates\n\t{\n");
+			sb.append("\tSpawn:\n\t\t").append(sprite).append(" AB 10 A_Look\n\t\tLoop\n");
+			sb.append("\tSee:\n\t\t").append(sprite).append(" AABBCCDD ").append(2 + random.nextInt(4)).append(" A_Chase\n\t\tLoop\n");
+			sb.append("\tMissile:\n\t\t").append(sprite).append(" E 10 A_FaceTarget\n");
+			sb.append("\t\t").append(sprite).append(" F 8 ").append(ACTIONS[random.nextInt(ACTIONS.length)]).append('\n');
+			sb.append("\t\tGoto See\n");
+			sb.append("\tPain:\n\t\t").append(sprite).append(" G 3\n\t\t").append(sprite).append(" G 3 A_Pain\n\t\tGoto See\n");
+			sb.append("\tDeath:\n\t\t").append(sprite).append(" H 5\n\t\t").append(sprite).append(" I 5 A_Scream\n");
+			sb.append("\t\t").append(sprite).append(" J 5 A_Fall\n\t\t").append(sprite).append(" K -1\n\t\tStop\n");
+			sb.append("\t}\n");
+			sb.append("}\n\n");
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mtrop.doom.graphics.Palette;
+import net.mtrop.doom.tools.exception.OptionParseException;
+
+/**
+ * Times DImgConv's color matching: finding the nearest palette color for random pixels,
+ * and converting a generated folder of PNGs to a WAD of graphics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoomImageConvertBenchmark
+{
+	private static final int PIXELS = 256 * 256;
+	private static final int IMAGES = 50;
+	
+	private Palette palette;
+	private int[] pixels;
+	private File directory;
+	private File paletteFile;
+	private File sourceDirectory;
+	private File outputWad;
+	
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		Random random = BenchmarkData.random();
+		palette = BenchmarkData.palette(random);
+		pixels = new int[PIXELS];
+		for (int i = 0; i < PIXELS; i++)
+			pixels[i] = 0xff000000 | random.nextInt(0x01000000);
+		
+		directory = BenchmarkData.createTempDirectory("dimgconv");
+		paletteFile = new File(directory, "PLAYPAL.lmp");
+		try (FileOutputStream fos = new FileOutputStream(paletteFile))
+		{
+			palette.writeBytes(fos);
+		}
+		sourceDirectory = BenchmarkData.pngFolder(random, new File(directory, "graphics"), IMAGES, 128, 128);
+		outputWad = new File(directory, "out.wad");
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		BenchmarkData.deleteDirectory(directory);
+	}
+	
+	@Benchmark
+	public int nearestColor()
+	{
+		int sum = 0;
+		for (int i = 0; i < pixels.length; i++)
+			sum += palette.getNearestColorIndex(pixels[i]);
+		return sum;
+	}
+	
+	@Benchmark
+	public int convertFolder() throws OptionParseException
+	{
+		outputWad.delete();
+		PrintStream out = new PrintStream(BenchmarkData.nullOutputStream());
+		int result = DoomImageConvertMain.call(DoomImageConvertMain.options(out, out)
+			.setPaletteSourcePath(paletteFile)
+			.setSourcePath(sourceDirectory)
+			.setOutputPath(outputWad)
+		);
+		if (result != 0)
+			throw new IllegalStateException("DImgConv returned " + result);
+		return result;
+	}
+	
+}
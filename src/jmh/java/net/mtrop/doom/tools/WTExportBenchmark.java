@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mtrop.doom.tools.exception.OptionParseException;
+
+/**
+ * Times a whole WTEXport run (the utility's context): scanning a generated base WAD and texture WAD,
+ * and extracting a random selection of their textures and flats to a new WAD.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WTExportBenchmark
+{
+	private static final int TEXTURES = 2000;
+	private static final int PATCHES = 1000;
+	private static final int FLATS = 500;
+	private static final int EXTRACT_TEXTURES = 400;
+	private static final int EXTRACT_FLATS = 100;
+	
+	private File directory;
+	private File baseWad;
+	private File textureWad;
+	private File outputWad;
+	private String[] textures;
+	private String[] flats;
+	
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		Random random = BenchmarkData.random();
+		directory = BenchmarkData.createTempDirectory("wtexport");
+		baseWad = BenchmarkData.textureWad(random, new File(directory, "base.wad"), 50, 40, 20);
+		textureWad = BenchmarkData.textureWad(random, new File(directory, "textures.wad"), TEXTURES, PATCHES, FLATS);
+		outputWad = new File(directory, "out.wad");
+		
+		textures = new String[EXTRACT_TEXTURES];
+		for (int i = 0; i < textures.length; i++)
+			textures[i] = String.format("TEX%05d", random.nextInt(TEXTURES));
+		flats = new String[EXTRACT_FLATS];
+		for (int i = 0; i < flats.length; i++)
+			flats[i] = String.format("FLT%05d", random.nextInt(FLATS));
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		BenchmarkData.deleteDirectory(directory);
+	}
+	
+	@Benchmark
+	public int export() throws OptionParseException
+	{
+		outputWad.delete();
+		PrintStream out = new PrintStream(BenchmarkData.nullOutputStream());
+		WTExportMain.Options options = WTExportMain.options(out, out, null)
+			.setBaseWad(baseWad)
+			.addFilePath(textureWad.getPath())
+			.setOutWad(outputWad)
+			.setAdditive(false)
+			.setQuiet(true);
+		for (String texture : textures)
+			options.addTexture(texture);
+		for (String flat : flats)
+			options.addFlat(flat);
+		
+		int result = WTExportMain.call(options);
+		if (result != 0)
+			throw new IllegalStateException("WTEXport returned " + result);
+		return result;
+	}
+	
+}
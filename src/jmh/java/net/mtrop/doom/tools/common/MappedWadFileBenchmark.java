@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mtrop.doom.WadEntry;
+import net.mtrop.doom.WadFile;
+import net.mtrop.doom.tools.BenchmarkData;
+
+/**
+ * Compares reading every lump of a generated ~100MB WAD (20,000 lumps of up to 10KB) through {@link WadFile}
+ * against copying them out of a {@link MappedWadFile}, and against reading them in place through its slices.
+ * Run with the GC profiler (<code>-Djmh.args="-prof gc"</code>) to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappedWadFileBenchmark
+{
+	private static final int LUMPS = 20000;
+	private static final int MAX_LENGTH = 10240;
+	
+	private File directory;
+	private WadFile wadFile;
+	private MappedWadFile mappedWadFile;
+	private WadEntry[] entries;
+	
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		directory = BenchmarkData.createTempDirectory("mappedwad");
+		File file = BenchmarkData.randomWad(BenchmarkData.random(), new File(directory, "lumps.wad"), LUMPS, MAX_LENGTH);
+		wadFile = new WadFile(file);
+		mappedWadFile = new MappedWadFile(file);
+		entries = new WadEntry[wadFile.getEntryCount()];
+		for (int i = 0; i < entries.length; i++)
+			entries[i] = wadFile.getEntry(i);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException
+	{
+		mappedWadFile.close();
+		wadFile.close();
+		BenchmarkData.deleteDirectory(directory);
+	}
+	
+	@Benchmark
+	public long wadFileGetData() throws IOException
+	{
+		long sum = 0;
+		for (int i = 0; i < entries.length; i++)
+			sum += wadFile.getData(entries[i]).length;
+		return sum;
+	}
+	
+	@Benchmark
+	public long mappedGetData()
+	{
+		long sum = 0;
+		for (int i = 0; i < entries.length; i++)
+			sum += mappedWadFile.getData(entries[i]).length;
+		return sum;
+	}
+	
+	@Benchmark
+	public long mappedSlice()
+	{
+		long sum = 0;
+		for (int i = 0; i < entries.length; i++)
+		{
+			ByteBuffer buf = mappedWadFile.slice(entries[i]);
+			while (buf.remaining() >= 8)
+				sum += buf.getLong();
+			while (buf.hasRemaining())
+				sum += buf.get();
+		}
+		return sum;
+	}
+	
+}
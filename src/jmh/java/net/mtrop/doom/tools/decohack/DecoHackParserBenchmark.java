@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.decohack;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mtrop.doom.tools.BenchmarkData;
+
+/**
+ * Times parsing generated DECOHack source (new things with states, on top of the DSDHacked patch),
+ * from text to a patch context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecoHackParserBenchmark
+{
+	@Param({"50", "500"})
+	private int things;
+	
+	private byte[] source;
+	
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		source = BenchmarkData.decoHackSource(BenchmarkData.random(), things).getBytes(StandardCharsets.UTF_8);
+		
+		// Make sure that the generated source is good, or the numbers mean nothing.
+		DecoHackParser.Result result = parse();
+		if (result.getErrors().length > 0)
+			throw new IllegalStateException("Generated source has errors: " + Arrays.toString(result.getErrors()));
+	}
+	
+	@Benchmark
+	public DecoHackParser.Result parse() throws IOException
+	{
+		return DecoHackParser.read("benchmark.dh", new ByteArrayInputStream(source), StandardCharsets.UTF_8);
+	}
+	
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mtrop.doom.tools.BenchmarkData;
+
+/**
+ * Times fragmenting single-index writes against an IntervalMap,
+ * similar to how DECOHack frees and protects states, and lookups against the fragmented map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalMapBenchmark
+{
+	@Param({"10000", "100000"})
+	private int size;
+	
+	private int[] indices;
+	private IntervalMap<Boolean> fragmented;
+	
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		Random random = BenchmarkData.random();
+		indices = new int[size * 2];
+		for (int i = 0; i < indices.length; i++)
+			indices[i] = random.nextInt(size);
+		fragmented = new IntervalMap<>(0, size - 1, false);
+		for (int i = 0; i < size; i++)
+			fragmented.set(indices[i], true);
+	}
+	
+	@Benchmark
+	public long setSingleIndices()
+	{
+		IntervalMap<Boolean> map = new IntervalMap<>(0, size - 1, false);
+		long widthSum = 0;
+		for (int i = 0; i < size; i++)
+		{
+			map.set(indices[i], true);
+			widthSum += map.getIndexWidth(true);
+		}
+		for (int i = size; i < indices.length; i++)
+		{
+			map.set(indices[i], false);
+			widthSum += map.getIndexWidth(true);
+		}
+		return widthSum + map.getIntervalCount();
+	}
+	
+	@Benchmark
+	public int getFragmented()
+	{
+		int count = 0;
+		for (int i = 0; i < indices.length; i++)
+			if (fragmented.get(indices[i]))
+				count++;
+		return count;
+	}
+	
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mtrop.doom.tools.BenchmarkData;
+
+/**
+ * Times tokenizing generated DECOHack source with a Lexer set up like the DECOHack one (without the preprocessor).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark
+{
+	@Param({"100", "1000"})
+	private int things;
+	
+	private String source;
+	private Lexer.Kernel kernel;
+	
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		// Lex the body only - the preprocessor takes care of the #include line.
+		String generated = BenchmarkData.decoHackSource(BenchmarkData.random(), things);
+		source = generated.substring(generated.indexOf('\n') + 1);
+		
+		// Same setup as the DECOHack kernel.
+		kernel = new Lexer.Kernel();
+		kernel.setDecimalSeparator('.');
+		kernel.addStringDelimiter('"', '"');
+		kernel.addRawStringDelimiter('`', '`');
+		kernel.addCommentDelimiter("/*", "*/");
+		kernel.addCommentLineDelimiter("//");
+		int type = 1;
+		for (String delimiter : new String[]{"(", ")", "{", "}", ",", ".", ":", "<-", "+", "-", "|"})
+			kernel.addDelimiter(delimiter, type++);
+		kernel.addCaseInsensitiveKeyword("true", 101);
+		kernel.addCaseInsensitiveKeyword("false", 102);
+		kernel.setEmitComments(true);
+	}
+	
+	@Benchmark
+	public int tokenize() throws IOException
+	{
+		Lexer lexer = new Lexer(kernel, "benchmark", new StringReader(source));
+		int count = 0;
+		while (lexer.nextToken() != null)
+			count++;
+		return count;
+	}
+	
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wadmerge;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mtrop.doom.tools.BenchmarkData;
+import net.mtrop.doom.tools.common.Response;
+
+/**
+ * Times the common WadMerge operations on generated WADs and folders:
+ * merging whole WADs, merging a namespace out of a texture WAD, and merging a file tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WadMergeContextBenchmark
+{
+	private static final int WADS = 8;
+	private static final int LUMPS_PER_WAD = 500;
+	private static final int MAX_LUMP_LENGTH = 8192;
+	
+	private File directory;
+	private File[] wads;
+	private File textureWad;
+	private File tree;
+	private WadMergeContext context;
+	
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		Random random = BenchmarkData.random();
+		directory = BenchmarkData.createTempDirectory("wadmerge");
+		wads = new File[WADS];
+		for (int i = 0; i < WADS; i++)
+			wads[i] = BenchmarkData.randomWad(random, new File(directory, "random" + i + ".wad"), LUMPS_PER_WAD, MAX_LUMP_LENGTH);
+		textureWad = BenchmarkData.textureWad(random, new File(directory, "textures.wad"), 500, 300, 200);
+		tree = new File(directory, "tree");
+		BenchmarkData.pngFolder(random, new File(tree, "graphics"), 100, 64, 64);
+		BenchmarkData.pngFolder(random, new File(tree, "sprites"), 100, 32, 48);
+		context = new WadMergeContext(new PrintStream(BenchmarkData.nullOutputStream()), false);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		BenchmarkData.deleteDirectory(directory);
+	}
+	
+	@Benchmark
+	public Response mergeWads() throws IOException
+	{
+		check(context.create("out", false, 256, 256));
+		try {
+			for (File wad : wads)
+				check(context.mergeWad("out", wad));
+			return context.isValid("out");
+		} finally {
+			context.discard("out");
+		}
+	}
+	
+	@Benchmark
+	public Response mergeNamespace() throws IOException
+	{
+		check(context.create("out", false, 256, 256));
+		try {
+			check(context.mergeNamespace("out", textureWad, "P", false));
+			check(context.mergeNamespace("out", textureWad, "F", false));
+			return context.isValid("out");
+		} finally {
+			context.discard("out");
+		}
+	}
+	
+	@Benchmark
+	public Response mergeTree() throws IOException
+	{
+		check(context.create("out", false, 256, 256));
+		try {
+			check(context.mergeTree("out", tree, (file) -> true, false));
+			return context.isValid("out");
+		} finally {
+			context.discard("out");
+		}
+	}
+	
+	private static void check(Response response)
+	{
+		if (response != Response.OK)
+			throw new IllegalStateException("WadMerge returned " + response.name());
+	}
+	
+}
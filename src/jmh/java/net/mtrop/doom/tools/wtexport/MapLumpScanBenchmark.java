@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wtexport;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.mtrop.doom.WadBuffer;
+import net.mtrop.doom.map.data.DoomSector;
+import net.mtrop.doom.map.data.DoomSidedef;
+import net.mtrop.doom.tools.BenchmarkData;
+
+/**
+ * Compares reading texture names out of a generated 100k-sidedef map by reading every sidedef and sector
+ * into an object (the old WTexScan way) against scanning the lump bytes with {@link MapLumpScanner}.
+ * Run with the GC profiler (<code>-Djmh.args="-prof gc"</code>) to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapLumpScanBenchmark
+{
+	private static final int SIDEDEFS = 100000;
+	private static final int SECTORS = 25000;
+	private static final int UNIQUE_NAMES = 400;
+	
+	private byte[] sidedefData;
+	private byte[] sectorData;
+	private WadBuffer wad;
+	
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		Random random = BenchmarkData.random();
+		String[] names = new String[UNIQUE_NAMES];
+		for (int i = 0; i < names.length; i++)
+			names[i] = i % 10 == 0 ? "-" : String.format("TEX%05d", i);
+		
+		sidedefData = new byte[SIDEDEFS * MapLumpScanner.SIDEDEF_LENGTH];
+		for (int i = 0; i < SIDEDEFS; i++)
+		{
+			int offset = i * MapLumpScanner.SIDEDEF_LENGTH;
+			putName(sidedefData, offset + 4, names[random.nextInt(names.length)]);
+			putName(sidedefData, offset + 12, names[random.nextInt(names.length)]);
+			putName(sidedefData, offset + 20, names[random.nextInt(names.length)]);
+		}
+		
+		sectorData = new byte[SECTORS * MapLumpScanner.SECTOR_LENGTH];
+		for (int i = 0; i < SECTORS; i++)
+		{
+			int offset = i * MapLumpScanner.SECTOR_LENGTH;
+			putName(sectorData, offset + 4, names[random.nextInt(names.length)]);
+			putName(sectorData, offset + 12, names[random.nextInt(names.length)]);
+		}
+		
+		wad = new WadBuffer();
+		wad.addData("SIDEDEFS", sidedefData);
+		wad.addData("SECTORS", sectorData);
+	}
+
+	private static void putName(byte[] data, int offset, String name)
+	{
+		byte[] b = name.getBytes(StandardCharsets.US_ASCII);
+		System.arraycopy(b, 0, data, offset, Math.min(b.length, LumpNameSet.NAME_LENGTH));
+	}
+	
+	@Benchmark
+	public TextureUsage objects() throws IOException
+	{
+		TextureUsage usage = new TextureUsage();
+		SortedSet<String> seen = new TreeSet<>();
+		for (DoomSidedef s : wad.getDataAs("SIDEDEFS", 0, DoomSidedef.class, DoomSidedef.LENGTH))
+		{
+			if (seen.add(s.getTextureTop())) usage.addTexture(s.getTextureTop());
+			if (seen.add(s.getTextureMiddle())) usage.addTexture(s.getTextureMiddle());
+			if (seen.add(s.getTextureBottom())) usage.addTexture(s.getTextureBottom());
+		}
+		seen.clear();
+		for (DoomSector s : wad.getDataAs("SECTORS", 0, DoomSector.class, DoomSector.LENGTH))
+		{
+			if (seen.add(s.getTextureFloor())) usage.addFlat(s.getTextureFloor());
+			if (seen.add(s.getTextureCeiling())) usage.addFlat(s.getTextureCeiling());
+		}
+		return usage;
+	}
+	
+	@Benchmark
+	public TextureUsage lumpBytes()
+	{
+		TextureUsage usage = new TextureUsage();
+		MapLumpScanner.scanSidedefs(sidedefData, new LumpNameSet(), usage::addTexture);
+		MapLumpScanner.scanSectors(sectorData, new LumpNameSet(), usage::addFlat);
+		return usage;
+	}
+	
+}
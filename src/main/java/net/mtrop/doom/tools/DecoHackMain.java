@@ -31,6 +31,7 @@ import java.util.function.BiPredicate;
 
 import net.mtrop.doom.Wad;
 import net.mtrop.doom.WadFile;
+import net.mtrop.doom.tools.common.Timings;
 import net.mtrop.doom.tools.decohack.DecoHackJoiner;
 import net.mtrop.doom.tools.decohack.DecoHackParser;
 import net.mtrop.doom.tools.decohack.contexts.AbstractPatchContext;
@@ -80,6 +81,8 @@ public final class DecoHackMain
 	public static final String SWITCH_HELPFULL = "--help-full";
 	public static final String SWITCH_VERSION = "--version";
 	public static final String SWITCH_DRYRUN = "--dry-run";
+	public static final String SWITCH_TIMINGS = "--timings";
+	public static final String SWITCH_TIMINGS_TRACE = "--timings-trace";
 
 	public static final String SWITCH_CHARSET1 = "--charset";
 	public static final String SWITCH_CHARSET2 = "-c";
@@ -129,6 +132,8 @@ public final class DecoHackMain
 
 		private File outSourceFile;
 		
+		private Timings timings;
+		
 		private Options()
 		{
 			this.stdout = null;
@@ -152,6 +157,8 @@ public final class DecoHackMain
 			this.outputBudget = false;
 			
 			this.outSourceFile = null;
+			
+			this.timings = Timings.NONE;
 		}
 
 		public Options setStdout(OutputStream out) 
@@ -222,6 +229,12 @@ public final class DecoHackMain
 			return this;
 		}
 		
+		public Options setTimings(Timings timings) 
+		{
+			this.timings = timings != null ? timings : Timings.NONE;
+			return this;
+		}
+		
 	}
 	
 	/**
@@ -467,7 +480,10 @@ public final class DecoHackMain
 				try (Reader reader = new BufferedReader(new InputStreamReader(options.stdin, options.inCharset))) 
 				{
 					DecoHackParser.Result result;
-					result = DecoHackParser.read("STDIN", options.stdin, options.inCharset);
+					try (Timings.Span span = options.timings.start("Parse"))
+					{
+						result = DecoHackParser.read("STDIN", options.stdin, options.inCharset);
+					}
 					context = result.getContext();
 					for (String message : result.getWarnings())
 						options.stderr.println("WARNING: " + message);
@@ -521,7 +537,10 @@ public final class DecoHackMain
 				try 
 				{
 					DecoHackParser.Result result;
-					result = DecoHackParser.read(options.inFiles, options.inCharset);
+					try (Timings.Span span = options.timings.start("Parse"))
+					{
+						result = DecoHackParser.read(options.inFiles, options.inCharset);
+					}
 					context = result.getContext();
 					for (String message : result.getWarnings())
 						options.stderr.println("WARNING: " + message);
@@ -626,7 +645,7 @@ public final class DecoHackMain
 						try (WadFile wad = new WadFile(options.outSourceFile)) 
 						{
 							ByteArrayOutputStream bos = new ByteArrayOutputStream();
-							try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(bos, options.inCharset), true))
+							try (Timings.Span span = options.timings.start("Write Source"); PrintWriter writer = new PrintWriter(new OutputStreamWriter(bos, options.inCharset), true))
 							{
 								for (File file : options.inFiles)
 								{
@@ -650,7 +669,7 @@ public final class DecoHackMain
 					}
 					else
 					{
-						try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(options.outSourceFile), options.inCharset), true))
+						try (Timings.Span span = options.timings.start("Write Source"); PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(options.outSourceFile), options.inCharset), true))
 						{
 							for (File file : options.inFiles)
 							{
@@ -688,7 +707,7 @@ public final class DecoHackMain
 					try (WadFile wad = new WadFile(options.outFile)) 
 					{
 						ByteArrayOutputStream bos = new ByteArrayOutputStream();
-						try (Writer writer = new OutputStreamWriter(bos, options.outCharset)) 
+						try (Timings.Span span = options.timings.start("Write Patch"); Writer writer = new OutputStreamWriter(bos, options.outCharset)) 
 						{
 							context.writePatch(writer, "Created with " + VERSION_LINE);
 						} 
@@ -710,7 +729,7 @@ public final class DecoHackMain
 				else
 				{
 					// Write Patch.
-					try (Writer writer = new OutputStreamWriter(new FileOutputStream(options.outFile), options.outCharset)) 
+					try (Timings.Span span = options.timings.start("Write Patch"); Writer writer = new OutputStreamWriter(new FileOutputStream(options.outFile), options.outCharset)) 
 					{
 						context.writePatch(writer, "Created with " + VERSION_LINE);
 						options.stdout.printf("Wrote %s.\n", options.outFile.getPath());
@@ -754,6 +773,7 @@ public final class DecoHackMain
 		final int STATE_DUMPRES = 3;
 		final int STATE_SOURCEOUTFILE = 4;
 		final int STATE_CHARSET = 5;
+		final int STATE_TIMINGS_TRACE = 6;
 		int state = STATE_START;
 
 		for (int i = 0; i < args.length; i++)
@@ -797,6 +817,10 @@ public final class DecoHackMain
 						state = STATE_SOURCEOUTFILE;
 					else if (arg.equals(SWITCH_OUTPUTCHARSET) || arg.equals(SWITCH_OUTPUTCHARSET2))
 						state = STATE_OUTCHARSET;
+					else if (arg.equals(SWITCH_TIMINGS))
+						options.setTimings(new Timings("DECOHack"));
+					else if (arg.equals(SWITCH_TIMINGS_TRACE))
+						state = STATE_TIMINGS_TRACE;
 					else if (arg.equals(SWITCH_SYSTEMIN))
 						options.setUseStdin(true);
 					else
@@ -850,6 +874,15 @@ public final class DecoHackMain
 					state = STATE_START;
 				}
 				break;
+				
+				case STATE_TIMINGS_TRACE:
+				{
+					if (!options.timings.isEnabled())
+						options.setTimings(new Timings("DECOHack"));
+					options.timings.setTraceFile(new File(arg));
+					state = STATE_START;
+				}
+				break;
 			}
 		}
 		
@@ -859,6 +892,8 @@ public final class DecoHackMain
 			throw new OptionParseException("ERROR: Expected output charset name.");
 		if (state == STATE_CHARSET)
 			throw new OptionParseException("ERROR: Expected input charset name.");
+		if (state == STATE_TIMINGS_TRACE)
+			throw new OptionParseException("ERROR: Expected timings trace file.");
 		
 		return options;
 	}
@@ -875,6 +910,8 @@ public final class DecoHackMain
 		} catch (Exception e) {
 			e.printStackTrace(options.stderr);
 			return ERROR_UNKNOWN;
+		} finally {
+			options.timings.report(options.stderr);
 		}
 	}
 	
@@ -888,24 +925,36 @@ public final class DecoHackMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args) throws IOException
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		if (args.length == 0)
 		{
-			splash(System.out);
-			usage(System.out);
-			System.exit(-1);
-			return;
+			splash(out);
+			usage(out);
+			return -1;
 		}
 	
 		try {
-			System.exit(call(options(System.out, System.err, System.in, args)));
+			return call(options(out, err, in, args));
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(ERROR_BAD_OPTIONS);
+			err.println(e.getMessage());
+			return ERROR_BAD_OPTIONS;
 		}
 	}
 	
+	public static void main(String[] args) throws IOException
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
+	
 	/**
 	 * Prints the splash.
 	 * @param out the print stream to print to.
@@ -1011,6 +1060,12 @@ public final class DecoHackMain
 		out.println("                             return errors and/or warnings. Overrides all");
 		out.println("                             output switches.");
 		out.println();
+		out.println("    --timings                Prints how long each phase took to STDERR at");
+		out.println("                             the end of the run.");
+		out.println();
+		out.println("    --timings-trace [file]   Same as --timings, and also writes the phases to");
+		out.println("                             [file] as a Chrome trace (chrome://tracing).");
+		out.println();
 		if (full)
 		{
 			try (BufferedReader br = new BufferedReader(new InputStreamReader(IOUtils.openResource("docs/DECOHack Help.txt")))) {
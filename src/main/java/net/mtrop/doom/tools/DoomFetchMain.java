@@ -14,6 +14,8 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -24,6 +26,8 @@ import java.util.function.BiFunction;
 
 import net.mtrop.doom.tools.doomfetch.DogSoftDriver;
 import net.mtrop.doom.tools.doomfetch.DoomShackDriver;
+import net.mtrop.doom.tools.doomfetch.DriverSearch;
+import net.mtrop.doom.tools.doomfetch.FetchCache;
 import net.mtrop.doom.tools.doomfetch.FetchDriver;
 import net.mtrop.doom.tools.doomfetch.FetchDriver.Response;
 import net.mtrop.doom.tools.doomfetch.IdGamesDriver;
@@ -33,7 +37,10 @@ import net.mtrop.doom.tools.doomfetch.TSPGPainkillerDriver;
 import net.mtrop.doom.tools.exception.OptionParseException;
 import net.mtrop.doom.tools.struct.TokenScanner;
 import net.mtrop.doom.tools.struct.util.FileUtils;
+import net.mtrop.doom.tools.struct.util.HTTPUtils;
+import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPDownload;
 import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPResponse;
+import net.mtrop.doom.tools.struct.util.HTTPUtils.TransferMonitor;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.OSUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
@@ -61,8 +68,13 @@ public final class DoomFetchMain
 	public static final String SWITCH_TARGET = "--target";
 	public static final String SWITCH_UPDATE = "--update";
 	public static final String SWITCH_NOLOCK = "--nolock";
+	public static final String SWITCH_NOCACHE = "--nocache";
+	public static final String SWITCH_CACHEAGE = "--cacheage";
+	public static final String SWITCH_SEGMENTS = "--segments";
 
 	public static final String DEFAULT_LOCK_FILENAME = "doomfetch.lock";
+	public static final String DEFAULT_CACHE_DIRECTORY = Environment.getApplicationCachePath() + File.separator + "doomfetch";
+	public static final int DEFAULT_CACHE_AGE_HOURS = 24;
 
 	// LinkedHashMap to establish priority.
 	public static final Map<String, BiFunction<PrintStream, PrintStream, FetchDriver>> DRIVER_LIST = new LinkedHashMap<String, BiFunction<PrintStream, PrintStream, FetchDriver>>() 
@@ -86,8 +98,8 @@ public final class DoomFetchMain
 		private static class EntryData
 		{
 			private String driver;
-			private String etag; // not implemented
-			private String date; // not implemented
+			private String etag;
+			private String date;
 
 			private EntryData(String driver, String etag, String date) 
 			{
@@ -222,20 +234,36 @@ public final class DoomFetchMain
 					}
 					else if (ObjectUtils.isEmpty(date))
 					{
-						pw.println(name + " " + driver + " " + etag);
+						pw.println(name + " " + driver + " " + quote(etag));
 					}
 					else if (ObjectUtils.isEmpty(etag))
 					{
-						pw.println(name + " " + driver + " \"\" " + date);
+						pw.println(name + " " + driver + " \"\" " + quote(date));
 					}
 					else
 					{
-						pw.println(name + " " + driver + " " + etag + " " + date);
+						pw.println(name + " " + driver + " " + quote(etag) + " " + quote(date));
 					}
 				}
 			}
 		}
 		
+		// Quotes a lock value so that it survives spaces and quotes (dates and ETags have these).
+		private static String quote(String value)
+		{
+			return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+		}
+		
+		/**
+		 * Gets an entry from this lockfile.
+		 * @param name the name of the entry.
+		 * @return the corresponding entry data, or null if no entry.
+		 */
+		public EntryData get(String name)
+		{
+			return entries.get(name);
+		}
+		
 		/**
 		 * Gets the entry set of this lockfile.
 		 * @return the entry set.
@@ -271,6 +299,9 @@ public final class DoomFetchMain
 		private File targetDirectory;
 		private boolean update;
 		private boolean nolock;
+		private File cacheDirectory;
+		private int cacheAgeHours;
+		private int segments;
 		
 		private String driver;
 		private String name;
@@ -288,6 +319,9 @@ public final class DoomFetchMain
 			this.targetDirectory = new File(".");
 			this.update = false;
 			this.nolock = false;
+			this.cacheDirectory = new File(DEFAULT_CACHE_DIRECTORY);
+			this.cacheAgeHours = DEFAULT_CACHE_AGE_HOURS;
+			this.segments = 1;
 			
 			this.driver = null;
 			this.name = null;
@@ -329,6 +363,24 @@ public final class DoomFetchMain
 			return this;
 		}
 		
+		public Options setCacheDirectory(File cacheDirectory) 
+		{
+			this.cacheDirectory = cacheDirectory;
+			return this;
+		}
+		
+		public Options setCacheAgeHours(int cacheAgeHours) 
+		{
+			this.cacheAgeHours = cacheAgeHours;
+			return this;
+		}
+		
+		public Options setSegments(int segments) 
+		{
+			this.segments = segments;
+			return this;
+		}
+		
 		public Options setDriver(String driver) 
 		{
 			this.driver = driver;
@@ -354,26 +406,40 @@ public final class DoomFetchMain
 	private static class Context implements Callable<Integer>
 	{
 		private Options options;
+		private FetchCache cache;
 	
 		private Context(Options options)
 		{
 			this.options = options;
+			this.cache = options.cacheDirectory != null ? new FetchCache(options.cacheDirectory) : null;
 		}
 		
 		// Returns true if the file was fetched successfully.
+		// All drivers are searched concurrently, but they are downloaded from in priority order.
 		private boolean fetchFile(LockFile lockFile, String name)
 		{
-			boolean success = false;
-			for (Map.Entry<String, ?> entry : DRIVER_LIST.entrySet())
+			if (!options.update && searchForTargetFile(options.targetDirectory, name))
 			{
-				success = fetchFile(lockFile, entry.getKey(), name); 
-				if (success)
+				options.stdout.println("[Skipping] File found in target directory: " + name);
+				if (lockFile.get(name) == null)
+					lockFile.add(name);
+				return true;
+			}
+			
+			if (fetchLatestFromCache(lockFile, name))
+				return true;
+			
+			// If a download fails, fall through to the next driver with a match, like a search one driver at a time would.
+			try (DriverSearch.Matches matches = DriverSearch.search(DRIVER_LIST, name, options.stdout, options.stderr))
+			{
+				DriverSearch match;
+				while ((match = matches.next()) != null)
 				{
-					lockFile.add(name, entry.getKey());
-					break;
+					if (download(lockFile, match.getDriverName(), name, match.getResponse()))
+						return true;
 				}
+				return false;
 			}
-			return success;
 		}
 
 		// Returns true if the file was fetched (or found locally) successfully.
@@ -385,50 +451,146 @@ public final class DoomFetchMain
 				return true;
 			}
 			
+			if (fetchFromCache(lockFile, driver, name))
+				return true;
+			
 			BiFunction<PrintStream, PrintStream, FetchDriver> driverFunc = DRIVER_LIST.get(driver);
-			if (driver == null)
+			if (driverFunc == null)
+			{
 				options.stderr.println("ERROR: No such driver: " + driver);
+				return false;
+			}
 		
 			FetchDriver fetcher = driverFunc.apply(options.stdout, options.stderr);
 			
-			Response response = null;
+			Response response;
 			try
 			{
 				response = fetcher.getStreamFor(name);
 				if (response == null)
 					return false;
-				
-				File targetFile = new File(options.targetDirectory.getPath() + File.separator + response.getFilename());
+			}
+			catch (IOException e)
+			{
+				options.stderr.println("ERROR: Can't read from source: " + driver);
+				return false;
+			}
+			
+			return download(lockFile, driver, name, response);
+		}
+		
+		// Returns true if the file in the lock was found in the shared cache and copied to the target.
+		private boolean fetchFromCache(LockFile lockFile, String driver, String name)
+		{
+			LockFile.EntryData entryData;
+			if (cache == null || options.update || (entryData = lockFile.get(name)) == null || !driver.equals(entryData.driver))
+				return false;
+			
+			FetchCache.Entry cacheEntry = cache.get(name, driver, entryData.etag, entryData.date);
+			if (cacheEntry == null)
+				return false;
+			
+			return copyFromCache(cacheEntry);
+		}
+
+		// Returns true if a fresh download of the name was found in the shared cache and copied to the target.
+		// This skips the driver search entirely.
+		private boolean fetchLatestFromCache(LockFile lockFile, String name)
+		{
+			if (cache == null || options.update || options.cacheAgeHours <= 0)
+				return false;
+			
+			FetchCache.Entry cacheEntry = cache.getLatest(name, options.cacheAgeHours * 3600000L);
+			if (cacheEntry == null || !DRIVER_LIST.containsKey(cacheEntry.getDriver()))
+				return false;
+			
+			if (!copyFromCache(cacheEntry))
+				return false;
+			
+			lockFile.add(name, cacheEntry.getDriver(), cacheEntry.getETag(), cacheEntry.getDate());
+			return true;
+		}
+
+		// Copies a cached file to the target directory.
+		private boolean copyFromCache(FetchCache.Entry cacheEntry)
+		{
+			File targetFile = new File(options.targetDirectory.getPath() + File.separator + cacheEntry.getFilename());
+			if (!FileUtils.createPathForFile(targetFile))
+			{
+				options.stderr.println("ERROR: Could not create target directory for file.");
+				return false;
+			}
+			
+			try {
+				Files.copy(cacheEntry.getFile().toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException e) {
+				options.stderr.println("WARNING: Could not copy " + cacheEntry.getFilename() + " from cache. Downloading instead.");
+				return false;
+			}
+			
+			options.stdout.println("[Cached] Copied " + cacheEntry.getFilename() + " from download cache.");
+			return true;
+		}
+
+		// Downloads the file from a driver response to the target directory.
+		// Returns true if the file was fetched successfully.
+		private boolean download(LockFile lockFile, String driver, String name, Response response)
+		{
+			File targetFile = new File(options.targetDirectory.getPath() + File.separator + response.getFilename());
+			String etag;
+			String date;
+			try
+			{
 				if (!FileUtils.createPathForFile(targetFile))
 				{
 					options.stderr.println("ERROR: Could not create target directory for file.");
 					return false;
 				}
 				
-				try (HTTPResponse httpResponse = response.getHTTPResponse(); FileOutputStream fos = new FileOutputStream(targetFile))
+				HTTPResponse httpResponse = response.getHTTPResponse();
+				if (!httpResponse.isSuccess())
+				{
+					options.stderr.println("ERROR: Received " + httpResponse.getStatusCode() + " (" + httpResponse.getStatusMessage() + ") from source.");
+					return false;
+				}
+				
+				etag = !ObjectUtils.isEmpty(response.getETag()) ? response.getETag() : ObjectUtils.isNull(httpResponse.getHeader("ETag"), "");
+				date = !ObjectUtils.isEmpty(response.getDate()) ? response.getDate() : ObjectUtils.isNull(httpResponse.getHeader("Last-Modified"), "");
+				
+				options.stdout.println("Downloading " + response.getFilename() + "...");
+				final AtomicLong currentBytes = new AtomicLong(0L);
+				final AtomicLong lastDate = new AtomicLong(System.currentTimeMillis());
+				TransferMonitor monitor = (cur, max) -> 
 				{
-					if (!httpResponse.isSuccess())
+					long next = System.currentTimeMillis();
+					currentBytes.set(cur);
+					if (next > lastDate.get() + 250L)
 					{
-						options.stderr.println("ERROR: Received " + httpResponse.getStatusCode() + " (" + httpResponse.getStatusMessage() + ") from source.");
-						return false;
+						printProgress(cur, max, options.stdout);
+						lastDate.set(next);
 					}
-					
-					options.stdout.println("Downloading " + response.getFilename() + "...");
-					final AtomicLong currentBytes = new AtomicLong(0L);
-					final AtomicLong lastDate = new AtomicLong(System.currentTimeMillis());
-					httpResponse.decode().relayContent(fos, (cur, max) -> 
-					{
-						long next = System.currentTimeMillis();
-						currentBytes.set(cur);
-						if (next > lastDate.get() + 250L)
-						{
-							printProgress(cur, max, options.stdout);
-							lastDate.set(next);
-						}
-					});
-					printProgress(currentBytes.get(), currentBytes.get(), options.stdout);
-					options.stdout.println("\nDone.");
+				};
+				
+				if (HTTPUtils.HTTP_METHOD_GET.equals(httpResponse.getRequest().getMethod()))
+				{
+					// Continue as a resumable download. The driver's response supplies the file's headers, 
+					// and its content too unless a partial download is being resumed.
+					HTTPDownload download = httpResponse.getRequest().download(targetFile)
+						.response(httpResponse)
+						.segments(options.segments)
+						.monitor(monitor);
+					download.send();
+					if (ObjectUtils.isEmpty(etag))
+						etag = ObjectUtils.isNull(download.getETag(), "");
+					if (ObjectUtils.isEmpty(date))
+						date = ObjectUtils.isNull(download.getLastModified(), "");
+				}
+				else try (FileOutputStream fos = new FileOutputStream(targetFile))
+				{
+					httpResponse.decode().relayContent(fos, monitor);
 				}
+				printProgress(currentBytes.get(), currentBytes.get(), options.stdout);
+				options.stdout.println("\nDone.");
 			}
 			catch (IOException e)
 			{
@@ -440,7 +602,16 @@ public final class DoomFetchMain
 				IOUtils.close(response);
 			}
 			
-			lockFile.add(name, driver);
+			if (cache != null)
+			{
+				try {
+					cache.put(name, driver, etag, date, response.getFilename(), targetFile);
+				} catch (IOException e) {
+					options.stderr.println("WARNING: Could not add " + response.getFilename() + " to download cache: " + e.getLocalizedMessage());
+				}
+			}
+			
+			lockFile.add(name, driver, etag, date);
 			return true;
 		}
 
@@ -594,6 +765,8 @@ public final class DoomFetchMain
 		final int STATE_START = 0;
 		final int STATE_LOCKFILE = 1;
 		final int STATE_TARGET = 2;
+		final int STATE_SEGMENTS = 3;
+		final int STATE_CACHEAGE = 4;
 		int state = STATE_START;
 
 		for (int i = 0; i < args.length; i++)
@@ -614,10 +787,16 @@ public final class DoomFetchMain
 						options.setUpdate(true);
 					else if (arg.equals(SWITCH_NOLOCK))
 						options.setNoLock(true);
+					else if (arg.equals(SWITCH_NOCACHE))
+						options.setCacheDirectory(null);
 					else if (arg.equals(SWITCH_LOCKFILE))
 						state = STATE_LOCKFILE;
 					else if (arg.equals(SWITCH_TARGET))
 						state = STATE_TARGET;
+					else if (arg.equals(SWITCH_SEGMENTS))
+						state = STATE_SEGMENTS;
+					else if (arg.equals(SWITCH_CACHEAGE))
+						state = STATE_CACHEAGE;
 					else if (options.name != null)
 					{
 						options.driver = options.name;
@@ -643,6 +822,36 @@ public final class DoomFetchMain
 					state = STATE_START;
 				}
 				break;
+				
+				case STATE_SEGMENTS:
+				{
+					int segments;
+					try {
+						segments = Integer.parseInt(arg);
+					} catch (NumberFormatException e) {
+						throw new OptionParseException("ERROR: Segment count must be a number.");
+					}
+					if (segments < 1)
+						throw new OptionParseException("ERROR: Segment count must be 1 or greater.");
+					options.segments = segments;
+					state = STATE_START;
+				}
+				break;
+				
+				case STATE_CACHEAGE:
+				{
+					int hours;
+					try {
+						hours = Integer.parseInt(arg);
+					} catch (NumberFormatException e) {
+						throw new OptionParseException("ERROR: Cache age must be a number.");
+					}
+					if (hours < 0)
+						throw new OptionParseException("ERROR: Cache age must be 0 or greater.");
+					options.cacheAgeHours = hours;
+					state = STATE_START;
+				}
+				break;
 			}
 		}
 
@@ -650,6 +859,10 @@ public final class DoomFetchMain
 			throw new OptionParseException("ERROR: Expected path to lock file.");
 		if (state == STATE_TARGET)
 			throw new OptionParseException("ERROR: Expected path to target directory.");
+		if (state == STATE_SEGMENTS)
+			throw new OptionParseException("ERROR: Expected segment count.");
+		if (state == STATE_CACHEAGE)
+			throw new OptionParseException("ERROR: Expected cache age in hours.");
 
 		return options;
 	}
@@ -679,15 +892,28 @@ public final class DoomFetchMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args)
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		try {
-			System.exit(call(options(System.out, System.err, System.in, args)));
+			return call(options(out, err, in, args));
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(ERROR_BAD_OPTIONS);
+			err.println(e.getMessage());
+			return ERROR_BAD_OPTIONS;
 		}
 	}
+	
+	public static void main(String[] args)
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
 
 	/**
 	 * Prints the splash.
@@ -744,6 +970,23 @@ public final class DoomFetchMain
 		out.println();
 		out.println("    --nolock            Tells DoomFetch to not update the lock file.");
 		out.println();
+		out.println("    --nocache           Tells DoomFetch to not use the shared download cache.");
+		out.println("                        Files in the lock file with an ETag or date are");
+		out.println("                        copied from the cache instead of downloaded, if");
+		out.println("                        a matching download was cached by any project.");
+		out.println("                            Default cache: " + DEFAULT_CACHE_DIRECTORY);
+		out.println();
+		out.println("    --cacheage [hours]  Files fetched without a driver are copied from the");
+		out.println("                        cache without searching any driver, if they were");
+		out.println("                        downloaded less than [hours] ago. 0 always searches.");
+		out.println("                            Default: " + DEFAULT_CACHE_AGE_HOURS);
+		out.println();
+		out.println("    --segments [num]    Downloads each file over [num] connections at once,");
+		out.println("                        if the source supports ranged requests. Interrupted");
+		out.println("                        downloads are resumed from their partial file either");
+		out.println("                        way, if the source file has not changed.");
+		out.println("                            Default: 1");
+		out.println();
 		out.println("Available drivers:");
 		for (Map.Entry<String, ?> entry : DRIVER_LIST.entrySet())
 			out.println("    " + entry.getKey());
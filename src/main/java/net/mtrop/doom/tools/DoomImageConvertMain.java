@@ -12,6 +12,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintStream;
@@ -1115,24 +1116,36 @@ public final class DoomImageConvertMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args) throws IOException
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		if (args.length == 0)
 		{
-			splash(System.out);
-			usage(System.out);
-			System.exit(-1);
-			return;
+			splash(out);
+			usage(out);
+			return -1;
 		}
 	
 		try {
-			System.exit(call(options(System.out, System.err, args)));
+			return call(options(out, err, args));
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(ERROR_BAD_OPTIONS);
+			err.println(e.getMessage());
+			return ERROR_BAD_OPTIONS;
 		}
 	}
 	
+	public static void main(String[] args) throws IOException
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
+	
 	/**
 	 * Prints the splash.
 	 * @param out the print stream to print to.
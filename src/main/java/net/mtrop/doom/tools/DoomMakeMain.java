@@ -37,6 +37,7 @@ import com.blackrook.json.JSONConversionException;
 import com.blackrook.json.JSONObject;
 import com.blackrook.json.JSONReader;
 import com.blackrook.json.JSONWriter;
+import com.blackrook.rookscript.resolvers.ScriptVariableResolver;
 
 import net.mtrop.doom.Wad;
 import net.mtrop.doom.WadFile;
@@ -45,6 +46,7 @@ import net.mtrop.doom.graphics.Palette;
 import net.mtrop.doom.tools.WadScriptMain.Mode;
 import net.mtrop.doom.tools.WadScriptMain.Resolver;
 import net.mtrop.doom.tools.common.Common;
+import net.mtrop.doom.tools.common.Timings;
 import net.mtrop.doom.tools.doommake.AutoBuildAgent;
 import net.mtrop.doom.tools.doommake.ProjectGenerator;
 import net.mtrop.doom.tools.doommake.ProjectModule;
@@ -53,6 +55,7 @@ import net.mtrop.doom.tools.doommake.ProjectTokenReplacer;
 import net.mtrop.doom.tools.doommake.WADExploder;
 import net.mtrop.doom.tools.doommake.WADExploder.ExplodeException;
 import net.mtrop.doom.tools.doommake.functions.DoomMakeFunctions;
+import net.mtrop.doom.tools.doommake.functions.TargetFunctions;
 import net.mtrop.doom.tools.doommake.functions.ToolInvocationFunctions;
 import net.mtrop.doom.tools.doommake.generators.TextureProjectGenerator;
 import net.mtrop.doom.tools.doommake.generators.WADProjectGenerator;
@@ -67,6 +70,7 @@ import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.OSUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
 import net.mtrop.doom.tools.struct.util.StringUtils;
+import net.mtrop.doom.tools.struct.util.ValueUtils;
 
 /**
  * Main class for DoomMake.
@@ -126,17 +130,24 @@ public final class DoomMakeMain
 	public static final String SWITCH_ACTIVATIONDEPTH1 = "--activation-depth";
 	public static final String SWITCH_STACKDEPTH1 = "--stack-depth";
 	public static final String SWITCH_DISASSEMBLE1 = "--disassemble";
+	public static final String SWITCH_TIMINGS = "--timings";
+	public static final String SWITCH_TIMINGS_TRACE = "--timings-trace";
+	public static final String SWITCH_JOBS = "--jobs";
+	public static final String SWITCH_JOBS2 = "-j";
 
 	private static final String SHELL_OPTIONS = "-Xms64M -Xmx4G";
 	private static final String SHELL_RESOURCE_CMD = "shell/embed/app-name.cmd";
 	private static final String SHELL_RESOURCE_SH = "shell/embed/app-name.sh";
 	
 	private static final String PROPERTY_DOOMMAKE_PROJECT_ENCODING = "doommake.project.encoding";
+	/** Property for the maximum amount of targets run at once by RUNTARGETS(). */
+	private static final String PROPERTY_DOOMMAKE_JOBS = "doommake.jobs";
 	
 	// WadScript-specific
 	private static final Resolver[] RESOLVERS_DOOMMAKE = 
 	{
 		new Resolver("DoomMake Functions", DoomMakeFunctions.createResolver()),
+		new Resolver("Target Functions", TargetFunctions.createResolver()),
 		new Resolver("Tool Invocation", "TOOL", ToolInvocationFunctions.createResolver())
 	};
 
@@ -195,6 +206,9 @@ public final class DoomMakeMain
 		private Integer runawayLimit;
 		private Integer activationDepth;
 		private Integer stackDepth;
+		private boolean timings;
+		private File timingsTraceFile;
+		private Integer jobs;
 
 		private String targetName;
 
@@ -231,6 +245,9 @@ public final class DoomMakeMain
 			this.runawayLimit = 0;
 			this.activationDepth = 256;
 			this.stackDepth = 2048;
+			this.timings = false;
+			this.timingsTraceFile = null;
+			this.jobs = null;
 			this.propertiesFile = new File("doommake.properties");
 			this.scriptFile = new File("doommake.script");
 			this.targetName = "make";
@@ -273,6 +290,24 @@ public final class DoomMakeMain
 			return this;
 		}
 
+		public Options setTimings(boolean timings)
+		{
+			this.timings = timings;
+			return this;
+		}
+
+		public Options setTimingsTraceFile(File timingsTraceFile)
+		{
+			this.timingsTraceFile = timingsTraceFile;
+			return this;
+		}
+
+		public Options setJobs(Integer jobs)
+		{
+			this.jobs = jobs;
+			return this;
+		}
+
 		public Options setTargetName(String targetName) 
 		{
 			this.targetName = targetName;
@@ -325,10 +360,13 @@ public final class DoomMakeMain
 	private static class Context implements Callable<Integer>
 	{
 		private Options options;
+		/** Timings for the target run, shared with the targets that it runs. */
+		private Timings timings;
 	
 		private Context(Options options)
 		{
 			this.options = options;
+			this.timings = Timings.NONE;
 		}
 		
 		@Override
@@ -608,26 +646,10 @@ public final class DoomMakeMain
 		
 		private int executeTarget() 
 		{
-			String encodingName = System.getProperty(PROPERTY_DOOMMAKE_PROJECT_ENCODING);
-			try {
-				encodingName = (ObjectUtils.isEmpty(encodingName) ? Charset.defaultCharset() : Charset.forName(encodingName)).displayName();
-			} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
-				encodingName = Charset.defaultCharset().displayName();
-			}
-			
 			try {
-				WadScriptMain.Options wsOptions = WadScriptMain.options(options.stdout, options.stderr, options.stdin)
-					.setMode(options.mode)
-					.setDocsTitle("DoomMake Functions")
-					.setEntryPointName(options.targetName)
-					.setStackDepth(options.stackDepth)
-					.setActivationDepth(options.activationDepth)
-					.setRunawayLimit(options.runawayLimit)
-					.setScriptFile(options.scriptFile)
-					.setScriptCharsetName(encodingName)
-					.addResolver("DoomMake Functions", DoomMakeFunctions.createResolver())
-					.addResolver("Tool Invocation", "TOOL", ToolInvocationFunctions.createResolver())
-				;
+				if (options.timings || options.timingsTraceFile != null)
+					timings = new Timings("DoomMake").setTraceFile(options.timingsTraceFile);
+				WadScriptMain.Options wsOptions = scriptOptions(options.stdout, options.stderr, options.mode, options.targetName);
 				for (Object obj : options.args)
 					wsOptions.addArg(obj);
 				return WadScriptMain.call(wsOptions);
@@ -636,6 +658,45 @@ public final class DoomMakeMain
 				return ERROR_UNKNOWN;
 			}
 		}
+		
+		// Runs a target in its own script instance, for RUNTARGETS().
+		// Not through WadScriptMain.call(), so that the timings are only reported once, by the calling target.
+		private int runTarget(String targetName, PrintStream out, PrintStream err, ScriptVariableResolver globals)
+		{
+			try {
+				return WadScriptMain.asCallable(scriptOptions(out, err, Mode.EXECUTE, targetName).setGlobalScope(globals)).call();
+			} catch (Exception e) {
+				e.printStackTrace(err);
+				return ERROR_UNKNOWN;
+			}
+		}
+		
+		private WadScriptMain.Options scriptOptions(PrintStream out, PrintStream err, Mode mode, String targetName) throws OptionParseException
+		{
+			String encodingName = System.getProperty(PROPERTY_DOOMMAKE_PROJECT_ENCODING);
+			try {
+				encodingName = (ObjectUtils.isEmpty(encodingName) ? Charset.defaultCharset() : Charset.forName(encodingName)).displayName();
+			} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+				encodingName = Charset.defaultCharset().displayName();
+			}
+			
+			int jobs = options.jobs != null ? options.jobs : ValueUtils.parseInt(System.getProperty(PROPERTY_DOOMMAKE_JOBS), Runtime.getRuntime().availableProcessors());
+			
+			return WadScriptMain.options(out, err, options.stdin)
+				.setMode(mode)
+				.setDocsTitle("DoomMake Functions")
+				.setEntryPointName(targetName)
+				.setStackDepth(options.stackDepth)
+				.setActivationDepth(options.activationDepth)
+				.setRunawayLimit(options.runawayLimit)
+				.setScriptFile(options.scriptFile)
+				.setScriptCharsetName(encodingName)
+				.setTimings(timings)
+				.addResolver("DoomMake Functions", DoomMakeFunctions.createResolver())
+				.addResolver("Target Functions", TargetFunctions.createResolver(this::runTarget, jobs))
+				.addResolver("Tool Invocation", "TOOL", ToolInvocationFunctions.createResolver())
+			;
+		}
 
 		private boolean isAgentRunning() throws IOException
 		{
@@ -940,6 +1001,8 @@ public final class DoomMakeMain
 		final int STATE_PROJECTTYPE = 7;
 		final int STATE_EXPLODEWAD = 8;
 		final int STATE_CONVERTPALETTE = 9;
+		final int STATE_TIMINGS_TRACE = 10;
+		final int STATE_JOBS = 11;
 		int state = STATE_START;
 		
 		boolean target = false;
@@ -1025,6 +1088,12 @@ public final class DoomMakeMain
 						state = STATE_SWITCHES_ACTIVATION;
 					else if (SWITCH_STACKDEPTH1.equalsIgnoreCase(arg))
 						state = STATE_SWITCHES_STACK;
+					else if (SWITCH_TIMINGS.equalsIgnoreCase(arg))
+						options.timings = true;
+					else if (SWITCH_TIMINGS_TRACE.equalsIgnoreCase(arg))
+						state = STATE_TIMINGS_TRACE;
+					else if (SWITCH_JOBS.equalsIgnoreCase(arg) || SWITCH_JOBS2.equalsIgnoreCase(arg))
+						state = STATE_JOBS;
 					else if (target)
 						options.args.add(arg);
 					else
@@ -1119,6 +1188,28 @@ public final class DoomMakeMain
 				}
 				break;
 				
+				case STATE_TIMINGS_TRACE:
+				{
+					options.timingsTraceFile = new File(arg);
+					state = STATE_START;
+				}
+				break;
+				
+				case STATE_JOBS:
+				{
+					int n;
+					try {
+						n = Integer.parseInt(arg);
+					} catch (NumberFormatException e) {
+						n = 0;
+					}
+					if (n < 1)
+						throw new OptionParseException("Jobs needs to be a number greater than 0.");
+					options.jobs = n;
+					state = STATE_START;
+				}
+				break;
+				
 			}
 			i++;
 		}
@@ -1139,6 +1230,10 @@ public final class DoomMakeMain
 			throw new OptionParseException("ERROR: Expected WAD file path after explode switch.");
 		if (state == STATE_CONVERTPALETTE)
 			throw new OptionParseException("ERROR: Expected WAD file or file path after convert palette switch.");
+		if (state == STATE_TIMINGS_TRACE)
+			throw new OptionParseException("ERROR: Expected file after timings trace switch.");
+		if (state == STATE_JOBS)
+			throw new OptionParseException("ERROR: Expected number after jobs switch.");
 		
 		return options;
 	}
@@ -1168,25 +1263,37 @@ public final class DoomMakeMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args) throws IOException
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		try {
-			Options options = options(System.out, System.err, System.in, args);
+			Options options = options(out, err, in, args);
 			int status = call(options);
 			if (status != 0 && args.length == 0 && !options.scriptFile.exists())
 			{
-				splash(System.out);
-				usage(System.out);
-				System.exit(-1);
-				return;
+				splash(out);
+				usage(out);
+				return -1;
 			}
-			System.exit(status);
+			return status;
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(ERROR_BAD_OPTIONS);
+			err.println(e.getMessage());
+			return ERROR_BAD_OPTIONS;
 		}
 	}
 	
+	public static void main(String[] args) throws IOException
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
+	
 	/**
 	 * Reads in the lock JSON file and returns it as an object.
 	 * If the file does not exist, an empty object is returned.
@@ -1400,6 +1507,17 @@ public final class DoomMakeMain
 		out.println("                                       Default: 256");
 		out.println("    --stack-depth [num]            Sets the stack value depth to [num].");
 		out.println("                                       Default: 2048");
+		out.println("    --jobs, -j [num]               Sets the maximum amount of targets that");
+		out.println("                                       RUNTARGETS() runs at once. Default is the");
+		out.println("                                       \"doommake.jobs\" property, or the amount");
+		out.println("                                       of processors.");
+		out.println();
+		out.println("    --timings                      Prints how long compiling, the target, and");
+		out.println("                                       each DoomMake/TOOL function call took");
+		out.println("                                       to STDERR at the end of the run.");
+		out.println("    --timings-trace [file]         Same as --timings, and also writes the");
+		out.println("                                       timings to [file] as a Chrome trace");
+		out.println("                                       (chrome://tracing).");
 		out.println();
 		out.println("-----------------------------------------------------------------------------");
 		out.println();
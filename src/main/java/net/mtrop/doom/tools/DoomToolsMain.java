@@ -7,12 +7,15 @@ package net.mtrop.doom.tools;
 
 import java.awt.Desktop;
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileFilter;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
@@ -20,6 +23,8 @@ import java.io.Reader;
 import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -28,9 +33,13 @@ import java.util.concurrent.Callable;
 import com.blackrook.rookscript.tools.ScriptExecutor;
 
 import net.mtrop.doom.tools.common.Common;
+import net.mtrop.doom.tools.doomtools.DoomToolsBatch;
+import net.mtrop.doom.tools.doomtools.DoomToolsCDSTrainer;
 import net.mtrop.doom.tools.doomtools.DoomToolsUpdater;
 import net.mtrop.doom.tools.exception.OptionParseException;
+import net.mtrop.doom.tools.exception.UtilityException;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain;
+import net.mtrop.doom.tools.struct.ProcessCallable;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.OSUtils;
@@ -54,10 +63,14 @@ public final class DoomToolsMain
 	public static final int ERROR_IOERROR = 6;
 //	public static final int ERROR_GUI_ALREADY_RUNNING = 7;
 	public static final int ERROR_TASK_CANCELLED = 8;
+	public static final int ERROR_BAD_BATCH = 9;
 	public static final int ERROR_UNKNOWN = -1;
 
 	private static final String SHELL_OPTIONS = "-Xms64M -Xmx4G";
 	
+	/** Batch job file name for reading from Standard In. */
+	private static final String BATCH_STDIN = "-";
+	
 	private static final Map<String, Class<?>> SHELL_DATA = ObjectUtils.createMap(
 		ObjectUtils.keyValue("doomtools",  DoomToolsMain.class),
 		ObjectUtils.keyValue("wadmerge",   WadMergeMain.class),
@@ -125,7 +138,9 @@ public final class DoomToolsMain
 	public static final String SWITCH_UPDATE_CLEANUP = "--update-cleanup";
 	public static final String SWITCH_UPDATE_SHELL = "--update-shell";
 	public static final String SWITCH_UPDATE_DOCS = "--update-docs";
+	public static final String SWITCH_UPDATE_CDS = "--update-cds";
 	public static final String SWITCH_GUI = "--gui";
+	public static final String SWITCH_BATCH = "--batch";
 	
 	/**
 	 * Program options.
@@ -140,6 +155,7 @@ public final class DoomToolsMain
 		private boolean updateCleanup;
 		private boolean updateShell;
 		private boolean updateDocs;
+		private boolean updateCDS;
 		private boolean javaStats;
 		private boolean openWebsite;
 		private boolean openDocs;
@@ -147,6 +163,7 @@ public final class DoomToolsMain
 		private boolean env;
 		private boolean openSettings;
 		private boolean gui;
+		private String batchFile;
 		
 		private Options()
 		{
@@ -156,12 +173,14 @@ public final class DoomToolsMain
 			this.updateCleanup = false;
 			this.updateShell = false;
 			this.updateDocs = false;
+			this.updateCDS = false;
 			this.javaStats = false;
 			this.openWebsite = false;
 			this.where = false;
 			this.env = false;
 			this.openSettings = false;
 			this.gui = false;
+			this.batchFile = null;
 		}
 		
 		public Options setStdout(OutputStream out) 
@@ -188,6 +207,12 @@ public final class DoomToolsMain
 			return this;
 		}
 		
+		public Options setBatchFile(String batchFile)
+		{
+			this.batchFile = batchFile;
+			return this;
+		}
+		
 	}
 	
 	/**
@@ -231,6 +256,34 @@ public final class DoomToolsMain
 			}
 		}
 
+		public int doBatch()
+		{
+			boolean fromStdin = BATCH_STDIN.equals(options.batchFile);
+			DoomToolsBatch batch;
+			try (Reader reader = new InputStreamReader(fromStdin ? System.in : new FileInputStream(options.batchFile), "UTF-8"))
+			{
+				batch = DoomToolsBatch.read(reader);
+			} 
+			catch (FileNotFoundException e) 
+			{
+				options.stderr.println("ERROR: Batch file not found: " + options.batchFile);
+				return ERROR_IOERROR;
+			}
+			catch (IOException e) 
+			{
+				options.stderr.println("ERROR: Could not read batch job: " + e.getLocalizedMessage());
+				return ERROR_IOERROR;
+			}
+			catch (UtilityException e)
+			{
+				options.stderr.println("ERROR: " + e.getLocalizedMessage());
+				return ERROR_BAD_BATCH;
+			}
+			
+			// Standard In was used up by the job, if it came from there.
+			return batch.execute(options.stdout, options.stderr, fromStdin ? IOUtils.getNullInputStream() : System.in);
+		}
+		
 		public int doUpdateDocs()
 		{
 			final String path; 
@@ -331,6 +384,75 @@ public final class DoomToolsMain
 			return ERROR_NONE;
 		}
 		
+		public int doUpdateCDS()
+		{
+			final String path;
+			final String jarPath;
+			try {
+				path = Environment.getDoomToolsPath();
+				jarPath = Environment.getDoomToolsJarPath();
+			} catch (SecurityException e) {
+				options.stderr.println("ERROR: Could not fetch value of ENVVAR.");
+				return ERROR_SECURITY;
+			}
+			if (ObjectUtils.isEmpty(path) || ObjectUtils.isEmpty(jarPath))
+			{
+				options.stderr.println("ERROR: DOOMTOOLS_PATH or DOOMTOOLS_JAR ENVVAR not set. Not invoked via shell?");
+				return ERROR_NOWHERE;
+			}
+			
+			int javaVersion = Common.getJavaMajorVersion();
+			if (javaVersion < Common.CDS_MIN_JAVA_VERSION)
+			{
+				options.stdout.println("Class-data sharing archives need Java " + Common.CDS_MIN_JAVA_VERSION + " or higher (this is Java " + javaVersion + "). Nothing to do.");
+				return ERROR_NONE;
+			}
+			
+			File jarFile = new File(path + File.separator + jarPath);
+			File archiveFile = Common.getCDSArchiveFile(jarFile);
+			File tempFile = new File(archiveFile.getPath() + ".tmp");
+			
+			options.stdout.println("Creating class-data sharing archive (this may take a minute)...");
+			
+			// Same heap options as the shell scripts, or the archive may not be usable.
+			ByteArrayOutputStream log = new ByteArrayOutputStream();
+			int result;
+			try {
+				result = ProcessCallable.java(jarFile.getPath(), DoomToolsCDSTrainer.class, "-Xms64M", "-Xmx4G", "-XX:ArchiveClassesAtExit=" + tempFile.getPath())
+					.setOut(log)
+					.setErr(log)
+					.call();
+			} catch (Exception e) {
+				options.stderr.println("ERROR: Could not run training process: " + e.getLocalizedMessage());
+				tempFile.delete();
+				return ERROR_IOERROR;
+			}
+			
+			if (result != 0 || !tempFile.exists())
+			{
+				options.stderr.print(log.toString());
+				options.stderr.println("ERROR: Class-data sharing archive was not created.");
+				tempFile.delete();
+				return ERROR_IOERROR;
+			}
+			
+			try {
+				Files.move(tempFile.toPath(), archiveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException e) {
+				options.stderr.println("ERROR: Could not replace `" + archiveFile.getPath() + "` (is it in use?). Delete it and run with " + SWITCH_UPDATE_CDS + " again.");
+				tempFile.delete();
+				return ERROR_IOERROR;
+			} catch (SecurityException e) {
+				options.stderr.println("ERROR: Could not create `" + archiveFile.getPath() + "`. Access denied by OS.");
+				tempFile.delete();
+				return ERROR_SECURITY;
+			}
+			
+			options.stdout.println("Created `" + archiveFile.getPath() + "`.");
+			options.stdout.println("Done!");
+			return ERROR_NONE;
+		}
+		
 		public int doUpdateCleanup()
 		{
 			final String path; 
@@ -356,6 +478,12 @@ public final class DoomToolsMain
 					options.stderr.println("ERROR: Could not delete " + jars[i].getName());
 					return ERROR_IOERROR;
 				}
+				File archiveFile = Common.getCDSArchiveFile(jars[i]);
+				if (archiveFile.exists() && !archiveFile.delete())
+				{
+					options.stderr.println("ERROR: Could not delete " + archiveFile.getName());
+					return ERROR_IOERROR;
+				}
 			}
 
 			options.stdout.println("Done!");
@@ -465,6 +593,10 @@ public final class DoomToolsMain
 				}
 				return ERROR_NONE;
 			}
+			else if (options.batchFile != null)
+			{
+				return doBatch();
+			}
 			else if (options.updateDocs)
 			{
 				return doUpdateDocs();
@@ -473,6 +605,10 @@ public final class DoomToolsMain
 			{
 				return doUpdateShell();
 			}
+			else if (options.updateCDS)
+			{
+				return doUpdateCDS();
+			}
 			else if (options.updateCleanup)
 			{
 				return doUpdateCleanup();
@@ -682,6 +818,7 @@ public final class DoomToolsMain
 		options.stderr = err;
 		
 		final int STATE_START = 0;
+		final int STATE_BATCH = 1;
 		int state = STATE_START;
 
 		int i = 0;
@@ -716,6 +853,20 @@ public final class DoomToolsMain
 						options.updateShell = true;
 					else if (arg.equalsIgnoreCase(SWITCH_UPDATE_DOCS))
 						options.updateDocs = true;
+					else if (arg.equalsIgnoreCase(SWITCH_UPDATE_CDS))
+						options.updateCDS = true;
+					else if (arg.equalsIgnoreCase(SWITCH_BATCH))
+					{
+						options.batchFile = BATCH_STDIN;
+						state = STATE_BATCH;
+					}
+				}
+				break;
+				
+				case STATE_BATCH:
+				{
+					options.batchFile = arg;
+					state = STATE_START;
 				}
 				break;
 			}
@@ -795,7 +946,26 @@ public final class DoomToolsMain
 		out.println();
 		out.println("    --update-docs        Updates the documentation folder.");
 		out.println();
+		out.println("    --update-cds         Creates a class-data sharing archive for the current");
+		out.println("                             JAR and Java runtime, which the shell commands use");
+		out.println("                             to start the tools faster (requires Java 13 or");
+		out.println("                             higher). Run again after updating DoomTools or");
+		out.println("                             Java.");
+		out.println();
 		out.println("    --gui                Starts the DoomTools GUI.");
+		out.println();
+		out.println("    --batch [jobfile]    Runs a batch of tool invocations in this JVM, in");
+		out.println("                             dependency order, and reports per-step timings.");
+		out.println("                             If [jobfile] is \"-\" or not specified, the job is");
+		out.println("                             read from Standard In.");
+		out.println("                             Job format (JSON):");
+		out.println("                             {\"keepGoing\": false, \"steps\": [");
+		out.println("                               {\"id\": \"deh\", \"tool\": \"decohack\",");
+		out.println("                                \"args\": [\"src/main.dh\", \"-o\", \"out.deh\"]},");
+		out.println("                               {\"tool\": \"wadmerge\", \"args\": [\"merge.txt\"],");
+		out.println("                                \"after\": [\"deh\"]}");
+		out.println("                             ]}");
+		out.println("                             Exits with the code of the first failed step.");
 	}
 	
 }
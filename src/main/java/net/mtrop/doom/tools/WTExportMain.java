@@ -41,12 +41,16 @@ import net.mtrop.doom.texture.StrifeTextureList;
 import net.mtrop.doom.texture.Switches;
 import net.mtrop.doom.texture.TextureSet;
 import net.mtrop.doom.texture.TextureSet.Texture;
+import net.mtrop.doom.tools.common.MappedWadFile;
+import net.mtrop.doom.tools.common.Timings;
 import net.mtrop.doom.tools.exception.OptionParseException;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain.ApplicationNames;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
 import net.mtrop.doom.tools.wtexport.TextureTables;
+import net.mtrop.doom.tools.wtexport.TextureUsage;
+import net.mtrop.doom.tools.wtexport.WadFileCache;
 import net.mtrop.doom.util.NameUtils;
 import net.mtrop.doom.util.TextureUtils;
 
@@ -83,6 +87,12 @@ public final class WTExportMain
 	public static final String SWITCH_NULLTEX = "--null-texture";
 	public static final String SWITCH_NOANIMATED = "--no-animated";
 	public static final String SWITCH_NOSWITCH = "--no-switches";
+	public static final String SWITCH_SCAN1 = "--scan";
+	public static final String SWITCH_SCAN2 = "-s";
+	public static final String SWITCH_NOSKIES = "--no-skies";
+	public static final String SWITCH_MAPPED = "--mapped";
+	public static final String SWITCH_TIMINGS = "--timings";
+	public static final String SWITCH_TIMINGS_TRACE = "--timings-trace";
 
 	/**
 	 * Context.
@@ -118,6 +128,18 @@ public final class WTExportMain
 		private List<String> extractTextureList; 
 		/** List of flat names. */
 		private List<String> extractFlatList; 
+		/** WADs/PK3s to scan with WTexScan for the texture/flat list. */
+		private List<File> scanFiles;
+		/** Skip sky textures when scanning. */
+		private boolean skipSkies;
+		/** Texture/flat list to use instead of STDIN. */
+		private TextureUsage usage;
+		/** Shared open WADs. */
+		private WadFileCache wadFileCache;
+		/** Read lump content through memory-mapped files. */
+		private boolean mapped;
+		/** Phase timings. */
+		private Timings timings;
 
 		private Options()
 		{
@@ -141,6 +163,12 @@ public final class WTExportMain
 			this.filePaths = new ArrayList<>();
 			this.extractTextureList = new ArrayList<>();
 			this.extractFlatList = new ArrayList<>();
+			this.scanFiles = new ArrayList<>();
+			this.skipSkies = false;
+			this.usage = null;
+			this.wadFileCache = null;
+			this.mapped = false;
+			this.timings = Timings.NONE;
 		}
 		
 		void println(Object msg)
@@ -243,6 +271,77 @@ public final class WTExportMain
 			extractFlatList.add(name.toUpperCase());
 			return this;
 		}
+
+		public Options setQuiet(boolean quiet) 
+		{
+			this.quiet = quiet;
+			return this;
+		}
+		
+		/**
+		 * Adds a WAD or PK3 to scan for used textures and flats with WTexScan, 
+		 * instead of reading the list from STDIN.
+		 * @param file the file to scan.
+		 * @return this.
+		 */
+		public Options addScanFile(File file)
+		{
+			scanFiles.add(file);
+			return this;
+		}
+
+		public Options setSkipSkies(boolean skipSkies) 
+		{
+			this.skipSkies = skipSkies;
+			return this;
+		}
+		
+		/**
+		 * Sets the texture/flat list to use instead of reading it from STDIN.
+		 * If files to scan are added, the scan results are added to this set.
+		 * @param usage the usage set, or null for none.
+		 * @return this.
+		 */
+		public Options setUsage(TextureUsage usage)
+		{
+			this.usage = usage;
+			return this;
+		}
+
+		/**
+		 * Sets the cache to open the texture and base WADs through (shared with WTexScan, if scanning).
+		 * If not set, a cache is made for the run and closed at the end.
+		 * @param wadFileCache the cache, or null for a cache per run.
+		 * @return this.
+		 */
+		public Options setWadFileCache(WadFileCache wadFileCache)
+		{
+			this.wadFileCache = wadFileCache;
+			return this;
+		}
+
+		/**
+		 * Sets if lump content is read from the texture and base WADs through memory-mapped files,
+		 * instead of a seek and read for each lump. Ignored if a WAD file cache is set (the cache decides).
+		 * @param mapped true to map, false to not.
+		 * @return this.
+		 */
+		public Options setMapped(boolean mapped)
+		{
+			this.mapped = mapped;
+			return this;
+		}
+
+		/**
+		 * Sets the timings to record the run's phases in (reported to STDERR at the end of the run).
+		 * @param timings the timings, or {@link Timings#NONE} for none.
+		 * @return this.
+		 */
+		public Options setTimings(Timings timings)
+		{
+			this.timings = timings != null ? timings : Timings.NONE;
+			return this;
+		}
 	}
 
 	private static class Context implements Callable<Integer>
@@ -250,6 +349,8 @@ public final class WTExportMain
 		/** Options. */
 		private Options options;
 
+		/** Open WADs. */
+		private WadFileCache wadFileCache;
 		/** Base Unit. */
 		private WadUnit baseUnit;
 		/** WAD priority queue. */
@@ -267,6 +368,7 @@ public final class WTExportMain
 		private Context(Options options)
 		{
 			this.options = options;
+			this.wadFileCache = null;
 			this.baseUnit = null;
 			this.wadPriority = new LinkedList<WadUnit>();
 			this.textureSet = new HashSet<>();
@@ -284,11 +386,11 @@ public final class WTExportMain
 		private boolean scanWAD(File path, boolean isBase)
 		{
 			options.printf("Scanning %s...\n", path);
-			WadFile wf = openWadFile(path, false);
+			WadFile wf = openCachedWadFile(path);
 			if (wf == null)
 				return false;
 			
-			WadUnit unit = new WadUnit(wf);
+			WadUnit unit = new WadUnit(wf, wadFileCache.getContent(wf));
 			
 			try {
 				if (!scanTexturesAndPNames(unit, wf))
@@ -801,7 +903,7 @@ public final class WTExportMain
 						{
 							try {
 								options.printf("        Extracting flat %s (%s)...\n", flat, unit.wad.getFileName());
-								EntryData data = new EntryData(flat, unit.wad.getData(pidx));
+								EntryData data = new EntryData(flat, unit.getData(pidx));
 								exportSet.flatData.add(data);
 								exportSet.flatHash.add(flat);
 							} catch (IOException e) {
@@ -849,7 +951,7 @@ public final class WTExportMain
 							{
 								try {
 									options.printf("        Extracting patch %s (%s)...\n", pname, unit.wad.getFileName());
-									EntryData data = new EntryData(pname, unit.wad.getData(pidx));
+									EntryData data = new EntryData(pname, unit.getData(pidx));
 									exportSet.patchData.add(data);
 									exportSet.patchHash.add(pname);
 								} catch (IOException e) {
@@ -896,7 +998,7 @@ public final class WTExportMain
 						{
 							try {
 								options.printf("        Extracting namespace texture %s (%s)...\n", textureName, unit.wad.getFileName());
-								EntryData data = new EntryData(textureName, unit.wad.getData(pidx));
+								EntryData data = new EntryData(textureName, unit.getData(pidx));
 								exportSet.textureData.add(data);
 							} catch (IOException e) {
 								options.printf("ERROR: %s: Could not read entry %s.\n", unit.wad.getFilePath(), textureName);
@@ -1184,7 +1286,7 @@ public final class WTExportMain
 				return false;
 		
 			File baseFile = options.baseWad;
-			WadFile baseWadFile = openWadFile(baseFile, false);
+			WadFile baseWadFile = openCachedWadFile(baseFile);
 			if (baseWadFile == null)
 			{
 				IOUtils.close(outWadFile);
@@ -1202,7 +1304,6 @@ public final class WTExportMain
 				options.printf("ERROR: %s: %s\n", baseWadFile.getFilePath(), e.getMessage());
 				return false;
 			} finally {
-				IOUtils.close(baseWadFile);
 				IOUtils.close(outWadFile);
 			}
 			
@@ -1260,6 +1361,74 @@ public final class WTExportMain
 			return outWad;
 		}
 
+		/** 
+		 * Attempts to open an existing WAD file through the WAD cache.
+		 * The file must not be closed - the cache closes it.
+		 * @param f the file path.
+		 * @return the open WadFile, or null on error.
+		 */
+		private WadFile openCachedWadFile(File f)
+		{
+			if (!f.exists())
+			{
+				options.printf("ERROR: \"%s\" could not be opened.\n", f.getPath());
+				return null;
+			}
+			
+			try {
+				return wadFileCache.open(f);
+			} catch (SecurityException e) {
+				options.printf("ERROR: \"%s\" could not be read. Access denied.\n", f.getPath());
+				return null;
+			} catch (WadException e) {
+				options.printf("ERROR: \"%s\" is not a WAD file.\n", f.getPath());
+				return null;
+			} catch (IOException e) {
+				options.printf("ERROR: \"%s\" could not be read.\n", f.getPath());
+				return null;
+			}
+		}
+
+		/**
+		 * Scans the files to scan with WTexScan, adding the results to a usage set,
+		 * sharing this run's open WADs.
+		 * @param usage the usage set to add to.
+		 * @return true if successful, false if an error occurs.
+		 */
+		private boolean scanUsage(TextureUsage usage)
+		{
+			options.println("Scanning for used textures and flats...");
+			WTexScanMain.Options scanOptions;
+			try {
+				scanOptions = WTexScanMain.options(options.stdout, options.stderr);
+			} catch (OptionParseException e) {
+				options.errln("ERROR: " + e.getLocalizedMessage());
+				return false;
+			}
+			
+			scanOptions
+				.setQuiet(options.quiet)
+				.setSkipSkies(options.skipSkies)
+				.setUsage(usage)
+				.setWadFileCache(wadFileCache);
+			for (File f : options.scanFiles)
+				scanOptions.addWadFile(f);
+			
+			return WTexScanMain.call(scanOptions) == 0;
+		}
+
+		/**
+		 * Adds the names in a usage set to the lists of names to extract.
+		 * @param usage the usage set.
+		 */
+		private void addUsage(TextureUsage usage)
+		{
+			for (String name : usage.getTextures())
+				options.addTexture(name);
+			for (String name : usage.getFlats())
+				options.addFlat(name);
+		}
+
 		/**
 		 * Reads the texture/flat list from the STDIN mapping on Options.
 		 * @throws OptionParseException if the list is misordered or malformed.
@@ -1387,46 +1556,84 @@ public final class WTExportMain
 				return ERROR_NO_FILES;
 			}
 
-			if (!options.help && !options.version && !options.filePaths.isEmpty() && !ObjectUtils.isEmpty(options.outWad) && options.additive != null)
+			boolean ownCache = options.wadFileCache == null;
+			wadFileCache = ownCache ? new WadFileCache(options.mapped) : options.wadFileCache;
+			try {
+				return export();
+			} finally {
+				if (ownCache)
+					wadFileCache.close();
+			}
+		}
+		
+		private int export()
+		{
+			Timings timings = options.timings;
+			
+			try (Timings.Span span = timings.start("Read Texture List"))
 			{
-				// Read list from Standard In		
-				options.println("Read texture/flat list...");
-				try {
-					readList();
-				} catch (OptionParseException e) {
-					options.errln("ERROR: " + e.getLocalizedMessage());
-					return ERROR_BAD_OPTIONS;
-				} catch (IOException e) {
-					options.errln("ERROR: " + e.getLocalizedMessage());
-					return ERROR_BAD_OPTIONS;
+				if (!options.scanFiles.isEmpty())
+				{
+					// Scan for the list in-process.
+					TextureUsage usage = options.usage != null ? options.usage : new TextureUsage();
+					if (!scanUsage(usage))
+						return ERROR_BAD_FILE;
+					addUsage(usage);
+				}
+				else if (options.usage != null)
+				{
+					addUsage(options.usage);
+				}
+				else
+				{
+					// Read list from Standard In		
+					options.println("Read texture/flat list...");
+					try {
+						readList();
+					} catch (OptionParseException e) {
+						options.errln("ERROR: " + e.getLocalizedMessage());
+						return ERROR_BAD_OPTIONS;
+					} catch (IOException e) {
+						options.errln("ERROR: " + e.getLocalizedMessage());
+						return ERROR_BAD_OPTIONS;
+					}
 				}
 			}
 
 			/* STEP 1 : Scan all incoming WADs so we know where crap is. */
 			
-			// scan base.
-			if (!scanWAD(options.baseWad, true))
-				return ERROR_BAD_FILE;
-			
-			// scan patches. 
-			for (String f : options.filePaths)
-				if (!scanWAD(new File(f), false))
+			try (Timings.Span span = timings.start("Scan WADs"))
+			{
+				// scan base.
+				if (!scanWAD(options.baseWad, true))
 					return ERROR_BAD_FILE;
+				
+				// scan patches. 
+				for (String f : options.filePaths)
+					if (!scanWAD(new File(f), false))
+						return ERROR_BAD_FILE;
+			}
 		
 			/* STEP 2 : Compile list of what we want. */
 		
-			for (String t : options.extractTextureList)
-				readAndAddTextures(t);
-			for (String f : options.extractFlatList)
-				readAndAddFlats(f);
+			try (Timings.Span span = timings.start("Select Textures"))
+			{
+				for (String t : options.extractTextureList)
+					readAndAddTextures(t);
+				for (String f : options.extractFlatList)
+					readAndAddFlats(f);
+			}
 			
 			/* STEP 3 : Extract the junk and put it in the output wad. */
 		
 			if (options.nullComparator.nullName != null)
 				options.println("Using "+ options.nullComparator.nullName.toUpperCase() + " as the null texture in TEXTURE1...");
 			
-			if (!extractToOutputWad(options))
-				return ERROR_BAD_FILE;
+			try (Timings.Span span = timings.start("Extract and Write"))
+			{
+				if (!extractToOutputWad(options))
+					return ERROR_BAD_FILE;
+			}
 			
 			options.println("Done!");
 			return ERROR_NONE;
@@ -1535,6 +1742,8 @@ public final class WTExportMain
 	{
 		/** WAD path. */
 		WadFile wad; 
+		/** Mapped WAD content (can be null). */
+		MappedWadFile content;
 
 		/** Names in TEXTURE1. */
 		Set<String> tex1names;
@@ -1574,9 +1783,10 @@ public final class WTExportMain
 		Animated animated;
 		Switches switches;
 		
-		private WadUnit(WadFile file)
+		private WadUnit(WadFile file, MappedWadFile content)
 		{
 			this.wad = file;
+			this.content = content;
 			this.textureSet = null;
 			this.tex1names = null;
 			this.tex2exists = false;
@@ -1591,6 +1801,17 @@ public final class WTExportMain
 			this.animated = new Animated();
 			this.switches = new Switches();
 		}
+		
+		/**
+		 * Reads an entry's content, through the mapped content if there is any.
+		 * @param index the entry index.
+		 * @return the content.
+		 * @throws IOException if the content could not be read.
+		 */
+		byte[] getData(int index) throws IOException
+		{
+			return content != null ? content.getData(wad.getEntry(index)) : wad.getData(index);
+		}
 	}
 	
 	/**
@@ -1613,6 +1834,8 @@ public final class WTExportMain
 		final int STATE_BASE = 1;
 		final int STATE_OUT = 2;
 		final int STATE_NULLTEX = 3;
+		final int STATE_SCAN = 4;
+		final int STATE_TIMINGS_TRACE = 5;
 		
 		int state = STATE_INIT;
 		int i = 0;
@@ -1650,6 +1873,16 @@ public final class WTExportMain
 						state = STATE_OUT;
 					else if (arg.equals(SWITCH_NULLTEX))
 						state = STATE_NULLTEX;
+					else if (arg.equals(SWITCH_SCAN1) || arg.equals(SWITCH_SCAN2))
+						state = STATE_SCAN;
+					else if (arg.equals(SWITCH_NOSKIES))
+						options.setSkipSkies(true);
+					else if (arg.equals(SWITCH_MAPPED))
+						options.setMapped(true);
+					else if (arg.equals(SWITCH_TIMINGS))
+						options.setTimings(new Timings("WTExport"));
+					else if (arg.equals(SWITCH_TIMINGS_TRACE))
+						state = STATE_TIMINGS_TRACE;
 					else
 						options.addFilePath(arg);
 				}
@@ -1675,6 +1908,22 @@ public final class WTExportMain
 					state = STATE_INIT;
 				}
 				break;
+				
+				case STATE_SCAN:
+				{
+					options.addScanFile(new File(arg));
+					state = STATE_INIT;
+				}
+				break;
+				
+				case STATE_TIMINGS_TRACE:
+				{
+					if (!options.timings.isEnabled())
+						options.setTimings(new Timings("WTExport"));
+					options.timings.setTraceFile(new File(arg));
+					state = STATE_INIT;
+				}
+				break;
 			}
 			i++;
 		}
@@ -1694,6 +1943,8 @@ public final class WTExportMain
 		} catch (Exception e) {
 			e.printStackTrace(options.stderr);
 			return ERROR_UNKNOWN;
+		} finally {
+			options.timings.report(options.stderr);
 		}
 	}
 	
@@ -1707,23 +1958,35 @@ public final class WTExportMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args)
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		if (args.length == 0)
 		{
-			splash(System.out);
-			usage(System.out);
-			System.exit(-1);
-			return;
+			splash(out);
+			usage(out);
+			return -1;
 		}
 	
 		try {
-			System.exit(call(options(System.out, System.err, System.in, args)));
+			return call(options(out, err, in, args));
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(ERROR_BAD_OPTIONS);
+			err.println(e.getMessage());
+			return ERROR_BAD_OPTIONS;
 		}
 	}
+	
+	public static void main(String[] args)
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
 
 	/**
 	 * Prints the splash.
@@ -1742,6 +2005,7 @@ public final class WTExportMain
 	{
 		out.println("Usage: wtexport [--help | -h | --version]");
 		out.println("                [files] --base-wad [base] --output [target] [--create | --add] [switches]");
+		out.println("                [--scan [file] ...]");
 	}
 
 	/**
@@ -1817,6 +2081,26 @@ public final class WTExportMain
 		out.println("                          a texture's switch sequence, and ignore SWITCHES");
 		out.println("                          lumps.");
 		out.println();
+		out.println("    --scan [file]         If specified, the next argument is a WAD/PK3 to scan");
+		out.println("    -s [file]             for used textures and flats (as WTexScan does),");
+		out.println("                          and the list is NOT read from STDIN. Can be used");
+		out.println("                          more than once. WADs that are both scanned and");
+		out.println("                          exported from are only opened once.");
+		out.println();
+		out.println("    --no-skies            If specified with --scan, skip adding associated");
+		out.println("                          skies by map header.");
+		out.println();
+		out.println("    --mapped              If specified, reads lumps from the texture and base");
+		out.println("                          WADs through memory-mapped files, instead of a seek");
+		out.println("                          and read for each lump.");
+		out.println();
+		out.println("    --timings             If specified, prints how long each phase took to");
+		out.println("                          STDERR at the end of the run.");
+		out.println();
+		out.println("    --timings-trace [file]");
+		out.println("                          Same as --timings, and also writes the phases to");
+		out.println("                          [file] as a Chrome trace (chrome://tracing).");
+		out.println();
 		out.println("Input List");
 		out.println("==========");
 		out.println();
@@ -1846,6 +2130,7 @@ public final class WTExportMain
 		out.println(":end");
 		out.println();
 		out.println("The utilities WTEXLIST and WTEXSCAN already produce a list formatted this way.");
+		out.println("Use --scan to have WTEXPORT run the WTEXSCAN step itself, without a list.");
 	}
 
 }
@@ -11,15 +11,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
-import java.util.Enumeration;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
-import java.util.zip.ZipFile;
 
 import net.mtrop.doom.Wad;
 import net.mtrop.doom.WadBuffer;
@@ -31,6 +28,7 @@ import net.mtrop.doom.texture.TextureSet;
 import net.mtrop.doom.tools.exception.OptionParseException;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain.ApplicationNames;
+import net.mtrop.doom.tools.struct.ArchiveWalker;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.util.TextureUtils;
 
@@ -166,34 +164,22 @@ public final class WTexListMain
 		private void processPK3(String fileName, File f) throws ZipException, IOException
 		{
 			options.println("# Inspecting " + fileName + "...");
-			ZipFile zf = new ZipFile(f);
-			
-			@SuppressWarnings("unchecked")
-			Enumeration<ZipEntry> en = (Enumeration<ZipEntry>)zf.entries();
-			while (en.hasMoreElements())
-			{
-				ZipEntry ze = en.nextElement();
-				if (ze.isDirectory())
-					continue;
-				
-				String zeName = ze.getName().toLowerCase();
+			// Nested PK3s are read straight out of the PK3 that contains them.
+			ArchiveWalker.walk(f, ArchiveWalker.PK3_EXTENSIONS, (entry) -> {
+				if (!entry.getName().toLowerCase().endsWith(".wad"))
+					return;
 				
-				if (zeName.endsWith(".wad"))
+				if (entry.getDepth() > 0)
+					options.println("# Inspecting " + fileName + File.separator + entry.getPath() + "...");
+				try
 				{
-					WadBuffer wm = null;
-					try (InputStream zin = zf.getInputStream(ze)) 
-					{
-						wm = new WadBuffer(zin);
-						inspectWAD(wm);
-					} 
-					catch (IOException e) 
-					{
-						options.errln("ERROR: Could not read entry "+ze.getName()+".");
-					}
+					inspectWAD(new WadBuffer(entry.getInputStream()));
+				} 
+				catch (IOException e) 
+				{
+					options.errln("ERROR: Could not read entry "+entry.getPath()+".");
 				}
-			}
-			
-			zf.close();
+			});
 		}
 
 		// Process WAD
@@ -454,23 +440,35 @@ public final class WTexListMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args) throws IOException
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		if (args.length == 0)
 		{
-			splash(System.out);
-			usage(System.out);
-			System.exit(-1);
-			return;
+			splash(out);
+			usage(out);
+			return -1;
 		}
 	
 		try {
-			System.exit(call(options(System.out, System.err, args)));
+			return call(options(out, err, args));
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(ERROR_BAD_OPTIONS);
+			err.println(e.getMessage());
+			return ERROR_BAD_OPTIONS;
 		}
 	}
+	
+	public static void main(String[] args) throws IOException
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
 
 	/**
 	 * Prints the splash.
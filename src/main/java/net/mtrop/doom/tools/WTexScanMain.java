@@ -7,13 +7,11 @@ package net.mtrop.doom.tools;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Enumeration;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -21,20 +19,13 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
-import java.util.zip.ZipFile;
 
 import net.mtrop.doom.Wad;
 import net.mtrop.doom.WadBuffer;
 import net.mtrop.doom.WadFile;
 import net.mtrop.doom.exception.WadException;
 import net.mtrop.doom.map.MapFormat;
-import net.mtrop.doom.map.data.DoomSector;
-import net.mtrop.doom.map.data.DoomSidedef;
-import net.mtrop.doom.map.udmf.UDMFObject;
-import net.mtrop.doom.map.udmf.UDMFReader;
-import net.mtrop.doom.map.udmf.UDMFTable;
 import net.mtrop.doom.map.udmf.attributes.UDMFDoomSectorAttributes;
 import net.mtrop.doom.map.udmf.attributes.UDMFDoomSidedefAttributes;
 import net.mtrop.doom.object.TextObject;
@@ -45,12 +36,18 @@ import net.mtrop.doom.text.Text;
 import net.mtrop.doom.text.UniversalMapInfo;
 import net.mtrop.doom.text.ZDoomMapInfo;
 import net.mtrop.doom.text.data.MapInfoData;
+import net.mtrop.doom.tools.common.MappedWadFile;
 import net.mtrop.doom.tools.exception.OptionParseException;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain.ApplicationNames;
+import net.mtrop.doom.tools.struct.ArchiveWalker;
+import net.mtrop.doom.tools.struct.UDMFFieldScanner;
 import net.mtrop.doom.tools.struct.util.IOUtils;
+import net.mtrop.doom.tools.wtexport.LumpNameSet;
+import net.mtrop.doom.tools.wtexport.MapLumpScanner;
+import net.mtrop.doom.tools.wtexport.TextureUsage;
+import net.mtrop.doom.tools.wtexport.WadFileCache;
 import net.mtrop.doom.util.MapUtils;
-import net.mtrop.doom.util.NameUtils;
 
 /**
  * Main class for TexScan.
@@ -81,6 +78,7 @@ public final class WTexScanMain
 	public static final String SWITCH_CHANGELOG = "--changelog";
 	public static final String SWITCH_GUI = "--gui";
 	public static final String SWITCH_MAPINFO = "--mapinfo";
+	public static final String SWITCH_MAPPED = "--mapped";
 
 	/** Regex pattern for Episode, Map. */
 	private static final Pattern EPISODE_PATTERN = Pattern.compile("E[1-5]M[1-9]");
@@ -111,6 +109,9 @@ public final class WTexScanMain
 		private List<File> wadFiles;
 		private SortedSet<String> mapsToScan;
 		private List<File> mapInfoToScan;
+		private TextureUsage usage;
+		private WadFileCache wadFileCache;
+		private boolean mapped;
 		
 		private Options()
 		{
@@ -127,6 +128,9 @@ public final class WTexScanMain
 			this.wadFiles = new LinkedList<>();
 			this.mapsToScan = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 			this.mapInfoToScan = new LinkedList<>();
+			this.usage = null;
+			this.wadFileCache = null;
+			this.mapped = false;
 		}
 		
 		void println(Object msg)
@@ -209,6 +213,41 @@ public final class WTexScanMain
 			return this;
 		}
 
+		/**
+		 * Sets the usage set to add the found textures and flats to.
+		 * If set, the list is not printed to STDOUT.
+		 * @param usage the usage set, or null to print the list.
+		 * @return this.
+		 */
+		public Options setUsage(TextureUsage usage)
+		{
+			this.usage = usage;
+			return this;
+		}
+
+		/**
+		 * Sets the cache to open WAD files through, which keeps them open for later tools.
+		 * @param wadFileCache the cache, or null to open and close each WAD file.
+		 * @return this.
+		 */
+		public Options setWadFileCache(WadFileCache wadFileCache)
+		{
+			this.wadFileCache = wadFileCache;
+			return this;
+		}
+
+		/**
+		 * Sets if map lumps are read through memory-mapped files, instead of a seek and read for each lump.
+		 * Ignored if a WAD file cache is set (the cache decides).
+		 * @param mapped true to map, false to not.
+		 * @return this.
+		 */
+		public Options setMapped(boolean mapped)
+		{
+			this.mapped = mapped;
+			return this;
+		}
+
 	}
 	
 	/**
@@ -217,72 +256,55 @@ public final class WTexScanMain
 	private static class Context implements Callable<Integer>
 	{
 		private Options options;
-		private SortedSet<String> textureList;
-		private SortedSet<String> flatList;
+		private TextureUsage usage;
+		/** Texture names seen in binary maps so far. */
+		private LumpNameSet seenTextures;
+		/** Flat names seen in binary maps so far. */
+		private LumpNameSet seenFlats;
 
 		private Context(Options options)
 		{
 			this.options = options;
-			this.textureList = new TreeSet<>();
-			this.flatList = new TreeSet<>();
+			this.usage = options.usage != null ? options.usage : new TextureUsage();
+			this.seenTextures = new LumpNameSet();
+			this.seenFlats = new LumpNameSet();
 		}
 		
 		// Process PK3/ZIP
 		private void processPK3(String fileName, File f) throws ZipException, IOException
 		{
 			options.println("# Inspecting " + fileName + "...");
-			ZipFile zf = new ZipFile(f);
-			
-			@SuppressWarnings("unchecked")
-			Enumeration<ZipEntry> en = (Enumeration<ZipEntry>)zf.entries();
-			while (en.hasMoreElements())
-			{
-				ZipEntry ze = en.nextElement();
-				if (ze.isDirectory())
-					continue;
-				
-				String zeName = ze.getName().toLowerCase();
+			// Nested PK3s are read straight out of the PK3 that contains them.
+			ArchiveWalker.walk(f, ArchiveWalker.PK3_EXTENSIONS, (entry) -> {
+				if (!entry.getName().toLowerCase().endsWith(".wad"))
+					return;
 				
-				if (zeName.endsWith(".wad"))
+				if (entry.getDepth() > 0)
+					options.println("# Inspecting " + fileName + File.separator + entry.getPath() + "...");
+				try
 				{
-					WadBuffer wm = null;
-					try (InputStream zin = zf.getInputStream(ze)) 
-					{
-						wm = new WadBuffer(zin);
-						inspectWAD(wm);
-					} 
-					catch (IOException e) 
-					{
-						options.errln("ERROR: Could not read entry "+ze.getName()+".");
-					}
-				}
-				else if (zeName.endsWith(".pk3") || zeName.endsWith(".pke"))
+					inspectWAD(new WadBuffer(entry.getInputStream()));
+				} 
+				catch (IOException e) 
 				{
-					File pk3 = File.createTempFile("wtexscan", "pk3tmp");
-					try (InputStream zin = zf.getInputStream(ze); FileOutputStream fos = new FileOutputStream(pk3)) 
-					{
-						IOUtils.relay(zin, fos);
-						IOUtils.close(fos);
-						processPK3(fileName + File.separator + ze.getName(), pk3);
-					} 
-					catch (IOException e) 
-					{
-						options.errln("ERROR: Could not read entry "+ze.getName()+".");
-					} 
-					pk3.deleteOnExit();
+					options.errln("ERROR: Could not read entry "+entry.getPath()+".");
 				}
-			}
-			
-			zf.close();
+			});
 		}
 
 		// Process WAD
 		private void processWAD(File f) throws WadException, IOException
 		{
 			options.println("# Inspecting " + f.getPath() + "...");
-			try (WadFile wf = new WadFile(f))
+			if (options.wadFileCache != null)
+			{
+				WadFile wf = options.wadFileCache.open(f);
+				inspectWAD(wf, options.wadFileCache.getContent(wf));
+				return;
+			}
+			try (WadFile wf = new WadFile(f); MappedWadFile content = options.mapped ? new MappedWadFile(f) : null)
 			{
-				inspectWAD(wf);
+				inspectWAD(wf, content);
 			}
 		}
 
@@ -300,11 +322,17 @@ public final class WTexScanMain
 
 		// Inspect WAD contents.
 		private void inspectWAD(Wad wad) throws IOException
+		{
+			inspectWAD(wad, null);
+		}
+
+		// Inspect WAD contents, reading map lumps through the mapped content, if any.
+		private void inspectWAD(Wad wad, MappedWadFile content) throws IOException
 		{
 			String[] mapHeaders = MapUtils.getAllMapHeaders(wad);
 			for (String mapName : mapHeaders)
 				if (options.mapsToScan.isEmpty() || options.mapsToScan.contains(mapName))
-					inspectWadMap(wad, mapName);
+					inspectWadMap(wad, content, mapName);
 			
 			inspectWadMapInfo(wad);
 		}
@@ -331,7 +359,7 @@ public final class WTexScanMain
 		}
 
 		// Inspect a map in a WAD.
-		private void inspectWadMap(Wad wad, String mapName) throws IOException
+		private void inspectWadMap(Wad wad, MappedWadFile content, String mapName) throws IOException
 		{
 			options.println("#    Opening map "+mapName+"...");
 			
@@ -345,76 +373,85 @@ public final class WTexScanMain
 		
 			options.println("#    Format is "+format.name()+"...");
 		
-			// filled in if UDMF.
-			UDMFTable udmf = null;
-			
 			if (format == MapFormat.UDMF)
 			{
-				try (InputStream in = wad.getInputStream("TEXTMAP", wad.lastIndexOf(mapName)))
-				{
-					udmf = UDMFReader.readData(in);
-				}
+				inspectUDMFMap(wad, content, mapName);
 			}
-					
+			else
+			{
+				inspectBinaryMap(wad, content, mapName);
+			}
+			
+			if (!options.skipSkies)
+			{
+				inspectMapSky(mapName);
+			}
+		}
+
+		// Inspect a Doom or Hexen map's lumps.
+		private void inspectBinaryMap(Wad wad, MappedWadFile content, String mapName) throws IOException
+		{
 			if (options.outputTextures)
 			{
 				options.println("#        Reading SIDEDEFS...");
-		
-				switch (format)
-				{
-					default:
-					case DOOM:
-					case HEXEN:
-					{
-						DoomSidedef[] sides = wad.getDataAs("SIDEDEFS", wad.lastIndexOf(mapName), DoomSidedef.class, DoomSidedef.LENGTH);
-						if (sides == null)
-							options.println("#            ERROR: No SIDEDEFS lump found! Skipping...");
-						else
-							inspectSidedefs(sides);
-					}
-					break;
-		
-					case UDMF:
-					{
-						inspectSidedefs(udmf.getObjects("sidedef"));
-					}
-					break;
-				}
+				int index = wad.indexOf("SIDEDEFS", wad.lastIndexOf(mapName));
+				if (index < 0)
+					options.println("#            ERROR: No SIDEDEFS lump found! Skipping...");
+				else
+					MapLumpScanner.scanSidedefs(getData(wad, content, index), seenTextures, this::addTexture);
 			}
 		
 			if (options.outputFlats)
 			{
 				options.println("#        Reading SECTORS...");
-		
-				switch (format)
-				{
-					default:
-					case DOOM:
-					case HEXEN:
-					{
-						DoomSector[] sectors = wad.getDataAs("SECTORS", wad.lastIndexOf(mapName), DoomSector.class, DoomSector.LENGTH);
-						if (sectors == null)
-							options.println("#            ERROR: No SECTORS lump found! Skipping...");
-						else
-							inspectSectors(sectors);
-					}
-					break;
-		
-					case UDMF:
-					{
-						inspectSectors(udmf.getObjects("sector"));
-					}
-					break;
-						
-				}
+				int index = wad.indexOf("SECTORS", wad.lastIndexOf(mapName));
+				if (index < 0)
+					options.println("#            ERROR: No SECTORS lump found! Skipping...");
+				else
+					MapLumpScanner.scanSectors(getData(wad, content, index), seenFlats, this::addFlat);
+			}
+		}
+
+		// Inspect a UDMF map's TEXTMAP, reading only the texture fields.
+		private void inspectUDMFMap(Wad wad, MappedWadFile content, String mapName) throws IOException
+		{
+			UDMFFieldScanner scanner = new UDMFFieldScanner();
+			if (options.outputTextures)
+			{
+				options.println("#        Reading sidedefs...");
+				scanner.field("sidedef", 
+					UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_TOP, 
+					UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_MIDDLE, 
+					UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_BOTTOM
+				);
+			}
+			if (options.outputFlats)
+			{
+				options.println("#        Reading sectors...");
+				scanner.field("sector", 
+					UDMFDoomSectorAttributes.ATTRIB_TEXTURE_FLOOR, 
+					UDMFDoomSectorAttributes.ATTRIB_TEXTURE_CEILING
+				);
 			}
 			
-			if (!options.skipSkies)
+			int header = wad.lastIndexOf(mapName);
+			try (InputStream in = content != null ? content.getInputStream(wad.getEntry(wad.indexOf("TEXTMAP", header))) : wad.getInputStream("TEXTMAP", header))
 			{
-				inspectMapSky(mapName);
+				scanner.scan(in, (type, index, name, value) -> {
+					if (type.equals("sidedef"))
+						addTexture(String.valueOf(value));
+					else
+						addFlat(String.valueOf(value));
+				});
 			}
 		}
 
+		// Reads an entry's content, through the mapped content if there is any.
+		private static byte[] getData(Wad wad, MappedWadFile content, int index) throws IOException
+		{
+			return content != null ? content.getData(wad.getEntry(index)) : wad.getData(index);
+		}
+
 		private void inspectMapSky(String mapName)
 		{
 			Pair p = new Pair();
@@ -423,88 +460,37 @@ public final class WTexScanMain
 			{
 				if (p.y >= 21)
 				{
-					if (!textureList.contains("SKY3"))
-						textureList.add("SKY3");
+					usage.addTexture("SKY3");
 				}
 				else if (p.y >= 12)
 				{
-					if (!textureList.contains("SKY2"))
-						textureList.add("SKY2");
+					usage.addTexture("SKY2");
 				}
 				else
 				{
-					if (!textureList.contains("SKY1"))
-						textureList.add("SKY1");
+					usage.addTexture("SKY1");
 				}
 			}
 			else if (p.x == 1)
 			{
-				if (!textureList.contains("SKY1"))
-					textureList.add("SKY1");
+				usage.addTexture("SKY1");
 			}
 			else if (p.x == 2)
 			{
-				if (!textureList.contains("SKY2"))
-					textureList.add("SKY2");
+				usage.addTexture("SKY2");
 			}
 			else if (p.x == 3)
 			{
-				if (!textureList.contains("SKY3"))
-					textureList.add("SKY3");
+				usage.addTexture("SKY3");
 			}
 			else if (p.x == 4)
 			{
-				if (!textureList.contains("SKY4"))
-					textureList.add("SKY4");
-				if (!textureList.contains("SKY1"))
-					textureList.add("SKY1");
+				usage.addTexture("SKY4");
+				usage.addTexture("SKY1");
 			}
 			else if (p.x == 5)
 			{
-				if (!textureList.contains("SKY3"))
-					textureList.add("SKY3");
-			}
-		}
-
-		// Adds sidedef textures to the list.
-		private void inspectSidedefs(DoomSidedef[] sidedefs)
-		{
-			for (DoomSidedef s : sidedefs)
-			{
-				addTexture(s.getTextureTop());
-				addTexture(s.getTextureMiddle());
-				addTexture(s.getTextureBottom());
-			}
-		}
-
-		// Adds sidedef textures to the list.
-		private void inspectSidedefs(UDMFObject[] sidedefs)
-		{
-			for (UDMFObject s : sidedefs)
-			{
-				addTexture(s.getString(UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_TOP, NameUtils.EMPTY_TEXTURE_NAME));
-				addTexture(s.getString(UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_MIDDLE, NameUtils.EMPTY_TEXTURE_NAME));
-				addTexture(s.getString(UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_BOTTOM, NameUtils.EMPTY_TEXTURE_NAME));
-			}
-		}
-
-		// Adds sector textures to the list.
-		private void inspectSectors(DoomSector[] sectors)
-		{
-			for (DoomSector s : sectors)
-			{
-				addFlat(s.getTextureFloor());
-				addFlat(s.getTextureCeiling());
-			}
-		}
-
-		// Adds sector textures to the list.
-		private void inspectSectors(UDMFObject[] sectors)
-		{
-			for (UDMFObject s : sectors)
-			{
-				addFlat(s.getString(UDMFDoomSectorAttributes.ATTRIB_TEXTURE_FLOOR));
-				addFlat(s.getString(UDMFDoomSectorAttributes.ATTRIB_TEXTURE_CEILING));
+				usage.addTexture("SKY3");
 			}
 		}
 
@@ -707,14 +693,12 @@ public final class WTexScanMain
 		
 		private void addTexture(String texture)
 		{
-			if (!textureList.contains(texture) && texture != null && !texture.trim().isEmpty() && !texture.equals("-"))
-				textureList.add(texture);
+			usage.addTexture(texture);
 		}
 
 		private void addFlat(String flat)
 		{
-			if (!flatList.contains(flat) && flat != null && !flat.trim().isEmpty())
-				flatList.add(flat);
+			usage.addFlat(flat);
 		}
 
 		@Override
@@ -798,27 +782,31 @@ public final class WTexScanMain
 				return ERROR_NONE;
 			}
 			
-			if (!options.wadFiles.isEmpty() || !options.mapInfoToScan.isEmpty())
+			if (options.usage != null)
+			{
+				options.println("# Found " + usage.getTextures().size() + " texture(s) and " + usage.getFlats().size() + " flat(s).");
+			}
+			else if (!options.wadFiles.isEmpty() || !options.mapInfoToScan.isEmpty())
 			{
-				if (textureList.isEmpty())
+				if (usage.getTextures().isEmpty())
 				{
 					options.println("# No textures.");
 				}
 				else
 				{
 					options.stdout.println(":textures");
-					for (String t : textureList)
+					for (String t : usage.getTextures())
 						options.stdout.println(t);
 				}
 			
-				if (flatList.isEmpty())
+				if (usage.getFlats().isEmpty())
 				{
 					options.println("# No flats.");
 				}
 				else
 				{
 					options.stdout.println(":flats");
-					for (String f : flatList)
+					for (String f : usage.getFlats())
 						options.stdout.println(f);
 				}
 			
@@ -883,6 +871,8 @@ public final class WTexScanMain
 						state = STATE_MAP;
 					else if (arg.equals(SWITCH_MAPINFO))
 						state = STATE_MAPINFO;
+					else if (arg.equals(SWITCH_MAPPED))
+						options.setMapped(true);
 					else
 						options.addWadFile(new File(arg));
 				}
@@ -939,23 +929,35 @@ public final class WTexScanMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args) throws IOException
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		if (args.length == 0)
 		{
-			splash(System.out);
-			usage(System.out);
-			System.exit(-1);
-			return;
+			splash(out);
+			usage(out);
+			return -1;
 		}
 	
 		try {
-			System.exit(call(options(System.out, System.err, args)));
+			return call(options(out, err, args));
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(ERROR_BAD_OPTIONS);
+			err.println(e.getMessage());
+			return ERROR_BAD_OPTIONS;
 		}
 	}
+	
+	public static void main(String[] args) throws IOException
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
 
 	/**
 	 * Prints the splash.
@@ -1028,6 +1030,9 @@ public final class WTexScanMain
 		out.println();
 		out.println("    --no-skies          Skip adding associated skies by map header.");
 		out.println();
+		out.println("    --mapped            Read map lumps from WAD files through memory-mapped");
+		out.println("                        files, instead of a seek and read for each lump.");
+		out.println();
 		out.println("    --map [mapname]     Add a map to scan. If never specified, all maps will be");
 		out.println("    -m                  scanned.");
 		out.println();
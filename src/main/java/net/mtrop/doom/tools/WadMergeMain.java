@@ -21,6 +21,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
 
+import net.mtrop.doom.tools.common.Timings;
 import net.mtrop.doom.tools.exception.OptionParseException;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain.ApplicationNames;
@@ -52,6 +53,8 @@ public final class WadMergeMain
 
 	public static final String SWITCH_CHARSET1 = "--charset";
 	public static final String SWITCH_CHARSET2 = "-c";
+	public static final String SWITCH_TIMINGS = "--timings";
+	public static final String SWITCH_TIMINGS_TRACE = "--timings-trace";
 
 	public static final String SWITCH_SYSTEMIN = "--";
 	
@@ -74,6 +77,7 @@ public final class WadMergeMain
 		private File inputFile;
 		private Charset inputCharset;
 		private List<String> args;
+		private Timings timings;
 		
 		private Options()
 		{
@@ -89,6 +93,7 @@ public final class WadMergeMain
 			this.inputFile = new File("wadmerge.txt");
 			this.inputCharset = Charset.defaultCharset();
 			this.args = new LinkedList<>();
+			this.timings = Timings.NONE;
 		}
 
 		public Options setStdout(OutputStream out) 
@@ -143,6 +148,12 @@ public final class WadMergeMain
 			return this;
 		}
 		
+		public Options setTimings(Timings timings) 
+		{
+			this.timings = timings != null ? timings : Timings.NONE;
+			return this;
+		}
+		
 	}
 	
 	/**
@@ -220,7 +231,9 @@ public final class WadMergeMain
 		
 			try 
 			{
-				if (!WadMergeCommand.callScript(streamName, reader, new WadMergeContext(options.stdout, options.verbose), options.args.toArray(new String[options.args.size()])))
+				WadMergeContext context = new WadMergeContext(options.stdout, options.verbose);
+				context.setTimings(options.timings);
+				if (!WadMergeCommand.callScript(streamName, reader, context, options.args.toArray(new String[options.args.size()])))
 					return ERROR_BAD_SCRIPT;
 			}
 			catch (IOException e)
@@ -256,6 +269,7 @@ public final class WadMergeMain
 		
 		final int STATE_START = 0;
 		final int STATE_SWITCHES_CHARSET = 1;
+		final int STATE_SWITCHES_TIMINGS_TRACE = 2;
 		int state = STATE_START;
 
 		boolean sawInput = false;
@@ -280,6 +294,10 @@ public final class WadMergeMain
 						options.changelog = true;
 					else if (SWITCH_CHARSET1.equalsIgnoreCase(arg) || SWITCH_CHARSET2.equalsIgnoreCase(arg))
 						state = STATE_SWITCHES_CHARSET;
+					else if (arg.equals(SWITCH_TIMINGS))
+						options.setTimings(new Timings("WadMerge"));
+					else if (arg.equals(SWITCH_TIMINGS_TRACE))
+						state = STATE_SWITCHES_TIMINGS_TRACE;
 					else if (!sawInput)
 					{
 						options.inputFile = new File(arg);
@@ -302,11 +320,22 @@ public final class WadMergeMain
 					state = STATE_START;
 				}
 				break;
+				
+				case STATE_SWITCHES_TIMINGS_TRACE:
+				{
+					if (!options.timings.isEnabled())
+						options.setTimings(new Timings("WadMerge"));
+					options.timings.setTraceFile(new File(arg));
+					state = STATE_START;
+				}
+				break;
 			}
 		}
 		
 		if (state == STATE_SWITCHES_CHARSET)
 			throw new OptionParseException("ERROR: Expected charset name after charset switch.");
+		if (state == STATE_SWITCHES_TIMINGS_TRACE)
+			throw new OptionParseException("ERROR: Expected file after timings trace switch.");
 		
 		return options;
 	}
@@ -323,6 +352,8 @@ public final class WadMergeMain
 		} catch (Exception e) {
 			e.printStackTrace(options.stderr);
 			return ERROR_UNKNOWN;
+		} finally {
+			options.timings.report(options.stderr);
 		}
 	}
 	
@@ -336,24 +367,36 @@ public final class WadMergeMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args)
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		try {
-			Options options = options(System.out, System.err, System.in, args);
+			Options options = options(out, err, in, args);
 			int status = call(options);
 			if (status == ERROR_BAD_INPUT_FILE && args.length == 0)
 			{
-				splash(System.out);
-				usage(System.out);
-				System.exit(-1);
-				return;
+				splash(out);
+				usage(out);
+				return -1;
 			}
-			System.exit(status);
+			return status;
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(ERROR_BAD_OPTIONS);
+			err.println(e.getMessage());
+			return ERROR_BAD_OPTIONS;
 		}
 	}
+	
+	public static void main(String[] args)
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
 
 	/**
 	 * Prints the splash.
@@ -416,6 +459,13 @@ public final class WadMergeMain
 		out.println("    --verbose     Prints verbose output.");
 		out.println("    -v");
 		out.println();
+		out.println("    --timings     Prints how long each script command took to STDERR at the");
+		out.println("                  end of the run.");
+		out.println();
+		out.println("    --timings-trace [file]");
+		out.println("                  Same as --timings, and also writes each command to [file]");
+		out.println("                  as a Chrome trace (chrome://tracing).");
+		out.println();
 		out.println("[scriptfile]:");
 		out.println("    <filename>    The input script file.");
 		out.println();
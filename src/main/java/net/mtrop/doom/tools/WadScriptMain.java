@@ -17,6 +17,7 @@ import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -55,6 +56,7 @@ import com.blackrook.rookscript.resolvers.ScriptVariableResolver;
 import com.blackrook.rookscript.resolvers.variable.DefaultVariableResolver;
 
 import net.mtrop.doom.tools.common.Common;
+import net.mtrop.doom.tools.common.Timings;
 import net.mtrop.doom.tools.exception.OptionParseException;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain.ApplicationNames;
@@ -65,6 +67,8 @@ import net.mtrop.doom.tools.struct.util.ObjectUtils;
 import net.mtrop.doom.tools.wadscript.DoomMapFunctions;
 import net.mtrop.doom.tools.wadscript.MapInfoFunctions;
 import net.mtrop.doom.tools.wadscript.PK3Functions;
+import net.mtrop.doom.tools.wadscript.ScriptCache;
+import net.mtrop.doom.tools.wadscript.TimedFunctionResolver;
 import net.mtrop.doom.tools.wadscript.UtilityFunctions;
 import net.mtrop.doom.tools.wadscript.WadFunctions;
 
@@ -112,6 +116,8 @@ public final class WadScriptMain
 	public static final String SWITCH_RUNAWAYLIMIT1 = "--runaway-limit";
 	public static final String SWITCH_ACTIVATIONDEPTH1 = "--activation-depth";
 	public static final String SWITCH_STACKDEPTH1 = "--stack-depth";
+	public static final String SWITCH_TIMINGS = "--timings";
+	public static final String SWITCH_TIMINGS_TRACE = "--timings-trace";
 	public static final String SWITCH_SEPARATOR = "--";
 	public static final String SWITCH_SEPARATORBASH = "--X";
 	
@@ -151,9 +157,11 @@ public final class WadScriptMain
 		new Resolver("Utilities", "UTIL", UtilityFunctions.createResolver())
 	};
 
+	private static final Scope SCOPE_GLOBAL = new Scope("GLOBAL", new DefaultVariableResolver());
+
 	private static final Scope[] SCOPES = 
 	{
-		new Scope("GLOBAL", new DefaultVariableResolver())
+		SCOPE_GLOBAL
 	};
 	
 	/**
@@ -771,6 +779,8 @@ public final class WadScriptMain
 		private List<Object> argList;
 		private List<Resolver> resolvers;
 		private List<Scope> scopes;
+		private Timings timings;
+		private ScriptVariableResolver globalScope;
 		
 		private Options()
 		{
@@ -791,6 +801,8 @@ public final class WadScriptMain
 			this.argList = new LinkedList<>();
 			this.resolvers = new LinkedList<>();
 			this.scopes = new LinkedList<>();
+			this.timings = Timings.NONE;
+			this.globalScope = null;
 		}
 
 		public Options setStdout(OutputStream out) 
@@ -893,6 +905,18 @@ public final class WadScriptMain
 			return this;
 		}
 		
+		public Options setTimings(Timings timings)
+		{
+			this.timings = timings != null ? timings : Timings.NONE;
+			return this;
+		}
+		
+		public Options setGlobalScope(ScriptVariableResolver globalScope)
+		{
+			this.globalScope = globalScope;
+			return this;
+		}
+		
 	}
 
 	private static class Context implements Callable<Integer>
@@ -1021,74 +1045,90 @@ public final class WadScriptMain
 			try 
 			{
 				final Charset INCLUDER_CHARSET = options.scriptCharset;
-				ScriptInstanceBuilder builder = ScriptInstance.createBuilder()
-					.withSource(options.scriptFile)
+				final ScriptReaderIncluder INCLUDER = new ScriptReaderIncluder()
+				{
+					@Override
+					public String getIncludeResourcePath(String streamName, String path) throws IOException
+					{
+						return PreprocessorLexer.DEFAULT_INCLUDER.getIncludeResourcePath(streamName, path);
+					}
+					
+					@Override
+					public InputStream getIncludeResource(String path) throws IOException 
+					{
+						return PreprocessorLexer.DEFAULT_INCLUDER.getIncludeResource(path);
+					}
+					
+					@Override
+					public Charset getEncodingForIncludedResource(String path) 
+					{
+						return INCLUDER_CHARSET;
+					}
+				};
+
+				final Resolver[] RESOLVERS = ArrayUtils.joinArrays(RESOLVERS_BASE, RESOLVERS_WADSCRIPT);
+				
+				// ============ Compiled Script Cache =============
+				
+				ScriptCache scriptCache = new ScriptCache();
+				String signature = getScriptSignature(RESOLVERS, options.resolvers, options.scopes);
+				Script cachedScript = scriptCache.get(options.scriptFile, options.scriptCharset, signature, INCLUDER);
+				ScriptCache.RecordingIncluder recordingIncluder = null;
+				
+				ScriptInstanceBuilder builder = ScriptInstance.createBuilder();
+				if (cachedScript != null)
+					builder.withScript(cachedScript);
+				else
+					builder.withSource(options.scriptFile).usingReaderIncluder(recordingIncluder = ScriptCache.record(INCLUDER));
+				
+				builder
 					.withEnvironment(ScriptEnvironment.create(options.stdout, options.stderr, options.stdin))
 					.withScriptStack(options.activationDepth, options.stackDepth)
 					.withRunawayLimit(options.runawayLimit)
-					.usingReaderIncluder(new ScriptReaderIncluder()
-					{
-						@Override
-						public String getIncludeResourcePath(String streamName, String path) throws IOException
-						{
-							return PreprocessorLexer.DEFAULT_INCLUDER.getIncludeResourcePath(streamName, path);
-						}
-						
-						@Override
-						public InputStream getIncludeResource(String path) throws IOException 
-						{
-							return PreprocessorLexer.DEFAULT_INCLUDER.getIncludeResource(path);
-						}
-						
-						@Override
-						public Charset getEncodingForIncludedResource(String path) 
-						{
-							return INCLUDER_CHARSET;
-						}
-					})
 				;
 
 				// ============ Add Functions =============
 				
-				final Resolver[] RESOLVERS = ArrayUtils.joinArrays(RESOLVERS_BASE, RESOLVERS_WADSCRIPT);
-				
 				for (int i = 0; i < RESOLVERS.length; i++)
 				{
 					if (i == 0)
 					{
 						if (RESOLVERS[i].namespace != null)
-							builder.withFunctionResolver(RESOLVERS[i].namespace, RESOLVERS[i].resolver);
+							builder.withFunctionResolver(RESOLVERS[i].namespace, timed(RESOLVERS[i]));
 						else
-							builder.withFunctionResolver(RESOLVERS[i].resolver);
+							builder.withFunctionResolver(timed(RESOLVERS[i]));
 					}
 					else 
 					{
 						if (RESOLVERS[i].namespace != null)
-							builder.andFunctionResolver(RESOLVERS[i].namespace, RESOLVERS[i].resolver);
+							builder.andFunctionResolver(RESOLVERS[i].namespace, timed(RESOLVERS[i]));
 						else
-							builder.andFunctionResolver(RESOLVERS[i].resolver);
+							builder.andFunctionResolver(timed(RESOLVERS[i]));
 					} 
 				}
 				
 				for (Resolver resolver : options.resolvers)
 				{
 					if (resolver.namespace != null)
-						builder.andFunctionResolver(resolver.namespace, resolver.resolver);
+						builder.andFunctionResolver(resolver.namespace, timed(resolver));
 					else
-						builder.andFunctionResolver(resolver.resolver);
+						builder.andFunctionResolver(timed(resolver));
 				}
 				
 				// ============== Add Scopes ==============
 
+				// Each run gets its own GLOBAL scope, so runs in the same JVM (batches, the GUI) do not see each other's globals.
+				ScriptVariableResolver globalScope = options.globalScope != null ? options.globalScope : new DefaultVariableResolver();
 				for (int i = 0; i < SCOPES.length; i++)
 				{
+					ScriptVariableResolver variableResolver = SCOPES[i] == SCOPE_GLOBAL ? globalScope : SCOPES[i].variableResolver;
 					if (i == 0)
 					{
-						builder.withScope(SCOPES[i].scopeName, SCOPES[i].variableResolver);
+						builder.withScope(SCOPES[i].scopeName, variableResolver);
 					}
 					else 
 					{
-						builder.andScope(SCOPES[i].scopeName, SCOPES[i].variableResolver);
+						builder.andScope(SCOPES[i].scopeName, variableResolver);
 					} 
 				}
 				
@@ -1097,8 +1137,13 @@ public final class WadScriptMain
 					builder.andScope(scope.scopeName, scope.variableResolver);
 				}
 				
-				instance = builder.createInstance();
+				try (Timings.Span span = options.timings.start("Compile"))
+				{
+					instance = builder.createInstance();
+				}
 				
+				if (recordingIncluder != null)
+					scriptCache.put(options.scriptFile, options.scriptCharset, signature, recordingIncluder, instance.getScript());
 			} 
 			catch (ScriptInstanceBuilder.BuilderException e) 
 			{
@@ -1174,10 +1219,13 @@ public final class WadScriptMain
 				try {
 					ScriptValue retval = ScriptValue.create(null);
 					
-					if (entryPoint.getParameterCount() > 0)
-						instance.call(options.entryPointName, entryParams);
-					else
-						instance.call(options.entryPointName);
+					try (Timings.Span span = options.timings.start("entry", options.entryPointName))
+					{
+						if (entryPoint.getParameterCount() > 0)
+							instance.call(options.entryPointName, entryParams);
+						else
+							instance.call(options.entryPointName);
+					}
 
 					instance.popStackValue(retval);
 					
@@ -1202,6 +1250,31 @@ public final class WadScriptMain
 			return -1;
 		}
 
+		// Wraps a resolver so that its host function calls are timed, if timings are on.
+		private ScriptFunctionResolver timed(Resolver resolver)
+		{
+			return TimedFunctionResolver.wrap(resolver.namespace, resolver.resolver, options.timings);
+		}
+
+		// Gets the signature of the functions and scopes that a script is compiled against.
+		private String getScriptSignature(Resolver[] baseResolvers, List<Resolver> additionalResolvers, List<Scope> additionalScopes)
+		{
+			List<String> names = new LinkedList<>();
+			List<Resolver> resolvers = new LinkedList<>(Arrays.asList(baseResolvers));
+			resolvers.addAll(additionalResolvers);
+			for (Resolver resolver : resolvers)
+			{
+				String prefix = resolver.namespace != null ? resolver.namespace + "::" : "";
+				for (ScriptFunctionType sft : resolver.resolver.getFunctions())
+					names.add(prefix + sft.name());
+			}
+			for (Scope scope : SCOPES)
+				names.add("scope:" + scope.scopeName);
+			for (Scope scope : additionalScopes)
+				names.add("scope:" + scope.scopeName);
+			return ScriptCache.createSignature(names);
+		}
+
 		private void doDisassemble(PrintStream out, ScriptInstance instance)
 		{
 			StringWriter sw = new StringWriter();
@@ -1249,6 +1322,12 @@ public final class WadScriptMain
 			out.println("                                     Default: 256");
 			out.println("    --stack-depth [num]          Sets the stack value depth to [num].");
 			out.println("                                     Default: 2048");
+			out.println("    --timings                    Prints how long compiling, the entry point,");
+			out.println("                                     and each host function call took to");
+			out.println("                                     STDERR at the end of the run.");
+			out.println("    --timings-trace [file]       Same as --timings, and also writes the");
+			out.println("                                     timings to [file] as a Chrome trace");
+			out.println("                                     (chrome://tracing).");
 			out.println("    --                           All tokens after this one are interpreted");
 			out.println("                                     literally as args for the script.");
 			out.println("                                     Normally, all unrecognized switches");
@@ -1375,6 +1454,7 @@ public final class WadScriptMain
 		final int STATE_SWITCHES_STACK = SWITCHES + 2;
 		final int STATE_SWITCHES_RUNAWAY = SWITCHES + 3;
 		final int STATE_SWITCHES_CHARSET = SWITCHES + 4;
+		final int STATE_SWITCHES_TIMINGS_TRACE = SWITCHES + 5;
 		int state = STATE_START;
 		
 		for (int i = 0; i < args.length; i++)
@@ -1417,6 +1497,10 @@ public final class WadScriptMain
 						state = STATE_SWITCHES_ACTIVATION;
 					else if (SWITCH_STACKDEPTH1.equalsIgnoreCase(arg))
 						state = STATE_SWITCHES_STACK;
+					else if (SWITCH_TIMINGS.equalsIgnoreCase(arg))
+						options.setTimings(new Timings("WadScript"));
+					else if (SWITCH_TIMINGS_TRACE.equalsIgnoreCase(arg))
+						state = STATE_SWITCHES_TIMINGS_TRACE;
 					else if (SWITCH_SEPARATOR.equalsIgnoreCase(arg))
 						state = STATE_ARGS;
 					else if (SWITCH_SEPARATORBASH.equalsIgnoreCase(arg))
@@ -1491,6 +1575,15 @@ public final class WadScriptMain
 				}
 				break;
 				
+				case STATE_SWITCHES_TIMINGS_TRACE:
+				{
+					if (!options.timings.isEnabled())
+						options.setTimings(new Timings("WadScript"));
+					options.timings.setTraceFile(new File(arg));
+					state = STATE_START;
+				}
+				break;
+				
 				case STATE_ARGS:
 				{
 					options.argList.add(arg);
@@ -1516,6 +1609,8 @@ public final class WadScriptMain
 			throw new OptionParseException("ERROR: Expected number after runaway limit switch.");
 		if (state == STATE_SWITCHES_CHARSET)
 			throw new OptionParseException("ERROR: Expected charset name after charset switch.");
+		if (state == STATE_SWITCHES_TIMINGS_TRACE)
+			throw new OptionParseException("ERROR: Expected file after timings trace switch.");
 		
 		return options;
 	}
@@ -1532,6 +1627,8 @@ public final class WadScriptMain
 		} catch (Exception e) {
 			e.printStackTrace(options.stderr);
 			return ERROR_UNKNOWN;
+		} finally {
+			options.timings.report(options.stderr);
 		}
 	}
 	
@@ -1545,23 +1642,35 @@ public final class WadScriptMain
 		return new Context(options);
 	}
 	
-	public static void main(String[] args)
+	/**
+	 * Runs this utility the same way as {@link #main(String[])}, but returns the exit code instead of exiting.
+	 * @param out the standard output print stream.
+	 * @param err the standard error print stream.
+	 * @param in the standard input stream.
+	 * @param args the argument args.
+	 * @return the exit code.
+	 */
+	public static int run(PrintStream out, PrintStream err, InputStream in, String ... args)
 	{
 		if (args.length == 0)
 		{
-			splash(System.out);
-			usage(System.out);
-			System.exit(-1);
-			return;
+			splash(out);
+			usage(out);
+			return -1;
 		}
 
 		try {
-			System.exit(call(options(System.out, System.err, System.in, args)));
+			return call(options(out, err, in, args));
 		} catch (OptionParseException e) {
-			System.err.println(e.getMessage());
-			System.exit(-1);
+			err.println(e.getMessage());
+			return -1;
 		}
 	}
+	
+	public static void main(String[] args)
+	{
+		System.exit(run(System.out, System.err, System.in, args));
+	}
 
 	/**
 	 * Prints the splash.
@@ -17,12 +17,15 @@ import java.io.OutputStreamWriter;
 import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URISyntaxException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import net.mtrop.doom.tools.Environment;
 import net.mtrop.doom.tools.struct.ProcessCallable;
 import net.mtrop.doom.tools.struct.ReplacerReader;
+import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.OSUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
@@ -38,6 +41,11 @@ public final class Common
 	
 	private static final ThreadLocal<byte[]> BYTE_THRESHOLD = ThreadLocal.withInitial(() -> new byte[1024]);
 	
+	/** The oldest Java version that can create class-data sharing archives from a training run. */
+	public static final int CDS_MIN_JAVA_VERSION = 13;
+	/** Class-data sharing archive file extension. */
+	public static final String CDS_ARCHIVE_EXTENSION = "jsa";
+	
 	/**
 	 * Gets the embedded version string for a tool name.
 	 * If there is no embedded version, this returns "SNAPSHOT".
@@ -166,7 +174,64 @@ public final class Common
 	 */
 	public static ProcessCallable spawnJava(Class<?> mainClass)
 	{
-		return ProcessCallable.java(mainClass, "-Xms64M", "-Xmx4G");
+		String classPath = System.getProperty("java.class.path");
+		File jarFile = getDoomToolsJarFile();
+		File archiveFile = jarFile != null ? getCDSArchiveFile(jarFile) : null;
+		if (archiveFile != null && archiveFile.exists() && getJavaMajorVersion() >= CDS_MIN_JAVA_VERSION)
+			return ProcessCallable.java(classPath, mainClass, "-Xms64M", "-Xmx4G", "-XX:SharedArchiveFile=" + archiveFile.getPath(), "-Xshare:auto");
+		else
+			return ProcessCallable.java(classPath, mainClass, "-Xms64M", "-Xmx4G");
+	}
+	
+	/**
+	 * Gets the DoomTools JAR file.
+	 * This is found the same way that the shell scripts find it (DOOMTOOLS_PATH and DOOMTOOLS_JAR),
+	 * or is the JAR that this class was loaded from, if those are not set.
+	 * @return the JAR file, or null if DoomTools is not running from a JAR.
+	 */
+	public static File getDoomToolsJarFile()
+	{
+		try {
+			String path = Environment.getDoomToolsPath();
+			String jarPath = Environment.getDoomToolsJarPath();
+			if (!ObjectUtils.isEmpty(path) && !ObjectUtils.isEmpty(jarPath))
+			{
+				File jarFile = new File(path + File.separator + jarPath);
+				if (jarFile.isFile())
+					return jarFile;
+			}
+			File file = new File(Common.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+			return file.isFile() ? file : null;
+		} catch (URISyntaxException | SecurityException | NullPointerException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Gets the class-data sharing archive file for an application JAR.
+	 * The archive lives next to the JAR, and has the same name, so that it is replaced along with it.
+	 * @param jarFile the application JAR file.
+	 * @return the archive file (may not exist).
+	 */
+	public static File getCDSArchiveFile(File jarFile)
+	{
+		return FileUtils.changeExtension(jarFile, CDS_ARCHIVE_EXTENSION);
+	}
+	
+	/**
+	 * Gets the major version of the running Java runtime (8, 11, 17, and so on).
+	 * @return the major version number, or 0 if it could not be read.
+	 */
+	public static int getJavaMajorVersion()
+	{
+		String version = System.getProperty("java.specification.version", "0");
+		if (version.startsWith("1."))
+			version = version.substring(2);
+		try {
+			return Integer.parseInt(version);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
 	}
 	
 	/**
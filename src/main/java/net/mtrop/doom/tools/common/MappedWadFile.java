@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import net.mtrop.doom.WadEntry;
+import net.mtrop.doom.exception.WadException;
+
+/**
+ * A read-only WAD file that is memory-mapped, and serves its lump data as {@link ByteBuffer} slices
+ * or byte arrays without a seek and read for each lump.
+ * <p>The directory is read from the mapping when the file is opened. Lumps can be fetched by index,
+ * by name, or by a {@link WadEntry} from a {@link net.mtrop.doom.WadFile} that was opened on the same file
+ * (the entry's offset and size are used), so tools that need a {@link net.mtrop.doom.Wad} for everything else
+ * can still read lump content through the mapping.
+ * <p>All reads are thread-safe. Closing this file releases the file handle - the mapping itself is released
+ * by the JVM when it is no longer referenced, so slices that were handed out stay valid.
+ * @author Matthew Tropiano
+ */
+public class MappedWadFile implements AutoCloseable
+{
+	private static final int HEADER_LENGTH = 12;
+	private static final int ENTRY_LENGTH = 16;
+	
+	/** The file that was mapped. */
+	private final File file;
+	/** The open channel. */
+	private FileChannel channel;
+	/** The whole file. */
+	private final MappedByteBuffer mapping;
+	/** Is this an IWAD? */
+	private final boolean iwad;
+	
+	/** Entry names. */
+	private final String[] names;
+	/** Entry offsets. */
+	private final int[] offsets;
+	/** Entry sizes. */
+	private final int[] sizes;
+
+	/**
+	 * Opens and maps a WAD file.
+	 * @param file the WAD file.
+	 * @throws WadException if the file is not a WAD file, or its directory is out of its bounds.
+	 * @throws IOException if the file could not be read.
+	 * @throws SecurityException if the file could not be read due to access rights.
+	 */
+	public MappedWadFile(File file) throws IOException
+	{
+		this.file = file;
+		this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			long length = channel.size();
+			if (length < HEADER_LENGTH)
+				throw new WadException("File " + file.getPath() + " is not a WAD file.");
+			if (length > Integer.MAX_VALUE)
+				throw new WadException("File " + file.getPath() + " is too large to be a WAD file.");
+			
+			this.mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0L, length);
+			this.mapping.order(ByteOrder.LITTLE_ENDIAN);
+			
+			byte[] type = new byte[4];
+			for (int i = 0; i < type.length; i++)
+				type[i] = mapping.get(i);
+			String typeName = new String(type, StandardCharsets.US_ASCII);
+			if (!typeName.equals("IWAD") && !typeName.equals("PWAD"))
+				throw new WadException("File " + file.getPath() + " is not a WAD file.");
+			this.iwad = typeName.equals("IWAD");
+			
+			int count = mapping.getInt(4);
+			int directory = mapping.getInt(8);
+			if (count < 0 || directory < 0 || (long)directory + (long)count * ENTRY_LENGTH > length)
+				throw new WadException("File " + file.getPath() + " has a bad directory.");
+			
+			this.names = new String[count];
+			this.offsets = new int[count];
+			this.sizes = new int[count];
+			
+			char[] nameChars = new char[8];
+			for (int i = 0; i < count; i++)
+			{
+				int e = directory + i * ENTRY_LENGTH;
+				int offset = mapping.getInt(e);
+				int size = mapping.getInt(e + 4);
+				if (offset < 0 || size < 0 || (long)offset + size > length)
+					throw new WadException("File " + file.getPath() + " has an entry out of bounds (index " + i + ").");
+				
+				int n = 0;
+				for (; n < 8; n++)
+				{
+					byte b = mapping.get(e + 8 + n);
+					if (b == 0)
+						break;
+					nameChars[n] = (char)(b & 0x0ff);
+				}
+				names[i] = new String(nameChars, 0, n);
+				offsets[i] = offset;
+				sizes[i] = size;
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * @return the file that was mapped.
+	 */
+	public File getFile()
+	{
+		return file;
+	}
+	
+	/**
+	 * @return true if this is an IWAD, false if a PWAD.
+	 */
+	public boolean isIWAD()
+	{
+		return iwad;
+	}
+	
+	/**
+	 * @return the amount of entries in this WAD.
+	 */
+	public int getEntryCount()
+	{
+		return names.length;
+	}
+	
+	/**
+	 * Gets an entry's name.
+	 * @param index the entry index.
+	 * @return the name.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public String getEntryName(int index)
+	{
+		return names[index];
+	}
+	
+	/**
+	 * Gets an entry's content size.
+	 * @param index the entry index.
+	 * @return the size in bytes.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public int getEntrySize(int index)
+	{
+		return sizes[index];
+	}
+	
+	/**
+	 * Gets the index of the first entry with a name (case-insensitive).
+	 * @param name the entry name.
+	 * @return the index, or -1 if not found.
+	 */
+	public int indexOf(String name)
+	{
+		return indexOf(name, 0);
+	}
+	
+	/**
+	 * Gets the index of the first entry with a name (case-insensitive), starting from an index.
+	 * @param name the entry name.
+	 * @param start the index to start searching from.
+	 * @return the index, or -1 if not found.
+	 */
+	public int indexOf(String name, int start)
+	{
+		for (int i = Math.max(start, 0); i < names.length; i++)
+			if (names[i].equalsIgnoreCase(name))
+				return i;
+		return -1;
+	}
+	
+	/**
+	 * Gets the index of the last entry with a name (case-insensitive).
+	 * @param name the entry name.
+	 * @return the index, or -1 if not found.
+	 */
+	public int lastIndexOf(String name)
+	{
+		for (int i = names.length - 1; i >= 0; i--)
+			if (names[i].equalsIgnoreCase(name))
+				return i;
+		return -1;
+	}
+	
+	/**
+	 * Checks if an entry exists (case-insensitive).
+	 * @param name the entry name.
+	 * @return true if so, false if not.
+	 */
+	public boolean contains(String name)
+	{
+		return indexOf(name, 0) >= 0;
+	}
+	
+	/**
+	 * Gets an entry's content as a read-only, little-endian buffer that shares the mapping (no copy is made).
+	 * @param index the entry index.
+	 * @return the content buffer.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public ByteBuffer slice(int index)
+	{
+		return sliceRange(offsets[index], sizes[index]);
+	}
+	
+	/**
+	 * Gets an entry's content as a read-only, little-endian buffer that shares the mapping (no copy is made).
+	 * @param entry an entry from this file's directory (from another view of the same file).
+	 * @return the content buffer.
+	 * @throws IndexOutOfBoundsException if the entry is out of this file's bounds.
+	 */
+	public ByteBuffer slice(WadEntry entry)
+	{
+		return sliceRange(entry.getOffset(), entry.getSize());
+	}
+	
+	/**
+	 * Gets an entry's content.
+	 * @param index the entry index.
+	 * @return a new array with the content.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public byte[] getData(int index)
+	{
+		return copyRange(offsets[index], sizes[index]);
+	}
+	
+	/**
+	 * Gets the content of the first entry with a name (case-insensitive).
+	 * @param name the entry name.
+	 * @return a new array with the content, or null if there is no such entry.
+	 */
+	public byte[] getData(String name)
+	{
+		int index = indexOf(name, 0);
+		return index >= 0 ? getData(index) : null;
+	}
+	
+	/**
+	 * Gets an entry's content.
+	 * @param entry an entry from this file's directory (from another view of the same file).
+	 * @return a new array with the content.
+	 * @throws IndexOutOfBoundsException if the entry is out of this file's bounds.
+	 */
+	public byte[] getData(WadEntry entry)
+	{
+		return copyRange(entry.getOffset(), entry.getSize());
+	}
+	
+	/**
+	 * Opens an input stream over an entry's content (no copy is made).
+	 * @param index the entry index.
+	 * @return a new input stream.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 */
+	public InputStream getInputStream(int index)
+	{
+		return new SliceInputStream(slice(index));
+	}
+	
+	/**
+	 * Opens an input stream over an entry's content (no copy is made).
+	 * @param entry an entry from this file's directory (from another view of the same file).
+	 * @return a new input stream.
+	 * @throws IndexOutOfBoundsException if the entry is out of this file's bounds.
+	 */
+	public InputStream getInputStream(WadEntry entry)
+	{
+		return new SliceInputStream(slice(entry));
+	}
+	
+	private ByteBuffer sliceRange(int offset, int size)
+	{
+		checkBounds(offset, size);
+		ByteBuffer out = mapping.duplicate();
+		out.position(offset);
+		out.limit(offset + size);
+		return out.slice().asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+	}
+	
+	private byte[] copyRange(int offset, int size)
+	{
+		checkBounds(offset, size);
+		byte[] out = new byte[size];
+		ByteBuffer buffer = mapping.duplicate();
+		buffer.position(offset);
+		buffer.get(out);
+		return out;
+	}
+	
+	private void checkBounds(int offset, int size)
+	{
+		if (offset < 0 || size < 0 || (long)offset + size > mapping.capacity())
+			throw new IndexOutOfBoundsException("Entry (offset " + offset + ", size " + size + ") is out of bounds of " + file.getPath());
+	}
+	
+	@Override
+	public synchronized void close() throws IOException
+	{
+		if (channel != null)
+		{
+			channel.close();
+			channel = null;
+		}
+	}
+	
+	// Input stream over a buffer.
+	private static class SliceInputStream extends InputStream
+	{
+		private final ByteBuffer buffer;
+		
+		private SliceInputStream(ByteBuffer buffer)
+		{
+			this.buffer = buffer;
+		}
+		
+		@Override
+		public int read()
+		{
+			return buffer.hasRemaining() ? buffer.get() & 0x0ff : -1;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len)
+		{
+			if (len == 0)
+				return 0;
+			if (!buffer.hasRemaining())
+				return -1;
+			int amount = Math.min(len, buffer.remaining());
+			buffer.get(b, off, amount);
+			return amount;
+		}
+		
+		@Override
+		public long skip(long n)
+		{
+			int amount = (int)Math.max(0L, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + amount);
+			return amount;
+		}
+		
+		@Override
+		public int available()
+		{
+			return buffer.remaining();
+		}
+	}
+	
+}
@@ -0,0 +1,390 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.common;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.mtrop.doom.tools.struct.util.FileUtils;
+
+/**
+ * A lightweight phase timer for the command-line tools.
+ * <p>Tools start a {@link Span} around each phase (or command, or function call) with {@link #start(String, String)}
+ * and close it when it is done (in a try-with-resources block). At the end of a run, {@link #report(PrintStream)}
+ * prints a breakdown of where the time went, and writes a Chrome trace-event JSON file (for <code>chrome://tracing</code>
+ * or Perfetto) if a trace file was set.
+ * <p>{@link #NONE} records nothing and allocates nothing, so tools can always time their phases and only pay for it
+ * when timings are switched on. Spans can be started and closed from any thread.
+ * @author Matthew Tropiano
+ */
+public final class Timings
+{
+	/** Category for the main phases of a tool run. */
+	public static final String CATEGORY_PHASE = "phase";
+	
+	/** Timings that are switched off. */
+	public static final Timings NONE = new Timings();
+	
+	private static final Span NO_SPAN = new Span(null, null, null, null, 0L);
+
+	/** The name of the timed process (for output). */
+	private final String processName;
+	/** Start of the run. */
+	private final long originNanos;
+	/** Recorded spans, in the order that they ended. */
+	private final List<Event> events;
+	/** The trace file to write on report, if any. */
+	private File traceFile;
+	
+	// Switched off.
+	private Timings()
+	{
+		this.processName = null;
+		this.originNanos = 0L;
+		this.events = null;
+		this.traceFile = null;
+	}
+	
+	/**
+	 * Creates new timings, starting now.
+	 * @param processName the name of the timed process (usually the tool name).
+	 */
+	public Timings(String processName)
+	{
+		this.processName = processName;
+		this.originNanos = System.nanoTime();
+		this.events = new ArrayList<>(64);
+		this.traceFile = null;
+	}
+	
+	/**
+	 * @return true if these timings record anything, false if not.
+	 */
+	public boolean isEnabled()
+	{
+		return events != null;
+	}
+	
+	/**
+	 * Sets the file to write a Chrome trace-event JSON file to on {@link #report(PrintStream)}.
+	 * @param traceFile the trace file, or null for no trace file.
+	 * @return itself.
+	 */
+	public Timings setTraceFile(File traceFile)
+	{
+		this.traceFile = traceFile;
+		return this;
+	}
+	
+	/**
+	 * @return the trace file to write on report, or null for none.
+	 */
+	public File getTraceFile()
+	{
+		return traceFile;
+	}
+	
+	/**
+	 * Starts a new span in the {@link #CATEGORY_PHASE} category.
+	 * @param name the span name.
+	 * @return a new open span (close it to record it).
+	 */
+	public Span start(String name)
+	{
+		return start(CATEGORY_PHASE, name, null);
+	}
+	
+	/**
+	 * Starts a new span.
+	 * @param category the span category (spans are grouped by category and name in the report).
+	 * @param name the span name.
+	 * @return a new open span (close it to record it).
+	 */
+	public Span start(String category, String name)
+	{
+		return start(category, name, null);
+	}
+	
+	/**
+	 * Starts a new span.
+	 * @param category the span category (spans are grouped by category and name in the report).
+	 * @param name the span name.
+	 * @param detail extra detail for this span only, shown in the trace file (can be null).
+	 * @return a new open span (close it to record it).
+	 */
+	public Span start(String category, String name, String detail)
+	{
+		if (!isEnabled())
+			return NO_SPAN;
+		return new Span(this, category, name, detail, System.nanoTime());
+	}
+	
+	// Called by spans.
+	private void record(Span span, long endNanos)
+	{
+		Thread thread = Thread.currentThread();
+		Event event = new Event(span.category, span.name, span.detail, span.startNanos - originNanos, endNanos - span.startNanos, thread.getId(), thread.getName());
+		synchronized (events)
+		{
+			events.add(event);
+		}
+	}
+	
+	/**
+	 * Prints the timing breakdown and writes the trace file, if one was set.
+	 * Does nothing if these timings are switched off.
+	 * @param out the stream to print to.
+	 */
+	public void report(PrintStream out)
+	{
+		if (!isEnabled())
+			return;
+		printSummary(out);
+		if (traceFile != null)
+		{
+			try {
+				writeTrace(traceFile);
+				out.println("Wrote trace to " + traceFile.getPath());
+			} catch (IOException e) {
+				out.println("ERROR: Could not write trace file " + traceFile.getPath() + ": " + e.getLocalizedMessage());
+			} catch (SecurityException e) {
+				out.println("ERROR: Could not write trace file " + traceFile.getPath() + ": Access denied.");
+			}
+		}
+	}
+	
+	/**
+	 * Prints the timing breakdown: for each category and name, how many spans there were, their total and longest time,
+	 * and their total as a percentage of the whole run so far. Categories are in the order that they were first seen,
+	 * and names are listed slowest first.
+	 * @param out the stream to print to.
+	 */
+	public void printSummary(PrintStream out)
+	{
+		if (!isEnabled())
+			return;
+		
+		long totalNanos = System.nanoTime() - originNanos;
+		Map<String, Map<String, Total>> totals = new LinkedHashMap<>();
+		for (Event event : getEvents())
+		{
+			Total total = totals.computeIfAbsent(event.category, (c) -> new LinkedHashMap<>()).computeIfAbsent(event.name, (n) -> new Total(n));
+			total.count++;
+			total.nanos += event.durationNanos;
+			total.maxNanos = Math.max(total.maxNanos, event.durationNanos);
+		}
+		
+		int nameWidth = 4;
+		for (Map<String, Total> names : totals.values())
+			for (String name : names.keySet())
+				nameWidth = Math.max(nameWidth, Math.min(name.length(), 60));
+		String rowFormat = "%-10s %-" + nameWidth + "s %7s %12s %12s %6s\n";
+		
+		out.printf("--- Timings: %s, %.3f ms ---\n", processName, totalNanos / 1000000.0);
+		out.printf(rowFormat, "Category", "Name", "Count", "Total ms", "Max ms", "%");
+		for (Map.Entry<String, Map<String, Total>> category : totals.entrySet())
+		{
+			List<Total> list = new ArrayList<>(category.getValue().values());
+			list.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+			for (Total total : list)
+			{
+				String name = total.name.length() > nameWidth ? total.name.substring(0, nameWidth - 3) + "..." : total.name;
+				out.printf(rowFormat, category.getKey(), name, 
+					String.valueOf(total.count), 
+					String.format("%.3f", total.nanos / 1000000.0), 
+					String.format("%.3f", total.maxNanos / 1000000.0), 
+					String.format("%.1f", totalNanos > 0 ? total.nanos * 100.0 / totalNanos : 0.0)
+				);
+			}
+		}
+		out.println("---");
+	}
+	
+	/**
+	 * Writes the recorded spans to a file as Chrome trace-event JSON (complete events, one per span, plus process and thread names).
+	 * @param file the file to write.
+	 * @throws IOException if the file could not be written.
+	 * @throws SecurityException if the file could not be written due to access rights.
+	 */
+	public void writeTrace(File file) throws IOException
+	{
+		if (!isEnabled())
+			return;
+		if (!FileUtils.createPathForFile(file))
+			throw new IOException("Could not create path for trace file.");
+		
+		List<Event> list = getEvents();
+		list.sort((a, b) -> Long.compare(a.startNanos, b.startNanos));
+		
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+		{
+			writer.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+			writer.append("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":1,\"tid\":0,\"args\":{\"name\":");
+			writeString(writer, processName);
+			writer.append("}}");
+			
+			Map<Long, String> threadNames = new LinkedHashMap<>();
+			for (Event event : list)
+				threadNames.putIfAbsent(event.threadId, event.threadName);
+			for (Map.Entry<Long, String> thread : threadNames.entrySet())
+			{
+				writer.append(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(String.valueOf(thread.getKey()));
+				writer.append(",\"args\":{\"name\":");
+				writeString(writer, thread.getValue());
+				writer.append("}}");
+			}
+			
+			for (Event event : list)
+			{
+				writer.append(",\n{\"name\":");
+				writeString(writer, event.name);
+				writer.append(",\"cat\":");
+				writeString(writer, event.category);
+				writer.append(",\"ph\":\"X\",\"pid\":1,\"tid\":").append(String.valueOf(event.threadId));
+				writer.append(",\"ts\":").append(micros(event.startNanos));
+				writer.append(",\"dur\":").append(micros(event.durationNanos));
+				if (event.detail != null)
+				{
+					writer.append(",\"args\":{\"detail\":");
+					writeString(writer, event.detail);
+					writer.append('}');
+				}
+				writer.append('}');
+			}
+			writer.append("\n]}\n");
+		}
+	}
+	
+	private List<Event> getEvents()
+	{
+		synchronized (events)
+		{
+			return new ArrayList<>(events);
+		}
+	}
+	
+	private static String micros(long nanos)
+	{
+		return String.format("%d.%03d", nanos / 1000L, nanos % 1000L);
+	}
+	
+	private static void writeString(Writer writer, String value) throws IOException
+	{
+		writer.append('"');
+		for (int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			switch (c)
+			{
+				case '"':
+					writer.append("\\\"");
+					break;
+				case '\\':
+					writer.append("\\\\");
+					break;
+				case '\n':
+					writer.append("\\n");
+					break;
+				case '\r':
+					writer.append("\\r");
+					break;
+				case '\t':
+					writer.append("\\t");
+					break;
+				default:
+					if (c < 0x20)
+						writer.append(String.format("\\u%04x", (int)c));
+					else
+						writer.append(c);
+					break;
+			}
+		}
+		writer.append('"');
+	}
+	
+	/**
+	 * An open timed span. Closing it records it (only the first close counts).
+	 */
+	public static final class Span implements AutoCloseable
+	{
+		private final Timings timings;
+		private final String category;
+		private final String name;
+		private final String detail;
+		private final long startNanos;
+		private boolean closed;
+		
+		private Span(Timings timings, String category, String name, String detail, long startNanos)
+		{
+			this.timings = timings;
+			this.category = category;
+			this.name = name;
+			this.detail = detail;
+			this.startNanos = startNanos;
+			this.closed = false;
+		}
+		
+		@Override
+		public void close()
+		{
+			if (timings == null || closed)
+				return;
+			closed = true;
+			timings.record(this, System.nanoTime());
+		}
+	}
+	
+	// A recorded span.
+	private static class Event
+	{
+		private final String category;
+		private final String name;
+		private final String detail;
+		private final long startNanos;
+		private final long durationNanos;
+		private final long threadId;
+		private final String threadName;
+		
+		private Event(String category, String name, String detail, long startNanos, long durationNanos, long threadId, String threadName)
+		{
+			this.category = category;
+			this.name = name;
+			this.detail = detail;
+			this.startNanos = startNanos;
+			this.durationNanos = durationNanos;
+			this.threadId = threadId;
+			this.threadName = threadName;
+		}
+	}
+	
+	// Totals for one category and name.
+	private static class Total
+	{
+		private final String name;
+		private int count;
+		private long nanos;
+		private long maxNanos;
+		
+		private Total(String name)
+		{
+			this.name = name;
+			this.count = 0;
+			this.nanos = 0L;
+			this.maxNanos = 0L;
+		}
+	}
+	
+}
@@ -272,6 +272,7 @@ public final class DecoHackParser extends Lexer.Parser
 		private AbstractPatchContext<?> context;
 		private String[] warnings;
 		private String[] errors;
+		private Message[] messages;
 		
 		public AbstractPatchContext<?> getContext() 
 		{
@@ -287,6 +288,66 @@ public final class DecoHackParser extends Lexer.Parser
 		{
 			return errors;
 		}
+		
+		/**
+		 * @return all of the warnings and errors, in the order that they were found, with their locations.
+		 */
+		public Message[] getMessages() 
+		{
+			return messages;
+		}
+	}
+	
+	/**
+	 * A single warning or error, with the location that it was reported at.
+	 * The full message text is the same as the one in {@link Result#getWarnings()} or {@link Result#getErrors()}.
+	 */
+	public static final class Message
+	{
+		private boolean error;
+		private String streamName;
+		private int lineNumber;
+		private String text;
+		
+		private Message(boolean error, String streamName, int lineNumber, String text)
+		{
+			this.error = error;
+			this.streamName = streamName;
+			this.lineNumber = lineNumber;
+			this.text = text;
+		}
+		
+		/**
+		 * @return true if this is an error, false if a warning.
+		 */
+		public boolean isError() 
+		{
+			return error;
+		}
+		
+		/**
+		 * @return the name of the stream that this was reported in, or null if the stream had no name or had ended.
+		 */
+		public String getStreamName() 
+		{
+			return streamName;
+		}
+		
+		/**
+		 * @return the line number that this was reported on, or -1 if the stream had ended.
+		 */
+		public int getLineNumber() 
+		{
+			return lineNumber;
+		}
+		
+		/**
+		 * @return the full message text.
+		 */
+		public String getText() 
+		{
+			return text;
+		}
 	}
 	
 	/**
@@ -306,6 +367,7 @@ public final class DecoHackParser extends Lexer.Parser
 		out.context = parser.parse();
 		out.warnings = parser.getWarningMessages();
 		out.errors = parser.getErrorMessages();
+		out.messages = parser.getMessages();
 		return out;
 	}
 
@@ -337,6 +399,7 @@ public final class DecoHackParser extends Lexer.Parser
 		out.context = parser.parse();
 		out.warnings = parser.getWarningMessages();
 		out.errors = parser.getErrorMessages();
+		out.messages = parser.getMessages();
 		return out;
 	}
 
@@ -7135,6 +7198,8 @@ public final class DecoHackParser extends Lexer.Parser
 	private Set<String> warningSuppressions;
 	/** List of warnings. */
 	private LinkedList<String> warnings;
+	/** List of all messages, with locations. */
+	private LinkedList<Message> messages;
 	/** Editor directives. */
 	private Map<String, String> editorKeys;
 	/** Last auto state index (for slightly better search continuation). */
@@ -7155,6 +7220,7 @@ public final class DecoHackParser extends Lexer.Parser
 		this.warnings = new LinkedList<>();
 		this.warningSuppressions = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 		this.errors = new LinkedList<>();
+		this.messages = new LinkedList<>();
 		this.editorKeys = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 		this.lastAutoStateIndex = 0;
 		this.lastAutoThingIndex = 0;
@@ -7166,7 +7232,11 @@ public final class DecoHackParser extends Lexer.Parser
 	private void addWarningMessage(String warningType, String message, Object... args)
 	{
 		if (!warningSuppressions.contains(warningType))
-			warnings.add(getTokenInfoLine(String.format(warningType.toUpperCase() + ": " + message, args)));
+		{
+			String text = getTokenInfoLine(String.format(warningType.toUpperCase() + ": " + message, args));
+			warnings.add(text);
+			addMessage(false, text);
+		}
 	}
 	
 	private String[] getWarningMessages()
@@ -7178,7 +7248,9 @@ public final class DecoHackParser extends Lexer.Parser
 	
 	private void addErrorMessage(String message, Object... args)
 	{
-		errors.add(getTokenInfoLine(String.format(message, args)));
+		String text = getTokenInfoLine(String.format(message, args));
+		errors.add(text);
+		addMessage(true, text);
 	}
 	
 	private String[] getErrorMessages()
@@ -7188,6 +7260,22 @@ public final class DecoHackParser extends Lexer.Parser
 		return out;
 	}
 	
+	private void addMessage(boolean error, String text)
+	{
+		Lexer.Token token = currentToken();
+		if (token != null)
+			messages.add(new Message(error, token.getStreamName(), token.getLineNumber(), text));
+		else
+			messages.add(new Message(error, null, -1, text));
+	}
+	
+	private Message[] getMessages()
+	{
+		Message[] out = new Message[messages.size()];
+		messages.toArray(out);
+		return out;
+	}
+	
 	/**
 	 * Starts parsing a script.
 	 * @return the exporter for the script.
@@ -11,9 +11,6 @@ import net.mtrop.doom.tools.decohack.data.DEHSound;
 import net.mtrop.doom.tools.decohack.data.DEHThing;
 import net.mtrop.doom.tools.decohack.data.DEHWeapon;
 import net.mtrop.doom.tools.decohack.data.enums.DEHFlag;
-import net.mtrop.doom.tools.decohack.data.enums.DEHThingFlag;
-import net.mtrop.doom.tools.decohack.data.enums.DEHThingID24Flag;
-import net.mtrop.doom.tools.decohack.data.enums.DEHThingMBF21Flag;
 import net.mtrop.doom.tools.decohack.data.enums.DEHWeaponMBF21Flag;
 
 /**
@@ -1198,3802 +1195,145 @@ interface Constants
 		DEHSound.create(60, false)
 	};
 
-	static final DEHThing[] DEHTHING = 
-	{
+	static final SourceTable<DEHThing> DEHTHING = SourceTable.things(0,
 		null,
-		(new DEHThing()).setName("Player")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(100)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(0)
-			.setPainChance(255)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.PICKUP,
-				DEHThingFlag.NOTDEATHMATCH
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(149)
-			.setWalkFrameIndex(150)
-			.setPainFrameIndex(156)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(154)
-			.setDeathFrameIndex(158)
-			.setExtremeDeathFrameIndex(165)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(25)
-			.setDeathSoundPosition(57)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Trooper")
-			.setEditorNumber(3004)
-			.setHealth(20)
-			.setSpeed(8)
-			.setRadius(20)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(200)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(174)
-			.setWalkFrameIndex(176)
-			.setPainFrameIndex(187)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(184)
-			.setDeathFrameIndex(189)
-			.setExtremeDeathFrameIndex(194)
-			.setRaiseFrameIndex(203)
-			.setSeeSoundPosition(36)
-			.setAttackSoundPosition(1)
-			.setPainSoundPosition(27)
-			.setDeathSoundPosition(59)
-			.setActiveSoundPosition(75)
-			.setDroppedItem(64),
-		(new DEHThing()).setName("Sargeant")
-			.setEditorNumber(9)
-			.setHealth(30)
-			.setSpeed(8)
-			.setRadius(20)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(170)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(207)
-			.setWalkFrameIndex(209)
-			.setPainFrameIndex(220)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(217)
-			.setDeathFrameIndex(222)
-			.setExtremeDeathFrameIndex(227)
-			.setRaiseFrameIndex(236)
-			.setSeeSoundPosition(37)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(27)
-			.setDeathSoundPosition(60)
-			.setActiveSoundPosition(75)
-			.setDroppedItem(78),
-		(new DEHThing()).setName("Archvile")
-			.setEditorNumber(64)
-			.setHealth(700)
-			.setSpeed(15)
-			.setRadius(20)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(10)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(500)
-			.setSpawnFrameIndex(241)
-			.setWalkFrameIndex(243)
-			.setPainFrameIndex(269)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(255)
-			.setDeathFrameIndex(271)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(48)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(28)
-			.setDeathSoundPosition(71)
-			.setActiveSoundPosition(80)
-			.setMBF21Flags(DEHFlag.flags(
-				DEHThingMBF21Flag.SHORTMRANGE,
-				DEHThingMBF21Flag.DMGIGNORED,
-				DEHThingMBF21Flag.NOTHRESHOLD
-			)),
-		(new DEHThing()).setName("Archvile attack")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(281)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Revenant")
-			.setEditorNumber(66)
-			.setHealth(300)
-			.setSpeed(10)
-			.setRadius(20)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(100)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(500)
-			.setSpawnFrameIndex(321)
-			.setWalkFrameIndex(323)
-			.setPainFrameIndex(343)
-			.setMeleeFrameIndex(335)
-			.setMissileFrameIndex(339)
-			.setDeathFrameIndex(345)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(351)
-			.setSeeSoundPosition(106)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(27)
-			.setDeathSoundPosition(74)
-			.setActiveSoundPosition(105)
-			.setMBF21Flags(DEHFlag.flags(
-				DEHThingMBF21Flag.LONGMELEE,
-				DEHThingMBF21Flag.RANGEHALF
-			)),
-		(new DEHThing()).setName("Revenant fireball")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(10)
-			.setRadius(11)
-			.setHeight(8)
-			.setDamage(10)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(316)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(318)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(107)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(82)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Fireball trail")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(311)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Mancubus")
-			.setEditorNumber(67)
-			.setHealth(600)
-			.setSpeed(8)
-			.setRadius(48)
-			.setHeight(64)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(80)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(1000)
-			.setSpawnFrameIndex(362)
-			.setWalkFrameIndex(364)
-			.setPainFrameIndex(386)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(376)
-			.setDeathFrameIndex(388)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(398)
-			.setSeeSoundPosition(49)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(29)
-			.setDeathSoundPosition(100)
-			.setActiveSoundPosition(75)
-			.setMBF21Flags(DEHFlag.flags(
-				DEHThingMBF21Flag.MAP07BOSS1
-			)),
-		(new DEHThing()).setName("Mancubus fireball")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(20)
-			.setRadius(6)
-			.setHeight(8)
-			.setDamage(8)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(357)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(359)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(16)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(17)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Chaingun Sargeant")
-			.setEditorNumber(65)
-			.setHealth(70)
-			.setSpeed(8)
-			.setRadius(20)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(170)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(406)
-			.setWalkFrameIndex(408)
-			.setPainFrameIndex(420)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(416)
-			.setDeathFrameIndex(422)
-			.setExtremeDeathFrameIndex(429)
-			.setRaiseFrameIndex(435)
-			.setSeeSoundPosition(37)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(27)
-			.setDeathSoundPosition(60)
-			.setActiveSoundPosition(75)
-			.setDroppedItem(74),
-		(new DEHThing()).setName("Imp")
-			.setEditorNumber(3001)
-			.setHealth(60)
-			.setSpeed(8)
-			.setRadius(20)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(200)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(442)
-			.setWalkFrameIndex(444)
-			.setPainFrameIndex(455)
-			.setMeleeFrameIndex(452)
-			.setMissileFrameIndex(452)
-			.setDeathFrameIndex(457)
-			.setExtremeDeathFrameIndex(462)
-			.setRaiseFrameIndex(470)
-			.setSeeSoundPosition(39)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(27)
-			.setDeathSoundPosition(62)
-			.setActiveSoundPosition(76),
-		(new DEHThing()).setName("Demon")
-			.setEditorNumber(3002)
-			.setHealth(150)
-			.setSpeed(10)
-			.setRadius(30)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(180)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(400)
-			.setSpawnFrameIndex(475)
-			.setWalkFrameIndex(477)
-			.setPainFrameIndex(488)
-			.setMeleeFrameIndex(485)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(490)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(496)
-			.setSeeSoundPosition(41)
-			.setAttackSoundPosition(52)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(64)
-			.setActiveSoundPosition(77),
-		(new DEHThing()).setName("Spectre")
-			.setEditorNumber(58)
-			.setHealth(150)
-			.setSpeed(10)
-			.setRadius(30)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(180)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.SHADOW,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(400)
-			.setSpawnFrameIndex(475)
-			.setWalkFrameIndex(477)
-			.setPainFrameIndex(488)
-			.setMeleeFrameIndex(485)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(490)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(496)
-			.setSeeSoundPosition(41)
-			.setAttackSoundPosition(52)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(64)
-			.setActiveSoundPosition(77),
-		(new DEHThing()).setName("Cacodemon")
-			.setEditorNumber(3005)
-			.setHealth(400)
-			.setSpeed(8)
-			.setRadius(31)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(128)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.FLOAT,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(400)
-			.setSpawnFrameIndex(502)
-			.setWalkFrameIndex(503)
-			.setPainFrameIndex(507)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(504)
-			.setDeathFrameIndex(510)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(516)
-			.setSeeSoundPosition(42)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(65)
-			.setActiveSoundPosition(77),
-		(new DEHThing()).setName("Baron of Hell")
-			.setEditorNumber(3003)
-			.setHealth(1000)
-			.setSpeed(8)
-			.setRadius(24)
-			.setHeight(64)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(50)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(1000)
-			.setSpawnFrameIndex(527)
-			.setWalkFrameIndex(529)
-			.setPainFrameIndex(540)
-			.setMeleeFrameIndex(537)
-			.setMissileFrameIndex(537)
-			.setDeathFrameIndex(542)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(549)
-			.setSeeSoundPosition(43)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(67)
-			.setActiveSoundPosition(77)
-			.setMBF21Flags(DEHFlag.flags(
-				DEHThingMBF21Flag.E1M8BOSS
-			))
-			.setProjectileGroup(1),
-		(new DEHThing()).setName("Baron fireball")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(15)
-			.setRadius(6)
-			.setHeight(8)
-			.setDamage(8)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(522)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(524)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(16)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(17)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setFastSpeed(20),
-		(new DEHThing()).setName("Hell Knight")
-			.setEditorNumber(69)
-			.setHealth(500)
-			.setSpeed(8)
-			.setRadius(24)
-			.setHeight(64)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(50)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(1000)
-			.setSpawnFrameIndex(556)
-			.setWalkFrameIndex(558)
-			.setPainFrameIndex(569)
-			.setMeleeFrameIndex(566)
-			.setMissileFrameIndex(566)
-			.setDeathFrameIndex(571)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(578)
-			.setSeeSoundPosition(47)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(72)
-			.setActiveSoundPosition(77)
-			.setProjectileGroup(1),
-		(new DEHThing()).setName("Lost Soul")
-			.setEditorNumber(3006)
-			.setHealth(100)
-			.setSpeed(8)
-			.setRadius(16)
-			.setHeight(56)
-			.setDamage(3)
-			.setReactionTime(8)
-			.setPainChance(256)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.FLOAT
-			))
-			.setMass(50)
-			.setSpawnFrameIndex(585)
-			.setWalkFrameIndex(587)
-			.setPainFrameIndex(593)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(589)
-			.setDeathFrameIndex(595)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(51)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(17)
-			.setActiveSoundPosition(77)
-			.setMBF21Flags(DEHFlag.flags(
-				DEHThingMBF21Flag.RANGEHALF
-			)),
-		(new DEHThing()).setName("Spiderdemon")
-			.setEditorNumber(7)
-			.setHealth(3000)
-			.setSpeed(12)
-			.setRadius(128)
-			.setHeight(100)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(40)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(1000)
-			.setSpawnFrameIndex(601)
-			.setWalkFrameIndex(603)
-			.setPainFrameIndex(619)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(615)
-			.setDeathFrameIndex(621)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(45)
-			.setAttackSoundPosition(2)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(69)
-			.setActiveSoundPosition(77)
-			.setMBF21Flags(DEHFlag.flags(
-				DEHThingMBF21Flag.NORADIUSDMG,
-				DEHThingMBF21Flag.RANGEHALF,
-				DEHThingMBF21Flag.FULLVOLSOUNDS,
-				DEHThingMBF21Flag.E3M8BOSS,
-				DEHThingMBF21Flag.E4M8BOSS
-			)),
-		(new DEHThing()).setName("Arachnotron")
-			.setEditorNumber(68)
-			.setHealth(500)
-			.setSpeed(12)
-			.setRadius(64)
-			.setHeight(64)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(128)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(600)
-			.setSpawnFrameIndex(632)
-			.setWalkFrameIndex(634)
-			.setPainFrameIndex(651)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(647)
-			.setDeathFrameIndex(653)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(660)
-			.setSeeSoundPosition(46)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(70)
-			.setActiveSoundPosition(78)
-			.setMBF21Flags(DEHFlag.flags(
-				DEHThingMBF21Flag.MAP07BOSS2
-			)),
-		(new DEHThing()).setName("Cyberdemon")
-			.setEditorNumber(16)
-			.setHealth(4000)
-			.setSpeed(16)
-			.setRadius(40)
-			.setHeight(110)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(20)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(1000)
-			.setSpawnFrameIndex(674)
-			.setWalkFrameIndex(676)
-			.setPainFrameIndex(690)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(684)
-			.setDeathFrameIndex(691)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(44)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(26)
-			.setDeathSoundPosition(68)
-			.setActiveSoundPosition(77)
-			.setMBF21Flags(DEHFlag.flags(
-				DEHThingMBF21Flag.NORADIUSDMG,
-				DEHThingMBF21Flag.HIGHERMPROB,
-				DEHThingMBF21Flag.RANGEHALF,
-				DEHThingMBF21Flag.FULLVOLSOUNDS,
-				DEHThingMBF21Flag.E2M8BOSS,
-				DEHThingMBF21Flag.E4M6BOSS
-			)),
-		(new DEHThing()).setName("Pain Elemental")
-			.setEditorNumber(71)
-			.setHealth(400)
-			.setSpeed(8)
-			.setRadius(31)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(128)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.FLOAT,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(400)
-			.setSpawnFrameIndex(701)
-			.setWalkFrameIndex(702)
-			.setPainFrameIndex(712)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(708)
-			.setDeathFrameIndex(714)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(720)
-			.setSeeSoundPosition(50)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(30)
-			.setDeathSoundPosition(73)
-			.setActiveSoundPosition(77),
-		(new DEHThing()).setName("SS Nazi")
-			.setEditorNumber(84)
-			.setHealth(50)
-			.setSpeed(8)
-			.setRadius(20)
-			.setHeight(56)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(170)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(726)
-			.setWalkFrameIndex(728)
-			.setPainFrameIndex(742)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(736)
-			.setDeathFrameIndex(744)
-			.setExtremeDeathFrameIndex(749)
-			.setRaiseFrameIndex(758)
-			.setSeeSoundPosition(101)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(27)
-			.setDeathSoundPosition(102)
-			.setActiveSoundPosition(75)
-			.setDroppedItem(64),
-		(new DEHThing()).setName("Commander Keen")
-			.setEditorNumber(72)
-			.setHealth(100)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(72)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(256)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.COUNTKILL
-			))
-			.setMass(10000000)
-			.setSpawnFrameIndex(763)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(776)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(764)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(103)
-			.setDeathSoundPosition(104)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Big Brain")
-			.setEditorNumber(88)
-			.setHealth(250)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(255)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE
-			))
-			.setMass(10000000)
-			.setSpawnFrameIndex(778)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(779)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(780)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(97)
-			.setDeathSoundPosition(98)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Demon spawner")
-			.setEditorNumber(89)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(32)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOSECTOR,
-				DEHThingFlag.NOBLOCKMAP
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(784)
-			.setWalkFrameIndex(785)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Demon spawn spot")
-			.setEditorNumber(87)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(32)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOSECTOR,
-				DEHThingFlag.NOBLOCKMAP
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(DEHThing.FRAME_NULL)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Demon spawn cube")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(10)
-			.setRadius(6)
-			.setHeight(32)
-			.setDamage(3)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.NOCLIP,
-				DEHThingFlag.MISSILE
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(787)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(94)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(17)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Demon spawn fire")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(791)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Barrel")
-			.setEditorNumber(2035)
-			.setHealth(20)
-			.setSpeed(0)
-			.setRadius(10)
-			.setHeight(42)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SHOOTABLE,
-				DEHThingFlag.NOBLOOD
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(806)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(808)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(82)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Imp fireball")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(10)
-			.setRadius(6)
-			.setHeight(8)
-			.setDamage(3)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(97)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(99)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(16)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(17)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setFastSpeed(20),
-		(new DEHThing()).setName("Caco fireball")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(10)
-			.setRadius(6)
-			.setHeight(8)
-			.setDamage(5)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(102)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(104)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(16)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(17)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setFastSpeed(20),
-		(new DEHThing()).setName("Rocket in flight")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(20)
-			.setRadius(11)
-			.setHeight(8)
-			.setDamage(20)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(114)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(127)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(14)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(82)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Plasma projectile")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(25)
-			.setRadius(13)
-			.setHeight(8)
-			.setDamage(5)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(107)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(109)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(8)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(17)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("BFG projectile")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(25)
-			.setRadius(13)
-			.setHeight(8)
-			.setDamage(100)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(115)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(117)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(15)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Arachnotron projectile")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(25)
-			.setRadius(13)
-			.setHeight(8)
-			.setDamage(5)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.DROPOFF,
-				DEHThingFlag.MISSILE,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(667)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(669)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(8)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(17)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Bullet puff")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(93)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Blood splat")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(90)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Teleport fog")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(130)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Item respawn fog")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(142)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Teleport exit")
-			.setEditorNumber(14)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOSECTOR,
-				DEHThingFlag.NOBLOCKMAP
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(DEHThing.FRAME_NULL)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("BFG impact")
-			.setEditorNumber(DEHThing.EDITORNUMBER_NONE)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(123)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		// ========== Start Pickups ==========
-		(new DEHThing()).setName("Green armor")
-			.setEditorNumber(2018)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(802)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTARMOR"),
-		(new DEHThing()).setName("Blue armor")
-			.setEditorNumber(2019)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(804)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTMEGA"),
-		(new DEHThing()).setName("Health potion")
-			.setEditorNumber(2014)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(816)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTHTHBONUS"),
-		(new DEHThing()).setName("Armor helmet")
-			.setEditorNumber(2015)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(822)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTARMBONUS"),
-		(new DEHThing()).setName("Blue keycard")
-			.setEditorNumber(5)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.NOTDEATHMATCH
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(828)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTBLUECARD")
-			.setID24Flags(DEHFlag.flags(
-				DEHThingID24Flag.SPECIALSTAYSCOOP
-			)),
-		(new DEHThing()).setName("Red keycard")
-			.setEditorNumber(13)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.NOTDEATHMATCH
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(830)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTREDCARD")
-			.setID24Flags(DEHFlag.flags(
-				DEHThingID24Flag.SPECIALSTAYSCOOP
-			)),
-		(new DEHThing()).setName("Yellow keycard")
-			.setEditorNumber(6)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.NOTDEATHMATCH
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(832)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTYELWCARD")
-			.setID24Flags(DEHFlag.flags(
-				DEHThingID24Flag.SPECIALSTAYSCOOP
-			)),
-		(new DEHThing()).setName("Yellow skull key")
-			.setEditorNumber(39)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.NOTDEATHMATCH
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(838)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTYELWSKUL")
-			.setID24Flags(DEHFlag.flags(
-				DEHThingID24Flag.SPECIALSTAYSCOOP
-			)),
-		(new DEHThing()).setName("Red skull key")
-			.setEditorNumber(38)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.NOTDEATHMATCH
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(836)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTREDSKULL")
-			.setID24Flags(DEHFlag.flags(
-				DEHThingID24Flag.SPECIALSTAYSCOOP
-			)),
-		(new DEHThing()).setName("Blue skull key")
-			.setEditorNumber(40)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.NOTDEATHMATCH
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(834)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTBLUESKUL")
-			.setID24Flags(DEHFlag.flags(
-				DEHThingID24Flag.SPECIALSTAYSCOOP
-			)),
-		(new DEHThing()).setName("Stimpack")
-			.setEditorNumber(2011)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(840)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Medical kit")
-			.setEditorNumber(2012)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(841)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTMEDIKIT"),
-		(new DEHThing()).setName("Soul sphere")
-			.setEditorNumber(2013)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(842)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTSUPER"),
-		(new DEHThing()).setName("Invulnerability")
-			.setEditorNumber(2022)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(848)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTINVUL"),
-		(new DEHThing()).setName("Berserk sphere")
-			.setEditorNumber(2023)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(852)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTBERSERK"),
-		(new DEHThing()).setName("Blur sphere")
-			.setEditorNumber(2024)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(853)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTINVIS"),
-		(new DEHThing()).setName("Radiation suit")
-			.setEditorNumber(2025)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(861)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTSUIT"),
-		(new DEHThing()).setName("Computer map")
-			.setEditorNumber(2026)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(862)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTMAP"),
-		(new DEHThing()).setName("Lite amplification visor")
-			.setEditorNumber(2045)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(868)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTVISOR"),
-		(new DEHThing()).setName("Mega sphere")
-			.setEditorNumber(83)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL,
-				DEHThingFlag.COUNTITEM,
-				DEHThingFlag.TRANSLUCENT
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(857)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTMSPHERE"),
-		(new DEHThing()).setName("Ammo clip")
-			.setEditorNumber(2007)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(870)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTCLIP"),
-		(new DEHThing()).setName("Box of ammo")
-			.setEditorNumber(2048)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(871)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTCLIPBOX"),
-		(new DEHThing()).setName("Rocket")
-			.setEditorNumber(2010)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(872)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTROCKET"),
-		(new DEHThing()).setName("Box of rockets")
-			.setEditorNumber(2046)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(873)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTROCKBOX"),
-		(new DEHThing()).setName("Energy cell")
-			.setEditorNumber(2047)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(874)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTCELL"),
-		(new DEHThing()).setName("Energy cell pack")
-			.setEditorNumber(17)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(875)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTCELLBOX"),
-		(new DEHThing()).setName("Shells")
-			.setEditorNumber(2008)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(876)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTSHELLS"),
-		(new DEHThing()).setName("Box of shells")
-			.setEditorNumber(2049)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(877)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTSHELLBOX"),
-		(new DEHThing()).setName("Backpack")
-			.setEditorNumber(8)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(878)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTBACKPACK"),
-		(new DEHThing()).setName("BFG 9000")
-			.setEditorNumber(2006)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(879)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTBFG9000"),
-		(new DEHThing()).setName("Chaingun")
-			.setEditorNumber(2002)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(880)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTCHAINGUN"),
-		(new DEHThing()).setName("Chainsaw")
-			.setEditorNumber(2005)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(881)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTCHAINSAW"),
-		(new DEHThing()).setName("Rocket launcher")
-			.setEditorNumber(2003)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(882)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTLAUNCHER"),
-		(new DEHThing()).setName("Plasma rifle")
-			.setEditorNumber(2004)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(883)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTPLASMA"),
-		(new DEHThing()).setName("Shotgun")
-			.setEditorNumber(2001)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(884)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTSHOTGUN"),
-		(new DEHThing()).setName("Super shotgun")
-			.setEditorNumber(82)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPECIAL
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(885)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE)
-			.setPickupMessageMnemonic("GOTSHOTGUN2"),
-		// ========== End Pickups ==========
-		(new DEHThing()).setName("Tall lamp")
-			.setEditorNumber(85)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(959)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Tall lamp 2")
-			.setEditorNumber(86)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(963)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Short lamp")
-			.setEditorNumber(2028)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(886)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Tall green pillar")
-			.setEditorNumber(30)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(907)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Short green pillar")
-			.setEditorNumber(31)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(908)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Tall red pillar")
-			.setEditorNumber(32)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(909)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Short red pillar")
-			.setEditorNumber(33)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(910)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Pillar with skull")
-			.setEditorNumber(37)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(913)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Pillar with heart")
-			.setEditorNumber(36)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(924)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Eye in symbol")
-			.setEditorNumber(41)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(917)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Flaming skulls")
-			.setEditorNumber(42)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(921)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Grey tree")
-			.setEditorNumber(43)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(914)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Tall blue torch")
-			.setEditorNumber(44)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(926)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Tall green torch")
-			.setEditorNumber(45)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(930)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Tall red torch")
-			.setEditorNumber(46)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(934)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Small blue torch")
-			.setEditorNumber(55)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(938)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Small green torch")
-			.setEditorNumber(56)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(942)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Small red torch")
-			.setEditorNumber(57)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(946)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Brown stub")
-			.setEditorNumber(47)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(906)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Technical column")
-			.setEditorNumber(48)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(916)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Candle")
-			.setEditorNumber(34)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(911)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Candelabra")
-			.setEditorNumber(35)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(912)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Swaying body")
-			.setEditorNumber(49)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(68)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(888)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging arms out")
-			.setEditorNumber(50)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(84)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(902)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("One-legged body")
-			.setEditorNumber(51)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(84)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(903)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging torso")
-			.setEditorNumber(52)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(68)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(904)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging leg")
-			.setEditorNumber(53)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(52)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(905)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging arms out 2")
-			.setEditorNumber(59)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(84)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(902)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging torso 2")
-			.setEditorNumber(60)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(68)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(904)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("One-legged body 2")
-			.setEditorNumber(61)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(52)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(903)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging leg 2")
-			.setEditorNumber(62)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(52)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(905)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Swaying body 2")
-			.setEditorNumber(63)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(68)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(888)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Dead Cacodemon")
-			.setEditorNumber(22)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(515)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Dead Marine")
-			.setEditorNumber(15)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(164)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Dead Trooper")
-			.setEditorNumber(18)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(193)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Dead Demon")
-			.setEditorNumber(21)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(495)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Dead Lost Soul")
-			.setEditorNumber(23)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(600)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Dead Imp")
-			.setEditorNumber(20)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(461)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Dead Sargeant")
-			.setEditorNumber(19)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(226)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Guts and bones")
-			.setEditorNumber(10)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(173)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Guts and bones 2")
-			.setEditorNumber(12)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(173)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Skewered heads")
-			.setEditorNumber(28)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(894)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Pool of blood")
-			.setEditorNumber(24)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(0)
-			.setMass(100)
-			.setSpawnFrameIndex(895)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Pole with skull")
-			.setEditorNumber(27)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(896)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Pile of skulls")
-			.setEditorNumber(29)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(897)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Impaled body")
-			.setEditorNumber(25)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(899)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Twitching body")
-			.setEditorNumber(26)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(900)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Large tree")
-			.setEditorNumber(54)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(32)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(915)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Flaming barrel")
-			.setEditorNumber(70)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(813)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging body 1")
-			.setEditorNumber(73)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(88)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(950)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging body 2")
-			.setEditorNumber(74)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(88)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(951)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging body 3")
-			.setEditorNumber(75)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(64)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(952)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging body 4")
-			.setEditorNumber(76)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(64)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(953)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging body 5")
-			.setEditorNumber(77)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(64)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(954)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Hanging body 6")
-			.setEditorNumber(78)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(16)
-			.setHeight(64)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.SOLID,
-				DEHThingFlag.SPAWNCEILING,
-				DEHThingFlag.NOGRAVITY
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(955)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Pool of blood 1")
-			.setEditorNumber(79)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(956)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Pool of blood 2")
-			.setEditorNumber(80)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(957)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-		(new DEHThing()).setName("Brain")
-			.setEditorNumber(81)
-			.setHealth(1000)
-			.setSpeed(0)
-			.setRadius(20)
-			.setHeight(16)
-			.setDamage(0)
-			.setReactionTime(8)
-			.setPainChance(0)
-			.setFlags(DEHFlag.flags(
-				DEHThingFlag.NOBLOCKMAP
-			))
-			.setMass(100)
-			.setSpawnFrameIndex(958)
-			.setWalkFrameIndex(DEHThing.FRAME_NULL)
-			.setPainFrameIndex(DEHThing.FRAME_NULL)
-			.setMeleeFrameIndex(DEHThing.FRAME_NULL)
-			.setMissileFrameIndex(DEHThing.FRAME_NULL)
-			.setDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setExtremeDeathFrameIndex(DEHThing.FRAME_NULL)
-			.setRaiseFrameIndex(DEHThing.FRAME_NULL)
-			.setSeeSoundPosition(DEHThing.SOUND_NONE)
-			.setAttackSoundPosition(DEHThing.SOUND_NONE)
-			.setPainSoundPosition(DEHThing.SOUND_NONE)
-			.setDeathSoundPosition(DEHThing.SOUND_NONE)
-			.setActiveSoundPosition(DEHThing.SOUND_NONE),
-	};
+		"Player|-1 100 0 16 56 0 0 255 33557510 100 149 150 156 0 154 158 165 0 0 0 25 57 0",
+		"Trooper|3004 20 8 20 56 0 8 200 4194310 100 174 176 187 0 184 189 194 203 36 1 27 59 75|dropped=64",
+		"Sargeant|9 30 8 20 56 0 8 170 4194310 100 207 209 220 0 217 222 227 236 37 0 27 60 75|dropped=78",
+		"Archvile|64 700 15 20 56 0 8 10 4194310 500 241 243 269 0 255 271 0 0 48 0 28 71 80|mbf21flags=134",
+		"Archvile attack|-1 1000 0 20 16 0 8 0 -2147483120 100 281 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Revenant|66 300 10 20 56 0 8 100 4194310 500 321 323 343 335 339 345 0 351 106 0 27 74 105|mbf21flags=320",
+		"Revenant fireball|-1 1000 10 11 8 10 8 0 67088 100 316 0 0 0 0 318 0 0 107 0 0 82 0",
+		"Fireball trail|-1 1000 0 20 16 0 8 0 -2147483120 100 311 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Mancubus|67 600 8 48 64 0 8 80 4194310 1000 362 364 386 0 376 388 0 398 49 0 29 100 75|mbf21flags=1024",
+		"Mancubus fireball|-1 1000 20 6 8 8 8 0 -2147416560 100 357 0 0 0 0 359 0 0 16 0 0 17 0",
+		"Chaingun Sargeant|65 70 8 20 56 0 8 170 4194310 100 406 408 420 0 416 422 429 435 37 0 27 60 75|dropped=74",
+		"Imp|3001 60 8 20 56 0 8 200 4194310 100 442 444 455 452 452 457 462 470 39 0 27 62 76",
+		"Demon|3002 150 10 30 56 0 8 180 4194310 400 475 477 488 485 0 490 0 496 41 52 26 64 77",
+		"Spectre|58 150 10 30 56 0 8 180 4456454 400 475 477 488 485 0 490 0 496 41 52 26 64 77",
+		"Cacodemon|3005 400 8 31 56 0 8 128 4211206 400 502 503 507 0 504 510 0 516 42 0 26 65 77",
+		"Baron of Hell|3003 1000 8 24 64 0 8 50 4194310 1000 527 529 540 537 537 542 0 549 43 0 26 67 77|mbf21flags=4096 projectile=1",
+		"Baron fireball|-1 1000 15 6 8 8 8 0 -2147416560 100 522 0 0 0 0 524 0 0 16 0 0 17 0|fastspeed=20",
+		"Hell Knight|69 500 8 24 64 0 8 50 4194310 1000 556 558 569 566 566 571 0 578 47 0 26 72 77|projectile=1",
+		"Lost Soul|3006 100 8 16 56 3 8 256 16902 50 585 587 593 0 589 595 0 0 0 51 26 17 77|mbf21flags=64",
+		"Spiderdemon|7 3000 12 128 100 0 8 40 4194310 1000 601 603 619 0 615 621 0 0 45 2 26 69 77|mbf21flags=344136",
+		"Arachnotron|68 500 12 64 64 0 8 128 4194310 600 632 634 651 0 647 653 0 660 46 0 26 70 78|mbf21flags=2048",
+		"Cyberdemon|16 4000 16 40 110 0 8 20 4194310 1000 674 676 690 0 684 691 0 0 44 0 26 68 77|mbf21flags=303208",
+		"Pain Elemental|71 400 8 31 56 0 8 128 4211206 400 701 702 712 0 708 714 0 720 50 0 30 73 77",
+		"SS Nazi|84 50 8 20 56 0 8 170 4194310 100 726 728 742 0 736 744 749 758 101 0 27 102 75|dropped=64",
+		"Commander Keen|72 100 0 16 72 0 8 256 4195078 10000000 763 0 776 0 0 764 0 0 0 0 103 104 0",
+		"Big Brain|88 250 0 16 16 0 8 255 6 10000000 778 0 779 0 0 780 0 0 0 0 97 98 0",
+		"Demon spawner|89 1000 0 20 32 0 8 0 24 100 784 785 0 0 0 0 0 0 0 0 0 0 0",
+		"Demon spawn spot|87 1000 0 20 32 0 8 0 24 100 0 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Demon spawn cube|-1 1000 10 6 32 3 8 0 71184 100 787 0 0 0 0 0 0 0 94 0 0 17 0",
+		"Demon spawn fire|-1 1000 0 20 16 0 8 0 -2147483120 100 791 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Barrel|2035 20 0 10 42 0 8 0 524294 100 806 0 0 0 0 808 0 0 0 0 0 82 0",
+		"Imp fireball|-1 1000 10 6 8 3 8 0 -2147416560 100 97 0 0 0 0 99 0 0 16 0 0 17 0|fastspeed=20",
+		"Caco fireball|-1 1000 10 6 8 5 8 0 -2147416560 100 102 0 0 0 0 104 0 0 16 0 0 17 0|fastspeed=20",
+		"Rocket in flight|-1 1000 20 11 8 20 8 0 67088 100 114 0 0 0 0 127 0 0 14 0 0 82 0",
+		"Plasma projectile|-1 1000 25 13 8 5 8 0 -2147416560 100 107 0 0 0 0 109 0 0 8 0 0 17 0",
+		"BFG projectile|-1 1000 25 13 8 100 8 0 -2147416560 100 115 0 0 0 0 117 0 0 0 0 0 15 0",
+		"Arachnotron projectile|-1 1000 25 13 8 5 8 0 -2147416560 100 667 0 0 0 0 669 0 0 8 0 0 17 0",
+		"Bullet puff|-1 1000 0 20 16 0 8 0 -2147483120 100 93 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Blood splat|-1 1000 0 20 16 0 8 0 16 100 90 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Teleport fog|-1 1000 0 20 16 0 8 0 -2147483120 100 130 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Item respawn fog|-1 1000 0 20 16 0 8 0 -2147483120 100 142 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Teleport exit|14 1000 0 20 16 0 8 0 24 100 0 0 0 0 0 0 0 0 0 0 0 0 0",
+		"BFG impact|-1 1000 0 20 16 0 8 0 528 100 123 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Green armor|2018 1000 0 20 16 0 8 0 1 100 802 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTARMOR",
+		"Blue armor|2019 1000 0 20 16 0 8 0 1 100 804 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTMEGA",
+		"Health potion|2014 1000 0 20 16 0 8 0 8388609 100 816 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTHTHBONUS",
+		"Armor helmet|2015 1000 0 20 16 0 8 0 8388609 100 822 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTARMBONUS",
+		"Blue keycard|5 1000 0 20 16 0 8 0 33554433 100 828 0 0 0 0 0 0 0 0 0 0 0 0|id24flags=4 message=GOTBLUECARD",
+		"Red keycard|13 1000 0 20 16 0 8 0 33554433 100 830 0 0 0 0 0 0 0 0 0 0 0 0|id24flags=4 message=GOTREDCARD",
+		"Yellow keycard|6 1000 0 20 16 0 8 0 33554433 100 832 0 0 0 0 0 0 0 0 0 0 0 0|id24flags=4 message=GOTYELWCARD",
+		"Yellow skull key|39 1000 0 20 16 0 8 0 33554433 100 838 0 0 0 0 0 0 0 0 0 0 0 0|id24flags=4 message=GOTYELWSKUL",
+		"Red skull key|38 1000 0 20 16 0 8 0 33554433 100 836 0 0 0 0 0 0 0 0 0 0 0 0|id24flags=4 message=GOTREDSKULL",
+		"Blue skull key|40 1000 0 20 16 0 8 0 33554433 100 834 0 0 0 0 0 0 0 0 0 0 0 0|id24flags=4 message=GOTBLUESKUL",
+		"Stimpack|2011 1000 0 20 16 0 8 0 1 100 840 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Medical kit|2012 1000 0 20 16 0 8 0 1 100 841 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTMEDIKIT",
+		"Soul sphere|2013 1000 0 20 16 0 8 0 -2139095039 100 842 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTSUPER",
+		"Invulnerability|2022 1000 0 20 16 0 8 0 -2139095039 100 848 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTINVUL",
+		"Berserk sphere|2023 1000 0 20 16 0 8 0 8388609 100 852 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTBERSERK",
+		"Blur sphere|2024 1000 0 20 16 0 8 0 -2139095039 100 853 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTINVIS",
+		"Radiation suit|2025 1000 0 20 16 0 8 0 1 100 861 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTSUIT",
+		"Computer map|2026 1000 0 20 16 0 8 0 8388609 100 862 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTMAP",
+		"Lite amplification visor|2045 1000 0 20 16 0 8 0 8388609 100 868 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTVISOR",
+		"Mega sphere|83 1000 0 20 16 0 8 0 -2139095039 100 857 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTMSPHERE",
+		"Ammo clip|2007 1000 0 20 16 0 8 0 1 100 870 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTCLIP",
+		"Box of ammo|2048 1000 0 20 16 0 8 0 1 100 871 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTCLIPBOX",
+		"Rocket|2010 1000 0 20 16 0 8 0 1 100 872 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTROCKET",
+		"Box of rockets|2046 1000 0 20 16 0 8 0 1 100 873 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTROCKBOX",
+		"Energy cell|2047 1000 0 20 16 0 8 0 1 100 874 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTCELL",
+		"Energy cell pack|17 1000 0 20 16 0 8 0 1 100 875 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTCELLBOX",
+		"Shells|2008 1000 0 20 16 0 8 0 1 100 876 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTSHELLS",
+		"Box of shells|2049 1000 0 20 16 0 8 0 1 100 877 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTSHELLBOX",
+		"Backpack|8 1000 0 20 16 0 8 0 1 100 878 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTBACKPACK",
+		"BFG 9000|2006 1000 0 20 16 0 8 0 1 100 879 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTBFG9000",
+		"Chaingun|2002 1000 0 20 16 0 8 0 1 100 880 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTCHAINGUN",
+		"Chainsaw|2005 1000 0 20 16 0 8 0 1 100 881 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTCHAINSAW",
+		"Rocket launcher|2003 1000 0 20 16 0 8 0 1 100 882 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTLAUNCHER",
+		"Plasma rifle|2004 1000 0 20 16 0 8 0 1 100 883 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTPLASMA",
+		"Shotgun|2001 1000 0 20 16 0 8 0 1 100 884 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTSHOTGUN",
+		"Super shotgun|82 1000 0 20 16 0 8 0 1 100 885 0 0 0 0 0 0 0 0 0 0 0 0|message=GOTSHOTGUN2",
+		"Tall lamp|85 1000 0 16 16 0 8 0 2 100 959 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Tall lamp 2|86 1000 0 16 16 0 8 0 2 100 963 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Short lamp|2028 1000 0 16 16 0 8 0 2 100 886 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Tall green pillar|30 1000 0 16 16 0 8 0 2 100 907 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Short green pillar|31 1000 0 16 16 0 8 0 2 100 908 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Tall red pillar|32 1000 0 16 16 0 8 0 2 100 909 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Short red pillar|33 1000 0 16 16 0 8 0 2 100 910 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Pillar with skull|37 1000 0 16 16 0 8 0 2 100 913 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Pillar with heart|36 1000 0 16 16 0 8 0 2 100 924 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Eye in symbol|41 1000 0 16 16 0 8 0 2 100 917 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Flaming skulls|42 1000 0 16 16 0 8 0 2 100 921 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Grey tree|43 1000 0 16 16 0 8 0 2 100 914 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Tall blue torch|44 1000 0 16 16 0 8 0 2 100 926 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Tall green torch|45 1000 0 16 16 0 8 0 2 100 930 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Tall red torch|46 1000 0 16 16 0 8 0 2 100 934 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Small blue torch|55 1000 0 16 16 0 8 0 2 100 938 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Small green torch|56 1000 0 16 16 0 8 0 2 100 942 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Small red torch|57 1000 0 16 16 0 8 0 2 100 946 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Brown stub|47 1000 0 16 16 0 8 0 2 100 906 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Technical column|48 1000 0 16 16 0 8 0 2 100 916 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Candle|34 1000 0 20 16 0 8 0 0 100 911 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Candelabra|35 1000 0 16 16 0 8 0 2 100 912 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Swaying body|49 1000 0 16 68 0 8 0 770 100 888 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging arms out|50 1000 0 16 84 0 8 0 770 100 902 0 0 0 0 0 0 0 0 0 0 0 0",
+		"One-legged body|51 1000 0 16 84 0 8 0 770 100 903 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging torso|52 1000 0 16 68 0 8 0 770 100 904 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging leg|53 1000 0 16 52 0 8 0 770 100 905 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging arms out 2|59 1000 0 20 84 0 8 0 768 100 902 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging torso 2|60 1000 0 20 68 0 8 0 768 100 904 0 0 0 0 0 0 0 0 0 0 0 0",
+		"One-legged body 2|61 1000 0 20 52 0 8 0 768 100 903 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging leg 2|62 1000 0 20 52 0 8 0 768 100 905 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Swaying body 2|63 1000 0 20 68 0 8 0 768 100 888 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Dead Cacodemon|22 1000 0 20 16 0 8 0 0 100 515 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Dead Marine|15 1000 0 20 16 0 8 0 0 100 164 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Dead Trooper|18 1000 0 20 16 0 8 0 0 100 193 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Dead Demon|21 1000 0 20 16 0 8 0 0 100 495 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Dead Lost Soul|23 1000 0 20 16 0 8 0 0 100 600 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Dead Imp|20 1000 0 20 16 0 8 0 0 100 461 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Dead Sargeant|19 1000 0 20 16 0 8 0 0 100 226 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Guts and bones|10 1000 0 20 16 0 8 0 0 100 173 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Guts and bones 2|12 1000 0 20 16 0 8 0 0 100 173 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Skewered heads|28 1000 0 16 16 0 8 0 2 100 894 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Pool of blood|24 1000 0 20 16 0 8 0 0 100 895 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Pole with skull|27 1000 0 16 16 0 8 0 2 100 896 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Pile of skulls|29 1000 0 16 16 0 8 0 2 100 897 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Impaled body|25 1000 0 16 16 0 8 0 2 100 899 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Twitching body|26 1000 0 16 16 0 8 0 2 100 900 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Large tree|54 1000 0 32 16 0 8 0 2 100 915 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Flaming barrel|70 1000 0 16 16 0 8 0 2 100 813 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging body 1|73 1000 0 16 88 0 8 0 770 100 950 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging body 2|74 1000 0 16 88 0 8 0 770 100 951 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging body 3|75 1000 0 16 64 0 8 0 770 100 952 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging body 4|76 1000 0 16 64 0 8 0 770 100 953 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging body 5|77 1000 0 16 64 0 8 0 770 100 954 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Hanging body 6|78 1000 0 16 64 0 8 0 770 100 955 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Pool of blood 1|79 1000 0 20 16 0 8 0 16 100 956 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Pool of blood 2|80 1000 0 20 16 0 8 0 16 100 957 0 0 0 0 0 0 0 0 0 0 0 0",
+		"Brain|81 1000 0 20 16 0 8 0 16 100 958 0 0 0 0 0 0 0 0 0 0 0 0"
+	);
 
 }
@@ -6,9 +6,6 @@
 package net.mtrop.doom.tools.decohack.patches;
 
 import net.mtrop.doom.tools.decohack.data.DEHActionPointer;
-import net.mtrop.doom.tools.decohack.data.DEHState;
-import net.mtrop.doom.tools.decohack.data.enums.DEHFlag;
-import net.mtrop.doom.tools.decohack.data.enums.DEHStateMBF21Flag;
 
 import static net.mtrop.doom.tools.decohack.data.enums.DEHActionPointerDoom19.*;
 
@@ -18,976 +15,975 @@ import static net.mtrop.doom.tools.decohack.data.enums.DEHActionPointerDoom19.*;
  */
 interface ConstantsDoom19 
 {
-	static final PatchDoom19.State[] DEHSTATE = 
-	{
-		PatchDoom19.State.create(DEHState.create(0, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(1, 4, false, 0, 0), 0),
-		PatchDoom19.State.create(DEHState.create(2, 0, false, 2, 1), 1),
-		PatchDoom19.State.create(DEHState.create(2, 0, false, 3, 1), 2),
-		PatchDoom19.State.create(DEHState.create(2, 0, false, 4, 1), 3),
-		PatchDoom19.State.create(DEHState.create(2, 1, false, 6, 4), null),
-		PatchDoom19.State.create(DEHState.create(2, 2, false, 7, 4), 4),
-		PatchDoom19.State.create(DEHState.create(2, 3, false, 8, 5), null),
-		PatchDoom19.State.create(DEHState.create(2, 2, false, 9, 4), null),
-		PatchDoom19.State.create(DEHState.create(2, 1, false, 2, 5), 5),
-		PatchDoom19.State.create(DEHState.create(3, 0, false, 10, 1), 6),
-		PatchDoom19.State.create(DEHState.create(3, 0, false, 11, 1), 7),
-		PatchDoom19.State.create(DEHState.create(3, 0, false, 12, 1), 8),
-		PatchDoom19.State.create(DEHState.create(3, 0, false, 14, 4), null),
-		PatchDoom19.State.create(DEHState.create(3, 1, false, 15, 6), 9),
-		PatchDoom19.State.create(DEHState.create(3, 2, false, 16, 4), null),
-		PatchDoom19.State.create(DEHState.create(3, 1, false, 10, 5), 10),
-		PatchDoom19.State.create(DEHState.create(4, 0, true, 1, 7), 11),
-		PatchDoom19.State.create(DEHState.create(1, 0, false, 18, 1), 12),
-		PatchDoom19.State.create(DEHState.create(1, 0, false, 19, 1), 13),
-		PatchDoom19.State.create(DEHState.create(1, 0, false, 20, 1), 14),
-		PatchDoom19.State.create(DEHState.create(1, 0, false, 22, 3), null),
-		PatchDoom19.State.create(DEHState.create(1, 0, false, 23, 7), 15),
-		PatchDoom19.State.create(DEHState.create(1, 1, false, 24, 5), null),
-		PatchDoom19.State.create(DEHState.create(1, 2, false, 25, 5), null),
-		PatchDoom19.State.create(DEHState.create(1, 3, false, 26, 4), null),
-		PatchDoom19.State.create(DEHState.create(1, 2, false, 27, 5), null),
-		PatchDoom19.State.create(DEHState.create(1, 1, false, 28, 5), null),
-		PatchDoom19.State.create(DEHState.create(1, 0, false, 29, 3), null),
-		PatchDoom19.State.create(DEHState.create(1, 0, false, 18, 7), 16),
-		PatchDoom19.State.create(DEHState.create(5, 0, true, 31, 4), 17),
-		PatchDoom19.State.create(DEHState.create(5, 1, true, 1, 3), 18),
-		PatchDoom19.State.create(DEHState.create(6, 0, false, 32, 1), 19),
-		PatchDoom19.State.create(DEHState.create(6, 0, false, 33, 1), 20),
-		PatchDoom19.State.create(DEHState.create(6, 0, false, 34, 1), 21),
-		PatchDoom19.State.create(DEHState.create(6, 0, false, 36, 3), null),
-		PatchDoom19.State.create(DEHState.create(6, 0, false, 37, 7), 22),
-		PatchDoom19.State.create(DEHState.create(6, 1, false, 38, 7), null),
-		PatchDoom19.State.create(DEHState.create(6, 2, false, 39, 7), 23),
-		PatchDoom19.State.create(DEHState.create(6, 3, false, 40, 7), 24),
-		PatchDoom19.State.create(DEHState.create(6, 4, false, 41, 7), null),
-		PatchDoom19.State.create(DEHState.create(6, 5, false, 42, 7), 25),
-		PatchDoom19.State.create(DEHState.create(6, 6, false, 43, 6), null),
-		PatchDoom19.State.create(DEHState.create(6, 7, false, 44, 6), 26),
-		PatchDoom19.State.create(DEHState.create(6, 0, false, 32, 5), 27),
-		PatchDoom19.State.create(DEHState.create(6, 1, false, 46, 7), null),
-		PatchDoom19.State.create(DEHState.create(6, 0, false, 33, 3), null),
-		PatchDoom19.State.create(DEHState.create(6, 8, true, 48, 5), 28),
-		PatchDoom19.State.create(DEHState.create(6, 9, true, 1, 4), 29),
-		PatchDoom19.State.create(DEHState.create(7, 0, false, 49, 1), 30),
-		PatchDoom19.State.create(DEHState.create(7, 0, false, 50, 1), 31),
-		PatchDoom19.State.create(DEHState.create(7, 0, false, 51, 1), 32),
-		PatchDoom19.State.create(DEHState.create(7, 0, false, 53, 4), 33),
-		PatchDoom19.State.create(DEHState.create(7, 1, false, 54, 4), 34),
-		PatchDoom19.State.create(DEHState.create(7, 1, false, 49, 0), 35),
-		PatchDoom19.State.create(DEHState.create(8, 0, true, 1, 5), 36),
-		PatchDoom19.State.create(DEHState.create(8, 1, true, 1, 5), 37),
-		PatchDoom19.State.create(DEHState.create(9, 0, false, 57, 1), 38),
-		PatchDoom19.State.create(DEHState.create(9, 0, false, 58, 1), 39),
-		PatchDoom19.State.create(DEHState.create(9, 0, false, 59, 1), 40),
-		PatchDoom19.State.create(DEHState.create(9, 1, false, 61, 8), 41),
-		PatchDoom19.State.create(DEHState.create(9, 1, false, 62, 12), 42),
-		PatchDoom19.State.create(DEHState.create(9, 1, false, 57, 0), 43),
-		PatchDoom19.State.create(DEHState.create(10, 0, true, 64, 3), 44),
-		PatchDoom19.State.create(DEHState.create(10, 1, true, 65, 4), null),
-		PatchDoom19.State.create(DEHState.create(10, 2, true, 66, 4), 45),
-		PatchDoom19.State.create(DEHState.create(10, 3, true, 1, 4), 46),
-		PatchDoom19.State.create(DEHState.create(11, 2, false, 68, 4), 47),
-		PatchDoom19.State.create(DEHState.create(11, 3, false, 67, 4), 48),
-		PatchDoom19.State.create(DEHState.create(11, 2, false, 69, 1), 49),
-		PatchDoom19.State.create(DEHState.create(11, 2, false, 70, 1), 50),
-		PatchDoom19.State.create(DEHState.create(11, 0, false, 72, 4), 51),
-		PatchDoom19.State.create(DEHState.create(11, 1, false, 73, 4), 52),
-		PatchDoom19.State.create(DEHState.create(11, 1, false, 67, 0), 53),
-		PatchDoom19.State.create(DEHState.create(12, 0, false, 74, 1), 54),
-		PatchDoom19.State.create(DEHState.create(12, 0, false, 75, 1), 55),
-		PatchDoom19.State.create(DEHState.create(12, 0, false, 76, 1), 56),
-		PatchDoom19.State.create(DEHState.create(12, 0, false, 78, 3), 57),
-		PatchDoom19.State.create(DEHState.create(12, 1, false, 74, 20), 58),
-		PatchDoom19.State.create(DEHState.create(13, 0, true, 1, 4), 59),
-		PatchDoom19.State.create(DEHState.create(13, 1, true, 1, 4), 60),
-		PatchDoom19.State.create(DEHState.create(14, 0, false, 81, 1), 61),
-		PatchDoom19.State.create(DEHState.create(14, 0, false, 82, 1), 62),
-		PatchDoom19.State.create(DEHState.create(14, 0, false, 83, 1), 63),
-		PatchDoom19.State.create(DEHState.create(14, 0, false, 85, 20), 64),
-		PatchDoom19.State.create(DEHState.create(14, 1, false, 86, 10), 65),
-		PatchDoom19.State.create(DEHState.create(14, 1, false, 87, 10), 66),
-		PatchDoom19.State.create(DEHState.create(14, 1, false, 81, 20), 67),
-		PatchDoom19.State.create(DEHState.create(15, 0, true, 89, 11), 68),
-		PatchDoom19.State.create(DEHState.create(15, 1, true, 1, 6), 69),
-		PatchDoom19.State.create(DEHState.create(16, 2, false, 91, 8), null),
-		PatchDoom19.State.create(DEHState.create(16, 1, false, 92, 8), null),
-		PatchDoom19.State.create(DEHState.create(16, 0, false, 0, 8), null),
-		PatchDoom19.State.create(DEHState.create(17, 0, true, 94, 4), null),
-		PatchDoom19.State.create(DEHState.create(17, 1, false, 95, 4), null),
-		PatchDoom19.State.create(DEHState.create(17, 2, false, 96, 4), null),
-		PatchDoom19.State.create(DEHState.create(17, 3, false, 0, 4), null),
-		PatchDoom19.State.create(DEHState.create(18, 0, true, 98, 4), null),
-		PatchDoom19.State.create(DEHState.create(18, 1, true, 97, 4), null),
-		PatchDoom19.State.create(DEHState.create(18, 2, true, 100, 6), null),
-		PatchDoom19.State.create(DEHState.create(18, 3, true, 101, 6), null),
-		PatchDoom19.State.create(DEHState.create(18, 4, true, 0, 6), null),
-		PatchDoom19.State.create(DEHState.create(19, 0, true, 103, 4), null),
-		PatchDoom19.State.create(DEHState.create(19, 1, true, 102, 4), null),
-		PatchDoom19.State.create(DEHState.create(19, 2, true, 105, 6), null),
-		PatchDoom19.State.create(DEHState.create(19, 3, true, 106, 6), null),
-		PatchDoom19.State.create(DEHState.create(19, 4, true, 0, 6), null),
-		PatchDoom19.State.create(DEHState.create(20, 0, true, 108, 6), null),
-		PatchDoom19.State.create(DEHState.create(20, 1, true, 107, 6), null),
-		PatchDoom19.State.create(DEHState.create(21, 0, true, 110, 4), null),
-		PatchDoom19.State.create(DEHState.create(21, 1, true, 111, 4), null),
-		PatchDoom19.State.create(DEHState.create(21, 2, true, 112, 4), null),
-		PatchDoom19.State.create(DEHState.create(21, 3, true, 113, 4), null),
-		PatchDoom19.State.create(DEHState.create(21, 4, true, 0, 4), null),
-		PatchDoom19.State.create(DEHState.create(22, 0, true, 114, 1), null),
-		PatchDoom19.State.create(DEHState.create(23, 0, true, 116, 4), null),
-		PatchDoom19.State.create(DEHState.create(23, 1, true, 115, 4), null),
-		PatchDoom19.State.create(DEHState.create(24, 0, true, 118, 8), null),
-		PatchDoom19.State.create(DEHState.create(24, 1, true, 119, 8), null),
-		PatchDoom19.State.create(DEHState.create(24, 2, true, 120, 8), 70),
-		PatchDoom19.State.create(DEHState.create(24, 3, true, 121, 8), null),
-		PatchDoom19.State.create(DEHState.create(24, 4, true, 122, 8), null),
-		PatchDoom19.State.create(DEHState.create(24, 5, true, 0, 8), null),
-		PatchDoom19.State.create(DEHState.create(25, 0, true, 124, 8), null),
-		PatchDoom19.State.create(DEHState.create(25, 1, true, 125, 8), null),
-		PatchDoom19.State.create(DEHState.create(25, 2, true, 126, 8), null),
-		PatchDoom19.State.create(DEHState.create(25, 3, true, 0, 8), null),
-		PatchDoom19.State.create(DEHState.create(22, 1, true, 128, 8), 71),
-		PatchDoom19.State.create(DEHState.create(22, 2, true, 129, 6), null),
-		PatchDoom19.State.create(DEHState.create(22, 3, true, 0, 4), null),
-		PatchDoom19.State.create(DEHState.create(26, 0, true, 131, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 1, true, 132, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 0, true, 133, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 1, true, 134, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 2, true, 135, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 3, true, 136, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 4, true, 137, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 5, true, 138, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 6, true, 139, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 7, true, 140, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 8, true, 141, 6), null),
-		PatchDoom19.State.create(DEHState.create(26, 9, true, 0, 6), null),
-		PatchDoom19.State.create(DEHState.create(27, 0, true, 143, 6), null),
-		PatchDoom19.State.create(DEHState.create(27, 1, true, 144, 6), null),
-		PatchDoom19.State.create(DEHState.create(27, 0, true, 145, 6), null),
-		PatchDoom19.State.create(DEHState.create(27, 1, true, 146, 6), null),
-		PatchDoom19.State.create(DEHState.create(27, 2, true, 147, 6), null),
-		PatchDoom19.State.create(DEHState.create(27, 3, true, 148, 6), null),
-		PatchDoom19.State.create(DEHState.create(27, 4, true, 0, 6), null),
-		PatchDoom19.State.create(DEHState.create(28, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(28, 0, false, 151, 4), null),
-		PatchDoom19.State.create(DEHState.create(28, 1, false, 152, 4), null),
-		PatchDoom19.State.create(DEHState.create(28, 2, false, 153, 4), null),
-		PatchDoom19.State.create(DEHState.create(28, 3, false, 150, 4), null),
-		PatchDoom19.State.create(DEHState.create(28, 4, false, 149, 12), null),
-		PatchDoom19.State.create(DEHState.create(28, 5, true, 154, 6), null),
-		PatchDoom19.State.create(DEHState.create(28, 6, false, 157, 4), null),
-		PatchDoom19.State.create(DEHState.create(28, 6, false, 149, 4), 72),
-		PatchDoom19.State.create(DEHState.create(28, 7, false, 159, 10), null),
-		PatchDoom19.State.create(DEHState.create(28, 8, false, 160, 10), 73),
-		PatchDoom19.State.create(DEHState.create(28, 9, false, 161, 10), 74),
-		PatchDoom19.State.create(DEHState.create(28, 10, false, 162, 10), null),
-		PatchDoom19.State.create(DEHState.create(28, 11, false, 163, 10), null),
-		PatchDoom19.State.create(DEHState.create(28, 12, false, 164, 10), null),
-		PatchDoom19.State.create(DEHState.create(28, 13, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(28, 14, false, 166, 5), null),
-		PatchDoom19.State.create(DEHState.create(28, 15, false, 167, 5), 75),
-		PatchDoom19.State.create(DEHState.create(28, 16, false, 168, 5), 76),
-		PatchDoom19.State.create(DEHState.create(28, 17, false, 169, 5), null),
-		PatchDoom19.State.create(DEHState.create(28, 18, false, 170, 5), null),
-		PatchDoom19.State.create(DEHState.create(28, 19, false, 171, 5), null),
-		PatchDoom19.State.create(DEHState.create(28, 20, false, 172, 5), null),
-		PatchDoom19.State.create(DEHState.create(28, 21, false, 173, 5), null),
-		PatchDoom19.State.create(DEHState.create(28, 22, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(29, 0, false, 175, 10), 77),
-		PatchDoom19.State.create(DEHState.create(29, 1, false, 174, 10), 78),
-		PatchDoom19.State.create(DEHState.create(29, 0, false, 177, 4), 79),
-		PatchDoom19.State.create(DEHState.create(29, 0, false, 178, 4), 80),
-		PatchDoom19.State.create(DEHState.create(29, 1, false, 179, 4), 81),
-		PatchDoom19.State.create(DEHState.create(29, 1, false, 180, 4), 82),
-		PatchDoom19.State.create(DEHState.create(29, 2, false, 181, 4), 83),
-		PatchDoom19.State.create(DEHState.create(29, 2, false, 182, 4), 84),
-		PatchDoom19.State.create(DEHState.create(29, 3, false, 183, 4), 85),
-		PatchDoom19.State.create(DEHState.create(29, 3, false, 176, 4), 86),
-		PatchDoom19.State.create(DEHState.create(29, 4, false, 185, 10), 87),
-		PatchDoom19.State.create(DEHState.create(29, 5, false, 186, 8), 88),
-		PatchDoom19.State.create(DEHState.create(29, 4, false, 176, 8), null),
-		PatchDoom19.State.create(DEHState.create(29, 6, false, 188, 3), null),
-		PatchDoom19.State.create(DEHState.create(29, 6, false, 176, 3), 89),
-		PatchDoom19.State.create(DEHState.create(29, 7, false, 190, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 8, false, 191, 5), 90),
-		PatchDoom19.State.create(DEHState.create(29, 9, false, 192, 5), 91),
-		PatchDoom19.State.create(DEHState.create(29, 10, false, 193, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 11, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(29, 12, false, 195, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 13, false, 196, 5), 92),
-		PatchDoom19.State.create(DEHState.create(29, 14, false, 197, 5), 93),
-		PatchDoom19.State.create(DEHState.create(29, 15, false, 198, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 16, false, 199, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 17, false, 200, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 18, false, 201, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 19, false, 202, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 20, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(29, 10, false, 204, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 9, false, 205, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 8, false, 206, 5), null),
-		PatchDoom19.State.create(DEHState.create(29, 7, false, 176, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 0, false, 208, 10), 94),
-		PatchDoom19.State.create(DEHState.create(30, 1, false, 207, 10), 95),
-		PatchDoom19.State.create(DEHState.create(30, 0, false, 210, 3), 96),
-		PatchDoom19.State.create(DEHState.create(30, 0, false, 211, 3), 97),
-		PatchDoom19.State.create(DEHState.create(30, 1, false, 212, 3), 98),
-		PatchDoom19.State.create(DEHState.create(30, 1, false, 213, 3), 99),
-		PatchDoom19.State.create(DEHState.create(30, 2, false, 214, 3), 100),
-		PatchDoom19.State.create(DEHState.create(30, 2, false, 215, 3), 101),
-		PatchDoom19.State.create(DEHState.create(30, 3, false, 216, 3), 102),
-		PatchDoom19.State.create(DEHState.create(30, 3, false, 209, 3), 103),
-		PatchDoom19.State.create(DEHState.create(30, 4, false, 218, 10), 104),
-		PatchDoom19.State.create(DEHState.create(30, 5, true, 219, 10), 105),
-		PatchDoom19.State.create(DEHState.create(30, 4, false, 209, 10), null),
-		PatchDoom19.State.create(DEHState.create(30, 6, false, 221, 3), null),
-		PatchDoom19.State.create(DEHState.create(30, 6, false, 209, 3), 106),
-		PatchDoom19.State.create(DEHState.create(30, 7, false, 223, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 8, false, 224, 5), 107),
-		PatchDoom19.State.create(DEHState.create(30, 9, false, 225, 5), 108),
-		PatchDoom19.State.create(DEHState.create(30, 10, false, 226, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 11, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(30, 12, false, 228, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 13, false, 229, 5), 109),
-		PatchDoom19.State.create(DEHState.create(30, 14, false, 230, 5), 110),
-		PatchDoom19.State.create(DEHState.create(30, 15, false, 231, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 16, false, 232, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 17, false, 233, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 18, false, 234, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 19, false, 235, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 20, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(30, 11, false, 237, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 10, false, 238, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 9, false, 239, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 8, false, 240, 5), null),
-		PatchDoom19.State.create(DEHState.create(30, 7, false, 209, 5), null),
-		PatchDoom19.State.create(DEHState.create(31, 0, false, 242, 10), 111),
-		PatchDoom19.State.create(DEHState.create(31, 1, false, 241, 10), 112),
-		PatchDoom19.State.create(DEHState.create(31, 0, false, 244, 2), 113),
-		PatchDoom19.State.create(DEHState.create(31, 0, false, 245, 2), 114),
-		PatchDoom19.State.create(DEHState.create(31, 1, false, 246, 2), 115),
-		PatchDoom19.State.create(DEHState.create(31, 1, false, 247, 2), 116),
-		PatchDoom19.State.create(DEHState.create(31, 2, false, 248, 2), 117),
-		PatchDoom19.State.create(DEHState.create(31, 2, false, 249, 2), 118),
-		PatchDoom19.State.create(DEHState.create(31, 3, false, 250, 2), 119),
-		PatchDoom19.State.create(DEHState.create(31, 3, false, 251, 2), 120),
-		PatchDoom19.State.create(DEHState.create(31, 4, false, 252, 2), 121),
-		PatchDoom19.State.create(DEHState.create(31, 4, false, 253, 2), 122),
-		PatchDoom19.State.create(DEHState.create(31, 5, false, 254, 2), 123),
-		PatchDoom19.State.create(DEHState.create(31, 5, false, 243, 2), 124),
-		PatchDoom19.State.create(DEHState.create(31, 6, true, 256, 0), 125),
-		PatchDoom19.State.create(DEHState.create(31, 6, true, 257, 10), 126),
-		PatchDoom19.State.create(DEHState.create(31, 7, true, 258, 8), 127),
-		PatchDoom19.State.create(DEHState.create(31, 8, true, 259, 8), 128),
-		PatchDoom19.State.create(DEHState.create(31, 9, true, 260, 8), 129),
-		PatchDoom19.State.create(DEHState.create(31, 10, true, 261, 8), 130),
-		PatchDoom19.State.create(DEHState.create(31, 11, true, 262, 8), 131),
-		PatchDoom19.State.create(DEHState.create(31, 12, true, 263, 8), 132),
-		PatchDoom19.State.create(DEHState.create(31, 13, true, 264, 8), 133),
-		PatchDoom19.State.create(DEHState.create(31, 14, true, 265, 8), 134),
-		PatchDoom19.State.create(DEHState.create(31, 15, true, 243, 20), null),
-		PatchDoom19.State.create(DEHState.create(31, 26, true, 267, 10), null),
-		PatchDoom19.State.create(DEHState.create(31, 27, true, 268, 10), null),
-		PatchDoom19.State.create(DEHState.create(31, 28, true, 243, 10), null),
-		PatchDoom19.State.create(DEHState.create(31, 16, false, 270, 5), null),
-		PatchDoom19.State.create(DEHState.create(31, 16, false, 243, 5), 135),
-		PatchDoom19.State.create(DEHState.create(31, 16, false, 272, 7), null),
-		PatchDoom19.State.create(DEHState.create(31, 17, false, 273, 7), 136),
-		PatchDoom19.State.create(DEHState.create(31, 18, false, 274, 7), 137),
-		PatchDoom19.State.create(DEHState.create(31, 19, false, 275, 7), null),
-		PatchDoom19.State.create(DEHState.create(31, 20, false, 276, 7), null),
-		PatchDoom19.State.create(DEHState.create(31, 21, false, 277, 7), null),
-		PatchDoom19.State.create(DEHState.create(31, 22, false, 278, 7), null),
-		PatchDoom19.State.create(DEHState.create(31, 23, false, 279, 5), null),
-		PatchDoom19.State.create(DEHState.create(31, 24, false, 280, 5), null),
-		PatchDoom19.State.create(DEHState.create(31, 25, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(32, 0, true, 282, 2), 138),
-		PatchDoom19.State.create(DEHState.create(32, 1, true, 283, 2), 139),
-		PatchDoom19.State.create(DEHState.create(32, 0, true, 284, 2), 140),
-		PatchDoom19.State.create(DEHState.create(32, 1, true, 285, 2), 141),
-		PatchDoom19.State.create(DEHState.create(32, 2, true, 286, 2), 142),
-		PatchDoom19.State.create(DEHState.create(32, 1, true, 287, 2), 143),
-		PatchDoom19.State.create(DEHState.create(32, 2, true, 288, 2), 144),
-		PatchDoom19.State.create(DEHState.create(32, 1, true, 289, 2), 145),
-		PatchDoom19.State.create(DEHState.create(32, 2, true, 290, 2), 146),
-		PatchDoom19.State.create(DEHState.create(32, 3, true, 291, 2), 147),
-		PatchDoom19.State.create(DEHState.create(32, 2, true, 292, 2), 148),
-		PatchDoom19.State.create(DEHState.create(32, 3, true, 293, 2), 149),
-		PatchDoom19.State.create(DEHState.create(32, 2, true, 294, 2), 150),
-		PatchDoom19.State.create(DEHState.create(32, 3, true, 295, 2), 151),
-		PatchDoom19.State.create(DEHState.create(32, 4, true, 296, 2), 152),
-		PatchDoom19.State.create(DEHState.create(32, 3, true, 297, 2), 153),
-		PatchDoom19.State.create(DEHState.create(32, 4, true, 298, 2), 154),
-		PatchDoom19.State.create(DEHState.create(32, 3, true, 299, 2), 155),
-		PatchDoom19.State.create(DEHState.create(32, 4, true, 300, 2), 156),
-		PatchDoom19.State.create(DEHState.create(32, 5, true, 301, 2), 157),
-		PatchDoom19.State.create(DEHState.create(32, 4, true, 302, 2), 158),
-		PatchDoom19.State.create(DEHState.create(32, 5, true, 303, 2), 159),
-		PatchDoom19.State.create(DEHState.create(32, 4, true, 304, 2), 160),
-		PatchDoom19.State.create(DEHState.create(32, 5, true, 305, 2), 161),
-		PatchDoom19.State.create(DEHState.create(32, 6, true, 306, 2), 162),
-		PatchDoom19.State.create(DEHState.create(32, 7, true, 307, 2), 163),
-		PatchDoom19.State.create(DEHState.create(32, 6, true, 308, 2), 164),
-		PatchDoom19.State.create(DEHState.create(32, 7, true, 309, 2), 165),
-		PatchDoom19.State.create(DEHState.create(32, 6, true, 310, 2), 166),
-		PatchDoom19.State.create(DEHState.create(32, 7, true, 0, 2), 167),
-		PatchDoom19.State.create(DEHState.create(17, 1, false, 312, 4), null),
-		PatchDoom19.State.create(DEHState.create(17, 2, false, 313, 4), null),
-		PatchDoom19.State.create(DEHState.create(17, 1, false, 314, 4), null),
-		PatchDoom19.State.create(DEHState.create(17, 2, false, 315, 4), null),
-		PatchDoom19.State.create(DEHState.create(17, 3, false, 0, 4), null),
-		PatchDoom19.State.create(DEHState.create(33, 0, true, 317, 2), 168),
-		PatchDoom19.State.create(DEHState.create(33, 1, true, 316, 2), 169),
-		PatchDoom19.State.create(DEHState.create(34, 0, true, 319, 8), null),
-		PatchDoom19.State.create(DEHState.create(34, 1, true, 320, 6), null),
-		PatchDoom19.State.create(DEHState.create(34, 2, true, 0, 4), null),
-		PatchDoom19.State.create(DEHState.create(35, 0, false, 322, 10), 170),
-		PatchDoom19.State.create(DEHState.create(35, 1, false, 321, 10), 171),
-		PatchDoom19.State.create(DEHState.create(35, 0, false, 324, 2), 172),
-		PatchDoom19.State.create(DEHState.create(35, 0, false, 325, 2), 173),
-		PatchDoom19.State.create(DEHState.create(35, 1, false, 326, 2), 174),
-		PatchDoom19.State.create(DEHState.create(35, 1, false, 327, 2), 175),
-		PatchDoom19.State.create(DEHState.create(35, 2, false, 328, 2), 176),
-		PatchDoom19.State.create(DEHState.create(35, 2, false, 329, 2), 177),
-		PatchDoom19.State.create(DEHState.create(35, 3, false, 330, 2), 178),
-		PatchDoom19.State.create(DEHState.create(35, 3, false, 331, 2), 179),
-		PatchDoom19.State.create(DEHState.create(35, 4, false, 332, 2), 180),
-		PatchDoom19.State.create(DEHState.create(35, 4, false, 333, 2), 181),
-		PatchDoom19.State.create(DEHState.create(35, 5, false, 334, 2), 182),
-		PatchDoom19.State.create(DEHState.create(35, 5, false, 323, 2), 183),
-		PatchDoom19.State.create(DEHState.create(35, 6, false, 336, 0), 184),
-		PatchDoom19.State.create(DEHState.create(35, 6, false, 337, 6), 185),
-		PatchDoom19.State.create(DEHState.create(35, 7, false, 338, 6), 186),
-		PatchDoom19.State.create(DEHState.create(35, 8, false, 323, 6), 187),
-		PatchDoom19.State.create(DEHState.create(35, 9, true, 340, 0), 188),
-		PatchDoom19.State.create(DEHState.create(35, 9, true, 341, 10), 189),
-		PatchDoom19.State.create(DEHState.create(35, 10, false, 342, 10), 190),
-		PatchDoom19.State.create(DEHState.create(35, 10, false, 323, 10), 191),
-		PatchDoom19.State.create(DEHState.create(35, 11, false, 344, 5), null),
-		PatchDoom19.State.create(DEHState.create(35, 11, false, 323, 5), 192),
-		PatchDoom19.State.create(DEHState.create(35, 11, false, 346, 7), null),
-		PatchDoom19.State.create(DEHState.create(35, 12, false, 347, 7), null),
-		PatchDoom19.State.create(DEHState.create(35, 13, false, 348, 7), 193),
-		PatchDoom19.State.create(DEHState.create(35, 14, false, 349, 7), 194),
-		PatchDoom19.State.create(DEHState.create(35, 15, false, 350, 7), null),
-		PatchDoom19.State.create(DEHState.create(35, 16, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(35, 16, false, 352, 5), null),
-		PatchDoom19.State.create(DEHState.create(35, 15, false, 353, 5), null),
-		PatchDoom19.State.create(DEHState.create(35, 14, false, 354, 5), null),
-		PatchDoom19.State.create(DEHState.create(35, 13, false, 355, 5), null),
-		PatchDoom19.State.create(DEHState.create(35, 12, false, 356, 5), null),
-		PatchDoom19.State.create(DEHState.create(35, 11, false, 323, 5), null),
-		PatchDoom19.State.create(DEHState.create(36, 0, true, 358, 4), null),
-		PatchDoom19.State.create(DEHState.create(36, 1, true, 357, 4), null),
-		PatchDoom19.State.create(DEHState.create(22, 1, true, 360, 8), null),
-		PatchDoom19.State.create(DEHState.create(22, 2, true, 361, 6), null),
-		PatchDoom19.State.create(DEHState.create(22, 3, true, 0, 4), null),
-		PatchDoom19.State.create(DEHState.create(37, 0, false, 363, 15), 195),
-		PatchDoom19.State.create(DEHState.create(37, 1, false, 362, 15), 196),
-		PatchDoom19.State.create(DEHState.create(37, 0, false, 365, 4), 197),
-		PatchDoom19.State.create(DEHState.create(37, 0, false, 366, 4), 198),
-		PatchDoom19.State.create(DEHState.create(37, 1, false, 367, 4), 199),
-		PatchDoom19.State.create(DEHState.create(37, 1, false, 368, 4), 200),
-		PatchDoom19.State.create(DEHState.create(37, 2, false, 369, 4), 201),
-		PatchDoom19.State.create(DEHState.create(37, 2, false, 370, 4), 202),
-		PatchDoom19.State.create(DEHState.create(37, 3, false, 371, 4), 203),
-		PatchDoom19.State.create(DEHState.create(37, 3, false, 372, 4), 204),
-		PatchDoom19.State.create(DEHState.create(37, 4, false, 373, 4), 205),
-		PatchDoom19.State.create(DEHState.create(37, 4, false, 374, 4), 206),
-		PatchDoom19.State.create(DEHState.create(37, 5, false, 375, 4), 207),
-		PatchDoom19.State.create(DEHState.create(37, 5, false, 364, 4), 208),
-		PatchDoom19.State.create(DEHState.create(37, 6, false, 377, 20), 209),
-		PatchDoom19.State.create(DEHState.create(37, 7, true, 378, 10), 210),
-		PatchDoom19.State.create(DEHState.create(37, 8, false, 379, 5), 211),
-		PatchDoom19.State.create(DEHState.create(37, 6, false, 380, 5), 212),
-		PatchDoom19.State.create(DEHState.create(37, 7, true, 381, 10), 213),
-		PatchDoom19.State.create(DEHState.create(37, 8, false, 382, 5), 214),
-		PatchDoom19.State.create(DEHState.create(37, 6, false, 383, 5), 215),
-		PatchDoom19.State.create(DEHState.create(37, 7, true, 384, 10), 216),
-		PatchDoom19.State.create(DEHState.create(37, 8, false, 385, 5), 217),
-		PatchDoom19.State.create(DEHState.create(37, 6, false, 364, 5), 218),
-		PatchDoom19.State.create(DEHState.create(37, 9, false, 387, 3), null),
-		PatchDoom19.State.create(DEHState.create(37, 9, false, 364, 3), 219),
-		PatchDoom19.State.create(DEHState.create(37, 10, false, 389, 6), null),
-		PatchDoom19.State.create(DEHState.create(37, 11, false, 390, 6), 220),
-		PatchDoom19.State.create(DEHState.create(37, 12, false, 391, 6), 221),
-		PatchDoom19.State.create(DEHState.create(37, 13, false, 392, 6), null),
-		PatchDoom19.State.create(DEHState.create(37, 14, false, 393, 6), null),
-		PatchDoom19.State.create(DEHState.create(37, 15, false, 394, 6), null),
-		PatchDoom19.State.create(DEHState.create(37, 16, false, 395, 6), null),
-		PatchDoom19.State.create(DEHState.create(37, 17, false, 396, 6), null),
-		PatchDoom19.State.create(DEHState.create(37, 18, false, 397, 6), null),
-		PatchDoom19.State.create(DEHState.create(37, 19, false, 0, -1), 222),
-		PatchDoom19.State.create(DEHState.create(37, 17, false, 399, 5), null),
-		PatchDoom19.State.create(DEHState.create(37, 16, false, 400, 5), null),
-		PatchDoom19.State.create(DEHState.create(37, 15, false, 401, 5), null),
-		PatchDoom19.State.create(DEHState.create(37, 14, false, 402, 5), null),
-		PatchDoom19.State.create(DEHState.create(37, 13, false, 403, 5), null),
-		PatchDoom19.State.create(DEHState.create(37, 12, false, 404, 5), null),
-		PatchDoom19.State.create(DEHState.create(37, 11, false, 405, 5), null),
-		PatchDoom19.State.create(DEHState.create(37, 10, false, 364, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 0, false, 407, 10), 223),
-		PatchDoom19.State.create(DEHState.create(38, 1, false, 406, 10), 224),
-		PatchDoom19.State.create(DEHState.create(38, 0, false, 409, 3), 225),
-		PatchDoom19.State.create(DEHState.create(38, 0, false, 410, 3), 226),
-		PatchDoom19.State.create(DEHState.create(38, 1, false, 411, 3), 227),
-		PatchDoom19.State.create(DEHState.create(38, 1, false, 412, 3), 228),
-		PatchDoom19.State.create(DEHState.create(38, 2, false, 413, 3), 229),
-		PatchDoom19.State.create(DEHState.create(38, 2, false, 414, 3), 230),
-		PatchDoom19.State.create(DEHState.create(38, 3, false, 415, 3), 231),
-		PatchDoom19.State.create(DEHState.create(38, 3, false, 408, 3), 232),
-		PatchDoom19.State.create(DEHState.create(38, 4, false, 417, 10), 233),
-		PatchDoom19.State.create(DEHState.create(38, 5, true, 418, 4), 234),
-		PatchDoom19.State.create(DEHState.create(38, 4, true, 419, 4), 235),
-		PatchDoom19.State.create(DEHState.create(38, 5, false, 417, 1), 236),
-		PatchDoom19.State.create(DEHState.create(38, 6, false, 421, 3), null),
-		PatchDoom19.State.create(DEHState.create(38, 6, false, 408, 3), 237),
-		PatchDoom19.State.create(DEHState.create(38, 7, false, 423, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 8, false, 424, 5), 238),
-		PatchDoom19.State.create(DEHState.create(38, 9, false, 425, 5), 239),
-		PatchDoom19.State.create(DEHState.create(38, 10, false, 426, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 11, false, 427, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 12, false, 428, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 13, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(38, 14, false, 430, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 15, false, 431, 5), 240),
-		PatchDoom19.State.create(DEHState.create(38, 16, false, 432, 5), 241),
-		PatchDoom19.State.create(DEHState.create(38, 17, false, 433, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 18, false, 434, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 19, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(38, 13, false, 436, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 12, false, 437, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 11, false, 438, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 10, false, 439, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 9, false, 440, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 8, false, 441, 5), null),
-		PatchDoom19.State.create(DEHState.create(38, 7, false, 408, 5), null),
-		PatchDoom19.State.create(DEHState.create(0, 0, false, 443, 10), 242),
-		PatchDoom19.State.create(DEHState.create(0, 1, false, 442, 10), 243),
-		PatchDoom19.State.create(DEHState.create(0, 0, false, 445, 3), 244),
-		PatchDoom19.State.create(DEHState.create(0, 0, false, 446, 3), 245),
-		PatchDoom19.State.create(DEHState.create(0, 1, false, 447, 3), 246),
-		PatchDoom19.State.create(DEHState.create(0, 1, false, 448, 3), 247),
-		PatchDoom19.State.create(DEHState.create(0, 2, false, 449, 3), 248),
-		PatchDoom19.State.create(DEHState.create(0, 2, false, 450, 3), 249),
-		PatchDoom19.State.create(DEHState.create(0, 3, false, 451, 3), 250),
-		PatchDoom19.State.create(DEHState.create(0, 3, false, 444, 3), 251),
-		PatchDoom19.State.create(DEHState.create(0, 4, false, 453, 8), 252),
-		PatchDoom19.State.create(DEHState.create(0, 5, false, 454, 8), 253),
-		PatchDoom19.State.create(DEHState.create(0, 6, false, 444, 6), 254),
-		PatchDoom19.State.create(DEHState.create(0, 7, false, 456, 2), null),
-		PatchDoom19.State.create(DEHState.create(0, 7, false, 444, 2), 255),
-		PatchDoom19.State.create(DEHState.create(0, 8, false, 458, 8), null),
-		PatchDoom19.State.create(DEHState.create(0, 9, false, 459, 8), 256),
-		PatchDoom19.State.create(DEHState.create(0, 10, false, 460, 6), null),
-		PatchDoom19.State.create(DEHState.create(0, 11, false, 461, 6), 257),
-		PatchDoom19.State.create(DEHState.create(0, 12, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(0, 13, false, 463, 5), null),
-		PatchDoom19.State.create(DEHState.create(0, 14, false, 464, 5), 258),
-		PatchDoom19.State.create(DEHState.create(0, 15, false, 465, 5), null),
-		PatchDoom19.State.create(DEHState.create(0, 16, false, 466, 5), 259),
-		PatchDoom19.State.create(DEHState.create(0, 17, false, 467, 5), null),
-		PatchDoom19.State.create(DEHState.create(0, 18, false, 468, 5), null),
-		PatchDoom19.State.create(DEHState.create(0, 19, false, 469, 5), null),
-		PatchDoom19.State.create(DEHState.create(0, 20, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(0, 12, false, 471, 8), null),
-		PatchDoom19.State.create(DEHState.create(0, 11, false, 472, 8), null),
-		PatchDoom19.State.create(DEHState.create(0, 10, false, 473, 6), null),
-		PatchDoom19.State.create(DEHState.create(0, 9, false, 474, 6), null),
-		PatchDoom19.State.create(DEHState.create(0, 8, false, 444, 6), null),
-		PatchDoom19.State.create(DEHState.create(39, 0, false, 476, 10), 260),
-		PatchDoom19.State.create(DEHState.create(39, 1, false, 475, 10), 261),
-		PatchDoom19.State.create(DEHState.create(39, 0, false, 478, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 262),
-		PatchDoom19.State.create(DEHState.create(39, 0, false, 479, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 263),
-		PatchDoom19.State.create(DEHState.create(39, 1, false, 480, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 264),
-		PatchDoom19.State.create(DEHState.create(39, 1, false, 481, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 265),
-		PatchDoom19.State.create(DEHState.create(39, 2, false, 482, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 266),
-		PatchDoom19.State.create(DEHState.create(39, 2, false, 483, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 267),
-		PatchDoom19.State.create(DEHState.create(39, 3, false, 484, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 268),
-		PatchDoom19.State.create(DEHState.create(39, 3, false, 477, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 269),
-		PatchDoom19.State.create(DEHState.create(39, 4, false, 486, 8, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 270),
-		PatchDoom19.State.create(DEHState.create(39, 5, false, 487, 8, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 271),
-		PatchDoom19.State.create(DEHState.create(39, 6, false, 477, 8, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 272),
-		PatchDoom19.State.create(DEHState.create(39, 7, false, 489, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), null),
-		PatchDoom19.State.create(DEHState.create(39, 7, false, 477, 2, DEHFlag.flags(DEHStateMBF21Flag.SKILL5FAST)), 273),
-		PatchDoom19.State.create(DEHState.create(39, 8, false, 491, 8), null),
-		PatchDoom19.State.create(DEHState.create(39, 9, false, 492, 8), 274),
-		PatchDoom19.State.create(DEHState.create(39, 10, false, 493, 4), null),
-		PatchDoom19.State.create(DEHState.create(39, 11, false, 494, 4), 275),
-		PatchDoom19.State.create(DEHState.create(39, 12, false, 495, 4), null),
-		PatchDoom19.State.create(DEHState.create(39, 13, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(39, 13, false, 497, 5), null),
-		PatchDoom19.State.create(DEHState.create(39, 12, false, 498, 5), null),
-		PatchDoom19.State.create(DEHState.create(39, 11, false, 499, 5), null),
-		PatchDoom19.State.create(DEHState.create(39, 10, false, 500, 5), null),
-		PatchDoom19.State.create(DEHState.create(39, 9, false, 501, 5), null),
-		PatchDoom19.State.create(DEHState.create(39, 8, false, 477, 5), null),
-		PatchDoom19.State.create(DEHState.create(40, 0, false, 502, 10), 276),
-		PatchDoom19.State.create(DEHState.create(40, 0, false, 503, 3), 277),
-		PatchDoom19.State.create(DEHState.create(40, 1, false, 505, 5), 278),
-		PatchDoom19.State.create(DEHState.create(40, 2, false, 506, 5), 279),
-		PatchDoom19.State.create(DEHState.create(40, 3, true, 503, 5), 280),
-		PatchDoom19.State.create(DEHState.create(40, 4, false, 508, 3), null),
-		PatchDoom19.State.create(DEHState.create(40, 4, false, 509, 3), 281),
-		PatchDoom19.State.create(DEHState.create(40, 5, false, 503, 6), null),
-		PatchDoom19.State.create(DEHState.create(40, 6, false, 511, 8), null),
-		PatchDoom19.State.create(DEHState.create(40, 7, false, 512, 8), 282),
-		PatchDoom19.State.create(DEHState.create(40, 8, false, 513, 8), null),
-		PatchDoom19.State.create(DEHState.create(40, 9, false, 514, 8), null),
-		PatchDoom19.State.create(DEHState.create(40, 10, false, 515, 8), 283),
-		PatchDoom19.State.create(DEHState.create(40, 11, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(40, 11, false, 517, 8), null),
-		PatchDoom19.State.create(DEHState.create(40, 10, false, 518, 8), null),
-		PatchDoom19.State.create(DEHState.create(40, 9, false, 519, 8), null),
-		PatchDoom19.State.create(DEHState.create(40, 8, false, 520, 8), null),
-		PatchDoom19.State.create(DEHState.create(40, 7, false, 521, 8), null),
-		PatchDoom19.State.create(DEHState.create(40, 6, false, 503, 8), null),
-		PatchDoom19.State.create(DEHState.create(41, 0, true, 523, 4), null),
-		PatchDoom19.State.create(DEHState.create(41, 1, true, 522, 4), null),
-		PatchDoom19.State.create(DEHState.create(41, 2, true, 525, 6), null),
-		PatchDoom19.State.create(DEHState.create(41, 3, true, 526, 6), null),
-		PatchDoom19.State.create(DEHState.create(41, 4, true, 0, 6), null),
-		PatchDoom19.State.create(DEHState.create(42, 0, false, 528, 10), 284),
-		PatchDoom19.State.create(DEHState.create(42, 1, false, 527, 10), 285),
-		PatchDoom19.State.create(DEHState.create(42, 0, false, 530, 3), 286),
-		PatchDoom19.State.create(DEHState.create(42, 0, false, 531, 3), 287),
-		PatchDoom19.State.create(DEHState.create(42, 1, false, 532, 3), 288),
-		PatchDoom19.State.create(DEHState.create(42, 1, false, 533, 3), 289),
-		PatchDoom19.State.create(DEHState.create(42, 2, false, 534, 3), 290),
-		PatchDoom19.State.create(DEHState.create(42, 2, false, 535, 3), 291),
-		PatchDoom19.State.create(DEHState.create(42, 3, false, 536, 3), 292),
-		PatchDoom19.State.create(DEHState.create(42, 3, false, 529, 3), 293),
-		PatchDoom19.State.create(DEHState.create(42, 4, false, 538, 8), 294),
-		PatchDoom19.State.create(DEHState.create(42, 5, false, 539, 8), 295),
-		PatchDoom19.State.create(DEHState.create(42, 6, false, 529, 8), 296),
-		PatchDoom19.State.create(DEHState.create(42, 7, false, 541, 2), null),
-		PatchDoom19.State.create(DEHState.create(42, 7, false, 529, 2), 297),
-		PatchDoom19.State.create(DEHState.create(42, 8, false, 543, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 9, false, 544, 8), 298),
-		PatchDoom19.State.create(DEHState.create(42, 10, false, 545, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 11, false, 546, 8), 299),
-		PatchDoom19.State.create(DEHState.create(42, 12, false, 547, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 13, false, 548, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 14, false, 0, -1), 300),
-		PatchDoom19.State.create(DEHState.create(42, 14, false, 550, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 13, false, 551, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 12, false, 552, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 11, false, 553, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 10, false, 554, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 9, false, 555, 8), null),
-		PatchDoom19.State.create(DEHState.create(42, 8, false, 529, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 0, false, 557, 10), 301),
-		PatchDoom19.State.create(DEHState.create(43, 1, false, 556, 10), 302),
-		PatchDoom19.State.create(DEHState.create(43, 0, false, 559, 3), 303),
-		PatchDoom19.State.create(DEHState.create(43, 0, false, 560, 3), 304),
-		PatchDoom19.State.create(DEHState.create(43, 1, false, 561, 3), 305),
-		PatchDoom19.State.create(DEHState.create(43, 1, false, 562, 3), 306),
-		PatchDoom19.State.create(DEHState.create(43, 2, false, 563, 3), 307),
-		PatchDoom19.State.create(DEHState.create(43, 2, false, 564, 3), 308),
-		PatchDoom19.State.create(DEHState.create(43, 3, false, 565, 3), 309),
-		PatchDoom19.State.create(DEHState.create(43, 3, false, 558, 3), 310),
-		PatchDoom19.State.create(DEHState.create(43, 4, false, 567, 8), 311),
-		PatchDoom19.State.create(DEHState.create(43, 5, false, 568, 8), 312),
-		PatchDoom19.State.create(DEHState.create(43, 6, false, 558, 8), 313),
-		PatchDoom19.State.create(DEHState.create(43, 7, false, 570, 2), null),
-		PatchDoom19.State.create(DEHState.create(43, 7, false, 558, 2), 314),
-		PatchDoom19.State.create(DEHState.create(43, 8, false, 572, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 9, false, 573, 8), 315),
-		PatchDoom19.State.create(DEHState.create(43, 10, false, 574, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 11, false, 575, 8), 316),
-		PatchDoom19.State.create(DEHState.create(43, 12, false, 576, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 13, false, 577, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 14, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(43, 14, false, 579, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 13, false, 580, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 12, false, 581, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 11, false, 582, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 10, false, 583, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 9, false, 584, 8), null),
-		PatchDoom19.State.create(DEHState.create(43, 8, false, 558, 8), null),
-		PatchDoom19.State.create(DEHState.create(44, 0, true, 586, 10), 317),
-		PatchDoom19.State.create(DEHState.create(44, 1, true, 585, 10), 318),
-		PatchDoom19.State.create(DEHState.create(44, 0, true, 588, 6), 319),
-		PatchDoom19.State.create(DEHState.create(44, 1, true, 587, 6), 320),
-		PatchDoom19.State.create(DEHState.create(44, 2, true, 590, 10), 321),
-		PatchDoom19.State.create(DEHState.create(44, 3, true, 591, 4), 322),
-		PatchDoom19.State.create(DEHState.create(44, 2, true, 592, 4), null),
-		PatchDoom19.State.create(DEHState.create(44, 3, true, 591, 4), null),
-		PatchDoom19.State.create(DEHState.create(44, 4, true, 594, 3), null),
-		PatchDoom19.State.create(DEHState.create(44, 4, true, 587, 3), 323),
-		PatchDoom19.State.create(DEHState.create(44, 5, true, 596, 6), null),
-		PatchDoom19.State.create(DEHState.create(44, 6, true, 597, 6), 324),
-		PatchDoom19.State.create(DEHState.create(44, 7, true, 598, 6), null),
-		PatchDoom19.State.create(DEHState.create(44, 8, true, 599, 6), 325),
-		PatchDoom19.State.create(DEHState.create(44, 9, false, 600, 6), null),
-		PatchDoom19.State.create(DEHState.create(44, 10, false, 0, 6), null),
-		PatchDoom19.State.create(DEHState.create(45, 0, false, 602, 10), 326),
-		PatchDoom19.State.create(DEHState.create(45, 1, false, 601, 10), 327),
-		PatchDoom19.State.create(DEHState.create(45, 0, false, 604, 3), 328),
-		PatchDoom19.State.create(DEHState.create(45, 0, false, 605, 3), 329),
-		PatchDoom19.State.create(DEHState.create(45, 1, false, 606, 3), 330),
-		PatchDoom19.State.create(DEHState.create(45, 1, false, 607, 3), 331),
-		PatchDoom19.State.create(DEHState.create(45, 2, false, 608, 3), 332),
-		PatchDoom19.State.create(DEHState.create(45, 2, false, 609, 3), 333),
-		PatchDoom19.State.create(DEHState.create(45, 3, false, 610, 3), 334),
-		PatchDoom19.State.create(DEHState.create(45, 3, false, 611, 3), 335),
-		PatchDoom19.State.create(DEHState.create(45, 4, false, 612, 3), 336),
-		PatchDoom19.State.create(DEHState.create(45, 4, false, 613, 3), 337),
-		PatchDoom19.State.create(DEHState.create(45, 5, false, 614, 3), 338),
-		PatchDoom19.State.create(DEHState.create(45, 5, false, 603, 3), 339),
-		PatchDoom19.State.create(DEHState.create(45, 0, true, 616, 20), 340),
-		PatchDoom19.State.create(DEHState.create(45, 6, true, 617, 4), 341),
-		PatchDoom19.State.create(DEHState.create(45, 7, true, 618, 4), 342),
-		PatchDoom19.State.create(DEHState.create(45, 7, true, 616, 1), 343),
-		PatchDoom19.State.create(DEHState.create(45, 8, false, 620, 3), null),
-		PatchDoom19.State.create(DEHState.create(45, 8, false, 603, 3), 344),
-		PatchDoom19.State.create(DEHState.create(45, 9, false, 622, 20), 345),
-		PatchDoom19.State.create(DEHState.create(45, 10, false, 623, 10), 346),
-		PatchDoom19.State.create(DEHState.create(45, 11, false, 624, 10), null),
-		PatchDoom19.State.create(DEHState.create(45, 12, false, 625, 10), null),
-		PatchDoom19.State.create(DEHState.create(45, 13, false, 626, 10), null),
-		PatchDoom19.State.create(DEHState.create(45, 14, false, 627, 10), null),
-		PatchDoom19.State.create(DEHState.create(45, 15, false, 628, 10), null),
-		PatchDoom19.State.create(DEHState.create(45, 16, false, 629, 10), null),
-		PatchDoom19.State.create(DEHState.create(45, 17, false, 630, 10), null),
-		PatchDoom19.State.create(DEHState.create(45, 18, false, 631, 30), null),
-		PatchDoom19.State.create(DEHState.create(45, 18, false, 0, -1), 347),
-		PatchDoom19.State.create(DEHState.create(46, 0, false, 633, 10), 348),
-		PatchDoom19.State.create(DEHState.create(46, 1, false, 632, 10), 349),
-		PatchDoom19.State.create(DEHState.create(46, 0, false, 635, 20), null),
-		PatchDoom19.State.create(DEHState.create(46, 0, false, 636, 3), 350),
-		PatchDoom19.State.create(DEHState.create(46, 0, false, 637, 3), 351),
-		PatchDoom19.State.create(DEHState.create(46, 1, false, 638, 3), 352),
-		PatchDoom19.State.create(DEHState.create(46, 1, false, 639, 3), 353),
-		PatchDoom19.State.create(DEHState.create(46, 2, false, 640, 3), 354),
-		PatchDoom19.State.create(DEHState.create(46, 2, false, 641, 3), 355),
-		PatchDoom19.State.create(DEHState.create(46, 3, false, 642, 3), 356),
-		PatchDoom19.State.create(DEHState.create(46, 3, false, 643, 3), 357),
-		PatchDoom19.State.create(DEHState.create(46, 4, false, 644, 3), 358),
-		PatchDoom19.State.create(DEHState.create(46, 4, false, 645, 3), 359),
-		PatchDoom19.State.create(DEHState.create(46, 5, false, 646, 3), 360),
-		PatchDoom19.State.create(DEHState.create(46, 5, false, 635, 3), 361),
-		PatchDoom19.State.create(DEHState.create(46, 0, true, 648, 20), 362),
-		PatchDoom19.State.create(DEHState.create(46, 6, true, 649, 4), 363),
-		PatchDoom19.State.create(DEHState.create(46, 7, true, 650, 4), null),
-		PatchDoom19.State.create(DEHState.create(46, 7, true, 648, 1), 364),
-		PatchDoom19.State.create(DEHState.create(46, 8, false, 652, 3), null),
-		PatchDoom19.State.create(DEHState.create(46, 8, false, 635, 3), 365),
-		PatchDoom19.State.create(DEHState.create(46, 9, false, 654, 20), 366),
-		PatchDoom19.State.create(DEHState.create(46, 10, false, 655, 7), 367),
-		PatchDoom19.State.create(DEHState.create(46, 11, false, 656, 7), null),
-		PatchDoom19.State.create(DEHState.create(46, 12, false, 657, 7), null),
-		PatchDoom19.State.create(DEHState.create(46, 13, false, 658, 7), null),
-		PatchDoom19.State.create(DEHState.create(46, 14, false, 659, 7), null),
-		PatchDoom19.State.create(DEHState.create(46, 15, false, 0, -1), 368),
-		PatchDoom19.State.create(DEHState.create(46, 15, false, 661, 5), null),
-		PatchDoom19.State.create(DEHState.create(46, 14, false, 662, 5), null),
-		PatchDoom19.State.create(DEHState.create(46, 13, false, 663, 5), null),
-		PatchDoom19.State.create(DEHState.create(46, 12, false, 664, 5), null),
-		PatchDoom19.State.create(DEHState.create(46, 11, false, 665, 5), null),
-		PatchDoom19.State.create(DEHState.create(46, 10, false, 666, 5), null),
-		PatchDoom19.State.create(DEHState.create(46, 9, false, 635, 5), null),
-		PatchDoom19.State.create(DEHState.create(47, 0, true, 668, 5), null),
-		PatchDoom19.State.create(DEHState.create(47, 1, true, 667, 5), null),
-		PatchDoom19.State.create(DEHState.create(48, 0, true, 670, 5), null),
-		PatchDoom19.State.create(DEHState.create(48, 1, true, 671, 5), null),
-		PatchDoom19.State.create(DEHState.create(48, 2, true, 672, 5), null),
-		PatchDoom19.State.create(DEHState.create(48, 3, true, 673, 5), null),
-		PatchDoom19.State.create(DEHState.create(48, 4, true, 0, 5), null),
-		PatchDoom19.State.create(DEHState.create(49, 0, false, 675, 10), 369),
-		PatchDoom19.State.create(DEHState.create(49, 1, false, 674, 10), 370),
-		PatchDoom19.State.create(DEHState.create(49, 0, false, 677, 3), 371),
-		PatchDoom19.State.create(DEHState.create(49, 0, false, 678, 3), 372),
-		PatchDoom19.State.create(DEHState.create(49, 1, false, 679, 3), 373),
-		PatchDoom19.State.create(DEHState.create(49, 1, false, 680, 3), 374),
-		PatchDoom19.State.create(DEHState.create(49, 2, false, 681, 3), 375),
-		PatchDoom19.State.create(DEHState.create(49, 2, false, 682, 3), 376),
-		PatchDoom19.State.create(DEHState.create(49, 3, false, 683, 3), 377),
-		PatchDoom19.State.create(DEHState.create(49, 3, false, 676, 3), 378),
-		PatchDoom19.State.create(DEHState.create(49, 4, false, 685, 6), 379),
-		PatchDoom19.State.create(DEHState.create(49, 5, false, 686, 12), 380),
-		PatchDoom19.State.create(DEHState.create(49, 4, false, 687, 12), 381),
-		PatchDoom19.State.create(DEHState.create(49, 5, false, 688, 12), 382),
-		PatchDoom19.State.create(DEHState.create(49, 4, false, 689, 12), 383),
-		PatchDoom19.State.create(DEHState.create(49, 5, false, 676, 12), 384),
-		PatchDoom19.State.create(DEHState.create(49, 6, false, 676, 10), 385),
-		PatchDoom19.State.create(DEHState.create(49, 7, false, 692, 10), null),
-		PatchDoom19.State.create(DEHState.create(49, 8, false, 693, 10), 386),
-		PatchDoom19.State.create(DEHState.create(49, 9, false, 694, 10), null),
-		PatchDoom19.State.create(DEHState.create(49, 10, false, 695, 10), null),
-		PatchDoom19.State.create(DEHState.create(49, 11, false, 696, 10), null),
-		PatchDoom19.State.create(DEHState.create(49, 12, false, 697, 10), 387),
-		PatchDoom19.State.create(DEHState.create(49, 13, false, 698, 10), null),
-		PatchDoom19.State.create(DEHState.create(49, 14, false, 699, 10), null),
-		PatchDoom19.State.create(DEHState.create(49, 15, false, 700, 30), null),
-		PatchDoom19.State.create(DEHState.create(49, 15, false, 0, -1), 388),
-		PatchDoom19.State.create(DEHState.create(50, 0, false, 701, 10), 389),
-		PatchDoom19.State.create(DEHState.create(50, 0, false, 703, 3), 390),
-		PatchDoom19.State.create(DEHState.create(50, 0, false, 704, 3), 391),
-		PatchDoom19.State.create(DEHState.create(50, 1, false, 705, 3), 392),
-		PatchDoom19.State.create(DEHState.create(50, 1, false, 706, 3), 393),
-		PatchDoom19.State.create(DEHState.create(50, 2, false, 707, 3), 394),
-		PatchDoom19.State.create(DEHState.create(50, 2, false, 702, 3), 395),
-		PatchDoom19.State.create(DEHState.create(50, 3, false, 709, 5), 396),
-		PatchDoom19.State.create(DEHState.create(50, 4, false, 710, 5), 397),
-		PatchDoom19.State.create(DEHState.create(50, 5, true, 711, 5), 398),
-		PatchDoom19.State.create(DEHState.create(50, 5, true, 702, 0), 399),
-		PatchDoom19.State.create(DEHState.create(50, 6, false, 713, 6), null),
-		PatchDoom19.State.create(DEHState.create(50, 6, false, 702, 6), 400),
-		PatchDoom19.State.create(DEHState.create(50, 7, true, 715, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 8, true, 716, 8), 401),
-		PatchDoom19.State.create(DEHState.create(50, 9, true, 717, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 10, true, 718, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 11, true, 719, 8), 402),
-		PatchDoom19.State.create(DEHState.create(50, 12, true, 0, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 12, false, 721, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 11, false, 722, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 10, false, 723, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 9, false, 724, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 8, false, 725, 8), null),
-		PatchDoom19.State.create(DEHState.create(50, 7, false, 702, 8), null),
-		PatchDoom19.State.create(DEHState.create(51, 0, false, 727, 10), 403),
-		PatchDoom19.State.create(DEHState.create(51, 1, false, 726, 10), 404),
-		PatchDoom19.State.create(DEHState.create(51, 0, false, 729, 3), 405),
-		PatchDoom19.State.create(DEHState.create(51, 0, false, 730, 3), 406),
-		PatchDoom19.State.create(DEHState.create(51, 1, false, 731, 3), 407),
-		PatchDoom19.State.create(DEHState.create(51, 1, false, 732, 3), 408),
-		PatchDoom19.State.create(DEHState.create(51, 2, false, 733, 3), 409),
-		PatchDoom19.State.create(DEHState.create(51, 2, false, 734, 3), 410),
-		PatchDoom19.State.create(DEHState.create(51, 3, false, 735, 3), 411),
-		PatchDoom19.State.create(DEHState.create(51, 3, false, 728, 3), 412),
-		PatchDoom19.State.create(DEHState.create(51, 4, false, 737, 10), 413),
-		PatchDoom19.State.create(DEHState.create(51, 5, false, 738, 10), 414),
-		PatchDoom19.State.create(DEHState.create(51, 6, true, 739, 4), 415),
-		PatchDoom19.State.create(DEHState.create(51, 5, false, 740, 6), 416),
-		PatchDoom19.State.create(DEHState.create(51, 6, true, 741, 4), 417),
-		PatchDoom19.State.create(DEHState.create(51, 5, false, 737, 1), 418),
-		PatchDoom19.State.create(DEHState.create(51, 7, false, 743, 3), null),
-		PatchDoom19.State.create(DEHState.create(51, 7, false, 728, 3), 419),
-		PatchDoom19.State.create(DEHState.create(51, 8, false, 745, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 9, false, 746, 5), 420),
-		PatchDoom19.State.create(DEHState.create(51, 10, false, 747, 5), 421),
-		PatchDoom19.State.create(DEHState.create(51, 11, false, 748, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 12, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(51, 13, false, 750, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 14, false, 751, 5), 422),
-		PatchDoom19.State.create(DEHState.create(51, 15, false, 752, 5), 423),
-		PatchDoom19.State.create(DEHState.create(51, 16, false, 753, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 17, false, 754, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 18, false, 755, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 19, false, 756, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 20, false, 757, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 21, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(51, 12, false, 759, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 11, false, 760, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 10, false, 761, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 9, false, 762, 5), null),
-		PatchDoom19.State.create(DEHState.create(51, 8, false, 728, 5), null),
-		PatchDoom19.State.create(DEHState.create(52, 0, false, 763, -1), null),
-		PatchDoom19.State.create(DEHState.create(52, 0, false, 765, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 1, false, 766, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 2, false, 767, 6), 424),
-		PatchDoom19.State.create(DEHState.create(52, 3, false, 768, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 4, false, 769, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 5, false, 770, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 6, false, 771, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 7, false, 772, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 8, false, 773, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 9, false, 774, 6), null),
-		PatchDoom19.State.create(DEHState.create(52, 10, false, 775, 6), 425),
-		PatchDoom19.State.create(DEHState.create(52, 11, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(52, 12, false, 777, 4), null),
-		PatchDoom19.State.create(DEHState.create(52, 12, false, 763, 8), 426),
-		PatchDoom19.State.create(DEHState.create(53, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(53, 1, false, 778, 36), 427),
-		PatchDoom19.State.create(DEHState.create(53, 0, false, 781, 100), 428),
-		PatchDoom19.State.create(DEHState.create(53, 0, false, 782, 10), null),
-		PatchDoom19.State.create(DEHState.create(53, 0, false, 783, 10), null),
-		PatchDoom19.State.create(DEHState.create(53, 0, false, 0, -1), 429),
-		PatchDoom19.State.create(DEHState.create(51, 0, false, 784, 10), 430),
-		PatchDoom19.State.create(DEHState.create(51, 0, false, 786, 181), 431),
-		PatchDoom19.State.create(DEHState.create(51, 0, false, 786, 150), 432),
-		PatchDoom19.State.create(DEHState.create(54, 0, true, 788, 3), 433),
-		PatchDoom19.State.create(DEHState.create(54, 1, true, 789, 3), 434),
-		PatchDoom19.State.create(DEHState.create(54, 2, true, 790, 3), 435),
-		PatchDoom19.State.create(DEHState.create(54, 3, true, 787, 3), 436),
-		PatchDoom19.State.create(DEHState.create(32, 0, true, 792, 4), 437),
-		PatchDoom19.State.create(DEHState.create(32, 1, true, 793, 4), 438),
-		PatchDoom19.State.create(DEHState.create(32, 2, true, 794, 4), 439),
-		PatchDoom19.State.create(DEHState.create(32, 3, true, 795, 4), 440),
-		PatchDoom19.State.create(DEHState.create(32, 4, true, 796, 4), 441),
-		PatchDoom19.State.create(DEHState.create(32, 5, true, 797, 4), 442),
-		PatchDoom19.State.create(DEHState.create(32, 6, true, 798, 4), 443),
-		PatchDoom19.State.create(DEHState.create(32, 7, true, 0, 4), 444),
-		PatchDoom19.State.create(DEHState.create(22, 1, true, 800, 10), null),
-		PatchDoom19.State.create(DEHState.create(22, 2, true, 801, 10), null),
-		PatchDoom19.State.create(DEHState.create(22, 3, true, 0, 10), 445),
-		PatchDoom19.State.create(DEHState.create(55, 0, false, 803, 6), null),
-		PatchDoom19.State.create(DEHState.create(55, 1, true, 802, 7), null),
-		PatchDoom19.State.create(DEHState.create(56, 0, false, 805, 6), null),
-		PatchDoom19.State.create(DEHState.create(56, 1, true, 804, 6), null),
-		PatchDoom19.State.create(DEHState.create(57, 0, false, 807, 6), null),
-		PatchDoom19.State.create(DEHState.create(57, 1, false, 806, 6), null),
-		PatchDoom19.State.create(DEHState.create(58, 0, true, 809, 5), null),
-		PatchDoom19.State.create(DEHState.create(58, 1, true, 810, 5), 446),
-		PatchDoom19.State.create(DEHState.create(58, 2, true, 811, 5), null),
-		PatchDoom19.State.create(DEHState.create(58, 3, true, 812, 10), 447),
-		PatchDoom19.State.create(DEHState.create(58, 4, true, 0, 10), null),
-		PatchDoom19.State.create(DEHState.create(59, 0, true, 814, 4), null),
-		PatchDoom19.State.create(DEHState.create(59, 1, true, 815, 4), null),
-		PatchDoom19.State.create(DEHState.create(59, 2, true, 813, 4), null),
-		PatchDoom19.State.create(DEHState.create(60, 0, false, 817, 6), null),
-		PatchDoom19.State.create(DEHState.create(60, 1, false, 818, 6), null),
-		PatchDoom19.State.create(DEHState.create(60, 2, false, 819, 6), null),
-		PatchDoom19.State.create(DEHState.create(60, 3, false, 820, 6), null),
-		PatchDoom19.State.create(DEHState.create(60, 2, false, 821, 6), null),
-		PatchDoom19.State.create(DEHState.create(60, 1, false, 816, 6), null),
-		PatchDoom19.State.create(DEHState.create(61, 0, false, 823, 6), null),
-		PatchDoom19.State.create(DEHState.create(61, 1, false, 824, 6), null),
-		PatchDoom19.State.create(DEHState.create(61, 2, false, 825, 6), null),
-		PatchDoom19.State.create(DEHState.create(61, 3, false, 826, 6), null),
-		PatchDoom19.State.create(DEHState.create(61, 2, false, 827, 6), null),
-		PatchDoom19.State.create(DEHState.create(61, 1, false, 822, 6), null),
-		PatchDoom19.State.create(DEHState.create(62, 0, false, 829, 10), null),
-		PatchDoom19.State.create(DEHState.create(62, 1, true, 828, 10), null),
-		PatchDoom19.State.create(DEHState.create(63, 0, false, 831, 10), null),
-		PatchDoom19.State.create(DEHState.create(63, 1, true, 830, 10), null),
-		PatchDoom19.State.create(DEHState.create(64, 0, false, 833, 10), null),
-		PatchDoom19.State.create(DEHState.create(64, 1, true, 832, 10), null),
-		PatchDoom19.State.create(DEHState.create(65, 0, false, 835, 10), null),
-		PatchDoom19.State.create(DEHState.create(65, 1, true, 834, 10), null),
-		PatchDoom19.State.create(DEHState.create(66, 0, false, 837, 10), null),
-		PatchDoom19.State.create(DEHState.create(66, 1, true, 836, 10), null),
-		PatchDoom19.State.create(DEHState.create(67, 0, false, 839, 10), null),
-		PatchDoom19.State.create(DEHState.create(67, 1, true, 838, 10), null),
-		PatchDoom19.State.create(DEHState.create(68, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(69, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(70, 0, true, 843, 6), null),
-		PatchDoom19.State.create(DEHState.create(70, 1, true, 844, 6), null),
-		PatchDoom19.State.create(DEHState.create(70, 2, true, 845, 6), null),
-		PatchDoom19.State.create(DEHState.create(70, 3, true, 846, 6), null),
-		PatchDoom19.State.create(DEHState.create(70, 2, true, 847, 6), null),
-		PatchDoom19.State.create(DEHState.create(70, 1, true, 842, 6), null),
-		PatchDoom19.State.create(DEHState.create(71, 0, true, 849, 6), null),
-		PatchDoom19.State.create(DEHState.create(71, 1, true, 850, 6), null),
-		PatchDoom19.State.create(DEHState.create(71, 2, true, 851, 6), null),
-		PatchDoom19.State.create(DEHState.create(71, 3, true, 848, 6), null),
-		PatchDoom19.State.create(DEHState.create(72, 0, true, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(73, 0, true, 854, 6), null),
-		PatchDoom19.State.create(DEHState.create(73, 1, true, 855, 6), null),
-		PatchDoom19.State.create(DEHState.create(73, 2, true, 856, 6), null),
-		PatchDoom19.State.create(DEHState.create(73, 3, true, 853, 6), null),
-		PatchDoom19.State.create(DEHState.create(74, 0, true, 858, 6), null),
-		PatchDoom19.State.create(DEHState.create(74, 1, true, 859, 6), null),
-		PatchDoom19.State.create(DEHState.create(74, 2, true, 860, 6), null),
-		PatchDoom19.State.create(DEHState.create(74, 3, true, 857, 6), null),
-		PatchDoom19.State.create(DEHState.create(75, 0, true, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(76, 0, true, 863, 6), null),
-		PatchDoom19.State.create(DEHState.create(76, 1, true, 864, 6), null),
-		PatchDoom19.State.create(DEHState.create(76, 2, true, 865, 6), null),
-		PatchDoom19.State.create(DEHState.create(76, 3, true, 866, 6), null),
-		PatchDoom19.State.create(DEHState.create(76, 2, true, 867, 6), null),
-		PatchDoom19.State.create(DEHState.create(76, 1, true, 862, 6), null),
-		PatchDoom19.State.create(DEHState.create(77, 0, true, 869, 6), null),
-		PatchDoom19.State.create(DEHState.create(77, 1, false, 868, 6), null),
-		PatchDoom19.State.create(DEHState.create(78, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(79, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(80, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(81, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(82, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(83, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(84, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(85, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(86, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(87, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(88, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(89, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(90, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(91, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(92, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(93, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(94, 0, true, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(95, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(96, 0, false, 889, 10), null),
-		PatchDoom19.State.create(DEHState.create(96, 1, false, 890, 15), null),
-		PatchDoom19.State.create(DEHState.create(96, 2, false, 891, 8), null),
-		PatchDoom19.State.create(DEHState.create(96, 1, false, 888, 6), null),
-		PatchDoom19.State.create(DEHState.create(28, 13, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(28, 18, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(97, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(98, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(99, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(100, 0, true, 898, 6), null),
-		PatchDoom19.State.create(DEHState.create(100, 1, true, 897, 6), null),
-		PatchDoom19.State.create(DEHState.create(101, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(102, 0, false, 901, 6), null),
-		PatchDoom19.State.create(DEHState.create(102, 1, false, 900, 8), null),
-		PatchDoom19.State.create(DEHState.create(103, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(104, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(105, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(106, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(107, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(108, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(109, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(110, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(111, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(112, 0, true, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(113, 0, true, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(114, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(115, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(116, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(117, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(118, 0, true, 918, 6), null),
-		PatchDoom19.State.create(DEHState.create(118, 1, true, 919, 6), null),
-		PatchDoom19.State.create(DEHState.create(118, 2, true, 920, 6), null),
-		PatchDoom19.State.create(DEHState.create(118, 1, true, 917, 6), null),
-		PatchDoom19.State.create(DEHState.create(119, 0, true, 922, 6), null),
-		PatchDoom19.State.create(DEHState.create(119, 1, true, 923, 6), null),
-		PatchDoom19.State.create(DEHState.create(119, 2, true, 921, 6), null),
-		PatchDoom19.State.create(DEHState.create(120, 0, false, 925, 14), null),
-		PatchDoom19.State.create(DEHState.create(120, 1, false, 924, 14), null),
-		PatchDoom19.State.create(DEHState.create(121, 0, true, 927, 4), null),
-		PatchDoom19.State.create(DEHState.create(121, 1, true, 928, 4), null),
-		PatchDoom19.State.create(DEHState.create(121, 2, true, 929, 4), null),
-		PatchDoom19.State.create(DEHState.create(121, 3, true, 926, 4), null),
-		PatchDoom19.State.create(DEHState.create(122, 0, true, 931, 4), null),
-		PatchDoom19.State.create(DEHState.create(122, 1, true, 932, 4), null),
-		PatchDoom19.State.create(DEHState.create(122, 2, true, 933, 4), null),
-		PatchDoom19.State.create(DEHState.create(122, 3, true, 930, 4), null),
-		PatchDoom19.State.create(DEHState.create(123, 0, true, 935, 4), null),
-		PatchDoom19.State.create(DEHState.create(123, 1, true, 936, 4), null),
-		PatchDoom19.State.create(DEHState.create(123, 2, true, 937, 4), null),
-		PatchDoom19.State.create(DEHState.create(123, 3, true, 934, 4), null),
-		PatchDoom19.State.create(DEHState.create(124, 0, true, 939, 4), null),
-		PatchDoom19.State.create(DEHState.create(124, 1, true, 940, 4), null),
-		PatchDoom19.State.create(DEHState.create(124, 2, true, 941, 4), null),
-		PatchDoom19.State.create(DEHState.create(124, 3, true, 938, 4), null),
-		PatchDoom19.State.create(DEHState.create(125, 0, true, 943, 4), null),
-		PatchDoom19.State.create(DEHState.create(125, 1, true, 944, 4), null),
-		PatchDoom19.State.create(DEHState.create(125, 2, true, 945, 4), null),
-		PatchDoom19.State.create(DEHState.create(125, 3, true, 942, 4), null),
-		PatchDoom19.State.create(DEHState.create(126, 0, true, 947, 4), null),
-		PatchDoom19.State.create(DEHState.create(126, 1, true, 948, 4), null),
-		PatchDoom19.State.create(DEHState.create(126, 2, true, 949, 4), null),
-		PatchDoom19.State.create(DEHState.create(126, 3, true, 946, 4), null),
-		PatchDoom19.State.create(DEHState.create(127, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(128, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(129, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(130, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(131, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(132, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(133, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(134, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(135, 0, false, 0, -1), null),
-		PatchDoom19.State.create(DEHState.create(136, 0, true, 960, 4), null),
-		PatchDoom19.State.create(DEHState.create(136, 1, true, 961, 4), null),
-		PatchDoom19.State.create(DEHState.create(136, 2, true, 962, 4), null),
-		PatchDoom19.State.create(DEHState.create(136, 3, true, 959, 4), null),
-		PatchDoom19.State.create(DEHState.create(137, 0, true, 964, 4), null),
-		PatchDoom19.State.create(DEHState.create(137, 1, true, 965, 4), null),
-		PatchDoom19.State.create(DEHState.create(137, 2, true, 966, 4), null),
-		PatchDoom19.State.create(DEHState.create(137, 3, true, 963, 4), null)
-	};
+	static final SourceTable<PatchDoom19.State> DEHSTATE = SourceTable.doom19States(
+		"0 0 0 0 -1 -",
+		"1 4 0 0 0 0",
+		"2 0 0 2 1 1",
+		"2 0 0 3 1 2",
+		"2 0 0 4 1 3",
+		"2 1 0 6 4 -",
+		"2 2 0 7 4 4",
+		"2 3 0 8 5 -",
+		"2 2 0 9 4 -",
+		"2 1 0 2 5 5",
+		"3 0 0 10 1 6",
+		"3 0 0 11 1 7",
+		"3 0 0 12 1 8",
+		"3 0 0 14 4 -",
+		"3 1 0 15 6 9",
+		"3 2 0 16 4 -",
+		"3 1 0 10 5 10",
+		"4 0 1 1 7 11",
+		"1 0 0 18 1 12",
+		"1 0 0 19 1 13",
+		"1 0 0 20 1 14",
+		"1 0 0 22 3 -",
+		"1 0 0 23 7 15",
+		"1 1 0 24 5 -",
+		"1 2 0 25 5 -",
+		"1 3 0 26 4 -",
+		"1 2 0 27 5 -",
+		"1 1 0 28 5 -",
+		"1 0 0 29 3 -",
+		"1 0 0 18 7 16",
+		"5 0 1 31 4 17",
+		"5 1 1 1 3 18",
+		"6 0 0 32 1 19",
+		"6 0 0 33 1 20",
+		"6 0 0 34 1 21",
+		"6 0 0 36 3 -",
+		"6 0 0 37 7 22",
+		"6 1 0 38 7 -",
+		"6 2 0 39 7 23",
+		"6 3 0 40 7 24",
+		"6 4 0 41 7 -",
+		"6 5 0 42 7 25",
+		"6 6 0 43 6 -",
+		"6 7 0 44 6 26",
+		"6 0 0 32 5 27",
+		"6 1 0 46 7 -",
+		"6 0 0 33 3 -",
+		"6 8 1 48 5 28",
+		"6 9 1 1 4 29",
+		"7 0 0 49 1 30",
+		"7 0 0 50 1 31",
+		"7 0 0 51 1 32",
+		"7 0 0 53 4 33",
+		"7 1 0 54 4 34",
+		"7 1 0 49 0 35",
+		"8 0 1 1 5 36",
+		"8 1 1 1 5 37",
+		"9 0 0 57 1 38",
+		"9 0 0 58 1 39",
+		"9 0 0 59 1 40",
+		"9 1 0 61 8 41",
+		"9 1 0 62 12 42",
+		"9 1 0 57 0 43",
+		"10 0 1 64 3 44",
+		"10 1 1 65 4 -",
+		"10 2 1 66 4 45",
+		"10 3 1 1 4 46",
+		"11 2 0 68 4 47",
+		"11 3 0 67 4 48",
+		"11 2 0 69 1 49",
+		"11 2 0 70 1 50",
+		"11 0 0 72 4 51",
+		"11 1 0 73 4 52",
+		"11 1 0 67 0 53",
+		"12 0 0 74 1 54",
+		"12 0 0 75 1 55",
+		"12 0 0 76 1 56",
+		"12 0 0 78 3 57",
+		"12 1 0 74 20 58",
+		"13 0 1 1 4 59",
+		"13 1 1 1 4 60",
+		"14 0 0 81 1 61",
+		"14 0 0 82 1 62",
+		"14 0 0 83 1 63",
+		"14 0 0 85 20 64",
+		"14 1 0 86 10 65",
+		"14 1 0 87 10 66",
+		"14 1 0 81 20 67",
+		"15 0 1 89 11 68",
+		"15 1 1 1 6 69",
+		"16 2 0 91 8 -",
+		"16 1 0 92 8 -",
+		"16 0 0 0 8 -",
+		"17 0 1 94 4 -",
+		"17 1 0 95 4 -",
+		"17 2 0 96 4 -",
+		"17 3 0 0 4 -",
+		"18 0 1 98 4 -",
+		"18 1 1 97 4 -",
+		"18 2 1 100 6 -",
+		"18 3 1 101 6 -",
+		"18 4 1 0 6 -",
+		"19 0 1 103 4 -",
+		"19 1 1 102 4 -",
+		"19 2 1 105 6 -",
+		"19 3 1 106 6 -",
+		"19 4 1 0 6 -",
+		"20 0 1 108 6 -",
+		"20 1 1 107 6 -",
+		"21 0 1 110 4 -",
+		"21 1 1 111 4 -",
+		"21 2 1 112 4 -",
+		"21 3 1 113 4 -",
+		"21 4 1 0 4 -",
+		"22 0 1 114 1 -",
+		"23 0 1 116 4 -",
+		"23 1 1 115 4 -",
+		"24 0 1 118 8 -",
+		"24 1 1 119 8 -",
+		"24 2 1 120 8 70",
+		"24 3 1 121 8 -",
+		"24 4 1 122 8 -",
+		"24 5 1 0 8 -",
+		"25 0 1 124 8 -",
+		"25 1 1 125 8 -",
+		"25 2 1 126 8 -",
+		"25 3 1 0 8 -",
+		"22 1 1 128 8 71",
+		"22 2 1 129 6 -",
+		"22 3 1 0 4 -",
+		"26 0 1 131 6 -",
+		"26 1 1 132 6 -",
+		"26 0 1 133 6 -",
+		"26 1 1 134 6 -",
+		"26 2 1 135 6 -",
+		"26 3 1 136 6 -",
+		"26 4 1 137 6 -",
+		"26 5 1 138 6 -",
+		"26 6 1 139 6 -",
+		"26 7 1 140 6 -",
+		"26 8 1 141 6 -",
+		"26 9 1 0 6 -",
+		"27 0 1 143 6 -",
+		"27 1 1 144 6 -",
+		"27 0 1 145 6 -",
+		"27 1 1 146 6 -",
+		"27 2 1 147 6 -",
+		"27 3 1 148 6 -",
+		"27 4 1 0 6 -",
+		"28 0 0 0 -1 -",
+		"28 0 0 151 4 -",
+		"28 1 0 152 4 -",
+		"28 2 0 153 4 -",
+		"28 3 0 150 4 -",
+		"28 4 0 149 12 -",
+		"28 5 1 154 6 -",
+		"28 6 0 157 4 -",
+		"28 6 0 149 4 72",
+		"28 7 0 159 10 -",
+		"28 8 0 160 10 73",
+		"28 9 0 161 10 74",
+		"28 10 0 162 10 -",
+		"28 11 0 163 10 -",
+		"28 12 0 164 10 -",
+		"28 13 0 0 -1 -",
+		"28 14 0 166 5 -",
+		"28 15 0 167 5 75",
+		"28 16 0 168 5 76",
+		"28 17 0 169 5 -",
+		"28 18 0 170 5 -",
+		"28 19 0 171 5 -",
+		"28 20 0 172 5 -",
+		"28 21 0 173 5 -",
+		"28 22 0 0 -1 -",
+		"29 0 0 175 10 77",
+		"29 1 0 174 10 78",
+		"29 0 0 177 4 79",
+		"29 0 0 178 4 80",
+		"29 1 0 179 4 81",
+		"29 1 0 180 4 82",
+		"29 2 0 181 4 83",
+		"29 2 0 182 4 84",
+		"29 3 0 183 4 85",
+		"29 3 0 176 4 86",
+		"29 4 0 185 10 87",
+		"29 5 0 186 8 88",
+		"29 4 0 176 8 -",
+		"29 6 0 188 3 -",
+		"29 6 0 176 3 89",
+		"29 7 0 190 5 -",
+		"29 8 0 191 5 90",
+		"29 9 0 192 5 91",
+		"29 10 0 193 5 -",
+		"29 11 0 0 -1 -",
+		"29 12 0 195 5 -",
+		"29 13 0 196 5 92",
+		"29 14 0 197 5 93",
+		"29 15 0 198 5 -",
+		"29 16 0 199 5 -",
+		"29 17 0 200 5 -",
+		"29 18 0 201 5 -",
+		"29 19 0 202 5 -",
+		"29 20 0 0 -1 -",
+		"29 10 0 204 5 -",
+		"29 9 0 205 5 -",
+		"29 8 0 206 5 -",
+		"29 7 0 176 5 -",
+		"30 0 0 208 10 94",
+		"30 1 0 207 10 95",
+		"30 0 0 210 3 96",
+		"30 0 0 211 3 97",
+		"30 1 0 212 3 98",
+		"30 1 0 213 3 99",
+		"30 2 0 214 3 100",
+		"30 2 0 215 3 101",
+		"30 3 0 216 3 102",
+		"30 3 0 209 3 103",
+		"30 4 0 218 10 104",
+		"30 5 1 219 10 105",
+		"30 4 0 209 10 -",
+		"30 6 0 221 3 -",
+		"30 6 0 209 3 106",
+		"30 7 0 223 5 -",
+		"30 8 0 224 5 107",
+		"30 9 0 225 5 108",
+		"30 10 0 226 5 -",
+		"30 11 0 0 -1 -",
+		"30 12 0 228 5 -",
+		"30 13 0 229 5 109",
+		"30 14 0 230 5 110",
+		"30 15 0 231 5 -",
+		"30 16 0 232 5 -",
+		"30 17 0 233 5 -",
+		"30 18 0 234 5 -",
+		"30 19 0 235 5 -",
+		"30 20 0 0 -1 -",
+		"30 11 0 237 5 -",
+		"30 10 0 238 5 -",
+		"30 9 0 239 5 -",
+		"30 8 0 240 5 -",
+		"30 7 0 209 5 -",
+		"31 0 0 242 10 111",
+		"31 1 0 241 10 112",
+		"31 0 0 244 2 113",
+		"31 0 0 245 2 114",
+		"31 1 0 246 2 115",
+		"31 1 0 247 2 116",
+		"31 2 0 248 2 117",
+		"31 2 0 249 2 118",
+		"31 3 0 250 2 119",
+		"31 3 0 251 2 120",
+		"31 4 0 252 2 121",
+		"31 4 0 253 2 122",
+		"31 5 0 254 2 123",
+		"31 5 0 243 2 124",
+		"31 6 1 256 0 125",
+		"31 6 1 257 10 126",
+		"31 7 1 258 8 127",
+		"31 8 1 259 8 128",
+		"31 9 1 260 8 129",
+		"31 10 1 261 8 130",
+		"31 11 1 262 8 131",
+		"31 12 1 263 8 132",
+		"31 13 1 264 8 133",
+		"31 14 1 265 8 134",
+		"31 15 1 243 20 -",
+		"31 26 1 267 10 -",
+		"31 27 1 268 10 -",
+		"31 28 1 243 10 -",
+		"31 16 0 270 5 -",
+		"31 16 0 243 5 135",
+		"31 16 0 272 7 -",
+		"31 17 0 273 7 136",
+		"31 18 0 274 7 137",
+		"31 19 0 275 7 -",
+		"31 20 0 276 7 -",
+		"31 21 0 277 7 -",
+		"31 22 0 278 7 -",
+		"31 23 0 279 5 -",
+		"31 24 0 280 5 -",
+		"31 25 0 0 -1 -",
+		"32 0 1 282 2 138",
+		"32 1 1 283 2 139",
+		"32 0 1 284 2 140",
+		"32 1 1 285 2 141",
+		"32 2 1 286 2 142",
+		"32 1 1 287 2 143",
+		"32 2 1 288 2 144",
+		"32 1 1 289 2 145",
+		"32 2 1 290 2 146",
+		"32 3 1 291 2 147",
+		"32 2 1 292 2 148",
+		"32 3 1 293 2 149",
+		"32 2 1 294 2 150",
+		"32 3 1 295 2 151",
+		"32 4 1 296 2 152",
+		"32 3 1 297 2 153",
+		"32 4 1 298 2 154",
+		"32 3 1 299 2 155",
+		"32 4 1 300 2 156",
+		"32 5 1 301 2 157",
+		"32 4 1 302 2 158",
+		"32 5 1 303 2 159",
+		"32 4 1 304 2 160",
+		"32 5 1 305 2 161",
+		"32 6 1 306 2 162",
+		"32 7 1 307 2 163",
+		"32 6 1 308 2 164",
+		"32 7 1 309 2 165",
+		"32 6 1 310 2 166",
+		"32 7 1 0 2 167",
+		"17 1 0 312 4 -",
+		"17 2 0 313 4 -",
+		"17 1 0 314 4 -",
+		"17 2 0 315 4 -",
+		"17 3 0 0 4 -",
+		"33 0 1 317 2 168",
+		"33 1 1 316 2 169",
+		"34 0 1 319 8 -",
+		"34 1 1 320 6 -",
+		"34 2 1 0 4 -",
+		"35 0 0 322 10 170",
+		"35 1 0 321 10 171",
+		"35 0 0 324 2 172",
+		"35 0 0 325 2 173",
+		"35 1 0 326 2 174",
+		"35 1 0 327 2 175",
+		"35 2 0 328 2 176",
+		"35 2 0 329 2 177",
+		"35 3 0 330 2 178",
+		"35 3 0 331 2 179",
+		"35 4 0 332 2 180",
+		"35 4 0 333 2 181",
+		"35 5 0 334 2 182",
+		"35 5 0 323 2 183",
+		"35 6 0 336 0 184",
+		"35 6 0 337 6 185",
+		"35 7 0 338 6 186",
+		"35 8 0 323 6 187",
+		"35 9 1 340 0 188",
+		"35 9 1 341 10 189",
+		"35 10 0 342 10 190",
+		"35 10 0 323 10 191",
+		"35 11 0 344 5 -",
+		"35 11 0 323 5 192",
+		"35 11 0 346 7 -",
+		"35 12 0 347 7 -",
+		"35 13 0 348 7 193",
+		"35 14 0 349 7 194",
+		"35 15 0 350 7 -",
+		"35 16 0 0 -1 -",
+		"35 16 0 352 5 -",
+		"35 15 0 353 5 -",
+		"35 14 0 354 5 -",
+		"35 13 0 355 5 -",
+		"35 12 0 356 5 -",
+		"35 11 0 323 5 -",
+		"36 0 1 358 4 -",
+		"36 1 1 357 4 -",
+		"22 1 1 360 8 -",
+		"22 2 1 361 6 -",
+		"22 3 1 0 4 -",
+		"37 0 0 363 15 195",
+		"37 1 0 362 15 196",
+		"37 0 0 365 4 197",
+		"37 0 0 366 4 198",
+		"37 1 0 367 4 199",
+		"37 1 0 368 4 200",
+		"37 2 0 369 4 201",
+		"37 2 0 370 4 202",
+		"37 3 0 371 4 203",
+		"37 3 0 372 4 204",
+		"37 4 0 373 4 205",
+		"37 4 0 374 4 206",
+		"37 5 0 375 4 207",
+		"37 5 0 364 4 208",
+		"37 6 0 377 20 209",
+		"37 7 1 378 10 210",
+		"37 8 0 379 5 211",
+		"37 6 0 380 5 212",
+		"37 7 1 381 10 213",
+		"37 8 0 382 5 214",
+		"37 6 0 383 5 215",
+		"37 7 1 384 10 216",
+		"37 8 0 385 5 217",
+		"37 6 0 364 5 218",
+		"37 9 0 387 3 -",
+		"37 9 0 364 3 219",
+		"37 10 0 389 6 -",
+		"37 11 0 390 6 220",
+		"37 12 0 391 6 221",
+		"37 13 0 392 6 -",
+		"37 14 0 393 6 -",
+		"37 15 0 394 6 -",
+		"37 16 0 395 6 -",
+		"37 17 0 396 6 -",
+		"37 18 0 397 6 -",
+		"37 19 0 0 -1 222",
+		"37 17 0 399 5 -",
+		"37 16 0 400 5 -",
+		"37 15 0 401 5 -",
+		"37 14 0 402 5 -",
+		"37 13 0 403 5 -",
+		"37 12 0 404 5 -",
+		"37 11 0 405 5 -",
+		"37 10 0 364 5 -",
+		"38 0 0 407 10 223",
+		"38 1 0 406 10 224",
+		"38 0 0 409 3 225",
+		"38 0 0 410 3 226",
+		"38 1 0 411 3 227",
+		"38 1 0 412 3 228",
+		"38 2 0 413 3 229",
+		"38 2 0 414 3 230",
+		"38 3 0 415 3 231",
+		"38 3 0 408 3 232",
+		"38 4 0 417 10 233",
+		"38 5 1 418 4 234",
+		"38 4 1 419 4 235",
+		"38 5 0 417 1 236",
+		"38 6 0 421 3 -",
+		"38 6 0 408 3 237",
+		"38 7 0 423 5 -",
+		"38 8 0 424 5 238",
+		"38 9 0 425 5 239",
+		"38 10 0 426 5 -",
+		"38 11 0 427 5 -",
+		"38 12 0 428 5 -",
+		"38 13 0 0 -1 -",
+		"38 14 0 430 5 -",
+		"38 15 0 431 5 240",
+		"38 16 0 432 5 241",
+		"38 17 0 433 5 -",
+		"38 18 0 434 5 -",
+		"38 19 0 0 -1 -",
+		"38 13 0 436 5 -",
+		"38 12 0 437 5 -",
+		"38 11 0 438 5 -",
+		"38 10 0 439 5 -",
+		"38 9 0 440 5 -",
+		"38 8 0 441 5 -",
+		"38 7 0 408 5 -",
+		"0 0 0 443 10 242",
+		"0 1 0 442 10 243",
+		"0 0 0 445 3 244",
+		"0 0 0 446 3 245",
+		"0 1 0 447 3 246",
+		"0 1 0 448 3 247",
+		"0 2 0 449 3 248",
+		"0 2 0 450 3 249",
+		"0 3 0 451 3 250",
+		"0 3 0 444 3 251",
+		"0 4 0 453 8 252",
+		"0 5 0 454 8 253",
+		"0 6 0 444 6 254",
+		"0 7 0 456 2 -",
+		"0 7 0 444 2 255",
+		"0 8 0 458 8 -",
+		"0 9 0 459 8 256",
+		"0 10 0 460 6 -",
+		"0 11 0 461 6 257",
+		"0 12 0 0 -1 -",
+		"0 13 0 463 5 -",
+		"0 14 0 464 5 258",
+		"0 15 0 465 5 -",
+		"0 16 0 466 5 259",
+		"0 17 0 467 5 -",
+		"0 18 0 468 5 -",
+		"0 19 0 469 5 -",
+		"0 20 0 0 -1 -",
+		"0 12 0 471 8 -",
+		"0 11 0 472 8 -",
+		"0 10 0 473 6 -",
+		"0 9 0 474 6 -",
+		"0 8 0 444 6 -",
+		"39 0 0 476 10 260",
+		"39 1 0 475 10 261",
+		"39 0 0 478 2 262 1",
+		"39 0 0 479 2 263 1",
+		"39 1 0 480 2 264 1",
+		"39 1 0 481 2 265 1",
+		"39 2 0 482 2 266 1",
+		"39 2 0 483 2 267 1",
+		"39 3 0 484 2 268 1",
+		"39 3 0 477 2 269 1",
+		"39 4 0 486 8 270 1",
+		"39 5 0 487 8 271 1",
+		"39 6 0 477 8 272 1",
+		"39 7 0 489 2 - 1",
+		"39 7 0 477 2 273 1",
+		"39 8 0 491 8 -",
+		"39 9 0 492 8 274",
+		"39 10 0 493 4 -",
+		"39 11 0 494 4 275",
+		"39 12 0 495 4 -",
+		"39 13 0 0 -1 -",
+		"39 13 0 497 5 -",
+		"39 12 0 498 5 -",
+		"39 11 0 499 5 -",
+		"39 10 0 500 5 -",
+		"39 9 0 501 5 -",
+		"39 8 0 477 5 -",
+		"40 0 0 502 10 276",
+		"40 0 0 503 3 277",
+		"40 1 0 505 5 278",
+		"40 2 0 506 5 279",
+		"40 3 1 503 5 280",
+		"40 4 0 508 3 -",
+		"40 4 0 509 3 281",
+		"40 5 0 503 6 -",
+		"40 6 0 511 8 -",
+		"40 7 0 512 8 282",
+		"40 8 0 513 8 -",
+		"40 9 0 514 8 -",
+		"40 10 0 515 8 283",
+		"40 11 0 0 -1 -",
+		"40 11 0 517 8 -",
+		"40 10 0 518 8 -",
+		"40 9 0 519 8 -",
+		"40 8 0 520 8 -",
+		"40 7 0 521 8 -",
+		"40 6 0 503 8 -",
+		"41 0 1 523 4 -",
+		"41 1 1 522 4 -",
+		"41 2 1 525 6 -",
+		"41 3 1 526 6 -",
+		"41 4 1 0 6 -",
+		"42 0 0 528 10 284",
+		"42 1 0 527 10 285",
+		"42 0 0 530 3 286",
+		"42 0 0 531 3 287",
+		"42 1 0 532 3 288",
+		"42 1 0 533 3 289",
+		"42 2 0 534 3 290",
+		"42 2 0 535 3 291",
+		"42 3 0 536 3 292",
+		"42 3 0 529 3 293",
+		"42 4 0 538 8 294",
+		"42 5 0 539 8 295",
+		"42 6 0 529 8 296",
+		"42 7 0 541 2 -",
+		"42 7 0 529 2 297",
+		"42 8 0 543 8 -",
+		"42 9 0 544 8 298",
+		"42 10 0 545 8 -",
+		"42 11 0 546 8 299",
+		"42 12 0 547 8 -",
+		"42 13 0 548 8 -",
+		"42 14 0 0 -1 300",
+		"42 14 0 550 8 -",
+		"42 13 0 551 8 -",
+		"42 12 0 552 8 -",
+		"42 11 0 553 8 -",
+		"42 10 0 554 8 -",
+		"42 9 0 555 8 -",
+		"42 8 0 529 8 -",
+		"43 0 0 557 10 301",
+		"43 1 0 556 10 302",
+		"43 0 0 559 3 303",
+		"43 0 0 560 3 304",
+		"43 1 0 561 3 305",
+		"43 1 0 562 3 306",
+		"43 2 0 563 3 307",
+		"43 2 0 564 3 308",
+		"43 3 0 565 3 309",
+		"43 3 0 558 3 310",
+		"43 4 0 567 8 311",
+		"43 5 0 568 8 312",
+		"43 6 0 558 8 313",
+		"43 7 0 570 2 -",
+		"43 7 0 558 2 314",
+		"43 8 0 572 8 -",
+		"43 9 0 573 8 315",
+		"43 10 0 574 8 -",
+		"43 11 0 575 8 316",
+		"43 12 0 576 8 -",
+		"43 13 0 577 8 -",
+		"43 14 0 0 -1 -",
+		"43 14 0 579 8 -",
+		"43 13 0 580 8 -",
+		"43 12 0 581 8 -",
+		"43 11 0 582 8 -",
+		"43 10 0 583 8 -",
+		"43 9 0 584 8 -",
+		"43 8 0 558 8 -",
+		"44 0 1 586 10 317",
+		"44 1 1 585 10 318",
+		"44 0 1 588 6 319",
+		"44 1 1 587 6 320",
+		"44 2 1 590 10 321",
+		"44 3 1 591 4 322",
+		"44 2 1 592 4 -",
+		"44 3 1 591 4 -",
+		"44 4 1 594 3 -",
+		"44 4 1 587 3 323",
+		"44 5 1 596 6 -",
+		"44 6 1 597 6 324",
+		"44 7 1 598 6 -",
+		"44 8 1 599 6 325",
+		"44 9 0 600 6 -",
+		"44 10 0 0 6 -",
+		"45 0 0 602 10 326",
+		"45 1 0 601 10 327",
+		"45 0 0 604 3 328",
+		"45 0 0 605 3 329",
+		"45 1 0 606 3 330",
+		"45 1 0 607 3 331",
+		"45 2 0 608 3 332",
+		"45 2 0 609 3 333",
+		"45 3 0 610 3 334",
+		"45 3 0 611 3 335",
+		"45 4 0 612 3 336",
+		"45 4 0 613 3 337",
+		"45 5 0 614 3 338",
+		"45 5 0 603 3 339",
+		"45 0 1 616 20 340",
+		"45 6 1 617 4 341",
+		"45 7 1 618 4 342",
+		"45 7 1 616 1 343",
+		"45 8 0 620 3 -",
+		"45 8 0 603 3 344",
+		"45 9 0 622 20 345",
+		"45 10 0 623 10 346",
+		"45 11 0 624 10 -",
+		"45 12 0 625 10 -",
+		"45 13 0 626 10 -",
+		"45 14 0 627 10 -",
+		"45 15 0 628 10 -",
+		"45 16 0 629 10 -",
+		"45 17 0 630 10 -",
+		"45 18 0 631 30 -",
+		"45 18 0 0 -1 347",
+		"46 0 0 633 10 348",
+		"46 1 0 632 10 349",
+		"46 0 0 635 20 -",
+		"46 0 0 636 3 350",
+		"46 0 0 637 3 351",
+		"46 1 0 638 3 352",
+		"46 1 0 639 3 353",
+		"46 2 0 640 3 354",
+		"46 2 0 641 3 355",
+		"46 3 0 642 3 356",
+		"46 3 0 643 3 357",
+		"46 4 0 644 3 358",
+		"46 4 0 645 3 359",
+		"46 5 0 646 3 360",
+		"46 5 0 635 3 361",
+		"46 0 1 648 20 362",
+		"46 6 1 649 4 363",
+		"46 7 1 650 4 -",
+		"46 7 1 648 1 364",
+		"46 8 0 652 3 -",
+		"46 8 0 635 3 365",
+		"46 9 0 654 20 366",
+		"46 10 0 655 7 367",
+		"46 11 0 656 7 -",
+		"46 12 0 657 7 -",
+		"46 13 0 658 7 -",
+		"46 14 0 659 7 -",
+		"46 15 0 0 -1 368",
+		"46 15 0 661 5 -",
+		"46 14 0 662 5 -",
+		"46 13 0 663 5 -",
+		"46 12 0 664 5 -",
+		"46 11 0 665 5 -",
+		"46 10 0 666 5 -",
+		"46 9 0 635 5 -",
+		"47 0 1 668 5 -",
+		"47 1 1 667 5 -",
+		"48 0 1 670 5 -",
+		"48 1 1 671 5 -",
+		"48 2 1 672 5 -",
+		"48 3 1 673 5 -",
+		"48 4 1 0 5 -",
+		"49 0 0 675 10 369",
+		"49 1 0 674 10 370",
+		"49 0 0 677 3 371",
+		"49 0 0 678 3 372",
+		"49 1 0 679 3 373",
+		"49 1 0 680 3 374",
+		"49 2 0 681 3 375",
+		"49 2 0 682 3 376",
+		"49 3 0 683 3 377",
+		"49 3 0 676 3 378",
+		"49 4 0 685 6 379",
+		"49 5 0 686 12 380",
+		"49 4 0 687 12 381",
+		"49 5 0 688 12 382",
+		"49 4 0 689 12 383",
+		"49 5 0 676 12 384",
+		"49 6 0 676 10 385",
+		"49 7 0 692 10 -",
+		"49 8 0 693 10 386",
+		"49 9 0 694 10 -",
+		"49 10 0 695 10 -",
+		"49 11 0 696 10 -",
+		"49 12 0 697 10 387",
+		"49 13 0 698 10 -",
+		"49 14 0 699 10 -",
+		"49 15 0 700 30 -",
+		"49 15 0 0 -1 388",
+		"50 0 0 701 10 389",
+		"50 0 0 703 3 390",
+		"50 0 0 704 3 391",
+		"50 1 0 705 3 392",
+		"50 1 0 706 3 393",
+		"50 2 0 707 3 394",
+		"50 2 0 702 3 395",
+		"50 3 0 709 5 396",
+		"50 4 0 710 5 397",
+		"50 5 1 711 5 398",
+		"50 5 1 702 0 399",
+		"50 6 0 713 6 -",
+		"50 6 0 702 6 400",
+		"50 7 1 715 8 -",
+		"50 8 1 716 8 401",
+		"50 9 1 717 8 -",
+		"50 10 1 718 8 -",
+		"50 11 1 719 8 402",
+		"50 12 1 0 8 -",
+		"50 12 0 721 8 -",
+		"50 11 0 722 8 -",
+		"50 10 0 723 8 -",
+		"50 9 0 724 8 -",
+		"50 8 0 725 8 -",
+		"50 7 0 702 8 -",
+		"51 0 0 727 10 403",
+		"51 1 0 726 10 404",
+		"51 0 0 729 3 405",
+		"51 0 0 730 3 406",
+		"51 1 0 731 3 407",
+		"51 1 0 732 3 408",
+		"51 2 0 733 3 409",
+		"51 2 0 734 3 410",
+		"51 3 0 735 3 411",
+		"51 3 0 728 3 412",
+		"51 4 0 737 10 413",
+		"51 5 0 738 10 414",
+		"51 6 1 739 4 415",
+		"51 5 0 740 6 416",
+		"51 6 1 741 4 417",
+		"51 5 0 737 1 418",
+		"51 7 0 743 3 -",
+		"51 7 0 728 3 419",
+		"51 8 0 745 5 -",
+		"51 9 0 746 5 420",
+		"51 10 0 747 5 421",
+		"51 11 0 748 5 -",
+		"51 12 0 0 -1 -",
+		"51 13 0 750 5 -",
+		"51 14 0 751 5 422",
+		"51 15 0 752 5 423",
+		"51 16 0 753 5 -",
+		"51 17 0 754 5 -",
+		"51 18 0 755 5 -",
+		"51 19 0 756 5 -",
+		"51 20 0 757 5 -",
+		"51 21 0 0 -1 -",
+		"51 12 0 759 5 -",
+		"51 11 0 760 5 -",
+		"51 10 0 761 5 -",
+		"51 9 0 762 5 -",
+		"51 8 0 728 5 -",
+		"52 0 0 763 -1 -",
+		"52 0 0 765 6 -",
+		"52 1 0 766 6 -",
+		"52 2 0 767 6 424",
+		"52 3 0 768 6 -",
+		"52 4 0 769 6 -",
+		"52 5 0 770 6 -",
+		"52 6 0 771 6 -",
+		"52 7 0 772 6 -",
+		"52 8 0 773 6 -",
+		"52 9 0 774 6 -",
+		"52 10 0 775 6 425",
+		"52 11 0 0 -1 -",
+		"52 12 0 777 4 -",
+		"52 12 0 763 8 426",
+		"53 0 0 0 -1 -",
+		"53 1 0 778 36 427",
+		"53 0 0 781 100 428",
+		"53 0 0 782 10 -",
+		"53 0 0 783 10 -",
+		"53 0 0 0 -1 429",
+		"51 0 0 784 10 430",
+		"51 0 0 786 181 431",
+		"51 0 0 786 150 432",
+		"54 0 1 788 3 433",
+		"54 1 1 789 3 434",
+		"54 2 1 790 3 435",
+		"54 3 1 787 3 436",
+		"32 0 1 792 4 437",
+		"32 1 1 793 4 438",
+		"32 2 1 794 4 439",
+		"32 3 1 795 4 440",
+		"32 4 1 796 4 441",
+		"32 5 1 797 4 442",
+		"32 6 1 798 4 443",
+		"32 7 1 0 4 444",
+		"22 1 1 800 10 -",
+		"22 2 1 801 10 -",
+		"22 3 1 0 10 445",
+		"55 0 0 803 6 -",
+		"55 1 1 802 7 -",
+		"56 0 0 805 6 -",
+		"56 1 1 804 6 -",
+		"57 0 0 807 6 -",
+		"57 1 0 806 6 -",
+		"58 0 1 809 5 -",
+		"58 1 1 810 5 446",
+		"58 2 1 811 5 -",
+		"58 3 1 812 10 447",
+		"58 4 1 0 10 -",
+		"59 0 1 814 4 -",
+		"59 1 1 815 4 -",
+		"59 2 1 813 4 -",
+		"60 0 0 817 6 -",
+		"60 1 0 818 6 -",
+		"60 2 0 819 6 -",
+		"60 3 0 820 6 -",
+		"60 2 0 821 6 -",
+		"60 1 0 816 6 -",
+		"61 0 0 823 6 -",
+		"61 1 0 824 6 -",
+		"61 2 0 825 6 -",
+		"61 3 0 826 6 -",
+		"61 2 0 827 6 -",
+		"61 1 0 822 6 -",
+		"62 0 0 829 10 -",
+		"62 1 1 828 10 -",
+		"63 0 0 831 10 -",
+		"63 1 1 830 10 -",
+		"64 0 0 833 10 -",
+		"64 1 1 832 10 -",
+		"65 0 0 835 10 -",
+		"65 1 1 834 10 -",
+		"66 0 0 837 10 -",
+		"66 1 1 836 10 -",
+		"67 0 0 839 10 -",
+		"67 1 1 838 10 -",
+		"68 0 0 0 -1 -",
+		"69 0 0 0 -1 -",
+		"70 0 1 843 6 -",
+		"70 1 1 844 6 -",
+		"70 2 1 845 6 -",
+		"70 3 1 846 6 -",
+		"70 2 1 847 6 -",
+		"70 1 1 842 6 -",
+		"71 0 1 849 6 -",
+		"71 1 1 850 6 -",
+		"71 2 1 851 6 -",
+		"71 3 1 848 6 -",
+		"72 0 1 0 -1 -",
+		"73 0 1 854 6 -",
+		"73 1 1 855 6 -",
+		"73 2 1 856 6 -",
+		"73 3 1 853 6 -",
+		"74 0 1 858 6 -",
+		"74 1 1 859 6 -",
+		"74 2 1 860 6 -",
+		"74 3 1 857 6 -",
+		"75 0 1 0 -1 -",
+		"76 0 1 863 6 -",
+		"76 1 1 864 6 -",
+		"76 2 1 865 6 -",
+		"76 3 1 866 6 -",
+		"76 2 1 867 6 -",
+		"76 1 1 862 6 -",
+		"77 0 1 869 6 -",
+		"77 1 0 868 6 -",
+		"78 0 0 0 -1 -",
+		"79 0 0 0 -1 -",
+		"80 0 0 0 -1 -",
+		"81 0 0 0 -1 -",
+		"82 0 0 0 -1 -",
+		"83 0 0 0 -1 -",
+		"84 0 0 0 -1 -",
+		"85 0 0 0 -1 -",
+		"86 0 0 0 -1 -",
+		"87 0 0 0 -1 -",
+		"88 0 0 0 -1 -",
+		"89 0 0 0 -1 -",
+		"90 0 0 0 -1 -",
+		"91 0 0 0 -1 -",
+		"92 0 0 0 -1 -",
+		"93 0 0 0 -1 -",
+		"94 0 1 0 -1 -",
+		"95 0 0 0 -1 -",
+		"96 0 0 889 10 -",
+		"96 1 0 890 15 -",
+		"96 2 0 891 8 -",
+		"96 1 0 888 6 -",
+		"28 13 0 0 -1 -",
+		"28 18 0 0 -1 -",
+		"97 0 0 0 -1 -",
+		"98 0 0 0 -1 -",
+		"99 0 0 0 -1 -",
+		"100 0 1 898 6 -",
+		"100 1 1 897 6 -",
+		"101 0 0 0 -1 -",
+		"102 0 0 901 6 -",
+		"102 1 0 900 8 -",
+		"103 0 0 0 -1 -",
+		"104 0 0 0 -1 -",
+		"105 0 0 0 -1 -",
+		"106 0 0 0 -1 -",
+		"107 0 0 0 -1 -",
+		"108 0 0 0 -1 -",
+		"109 0 0 0 -1 -",
+		"110 0 0 0 -1 -",
+		"111 0 0 0 -1 -",
+		"112 0 1 0 -1 -",
+		"113 0 1 0 -1 -",
+		"114 0 0 0 -1 -",
+		"115 0 0 0 -1 -",
+		"116 0 0 0 -1 -",
+		"117 0 0 0 -1 -",
+		"118 0 1 918 6 -",
+		"118 1 1 919 6 -",
+		"118 2 1 920 6 -",
+		"118 1 1 917 6 -",
+		"119 0 1 922 6 -",
+		"119 1 1 923 6 -",
+		"119 2 1 921 6 -",
+		"120 0 0 925 14 -",
+		"120 1 0 924 14 -",
+		"121 0 1 927 4 -",
+		"121 1 1 928 4 -",
+		"121 2 1 929 4 -",
+		"121 3 1 926 4 -",
+		"122 0 1 931 4 -",
+		"122 1 1 932 4 -",
+		"122 2 1 933 4 -",
+		"122 3 1 930 4 -",
+		"123 0 1 935 4 -",
+		"123 1 1 936 4 -",
+		"123 2 1 937 4 -",
+		"123 3 1 934 4 -",
+		"124 0 1 939 4 -",
+		"124 1 1 940 4 -",
+		"124 2 1 941 4 -",
+		"124 3 1 938 4 -",
+		"125 0 1 943 4 -",
+		"125 1 1 944 4 -",
+		"125 2 1 945 4 -",
+		"125 3 1 942 4 -",
+		"126 0 1 947 4 -",
+		"126 1 1 948 4 -",
+		"126 2 1 949 4 -",
+		"126 3 1 946 4 -",
+		"127 0 0 0 -1 -",
+		"128 0 0 0 -1 -",
+		"129 0 0 0 -1 -",
+		"130 0 0 0 -1 -",
+		"131 0 0 0 -1 -",
+		"132 0 0 0 -1 -",
+		"133 0 0 0 -1 -",
+		"134 0 0 0 -1 -",
+		"135 0 0 0 -1 -",
+		"136 0 1 960 4 -",
+		"136 1 1 961 4 -",
+		"136 2 1 962 4 -",
+		"136 3 1 959 4 -",
+		"137 0 1 964 4 -",
+		"137 1 1 965 4 -",
+		"137 2 1 966 4 -",
+		"137 3 1 963 4 -"
+	);
 	
 	static final DEHActionPointer[] DEHPOINTER = 
 	{
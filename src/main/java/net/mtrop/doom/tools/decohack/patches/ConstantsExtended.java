@@ -6,11 +6,9 @@
 package net.mtrop.doom.tools.decohack.patches;
 
 import net.mtrop.doom.tools.decohack.data.DEHSound;
-import net.mtrop.doom.tools.decohack.data.DEHState;
 import net.mtrop.doom.tools.decohack.data.DEHThing;
 
-import static net.mtrop.doom.tools.decohack.data.enums.DEHActionPointerMBF.*;
-
+import static net.mtrop.doom.tools.decohack.data.DEHActionPointer.NULL;
 
 /**
  * Constants for MBF. 
@@ -18,22 +16,21 @@ import static net.mtrop.doom.tools.decohack.data.enums.DEHActionPointerMBF.*;
  */
 interface ConstantsExtended 
 {
-	static final PatchBoom.State[] DEHSTATEEXTENDED = 
-	{
-		PatchBoom.State.create(DEHState.create(58, 0, false, 806, 6), NULL),
-		PatchBoom.State.create(DEHState.create(144, 0, false, 0, -1), NULL),
-		PatchBoom.State.create(DEHState.create(144, 1, false, 0, -1), NULL),
-		PatchBoom.State.create(DEHState.create(144, 2, false, 0, -1), NULL),
-		PatchBoom.State.create(DEHState.create(144, 3, false, 0, -1), NULL),
-		PatchBoom.State.create(DEHState.create(144, 4, false, 0, -1), NULL),
-		PatchBoom.State.create(DEHState.create(144, 5, false, 0, -1), NULL),
-		PatchBoom.State.create(DEHState.create(144, 6, false, 0, -1), NULL),
-		PatchBoom.State.create(DEHState.create(144, 7, false, 0, -1), NULL),
-		PatchBoom.State.create(DEHState.create(17, 0, true, 1086, 4), NULL),
-		PatchBoom.State.create(DEHState.create(17, 1, false, 1087, 4), NULL),
-		PatchBoom.State.create(DEHState.create(17, 2, false, 1088, 10), NULL),
-		PatchBoom.State.create(DEHState.create(17, 3, false, 0, 14), NULL),
-	};
+	static final SourceTable<PatchBoom.State> DEHSTATEEXTENDED = SourceTable.boomStates(0, NULL,
+		"58 0 0 806 6 NULL",
+		"144 0 0 0 -1 NULL",
+		"144 1 0 0 -1 NULL",
+		"144 2 0 0 -1 NULL",
+		"144 3 0 0 -1 NULL",
+		"144 4 0 0 -1 NULL",
+		"144 5 0 0 -1 NULL",
+		"144 6 0 0 -1 NULL",
+		"144 7 0 0 -1 NULL",
+		"17 0 1 1086 4 NULL",
+		"17 1 0 1087 4 NULL",
+		"17 2 0 1088 10 NULL",
+		"17 3 0 0 14 NULL"
+	);
 	
 	static final DEHSound[] DEHSOUNDEXTENDED = 
 	{
@@ -240,114 +237,113 @@ interface ConstantsExtended
 	};
 	
 	
-	public static final DEHThing[] DEHTHINGEXTENDED = 
-	{
-		(new DEHThing()).setName("Music Source"),
-		(new DEHThing()).setName("MT_GIBDTH"),
-		(new DEHThing()).setName("MT_BLUEBLOOD"),
-		(new DEHThing()).setName("MT_GREENBLOOD"),
-		(new DEHThing()).setName("MT_FUZZYBLOOD"),
-		(new DEHThing()).setName("MT_TRAIL"),
-		(new DEHThing()).setName("Extra thing 0"),
-		(new DEHThing()).setName("Extra thing 1"),
-		(new DEHThing()).setName("Extra thing 2"),
-		(new DEHThing()).setName("Extra thing 3"),
-		(new DEHThing()).setName("Extra thing 4"),
-		(new DEHThing()).setName("Extra thing 5"),
-		(new DEHThing()).setName("Extra thing 6"),
-		(new DEHThing()).setName("Extra thing 7"),
-		(new DEHThing()).setName("Extra thing 8"),
-		(new DEHThing()).setName("Extra thing 9"),
-		(new DEHThing()).setName("Extra thing 10"),
-		(new DEHThing()).setName("Extra thing 11"),
-		(new DEHThing()).setName("Extra thing 12"),
-		(new DEHThing()).setName("Extra thing 13"),
-		(new DEHThing()).setName("Extra thing 14"),
-		(new DEHThing()).setName("Extra thing 15"),
-		(new DEHThing()).setName("Extra thing 16"),
-		(new DEHThing()).setName("Extra thing 17"),
-		(new DEHThing()).setName("Extra thing 18"),
-		(new DEHThing()).setName("Extra thing 19"),
-		(new DEHThing()).setName("Extra thing 20"),
-		(new DEHThing()).setName("Extra thing 21"),
-		(new DEHThing()).setName("Extra thing 22"),
-		(new DEHThing()).setName("Extra thing 23"),
-		(new DEHThing()).setName("Extra thing 24"),
-		(new DEHThing()).setName("Extra thing 25"),
-		(new DEHThing()).setName("Extra thing 26"),
-		(new DEHThing()).setName("Extra thing 27"),
-		(new DEHThing()).setName("Extra thing 28"),
-		(new DEHThing()).setName("Extra thing 29"),
-		(new DEHThing()).setName("Extra thing 30"),
-		(new DEHThing()).setName("Extra thing 31"),
-		(new DEHThing()).setName("Extra thing 32"),
-		(new DEHThing()).setName("Extra thing 33"),
-		(new DEHThing()).setName("Extra thing 34"),
-		(new DEHThing()).setName("Extra thing 35"),
-		(new DEHThing()).setName("Extra thing 36"),
-		(new DEHThing()).setName("Extra thing 37"),
-		(new DEHThing()).setName("Extra thing 38"),
-		(new DEHThing()).setName("Extra thing 39"),
-		(new DEHThing()).setName("Extra thing 40"),
-		(new DEHThing()).setName("Extra thing 41"),
-		(new DEHThing()).setName("Extra thing 42"),
-		(new DEHThing()).setName("Extra thing 43"),
-		(new DEHThing()).setName("Extra thing 44"),
-		(new DEHThing()).setName("Extra thing 45"),
-		(new DEHThing()).setName("Extra thing 46"),
-		(new DEHThing()).setName("Extra thing 47"),
-		(new DEHThing()).setName("Extra thing 48"),
-		(new DEHThing()).setName("Extra thing 49"),
-		(new DEHThing()).setName("Extra thing 50"),
-		(new DEHThing()).setName("Extra thing 51"),
-		(new DEHThing()).setName("Extra thing 52"),
-		(new DEHThing()).setName("Extra thing 53"),
-		(new DEHThing()).setName("Extra thing 54"),
-		(new DEHThing()).setName("Extra thing 55"),
-		(new DEHThing()).setName("Extra thing 56"),
-		(new DEHThing()).setName("Extra thing 57"),
-		(new DEHThing()).setName("Extra thing 58"),
-		(new DEHThing()).setName("Extra thing 59"),
-		(new DEHThing()).setName("Extra thing 60"),
-		(new DEHThing()).setName("Extra thing 61"),
-		(new DEHThing()).setName("Extra thing 62"),
-		(new DEHThing()).setName("Extra thing 63"),
-		(new DEHThing()).setName("Extra thing 64"),
-		(new DEHThing()).setName("Extra thing 65"),
-		(new DEHThing()).setName("Extra thing 66"),
-		(new DEHThing()).setName("Extra thing 67"),
-		(new DEHThing()).setName("Extra thing 68"),
-		(new DEHThing()).setName("Extra thing 69"),
-		(new DEHThing()).setName("Extra thing 70"),
-		(new DEHThing()).setName("Extra thing 71"),
-		(new DEHThing()).setName("Extra thing 72"),
-		(new DEHThing()).setName("Extra thing 73"),
-		(new DEHThing()).setName("Extra thing 74"),
-		(new DEHThing()).setName("Extra thing 75"),
-		(new DEHThing()).setName("Extra thing 76"),
-		(new DEHThing()).setName("Extra thing 77"),
-		(new DEHThing()).setName("Extra thing 78"),
-		(new DEHThing()).setName("Extra thing 79"),
-		(new DEHThing()).setName("Extra thing 80"),
-		(new DEHThing()).setName("Extra thing 81"),
-		(new DEHThing()).setName("Extra thing 82"),
-		(new DEHThing()).setName("Extra thing 83"),
-		(new DEHThing()).setName("Extra thing 84"),
-		(new DEHThing()).setName("Extra thing 85"),
-		(new DEHThing()).setName("Extra thing 86"),
-		(new DEHThing()).setName("Extra thing 87"),
-		(new DEHThing()).setName("Extra thing 88"),
-		(new DEHThing()).setName("Extra thing 89"),
-		(new DEHThing()).setName("Extra thing 90"),
-		(new DEHThing()).setName("Extra thing 91"),
-		(new DEHThing()).setName("Extra thing 92"),
-		(new DEHThing()).setName("Extra thing 93"),
-		(new DEHThing()).setName("Extra thing 94"),
-		(new DEHThing()).setName("Extra thing 95"),
-		(new DEHThing()).setName("Extra thing 96"),
-		(new DEHThing()).setName("Extra thing 97"),
-		(new DEHThing()).setName("Extra thing 98"),
-		(new DEHThing()).setName("Extra thing 99"),
-	};
+	public static final SourceTable<DEHThing> DEHTHINGEXTENDED = SourceTable.things(0,
+		"Music Source",
+		"MT_GIBDTH",
+		"MT_BLUEBLOOD",
+		"MT_GREENBLOOD",
+		"MT_FUZZYBLOOD",
+		"MT_TRAIL",
+		"Extra thing 0",
+		"Extra thing 1",
+		"Extra thing 2",
+		"Extra thing 3",
+		"Extra thing 4",
+		"Extra thing 5",
+		"Extra thing 6",
+		"Extra thing 7",
+		"Extra thing 8",
+		"Extra thing 9",
+		"Extra thing 10",
+		"Extra thing 11",
+		"Extra thing 12",
+		"Extra thing 13",
+		"Extra thing 14",
+		"Extra thing 15",
+		"Extra thing 16",
+		"Extra thing 17",
+		"Extra thing 18",
+		"Extra thing 19",
+		"Extra thing 20",
+		"Extra thing 21",
+		"Extra thing 22",
+		"Extra thing 23",
+		"Extra thing 24",
+		"Extra thing 25",
+		"Extra thing 26",
+		"Extra thing 27",
+		"Extra thing 28",
+		"Extra thing 29",
+		"Extra thing 30",
+		"Extra thing 31",
+		"Extra thing 32",
+		"Extra thing 33",
+		"Extra thing 34",
+		"Extra thing 35",
+		"Extra thing 36",
+		"Extra thing 37",
+		"Extra thing 38",
+		"Extra thing 39",
+		"Extra thing 40",
+		"Extra thing 41",
+		"Extra thing 42",
+		"Extra thing 43",
+		"Extra thing 44",
+		"Extra thing 45",
+		"Extra thing 46",
+		"Extra thing 47",
+		"Extra thing 48",
+		"Extra thing 49",
+		"Extra thing 50",
+		"Extra thing 51",
+		"Extra thing 52",
+		"Extra thing 53",
+		"Extra thing 54",
+		"Extra thing 55",
+		"Extra thing 56",
+		"Extra thing 57",
+		"Extra thing 58",
+		"Extra thing 59",
+		"Extra thing 60",
+		"Extra thing 61",
+		"Extra thing 62",
+		"Extra thing 63",
+		"Extra thing 64",
+		"Extra thing 65",
+		"Extra thing 66",
+		"Extra thing 67",
+		"Extra thing 68",
+		"Extra thing 69",
+		"Extra thing 70",
+		"Extra thing 71",
+		"Extra thing 72",
+		"Extra thing 73",
+		"Extra thing 74",
+		"Extra thing 75",
+		"Extra thing 76",
+		"Extra thing 77",
+		"Extra thing 78",
+		"Extra thing 79",
+		"Extra thing 80",
+		"Extra thing 81",
+		"Extra thing 82",
+		"Extra thing 83",
+		"Extra thing 84",
+		"Extra thing 85",
+		"Extra thing 86",
+		"Extra thing 87",
+		"Extra thing 88",
+		"Extra thing 89",
+		"Extra thing 90",
+		"Extra thing 91",
+		"Extra thing 92",
+		"Extra thing 93",
+		"Extra thing 94",
+		"Extra thing 95",
+		"Extra thing 96",
+		"Extra thing 97",
+		"Extra thing 98",
+		"Extra thing 99"
+	);
 	
 }
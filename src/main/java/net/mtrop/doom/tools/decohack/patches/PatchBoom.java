@@ -471,16 +471,16 @@ public class PatchBoom implements DEHPatchBoom
 	@Override
 	public int getThingCount() 
 	{
-		return DEHTHING.length + DEHTHINGBOOM.length;
+		return DEHTHING.size() + DEHTHINGBOOM.size();
 	}
 
 	@Override
 	public DEHThing getThing(int index)
 	{
-		if (index >= DEHTHING.length)
-			return ArrayUtils.arrayElement(DEHTHINGBOOM, index - DEHTHING.length);
+		if (index >= DEHTHING.size())
+			return DEHTHINGBOOM.get(index - DEHTHING.size());
 		else
-			return ArrayUtils.arrayElement(DEHTHING, index);
+			return DEHTHING.get(index);
 	}
 
 	@Override
@@ -498,12 +498,12 @@ public class PatchBoom implements DEHPatchBoom
 	@Override
 	public int getStateCount()
 	{
-		return DEHSTATE.length;
+		return DEHSTATE.size();
 	}
 
 	protected PatchBoom.State getBoomState(int index)
 	{
-		return ArrayUtils.arrayElement(DEHSTATE, index);
+		return DEHSTATE.get(index);
 	}
 
 	@Override
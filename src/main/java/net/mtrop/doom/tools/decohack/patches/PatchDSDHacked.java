@@ -22,7 +22,7 @@ public class PatchDSDHacked extends PatchMBF21
 	/** The safe index for new states. */
 	public static final int NEW_STATE_INDEX_START = 4000;
 	/** The safe index for new things. */
-	public static final int NEW_THING_INDEX_START = DEHTHING.length + DEHTHINGBOOM.length + DEHTHINGMBF.length + DEHTHINGEXTENDED.length;
+	public static final int NEW_THING_INDEX_START = DEHTHING.size() + DEHTHINGBOOM.size() + DEHTHINGMBF.size() + DEHTHINGEXTENDED.size();
 	/** The safe index for new sounds. */
 	public static final int NEW_SOUND_INDEX_START = SOUND_INDEX_EXTENDED_START + SOUNDSTRINGSEXTENDED.length;
 	/** The safe index for new sprites. */
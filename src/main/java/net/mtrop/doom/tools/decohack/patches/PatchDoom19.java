@@ -1252,13 +1252,13 @@ public class PatchDoom19 implements DEHPatchDoom19
 	@Override
 	public int getThingCount() 
 	{
-		return DEHTHING.length;
+		return DEHTHING.size();
 	}
 
 	@Override
 	public DEHThing getThing(int index)
 	{
-		return ArrayUtils.arrayElement(DEHTHING, index);
+		return DEHTHING.get(index);
 	}
 
 	@Override
@@ -1276,20 +1276,20 @@ public class PatchDoom19 implements DEHPatchDoom19
 	@Override
 	public int getStateCount()
 	{
-		return DEHSTATE.length;
+		return DEHSTATE.size();
 	}
 
 	@Override
 	public DEHState getState(int index) 
 	{
-		State state = ArrayUtils.arrayElement(DEHSTATE, index);
+		State state = DEHSTATE.get(index);
 		return state != null ? state.getState() : null;
 	}
 
 	@Override
 	public Integer getStateActionPointerIndex(int stateIndex) 
 	{
-		State state = ArrayUtils.arrayElement(DEHSTATE, stateIndex);
+		State state = DEHSTATE.get(stateIndex);
 		return state != null ? state.getPointerIndex() : null;
 	}
 
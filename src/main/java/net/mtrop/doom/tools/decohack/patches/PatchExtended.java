@@ -397,15 +397,15 @@ public class PatchExtended extends PatchMBF
 	@Override
 	public int getThingCount() 
 	{
-		return DEHTHING.length + DEHTHINGBOOM.length + DEHTHINGMBF.length + DEHTHINGEXTENDED.length;
+		return DEHTHING.size() + DEHTHINGBOOM.size() + DEHTHINGMBF.size() + DEHTHINGEXTENDED.size();
 	}
 
 	@Override
 	public DEHThing getThing(int index)
 	{
-		int mbflen = DEHTHING.length + DEHTHINGBOOM.length + DEHTHINGMBF.length;
+		int mbflen = DEHTHING.size() + DEHTHINGBOOM.size() + DEHTHINGMBF.size();
 		if (index >= mbflen)
-			return ArrayUtils.arrayElement(DEHTHINGEXTENDED, index - mbflen);
+			return DEHTHINGEXTENDED.get(index - mbflen);
 		else
 			return super.getThing(index);
 	}
@@ -419,15 +419,15 @@ public class PatchExtended extends PatchMBF
 	@Override
 	protected PatchBoom.State getBoomState(int index)
 	{
-		int mbflen = DEHSTATE.length + DEHSTATEMBF.length;
-		int extlen = mbflen + DEHSTATEEXTENDED.length;
+		int mbflen = DEHSTATE.size() + DEHSTATEMBF.size();
+		int extlen = mbflen + DEHSTATEEXTENDED.size();
 		
 		if (index >= getStateCount())
 			return null;
 		else if (index >= extlen)
 			return PatchBoom.State.create(DEHState.create(SPRITE_INDEX_TNT1, 0, false, index, -1), DEHActionPointer.NULL);
 		else if (index >= mbflen)
-			return ArrayUtils.arrayElement(DEHSTATEEXTENDED, index - mbflen);
+			return DEHSTATEEXTENDED.get(index - mbflen);
 		else
 			return super.getBoomState(index);
 	}
@@ -90,15 +90,15 @@ public class PatchMBF extends PatchBoom
 	@Override
 	public int getThingCount() 
 	{
-		return DEHTHING.length + DEHTHINGBOOM.length + DEHTHINGMBF.length;
+		return DEHTHING.size() + DEHTHINGBOOM.size() + DEHTHINGMBF.size();
 	}
 
 	@Override
 	public DEHThing getThing(int index)
 	{
-		int boomlen = DEHTHING.length + DEHTHINGBOOM.length;
+		int boomlen = DEHTHING.size() + DEHTHINGBOOM.size();
 		if (index >= boomlen)
-			return ArrayUtils.arrayElement(DEHTHINGMBF, index - boomlen);
+			return DEHTHINGMBF.get(index - boomlen);
 		else
 			return super.getThing(index);
 	}
@@ -106,13 +106,13 @@ public class PatchMBF extends PatchBoom
 	@Override
 	public int getStateCount()
 	{
-		return DEHSTATE.length + DEHSTATEMBF.length;
+		return DEHSTATE.size() + DEHSTATEMBF.size();
 	}
 
 	protected PatchBoom.State getBoomState(int index)
 	{
-		if (index >= DEHSTATE.length)
-			return ArrayUtils.arrayElement(DEHSTATEMBF, index - DEHSTATE.length);			
+		if (index >= DEHSTATE.size())
+			return DEHSTATEMBF.get(index - DEHSTATE.size());			
 		else
 			return super.getBoomState(index);
 	}
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.decohack.patches;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import net.mtrop.doom.tools.decohack.data.DEHActionPointer;
+import net.mtrop.doom.tools.decohack.data.DEHState;
+import net.mtrop.doom.tools.decohack.data.DEHThing;
+import net.mtrop.doom.tools.decohack.data.enums.DEHActionPointerDoom19;
+import net.mtrop.doom.tools.decohack.data.enums.DEHActionPointerMBF;
+import net.mtrop.doom.tools.decohack.data.enums.DEHActionPointerMBF21;
+
+/**
+ * A read-only table of source patch entries that are stored as compact text rows,
+ * and are only decoded into objects the first time that they are fetched.
+ * <p>
+ * A compile only touches a small part of the thousands of built-in states and things,
+ * so loading a patch only costs a string array per table. Decoded entries are kept, and are
+ * shared, like the eagerly-built tables were.
+ * <p>
+ * State rows are <code>"sprite frame bright next duration pointer [flags [misc1 misc2 args...]]"</code>,
+ * where <code>bright</code> is <code>0</code> or <code>1</code> and <code>pointer</code> is an action pointer
+ * enum name (Boom and later) or pointer index (Doom 1.9), or <code>-</code> for none.
+ * <p>
+ * Thing rows are <code>"name|classic properties|extended properties"</code>, where the classic properties are
+ * the 23 integers set by a Doom 1.9 patch, in order: editor number, health, speed, radius, height, damage,
+ * reaction time, pain chance, flags, mass, the spawn/walk/pain/melee/missile/death/extreme death/raise frames, and the
+ * see/attack/pain/death/active sounds. The extended properties are space-separated <code>key=value</code> pairs
+ * for anything that is not the default (see {@link #decodeThing(String)}). The last two parts are optional.
+ * @param <T> the decoded entry type.
+ * @author Matthew Tropiano
+ */
+final class SourceTable<T>
+{
+	/** Action pointers by enum name. */
+	private static Map<String, DEHActionPointer> pointerMap = null;
+
+	private final int firstIndex;
+	private final String[] rows;
+	private final Function<String, T> decoder;
+	private final AtomicReferenceArray<T> entries;
+
+	private SourceTable(int firstIndex, Function<String, T> decoder, String[] rows)
+	{
+		this.firstIndex = firstIndex;
+		this.rows = rows;
+		this.decoder = decoder;
+		this.entries = new AtomicReferenceArray<>(rows.length);
+	}
+
+	/**
+	 * Creates a table of Boom-style states.
+	 * @param firstIndex the index of the first row.
+	 * @param nullPointer the pointer to use for <code>NULL</code>.
+	 * @param rows the state rows.
+	 * @return a new table.
+	 */
+	static SourceTable<PatchBoom.State> boomStates(int firstIndex, DEHActionPointer nullPointer, String ... rows)
+	{
+		return new SourceTable<>(firstIndex, (row) -> {
+			String[] tokens = row.split(" ");
+			String pointer = tokens[5];
+			return PatchBoom.State.create(decodeState(tokens), "NULL".equals(pointer) ? nullPointer : getPointer(pointer));
+		}, rows);
+	}
+
+	/**
+	 * Creates a table of Doom 1.9 states.
+	 * @param rows the state rows.
+	 * @return a new table.
+	 */
+	static SourceTable<PatchDoom19.State> doom19States(String ... rows)
+	{
+		return new SourceTable<>(0, (row) -> {
+			String[] tokens = row.split(" ");
+			String pointer = tokens[5];
+			return PatchDoom19.State.create(decodeState(tokens), "-".equals(pointer) ? null : Integer.parseInt(pointer));
+		}, rows);
+	}
+
+	/**
+	 * Creates a table of things.
+	 * @param firstIndex the index of the first row.
+	 * @param rows the thing rows. A null row is a null thing.
+	 * @return a new table.
+	 */
+	static SourceTable<DEHThing> things(int firstIndex, String ... rows)
+	{
+		return new SourceTable<>(firstIndex, SourceTable::decodeThing, rows);
+	}
+
+	/**
+	 * @return the index of the first entry.
+	 */
+	int getFirstIndex()
+	{
+		return firstIndex;
+	}
+
+	/**
+	 * @return the amount of entries in this table.
+	 */
+	int size()
+	{
+		return rows.length;
+	}
+
+	/**
+	 * Gets an entry, decoding it if it was not fetched before.
+	 * @param index the entry index.
+	 * @return the corresponding entry, or null if out of range.
+	 */
+	T get(int index)
+	{
+		int i = index - firstIndex;
+		if (i < 0 || i >= rows.length || rows[i] == null)
+			return null;
+
+		T out;
+		if ((out = entries.get(i)) == null)
+		{
+			out = decoder.apply(rows[i]);
+			if (!entries.compareAndSet(i, null, out))
+				out = entries.get(i);
+		}
+		return out;
+	}
+
+	private static synchronized DEHActionPointer getPointer(String name)
+	{
+		if ("-".equals(name))
+			return null;
+
+		if (pointerMap == null)
+		{
+			pointerMap = new HashMap<>(256);
+			for (DEHActionPointerDoom19 pointer : DEHActionPointerDoom19.values())
+				pointerMap.put(pointer.name(), pointer);
+			for (DEHActionPointerMBF pointer : DEHActionPointerMBF.values())
+				pointerMap.put(pointer.name(), pointer);
+			for (DEHActionPointerMBF21 pointer : DEHActionPointerMBF21.values())
+				pointerMap.put(pointer.name(), pointer);
+		}
+
+		DEHActionPointer out;
+		if ((out = pointerMap.get(name)) == null)
+			throw new IllegalStateException("INTERNAL ERROR: No such action pointer in source table: " + name);
+		return out;
+	}
+
+	private static DEHState decodeState(String[] tokens)
+	{
+		int sprite = Integer.parseInt(tokens[0]);
+		int frame = Integer.parseInt(tokens[1]);
+		boolean bright = "1".equals(tokens[2]);
+		int next = Integer.parseInt(tokens[3]);
+		int duration = Integer.parseInt(tokens[4]);
+
+		if (tokens.length == 6)
+			return DEHState.create(sprite, frame, bright, next, duration);
+
+		int flags = Integer.parseInt(tokens[6]);
+		if (tokens.length == 7)
+			return DEHState.create(sprite, frame, bright, next, duration, flags);
+
+		int[] args = new int[tokens.length - 9];
+		for (int i = 0; i < args.length; i++)
+			args[i] = Integer.parseInt(tokens[9 + i]);
+		return DEHState.create(sprite, frame, bright, next, duration, Integer.parseInt(tokens[7]), Integer.parseInt(tokens[8]), args, flags, null);
+	}
+
+	private static DEHThing decodeThing(String row)
+	{
+		String[] parts = row.split("\\|", 3);
+		DEHThing out = (new DEHThing()).setName(parts[0]);
+
+		if (parts.length > 1 && !parts[1].isEmpty())
+		{
+			String[] tokens = parts[1].split(" ");
+			int[] values = new int[tokens.length];
+			for (int i = 0; i < values.length; i++)
+				values[i] = Integer.parseInt(tokens[i]);
+
+			out.setEditorNumber(values[0])
+				.setHealth(values[1])
+				.setSpeed(values[2])
+				.setRadius(values[3])
+				.setHeight(values[4])
+				.setDamage(values[5])
+				.setReactionTime(values[6])
+				.setPainChance(values[7])
+				.setFlags(values[8])
+				.setMass(values[9])
+				.setSpawnFrameIndex(values[10])
+				.setWalkFrameIndex(values[11])
+				.setPainFrameIndex(values[12])
+				.setMeleeFrameIndex(values[13])
+				.setMissileFrameIndex(values[14])
+				.setDeathFrameIndex(values[15])
+				.setExtremeDeathFrameIndex(values[16])
+				.setRaiseFrameIndex(values[17])
+				.setSeeSoundPosition(values[18])
+				.setAttackSoundPosition(values[19])
+				.setPainSoundPosition(values[20])
+				.setDeathSoundPosition(values[21])
+				.setActiveSoundPosition(values[22])
+			;
+		}
+
+		if (parts.length > 2 && !parts[2].isEmpty())
+		{
+			for (String pair : parts[2].split(" "))
+			{
+				int split = pair.indexOf('=');
+				String key = pair.substring(0, split);
+				String value = pair.substring(split + 1);
+				switch (key)
+				{
+					case "dropped":
+						out.setDroppedItem(Integer.parseInt(value));
+						break;
+					case "mbf21flags":
+						out.setMBF21Flags(Integer.parseInt(value));
+						break;
+					case "fastspeed":
+						out.setFastSpeed(Integer.parseInt(value));
+						break;
+					case "meleerange":
+						out.setMeleeRange(Integer.parseInt(value));
+						break;
+					case "infighting":
+						out.setInfightingGroup(Integer.parseInt(value));
+						break;
+					case "projectile":
+						out.setProjectileGroup(Integer.parseInt(value));
+						break;
+					case "splash":
+						out.setSplashGroup(Integer.parseInt(value));
+						break;
+					case "ripsound":
+						out.setRipSoundPosition(Integer.parseInt(value));
+						break;
+					case "id24flags":
+						out.setID24Flags(Integer.parseInt(value));
+						break;
+					case "respawntics":
+						out.setMinRespawnTics(Integer.parseInt(value));
+						break;
+					case "respawndice":
+						out.setRespawnDice(Integer.parseInt(value));
+						break;
+					case "ammotype":
+						out.setPickupAmmoType(Integer.parseInt(value));
+						break;
+					case "ammocategory":
+						out.setPickupAmmoCategory(Integer.parseInt(value));
+						break;
+					case "weapontype":
+						out.setPickupWeaponType(Integer.parseInt(value));
+						break;
+					case "itemtype":
+						out.setPickupItemType(Integer.parseInt(value));
+						break;
+					case "bonuscount":
+						out.setPickupBonusCount(Integer.parseInt(value));
+						break;
+					case "pickupsound":
+						out.setPickupSoundPosition(Integer.parseInt(value));
+						break;
+					case "message":
+						out.setPickupMessageMnemonic(value);
+						break;
+					case "translation":
+						out.setTranslation(value);
+						break;
+					default:
+						throw new IllegalStateException("INTERNAL ERROR: Bad thing property in source table: " + key);
+				}
+			}
+		}
+
+		return out;
+	}
+
+}
@@ -47,7 +47,7 @@ public class DogSoftDriver extends FetchDriver
 		// Incoming name has no extension, search for matching extensions.
 		String[] exts = {"wad", "zip", "pk3", "pk7"};
 		
-		for (int i = 0; i < exts.length; i++)
+		for (int i = 0; i < exts.length && !isCancelled(); i++)
 		{
 			String filename = name + "." + exts[i];
 			
@@ -58,7 +58,10 @@ public class DogSoftDriver extends FetchDriver
 					.content(HTTPContent.createFormContent(HTTPUtils.parameters(
 						HTTPUtils.entry("search", filename)
 					)))
-				.send();
+				.send(cancelSwitch);
+				
+				if (searchResponse == null)
+					return null;
 				
 				// if HTML, we got a null response. Anything else, probably a file.
 				
@@ -19,6 +19,7 @@ import net.mtrop.doom.tools.struct.SingletonProvider;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPReader;
 import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPRequest;
+import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPResponse;
 
 /**
  * Doom Shack fetch driver.
@@ -104,10 +105,13 @@ public class DoomShackDriver extends FetchDriver
 		{
 			out.println("Pulling DoomShack WAD list...");
 			try {
-				cache = cache.build(HTTPRequest.get(WADLIST_URL)
+				String listData = HTTPRequest.get(WADLIST_URL)
 					.setHeader("User-Agent", USER_AGENT)
 					.setHeader("Accept-Encoding", "gzip")
-					.send(HTTPReader.createStringReader()));
+					.send(cancelSwitch, HTTPReader.createStringReader());
+				if (listData == null)
+					return null;
+				cache = cache.build(listData);
 			} catch (IOException e) {
 				err.println("ERROR: Cannot fetch WAD list from DoomShack.org");
 				return null;
@@ -124,7 +128,11 @@ public class DoomShackDriver extends FetchDriver
 			.setHeader("User-Agent", USER_AGENT)
 			.setAutoRedirect(true);
 		
-		return new Response(uri.substring(uri.lastIndexOf('/') + 1), "", "", request.send());
+		HTTPResponse response = request.send(cancelSwitch);
+		if (response == null)
+			return null;
+		
+		return new Response(uri.substring(uri.lastIndexOf('/') + 1), "", "", response);
 	}
 
 }
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doomfetch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+import net.mtrop.doom.tools.doomfetch.FetchDriver.Response;
+import net.mtrop.doom.tools.struct.util.IOUtils;
+
+/**
+ * A single driver search, run alongside the other drivers' searches.
+ * Output is buffered so that it can be printed in driver priority order.
+ * @author Matthew Tropiano
+ */
+public class DriverSearch implements Callable<Response>
+{
+	private String driverName;
+	private String name;
+	private FetchDriver driver;
+
+	private ByteArrayOutputStream outBuffer;
+	private ByteArrayOutputStream errBuffer;
+	private PrintStream out;
+	private PrintStream err;
+
+	private Response response;
+	private boolean abandoned;
+
+	private DriverSearch(String driverName, BiFunction<PrintStream, PrintStream, FetchDriver> driverFunc, String name)
+	{
+		this.driverName = driverName;
+		this.name = name;
+		this.outBuffer = new ByteArrayOutputStream();
+		this.errBuffer = new ByteArrayOutputStream();
+		this.out = new PrintStream(outBuffer, true);
+		this.err = new PrintStream(errBuffer, true);
+		this.driver = driverFunc.apply(out, err);
+		this.response = null;
+		this.abandoned = false;
+	}
+
+	/**
+	 * Searches all drivers at once for a file.
+	 * Matches are taken in driver order, so the first driver with a match comes first even if a later one answers first.
+	 * @param drivers the map of driver name to driver factory, in priority order.
+	 * @param name the name of the file to find.
+	 * @param stdout the output stream for driver output, printed in driver order.
+	 * @param stderr the error stream for driver output, printed in driver order.
+	 * @return the matches, in priority order. Close it to stop the searches that were not used.
+	 */
+	public static Matches search(Map<String, BiFunction<PrintStream, PrintStream, FetchDriver>> drivers, String name, PrintStream stdout, PrintStream stderr)
+	{
+		List<DriverSearch> searches = new ArrayList<>(drivers.size());
+		for (Map.Entry<String, BiFunction<PrintStream, PrintStream, FetchDriver>> entry : drivers.entrySet())
+			searches.add(new DriverSearch(entry.getKey(), entry.getValue(), name));
+
+		List<Future<Response>> futures = new ArrayList<>(searches.size());
+		if (!searches.isEmpty())
+		{
+			ExecutorService executor = Executors.newFixedThreadPool(searches.size(), (runnable) -> {
+				Thread out = new Thread(runnable, "DoomFetchSearch");
+				out.setDaemon(true);
+				return out;
+			});
+			for (DriverSearch search : searches)
+				futures.add(executor.submit(search));
+			executor.shutdown();
+		}
+		
+		return new Matches(searches, futures, stdout, stderr);
+	}
+
+	@Override
+	public Response call() throws IOException
+	{
+		Response found = driver.getStreamFor(name);
+		synchronized (this)
+		{
+			if (abandoned)
+			{
+				IOUtils.close(found);
+				return null;
+			}
+			return response = found;
+		}
+	}
+
+	/**
+	 * @return the name of the driver searched.
+	 */
+	public String getDriverName()
+	{
+		return driverName;
+	}
+
+	/**
+	 * @return the response found by this search, or null if none was found (or the search was abandoned).
+	 */
+	public synchronized Response getResponse()
+	{
+		return response;
+	}
+
+	/**
+	 * Cancels this search, and closes the response if one was found.
+	 */
+	private synchronized void abandon()
+	{
+		abandoned = true;
+		driver.cancel();
+		IOUtils.close(response);
+		response = null;
+	}
+
+	/**
+	 * The matches of a search across all drivers, in driver priority order.
+	 * Each driver's output is printed when its search is reached.
+	 */
+	public static class Matches implements AutoCloseable
+	{
+		private final List<DriverSearch> searches;
+		private final List<Future<Response>> futures;
+		private final PrintStream stdout;
+		private final PrintStream stderr;
+		private int next;
+		
+		private Matches(List<DriverSearch> searches, List<Future<Response>> futures, PrintStream stdout, PrintStream stderr)
+		{
+			this.searches = searches;
+			this.futures = futures;
+			this.stdout = stdout;
+			this.stderr = stderr;
+			this.next = 0;
+		}
+		
+		/**
+		 * Waits for the next driver, in priority order, that found the file.
+		 * The response of a returned search belongs to the caller, and is not closed by {@link #close()}.
+		 * @return the next search with a match, or null if no other driver found the file.
+		 */
+		public DriverSearch next()
+		{
+			while (next < searches.size() && !Thread.currentThread().isInterrupted())
+			{
+				DriverSearch search = searches.get(next);
+				Response found = null;
+				try {
+					found = futures.get(next).get();
+				} catch (ExecutionException e) {
+					search.err.println("ERROR: Can't read from source: " + search.driverName);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				next++;
+				search.flush(stdout, stderr);
+				if (found != null)
+					return search;
+			}
+			return null;
+		}
+		
+		/**
+		 * Stops every search that was not returned by {@link #next()}, and closes any response that it found.
+		 */
+		@Override
+		public void close()
+		{
+			for (; next < searches.size(); next++)
+				searches.get(next).abandon();
+		}
+	}
+
+	/**
+	 * Prints the buffered output of this search.
+	 * @param stdout the output stream.
+	 * @param stderr the error stream.
+	 */
+	private void flush(PrintStream stdout, PrintStream stderr)
+	{
+		stdout.print(new String(outBuffer.toByteArray()));
+		stderr.print(new String(errBuffer.toByteArray()));
+	}
+
+}
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doomfetch;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+import net.mtrop.doom.tools.struct.util.FileUtils;
+import net.mtrop.doom.tools.struct.util.ObjectUtils;
+
+/**
+ * A content-addressed download cache shared between DoomFetch invocations.
+ * <p>
+ * Downloaded files are stored once by the SHA-256 digest of their contents, and
+ * an index maps a lock entry (name, driver, ETag, date) to stored content.
+ * Entries without an ETag or a date cannot be validated, and are never indexed that way.
+ * <p>
+ * The most recent download of each name is also remembered with the time it was fetched,
+ * so that a search by name alone can skip the drivers while that download is still fresh.
+ * @author Matthew Tropiano
+ */
+public class FetchCache
+{
+	private static final String OBJECTS_DIR = "objects";
+	private static final String INDEX_DIR = "index";
+	private static final String LATEST_DIR = "latest";
+
+	private static final String PROPERTY_FILENAME = "filename";
+	private static final String PROPERTY_CONTENT = "content";
+	private static final String PROPERTY_DRIVER = "driver";
+	private static final String PROPERTY_ETAG = "etag";
+	private static final String PROPERTY_DATE = "date";
+	private static final String PROPERTY_TIME = "time";
+
+	/** The cache root. */
+	private File cacheDirectory;
+
+	/**
+	 * Creates a new cache.
+	 * @param cacheDirectory the root directory of the cache. Need not exist yet.
+	 */
+	public FetchCache(File cacheDirectory)
+	{
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Checks if a lock entry can be cached.
+	 * @param etag the entry ETag.
+	 * @param date the entry date.
+	 * @return true if there is enough information to validate a cached file, false if not.
+	 */
+	public static boolean isCacheable(String etag, String date)
+	{
+		return !ObjectUtils.isEmpty(etag) || !ObjectUtils.isEmpty(date);
+	}
+
+	/**
+	 * Fetches a cached file for a lock entry.
+	 * @param name the name of the entry.
+	 * @param driver the driver that downloaded it.
+	 * @param etag the hash or cache tag for the file.
+	 * @param date the cache date of the file fetched.
+	 * @return the cached entry, or null if not cached.
+	 */
+	public Entry get(String name, String driver, String etag, String date)
+	{
+		if (!isCacheable(etag, date))
+			return null;
+
+		Properties properties = readProperties(getIndexFile(name, driver, etag, date));
+		if (properties == null)
+			return null;
+
+		return getEntry(properties, driver, etag, date);
+	}
+
+	/**
+	 * Fetches the most recent download of a file by name alone, if it is still fresh.
+	 * @param name the name of the entry.
+	 * @param maxAge the maximum age of the download in milliseconds.
+	 * @return the cached entry, or null if not cached or older than the maximum age.
+	 */
+	public Entry getLatest(String name, long maxAge)
+	{
+		Properties properties = readProperties(getLatestFile(name));
+		if (properties == null)
+			return null;
+
+		long time;
+		try {
+			time = Long.parseLong(properties.getProperty(PROPERTY_TIME, ""));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		if (System.currentTimeMillis() - time > maxAge)
+			return null;
+
+		String driver = properties.getProperty(PROPERTY_DRIVER);
+		if (ObjectUtils.isEmpty(driver))
+			return null;
+
+		return getEntry(properties, driver, properties.getProperty(PROPERTY_ETAG, ""), properties.getProperty(PROPERTY_DATE, ""));
+	}
+
+	/**
+	 * Adds a downloaded file to this cache, and marks it as the most recent download of its name.
+	 * If the entry is not cacheable, it is only found by name, while it is fresh.
+	 * @param name the name of the entry.
+	 * @param driver the driver that downloaded it.
+	 * @param etag the hash or cache tag for the file.
+	 * @param date the cache date of the file fetched.
+	 * @param filename the downloaded file name.
+	 * @param source the downloaded file.
+	 * @throws IOException if the file could not be read or the cache could not be written.
+	 */
+	public void put(String name, String driver, String etag, String date, String filename, File source) throws IOException
+	{
+		String content = digest(source);
+		File contentFile = new File(cacheDirectory, OBJECTS_DIR + File.separator + content);
+		if (!contentFile.exists())
+		{
+			if (!FileUtils.createPathForFile(contentFile))
+				throw new IOException("Could not create cache directory: " + contentFile.getParent());
+			// copy to a temporary name first, so that a partial copy is never mistaken for content.
+			File tempFile = new File(contentFile.getPath() + ".tmp");
+			Files.copy(source.toPath(), tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.move(tempFile.toPath(), contentFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		Properties properties = new Properties();
+		properties.setProperty(PROPERTY_FILENAME, filename);
+		properties.setProperty(PROPERTY_CONTENT, content);
+		if (isCacheable(etag, date))
+			writeProperties(getIndexFile(name, driver, etag, date), properties, name + " " + driver);
+
+		properties.setProperty(PROPERTY_DRIVER, driver);
+		properties.setProperty(PROPERTY_ETAG, ObjectUtils.isNull(etag, ""));
+		properties.setProperty(PROPERTY_DATE, ObjectUtils.isNull(date, ""));
+		properties.setProperty(PROPERTY_TIME, String.valueOf(System.currentTimeMillis()));
+		writeProperties(getLatestFile(name), properties, name);
+	}
+
+	// Reads an index file, or returns null if it could not be read.
+	private static Properties readProperties(File indexFile)
+	{
+		if (!indexFile.exists())
+			return null;
+
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(indexFile))
+		{
+			properties.load(in);
+		}
+		catch (IOException e)
+		{
+			return null;
+		}
+		return properties;
+	}
+
+	// Writes an index file.
+	private static void writeProperties(File indexFile, Properties properties, String comment) throws IOException
+	{
+		if (!FileUtils.createPathForFile(indexFile))
+			throw new IOException("Could not create cache directory: " + indexFile.getParent());
+
+		try (OutputStream out = new FileOutputStream(indexFile))
+		{
+			properties.store(out, comment);
+		}
+	}
+
+	// Gets the entry that an index file points to, or null if the content is missing.
+	private Entry getEntry(Properties properties, String driver, String etag, String date)
+	{
+		String filename = properties.getProperty(PROPERTY_FILENAME);
+		String content = properties.getProperty(PROPERTY_CONTENT);
+		if (ObjectUtils.isEmpty(filename) || ObjectUtils.isEmpty(content))
+			return null;
+
+		File contentFile = new File(cacheDirectory, OBJECTS_DIR + File.separator + content);
+		if (!contentFile.exists())
+			return null;
+
+		return new Entry(filename, contentFile, driver, etag, date);
+	}
+
+	// Gets the index file for a lock entry.
+	private File getIndexFile(String name, String driver, String etag, String date)
+	{
+		String key = name.toLowerCase() + "\n" + driver + "\n" + etag + "\n" + date;
+		return new File(cacheDirectory, INDEX_DIR + File.separator + toHex(sha256().digest(key.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	// Gets the most-recent-download file for a name.
+	private File getLatestFile(String name)
+	{
+		String key = name.toLowerCase();
+		return new File(cacheDirectory, LATEST_DIR + File.separator + toHex(sha256().digest(key.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	// Gets the content digest of a file.
+	private static String digest(File file) throws IOException
+	{
+		MessageDigest digest = sha256();
+		byte[] buffer = new byte[16384];
+		try (InputStream in = new FileInputStream(file))
+		{
+			int buf;
+			while ((buf = in.read(buffer)) > 0)
+				digest.update(buffer, 0, buf);
+		}
+		return toHex(digest.digest());
+	}
+
+	private static MessageDigest sha256()
+	{
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 is not available.", e);
+		}
+	}
+
+	private static String toHex(byte[] bytes)
+	{
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes)
+			sb.append(String.format("%02x", b & 0x0ff));
+		return sb.toString();
+	}
+
+	/**
+	 * A single cache entry.
+	 */
+	public static class Entry
+	{
+		private String filename;
+		private File file;
+		private String driver;
+		private String etag;
+		private String date;
+
+		private Entry(String filename, File file, String driver, String etag, String date)
+		{
+			this.filename = filename;
+			this.file = file;
+			this.driver = driver;
+			this.etag = etag;
+			this.date = date;
+		}
+
+		/**
+		 * @return the original file name of the download.
+		 */
+		public String getFilename()
+		{
+			return filename;
+		}
+
+		/**
+		 * @return the cached file.
+		 */
+		public File getFile()
+		{
+			return file;
+		}
+
+		/**
+		 * @return the driver that downloaded the file.
+		 */
+		public String getDriver()
+		{
+			return driver;
+		}
+
+		/**
+		 * @return the hash or cache tag for the file, or an empty string if none.
+		 */
+		public String getETag()
+		{
+			return etag;
+		}
+
+		/**
+		 * @return the cache date of the file, or an empty string if none.
+		 */
+		public String getDate()
+		{
+			return date;
+		}
+	}
+
+}
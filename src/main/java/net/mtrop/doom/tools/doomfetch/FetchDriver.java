@@ -7,6 +7,7 @@ package net.mtrop.doom.tools.doomfetch;
 
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.blackrook.json.JSONObject;
 import com.blackrook.json.JSONReader;
@@ -29,6 +30,8 @@ public abstract class FetchDriver
 	protected PrintStream out; 
 	/** Error stream. */
 	protected PrintStream err;
+	/** Cancel switch for in-flight requests. */
+	protected final AtomicBoolean cancelSwitch;
 	
 	/**
 	 * Creates a fetch driver.
@@ -39,6 +42,24 @@ public abstract class FetchDriver
 	{
 		this.out = out;
 		this.err = err;
+		this.cancelSwitch = new AtomicBoolean(false);
+	}
+	
+	/**
+	 * Attempts to cancel this driver's search and any request it has in flight.
+	 * A cancelled driver's {@link #getStreamFor(String)} should return null as soon as it can.
+	 */
+	public void cancel()
+	{
+		cancelSwitch.set(true);
+	}
+	
+	/**
+	 * @return true if this driver was cancelled, false if not.
+	 */
+	public boolean isCancelled()
+	{
+		return cancelSwitch.get();
 	}
 	
 	/**
@@ -90,7 +111,8 @@ public abstract class FetchDriver
 		@Override
 		public void close() throws IOException
 		{
-			httpResponse.close();
+			if (httpResponse != null)
+				httpResponse.close();
 		}
 		
 	}
@@ -14,6 +14,7 @@ import net.mtrop.doom.tools.Version;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.HTTPUtils;
 import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPRequest;
+import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPResponse;
 
 /**
  * A DoomFetch Driver descriptor.
@@ -46,7 +47,10 @@ public class IdGamesDriver extends FetchDriver
 				HTTPUtils.entry("sort", "filename"),
 				HTTPUtils.entry("out", "json"),
 				HTTPUtils.entry("query", name)
-		).send(JSON_READER);
+		).send(cancelSwitch, JSON_READER);
+		
+		if (json == null)
+			return null;
 		
 		JSONObject content = json.get("content");
 		JSONObject meta = json.get("meta");
@@ -109,7 +113,11 @@ public class IdGamesDriver extends FetchDriver
 			.setHeader("User-Agent", USER_AGENT)
 			.setAutoRedirect(true);
 		
-		return new Response(filenameStr, "", "", request.send());
+		HTTPResponse response = request.send(cancelSwitch);
+		if (response == null)
+			return null;
+		
+		return new Response(filenameStr, "", "", response);
 	}
 
 }
@@ -63,8 +63,11 @@ public abstract class TSPGDriver extends FetchDriver
 					HTTPUtils.entry("type", "wad"),
 					HTTPUtils.entry("term", name)
 				)
-			.send();
+			.send(cancelSwitch);
 
+			if (response == null)
+				return null;
+			
 			if (response.isError())
 			{
 				err.println("Received status " + response.getStatusCode() + " response from " + serviceName + ".");
@@ -107,7 +110,10 @@ public abstract class TSPGDriver extends FetchDriver
 		response = HTTPRequest.get(baseURL + DOWNLOAD_URI)
 			.setHeader("User-Agent", USER_AGENT)
 			.setParameter("file", fullFilename)
-		.send();
+		.send(cancelSwitch);
+		
+		if (response == null)
+			return null;
 		
 		return new Response(fullFilename, "", "", response);
 	}
@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doommake;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a set of targets that can depend on each other, running targets that are not waiting on
+ * anything at the same time, up to a maximum amount of jobs.
+ * <p>Each target's output is buffered while it runs, and is written out in the order that the targets
+ * were declared in (not the order that they finished in), as soon as every target declared before it is done.
+ * The output is the same as it would be if the targets had run one after another.
+ * <p>If a target fails, no more targets are started, but the ones already running are finished.
+ * @author Matthew Tropiano
+ */
+public class TargetScheduler
+{
+	/** The maximum amount of targets to run at once. */
+	private final int jobs;
+
+	/**
+	 * Creates a new scheduler.
+	 * @param jobs the maximum amount of targets to run at once (less than 1 is 1).
+	 */
+	public TargetScheduler(int jobs)
+	{
+		this.jobs = Math.max(1, jobs);
+	}
+
+	/**
+	 * @return the maximum amount of targets to run at once.
+	 */
+	public int getJobs()
+	{
+		return jobs;
+	}
+
+	/**
+	 * Runs a set of targets.
+	 * @param targets the map of target names to the names of the targets that they depend on, in declaration order.
+	 * @param call the call to use for running each target.
+	 * @param out the output stream to write each target's standard output to.
+	 * @param err the output stream to write each target's standard error to.
+	 * @return the result code of each target that was run, in declaration order. 
+	 * 		Targets that were not run because another target failed are not in the map.
+	 * @throws IllegalArgumentException if a target depends on a target that is not in the map, or the dependencies have a cycle.
+	 * @throws InterruptedException if the current thread is interrupted while waiting on targets.
+	 */
+	public Map<String, Integer> run(Map<String, List<String>> targets, TargetCall call, PrintStream out, PrintStream err) throws InterruptedException
+	{
+		int count = targets.size();
+		List<String> names = new ArrayList<>(targets.keySet());
+		Map<String, Integer> indices = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++)
+			indices.put(names.get(i), i);
+
+		int[] waiting = new int[count];
+		List<List<Integer>> dependents = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			dependents.add(new LinkedList<>());
+		for (int i = 0; i < count; i++)
+		{
+			for (String dependency : targets.get(names.get(i)))
+			{
+				Integer d = indices.get(dependency);
+				if (d == null)
+					throw new IllegalArgumentException("Target \"" + names.get(i) + "\" depends on \"" + dependency + "\", which is not in the target list.");
+				if (d == i)
+					throw new IllegalArgumentException("Target \"" + names.get(i) + "\" depends on itself.");
+				dependents.get(d).add(i);
+				waiting[i]++;
+			}
+		}
+		checkCycles(names, waiting, dependents);
+		if (count == 0)
+			return new LinkedHashMap<>();
+
+		TreeSet<Integer> ready = new TreeSet<>();
+		for (int i = 0; i < count; i++)
+			if (waiting[i] == 0)
+				ready.add(i);
+
+		Capture[] captures = new Capture[count];
+		Integer[] results = new Integer[count];
+		boolean[] finished = new boolean[count];
+		int nextOutput = 0;
+		boolean failed = false;
+		int running = 0;
+
+		ExecutorService executor = createExecutor(Math.min(jobs, count));
+		ExecutorCompletionService<Integer> completion = new ExecutorCompletionService<>(executor);
+		try {
+			while (true)
+			{
+				while (!failed && running < jobs && !ready.isEmpty())
+				{
+					final int index = ready.pollFirst();
+					final String name = names.get(index);
+					final Capture capture = captures[index] = new Capture();
+					completion.submit(() -> {
+						try (PrintStream targetOut = new PrintStream(capture.stream(false), true); PrintStream targetErr = new PrintStream(capture.stream(true), true)) {
+							try {
+								results[index] = call.call(name, targetOut, targetErr);
+							} catch (RuntimeException e) {
+								targetErr.println("ERROR: Target \"" + name + "\" threw an exception: " + e.getLocalizedMessage());
+								e.printStackTrace(targetErr);
+								results[index] = -1;
+							}
+						}
+						return index;
+					});
+					running++;
+				}
+				
+				if (running == 0)
+					break;
+
+				int done;
+				try {
+					done = completion.take().get();
+				} catch (ExecutionException e) {
+					// Not thrown - the task catches everything that the call can throw.
+					throw new RuntimeException(e.getCause());
+				}
+				running--;
+				finished[done] = true;
+				if (results[done] != 0)
+					failed = true;
+				else for (int d : dependents.get(done))
+					if (--waiting[d] == 0)
+						ready.add(d);
+
+				while (nextOutput < count && finished[nextOutput])
+					captures[nextOutput++].replay(out, err);
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// Targets that were skipped leave gaps.
+		for (; nextOutput < count; nextOutput++)
+			if (finished[nextOutput])
+				captures[nextOutput].replay(out, err);
+
+		Map<String, Integer> codes = new LinkedHashMap<>(count * 2);
+		for (int i = 0; i < count; i++)
+			if (finished[i])
+				codes.put(names.get(i), results[i]);
+		return codes;
+	}
+
+	// Checks for dependency cycles (by topological sort).
+	private static void checkCycles(List<String> names, int[] waiting, List<List<Integer>> dependents)
+	{
+		int[] remaining = waiting.clone();
+		LinkedList<Integer> queue = new LinkedList<>();
+		for (int i = 0; i < remaining.length; i++)
+			if (remaining[i] == 0)
+				queue.add(i);
+
+		int sorted = 0;
+		while (!queue.isEmpty())
+		{
+			sorted++;
+			for (int d : dependents.get(queue.pollFirst()))
+				if (--remaining[d] == 0)
+					queue.add(d);
+		}
+		if (sorted == remaining.length)
+			return;
+
+		List<String> cycle = new LinkedList<>();
+		for (int i = 0; i < remaining.length; i++)
+			if (remaining[i] > 0)
+				cycle.add(names.get(i));
+		throw new IllegalArgumentException("Targets have a dependency cycle: " + String.join(", ", cycle));
+	}
+
+	private static ExecutorService createExecutor(int threads)
+	{
+		AtomicInteger id = new AtomicInteger(0);
+		return Executors.newFixedThreadPool(threads, (runnable) -> {
+			Thread thread = new Thread(runnable, "DoomMakeTargetThread-" + id.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * The call for running a single target.
+	 */
+	@FunctionalInterface
+	public interface TargetCall
+	{
+		/**
+		 * Runs a target.
+		 * Called from a scheduler thread.
+		 * @param targetName the target name.
+		 * @param out the standard output stream for the target.
+		 * @param err the standard error stream for the target.
+		 * @return the result code (0 is success).
+		 */
+		int call(String targetName, PrintStream out, PrintStream err);
+	}
+
+	/**
+	 * Buffered output of one target, in the order that it was written to either stream.
+	 */
+	private static class Capture
+	{
+		private final List<Chunk> chunks;
+
+		private Capture()
+		{
+			this.chunks = Collections.synchronizedList(new ArrayList<>(4));
+		}
+
+		private OutputStream stream(boolean error)
+		{
+			return new OutputStream()
+			{
+				@Override
+				public void write(int b)
+				{
+					chunk(error).write(b);
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len)
+				{
+					chunk(error).write(b, off, len);
+				}
+			};
+		}
+
+		// Gets the chunk to write to - the last one, if it is for the same stream.
+		private Chunk chunk(boolean error)
+		{
+			synchronized (chunks)
+			{
+				Chunk last = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+				if (last == null || last.error != error)
+					chunks.add(last = new Chunk(error));
+				return last;
+			}
+		}
+
+		private void replay(PrintStream out, PrintStream err)
+		{
+			synchronized (chunks)
+			{
+				for (Chunk chunk : chunks)
+				{
+					PrintStream stream = chunk.error ? err : out;
+					stream.write(chunk.toByteArray(), 0, chunk.size());
+					stream.flush();
+				}
+				chunks.clear();
+			}
+		}
+	}
+
+	private static class Chunk extends ByteArrayOutputStream
+	{
+		private final boolean error;
+
+		private Chunk(boolean error)
+		{
+			super(256);
+			this.error = error;
+		}
+	}
+
+}
@@ -5,6 +5,7 @@
  ******************************************************************************/
 package net.mtrop.doom.tools.doommake.functions;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
@@ -14,17 +15,33 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.Charset;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.zip.ZipEntry;
@@ -47,6 +64,7 @@ import net.mtrop.doom.tools.struct.ReplacerReader;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
+import net.mtrop.doom.tools.struct.util.ValueUtils;
 import net.mtrop.doom.tools.common.Common;
 
 import static com.blackrook.rookscript.lang.ScriptFunctionUsage.type;
@@ -120,7 +138,8 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 			return ScriptFunctionUsage.create()
 				.instructions(
 					"Copies a file from one path to another, optionally creating directories for it. " +
-					"If the destination file exists, it is overwritten."
+					"If the destination file exists, it is overwritten, unless it has the same size and modified time as the source " +
+					"(copied files keep the source's modified time), in which case it is not copied again."
 				)
 				.parameter("srcFile", 
 					type(Type.STRING, "Path to source file."),
@@ -179,7 +198,10 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 			return ScriptFunctionUsage.create()
 				.instructions(
 					"Copies a series of files from one directory to another, replicating the tree in the destination. " +
-					"If a destination file exists, it is overwritten."
+					"If a destination file exists, it is overwritten, unless it has the same size and modified time as the source " +
+					"(copied files keep the source's modified time), in which case it is not copied again. " +
+					"Files may be copied in parallel (see the \"" + PROPERTY_IO_THREADS + "\" property), but the returned list is always in the same order: " +
+					"sorted by path, directory by directory."
 				)
 				.parameter("srcDir",
 					type(Type.STRING, "Path to source directory (base path)."),
@@ -249,8 +271,11 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 					}
 				}
 				
-				returnValue.setEmptyList(128);
-				copyDir(srcDir, srcDir, destDir, recursive, filter, returnValue);
+				List<Consumer<ScriptValue>> tasks = new ArrayList<>(128);
+				if (!copyDir(srcDir, srcDir, destDir, recursive, filter, tasks, returnValue))
+					return true;
+				returnValue.setEmptyList(tasks.size());
+				runFileTasks(tasks, returnValue);
 				return true;
 			}
 			finally
@@ -269,7 +294,8 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 			return ScriptFunctionUsage.create()
 				.instructions(
 					"Copies a text-based file, replacing the contents of the file with replace key " +
-					"delimited tokens with other text data. If the destination file exists, it is overwritten."
+					"delimited tokens with other text data. If the destination file exists, it is overwritten, " +
+					"unless it already has the same contents, in which case it is left alone (and its modified time is unchanged)."
 				)
 				.parameter("srcFile", 
 					type(Type.STRING, "Path to source file."),
@@ -330,17 +356,26 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 				if (ObjectUtils.isEmpty(projectCharset))
 					projectCharset = Charset.defaultCharset().displayName();
 				
-				try (ReplacerReader reader = new ReplacerReader(new InputStreamReader(new FileInputStream(srcFile), projectCharset), delimStart, delimEnd))
+				try (ReplacerReader reader = new ReplacerReader(new BufferedReader(new InputStreamReader(new FileInputStream(srcFile), projectCharset)), delimStart, delimEnd))
 				{
 					if (keys.isMap()) for (IteratorPair p : keys)
 					{
 						reader.replace(p.getKey().asString(), p.getValue().asString());
 					}
 					
-					try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(destFile), projectCharset))
+					StringWriter writer = new StringWriter((int)Math.min(srcFile.length() + 1024, Integer.MAX_VALUE));
+					IOUtils.relay(reader, writer);
+					String result = writer.toString();
+				
+					// Leave an identical destination alone.
+					if (!sameText(destFile, result, projectCharset))
 					{
-						IOUtils.relay(reader, writer);
+						try (Writer out = new OutputStreamWriter(new FileOutputStream(destFile), projectCharset))
+						{
+							out.write(result);
+						}
 					}
+					returnValue.set(destFile);
 				} 
 				catch (UnsupportedEncodingException e) 
 				{
@@ -705,7 +740,7 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 					urlConn = url.openConnection();
 					urlConn.setReadTimeout(timeoutMs);
 					try (InputStream in = urlConn.getInputStream()) {
-						writeFile(in, destFile, createDirs, returnValue);
+						writeFile(in, destFile, createDirs, -1L, returnValue);
 					} catch (SocketTimeoutException e) {
 						returnValue.setError("Timeout", e.getMessage(), e.getLocalizedMessage());
 					} 
@@ -729,7 +764,10 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 		{
 			return ScriptFunctionUsage.create()
 				.instructions(
-					"Unzips a Zip archive to a target directory, preserving directory structure."
+					"Unzips a Zip archive to a target directory, preserving directory structure. " +
+					"Unzipped files get the modified time of their entries, and files that already exist with the same size and modified time " +
+					"as their entries are not unzipped again. Entries may be unzipped in parallel (see the \"" + PROPERTY_IO_THREADS + "\" property), " +
+					"but the returned list is always in the order of the entries in the archive."
 				)
 				.parameter("zipFile", 
 					type(Type.STRING, "Zip file path."),
@@ -788,28 +826,45 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 					entrySet.add(temp.asString());
 				}
 
-				returnValue.setEmptyList(64);
 				try (ZipFile zf = new ZipFile(zipFile))
 				{
-					ZipEntry entry;
+					List<Consumer<ScriptValue>> tasks = new ArrayList<>(64);
 					for (Enumeration<? extends ZipEntry> en = zf.entries(); en.hasMoreElements();)
 					{
-						entry = en.nextElement();
-						
-						if (entrySet.isEmpty() || entrySet.contains(entry.getName()))
+						final ZipEntry entry = en.nextElement();
+						if (!entrySet.isEmpty() && !entrySet.contains(entry.getName()))
+							continue;
+
+						final File destFile = new File(destDir.getPath() + File.separator + entry.getName());
+						if (entry.isDirectory())
 						{
+							if (!FileUtils.createPath(destFile.getPath()))
+							{
+								returnValue.setError("IOError", "Could not create directory: " + destFile.getPath());
+								return true;
+							}
+							continue;
+						}
+						
+						tasks.add((value) -> {
+							if (isUpToDate(destFile, entry.getSize(), entry.getTime()))
+							{
+								value.set(destFile);
+								return;
+							}
 							try (InputStream in = zf.getInputStream(entry))
 							{
-								writeFile(in, new File(destDir.getPath() + File.separator + entry.getName()), true, temp);
-								returnValue.listAdd(temp);
+								writeFile(in, destFile, true, entry.getTime(), value);
 							}
 							catch (IOException e)
 							{
-								returnValue.setError("IOError", "Couldn't read from zip file: " + zipFile.getPath());
-								return true;
+								value.setError("IOError", "Couldn't read from zip file: " + zipFile.getPath());
 							}
-						}
+						});
 					}
+					
+					returnValue.setEmptyList(tasks.size());
+					runFileTasks(tasks, returnValue);
 				} 
 				catch (ZipException e) 
 				{
@@ -1155,6 +1210,14 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 	
 	private static final Charset UTF8 = Charset.forName("UTF-8");
 	
+	/** Property for the maximum amount of threads used for copying or unzipping many files (1 or less is no parallel copying). */
+	private static final String PROPERTY_IO_THREADS = "doommake.io.threads";
+	/** Default maximum amount of threads used for copying or unzipping many files. */
+	private static final int DEFAULT_IO_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+	
+	/** Pool for copying or unzipping files, created on first use. */
+	private static ExecutorService IO_EXECUTOR = null;
+	
 	/**
 	 * @return a function resolver that handles all of the functions in this enum.
 	 */
@@ -1282,48 +1345,166 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 		return false;
 	}
 	
-	// Return value is file list.
-	private static void copyDir(File base, File srcDir, File destDir, boolean recursive, FileFilter filter, ScriptValue returnValue)
+	// Adds file copy tasks to a list, in path order.
+	// Returns false and sets an error on returnValue if a directory could not be read.
+	private static boolean copyDir(File base, File srcDir, File destDir, boolean recursive, FileFilter filter, List<Consumer<ScriptValue>> tasks, ScriptValue returnValue)
 	{
-		ScriptValue fileValue = ScriptValue.create(null);
-		
 		File[] dirFiles = srcDir.listFiles();
 		if (dirFiles == null)
 		{
 			returnValue.setError("IOError", "Directory " + srcDir.getPath() + " could not be read.");
-			return;
+			return false;
 		}
 		
-		for (File f : srcDir.listFiles())
+		Arrays.sort(dirFiles, (a, b) -> a.getName().compareTo(b.getName()));
+		for (File f : dirFiles)
 		{
 			String treeName = f.getPath().substring(base.getPath().length());
 			if (f.isDirectory() && recursive)
 			{
-				copyDir(base, f, destDir, recursive, filter, returnValue);
-				if (returnValue.isError())
-					break;
+				if (!copyDir(base, f, destDir, recursive, filter, tasks, returnValue))
+					return false;
 			}
 			else if (filter.accept(f))
 			{
-				copyFile(f, new File(destDir.getPath() + treeName), true, fileValue);
-				if (fileValue.isError())
+				final File destFile = new File(destDir.getPath() + treeName);
+				tasks.add((value) -> copyFile(f, destFile, true, value));
+			}
+		}
+		return true;
+	}
+	
+	// Runs file tasks, in parallel if there are enough and it is allowed, and adds their results to a list in task order.
+	// Stops at the first error (in task order) and sets it as the return value, just as if the tasks were run one at a time:
+	// every task before the failing one is finished, and tasks after it are skipped if they have not started yet.
+	// Package-private for tests.
+	static void runFileTasks(List<Consumer<ScriptValue>> tasks, ScriptValue returnValue)
+	{
+		int threads = ValueUtils.parseInt(System.getProperty(PROPERTY_IO_THREADS), DEFAULT_IO_THREADS);
+		if (threads <= 1 || tasks.size() <= 1)
+		{
+			ScriptValue value = ScriptValue.create(null);
+			for (Consumer<ScriptValue> task : tasks)
+			{
+				task.accept(value);
+				if (value.isError())
+				{
+					returnValue.set(value);
+					return;
+				}
+				returnValue.listAdd(value);
+			}
+			return;
+		}
+		
+		ExecutorService executor = getIOExecutor(threads);
+		AtomicInteger firstError = new AtomicInteger(Integer.MAX_VALUE);
+		List<Future<ScriptValue>> results = new ArrayList<>(tasks.size());
+		for (int i = 0; i < tasks.size(); i++)
+		{
+			final int index = i;
+			final Consumer<ScriptValue> task = tasks.get(i);
+			results.add(executor.submit(() -> {
+				ScriptValue value = ScriptValue.create(null);
+				if (index > firstError.get())
+					return value;
+				task.accept(value);
+				if (value.isError())
+					firstError.accumulateAndGet(index, Math::min);
+				return value;
+			}));
+		}
+		
+		int i = 0;
+		try {
+			for (; i < results.size(); i++)
+			{
+				ScriptValue value = results.get(i).get();
+				if (value.isError())
 				{
-					returnValue.set(fileValue);
+					returnValue.set(value);
 					break;
 				}
-				returnValue.listAdd(fileValue);
+				returnValue.listAdd(value);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			returnValue.setError("IOError", "Copy was interrupted.");
+		} catch (ExecutionException e) {
+			returnValue.setError("IOError", e.getCause().getMessage(), e.getCause().getLocalizedMessage());
+		} finally {
+			// Do not return while skipped tasks may still be writing.
+			for (; i < results.size(); i++)
+			{
+				results.get(i).cancel(false);
+				try {
+					results.get(i).get();
+				} catch (CancellationException | InterruptedException | ExecutionException e) {
+					// Ignore.
+				}
 			}
 		}
 	}
+
+	private static synchronized ExecutorService getIOExecutor(int threads)
+	{
+		if (IO_EXECUTOR == null)
+		{
+			AtomicInteger id = new AtomicInteger(0);
+			IO_EXECUTOR = Executors.newFixedThreadPool(threads, (runnable) -> {
+				Thread thread = new Thread(runnable, "DoomMakeIOThread-" + id.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return IO_EXECUTOR;
+	}
 	
-	// Return value is file.
-	private static void copyFile(File srcFile, File destFile, boolean createDirs, ScriptValue returnValue) 
+	// Checks if a destination file exists with a size and modified time.
+	private static boolean isUpToDate(File destFile, long length, long lastModified) 
 	{
-		try (FileInputStream fis = new FileInputStream(srcFile)) 
+		return length >= 0 && lastModified >= 0 && destFile.isFile() && destFile.length() == length && destFile.lastModified() == lastModified;
+	}
+	
+	// Checks if a text file has the same contents as a string.
+	private static boolean sameText(File file, String text, String charset) throws IOException
+	{
+		if (!file.isFile())
+			return false;
+		byte[] bytes = text.getBytes(charset);
+		if (file.length() != bytes.length)
+			return false;
+		return Arrays.equals(Files.readAllBytes(file.toPath()), bytes);
+	}
+	
+	// Return value is file. Package-private for tests.
+	static void copyFile(File srcFile, File destFile, boolean createDirs, ScriptValue returnValue) 
+	{
+		try
 		{
-			writeFile(fis, destFile, createDirs, returnValue);
+			if (!srcFile.isFile())
+			{
+				returnValue.setError("BadFile", srcFile.getPath() + " (No such file)");
+				return;
+			}
+			
+			long lastModified = srcFile.lastModified();
+			if (isUpToDate(destFile, srcFile.length(), lastModified))
+			{
+				returnValue.set(destFile);
+				return;
+			}
+			if (createDirs && !createParentDirectories(destFile))
+			{
+				returnValue.setError("IOError", "Could not create directories for target file: " + destFile.getPath());
+				return;
+			}
+			
+			Files.copy(srcFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			destFile.setLastModified(lastModified);
+			returnValue.set(destFile);
 		} 
-		catch (FileNotFoundException e) 
+		catch (NoSuchFileException | AccessDeniedException e) 
 		{
 			returnValue.setError("BadFile", e.getMessage(), e.getLocalizedMessage());
 		}
@@ -1338,19 +1519,21 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 	}
 
 	// Return value is file.
-	private static void writeFile(InputStream in, File destFile, boolean createDirs, ScriptValue returnValue) 
+	private static void writeFile(InputStream in, File destFile, boolean createDirs, long lastModified, ScriptValue returnValue) 
 	{
-		if (createDirs && !FileUtils.createPathForFile(destFile))
-		{
-			returnValue.setError("IOError", "Could not create directories for target file: " + destFile.getPath());
-			return;
-		}
-		try (FileOutputStream fos = new FileOutputStream(destFile)) 
+		try
 		{
-			IOUtils.relay(in, fos);
+			if (createDirs && !createParentDirectories(destFile))
+			{
+				returnValue.setError("IOError", "Could not create directories for target file: " + destFile.getPath());
+				return;
+			}
+			Files.copy(in, destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			if (lastModified >= 0)
+				destFile.setLastModified(lastModified);
 			returnValue.set(destFile);
 		} 
-		catch (FileNotFoundException e) 
+		catch (NoSuchFileException | AccessDeniedException e) 
 		{
 			returnValue.setError("BadFile", e.getMessage(), e.getLocalizedMessage());
 		}
@@ -1364,6 +1547,21 @@ public enum DoomMakeFunctions implements ScriptFunctionType
 		}
 	}
 
+	// Creates the parent directories of a file.
+	// Unlike FileUtils.createPathForFile(), this does not fail if another file task creates the same directories at the same time.
+	private static boolean createParentDirectories(File file)
+	{
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent == null)
+			return true;
+		try {
+			Files.createDirectories(parent.toPath());
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
 	private static ZipOutputStream reopenZipFile(File zipFile, ScriptValue returnValue)
 	{
 		File oldZipFile = new File(zipFile.getPath() + "._tmp");
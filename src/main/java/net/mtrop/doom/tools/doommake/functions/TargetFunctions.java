@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2025 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doommake.functions;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.blackrook.rookscript.ScriptInstance;
+import com.blackrook.rookscript.ScriptIteratorType.IteratorPair;
+import com.blackrook.rookscript.ScriptValue;
+import com.blackrook.rookscript.ScriptValue.Type;
+import com.blackrook.rookscript.lang.ScriptFunctionType;
+import com.blackrook.rookscript.lang.ScriptFunctionUsage;
+import com.blackrook.rookscript.resolvers.ScriptFunctionResolver;
+import com.blackrook.rookscript.resolvers.ScriptVariableResolver;
+import com.blackrook.rookscript.resolvers.variable.DefaultVariableResolver;
+
+import net.mtrop.doom.tools.doommake.TargetScheduler;
+
+import static com.blackrook.rookscript.lang.ScriptFunctionUsage.type;
+
+/**
+ * Script functions for running DoomMake targets side by side.
+ * Unlike the other DoomMake functions, these need to know how to run the project's targets,
+ * so a new resolver is made for each DoomMake run.
+ * @author Matthew Tropiano
+ */
+public final class TargetFunctions implements ScriptFunctionResolver
+{
+	/** GLOBAL variable set to true in every target run by RUNTARGETS. */
+	public static final String GLOBAL_IN_RUNTARGETS = "inRunTargets";
+	
+	private static final String SCOPE_GLOBAL = "global";
+	
+	private final TargetRunner runner;
+	private final int jobs;
+	private final ScriptFunctionType[] functions;
+	
+	private TargetFunctions(TargetRunner runner, int jobs)
+	{
+		this.runner = runner;
+		this.jobs = jobs;
+		this.functions = new ScriptFunctionType[]{new RunTargets()};
+	}
+	
+	/**
+	 * Creates a resolver that can only describe its functions, and not run targets.
+	 * Used for function documentation.
+	 * @return a function resolver for the target functions.
+	 */
+	public static ScriptFunctionResolver createResolver()
+	{
+		return new TargetFunctions(null, 1);
+	}
+
+	/**
+	 * Creates a resolver for a DoomMake run.
+	 * @param runner the runner for running a single target.
+	 * @param jobs the maximum amount of targets to run at once.
+	 * @return a function resolver for the target functions.
+	 */
+	public static ScriptFunctionResolver createResolver(TargetRunner runner, int jobs)
+	{
+		return new TargetFunctions(runner, jobs);
+	}
+
+	@Override
+	public boolean containsFunction(String name)
+	{
+		return getFunction(name) != null;
+	}
+
+	@Override
+	public ScriptFunctionType getFunction(String name)
+	{
+		for (ScriptFunctionType function : functions)
+			if (function.name().equalsIgnoreCase(name))
+				return function;
+		return null;
+	}
+
+	@Override
+	public ScriptFunctionType[] getFunctions()
+	{
+		return functions;
+	}
+	
+	/**
+	 * Runs a single target in its own script instance.
+	 */
+	@FunctionalInterface
+	public interface TargetRunner
+	{
+		/**
+		 * Runs a target.
+		 * @param targetName the target (entry point) name.
+		 * @param out the standard output stream for the target.
+		 * @param err the standard error stream for the target.
+		 * @param globals the variables to use for the target's GLOBAL scope.
+		 * @return the result code (0 is success).
+		 */
+		int run(String targetName, PrintStream out, PrintStream err, ScriptVariableResolver globals);
+	}
+	
+	private class RunTargets implements ScriptFunctionType
+	{
+		private Usage usage;
+		
+		private RunTargets()
+		{
+			this.usage = null;
+		}
+		
+		@Override
+		public String name()
+		{
+			return "RUNTARGETS";
+		}
+
+		@Override
+		public int getParameterCount()
+		{
+			return 2;
+		}
+
+		@Override
+		public Usage getUsage()
+		{
+			if (usage == null)
+			{
+				usage = ScriptFunctionUsage.create()
+					.instructions(
+						"Runs a set of this project's targets (entry points), running targets that do not depend on each other at the same time " +
+						"(up to DoomMake's \"--jobs\" amount). Each target is run in its own script instance with its own GLOBAL scope, " +
+						"and is not passed any arguments. Each target's output is held until it is done, and is printed in the order that the " +
+						"targets are listed in, so the output is the same as running them one after another. " +
+						"If a target fails, no more targets are started. " +
+						"Each target's GLOBAL scope starts out with \"inRunTargets\" set to true, and the GLOBAL variables named in [globals] " +
+						"from this script's GLOBAL scope merged with the ones from the targets that it depends on (so a target can see what was built before it). " +
+						"After all of the targets are done, the GLOBAL variables named in [globals] are read from each target, in order, and merged: " +
+						"maps are merged key by key, lists are joined (without repeats), and anything else is replaced by later targets."
+					)
+					.parameter("targets", 
+						type(Type.LIST, "[STRING, ...]", "The names of the targets to run, none of which depend on each other."),
+						type(Type.MAP, "{STRING:LIST[STRING, ...], ...}", "The names of the targets to run, mapped to the names of the targets (in this map) that must finish first.")
+					)
+					.parameter("globals", 
+						type(Type.NULL, "Do not pass any GLOBAL variables to or read any from the targets."),
+						type(Type.LIST, "[STRING, ...]", "The names of the GLOBAL variables to pass to and read from the targets.")
+					)
+					.returns(
+						type(Type.MAP, "The merged GLOBAL variables named in [globals] (only the ones that were set)."),
+						type(Type.ERROR, "BadParameter", "If [targets] or [globals] is not a valid type."),
+						type(Type.ERROR, "BadTargets", "If a target depends on one not in [targets], or the targets depend on each other in a cycle."),
+						type(Type.ERROR, "TargetFailed", "If a target did not succeed."),
+						type(Type.ERROR, "Unavailable", "If targets cannot be run from this script.")
+					)
+				;
+			}
+			return usage;
+		}
+
+		@Override
+		public boolean execute(ScriptInstance scriptInstance, ScriptValue returnValue)
+		{
+			ScriptValue temp = CACHEVALUE1.get();
+			try
+			{
+				scriptInstance.popStackValue(temp);
+				List<String> globalNames = new LinkedList<>();
+				if (!temp.isNull())
+				{
+					if (!temp.isList())
+					{
+						returnValue.setError("BadParameter", "Globals must be a list of variable names.");
+						return true;
+					}
+					for (IteratorPair pair : temp)
+						globalNames.add(pair.getValue().asString());
+				}
+				
+				scriptInstance.popStackValue(temp);
+				Map<String, List<String>> targets = new LinkedHashMap<>();
+				if (temp.isList())
+				{
+					for (IteratorPair pair : temp)
+						targets.put(pair.getValue().asString(), Collections.emptyList());
+				}
+				else if (temp.isMap())
+				{
+					for (IteratorPair pair : temp)
+					{
+						ScriptValue dependencies = pair.getValue();
+						List<String> names = new LinkedList<>();
+						if (dependencies.isList())
+						{
+							for (IteratorPair dependency : dependencies)
+								names.add(dependency.getValue().asString());
+						}
+						else if (!dependencies.isNull())
+						{
+							names.add(dependencies.asString());
+						}
+						targets.put(pair.getKey().asString(), names);
+					}
+				}
+				else
+				{
+					returnValue.setError("BadParameter", "Targets must be a list of target names, or a map of target names to dependencies.");
+					return true;
+				}
+				
+				if (runner == null)
+				{
+					returnValue.setError("Unavailable", "Targets can only be run from a DoomMake project script.");
+					return true;
+				}
+				
+				// Read now, on the script's thread - the targets start on other threads.
+				Map<String, ScriptValue> callerGlobals = new HashMap<>(globalNames.size() * 2);
+				ScriptVariableResolver callerScope = scriptInstance.getScopeResolver().getScope(SCOPE_GLOBAL);
+				for (String globalName : globalNames)
+				{
+					ScriptValue value = ScriptValue.create(null);
+					if (callerScope != null && callerScope.getValue(globalName, value) && !value.isNull())
+						callerGlobals.put(globalName, merge(null, value));
+				}
+				
+				// A target's scope is made when it starts, once the targets it depends on are done.
+				Map<String, ScriptVariableResolver> scopes = new ConcurrentHashMap<>(targets.size() * 2);
+				
+				Map<String, Integer> results;
+				try {
+					results = (new TargetScheduler(jobs)).run(
+						targets, 
+						(name, out, err) -> {
+							ScriptVariableResolver scope = createScope(globalNames, callerGlobals, targets.get(name), scopes);
+							scopes.put(name, scope);
+							return runner.run(name, out, err, scope);
+						}, 
+						scriptInstance.getEnvironment().getStandardOut(), 
+						scriptInstance.getEnvironment().getStandardErr()
+					);
+				} catch (IllegalArgumentException e) {
+					returnValue.setError("BadTargets", e.getMessage());
+					return true;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					returnValue.setError("TargetFailed", "Interrupted while waiting for targets.");
+					return true;
+				}
+				
+				for (Map.Entry<String, Integer> entry : results.entrySet())
+				{
+					if (entry.getValue() != 0)
+					{
+						returnValue.setError("TargetFailed", "Target \"" + entry.getKey() + "\" failed (result " + entry.getValue() + ").");
+						return true;
+					}
+				}
+
+				// Merge, in target order.
+				returnValue.setEmptyMap(globalNames.size());
+				for (String globalName : globalNames)
+				{
+					ScriptValue merged = null;
+					for (String name : results.keySet())
+					{
+						ScriptValue value = ScriptValue.create(null);
+						if (scopes.get(name).getValue(globalName, value) && !value.isNull())
+							merged = merge(merged, value);
+					}
+					if (merged != null)
+						returnValue.mapSet(globalName, merged);
+				}
+				return true;
+			}
+			finally
+			{
+				temp.setNull();
+			}
+		}
+	}
+	
+	// Creates a target's GLOBAL scope: the caller's globals, merged with the globals of each finished dependency, in order.
+	private static ScriptVariableResolver createScope(List<String> globalNames, Map<String, ScriptValue> callerGlobals, List<String> dependencies, Map<String, ScriptVariableResolver> scopes)
+	{
+		ScriptVariableResolver scope = new DefaultVariableResolver();
+		for (String globalName : globalNames)
+		{
+			ScriptValue caller = callerGlobals.get(globalName);
+			ScriptValue merged = caller != null ? merge(null, caller) : null;
+			for (String dependency : dependencies)
+			{
+				ScriptValue value = ScriptValue.create(null);
+				if (scopes.get(dependency).getValue(globalName, value) && !value.isNull())
+					merged = merge(merged, value);
+			}
+			if (merged != null)
+				scope.setValue(globalName, merged);
+		}
+		scope.setValue(GLOBAL_IN_RUNTARGETS, ScriptValue.create(true));
+		return scope;
+	}
+	
+	// Merges a value into a merged value (can be null), and returns the result. Nothing in the value is changed.
+	// Maps are merged key by key, lists are joined without repeats, and anything else is replaced.
+	private static ScriptValue merge(ScriptValue merged, ScriptValue value)
+	{
+		if (value.isMap())
+		{
+			ScriptValue out = merged != null && merged.isMap() ? merged : ScriptValue.createEmptyMap();
+			for (IteratorPair pair : value)
+			{
+				String key = pair.getKey().asString();
+				ScriptValue current = ScriptValue.create(null);
+				out.mapGet(key, current);
+				out.mapSet(key, merge(current.isNull() ? null : current, pair.getValue()));
+			}
+			return out;
+		}
+		else if (value.isList())
+		{
+			ScriptValue out = merged != null && merged.isList() ? merged : ScriptValue.createEmptyList();
+			Set<String> seen = new HashSet<>();
+			for (IteratorPair pair : out)
+				seen.add(pair.getValue().asString());
+			for (IteratorPair pair : value)
+				if (seen.add(pair.getValue().asString()))
+					out.listAdd(pair.getValue());
+			return out;
+		}
+		else
+		{
+			ScriptValue out = ScriptValue.create(null);
+			out.set(value);
+			return out;
+		}
+	}
+	
+	// Threadlocal "stack" values.
+	private static final ThreadLocal<ScriptValue> CACHEVALUE1 = ThreadLocal.withInitial(()->ScriptValue.create(null));
+
+}
@@ -816,7 +816,8 @@ public enum ToolInvocationFunctions implements ScriptFunctionType
 							"additive:BOOLEAN",
 							"nulltexture:STRING",
 							"noanimated:BOOLEAN",
-							"noswitches:BOOLEAN"
+							"noswitches:BOOLEAN",
+							"mapped:BOOLEAN"
 						) + "}",
 						"Map of options."
 					)
@@ -986,7 +987,8 @@ public enum ToolInvocationFunctions implements ScriptFunctionType
 							"quiet:BOOLEAN",
 							"outputtextures:BOOLEAN",
 							"outputflats:BOOLEAN",
-							"skipskies:BOOLEAN"
+							"skipskies:BOOLEAN",
+							"mapped:BOOLEAN"
 						) + "}",
 						"Map of options."
 					)
@@ -1064,6 +1066,111 @@ public enum ToolInvocationFunctions implements ScriptFunctionType
 		}
 	},
 
+	WTEXSCANEXPORT(1)
+	{
+		@Override
+		protected Usage usage() 
+		{
+			return ScriptFunctionUsage.create()
+				.instructions(
+					"Calls the WTexScan tool on a set of map WADs and hands the used textures and flats straight to the WTEXport tool " +
+					"(as WTEXport's \"--scan\" switch does), without writing and reading a list in between. WADs that are both scanned " +
+					"and exported from are only opened once. Inherits STDOUT/STDERR of this script unless overridden (see options)."
+				)
+				.parameter("options", 
+					type(Type.MAP, 
+						"{" + StringUtils.joinStrings(", ",
+							"stdout:OBJECTREF(OutputStream)",
+							"stderr:OBJECTREF(OutputStream)",
+							"mapwads:LIST[STRING, ...]",
+							"texturewads:LIST[STRING, ...]",
+							"basewad:OBJECTREF(File)",
+							"outwad:OBJECTREF(File)",
+							"additive:BOOLEAN",
+							"nulltexture:STRING",
+							"noanimated:BOOLEAN",
+							"noswitches:BOOLEAN",
+							"skipskies:BOOLEAN",
+							"quiet:BOOLEAN",
+							"mapped:BOOLEAN"
+						) + "}",
+						"Map of options."
+					)
+				)
+				.returns(
+					type(Type.INTEGER, "The normal return of WTEXport's process."),
+					type(Type.ERROR, "BadOptions", "If the options map could not be applied.")
+				)
+			;
+		}
+		
+		@Override
+		public boolean execute(ScriptInstance scriptInstance, ScriptValue returnValue)
+		{
+			ScriptValue temp = CACHEVALUE1.get();
+			ScriptValue args = CACHEVALUE2.get();
+			try 
+			{
+				PrintStream stdout = scriptInstance.getEnvironment().getStandardOut();
+				PrintStream stderr = scriptInstance.getEnvironment().getStandardErr();
+				InputStream stdin = scriptInstance.getEnvironment().getStandardIn();
+				WTExportMain.Options options = WTExportMain.options(stdout, stderr, stdin);
+				scriptInstance.popStackValue(temp);
+				if (!temp.isNull())
+				{
+					if (!temp.isMap())
+					{
+						returnValue.setError("BadOptions", "Options parameter needs to be a Map type.");
+						return true;
+					}
+					else if (!temp.mapApply(options))
+					{
+						returnValue.setError("BadOptions", "Options Map could not be applied.");
+						return true;
+					}
+				}
+				temp.mapGet("mapwads", args);
+				if (!args.isNull() && args.isList())
+				{
+					for (ScriptIteratorType.IteratorPair pair : args)
+					{
+						ScriptValue value = pair.getValue();
+						if (value.isObjectRef(File.class))
+							options.addScanFile(value.asObjectType(File.class));
+						else
+							options.addScanFile(new File(value.asString()));
+					}
+				}
+				temp.mapGet("texturewads", args);
+				if (!args.isNull() && args.isList())
+				{
+					for (ScriptIteratorType.IteratorPair pair : args)
+					{
+						ScriptValue value = pair.getValue();
+						if (value.isObjectRef(File.class))
+							options.addFilePath(value.asObjectType(File.class).getPath());
+						else
+							options.addFilePath(value.asString());
+					}
+				}
+
+				returnValue.set(WTExportMain.call(options));
+				return true;
+			} catch (OptionParseException e) {
+				returnValue.setError("BadOptions", "Option argument parse failed: " + e.getLocalizedMessage());
+				return true;
+			} catch (ClassCastException e) {
+				returnValue.setError("BadOptions", "Options Map could not be applied: " + e.getLocalizedMessage());
+				return true;
+			}
+			finally
+			{
+				temp.setNull();
+				args.setNull();
+			}
+		}
+	},
+
 	;
 	
 	private final int parameterCount;
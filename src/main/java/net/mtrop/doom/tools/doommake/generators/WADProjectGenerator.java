@@ -309,7 +309,7 @@ public class WADProjectGenerator extends ProjectGenerator
 			))
 			.releaseScript(descriptor(
 				fileContentAppend("doommake.script",
-					"\tdoPatch();"
+					"\ttargets->mapSet(\"patch\", []);"
 				)
 			))
 			.releaseScriptMerge(descriptor(
@@ -557,8 +557,8 @@ public class WADProjectGenerator extends ProjectGenerator
 			))
 			.releaseScript(descriptor(
 				fileContentAppend("doommake.script",
-					"\tdoMaps();"
-					,"\tdoMapTextures();"
+					"\ttargets->mapSet(\"maps\", []);"
+					,"\ttargets->mapSet(\"maptextures\", [\"maps\"]);"
 				)
 			))
 			.releaseScriptMerge(descriptor(
@@ -740,6 +740,13 @@ public class WADProjectGenerator extends ProjectGenerator
 				"doommake/projects/doommake-header.script")
 		).createIn(targetDirectory, replacerMap);
 
+		// Targets that modules add, run side by side at the end of doAll().
+		descriptor(
+			fileContentAppend("doommake.script",
+				"\ttargets = {};"
+			)
+		).createIn(targetDirectory, replacerMap);
+
 		// Project Modules.
 		for (ProjectModule module : selected)
 		{
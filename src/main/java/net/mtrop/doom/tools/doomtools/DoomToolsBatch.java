@@ -0,0 +1,381 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doomtools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.blackrook.json.JSONObject;
+import com.blackrook.json.JSONReader;
+
+import net.mtrop.doom.tools.DMXConvertMain;
+import net.mtrop.doom.tools.DecoHackMain;
+import net.mtrop.doom.tools.DoomFetchMain;
+import net.mtrop.doom.tools.DoomImageConvertMain;
+import net.mtrop.doom.tools.DoomMakeMain;
+import net.mtrop.doom.tools.WADTexMain;
+import net.mtrop.doom.tools.WSwAnTablesMain;
+import net.mtrop.doom.tools.WTExportMain;
+import net.mtrop.doom.tools.WTexListMain;
+import net.mtrop.doom.tools.WTexScanMain;
+import net.mtrop.doom.tools.WadMergeMain;
+import net.mtrop.doom.tools.WadScriptMain;
+import net.mtrop.doom.tools.exception.UtilityException;
+
+/**
+ * Runs a set of tool invocations in one JVM, so that a chain of tools pays for JVM startup
+ * (and class loading, and compiled scripts) once. Nothing else is shared between steps: each step
+ * reads its own palettes, IWADs, and other files, and each script run gets its own GLOBAL scope.
+ * <p>
+ * A batch job is a JSON object with a <code>steps</code> array, or just the array by itself.
+ * Each step is an object with a <code>tool</code> name, an optional <code>args</code> array,
+ * an optional <code>id</code> (defaults to its one-based position), and an optional <code>after</code>
+ * array of step ids that must succeed before it runs. Steps run in file order, unless they have to
+ * wait on a step that they depend on. A step is skipped if a step that it depends on fails or is skipped.
+ * <p>
+ * Normally, the batch stops at the first failed step. If the job object has <code>"keepGoing": true</code>,
+ * steps that do not depend on a failed step still run.
+ * <p>
+ * Every step's exit code is exactly what the tool would have exited with on its own.
+ * @author Matthew Tropiano
+ */
+public class DoomToolsBatch
+{
+	/**
+	 * A tool entry point.
+	 */
+	@FunctionalInterface
+	public interface Tool
+	{
+		/**
+		 * Runs the tool.
+		 * @param out the standard output print stream.
+		 * @param err the standard error print stream.
+		 * @param in the standard input stream.
+		 * @param args the tool arguments.
+		 * @return the tool's exit code.
+		 */
+		int run(PrintStream out, PrintStream err, InputStream in, String ... args);
+	}
+
+	/** Tools available to batches. */
+	private static final Map<String, Tool> TOOLS = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	static
+	{
+		TOOLS.put("wadmerge",  WadMergeMain::run);
+		TOOLS.put("wswantbl",  WSwAnTablesMain::run);
+		TOOLS.put("wadtex",    WADTexMain::run);
+		TOOLS.put("wtexscan",  WTexScanMain::run);
+		TOOLS.put("wtexlist",  WTexListMain::run);
+		TOOLS.put("wtexport",  WTExportMain::run);
+		TOOLS.put("wadscript", WadScriptMain::run);
+		TOOLS.put("decohack",  DecoHackMain::run);
+		TOOLS.put("dmxconv",   DMXConvertMain::run);
+		TOOLS.put("dimgconv",  DoomImageConvertMain::run);
+		TOOLS.put("doomfetch", DoomFetchMain::run);
+		TOOLS.put("doommake",  DoomMakeMain::run);
+	}
+
+	/**
+	 * Step states.
+	 */
+	public enum State
+	{
+		PENDING,
+		SUCCESS,
+		FAILED,
+		SKIPPED;
+	}
+
+	/** The steps, in file order. */
+	private List<Step> steps;
+	/** If true, keep running independent steps after a failure. */
+	private boolean keepGoing;
+
+	private DoomToolsBatch(List<Step> steps, boolean keepGoing)
+	{
+		this.steps = steps;
+		this.keepGoing = keepGoing;
+	}
+
+	/**
+	 * @return the names of the tools that can be run in a batch, sorted.
+	 */
+	public static Set<String> getToolNames()
+	{
+		return Collections.unmodifiableSet(TOOLS.keySet());
+	}
+
+	/**
+	 * Gets a tool entry point by name.
+	 * @param name the tool name (case-insensitive).
+	 * @return the corresponding tool, or null if no such tool.
+	 */
+	public static Tool getTool(String name)
+	{
+		return TOOLS.get(name);
+	}
+
+	/**
+	 * Reads a batch job.
+	 * @param reader the reader to read the JSON job from.
+	 * @return the batch read.
+	 * @throws IOException if the job could not be read.
+	 * @throws UtilityException if the job is malformed, names an unknown tool, or has a dependency cycle.
+	 */
+	public static DoomToolsBatch read(Reader reader) throws IOException, UtilityException
+	{
+		JSONObject root;
+		try {
+			root = JSONReader.readJSON(reader);
+		} catch (RuntimeException e) {
+			throw new UtilityException("Batch job is not valid JSON: " + e.getLocalizedMessage(), e);
+		}
+
+		boolean keepGoing = false;
+		JSONObject stepArray = root;
+		if (!root.isArray())
+		{
+			JSONObject keepGoingValue = root.get("keepGoing");
+			keepGoing = keepGoingValue != null && keepGoingValue.getBoolean();
+			stepArray = root.get("steps");
+		}
+		if (stepArray == null || !stepArray.isArray())
+			throw new UtilityException("Batch job has no \"steps\" array.");
+
+		List<Step> steps = new ArrayList<>(stepArray.length());
+		Map<String, Step> stepMap = new HashMap<>();
+		for (int i = 0; i < stepArray.length(); i++)
+		{
+			JSONObject stepObject = stepArray.get(i);
+			String position = String.valueOf(i + 1);
+
+			JSONObject idValue = stepObject.get("id");
+			String id = idValue != null ? idValue.getString() : position;
+
+			JSONObject toolValue = stepObject.get("tool");
+			if (toolValue == null)
+				throw new UtilityException("Step \"" + id + "\" has no tool.");
+			String toolName = toolValue.getString();
+			Tool tool;
+			if ((tool = TOOLS.get(toolName)) == null)
+				throw new UtilityException("Step \"" + id + "\" uses an unknown tool: " + toolName);
+
+			List<String> args = readStrings(stepObject.get("args"), id, "args");
+			List<String> after = readStrings(stepObject.get("after"), id, "after");
+
+			Step step = new Step(id, toolName.toLowerCase(), tool, args.toArray(new String[args.size()]), after);
+			if (stepMap.put(id, step) != null)
+				throw new UtilityException("Step id is used more than once: " + id);
+			steps.add(step);
+		}
+
+		for (Step step : steps)
+			for (String dependency : step.after)
+				if (!stepMap.containsKey(dependency))
+					throw new UtilityException("Step \"" + step.id + "\" depends on an unknown step: " + dependency);
+
+		Set<String> visited = new HashSet<>();
+		for (Step step : steps)
+			checkCycles(step, stepMap, visited, new HashSet<>());
+
+		return new DoomToolsBatch(steps, keepGoing);
+	}
+
+	/**
+	 * @return the steps in this batch, in file order.
+	 */
+	public List<Step> getSteps()
+	{
+		return Collections.unmodifiableList(steps);
+	}
+
+	/**
+	 * Runs this batch. Progress and timings are printed to the error stream,
+	 * so that the output stream only contains tool output.
+	 * @param out the standard output print stream for the tools.
+	 * @param err the standard error print stream for the tools and the batch.
+	 * @param in the standard input stream for the tools.
+	 * @return the exit code of the first failed step, or 0 if every step succeeded.
+	 */
+	public int execute(PrintStream out, PrintStream err, InputStream in)
+	{
+		long batchStart = System.nanoTime();
+		Integer firstError = null;
+
+		Step next;
+		while ((next = nextRunnable()) != null)
+		{
+			if (firstError != null && !keepGoing)
+			{
+				next.state = State.SKIPPED;
+				continue;
+			}
+
+			err.println("==> [" + next.id + "] " + next.toolName + " " + String.join(" ", next.args));
+			long start = System.nanoTime();
+			int result;
+			try {
+				result = next.tool.run(out, err, in, next.args);
+			} catch (RuntimeException e) {
+				e.printStackTrace(err);
+				result = -1;
+			}
+			next.nanos = System.nanoTime() - start;
+			next.exitCode = result;
+			next.state = result == 0 ? State.SUCCESS : State.FAILED;
+			err.printf("==> [%s] %s in %d ms (exit %d).\n", next.id, next.state == State.SUCCESS ? "finished" : "FAILED", next.nanos / 1000000L, result);
+
+			if (next.state == State.FAILED && firstError == null)
+				firstError = result;
+		}
+
+		err.println();
+		err.println("Batch summary:");
+		for (Step step : steps)
+		{
+			if (step.state == State.SKIPPED || step.state == State.PENDING)
+				err.printf("    %-8s %10s  %s (%s)\n", State.SKIPPED.name(), "", step.id, step.toolName);
+			else
+				err.printf("    %-8s %7d ms  %s (%s)%s\n", step.state.name(), step.nanos / 1000000L, step.id, step.toolName, step.state == State.FAILED ? " exit " + step.exitCode : "");
+		}
+		err.printf("Total: %d ms\n", (System.nanoTime() - batchStart) / 1000000L);
+
+		return firstError != null ? firstError : 0;
+	}
+
+	// Gets the next step that can run, marking steps that never can as skipped.
+	private Step nextRunnable()
+	{
+		Map<String, Step> stepMap = new HashMap<>();
+		for (Step step : steps)
+			stepMap.put(step.id, step);
+
+		boolean changed = true;
+		while (changed)
+		{
+			changed = false;
+			for (Step step : steps)
+			{
+				if (step.state != State.PENDING)
+					continue;
+
+				boolean ready = true;
+				boolean blocked = false;
+				for (String dependency : step.after)
+				{
+					State state = stepMap.get(dependency).state;
+					if (state == State.FAILED || state == State.SKIPPED)
+						blocked = true;
+					else if (state == State.PENDING)
+						ready = false;
+				}
+
+				if (blocked)
+				{
+					step.state = State.SKIPPED;
+					changed = true;
+				}
+				else if (ready)
+				{
+					return step;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static List<String> readStrings(JSONObject array, String id, String member) throws UtilityException
+	{
+		List<String> out = new ArrayList<>();
+		if (array == null)
+			return out;
+		if (!array.isArray())
+			throw new UtilityException("Step \"" + id + "\": \"" + member + "\" must be an array.");
+		for (int i = 0; i < array.length(); i++)
+			out.add(array.get(i).getString());
+		return out;
+	}
+
+	private static void checkCycles(Step step, Map<String, Step> stepMap, Set<String> visited, Set<String> path) throws UtilityException
+	{
+		if (path.contains(step.id))
+			throw new UtilityException("Step \"" + step.id + "\" depends on itself.");
+		if (!visited.add(step.id))
+			return;
+		path.add(step.id);
+		for (String dependency : step.after)
+			checkCycles(stepMap.get(dependency), stepMap, visited, path);
+		path.remove(step.id);
+	}
+
+	/**
+	 * A single batch step.
+	 */
+	public static class Step
+	{
+		private final String id;
+		private final String toolName;
+		private final Tool tool;
+		private final String[] args;
+		private final List<String> after;
+
+		private State state;
+		private int exitCode;
+		private long nanos;
+
+		private Step(String id, String toolName, Tool tool, String[] args, List<String> after)
+		{
+			this.id = id;
+			this.toolName = toolName;
+			this.tool = tool;
+			this.args = args;
+			this.after = after;
+			this.state = State.PENDING;
+			this.exitCode = 0;
+			this.nanos = 0L;
+		}
+
+		public String getId()
+		{
+			return id;
+		}
+
+		public String getToolName()
+		{
+			return toolName;
+		}
+
+		public State getState()
+		{
+			return state;
+		}
+
+		public int getExitCode()
+		{
+			return exitCode;
+		}
+
+		/**
+		 * @return the time this step took to run, in nanoseconds, or 0 if it did not run.
+		 */
+		public long getNanos()
+		{
+			return nanos;
+		}
+	}
+
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doomtools;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import net.mtrop.doom.tools.struct.util.FileUtils;
+import net.mtrop.doom.tools.struct.util.FileUtils.TempFile;
+import net.mtrop.doom.tools.struct.util.IOUtils;
+
+/**
+ * The training run for DoomTools's class-data-sharing (CDS) archive.
+ * <p>
+ * This is meant to be run in its own JVM with <code>-XX:ArchiveClassesAtExit</code> set, so that
+ * every class loaded during the run is dumped into the archive when it exits. It exercises the common
+ * entry points of each tool (version and help output, a small DECOHack compile, a small WadMerge run), then
+ * loads (but does not initialize) the rest of the DoomTools, RookScript, FlatLaf, and RSyntaxTextArea
+ * classes in the application JAR, so that the GUI starts from the archive as well without having to open a window.
+ * @author Matthew Tropiano
+ */
+public final class DoomToolsCDSTrainer
+{
+	/** Class name prefixes (as JAR entry paths) to preload. */
+	private static final String[] PRELOAD_PREFIXES = {
+		"net/mtrop/doom/",
+		"com/blackrook/",
+		"com/formdev/flatlaf/",
+		"org/fife/",
+	};
+
+	/** Class name prefixes (as JAR entry paths) to skip - large and rarely used. */
+	private static final String[] SKIP_PREFIXES = {
+		"com/formdev/flatlaf/intellijthemes/",
+	};
+
+	private DoomToolsCDSTrainer()
+	{
+		// Do nothing.
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		train(System.out);
+		// Exit explicitly, in case a tool left a non-daemon thread running. The archive is written on exit.
+		System.exit(0);
+	}
+
+	/**
+	 * Runs the training steps.
+	 * @param out the stream to report progress to.
+	 * @throws IOException if a temporary file could not be written or the application JAR could not be read.
+	 */
+	public static void train(PrintStream out) throws IOException
+	{
+		PrintStream nullOut = new PrintStream(IOUtils.getNullOutputStream(), true);
+		InputStream nullIn = IOUtils.getNullInputStream();
+
+		// Entry points.
+		for (String name : DoomToolsBatch.getToolNames())
+		{
+			DoomToolsBatch.Tool tool = DoomToolsBatch.getTool(name);
+			run(out, name, () -> tool.run(nullOut, nullOut, nullIn, "--version"));
+			run(out, name, () -> tool.run(nullOut, nullOut, nullIn, "--help"));
+		}
+
+		// Small, typical runs.
+		try (TempFile source = FileUtils.createTempFile(); TempFile patch = FileUtils.createTempFile())
+		{
+			writeText(source, "#include <mbf21>\n\nthing 11 \"Chaingun Sargeant\"\n{\n\tHealth 70\n}\n");
+			run(out, "decohack", () -> DoomToolsBatch.getTool("decohack").run(nullOut, nullOut, nullIn, source.getPath(), "-o", patch.getPath()));
+		}
+		try (TempFile script = FileUtils.createTempFile(); TempFile wad = FileUtils.createTempFile())
+		{
+			writeText(script, "create out\nmarker out MAP01\nmarker out THINGS\nfinish out \"" + wad.getPath().replace('\\', '/') + "\"\nend\n");
+			run(out, "wadmerge", () -> DoomToolsBatch.getTool("wadmerge").run(nullOut, nullOut, nullIn, script.getPath()));
+		}
+
+		// Everything else, for the GUI.
+		File jarFile = getJarFile();
+		if (jarFile == null)
+		{
+			out.println("Not running from a JAR - skipping class preload.");
+			return;
+		}
+
+		int loaded = 0;
+		int failed = 0;
+		ClassLoader loader = DoomToolsCDSTrainer.class.getClassLoader();
+		try (JarFile jar = new JarFile(jarFile))
+		{
+			Enumeration<JarEntry> entries = jar.entries();
+			while (entries.hasMoreElements())
+			{
+				String entryName = entries.nextElement().getName();
+				if (!isPreloaded(entryName))
+					continue;
+				String className = entryName.substring(0, entryName.length() - 6).replace('/', '.');
+				try {
+					Class.forName(className, false, loader);
+					loaded++;
+				} catch (Throwable t) {
+					// Optional or platform-specific dependency missing - not archived.
+					failed++;
+				}
+			}
+		}
+		out.println("Preloaded " + loaded + " classes (" + failed + " could not be loaded).");
+	}
+
+	private static boolean isPreloaded(String entryName)
+	{
+		if (!entryName.endsWith(".class") || entryName.endsWith("module-info.class"))
+			return false;
+		for (String prefix : SKIP_PREFIXES)
+			if (entryName.startsWith(prefix))
+				return false;
+		for (String prefix : PRELOAD_PREFIXES)
+			if (entryName.startsWith(prefix))
+				return true;
+		return false;
+	}
+
+	private static void run(PrintStream out, String name, TrainingStep step)
+	{
+		long start = System.nanoTime();
+		try {
+			step.run();
+			out.printf("Trained %s (%d ms).\n", name, (System.nanoTime() - start) / 1000000L);
+		} catch (Throwable t) {
+			out.println("Could not train " + name + ": " + t.getClass().getSimpleName() + ": " + t.getLocalizedMessage());
+		}
+	}
+
+	private static void writeText(File file, String text) throws IOException
+	{
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))
+		{
+			writer.write(text);
+		}
+	}
+
+	// Gets the JAR that this class was loaded from, or null if not a JAR.
+	private static File getJarFile()
+	{
+		try {
+			File file = new File(DoomToolsCDSTrainer.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+			return file.isFile() ? file : null;
+		} catch (URISyntaxException | SecurityException | NullPointerException e) {
+			return null;
+		}
+	}
+
+	@FunctionalInterface
+	private interface TrainingStep
+	{
+		void run() throws Exception;
+	}
+
+}
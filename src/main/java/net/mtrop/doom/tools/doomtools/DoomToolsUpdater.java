@@ -11,7 +11,6 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.SocketTimeoutException;
-import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Objects;
@@ -28,9 +27,9 @@ import net.mtrop.doom.tools.DoomToolsMain;
 import net.mtrop.doom.tools.Version;
 import net.mtrop.doom.tools.struct.InstancedFuture;
 import net.mtrop.doom.tools.struct.util.FileUtils;
+import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPDownload;
 import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPReader;
 import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPRequest;
-import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPResponse;
 
 /**
  * An updater that attempts to download the latest version of DoomTools.
@@ -44,6 +43,8 @@ public class DoomToolsUpdater extends InstancedFuture.Cancellable<Integer>
 	public static final String UPDATE_REPO_OWNER = "MTrop";
 
 	private static final String USER_AGENT_STRING = "DoomTools/" + Version.DOOMTOOLS;
+	/** Maximum concurrent connections for downloading an update. */
+	private static final int DOWNLOAD_SEGMENTS = 4;
 	
 	private static final FileFilter JAR_FILES = (f) -> {
 		return FileUtils.getFileExtension(f.getName()).equalsIgnoreCase("jar");
@@ -183,38 +184,52 @@ public class DoomToolsUpdater extends InstancedFuture.Cancellable<Integer>
 			return DoomToolsMain.ERROR_NONE;
 		}
 		
-		try (HTTPResponse response = HTTPRequest.get(assetJSON.get("browser_download_url").getString()).setHeader("Accept", "*/*").send())
+		// The download file name is stable per release, so that an interrupted download can be resumed.
+		File tempFile = new File(System.getProperty("java.io.tmpdir"), "doomtools-update-" + assetJSON.get("name").getString());
+		
+		try
 		{
-			if (!response.isSuccess())
-			{
-				listener.onError("Server responded: HTTP " + response.getStatusCode() + " " + response.getStatusMessage());
-				return DoomToolsMain.ERROR_SITE_ERROR;
-			}
+			HTTPDownload download = HTTPRequest.get(assetJSON.get("browser_download_url").getString())
+				.setHeader("User-Agent", USER_AGENT_STRING)
+				.setHeader("Accept", "*/*")
+			.download(tempFile).segments(DOWNLOAD_SEGMENTS);
+			
+			// GitHub publishes asset digests as "sha256:<hex>".
+			JSONObject digestJSON = assetJSON.get("digest");
+			String digest = digestJSON != null ? digestJSON.getString() : null;
+			if (digest != null && digest.startsWith("sha256:"))
+				download.checksum("SHA-256", parseHex(digest.substring(7)));
 			
 			listener.onDownloadStart();
-			File tempFile = Files.createTempFile("doomtools-tmp-", ".zip").toFile(); 
 			try 
 			{
 				final AtomicLong currentBytes = new AtomicLong(0L);
-
-				listener.onDownloadTransfer(currentBytes.get(), response.getLength());
-				
+				final AtomicLong maxBytes = new AtomicLong(-1L);
 				final AtomicLong lastDate = new AtomicLong(System.currentTimeMillis());
-				try (FileOutputStream fos = new FileOutputStream(tempFile))
+				download.monitor((cur, max) -> 
 				{
-					response.decode().relayContent(fos, (cur, max) -> 
+					long next = System.currentTimeMillis();
+					currentBytes.set(cur);
+					if (max != null)
+						maxBytes.set(max);
+					if (next > lastDate.get() + 250L)
 					{
-						long next = System.currentTimeMillis();
-						currentBytes.set(cur);
-						if (next > lastDate.get() + 250L)
+						synchronized (listener)
 						{
 							listener.onDownloadTransfer(currentBytes.get(), max);
-							lastDate.set(next);
 						}
-					});
+						lastDate.set(next);
+					}
+				});
+				
+				if (download.send(cancelSwitch) == null)
+				{
+					// keep partial download for a later resume.
+					listener.onUpdateAbort();
+					return DoomToolsMain.ERROR_TASK_CANCELLED;
 				}
 				
-				listener.onDownloadTransfer(currentBytes.get(), response.getLength());
+				listener.onDownloadTransfer(currentBytes.get(), maxBytes.get() >= 0 ? maxBytes.get() : null);
 				listener.onDownloadFinish();
 				listener.onMessage("Extracting....");
 				
@@ -250,7 +265,8 @@ public class DoomToolsUpdater extends InstancedFuture.Cancellable<Integer>
 			} 
 			finally 
 			{
-				tempFile.delete();
+				if (tempFile.exists())
+					tempFile.delete();
 			}
 		} 
 		catch (SocketTimeoutException e) 
@@ -281,6 +297,20 @@ public class DoomToolsUpdater extends InstancedFuture.Cancellable<Integer>
 		return jars.length == 0 ? null : jars[jars.length - 1];
 	}
 	
+	private static byte[] parseHex(String hex) throws IOException
+	{
+		if (hex.length() % 2 != 0)
+			throw new IOException("Bad digest from update site.");
+		byte[] out = new byte[hex.length() / 2];
+		try {
+			for (int i = 0; i < out.length; i++)
+				out[i] = (byte)Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+		} catch (NumberFormatException e) {
+			throw new IOException("Bad digest from update site.");
+		}
+		return out;
+	}
+	
 	private static JSONObject getJSONResponse(String url) throws IOException
 	{
 		return HTTPRequest.get(url)
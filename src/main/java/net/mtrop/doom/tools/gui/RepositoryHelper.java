@@ -10,8 +10,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import net.mtrop.doom.tools.gui.RepositoryHelper.StatusEntry.StatusType;
 import net.mtrop.doom.tools.struct.ProcessCallable;
@@ -78,6 +87,26 @@ public interface RepositoryHelper
 	 */
 	List<String> fetchBranches(); 
 	
+	/**
+	 * Fetches the file statuses, the branch status, and the local branches together.
+	 * Implementations may do this with fewer calls than fetching them one at a time.
+	 * @return the current snapshot.
+	 */
+	default Snapshot fetchSnapshot()
+	{
+		return new Snapshot(fetchStatus(), fetchBranchStatus(), fetchBranches());
+	}
+	
+	/**
+	 * Discards anything cached about the repository, so that the next fetch reads it again.
+	 * Should be called if files in the working directory were changed.
+	 * This must return quickly, as it may be called on the Swing event thread.
+	 */
+	default void invalidate()
+	{
+		// Do nothing by default.
+	}
+	
 	/**
 	 * A single status entry.
 	 */
@@ -202,12 +231,66 @@ public interface RepositoryHelper
 		}
 	}
 	
+	/**
+	 * A snapshot of a repository's file statuses, branch status, and local branches.
+	 */
+	static class Snapshot
+	{
+		private List<StatusEntry> status;
+		private BranchStatus branchStatus;
+		private List<String> branches;
+		
+		protected Snapshot(List<StatusEntry> status, BranchStatus branchStatus, List<String> branches)
+		{
+			this.status = Collections.unmodifiableList(status);
+			this.branchStatus = branchStatus;
+			this.branches = Collections.unmodifiableList(branches);
+		}
+		
+		public List<StatusEntry> getStatus() 
+		{
+			return status;
+		}
+		
+		public BranchStatus getBranchStatus() 
+		{
+			return branchStatus;
+		}
+		
+		public List<String> getBranches() 
+		{
+			return branches;
+		}
+	}
+	
 	/**
 	 * Helper class for Git repositories.
+	 * <p>
+	 * The status, the branch status, and the branch list are read together in one <code>git status</code> call,
+	 * and local branches are read from the repository's refs. The result is kept until the index, <code>HEAD</code>, 
+	 * or the current branch and upstream refs change, so that refreshing an unchanged repository does not start a process.
+	 * Changes to working files do not touch any of those, so {@link #invalidate()} must be called when they change.
 	 */
 	static class Git implements RepositoryHelper
 	{
 		private File directory;
+		/** The Git directory, or null if it could not be found (no caching). */
+		private File gitDirectory;
+		/** The directory that has the refs, or null if it could not be found (no caching). */
+		private File commonDirectory;
+		
+		/** Lock for reading snapshots. Not held by {@link #invalidate()}, so that it never waits on Git. */
+		private final Object snapshotLock;
+		/** Incremented on every invalidation. */
+		private final AtomicLong invalidations;
+		/** The last snapshot. */
+		private Snapshot snapshot;
+		/** The invalidation count when the last snapshot started reading. */
+		private long snapshotInvalidations;
+		/** The state of the files that the last snapshot depends on, or null if it is not valid. */
+		private long[] snapshotStamps;
+		/** The files that the last snapshot depends on. */
+		private File[] snapshotFiles;
 
 		/**
 		 * Creates a Git client interface. 
@@ -223,6 +306,14 @@ public interface RepositoryHelper
 			if (!isGit(directory))
 				throw new IllegalArgumentException("Not a Git repository directory.");
 			this.directory = directory;
+			this.gitDirectory = findGitDirectory(directory);
+			this.commonDirectory = gitDirectory != null ? findCommonDirectory(gitDirectory) : null;
+			this.snapshotLock = new Object();
+			this.invalidations = new AtomicLong(0L);
+			this.snapshot = null;
+			this.snapshotInvalidations = -1L;
+			this.snapshotStamps = null;
+			this.snapshotFiles = null;
 		}
 		
 		/**
@@ -271,34 +362,38 @@ public interface RepositoryHelper
 		@Override
 		public int perform(Operation operation, String... args) 
 		{
-			switch (operation)
-			{
-				case INIT:
-					return performInit();
-				case STAGE:
-					return performStage(args);
-				case STAGE_ALL:
-					return performStageAll();
-				case UNSTAGE:
-					return performUnStage(args);
-				case REVERT:
-					return performRevert(args);
-				case COMMIT:
-					return performCommit(args);
-				case PULL:
-					return performPull();
-				case PUSH:
-					return performPush();
-				case PUSH_NEW_BRANCH:
-					return performPushNewBranch(args);
-				case BRANCH:
-					return performBranch(args);
-				case CHECKOUT_BRANCH:
-					return performCheckout(args);
-				case MERGE:
-					return performMerge(args);
-				default:
-					// Fall through.
+			try {
+				switch (operation)
+				{
+					case INIT:
+						return performInit();
+					case STAGE:
+						return performStage(args);
+					case STAGE_ALL:
+						return performStageAll();
+					case UNSTAGE:
+						return performUnStage(args);
+					case REVERT:
+						return performRevert(args);
+					case COMMIT:
+						return performCommit(args);
+					case PULL:
+						return performPull();
+					case PUSH:
+						return performPush();
+					case PUSH_NEW_BRANCH:
+						return performPushNewBranch(args);
+					case BRANCH:
+						return performBranch(args);
+					case CHECKOUT_BRANCH:
+						return performCheckout(args);
+					case MERGE:
+						return performMerge(args);
+					default:
+						// Fall through.
+				}
+			} finally {
+				invalidate();
 			}
 			
 			throw new UnsupportedOperationException("Not supported: " + operation.name());
@@ -307,142 +402,74 @@ public interface RepositoryHelper
 		@Override
 		public List<StatusEntry> fetchStatus()
 		{
-			StringWriter out = new StringWriter();
-			StringWriter err = new StringWriter();
-
-			doCall(start(out, err).args("status", "--porcelain=v1"), "STATUS");
-			
-			List<StatusEntry> outList = new LinkedList<>();
-			
-			try (BufferedReader br = readFrom(out))
-			{
-				String line;
-				while ((line = br.readLine()) != null)
-				{
-					if (line.trim().length() == 0)
-						continue;
-					
-					String statusChunk = line.substring(0, 2);
-					String path = line.substring(3);
-					if (path.charAt(0) == '"')
-						path = path.substring(1, path.length() - 1);
-
-					for (int i = 0; i < 2; i++)
-					{
-						char status = statusChunk.charAt(i);
-						if (status == ' ' || (i == 0 && status == '?') || status == '!')
-							continue;
-						boolean staged = i == 0;
-						
-						StatusType type;
-						switch (status)
-						{
-							default:
-							case '?':
-								type = StatusType.UNKNOWN;
-								break;
-							case 'M':
-								type = StatusType.MODIFIED;
-								break;
-							case 'A':
-								type = StatusType.ADDED;
-								break;
-							case 'T':
-								type = StatusType.TYPE_CHANGED;
-								break;
-							case 'U':
-								type = StatusType.UPDATED;
-								break;
-							case 'R':
-								type = StatusType.RENAMED;
-								break;
-							case 'C':
-								type = StatusType.COPIED;
-								break;
-							case 'D':
-								type = StatusType.DELETED;
-								break;
-							case '!':
-								type = StatusType.IGNORED;
-								break;
-						}
-						outList.add(new StatusEntry(type, staged, path));
-					}
-				}
-			} 
-			catch (IOException e)
-			{
-				// Should not be thrown.
-			}
-			
-			return outList;
+			return fetchSnapshot().getStatus();
 		}
 
 		@Override
 		public BranchStatus fetchBranchStatus()
 		{
-			StringWriter out = new StringWriter();
-			StringWriter err = new StringWriter();
-
-			doCall(start(out, err).args("status", "--branch", "--porcelain=v2"), "STATUS-BRANCH");
-			
-			String name = null;
-			String remoteName = null;
-			String commit = null;
-			int ahead = 0;
-			int behind = 0;
-			
-			try (BufferedReader br = readFrom(out))
-			{
-				String line;
-				while ((line = br.readLine()) != null)
-				{
-					if (line.startsWith("# branch.oid "))
-						commit = line.substring("# branch.oid ".length());
-					else if (line.startsWith("# branch.head "))
-						name = line.substring("# branch.head ".length());
-					else if (line.startsWith("# branch.upstream "))
-						remoteName = line.substring("# branch.upstream ".length());
-					else if (line.startsWith("# branch.ab "))
-					{
-						String[] ab = line.substring("# branch.ab ".length()).split("\\s+");
-						ahead = Integer.parseInt(ab[0]);
-						behind = Math.abs(Integer.parseInt(ab[1]));
-					}
-				}
-			}
-			catch (IOException e)
-			{
-				// Should not be thrown.
-			}
-			
-			return new BranchStatus(name, remoteName, commit, ahead, behind);
+			return fetchSnapshot().getBranchStatus();
 		}
 
 		@Override
 		public List<String> fetchBranches()
 		{
-			StringWriter out = new StringWriter();
-			StringWriter err = new StringWriter();
-			
-			doCall(start(out, err).args("branch", "--color=never"), "BRANCH");
+			return fetchSnapshot().getBranches();
+		}
 
-			List<String> outList = new LinkedList<>();
-			
-			try (BufferedReader br = readFrom(out))
-			{
-				String line;
-				while ((line = br.readLine()) != null)
-				{
-					outList.add(line.substring(2));
-				}
-			} 
-			catch (IOException e) 
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * If nothing that the last snapshot depends on has changed since it was read, it is returned
+		 * without calling Git. Concurrent callers wait for the same read. 
+		 */
+		@Override
+		public Snapshot fetchSnapshot()
+		{
+			synchronized (snapshotLock)
 			{
-				// Should not be thrown.
+				long invalidationCount = invalidations.get();
+				if (snapshotStamps != null && snapshotInvalidations == invalidationCount && Arrays.equals(snapshotStamps, getStamps(snapshotFiles)))
+					return snapshot;
+				
+				File[] files = getSnapshotFiles(null, null);
+				long[] stamps = getStamps(files);
+				
+				SnapshotParser parser = new SnapshotParser();
+				LineWriter lineWriter = new LineWriter(parser);
+				StringWriter err = new StringWriter();
+				doCall(start().setOut(lineWriter).setErr(err).args("status", "--branch", "--porcelain=v2"), "STATUS");
+				lineWriter.close();
+				
+				BranchStatus branchStatus = parser.createBranchStatus();
+				List<String> branches = readBranches();
+				if (branches == null)
+					branches = callBranches();
+				Snapshot out = new Snapshot(parser.entries, branchStatus, branches);
+				
+				files = getSnapshotFiles(branchStatus.getName(), branchStatus.getRemoteName());
+				long[] after = getStamps(files);
+				
+				// Only keep it if nothing changed while reading (Git may refresh the index itself).
+				// An invalidation while reading is caught by the invalidation count.
+				boolean unchanged = Arrays.equals(stamps, Arrays.copyOf(after, stamps.length));
+				this.snapshot = out;
+				this.snapshotInvalidations = invalidationCount;
+				this.snapshotFiles = files;
+				this.snapshotStamps = gitDirectory != null && unchanged ? after : null;
+				return out;
 			}
-			
-			return outList;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * This does not wait for a snapshot that is being read - that snapshot is not reused.
+		 */
+		@Override
+		public void invalidate()
+		{
+			invalidations.incrementAndGet();
 		}
 
 		/**
@@ -582,6 +609,101 @@ public interface RepositoryHelper
 			return ProcessCallable.shell("git").setWorkingDirectory(directory).setOut(out).setErr(err);
 		}
 		
+		// Gets the files that a snapshot depends on. The first files do not depend on the branch.
+		private File[] getSnapshotFiles(String branchName, String upstreamName)
+		{
+			if (gitDirectory == null)
+				return new File[0];
+			
+			List<File> out = new ArrayList<>(8);
+			out.add(new File(gitDirectory, "index"));
+			out.add(new File(gitDirectory, "HEAD"));
+			out.add(new File(commonDirectory, "packed-refs"));
+			out.add(new File(commonDirectory, "FETCH_HEAD"));
+			out.add(new File(commonDirectory, "refs/heads"));
+			if (branchName != null && !branchName.startsWith("("))
+				out.add(new File(commonDirectory, "refs/heads/" + branchName));
+			if (upstreamName != null)
+				out.add(new File(commonDirectory, "refs/remotes/" + upstreamName));
+			return out.toArray(new File[out.size()]);
+		}
+		
+		// Reads the local branch names from the refs, or returns null if they cannot be read this way.
+		private List<String> readBranches()
+		{
+			if (commonDirectory == null)
+				return null;
+			
+			File headsDirectory = new File(commonDirectory, "refs/heads");
+			if (!headsDirectory.isDirectory())
+				return null;
+			
+			TreeSet<String> names = new TreeSet<>();
+			addBranches(names, headsDirectory, "");
+			
+			File packedRefs = new File(commonDirectory, "packed-refs");
+			if (packedRefs.isFile())
+			{
+				try (BufferedReader br = Files.newBufferedReader(packedRefs.toPath(), StandardCharsets.UTF_8))
+				{
+					String line;
+					while ((line = br.readLine()) != null)
+					{
+						int index;
+						if (line.startsWith("#") || line.startsWith("^") || (index = line.indexOf(" refs/heads/")) < 0)
+							continue;
+						names.add(line.substring(index + " refs/heads/".length()));
+					}
+				} 
+				catch (IOException e) 
+				{
+					return null;
+				}
+			}
+			
+			return new ArrayList<>(names);
+		}
+		
+		private static void addBranches(TreeSet<String> names, File directory, String prefix)
+		{
+			File[] files = directory.listFiles();
+			if (files == null)
+				return;
+			for (File file : files)
+			{
+				if (file.isDirectory())
+					addBranches(names, file, prefix + file.getName() + "/");
+				else if (!file.getName().endsWith(".lock"))
+					names.add(prefix + file.getName());
+			}
+		}
+		
+		// Lists the local branch names using Git.
+		private List<String> callBranches()
+		{
+			StringWriter out = new StringWriter();
+			StringWriter err = new StringWriter();
+			
+			doCall(start(out, err).args("branch", "--color=never"), "BRANCH");
+
+			List<String> outList = new LinkedList<>();
+			
+			try (BufferedReader br = readFrom(out))
+			{
+				String line;
+				while ((line = br.readLine()) != null)
+				{
+					outList.add(line.substring(2));
+				}
+			} 
+			catch (IOException e) 
+			{
+				// Should not be thrown.
+			}
+			
+			return outList;
+		}
+		
 		private int performInit()
 		{
 			return doCall(start().arg("init"), "INIT");
@@ -665,6 +787,230 @@ public interface RepositoryHelper
 			return new BufferedReader(new StringReader(writer.toString()));
 		}
 		
+		private static long[] getStamps(File[] files)
+		{
+			long[] out = new long[files.length * 2];
+			for (int i = 0; i < files.length; i++)
+			{
+				out[i * 2] = files[i].lastModified();
+				out[i * 2 + 1] = files[i].length();
+			}
+			return out;
+		}
+		
+		// Finds the Git directory, following a ".git" file (worktrees and submodules).
+		private static File findGitDirectory(File directory)
+		{
+			File dotGit = new File(directory, ".git");
+			if (dotGit.isDirectory())
+				return dotGit;
+			String path = readFirstLine(dotGit);
+			if (path == null || !path.startsWith("gitdir:"))
+				return null;
+			File out = resolve(directory, path.substring("gitdir:".length()).trim());
+			return out.isDirectory() ? out : null;
+		}
+		
+		// Finds the directory with the shared refs (differs from the Git directory in worktrees).
+		private static File findCommonDirectory(File gitDirectory)
+		{
+			String path = readFirstLine(new File(gitDirectory, "commondir"));
+			if (path == null)
+				return gitDirectory;
+			File out = resolve(gitDirectory, path.trim());
+			return out.isDirectory() ? out : gitDirectory;
+		}
+		
+		private static File resolve(File parent, String path)
+		{
+			File out = new File(path);
+			return out.isAbsolute() ? out : new File(parent, path);
+		}
+		
+		private static String readFirstLine(File file)
+		{
+			if (!file.isFile())
+				return null;
+			try (BufferedReader br = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+			{
+				return br.readLine();
+			} 
+			catch (IOException e) 
+			{
+				return null;
+			}
+		}
+		
+		private static StatusType getStatusType(char status)
+		{
+			switch (status)
+			{
+				default:
+				case '?':
+					return StatusType.UNKNOWN;
+				case 'M':
+					return StatusType.MODIFIED;
+				case 'A':
+					return StatusType.ADDED;
+				case 'T':
+					return StatusType.TYPE_CHANGED;
+				case 'U':
+					return StatusType.UPDATED;
+				case 'R':
+					return StatusType.RENAMED;
+				case 'C':
+					return StatusType.COPIED;
+				case 'D':
+					return StatusType.DELETED;
+				case '!':
+					return StatusType.IGNORED;
+			}
+		}
+		
+		private static String unquote(String path)
+		{
+			if (path.length() > 1 && path.charAt(0) == '"')
+				return path.substring(1, path.length() - 1);
+			return path;
+		}
+		
+		/**
+		 * Parses <code>git status --branch --porcelain=v2</code> output one line at a time.
+		 */
+		private static class SnapshotParser implements Consumer<String>
+		{
+			private String name = null;
+			private String remoteName = null;
+			private String commit = null;
+			private int ahead = 0;
+			private int behind = 0;
+			private List<StatusEntry> entries = new ArrayList<>();
+			
+			@Override
+			public void accept(String line) 
+			{
+				if (line.isEmpty())
+					return;
+				
+				switch (line.charAt(0))
+				{
+					case '#':
+						acceptHeader(line);
+						break;
+					case '1': // 1 XY sub mH mI mW hH hI path
+						acceptChange(line, 8);
+						break;
+					case '2': // 2 XY sub mH mI mW hH hI Xscore path<TAB>origPath
+						acceptChange(line, 9);
+						break;
+					case 'u': // u XY sub m1 m2 m3 mW h1 h2 h3 path
+						acceptChange(line, 10);
+						break;
+					case '?':
+						entries.add(new StatusEntry(StatusType.UNKNOWN, false, unquote(line.substring(2))));
+						break;
+					default:
+						// Ignored files and anything unknown.
+						break;
+				}
+			}
+			
+			private void acceptHeader(String line)
+			{
+				if (line.startsWith("# branch.oid "))
+					commit = line.substring("# branch.oid ".length());
+				else if (line.startsWith("# branch.head "))
+					name = line.substring("# branch.head ".length());
+				else if (line.startsWith("# branch.upstream "))
+					remoteName = line.substring("# branch.upstream ".length());
+				else if (line.startsWith("# branch.ab "))
+				{
+					String[] ab = line.substring("# branch.ab ".length()).split("\\s+");
+					ahead = Integer.parseInt(ab[0]);
+					behind = Math.abs(Integer.parseInt(ab[1]));
+				}
+			}
+			
+			private void acceptChange(String line, int fieldCount)
+			{
+				// Skip the fields before the path.
+				int index = 0;
+				for (int i = 0; i < fieldCount && index >= 0; i++)
+					index = line.indexOf(' ', index) + 1;
+				if (index <= 0)
+					return;
+
+				String path = line.substring(index);
+				int tab = path.indexOf('\t');
+				if (tab >= 0)
+					path = path.substring(0, tab);
+				path = unquote(path);
+				
+				for (int i = 0; i < 2; i++)
+				{
+					char status = line.charAt(2 + i);
+					if (status == '.')
+						continue;
+					entries.add(new StatusEntry(getStatusType(status), i == 0, path));
+				}
+			}
+			
+			private BranchStatus createBranchStatus()
+			{
+				return new BranchStatus(name, remoteName, commit, ahead, behind);
+			}
+		}
+		
+		/**
+		 * A writer that passes each line written to it to a consumer as soon as the line is complete.
+		 * Closing it passes along the last line, if it did not end in a newline.
+		 */
+		private static class LineWriter extends Writer
+		{
+			private final Consumer<String> consumer;
+			private final StringBuilder line;
+			
+			private LineWriter(Consumer<String> consumer)
+			{
+				this.consumer = consumer;
+				this.line = new StringBuilder(128);
+			}
+			
+			@Override
+			public void write(char[] cbuf, int off, int len)
+			{
+				for (int i = off; i < off + len; i++)
+				{
+					char c = cbuf[i];
+					if (c == '\n')
+					{
+						consumer.accept(line.toString());
+						line.setLength(0);
+					}
+					else if (c != '\r')
+					{
+						line.append(c);
+					}
+				}
+			}
+			
+			@Override
+			public void flush()
+			{
+				// Nothing to flush.
+			}
+			
+			@Override
+			public void close()
+			{
+				if (line.length() > 0)
+				{
+					consumer.accept(line.toString());
+					line.setLength(0);
+				}
+			}
+		}
+		
 	}
 
 	/**
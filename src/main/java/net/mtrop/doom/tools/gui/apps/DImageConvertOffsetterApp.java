@@ -25,14 +25,24 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import javax.swing.Action;
 import javax.swing.BorderFactory;
@@ -58,10 +68,13 @@ import net.mtrop.doom.tools.gui.managers.DoomToolsGUIUtils;
 import net.mtrop.doom.tools.gui.managers.DoomToolsIconManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLanguageManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLogger;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
 import net.mtrop.doom.tools.gui.managers.settings.DImageConvertOffsetterSettingsManager;
 import net.mtrop.doom.tools.gui.swing.adapters.MouseControlAdapter;
 import net.mtrop.doom.tools.gui.swing.panels.DImageConvertOffsetterCanvas;
 import net.mtrop.doom.tools.gui.swing.panels.DImageConvertOffsetterCanvas.GuideMode;
+import net.mtrop.doom.tools.gui.swing.panels.DoomToolsProgressPanel;
 import net.mtrop.doom.tools.gui.swing.panels.DoomToolsStatusPanel;
 import net.mtrop.doom.tools.struct.LoggingFactory.Logger;
 import net.mtrop.doom.tools.struct.TokenScanner;
@@ -69,6 +82,7 @@ import net.mtrop.doom.tools.struct.swing.ClipboardUtils;
 import net.mtrop.doom.tools.struct.swing.ComponentFactory.ListSelectionMode;
 import net.mtrop.doom.tools.struct.swing.FormFactory.JFormField;
 import net.mtrop.doom.tools.struct.swing.LayoutFactory.Flow;
+import net.mtrop.doom.tools.struct.swing.ModalFactory.Modal;
 import net.mtrop.doom.tools.struct.swing.SwingUtils;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.ValueUtils;
@@ -97,6 +111,15 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 	private static final int ZOOMFACTOR_MAX = 8;
 	private static final double ZOOMFACTOR_STEP = .5;
 
+	/** Maximum amount of decoded graphics kept in the picture cache. */
+	private static final int PICTURE_CACHE_SIZE = 256;
+	/** How many files before and after the selected one to decode ahead of time. */
+	private static final int PICTURE_READAHEAD = 4;
+	/** How many files to change at once during bulk offset changes. */
+	private static final int BULK_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+	/** Maximum amount of file names to list in the bulk error message. */
+	private static final int BULK_ERROR_NAMES = 20;
+
 	private DoomToolsIconManager icons;
 	private DImageConvertOffsetterSettingsManager settings;
 	
@@ -134,6 +157,7 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 	private File currentFile;
 	private boolean onionSkin;
 	private boolean autoSave;
+	private PictureCache pictureCache;
 
 	private DoomToolsStatusPanel statusPanel;
 	
@@ -157,6 +181,7 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		this.icons = DoomToolsIconManager.get();
 		this.settings = DImageConvertOffsetterSettingsManager.get();
 		this.canvas = new DImageConvertOffsetterCanvas();
+		this.pictureCache = new PictureCache();
 		
 		this.paletteSourceField = fileField(settings.getLastPaletteFile(), 
 			(current) -> utils.chooseFile(
@@ -438,6 +463,12 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		return fromWorkspaceClear || SwingUtils.yesTo(language.getText("doomtools.application.close"));
 	}
 	
+	@Override
+	public void onClose(Object frame)
+	{
+		pictureCache.clear();
+	}
+
 	@Override
 	public void onResize(Object frame) 
 	{
@@ -475,6 +506,7 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 	private void onDirectoryChange(File directory)
 	{
 		currentDirectory = directory;
+		pictureCache.clear();
 		fileListModel.setDirectory(directory);
 		SwingUtils.invoke(() -> {
 			currentDirectoryLabel.setText(currentDirectory.getName());
@@ -553,9 +585,10 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 				{
 					// Do nothing.
 				}
+				pictureCache.remove(currentFile);
 			}
 		}
-		
+
 		updateActions();
 
 		if (files.size() == 1)
@@ -563,6 +596,7 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 			// load next picture
 			File selected = files.get(0);
 			currentFile = updateNextFile(selected);
+			prefetchNeighbors(fileList.getSelectedIndex());
 		}
 		else
 		{
@@ -578,98 +612,87 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 	private File updateNextFile(File selected) 
 	{
 		try {
-			if (FileUtils.matchMagicNumber(selected, PNG_SIGNATURE)) // png?
+			GraphicObject graphic = pictureCache.get(selected);
+			if (graphic instanceof PNGPicture)
 			{
-				PNGPicture p = BinaryObject.read(PNGPicture.class, selected);
+				PNGPicture p = (PNGPicture)graphic;
 				canvas.setPNGPicture(p);
 				offsetXField.setValue((short)p.getOffsetX());
 				offsetYField.setValue((short)p.getOffsetY());
 				return selected;
 			}
-			else // picture?
+			else if (graphic instanceof Picture)
 			{
-				int w, h, ox, oy;
-				try (FileInputStream fis = new FileInputStream(selected))
-				{
-					SerialReader sr = new SerialReader(SerialReader.LITTLE_ENDIAN);
-					w = sr.readShort(fis);
-					h = sr.readShort(fis);
-					ox = sr.readShort(fis);
-					oy = sr.readShort(fis);
-				}
-
-				// test if acceptable or reasonable bounds
-				if (checkPictureBounds(w, h, ox, oy))
-				{
-					Picture p = BinaryObject.read(Picture.class, selected);
-					canvas.setPicture(p);
-					offsetXField.setValue((short)p.getOffsetX());
-					offsetYField.setValue((short)p.getOffsetY());
-					return selected;
-				}
-				else
-				{
-					canvas.clearPictures();
-					offsetXField.setValue((short)0);
-					offsetYField.setValue((short)0);
-					return null;
-				}
+				Picture p = (Picture)graphic;
+				canvas.setPicture(p);
+				offsetXField.setValue((short)p.getOffsetX());
+				offsetYField.setValue((short)p.getOffsetY());
+				return selected;
+			}
+			else
+			{
+				canvas.clearPictures();
+				offsetXField.setValue((short)0);
+				offsetYField.setValue((short)0);
+				return null;
 			}
 		} catch (IOException e) {
 			SwingUtils.error(language.getText("dimgconv.offsetter.file.ioerror", selected.getName()));
-			statusPanel.setErrorMessage(language.getText("dimgconv.offsetter.status.readfile.error", currentFile.getName()));
+			statusPanel.setErrorMessage(language.getText("dimgconv.offsetter.status.readfile.error", selected.getName()));
 			canvas.clearPictures();
 			return null;
 		}
 	}
-	
+
 	private File updateNextOnionSkinFile(File selected) 
 	{
 		try {
-			if (FileUtils.matchMagicNumber(selected, PNG_SIGNATURE)) // png?
+			GraphicObject graphic = pictureCache.get(selected);
+			if (graphic instanceof PNGPicture)
 			{
-				PNGPicture p = BinaryObject.read(PNGPicture.class, selected);
-				canvas.setOnionSkinPNGPicture(p);
+				canvas.setOnionSkinPNGPicture((PNGPicture)graphic);
 				return selected;
 			}
-			else // picture?
+			else if (graphic instanceof Picture)
 			{
-				int w, h, ox, oy;
-				try (FileInputStream fis = new FileInputStream(selected))
-				{
-					SerialReader sr = new SerialReader(SerialReader.LITTLE_ENDIAN);
-					w = sr.readShort(fis);
-					h = sr.readShort(fis);
-					ox = sr.readShort(fis);
-					oy = sr.readShort(fis);
-				}
-
-				// test if acceptable or reasonable bounds
-				if (checkPictureBounds(w, h, ox, oy))
-				{
-					Picture p = BinaryObject.read(Picture.class, selected);
-					canvas.setOnionSkinPicture(p);
-					return selected;
-				}
-				else
-				{
-					canvas.clearOnionSkinPicture();
-					return null;
-				}
+				canvas.setOnionSkinPicture((Picture)graphic);
+				return selected;
+			}
+			else
+			{
+				canvas.clearOnionSkinPicture();
+				return null;
 			}
 		} catch (IOException e) {
 			SwingUtils.error(language.getText("dimgconv.offsetter.file.ioerror", selected.getName()));
-			statusPanel.setErrorMessage(language.getText("dimgconv.offsetter.status.readfile.error", currentFile.getName()));
+			statusPanel.setErrorMessage(language.getText("dimgconv.offsetter.status.readfile.error", selected.getName()));
 			canvas.clearOnionSkinPicture();
 			return null;
 		}
 	}
 
-	private boolean checkPictureBounds(int w, int h, int ox, int oy)
+	// Decodes the files around the selected one in the background.
+	private void prefetchNeighbors(int index)
+	{
+		if (index < 0)
+			return;
+
+		List<File> files = new ArrayList<>(PICTURE_READAHEAD * 2);
+		for (int i = 1; i <= PICTURE_READAHEAD; i++)
+		{
+			if (index + i < fileListModel.getSize())
+				files.add(fileListModel.getElementAt(index + i));
+			if (index - i >= 0)
+				files.add(fileListModel.getElementAt(index - i));
+		}
+		pictureCache.prefetch(files);
+	}
+
+	private static boolean checkPictureBounds(int w, int h, int ox, int oy)
 	{
 		return w > 0 && w < 8192 && h > 0 && h < 8192 && Math.abs(ox) < 1024 && Math.abs(oy) < 1024;
 	}
-	
+
 	private void updateOnionSkinFile()
 	{
 		if (!onionSkin)
@@ -756,34 +779,10 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		AutoAlignMode mode = selectAutoAlignMode();
 		if (mode == null)
 			return;
-		
-		int count = 0;
-		for (File file : fileList.getSelectedValuesList())
-		{
-			try {
-				if (FileUtils.matchMagicNumber(file, PNG_SIGNATURE)) // png?
-				{
-					PNGPicture p = BinaryObject.read(PNGPicture.class, file);
-					mode.alignGraphic(p);
-					savePNGPicture(p, (short)p.getOffsetX(), (short)p.getOffsetY(), file, statusPanel);
-				}
-				else
-				{
-					Picture p = BinaryObject.read(Picture.class, file);
-					mode.alignGraphic(p);
-					savePicture(p, (short)p.getOffsetX(), (short)p.getOffsetY(), file, statusPanel);
-				}
-				count++;
-			} catch (SecurityException e) {
-				SwingUtils.error(language.getText("dimgconv.offsetter.file.security", file.getName()));
-			} catch (IOException e) {
-				SwingUtils.error(language.getText("dimgconv.offsetter.file.ioerror", file.getName()));
-			}
-		}
-		
-		SwingUtils.info(language.getText("dimgconv.offsetter.offset.auto.bulk.count", count));
+
+		onBulkOffsetChange(fileList.getSelectedValuesList(), "dimgconv.offsetter.offset.auto.bulk.count", mode::alignGraphic);
 	}
-	
+
 	private void onAdjustAlign()
 	{
 		Point offset = selectAdjustAlign();
@@ -814,33 +813,10 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		if (offset == null)
 			return;
 
-		int count = 0;
-		for (File file : fileList.getSelectedValuesList())
-		{
-			try {
-				if (FileUtils.matchMagicNumber(file, PNG_SIGNATURE)) // png?
-				{
-					PNGPicture p = BinaryObject.read(PNGPicture.class, file);
-					p.setOffsetX(p.getOffsetX() + offset.x);
-					p.setOffsetY(p.getOffsetY() + offset.y);
-					savePNGPicture(p, (short)p.getOffsetX(), (short)p.getOffsetY(), file, statusPanel);
-				}
-				else
-				{
-					Picture p = BinaryObject.read(Picture.class, file);
-					p.setOffsetX(p.getOffsetX() + offset.x);
-					p.setOffsetY(p.getOffsetY() + offset.y);
-					savePicture(p, (short)p.getOffsetX(), (short)p.getOffsetY(), file, statusPanel);
-				}
-				count++;
-			} catch (SecurityException e) {
-				SwingUtils.error(language.getText("dimgconv.offsetter.file.security", file.getName()));
-			} catch (IOException e) {
-				SwingUtils.error(language.getText("dimgconv.offsetter.file.ioerror", file.getName()));
-			}
-		}
-		
-		SwingUtils.info(language.getText("dimgconv.offsetter.offset.adjust.bulk.count", count));
+		onBulkOffsetChange(fileList.getSelectedValuesList(), "dimgconv.offsetter.offset.adjust.bulk.count", (graphic) -> {
+			graphic.setOffsetX(graphic.getOffsetX() + offset.x);
+			graphic.setOffsetY(graphic.getOffsetY() + offset.y);
+		});
 	}
 
 	private void onSetAlignBulk() 
@@ -849,37 +825,139 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		if (offset == null)
 			return;
 
-		int count = 0;
-		for (File file : fileList.getSelectedValuesList())
-		{
+		onBulkOffsetChange(fileList.getSelectedValuesList(), "dimgconv.offsetter.offset.set.bulk.count", (graphic) -> {
+			graphic.setOffsetX(offset.x);
+			graphic.setOffsetY(offset.y);
+		});
+	}
+
+	/**
+	 * Changes the offsets on a set of files, several at a time, in the background.
+	 * A progress dialog is shown until it is finished, which can cancel it.
+	 * @param files the files to change.
+	 * @param countKey the language key for the result message (with a count).
+	 * @param change the offset change.
+	 */
+	private void onBulkOffsetChange(final List<File> files, String countKey, final Consumer<GraphicObject> change)
+	{
+		if (files.isEmpty())
+			return;
+
+		final int total = files.size();
+		final DoomToolsProgressPanel progressPanel = new DoomToolsProgressPanel(96);
+		progressPanel.setActivityMessage(language.getText("dimgconv.offsetter.bulk.progress"));
+		progressPanel.setProgressLabel("0 / " + total);
+		progressPanel.setProgress(0, 0, total);
+
+		final Modal<Object> progressModal = modal(
+			utils.getWindowIcons(),
+			language.getText("dimgconv.offsetter.bulk.title"),
+			containerOf(BorderFactory.createEmptyBorder(8, 8, 8, 8), node(BorderLayout.CENTER, progressPanel)),
+			utils.createChoiceFromLanguageKey("doomtools.cancel")
+		);
+
+		final AtomicBoolean cancelled = new AtomicBoolean(false);
+		final AtomicInteger nextIndex = new AtomicInteger(0);
+		final AtomicInteger processed = new AtomicInteger(0);
+		final AtomicInteger changed = new AtomicInteger(0);
+		final Queue<String> failed = new ConcurrentLinkedQueue<>();
+		final int threads = Math.min(total, BULK_THREADS);
+		final CountDownLatch latch = new CountDownLatch(threads);
+
+		final AtomicBoolean progressPending = new AtomicBoolean(false);
+
+		// Progress is shown on the event thread, at most one update at a time.
+		final Runnable progressUpdate = () -> {
+			progressPending.set(false);
+			int done = processed.get();
+			progressPanel.setProgress(0, done, total);
+			progressPanel.setProgressLabel(done + " / " + total);
+		};
+
+		Runnable worker = () -> {
 			try {
-				setAlignmentOnFile(file, offset);
-				count++;
-			} catch (SecurityException e) {
-				SwingUtils.error(language.getText("dimgconv.offsetter.file.security", file.getName()));
-			} catch (IOException e) {
-				SwingUtils.error(language.getText("dimgconv.offsetter.file.ioerror", file.getName()));
+				int i;
+				while (!cancelled.get() && (i = nextIndex.getAndIncrement()) < total)
+				{
+					File file = files.get(i);
+					try {
+						GraphicObject graphic = readGraphicFile(file);
+						if (graphic != null)
+						{
+							change.accept(graphic);
+							writeGraphicFile((BinaryObject)graphic, file);
+							changed.incrementAndGet();
+						}
+					} catch (IOException | RuntimeException e) {
+						LOG.error(e, "Could not change offsets on file: " + file.getPath());
+						failed.add(file.getName());
+					} finally {
+						pictureCache.remove(file);
+					}
+					processed.incrementAndGet();
+					if (progressPending.compareAndSet(false, true))
+						SwingUtils.invoke(progressUpdate);
+				}
+			} finally {
+				latch.countDown();
+				if (latch.getCount() == 0)
+					SwingUtils.invoke(() -> progressModal.setVisible(false));
 			}
-		}
-		
-		SwingUtils.info(language.getText("dimgconv.offsetter.offset.adjust.bulk.count", count));
+		};
+
+		for (int i = 0; i < threads; i++)
+			DoomToolsTaskManager.get().spawn(Lane.BULK, worker);
+
+		progressModal.openThenDispose(); // will hold here until finished or cancelled.
+
+		// If cancelled, let the files in progress finish without holding up the event thread, then report.
+		cancelled.set(true);
+		DoomToolsTaskManager.get().spawn(Lane.IO, () -> {
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			SwingUtils.invoke(() -> onBulkOffsetChangeFinished(total, countKey, processed.get(), changed.get(), new ArrayList<>(failed)));
+		});
 	}
 
-	private void setAlignmentOnFile(File file, Point offsets) throws IOException 
+	// Reports the results of a bulk offset change. Called on the event thread.
+	private void onBulkOffsetChangeFinished(int total, String countKey, int processed, int changed, List<String> failed)
 	{
-		if (FileUtils.matchMagicNumber(file, PNG_SIGNATURE)) // png?
+		if (!failed.isEmpty())
 		{
-			PNGPicture p = BinaryObject.read(PNGPicture.class, file);
-			p.setOffsetX(offsets.x);
-			p.setOffsetY(offsets.y);
-			savePNGPicture(p, (short)p.getOffsetX(), (short)p.getOffsetY(), file, statusPanel);
+			String nameList = String.join("\n", failed.subList(0, Math.min(failed.size(), BULK_ERROR_NAMES)));
+			if (failed.size() > BULK_ERROR_NAMES)
+				nameList += "\n...";
+			SwingUtils.error(getApplicationContainer(), language.getText("dimgconv.offsetter.bulk.errors", failed.size(), nameList));
 		}
+
+		if (processed < total)
+			SwingUtils.info(getApplicationContainer(), language.getText("dimgconv.offsetter.bulk.cancelled", changed));
 		else
+			SwingUtils.info(getApplicationContainer(), language.getText(countKey, changed));
+
+		// Show the changes on the current file.
+		if (currentFile != null)
 		{
-			Picture p = BinaryObject.read(Picture.class, file);
-			p.setOffsetX(offsets.x);
-			p.setOffsetY(offsets.y);
-			savePicture(p, (short)p.getOffsetX(), (short)p.getOffsetY(), file, statusPanel);
+			currentFile = updateNextFile(currentFile);
+			updateOnionSkinFile();
+		}
+	}
+
+	private void setAlignmentOnFile(File file, Point offsets) throws IOException 
+	{
+		GraphicObject graphic = readGraphicFile(file);
+		if (graphic == null)
+			return;
+
+		graphic.setOffsetX(offsets.x);
+		graphic.setOffsetY(offsets.y);
+		try {
+			writeGraphicFile((BinaryObject)graphic, file);
+		} finally {
+			pictureCache.remove(file);
 		}
 	}
 
@@ -1220,9 +1298,9 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		
 		picture.setOffsetX(offsetX);
 		picture.setOffsetY(offsetY);
-		try (FileOutputStream fos = new FileOutputStream(destinationFile))
+		try
 		{
-			picture.writeBytes(fos);
+			writeGraphicFile(picture, destinationFile);
 			statusPanel.setSuccessMessage(language.getText("dimgconv.offsetter.status.savefile", destinationFile.getName()));
 		} 
 		catch (FileNotFoundException e) 
@@ -1243,9 +1321,9 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		
 		picture.setOffsetX(offsetX);
 		picture.setOffsetY(offsetY);
-		try (FileOutputStream fos = new FileOutputStream(destinationFile))
+		try
 		{
-			picture.writeBytes(fos);
+			writeGraphicFile(picture, destinationFile);
 			statusPanel.setSuccessMessage(language.getText("dimgconv.offsetter.status.savefile", destinationFile.getName()));
 		} 
 		catch (FileNotFoundException e) 
@@ -1260,6 +1338,64 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		}
 	}
 
+	/**
+	 * Reads a graphic from a file.
+	 * @param file the file to read.
+	 * @return a {@link PNGPicture} or {@link Picture}, or null if the file is not a PNG nor a picture with reasonable bounds.
+	 * @throws IOException if the file could not be read.
+	 */
+	private static GraphicObject readGraphicFile(File file) throws IOException
+	{
+		if (FileUtils.matchMagicNumber(file, PNG_SIGNATURE)) // png?
+			return BinaryObject.read(PNGPicture.class, file);
+
+		int w, h, ox, oy;
+		try (FileInputStream fis = new FileInputStream(file))
+		{
+			SerialReader sr = new SerialReader(SerialReader.LITTLE_ENDIAN);
+			w = sr.readShort(fis);
+			h = sr.readShort(fis);
+			ox = sr.readShort(fis);
+			oy = sr.readShort(fis);
+		}
+
+		// test if acceptable or reasonable bounds
+		return checkPictureBounds(w, h, ox, oy) ? BinaryObject.read(Picture.class, file) : null;
+	}
+
+	/**
+	 * Writes a graphic to a file. The graphic is written to a temporary file in the same
+	 * directory first, which then replaces the file, so an interrupted write does not leave a partial file.
+	 * @param graphic the graphic to write.
+	 * @param destinationFile the file to write to.
+	 * @throws IOException if the file could not be written.
+	 */
+	private static void writeGraphicFile(BinaryObject graphic, File destinationFile) throws IOException
+	{
+		File parent = destinationFile.getAbsoluteFile().getParentFile();
+		if (parent == null || !parent.isDirectory())
+			throw new FileNotFoundException("Parent directory not found: " + destinationFile.getPath());
+
+		// File.createTempFile() needs a prefix of at least three characters.
+		String prefix = destinationFile.getName() + ".";
+		while (prefix.length() < 3)
+			prefix += "_";
+		File tempFile = File.createTempFile(prefix, ".tmp", parent);
+		try {
+			try (FileOutputStream fos = new FileOutputStream(tempFile))
+			{
+				graphic.writeBytes(fos);
+			}
+			try {
+				Files.move(tempFile.toPath(), destinationFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), destinationFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			tempFile.delete(); // no-op if moved.
+		}
+	}
+
 	private enum AutoAlignMode
 	{
 		OBJECT
@@ -1294,6 +1430,142 @@ public class DImageConvertOffsetterApp extends DoomToolsApplicationInstance
 		
 	}
 	
+	/**
+	 * A cache of decoded graphics, by file, that drops the least-recently used ones.
+	 * <p>
+	 * The graphic objects are shared with the canvas, which changes their offsets in place,
+	 * so a graphic fetched from the cache always has its offsets set back to the ones that were read from the file.
+	 * An entry is dropped if its file's length or modified time changes, and should be removed on write.
+	 */
+	private static class PictureCache
+	{
+		private final Map<File, CachedGraphic> entries;
+		/** Incremented on remove or clear, so that reads started before then are not cached. */
+		private final AtomicInteger generation;
+		/** Incremented on each prefetch, so that older prefetches stop. */
+		private final AtomicInteger prefetchId;
+
+		private PictureCache()
+		{
+			this.entries = new LinkedHashMap<File, CachedGraphic>(16, 0.75f, true)
+			{
+				private static final long serialVersionUID = 3315297580742146386L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<File, CachedGraphic> eldest)
+				{
+					return size() > PICTURE_CACHE_SIZE;
+				}
+			};
+			this.generation = new AtomicInteger(0);
+			this.prefetchId = new AtomicInteger(0);
+		}
+
+		/**
+		 * Gets a decoded graphic, reading it if it is not cached.
+		 * @param file the file.
+		 * @return a {@link PNGPicture} or {@link Picture}, or null if the file is not a graphic.
+		 * @throws IOException if the file could not be read.
+		 */
+		public GraphicObject get(File file) throws IOException
+		{
+			return fetch(file, true);
+		}
+
+		/**
+		 * Reads a set of files into this cache in the background.
+		 * Starting another prefetch stops this one.
+		 * @param files the files, in the order to read them.
+		 */
+		public void prefetch(final List<File> files)
+		{
+			if (files.isEmpty())
+				return;
+
+			final int id = prefetchId.incrementAndGet();
+			DoomToolsTaskManager.get().spawn(Lane.BULK, () -> {
+				for (File file : files)
+				{
+					if (id != prefetchId.get())
+						return;
+					try {
+						fetch(file, false);
+					} catch (IOException | SecurityException e) {
+						// Not important - the file is read (and the error reported) if it is selected.
+					}
+				}
+			});
+		}
+
+		/**
+		 * Drops a file's graphic.
+		 * @param file the file.
+		 */
+		public synchronized void remove(File file)
+		{
+			generation.incrementAndGet();
+			entries.remove(file);
+		}
+
+		/**
+		 * Drops everything.
+		 */
+		public synchronized void clear()
+		{
+			generation.incrementAndGet();
+			prefetchId.incrementAndGet();
+			entries.clear();
+		}
+
+		// Prefetches do not reset offsets: the graphic might be on the canvas.
+		private GraphicObject fetch(File file, boolean resetOffsets) throws IOException
+		{
+			long lastModified = file.lastModified();
+			long length = file.length();
+			int gen;
+			synchronized (this)
+			{
+				CachedGraphic entry = entries.get(file);
+				if (entry != null && entry.lastModified == lastModified && entry.length == length)
+				{
+					if (resetOffsets && entry.graphic != null)
+					{
+						entry.graphic.setOffsetX(entry.offsetX);
+						entry.graphic.setOffsetY(entry.offsetY);
+					}
+					return entry.graphic;
+				}
+				gen = generation.get();
+			}
+
+			GraphicObject out = readGraphicFile(file);
+			synchronized (this)
+			{
+				if (gen == generation.get())
+					entries.put(file, new CachedGraphic(out, lastModified, length));
+			}
+			return out;
+		}
+
+		private static class CachedGraphic
+		{
+			private final GraphicObject graphic;
+			private final long lastModified;
+			private final long length;
+			private final int offsetX;
+			private final int offsetY;
+
+			private CachedGraphic(GraphicObject graphic, long lastModified, long length)
+			{
+				this.graphic = graphic;
+				this.lastModified = lastModified;
+				this.length = length;
+				this.offsetX = graphic != null ? graphic.getOffsetX() : 0;
+				this.offsetY = graphic != null ? graphic.getOffsetY() : 0;
+			}
+		}
+	}
+
 	private static class DirectoryListModel implements ListModel<File>
 	{
 		private List<File> fileList;
@@ -26,12 +26,16 @@ import javax.swing.JPanel;
 import javax.swing.JSplitPane;
 import javax.swing.filechooser.FileFilter;
 
+import org.fife.ui.autocomplete.CompletionProvider;
+
 import net.mtrop.doom.tools.DecoHackMain;
 import net.mtrop.doom.tools.decohack.DecoHackPatchType;
 import net.mtrop.doom.tools.gui.DoomToolsApplicationInstance;
 import net.mtrop.doom.tools.gui.apps.data.PatchExportSettings;
 import net.mtrop.doom.tools.gui.managers.DoomToolsEditorProvider;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLogger;
+import net.mtrop.doom.tools.gui.managers.parsing.DecoHackCompletionProvider;
+import net.mtrop.doom.tools.gui.managers.parsing.DecoHackDiagnosticParser;
 import net.mtrop.doom.tools.gui.managers.settings.DecoHackSettingsManager;
 import net.mtrop.doom.tools.gui.swing.panels.DecoHackExportPanel;
 import net.mtrop.doom.tools.gui.swing.panels.DirectoryTreePanel.DirectoryTreeListener;
@@ -96,6 +100,7 @@ public class DecoHackEditorApp extends DoomToolsApplicationInstance
 	private File fileToOpenFirst;
 	private EditorHandle currentHandle;
 	private Map<EditorHandle, PatchExportSettings> handleToSettingsMap;
+	private Map<EditorHandle, DecoHackDiagnosticParser> handleToDiagnosticsMap;
 
 	// ...
 
@@ -156,6 +161,7 @@ public class DecoHackEditorApp extends DoomToolsApplicationInstance
 			public void onOpen(EditorHandle handle) 
 			{
 				statusPanel.setSuccessMessage(language.getText("decohack.status.message.editor.open", handle.getEditorTabName()));
+				onAttachDiagnostics(handle);
 			}
 
 			@Override
@@ -163,6 +169,7 @@ public class DecoHackEditorApp extends DoomToolsApplicationInstance
 			{
 				statusPanel.setSuccessMessage(language.getText("decohack.status.message.editor.close", handle.getEditorTabName()));
 				handleToSettingsMap.remove(handle);
+				onDetachDiagnostics(handle);
 			}
 
 			@Override
@@ -199,6 +206,7 @@ public class DecoHackEditorApp extends DoomToolsApplicationInstance
 		
 		this.currentHandle = null;
 		this.handleToSettingsMap = new HashMap<>();
+		this.handleToDiagnosticsMap = new HashMap<>();
 		this.fileToOpenFirst = fileToOpenFirst;
 	}
 	
@@ -423,6 +431,30 @@ public class DecoHackEditorApp extends DoomToolsApplicationInstance
 		exportAction.setEnabled(currentHandle != null);
 	}
 	
+	// Compiles DECOHack editors in the background for error/warning notices and alias/label completions.
+	private void onAttachDiagnostics(EditorHandle handle)
+	{
+		if (!DoomToolsEditorProvider.SYNTAX_STYLE_DECOHACK.equals(handle.getCurrentStyleType()))
+			return;
+		
+		CompletionProvider provider = DoomToolsEditorProvider.get().getProviderByStyle(DoomToolsEditorProvider.SYNTAX_STYLE_DECOHACK);
+		DecoHackDiagnosticParser parser = new DecoHackDiagnosticParser(
+			handle::getContentSourceFile, 
+			handle::getContentCharset, 
+			provider instanceof DecoHackCompletionProvider ? (DecoHackCompletionProvider)provider : null,
+			handle::forceReparsing
+		);
+		handle.addParser(parser);
+		handleToDiagnosticsMap.put(handle, parser);
+	}
+	
+	private void onDetachDiagnostics(EditorHandle handle)
+	{
+		DecoHackDiagnosticParser parser;
+		if ((parser = handleToDiagnosticsMap.remove(handle)) != null)
+			handle.removeParser(parser);
+	}
+	
 	private void onNewEditor()
 	{
 		final JFormField<DecoHackPatchType> patchField = comboField(comboBox(Arrays.asList(DecoHackPatchType.values())));
@@ -16,11 +16,14 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.swing.Action;
@@ -31,12 +34,14 @@ import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JSplitPane;
 import javax.swing.JTabbedPane;
+import javax.swing.Timer;
 import javax.swing.border.BevelBorder;
 
 import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 
 import net.mtrop.doom.Wad;
 import net.mtrop.doom.tools.DoomMakeMain;
+import net.mtrop.doom.tools.Environment;
 import net.mtrop.doom.tools.WadScriptMain;
 import net.mtrop.doom.tools.gui.DoomToolsApplicationInstance;
 import net.mtrop.doom.tools.gui.DoomToolsGUIMain;
@@ -75,6 +80,7 @@ import net.mtrop.doom.tools.struct.WatchServiceThread;
 import net.mtrop.doom.tools.struct.swing.ComponentFactory.MenuNode;
 import net.mtrop.doom.tools.struct.swing.SwingUtils;
 import net.mtrop.doom.tools.struct.util.ArrayUtils;
+import net.mtrop.doom.tools.struct.util.EncodingUtils;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.FileUtils.TempFile;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
@@ -96,6 +102,9 @@ import static net.mtrop.doom.tools.struct.swing.LayoutFactory.*;
 public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 {
 	private static final AtomicLong NEW_COUNTER = new AtomicLong(1L);
+	
+	/** Delay (in milliseconds) for gathering project file changes before updating the tree and repository. */
+	private static final int FILE_CHANGE_DELAY = 250;
 
 	/** Logger. */
 	private static final Logger LOG = DoomToolsLogger.getLogger(DoomMakeStudioApp.class); 
@@ -143,6 +152,10 @@ public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 	private ScriptExecutionSettings doomMakeSettings;
 	
 	private ProjectWatcher watcher;
+	/** Project files changed since the last update (from the watcher thread). */
+	private Set<File> changedFiles;
+	/** Timer for updating from changed files. */
+	private Timer changedFilesTimer;
 	
 	/**
 	 * Creates a new open project application.
@@ -236,7 +249,7 @@ public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 		this.treePanel.setRootDirectory(targetDirectory);
 		this.treePanel.setLabel(targetDirectory.getName());
 		
-		this.searchPanel = new ProjectSearchPanel((result) -> {
+		this.searchPanel = new ProjectSearchPanel(getSearchIndexFile(targetDirectory), (result) -> {
 			onOpenFile(result.getSource(), (int)result.getOffset());
 		});
 		
@@ -304,6 +317,10 @@ public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 		this.handleToWadMergeSettingsMap = new HashMap<>();
 		this.doomMakeSettings = null;
 		
+		this.changedFiles = new LinkedHashSet<>();
+		this.changedFilesTimer = new Timer(FILE_CHANGE_DELAY, (e) -> onProjectFilesChanged());
+		this.changedFilesTimer.setRepeats(false);
+		
 		this.projectDirectory = targetDirectory;
 		refreshProperties();
 		refreshSearchRegistry();
@@ -344,6 +361,16 @@ public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 		}
 	}
 	
+	// Gets the search index file for a project, keyed by its canonical path.
+	private static File getSearchIndexFile(File directory)
+	{
+		byte[] hash = EncodingUtils.sha1(FileUtils.canonizeFile(directory).getPath().getBytes(StandardCharsets.UTF_8));
+		StringBuilder sb = new StringBuilder(hash.length * 2);
+		for (byte b : hash)
+			sb.append(String.format("%02x", b & 0x0ff));
+		return new File(Environment.getApplicationStatePath() + File.separator + "search" + File.separator + sb.toString() + ".index");
+	}
+	
 	private File[] getSearchableFiles(File directory)
 	{
 		List<File> fileList = new ArrayList<>(256);  
@@ -526,7 +553,9 @@ public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 	public void onClose(Object frame) 
 	{
 		watcher.interrupt();
+		changedFilesTimer.stop();
 		executionPanel.shutDownAgent();
+		searchPanel.saveIndex();
 		if (frame instanceof JFrame)
 		{
 			JFrame f = (JFrame)frame;
@@ -1351,14 +1380,8 @@ public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 		if (fileWasRepository(file))
 			return;
 		
-		if (fileWasProjectPropertyFile(file))
-		{
-			refreshProperties();
-			refreshSearchRegistry();
-		}
-		
 		searchPanel.registerFile(file);
-		refreshRepository();
+		queueChangedFile(file);
 	}
 	
 	private void onProjectFileModified(File file)
@@ -1367,14 +1390,8 @@ public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 		if (fileWasRepository(file))
 			return;
 		
-		if (fileWasProjectPropertyFile(file))
-		{
-			refreshProperties();
-			refreshSearchRegistry();
-		}
-
 		searchPanel.registerFile(file);
-		refreshRepository();
+		queueChangedFile(file);
 	}
 	
 	private void onProjectFileDeleted(File file)
@@ -1383,13 +1400,46 @@ public class DoomMakeStudioApp extends DoomToolsApplicationInstance
 		if (fileWasRepository(file))
 			return;
 		
-		if (fileWasProjectPropertyFile(file))
+		searchPanel.deregisterFile(file);
+		queueChangedFile(file);
+	}
+	
+	// Called from the watcher thread. Changes are gathered so that bursts of changes (like builds) only update once.
+	private void queueChangedFile(File file)
+	{
+		synchronized (changedFiles)
 		{
-			refreshProperties();
-			refreshSearchRegistry();
+			changedFiles.add(file);
 		}
-
-		searchPanel.deregisterFile(file);
+		SwingUtils.invoke(() -> {
+			if (!changedFilesTimer.isRunning())
+				changedFilesTimer.start();
+		});
+	}
+	
+	private void onProjectFilesChanged()
+	{
+		List<File> files;
+		synchronized (changedFiles)
+		{
+			files = new ArrayList<>(changedFiles);
+			changedFiles.clear();
+		}
+		
+		if (files.isEmpty())
+			return;
+		
+		for (File file : files)
+		{
+			if (fileWasProjectPropertyFile(file))
+			{
+				refreshProperties();
+				refreshSearchRegistry();
+				break;
+			}
+		}
+		
+		treePanel.refreshFiles(files);
 		refreshRepository();
 	}
 	
@@ -28,13 +28,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringReader;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import javax.imageio.ImageIO;
@@ -57,6 +60,7 @@ import net.mtrop.doom.WadFile;
 import net.mtrop.doom.WadMap;
 import net.mtrop.doom.exception.WadException;
 import net.mtrop.doom.graphics.PNGPicture;
+import net.mtrop.doom.graphics.Palette;
 import net.mtrop.doom.graphics.Picture;
 import net.mtrop.doom.object.BinaryObject;
 import net.mtrop.doom.object.GraphicObject;
@@ -75,6 +79,8 @@ import net.mtrop.doom.tools.gui.managers.AppCommon;
 import net.mtrop.doom.tools.gui.managers.DoomToolsEditorProvider;
 import net.mtrop.doom.tools.gui.managers.DoomToolsIconManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLogger;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
 import net.mtrop.doom.tools.gui.managers.settings.WadTexTextureEditorSettingsManager;
 import net.mtrop.doom.tools.gui.swing.adapters.MouseControlAdapter;
 import net.mtrop.doom.tools.gui.swing.panels.EditorMultiFilePanel;
@@ -83,6 +89,7 @@ import net.mtrop.doom.tools.gui.swing.panels.WadTexTextureEditorCanvas;
 import net.mtrop.doom.tools.gui.swing.panels.EditorMultiFilePanel.EditorHandle;
 import net.mtrop.doom.tools.gui.swing.panels.WadTexTextureEditorCanvas.PatchGraphic;
 import net.mtrop.doom.tools.gui.swing.panels.WadTexTextureEditorCanvas.PatchListModel;
+import net.mtrop.doom.tools.struct.InstancedFuture;
 import net.mtrop.doom.tools.struct.LoggingFactory.Logger;
 import net.mtrop.doom.tools.struct.TokenScanner;
 import net.mtrop.doom.tools.struct.swing.ClipboardUtils;
@@ -97,6 +104,7 @@ import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
 import net.mtrop.doom.tools.struct.util.ValueUtils;
+import net.mtrop.doom.util.GraphicUtils;
 import net.mtrop.doom.util.NameUtils;
 import net.mtrop.doom.util.TextureUtils;
 import net.mtrop.doom.util.WadUtils;
@@ -120,6 +128,11 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 	private static final double ZOOMFACTOR_MAX = 8;
 	private static final double ZOOMFACTOR_STEP = .5;
 
+	/** Maximum amount of decoded patches (and separately, rendered patch images) kept in the patch cache. */
+	private static final int PATCH_CACHE_SIZE = 1024;
+	/** How many textures before and after the selected one to prefetch patches for. */
+	private static final int PATCH_PREFETCH_RANGE = 8;
+
 	private static final BufferedImage NO_PATCH = ImageUtils.imageBuilder(32, 32, BufferedImage.TYPE_INT_ARGB, (image) -> {
 		Graphics2D g2d = image.createGraphics();
 		g2d.setColor(Color.MAGENTA);
@@ -137,6 +150,7 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 	private Properties projectProperties;
 	private Map<String, File> projectPatchSources;
 	private List<String> projectPatchNames;
+	private PatchCache patchCache;
 
 	private JFormField<File> projectDirectoryField;
 	private JFormField<Double> zoomFactorField;
@@ -208,6 +222,7 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 		
 		this.projectPatchSources = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 		this.projectPatchNames = new ArrayList<>();
+		this.patchCache = new PatchCache();
 
 		this.paletteSourceField = fileField(settings.getLastPaletteFile(), 
 			(current) -> utils.chooseFile(
@@ -592,6 +607,12 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 		return fromWorkspaceClear || SwingUtils.yesTo(language.getText("doomtools.application.close"));
 	}
 	
+	@Override
+	public void onClose(Object frame) 
+	{
+		patchCache.clear();
+	}
+
 	@Override
 	public void onResize(Object frame) 
 	{
@@ -635,20 +656,7 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 		if (file != null)
 		{
 			try {
-				if (Wad.isWAD(file))
-				{
-					try (WadFile wf = new WadFile(file))
-					{
-						byte[] data = wf.getData(name);
-						if (data == null)
-							return null;
-						return getGraphicObject(data);
-					}
-				}
-				else
-				{
-					return getGraphicObject(IOUtils.getBinaryContents(file));
-				}
+				return patchCache.getGraphicObject(file, name);
 			} catch (IOException e) {
 				LOG.error(e, "Could not load patch from file: " + file.getPath());
 			}
@@ -657,7 +665,47 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 		return null;
 	}
 	
-	private GraphicObject getGraphicObject(byte[] data)
+	private Image fetchImageForName(String name)
+	{
+		File file = projectPatchSources.get(name);
+		if (file != null)
+		{
+			try {
+				return patchCache.getImage(file, name, canvas.getPalette());
+			} catch (IOException e) {
+				LOG.error(e, "Could not load patch from file: " + file.getPath());
+			}
+		}
+		
+		return null;
+	}
+	
+	// Prefetches the patches of the textures around the selected one.
+	private void prefetchNeighborTextures()
+	{
+		int index = textureList.getSelectedIndex();
+		if (index < 0)
+			return;
+		
+		List<Map.Entry<String, File>> patches = new ArrayList<>();
+		int start = Math.max(0, index - PATCH_PREFETCH_RANGE);
+		int end = Math.min(textureListModel.getSize() - 1, index + PATCH_PREFETCH_RANGE);
+		for (int i = start; i <= end; i++)
+		{
+			if (i == index)
+				continue;
+			for (TextureSet.Patch patch : textureListModel.getElementAt(i))
+			{
+				File file = projectPatchSources.get(patch.getName());
+				if (file != null)
+					patches.add(new AbstractMap.SimpleEntry<>(patch.getName(), file));
+			}
+		}
+		
+		patchCache.prefetch(patches, canvas.getPalette());
+	}
+	
+	private static GraphicObject getGraphicObject(byte[] data)
 	{
 		try {
 			if (ArrayUtils.startsWith(data, PNG_SIGNATURE)) // png?
@@ -710,26 +758,34 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 	private void refreshGraphicData(final TextureSet.Texture texture)
 	{
 		for (TextureSet.Patch patch : texture)
+			createPatchFromSource(patch, patchListModel.getSize());
+	}
+
+	// Adds a patch to the canvas using the image from its patch source (or a placeholder).
+	private PatchGraphic createPatchFromSource(TextureSet.Patch patch, int index)
+	{
+		Image image = fetchImageForName(patch.getName());
+		return createPatch(patch, image != null ? image : NO_PATCH, index);
+	}
+
+	// Re-renders the current patches with the canvas palette, keeping the patch list and its selection.
+	private void refreshPatchImages()
+	{
+		for (int i = 0; i < patchListModel.getSize(); i++)
 		{
-			GraphicObject gobj = fetchGraphicObjectForName(patch.getName());
-			if (gobj != null)
-			{
-				if (gobj instanceof Picture)
-					createPatch(patch, (Picture)gobj);
-				else
-					createPatch(patch, (PNGPicture)gobj);
-			}
-			else
-			{
-				createPatch(patch, NO_PATCH);
-			}
+			PatchGraphic pg = patchListModel.getPatch(i);
+			Image image = fetchImageForName(pg.getPatch().getName());
+			pg.setImage(image != null ? image : NO_PATCH);
 		}
+		canvas.repaint();
+		prefetchNeighborTextures();
 	}
 
 	private void refreshPatchSources()
 	{
 		LOG.debug("Start patch source refresh...");
 		projectPatchSources.clear();
+		patchCache.clear();
 		
 		if (projectDirectoryField.getValue() != null)
 		{
@@ -1138,6 +1194,7 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 		textureWidthField.setValue((short)texture.getWidth());
 		textureHeightField.setValue((short)texture.getHeight());
 		updateActionsAndFields();
+		prefetchNeighborTextures();
 	}
 
 	private void onSwitchToPatch(PatchGraphic patch)
@@ -1221,6 +1278,8 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 	private void onPaletteFileSelect(File selectedFile)
 	{
 		canvas.setPalette(AppCommon.get().readPaletteFromFile(selectedFile));
+		patchCache.clearImages();
+		refreshPatchImages();
 	}
 
 	private void onTextureWidthChanged(Short value)
@@ -1512,19 +1571,8 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 		
 		for (String patchName : patchNames)
 		{
-			GraphicObject gobj = fetchGraphicObjectForName(patchName);
 			TextureSet.Patch patch = currentTexture.createPatch(patchName);
-			if (gobj != null)
-			{
-				if (gobj instanceof Picture)
-					createPatch(patch, (Picture)gobj);
-				else
-					createPatch(patch, (PNGPicture)gobj);
-			}
-			else
-			{
-				createPatch(patch, NO_PATCH);
-			}
+			createPatchFromSource(patch, patchListModel.getSize());
 		}
 		
 		canvas.repaint();
@@ -1632,21 +1680,10 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 					offsetY = patchScanner.nextInt();
 				}
 
-				GraphicObject gobj = fetchGraphicObjectForName(name);
 				TextureSet.Patch patch = currentTexture.createPatch(name);
 				patch.setOriginX(offsetX);
 				patch.setOriginY(offsetY);
-				if (gobj != null)
-				{
-					if (gobj instanceof Picture)
-						createPatch(patch, (Picture)gobj);
-					else
-						createPatch(patch, (PNGPicture)gobj);
-				}
-				else
-				{
-					createPatch(patch, NO_PATCH);
-				}
+				createPatchFromSource(patch, patchListModel.getSize());
 				
 				linenum++;
 			}
@@ -1718,21 +1755,10 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 		TextureSet.Patch origPatch = pg.getPatch();
 		patchListModel.removePatch(selectedIndex);
 		
-		GraphicObject gobj = fetchGraphicObjectForName(value);
 		TextureSet.Patch patch = currentTexture.createPatch(value);
 		patch.setOriginX(origPatch.getOriginX());
 		patch.setOriginY(origPatch.getOriginY());
-		if (gobj != null)
-		{
-			if (gobj instanceof Picture)
-				createPatch(patch, (Picture)gobj, selectedIndex);
-			else
-				createPatch(patch, (PNGPicture)gobj, selectedIndex);
-		}
-		else
-		{
-			createPatch(patch, NO_PATCH, selectedIndex);
-		}
+		createPatchFromSource(patch, selectedIndex);
 	}
 
 	private void onCanvasTextureExport()
@@ -1861,85 +1887,265 @@ public class WadTexTextureEditorApp extends DoomToolsApplicationInstance
 		).openThenDispose();
 	}
 	
-	/**
-	 * Adds a patch to this texture canvas.
-	 * @param patch the patch.
-	 * @param p the patch picture.
-	 * @return a reference to the created patch.
-	 */
-	public PatchGraphic createPatch(TextureSet.Patch patch, Picture p)
-	{
-		return createPatch(patch, p, patchListModel.getSize());
-	}
-
-	/**
-	 * Adds a patch to this texture canvas.
-	 * @param patch the patch.
-	 * @param p the patch picture.
-	 * @return a reference to the created patch.
-	 */
-	public PatchGraphic createPatch(TextureSet.Patch patch, PNGPicture p)
-	{
-		return createPatch(patch, p, patchListModel.getSize());
-	}
-
 	/**
 	 * Adds a patch to this texture canvas.
 	 * @param patch the patch.
 	 * @param image the patch picture.
-	 * @return a reference to the created patch.
-	 */
-	public PatchGraphic createPatch(TextureSet.Patch patch, Image image)
-	{
-		return createPatch(patch, image, patchListModel.getSize());
-	}
-
-	/**
-	 * Adds a patch to this texture canvas.
-	 * @param patch the patch.
-	 * @param p the patch picture.
 	 * @param index the target index.
 	 * @return a reference to the created patch.
 	 */
-	public PatchGraphic createPatch(TextureSet.Patch patch, Picture p, int index)
+	public PatchGraphic createPatch(TextureSet.Patch patch, Image image, int index)
 	{
 		PatchGraphic newPatch = canvas.new PatchGraphic(patch);
-		newPatch.setPicture(p);
+		newPatch.setImage(image);
 		patchListModel.addPatch(index, newPatch);
 		patchList.setSelectedIndex(index);
 		return newPatch;
 	}
 
 	/**
-	 * Adds a patch to this texture canvas.
-	 * @param patch the patch.
-	 * @param p the patch picture.
-	 * @param index the target index.
-	 * @return a reference to the created patch.
+	 * A cache key for a patch from a patch source.
+	 * The palette is compared by reference, and is null for decoded (not rendered) patches.
 	 */
-	public PatchGraphic createPatch(TextureSet.Patch patch, PNGPicture p, int index)
+	private static class PatchKey
 	{
-		PatchGraphic newPatch = canvas.new PatchGraphic(patch);
-		newPatch.setPNGPicture(p);
-		patchListModel.addPatch(index, newPatch);
-		patchList.setSelectedIndex(index);
-		return newPatch;
+		private final File file;
+		private final String name;
+		private final Palette palette;
+		
+		private PatchKey(File file, String name, Palette palette)
+		{
+			this.file = file;
+			this.name = name;
+			this.palette = palette;
+		}
+		
+		@Override
+		public int hashCode() 
+		{
+			return (file.hashCode() * 31 + name.hashCode()) * 31 + System.identityHashCode(palette);
+		}
+		
+		@Override
+		public boolean equals(Object obj) 
+		{
+			if (!(obj instanceof PatchKey))
+				return false;
+			PatchKey other = (PatchKey)obj;
+			return file.equals(other.file) && name.equals(other.name) && palette == other.palette;
+		}
 	}
-
+	
 	/**
-	 * Adds a patch to this texture canvas.
-	 * @param patch the patch.
-	 * @param image the patch picture.
-	 * @param index the target index.
-	 * @return a reference to the created patch.
+	 * Bounded LRU cache of decoded patches and their rendered images.
+	 * Keeps one open handle per source WAD until cleared.
 	 */
-	public PatchGraphic createPatch(TextureSet.Patch patch, Image image, int index)
+	private static class PatchCache
 	{
-		PatchGraphic newPatch = canvas.new PatchGraphic(patch);
-		newPatch.setImage(image);
-		patchListModel.addPatch(index, newPatch);
-		patchList.setSelectedIndex(index);
-		return newPatch;
+		private final Map<File, WadFile> wadHandles;
+		private final Map<PatchKey, GraphicObject> decoded;
+		private final Map<PatchKey, Image> rendered;
+		/** Incremented on clear, so that loads started before a clear are not cached. */
+		private final AtomicInteger generation;
+		/** Incremented on each full clear, so that loads started before it do not open the WADs again. */
+		private final AtomicInteger clears;
+		/** Incremented on each prefetch, so that older prefetches stop. */
+		private final AtomicInteger prefetchId;
+		/** The latest prefetch task, if any. */
+		private InstancedFuture<Void> prefetchTask;
+		
+		private PatchCache()
+		{
+			this.wadHandles = new TreeMap<>();
+			this.decoded = createLRUMap();
+			this.rendered = createLRUMap();
+			this.generation = new AtomicInteger(0);
+			this.clears = new AtomicInteger(0);
+			this.prefetchId = new AtomicInteger(0);
+			this.prefetchTask = null;
+		}
+		
+		private static <K, V> Map<K, V> createLRUMap()
+		{
+			return new LinkedHashMap<K, V>(16, 0.75f, true)
+			{
+				private static final long serialVersionUID = 8373614787539620342L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<K, V> eldest) 
+				{
+					return size() > PATCH_CACHE_SIZE;
+				}
+			};
+		}
+		
+		/**
+		 * Gets a decoded patch.
+		 * @param file the patch source file (WAD or lump).
+		 * @param name the patch name.
+		 * @return the decoded patch, or null if not found or not a readable graphic.
+		 * @throws IOException if the source could not be read.
+		 */
+		public GraphicObject getGraphicObject(File file, String name) throws IOException
+		{
+			return getGraphicObject(file, name, generation.get(), clears.get());
+		}
+		
+		// Gets a decoded patch for a load started in a cache generation, after a number of full clears.
+		private GraphicObject getGraphicObject(File file, String name, int gen, int clearCount) throws IOException
+		{
+			PatchKey key = new PatchKey(file, name, null);
+			synchronized (this)
+			{
+				GraphicObject out = decoded.get(key);
+				if (out != null)
+					return out;
+			}
+			
+			byte[] data = readData(file, name, clearCount);
+			GraphicObject out = data != null ? WadTexTextureEditorApp.getGraphicObject(data) : null;
+			if (out != null)
+			{
+				synchronized (this)
+				{
+					if (gen == generation.get())
+						decoded.put(key, out);
+				}
+			}
+			return out;
+		}
+		
+		/**
+		 * Gets a patch image rendered with a palette.
+		 * @param file the patch source file (WAD or lump).
+		 * @param name the patch name.
+		 * @param palette the palette to render with.
+		 * @return the image, or null if not found or not a readable graphic.
+		 * @throws IOException if the source could not be read.
+		 */
+		public Image getImage(File file, String name, Palette palette) throws IOException
+		{
+			return getImage(file, name, palette, generation.get(), clears.get());
+		}
+		
+		// Gets a rendered patch image for a load started in a cache generation, after a number of full clears.
+		private Image getImage(File file, String name, Palette palette, int gen, int clearCount) throws IOException
+		{
+			PatchKey key = new PatchKey(file, name, palette);
+			synchronized (this)
+			{
+				Image out = rendered.get(key);
+				if (out != null)
+					return out;
+			}
+			
+			GraphicObject gobj = getGraphicObject(file, name, gen, clearCount);
+			if (gobj == null)
+				return null;
+			
+			Image out = gobj instanceof Picture ? GraphicUtils.createImage((Picture)gobj, palette) : ((PNGPicture)gobj).getImage();
+			synchronized (this)
+			{
+				if (gen == generation.get())
+					rendered.put(key, out);
+			}
+			return out;
+		}
+		
+		/**
+		 * Loads a set of patches into this cache in the background.
+		 * Starting another prefetch stops this one.
+		 * @param patches the patch names and their source files.
+		 * @param palette the palette to render with.
+		 */
+		public void prefetch(final List<Map.Entry<String, File>> patches, final Palette palette)
+		{
+			if (patches.isEmpty())
+				return;
+			
+			final int id = prefetchId.incrementAndGet();
+			final int gen = generation.get();
+			final int clearCount = clears.get();
+			InstancedFuture<Void> task = DoomToolsTaskManager.get().spawn(Lane.BULK, () -> {
+				for (Map.Entry<String, File> patch : patches)
+				{
+					if (id != prefetchId.get())
+						return;
+					try {
+						getImage(patch.getValue(), patch.getKey(), palette, gen, clearCount);
+					} catch (IOException e) {
+						// Not important - the patch is loaded (and the error logged) if it is actually used.
+					}
+				}
+			});
+			synchronized (this)
+			{
+				if (prefetchTask != null)
+					prefetchTask.cancel();
+				prefetchTask = task;
+			}
+		}
+		
+		/**
+		 * Drops all rendered images (but not decoded patches), and stops any prefetch.
+		 * Images still being rendered for the old palette are not cached.
+		 */
+		public synchronized void clearImages()
+		{
+			generation.incrementAndGet();
+			prefetchId.incrementAndGet();
+			rendered.clear();
+		}
+		
+		/**
+		 * Drops everything, cancels any prefetch, and closes the open WAD handles.
+		 * Loads that started before this do not open them again.
+		 */
+		public synchronized void clear()
+		{
+			generation.incrementAndGet();
+			clears.incrementAndGet();
+			prefetchId.incrementAndGet();
+			if (prefetchTask != null)
+				prefetchTask.cancel();
+			prefetchTask = null;
+			decoded.clear();
+			rendered.clear();
+			for (WadFile wad : wadHandles.values())
+			{
+				synchronized (wad)
+				{
+					IOUtils.close(wad);
+				}
+			}
+			wadHandles.clear();
+		}
+		
+		// Reads a patch's data from its source, or returns null if the cache was fully cleared since the load started.
+		private byte[] readData(File file, String name, int clearCount) throws IOException
+		{
+			WadFile wad;
+			synchronized (this)
+			{
+				if (clearCount != clears.get())
+					return null;
+				wad = wadHandles.get(file);
+				if (wad == null && Wad.isWAD(file))
+					wadHandles.put(file, wad = new WadFile(file));
+			}
+			
+			if (wad != null)
+			{
+				synchronized (wad)
+				{
+					return wad.getData(name);
+				}
+			}
+			else
+			{
+				return IOUtils.getBinaryContents(file);
+			}
+		}
 	}
 
 	/**
@@ -61,6 +61,7 @@ import net.mtrop.doom.tools.struct.util.ArrayUtils;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
 
 /**
  * Common application functions across more than one application.
@@ -803,7 +804,7 @@ public final class AppCommon
 		final String errorMessage,
 		final InstancedFuture<Integer> task
 	){
-		return tasks.spawn(() -> {
+		return tasks.spawn(Lane.IO, () -> {
 			Integer result = null;
 			try
 			{
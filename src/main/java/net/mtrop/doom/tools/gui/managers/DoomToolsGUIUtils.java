@@ -75,6 +75,7 @@ import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 import net.mtrop.doom.tools.struct.util.OSUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
 
 import static javax.swing.BorderFactory.*;
 
@@ -771,7 +772,7 @@ public final class DoomToolsGUIUtils
 			{
 				final PrintStream outStream = outputPanel.getPrintStream();
 				final PrintStream errorStream = outputPanel.getErrorPrintStream();
-				tasks.spawn(() -> 
+				tasks.spawn(Lane.IO, () -> 
 				{
 					if (onStart != null)
 						onStart.run();
@@ -5,28 +5,37 @@
  ******************************************************************************/
 package net.mtrop.doom.tools.gui.managers;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+import net.mtrop.doom.tools.gui.managers.settings.DoomToolsSettingsManager;
 import net.mtrop.doom.tools.struct.InstancedFuture;
 import net.mtrop.doom.tools.struct.InstancedFuture.InstanceListener;
 import net.mtrop.doom.tools.struct.LoggingFactory.Logger;
 import net.mtrop.doom.tools.struct.SingletonProvider;
 
 /**
- * DoomTools GUI logger singleton.
+ * DoomTools GUI task manager singleton.
+ * <p>
+ * Tasks are run in one of several {@link Lane}s, each with its own threads, so that
+ * long-running bulk work cannot hold up the short tasks that the user is waiting on.
+ * The pool sizes are taken from {@link DoomToolsSettingsManager} on startup.
  * @author Matthew Tropiano
  */
-public final class DoomToolsTaskManager 
+public final class DoomToolsTaskManager
 {
 	/** Logger. */
-	private static final Logger LOG = DoomToolsLogger.getLogger(DoomToolsTaskManager.class); 
+	private static final Logger LOG = DoomToolsLogger.getLogger(DoomToolsTaskManager.class);
 	/** The instance encapsulator. */
 	private static final SingletonProvider<DoomToolsTaskManager> INSTANCE = new SingletonProvider<>(() -> new DoomToolsTaskManager());
-	
+
 	/**
 	 * @return the singleton instance of this settings object.
 	 */
@@ -35,70 +44,366 @@ public final class DoomToolsTaskManager
 		return INSTANCE.get();
 	}
 
+	/**
+	 * The task lanes.
+	 */
+	public enum Lane
+	{
+		/**
+		 * Short tasks that the user is waiting on, like searches, loads, and editor diagnostics.
+		 * This is the default lane.
+		 */
+		INTERACTIVE,
+
+		/**
+		 * Long-running or CPU-heavy background work, like prewarming, bulk file changes, and prefetching.
+		 * These threads run at a lower priority.
+		 */
+		BULK,
+
+		/**
+		 * Tasks that spend most of their time waiting, like running tool processes, repository commands, and downloads.
+		 * These are not limited to a fixed amount of threads, and run on virtual threads if enabled and the JVM supports them.
+		 */
+		IO;
+	}
+
 	/* ==================================================================== */
-	
-	/** Thread pool. */
-	private Executor executor;
-	
+
+	/** Thread pools per lane. */
+	private Map<Lane, Executor> executors;
+	/** Metrics per lane. */
+	private Map<Lane, LaneMetrics> metrics;
+	/** Pool description per lane. */
+	private Map<Lane, String> descriptions;
+
 	private DoomToolsTaskManager()
 	{
-		this.executor = Executors.newFixedThreadPool(8, new DefaultThreadFactory("DoomToolsThread"));
+		DoomToolsSettingsManager settings = DoomToolsSettingsManager.get();
+		int threads = settings.getTaskThreadCount();
+		if (threads <= 0)
+			threads = Runtime.getRuntime().availableProcessors();
+
+		int interactiveThreads = Math.max(2, threads / 2);
+		int bulkThreads = Math.max(1, threads);
+
+		this.executors = new EnumMap<>(Lane.class);
+		this.metrics = new EnumMap<>(Lane.class);
+		this.descriptions = new EnumMap<>(Lane.class);
+
+		executors.put(Lane.INTERACTIVE, Executors.newFixedThreadPool(interactiveThreads, new DefaultThreadFactory("DoomToolsThread-", Thread.NORM_PRIORITY)));
+		descriptions.put(Lane.INTERACTIVE, interactiveThreads + " thread(s)");
+
+		executors.put(Lane.BULK, Executors.newFixedThreadPool(bulkThreads, new DefaultThreadFactory("DoomToolsBulkThread-", Thread.MIN_PRIORITY)));
+		descriptions.put(Lane.BULK, bulkThreads + " thread(s)");
+
+		ExecutorService ioExecutor = settings.getTaskVirtualThreads() ? createVirtualThreadExecutor() : null;
+		if (ioExecutor != null)
+		{
+			executors.put(Lane.IO, ioExecutor);
+			descriptions.put(Lane.IO, "virtual threads");
+		}
+		else
+		{
+			executors.put(Lane.IO, Executors.newCachedThreadPool(new DefaultThreadFactory("DoomToolsIOThread-", Thread.NORM_PRIORITY)));
+			descriptions.put(Lane.IO, "cached threads");
+		}
+
+		for (Lane lane : Lane.values())
+		{
+			metrics.put(lane, new LaneMetrics());
+			LOG.infof("Task lane %s: %s", lane.name(), descriptions.get(lane));
+		}
 	}
 
 	/**
-	 * Spawns a new asynchronous task from a {@link Runnable}.
+	 * Spawns a new asynchronous task from a {@link Runnable} in the {@link Lane#INTERACTIVE} lane.
 	 * @param runnable the callable to use.
 	 * @return the new instance.
 	 */
 	public InstancedFuture<Void> spawn(Runnable runnable)
 	{
-		return spawn(() -> { runnable.run(); return null; });
+		return spawn(Lane.INTERACTIVE, runnable);
 	}
-	
+
 	/**
-	 * Spawns a new asynchronous task from a {@link Callable}.
+	 * Spawns a new asynchronous task from a {@link Callable} in the {@link Lane#INTERACTIVE} lane.
 	 * @param <T> the return type for the future.
 	 * @param callable the callable to use.
 	 * @return the new instance.
 	 */
 	public <T> InstancedFuture<T> spawn(Callable<T> callable)
+	{
+		return spawn(Lane.INTERACTIVE, callable);
+	}
+
+	/**
+	 * Spawns a new asynchronous task from a {@link Runnable}.
+	 * @param lane the lane to run the task in.
+	 * @param runnable the callable to use.
+	 * @return the new instance.
+	 */
+	public InstancedFuture<Void> spawn(Lane lane, Runnable runnable)
+	{
+		return spawn(lane, () -> { runnable.run(); return null; });
+	}
+
+	/**
+	 * Spawns a new asynchronous task from a {@link Callable}.
+	 * @param <T> the return type for the future.
+	 * @param lane the lane to run the task in.
+	 * @param callable the callable to use.
+	 * @return the new instance.
+	 */
+	public <T> InstancedFuture<T> spawn(Lane lane, Callable<T> callable)
 	{
 		return InstancedFuture.instance(callable)
-			.listener(createListener())
-			.spawn(executor);
+			.listener(createListener(lane))
+			.spawn(executors.get(lane));
 	}
 
-	private <T> InstanceListener<T> createListener()
+	/**
+	 * Gets a snapshot of the metrics for a lane.
+	 * @param lane the lane.
+	 * @return the metrics.
+	 */
+	public Metrics getMetrics(Lane lane)
 	{
+		return metrics.get(lane).snapshot(lane, descriptions.get(lane));
+	}
+
+	private <T> InstanceListener<T> createListener(final Lane lane)
+	{
+		final LaneMetrics laneMetrics = metrics.get(lane);
+		final long submitTime = laneMetrics.submit();
 		return new InstanceListener<T>()
 		{
+			private long startTime;
+
 			@Override
-			public void onStart(InstancedFuture<T> instance) 
+			public void onStart(InstancedFuture<T> instance)
 			{
-				LOG.infof("Started task.");
+				startTime = System.nanoTime();
+				long waitNanos = laneMetrics.start(submitTime, startTime);
+				LOG.debugf("Started %s task (waited %d ms, %d queued).", lane.name(), waitNanos / 1000000L, laneMetrics.queued());
 			}
 
 			@Override
 			public void onEnd(InstancedFuture<T> instance)
 			{
-				LOG.infof("Finished task.");
+				boolean failed = instance.getException() != null;
+				long runNanos = laneMetrics.end(startTime, System.nanoTime(), failed);
+				if (failed)
+					LOG.infof("Finished %s task with an error in %d ms.", lane.name(), runNanos / 1000000L);
+				else
+					LOG.debugf("Finished %s task in %d ms.", lane.name(), runNanos / 1000000L);
 			}
 		};
 	}
-	
+
+	// Creates a virtual thread executor if this JVM has them (Java 21+).
+	private static ExecutorService createVirtualThreadExecutor()
+	{
+		try {
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | SecurityException e) {
+			LOG.info("Virtual threads are not available on this JVM. Using platform threads.");
+			return null;
+		}
+	}
+
+	/**
+	 * A snapshot of a lane's task metrics.
+	 */
+	public static final class Metrics
+	{
+		private Lane lane;
+		private String description;
+		private long queued;
+		private long running;
+		private long completed;
+		private long failed;
+		private long averageWaitMillis;
+		private long maxWaitMillis;
+		private long averageRunMillis;
+		private long maxRunMillis;
+
+		private Metrics() {}
+
+		/**
+		 * @return the lane.
+		 */
+		public Lane getLane()
+		{
+			return lane;
+		}
+
+		/**
+		 * @return the description of the lane's threads.
+		 */
+		public String getDescription()
+		{
+			return description;
+		}
+
+		/**
+		 * @return the amount of tasks waiting to start.
+		 */
+		public long getQueued()
+		{
+			return queued;
+		}
+
+		/**
+		 * @return the amount of tasks running.
+		 */
+		public long getRunning()
+		{
+			return running;
+		}
+
+		/**
+		 * @return the amount of tasks finished (including failed ones).
+		 */
+		public long getCompleted()
+		{
+			return completed;
+		}
+
+		/**
+		 * @return the amount of tasks that finished with an exception.
+		 */
+		public long getFailed()
+		{
+			return failed;
+		}
+
+		/**
+		 * @return the average time that a task waited before starting, in milliseconds.
+		 */
+		public long getAverageWaitMillis()
+		{
+			return averageWaitMillis;
+		}
+
+		/**
+		 * @return the longest time that a task waited before starting, in milliseconds.
+		 */
+		public long getMaxWaitMillis()
+		{
+			return maxWaitMillis;
+		}
+
+		/**
+		 * @return the average task run time, in milliseconds.
+		 */
+		public long getAverageRunMillis()
+		{
+			return averageRunMillis;
+		}
+
+		/**
+		 * @return the longest task run time, in milliseconds.
+		 */
+		public long getMaxRunMillis()
+		{
+			return maxRunMillis;
+		}
+
+	}
+
 	/**
-	 * The thread factory used for the Thread Pool.
-	 * Makes non-daemon threads that start with the name <code>"AsyncUtilsThread-"</code>.
+	 * Running metrics for a lane.
+	 */
+	private static class LaneMetrics
+	{
+		private final LongAdder submitted;
+		private final LongAdder started;
+		private final LongAdder completed;
+		private final LongAdder failed;
+		private final LongAdder totalWaitNanos;
+		private final LongAdder totalRunNanos;
+		private final AtomicLong maxWaitNanos;
+		private final AtomicLong maxRunNanos;
+
+		private LaneMetrics()
+		{
+			this.submitted = new LongAdder();
+			this.started = new LongAdder();
+			this.completed = new LongAdder();
+			this.failed = new LongAdder();
+			this.totalWaitNanos = new LongAdder();
+			this.totalRunNanos = new LongAdder();
+			this.maxWaitNanos = new AtomicLong(0L);
+			this.maxRunNanos = new AtomicLong(0L);
+		}
+
+		private long submit()
+		{
+			submitted.increment();
+			return System.nanoTime();
+		}
+
+		private long start(long submitTime, long startTime)
+		{
+			long waitNanos = startTime - submitTime;
+			started.increment();
+			totalWaitNanos.add(waitNanos);
+			maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+			return waitNanos;
+		}
+
+		private long end(long startTime, long endTime, boolean error)
+		{
+			long runNanos = endTime - startTime;
+			completed.increment();
+			if (error)
+				failed.increment();
+			totalRunNanos.add(runNanos);
+			maxRunNanos.accumulateAndGet(runNanos, Math::max);
+			return runNanos;
+		}
+
+		private long queued()
+		{
+			return Math.max(0L, submitted.sum() - started.sum());
+		}
+
+		private Metrics snapshot(Lane lane, String description)
+		{
+			long startedCount = started.sum();
+			long completedCount = completed.sum();
+			Metrics out = new Metrics();
+			out.lane = lane;
+			out.description = description;
+			out.queued = Math.max(0L, submitted.sum() - startedCount);
+			out.running = Math.max(0L, startedCount - completedCount);
+			out.completed = completedCount;
+			out.failed = failed.sum();
+			out.averageWaitMillis = startedCount > 0 ? totalWaitNanos.sum() / startedCount / 1000000L : 0L;
+			out.maxWaitMillis = maxWaitNanos.get() / 1000000L;
+			out.averageRunMillis = completedCount > 0 ? totalRunNanos.sum() / completedCount / 1000000L : 0L;
+			out.maxRunMillis = maxRunNanos.get() / 1000000L;
+			return out;
+		}
+
+	}
+
+	/**
+	 * The thread factory used for the Thread Pools.
+	 * Makes daemon threads that start with a prefix.
 	 */
 	private static class DefaultThreadFactory implements ThreadFactory
 	{
 		private AtomicLong threadId;
 		private String threadNamePrefix;
+		private int priority;
 
-		private DefaultThreadFactory(String threadNamePrefix)
+		private DefaultThreadFactory(String threadNamePrefix, int priority)
 		{
 			this.threadId = new AtomicLong(0L);
 			this.threadNamePrefix = threadNamePrefix;
+			this.priority = priority;
 		}
 
 		@Override
@@ -107,10 +412,10 @@ public final class DoomToolsTaskManager
 			Thread out = new Thread(r);
 			out.setName(threadNamePrefix + threadId.getAndIncrement());
 			out.setDaemon(true);
-			out.setPriority(Thread.NORM_PRIORITY);
+			out.setPriority(priority);
 			return out;
 		}
-		
+
 	}
 
 }
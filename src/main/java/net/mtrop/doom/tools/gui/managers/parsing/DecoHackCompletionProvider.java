@@ -8,21 +8,30 @@ package net.mtrop.doom.tools.gui.managers.parsing;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 
 import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
 import javax.swing.text.JTextComponent;
 
 import org.fife.ui.autocomplete.BasicCompletion;
+import org.fife.ui.autocomplete.Completion;
 import org.fife.ui.autocomplete.CompletionProvider;
 import org.fife.ui.autocomplete.TemplateCompletion;
 
 import net.mtrop.doom.tools.decohack.DecoHackPatchType;
+import net.mtrop.doom.tools.decohack.contexts.AbstractPatchContext;
 import net.mtrop.doom.tools.decohack.data.DEHActionPointer;
 import net.mtrop.doom.tools.decohack.data.DEHActionPointer.Usage.PointerParameter;
 import net.mtrop.doom.tools.decohack.data.enums.DEHActionPointerDoom19;
@@ -344,6 +353,9 @@ public class DecoHackCompletionProvider extends CommonCompletionProvider
 		});
 	});
 	
+	/** Completions for user-defined aliases and labels, per open document. Only used on the Swing thread. */
+	private final Map<Document, List<Completion>> userCompletions = new WeakHashMap<>();
+	
 	public DecoHackCompletionProvider()
 	{
 		super();
@@ -430,6 +442,78 @@ public class DecoHackCompletionProvider extends CommonCompletionProvider
 		return c != '"';
 	}
 	
+	@Override
+	protected List<Completion> getCompletionsImpl(JTextComponent comp) 
+	{
+		List<Completion> out = super.getCompletionsImpl(comp);
+		List<Completion> userList = userCompletions.get(comp.getDocument());
+		if (userList == null || userList.isEmpty())
+			return out;
+
+		String text = getAlreadyEnteredText(comp);
+		if (text == null)
+			return out;
+
+		for (Completion completion : userList)
+		{
+			String input = completion.getInputText();
+			if (input.regionMatches(true, 0, text, 0, text.length()))
+				out.add(completion);
+		}
+		Collections.sort(out);
+		return out;
+	}
+	
+	/**
+	 * Creates completions for the thing aliases, weapon aliases, and state labels defined in a compiled patch,
+	 * skipping the ones that this provider already has (for example, from the built-in includes). 
+	 * This does not change this provider, and is safe to call from any thread.
+	 * @param context the compiled patch context.
+	 * @return the list of created completions.
+	 * @see #setUserCompletions(Document, List)
+	 */
+	public List<Completion> createUserCompletions(AbstractPatchContext<?> context)
+	{
+		List<Completion> out = new ArrayList<>();
+		
+		for (String alias : context.getThingAliases())
+		{
+			if (getCompletionByInputText(alias) == null)
+				out.add(new BasicCompletion(this, alias, "Thing Alias (" + context.getThingAlias(alias) + ")"));
+		}
+		for (String alias : context.getWeaponAliases())
+		{
+			if (getCompletionByInputText(alias) == null)
+				out.add(new BasicCompletion(this, alias, "Weapon Alias (" + context.getWeaponAlias(alias) + ")"));
+		}
+		
+		Set<String> labels = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		for (Integer index : context.getUsedThingIndices())
+			labels.addAll(Arrays.asList(context.getThing(index).getLabels()));
+		for (Integer index : context.getUsedWeaponIndices())
+			labels.addAll(Arrays.asList(context.getWeapon(index).getLabels()));
+		for (String label : labels)
+			out.add(new BasicCompletion(this, label, "State Label"));
+		for (String label : context.getGlobalStateLabels())
+			out.add(new BasicCompletion(this, label, "Global State Label"));
+
+		return out;
+	}
+	
+	/**
+	 * Sets the user-defined completions to offer in a document, replacing the previous ones.
+	 * Must be called from the Swing thread.
+	 * @param document the document.
+	 * @param completions the completions (see {@link #createUserCompletions(AbstractPatchContext)}), or null to remove them.
+	 */
+	public void setUserCompletions(Document document, List<Completion> completions)
+	{
+		if (completions != null)
+			userCompletions.put(document, completions);
+		else
+			userCompletions.remove(document);
+	}
+	
 	/**
 	 * Adds define completions from parsing a resource.
 	 * @param type the patch type.
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.gui.managers.parsing;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.swing.text.BadLocationException;
+
+import org.fife.ui.autocomplete.Completion;
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
+import org.fife.ui.rsyntaxtextarea.parser.AbstractParser;
+import org.fife.ui.rsyntaxtextarea.parser.DefaultParseResult;
+import org.fife.ui.rsyntaxtextarea.parser.DefaultParserNotice;
+import org.fife.ui.rsyntaxtextarea.parser.ParseResult;
+import org.fife.ui.rsyntaxtextarea.parser.Parser;
+import org.fife.ui.rsyntaxtextarea.parser.ParserNotice;
+
+import net.mtrop.doom.tools.decohack.DecoHackParser;
+import net.mtrop.doom.tools.gui.managers.DoomToolsLogger;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.struct.LoggingFactory.Logger;
+import net.mtrop.doom.tools.struct.swing.SwingUtils;
+
+/**
+ * A text area parser that compiles a DECOHack source in the background, and reports its
+ * errors and warnings as parser notices.
+ * <p>
+ * The text area calls this after its parser delay, once typing stops. The text is copied on the
+ * Swing thread, but it is compiled on the {@link DoomToolsTaskManager}, so large sources do not block the editor.
+ * Until the compile finishes, the previous notices are kept. Only one compile runs at a time per editor -
+ * if the text changed during a compile, it is compiled again when that one finishes.
+ * <p>
+ * The source is compiled as it is in the editor, under its file's path, so the files that it includes
+ * are read relative to it, as they would be on export. Problems found in an included file are reported on the first line.
+ * <p>
+ * When a compile succeeds, the thing aliases, weapon aliases, and state labels that it defined are
+ * offered as completions in the editor as well (see {@link DecoHackCompletionProvider#setUserCompletions(javax.swing.text.Document, List)}).
+ * @author Matthew Tropiano
+ */
+public class DecoHackDiagnosticParser extends AbstractParser
+{
+	/** Logger. */
+	private static final Logger LOG = DoomToolsLogger.getLogger(DecoHackDiagnosticParser.class);
+
+	private final Supplier<File> sourceFileSupplier;
+	private final Supplier<Charset> charsetSupplier;
+	private final DecoHackCompletionProvider completionProvider;
+	private final Consumer<Parser> reparser;
+
+	// Only used on the Swing thread.
+
+	/** The text of the last (or current) compile. */
+	private String lastText;
+	/** Is a compile running? */
+	private boolean running;
+	/** The last result. */
+	private DefaultParseResult lastResult;
+
+	/**
+	 * Creates a new diagnostic parser.
+	 * @param sourceFileSupplier supplies the editor's current source file (can supply null, if not saved).
+	 * @param charsetSupplier supplies the editor's current charset.
+	 * @param completionProvider the completion provider to add the defined aliases and labels to. Can be null.
+	 * @param reparser called on the Swing thread with this parser when a compile finishes, in order to make its text area fetch the new result
+	 * 		(usually <code>RSyntaxTextArea.forceReparsing(Parser)</code>).
+	 */
+	public DecoHackDiagnosticParser(Supplier<File> sourceFileSupplier, Supplier<Charset> charsetSupplier, DecoHackCompletionProvider completionProvider, Consumer<Parser> reparser)
+	{
+		this.sourceFileSupplier = sourceFileSupplier;
+		this.charsetSupplier = charsetSupplier;
+		this.completionProvider = completionProvider;
+		this.reparser = reparser;
+		this.lastText = null;
+		this.running = false;
+		this.lastResult = new DefaultParseResult(this);
+	}
+
+	@Override
+	public ParseResult parse(RSyntaxDocument doc, String style)
+	{
+		String text;
+		try {
+			text = doc.getText(0, doc.getLength());
+		} catch (BadLocationException e) {
+			return lastResult;
+		}
+
+		// Already compiled or compiling this text, or will compile it after the current one.
+		if (running || text.equals(lastText))
+			return lastResult;
+
+		lastText = text;
+		running = true;
+
+		final File sourceFile = sourceFileSupplier.get();
+		final Charset charset = charsetSupplier.get();
+		final String streamName = sourceFile != null ? sourceFile.getPath() : DecoHackParser.STREAMNAME_TEXT;
+		final int lineCount = doc.getDefaultRootElement().getElementCount();
+
+		DoomToolsTaskManager.get().spawn(() -> {
+			long start = System.currentTimeMillis();
+			DefaultParseResult result = new DefaultParseResult(this);
+			List<Completion> completions = null;
+
+			try {
+				DecoHackParser.Result compiled = DecoHackParser.read(streamName, new ByteArrayInputStream(text.getBytes(charset)), charset);
+				for (DecoHackParser.Message message : compiled.getMessages())
+					result.addNotice(createNotice(message, streamName, lineCount));
+				if (compiled.getContext() != null && completionProvider != null)
+					completions = completionProvider.createUserCompletions(compiled.getContext());
+			} catch (IOException | RuntimeException e) {
+				LOG.errorf(e, "Could not compile DECOHack source for diagnostics: %s", streamName);
+				result.addNotice(new DefaultParserNotice(this, e.getClass().getSimpleName() + ": " + e.getLocalizedMessage(), 0));
+			}
+
+			result.setParsedLines(0, lineCount - 1);
+			result.setParseTime(System.currentTimeMillis() - start);
+			LOG.debugf("Compiled %s for diagnostics in %d ms: %d notice(s).", streamName, result.getParseTime(), result.getNotices().size());
+
+			final List<Completion> userCompletions = completions;
+			SwingUtils.invoke(() -> {
+				running = false;
+				lastResult = result;
+				if (userCompletions != null)
+					completionProvider.setUserCompletions(doc, userCompletions);
+				// Fetches the new result, and starts a new compile if the text changed since.
+				reparser.accept(this);
+			});
+		});
+
+		return lastResult;
+	}
+
+	private DefaultParserNotice createNotice(DecoHackParser.Message message, String streamName, int lineCount)
+	{
+		int line;
+		if (message.getLineNumber() < 0) // end of stream.
+			line = lineCount - 1;
+		else if (streamName.equals(message.getStreamName()))
+			line = Math.min(message.getLineNumber(), lineCount) - 1;
+		else // in an included file.
+			line = 0;
+
+		DefaultParserNotice out = new DefaultParserNotice(this, message.getText(), Math.max(line, 0));
+		out.setLevel(message.isError() ? ParserNotice.Level.ERROR : ParserNotice.Level.WARNING);
+		out.setShowInEditor(true);
+		return out;
+	}
+
+}
@@ -40,6 +40,9 @@ public final class DoomToolsSettingsManager extends DoomToolsSettings
 	private static final String PATH_LAST_PROJECT = "path.lastProject";
 	private static final String PATH_LAST_SAVE = "path.lastSave";
 	private static final String PATH_CHOOSER_DEFAULT = "path.chooser.default";
+	private static final String TASK_THREADS = "task.threads";
+	private static final String TASK_VIRTUAL_THREADS = "task.virtualThreads";
+	private static final String OUTPUT_MAX_LINES = "output.maxLines";
 
 	/* ==================================================================== */
 
@@ -147,4 +150,61 @@ public final class DoomToolsSettingsManager extends DoomToolsSettings
 		return getFile(PATH_CHOOSER_DEFAULT);
 	}
 
+	/**
+	 * Sets the amount of threads for background tasks.
+	 * Takes effect on the next start.
+	 * @param threads the amount of threads, or 0 for the amount of processors.
+	 */
+	public void setTaskThreadCount(int threads) 
+	{
+		setInteger(TASK_THREADS, Math.max(0, threads));
+		commit();
+	}
+
+	/**
+	 * @return the amount of threads for background tasks, or 0 for the amount of processors.
+	 */
+	public int getTaskThreadCount() 
+	{
+		return getInteger(TASK_THREADS, 0);
+	}
+
+	/**
+	 * Sets if waiting tasks (tool runs, repository commands) should use virtual threads, if the JVM supports them.
+	 * Takes effect on the next start.
+	 * @param enabled true to enable, false to disable.
+	 */
+	public void setTaskVirtualThreads(boolean enabled) 
+	{
+		setBoolean(TASK_VIRTUAL_THREADS, enabled);
+		commit();
+	}
+
+	/**
+	 * @return true if waiting tasks should use virtual threads, if the JVM supports them.
+	 */
+	public boolean getTaskVirtualThreads() 
+	{
+		return getBoolean(TASK_VIRTUAL_THREADS, true);
+	}
+
+	/**
+	 * Sets the maximum amount of lines kept in tool output panels.
+	 * Takes effect on the next opened panel.
+	 * @param lines the amount of lines (minimum 100).
+	 */
+	public void setOutputMaxLines(int lines) 
+	{
+		setInteger(OUTPUT_MAX_LINES, Math.max(100, lines));
+		commit();
+	}
+
+	/**
+	 * @return the maximum amount of lines kept in tool output panels.
+	 */
+	public int getOutputMaxLines() 
+	{
+		return Math.max(100, getInteger(OUTPUT_MAX_LINES, 10000));
+	}
+
 }
@@ -65,11 +65,13 @@ import net.mtrop.doom.tools.gui.managers.DoomToolsGUIUtils.HelpSource;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLanguageManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLogger;
 import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
 import net.mtrop.doom.tools.gui.managers.settings.DoomToolsSettingsManager;
 import net.mtrop.doom.tools.gui.swing.panels.DoomToolsAboutJavaPanel;
 import net.mtrop.doom.tools.gui.swing.panels.DoomToolsAboutPanel;
 import net.mtrop.doom.tools.gui.swing.panels.DoomToolsDesktopPane;
 import net.mtrop.doom.tools.gui.swing.panels.DoomToolsProgressPanel;
+import net.mtrop.doom.tools.gui.swing.panels.DoomToolsTaskDiagnosticsPanel;
 import net.mtrop.doom.tools.gui.swing.panels.settings.DoomToolsSettingsPanel;
 import net.mtrop.doom.tools.struct.InstancedFuture;
 import net.mtrop.doom.tools.struct.LoggingFactory.Logger;
@@ -355,6 +357,7 @@ public class DoomToolsMainWindow extends JFrame
 					utils.createItemFromLanguageKey("doomtools.menu.help.item.about", (i) -> openAboutModal()),
 					utils.createItemFromLanguageKey("doomtools.menu.help.item.about.java", (i) -> openAboutJavaModal()),
 					utils.createItemFromLanguageKey("doomtools.menu.help.item.licenses", (i) -> openLicensesModal()),
+					utils.createItemFromLanguageKey("doomtools.menu.help.item.tasks", (i) -> openTaskDiagnosticsModal()),
 					separator()
 				),
 				AppCommon.get().getCommonHelpMenuItems(),
@@ -385,6 +388,15 @@ public class DoomToolsMainWindow extends JFrame
 		).openThenDispose();
 	}
 	
+	private void openTaskDiagnosticsModal()
+	{
+		modal(this, utils.getWindowIcons(), 
+			language.getText("doomtools.tasks.title"), 
+			new DoomToolsTaskDiagnosticsPanel(), 
+			choice("OK", KeyEvent.VK_O, (Object)null)
+		).openThenDispose();
+	}
+	
 	private void openLicensesModal()
 	{
 		String[] licenses = {
@@ -538,7 +550,7 @@ public class DoomToolsMainWindow extends JFrame
 		
 		try {
 			
-			InstancedFuture<Integer> instance = tasks.spawn(new DoomToolsUpdater(new File(path), listener));
+			InstancedFuture<Integer> instance = tasks.spawn(Lane.IO, new DoomToolsUpdater(new File(path), listener));
 			progressModal.openThenDispose(); // will hold here until closed.
 			if (!instance.isDone())
 				instance.cancel();
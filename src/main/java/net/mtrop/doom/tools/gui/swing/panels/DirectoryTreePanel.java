@@ -22,16 +22,22 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import javax.swing.DropMode;
 import javax.swing.JLabel;
@@ -59,6 +65,7 @@ import net.mtrop.doom.tools.gui.managers.DoomToolsGUIUtils;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLanguageManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLogger;
 import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
 import net.mtrop.doom.tools.struct.InstancedFuture;
 import net.mtrop.doom.tools.struct.LoggingFactory.Logger;
 import net.mtrop.doom.tools.struct.swing.ClipboardUtils;
@@ -91,7 +98,10 @@ public class DirectoryTreePanel extends JPanel
 
 	static
 	{
-		CHILD_COMPARATOR = (a, b) -> FileUtils.getFileListComparator().compare(a.file, b.file);
+		// directories first, then by name.
+		CHILD_COMPARATOR = (a, b) -> a.directory == b.directory
+			? FileUtils.getFileComparator().compare(a.file, b.file)
+			: (a.directory ? -1 : 1);
 	}
 	
 	// =======================================================================
@@ -286,10 +296,54 @@ public class DirectoryTreePanel extends JPanel
 	
 	/**
 	 * Refresh the tree.
+	 * Only directories that were already listed are listed again (in the background), and only the
+	 * differences are applied, so that expanded directories and the selection are kept.
 	 */
 	public void refresh()
 	{
-		((FileTreeModel)fileTree.getModel()).reload();
+		SwingUtils.invoke(() -> {
+			List<FileNode> listed = new LinkedList<>();
+			collectListedNodes((FileNode)fileTree.getModel().getRoot(), listed);
+			relistNodes(listed);
+		});
+	}
+	
+	/**
+	 * Refreshes the parts of the tree that contain a set of changed files (created, modified, or deleted),
+	 * for example, from a {@link net.mtrop.doom.tools.struct.WatchServiceThread}.
+	 * Only the parent directories of the files that were already listed are listed again, in the background,
+	 * and only the differences are applied. Files in directories that were not listed yet are ignored,
+	 * since they will be listed when they are expanded.
+	 * <p>This can be called from any thread.
+	 * @param changedFiles the changed files.
+	 */
+	public void refreshFiles(Collection<File> changedFiles)
+	{
+		final List<File> files = new ArrayList<>(changedFiles);
+		tasks.spawn(() -> {
+			Set<File> parents = new HashSet<>();
+			for (File file : files)
+			{
+				File parent = file.getAbsoluteFile().getParentFile();
+				if (parent != null)
+					parents.add(parent);
+			}
+			
+			final Set<File> directories = new HashSet<>();
+			for (File parent : parents)
+				directories.add(FileUtils.canonizeFile(parent));
+			
+			SwingUtils.invoke(() -> {
+				List<FileNode> nodes = new LinkedList<>();
+				for (File directory : directories)
+				{
+					FileNode node = getListedNodeForFile(directory);
+					if (node != null)
+						nodes.add(node);
+				}
+				relistNodes(nodes);
+			});
+		});
 	}
 	
 	/**
@@ -429,6 +483,10 @@ public class DirectoryTreePanel extends JPanel
 				nextFile = new File(filePathString);
 			}
 
+			// List now, if not listed yet (the tree needs to know).
+			if (currentNode.refreshChildren())
+				((FileTreeModel)fileTree.getModel()).nodeStructureChanged(currentNode);
+			
 			int index = currentNode.getIndex(new FileNode(currentNode, nextFile));
 			if (index >= 0)
 			{
@@ -446,6 +504,53 @@ public class DirectoryTreePanel extends JPanel
 		return new TreePath(treeNodes.toArray(new Object[treeNodes.size()]));
 	}
 	
+	// Gets the node for a directory path, only if it and its parents were listed already.
+	private FileNode getListedNodeForFile(File directory)
+	{
+		FileNode currentNode = (FileNode)((FileTreeModel)fileTree.getModel()).getRoot();
+		String rootPath = currentNode.file.getPath();
+		String path = directory.getPath();
+		
+		if (FileUtils.getFileComparator().compare(currentNode.file, directory) == 0)
+			return currentNode.children != null ? currentNode : null;
+		if (path.length() <= rootPath.length() || !path.substring(0, rootPath.length()).equalsIgnoreCase(rootPath))
+			return null;
+		
+		String[] names = path.substring(rootPath.length()).split(Pattern.quote(File.separator));
+		for (String name : names)
+		{
+			if (name.isEmpty())
+				continue;
+			if (currentNode.children == null)
+				return null;
+			
+			File nextFile = new File(currentNode.file, name);
+			FileNode nextNode = null;
+			for (FileNode child : currentNode.children)
+			{
+				if (child.directory && FileUtils.getFileComparator().compare(child.file, nextFile) == 0)
+				{
+					nextNode = child;
+					break;
+				}
+			}
+			if (nextNode == null)
+				return null;
+			currentNode = nextNode;
+		}
+		return currentNode.children != null ? currentNode : null;
+	}
+	
+	// Collects all nodes that were listed.
+	private static void collectListedNodes(FileNode node, List<FileNode> out)
+	{
+		if (node.children == null)
+			return;
+		out.add(node);
+		for (FileNode child : node.children)
+			collectListedNodes(child, out);
+	}
+	
 	private String getNewName(File targetDirectory, String namePrefix, String title, String message)
 	{
 		int i = 1;
@@ -497,11 +602,7 @@ public class DirectoryTreePanel extends JPanel
 		try {
 			File newFile = new File(newFilePath);
 			if (!newFile.exists() && FileUtils.touch(newFile))
-			{
-				FileNode node = (FileNode)fileTree.getSelectionPath().getLastPathComponent();
-				node.insert(new FileNode(node, newFile), 0);
-				reloadNode(node);
-			}
+				reloadNode((FileNode)fileTree.getSelectionPath().getLastPathComponent());
 		} catch (IOException e) {
 			SwingUtils.error(this, language.getText("dirtree.newfile.error.ioerror", e.getLocalizedMessage()));
 		} catch (SecurityException e) {
@@ -531,11 +632,7 @@ public class DirectoryTreePanel extends JPanel
 		try {
 			File newFile = new File(newFilePath);
 			if (newFile.mkdir())
-			{
-				FileNode node = (FileNode)fileTree.getSelectionPath().getLastPathComponent();
-				node.insert(new FileNode(node, newFile), 0);
-				reloadNode(node);
-			}
+				reloadNode((FileNode)fileTree.getSelectionPath().getLastPathComponent());
 		} catch (SecurityException e) {
 			SwingUtils.error(this, language.getText("dirtree.newfile.error.security", e.getLocalizedMessage()));
 		}
@@ -566,7 +663,10 @@ public class DirectoryTreePanel extends JPanel
 	private void onRefreshSelectedFiles()
 	{
 		for (TreePath path : fileTree.getSelectionPaths())
-			reloadNode((FileNode)path.getLastPathComponent());
+		{
+			FileNode node = (FileNode)path.getLastPathComponent();
+			reloadNode(node.directory || node.parent == null ? node : node.parent);
+		}
 	}
 
 	/**
@@ -777,9 +877,175 @@ public class DirectoryTreePanel extends JPanel
 		fileTree.clearSelection();
 	}
 
+	// Lists a directory node again, and applies the differences.
 	private void reloadNode(FileNode node)
 	{
-		((FileTreeModel)fileTree.getModel()).reload(node);
+		relistNodes(Collections.singletonList(node));
+	}
+
+	/**
+	 * Lists a set of directory nodes in the background, then applies the differences on the Swing thread.
+	 * Nodes that are already being listed are listed again after that finishes.
+	 * Must be called from the Swing thread.
+	 * @param nodes the nodes to list.
+	 */
+	private void relistNodes(Collection<FileNode> nodes)
+	{
+		final List<FileNode> toList = new ArrayList<>(nodes.size());
+		for (FileNode node : nodes)
+		{
+			if (!node.directory)
+				continue;
+			if (node.listing)
+				node.stale = true;
+			else
+			{
+				node.listing = true;
+				toList.add(node);
+			}
+		}
+		
+		if (toList.isEmpty())
+			return;
+		
+		tasks.spawn(() -> {
+			final List<List<FileNode>> listings = new ArrayList<>(toList.size());
+			for (FileNode node : toList)
+				listings.add(node.listChildren());
+			
+			SwingUtils.invoke(() -> {
+				List<FileNode> staleNodes = new LinkedList<>();
+				for (int i = 0; i < toList.size(); i++)
+				{
+					FileNode node = toList.get(i);
+					node.listing = false;
+					applyChildren(node, listings.get(i));
+					if (node.stale)
+					{
+						node.stale = false;
+						staleNodes.add(node);
+					}
+				}
+				if (!staleNodes.isEmpty())
+					relistNodes(staleNodes);
+			});
+		});
+	}
+	
+	/**
+	 * Applies a new listing to a node, firing events for only the removed and added children.
+	 * Children that are still there are kept as they are (along with their own children).
+	 * Must be called from the Swing thread.
+	 * @param node the node.
+	 * @param listed the new children, in order, or null if the directory could not be listed.
+	 */
+	private void applyChildren(FileNode node, List<FileNode> listed)
+	{
+		FileTreeModel model = (FileTreeModel)fileTree.getModel();
+		FileNode top = node;
+		while (top.parent != null)
+			top = top.parent;
+		if (top != model.getRoot())
+			return; // root changed since.
+		
+		if (listed == null)
+			listed = Collections.emptyList();
+		
+		synchronized (node)
+		{
+			if (node.children == null)
+			{
+				node.children = new ArrayList<>(listed);
+				if (!listed.isEmpty())
+				{
+					int[] indices = new int[listed.size()];
+					for (int i = 0; i < indices.length; i++)
+						indices[i] = i;
+					model.nodesWereInserted(node, indices);
+				}
+				return;
+			}
+			
+			Map<File, FileNode> listedMap = new HashMap<>(listed.size() * 2);
+			for (FileNode child : listed)
+				listedMap.put(child.file, child);
+			
+			// Removed (or changed between file and directory).
+			List<Integer> removedIndices = new ArrayList<>();
+			List<FileNode> removedNodes = new ArrayList<>();
+			Map<File, FileNode> existingMap = new HashMap<>(node.children.size() * 2);
+			for (int i = 0; i < node.children.size(); i++)
+			{
+				FileNode child = node.children.get(i);
+				FileNode found = listedMap.get(child.file);
+				if (found == null || found.directory != child.directory)
+				{
+					removedIndices.add(i);
+					removedNodes.add(child);
+				}
+				else
+				{
+					existingMap.put(child.file, child);
+				}
+			}
+			
+			if (!removedIndices.isEmpty())
+			{
+				for (int i = removedIndices.size() - 1; i >= 0; i--)
+					node.children.remove((int)removedIndices.get(i));
+				int[] indices = new int[removedIndices.size()];
+				for (int i = 0; i < indices.length; i++)
+					indices[i] = removedIndices.get(i);
+				model.nodesWereRemoved(node, indices, removedNodes.toArray());
+			}
+			
+			// Added.
+			List<FileNode> added = new ArrayList<>();
+			for (FileNode child : listed)
+			{
+				if (!existingMap.containsKey(child.file))
+				{
+					int index = Collections.binarySearch(node.children, child, CHILD_COMPARATOR);
+					node.children.add(index < 0 ? -index - 1 : index, child);
+					added.add(child);
+				}
+			}
+			
+			if (!added.isEmpty())
+			{
+				int[] indices = new int[added.size()];
+				for (int i = 0; i < indices.length; i++)
+					indices[i] = indexOfNode(node.children, added.get(i));
+				Arrays.sort(indices);
+				model.nodesWereInserted(node, indices);
+			}
+		}
+	}
+
+	// Index of a node by identity.
+	private static int indexOfNode(List<FileNode> list, FileNode node)
+	{
+		int i = 0;
+		for (FileNode n : list)
+		{
+			if (n == node)
+				return i;
+			i++;
+		}
+		return -1;
+	}
+	
+	// Removes a node from its parent, firing an event.
+	private void removeNode(FileNode node)
+	{
+		FileNode parent = node.parent;
+		if (parent == null || parent.children == null)
+			return;
+		int index = indexOfNode(parent.children, node);
+		if (index < 0)
+			return;
+		parent.children.remove(index);
+		((FileTreeModel)fileTree.getModel()).nodesWereRemoved(parent, new int[]{index}, new Object[]{node});
 	}
 
 	private void doFileRelocate(File parent, File[] filesToPaste, Boolean overwrite, String titleKey, String resultKey) 
@@ -800,7 +1066,7 @@ public class DirectoryTreePanel extends JPanel
 			node(BorderLayout.SOUTH, progressBar)
 		));
 		
-		InstancedFuture<Void> copyTask = tasks.spawn(createCopyTask(parent, filesToPaste, overwrite, cancelSwitch, result, (file) -> {
+		InstancedFuture<Void> copyTask = tasks.spawn(Lane.BULK, createCopyTask(parent, filesToPaste, overwrite, cancelSwitch, result, (file) -> {
 			fileLabel.setText(file != null ? file.getName() + "..." : "");
 			progressBar.setValue(result.get());
 			if (result.get() == fileCount)
@@ -1103,7 +1369,10 @@ public class DirectoryTreePanel extends JPanel
 		@Override
 		public void treeWillExpand(TreeExpansionEvent event) throws ExpandVetoException
 		{
-			// Do nothing.
+			// Pick up changes since it was last listed.
+			FileNode node = (FileNode)event.getPath().getLastPathComponent();
+			if (node.children != null)
+				reloadNode(node);
 		}
 
 		@Override
@@ -1121,7 +1390,7 @@ public class DirectoryTreePanel extends JPanel
 		@Override
 		public void treeCollapsed(TreeExpansionEvent event) 
 		{
-			reloadNode((FileNode)event.getPath().getLastPathComponent());
+			// Do nothing.
 		}
 
 	}
@@ -1175,8 +1444,14 @@ public class DirectoryTreePanel extends JPanel
 		private FileNode parent;
 		/** The file. */
 		private File file;
-		/** List of children. */
+		/** If the file is a directory (kept for sorting and drawing without touching the filesystem). */
+		private boolean directory;
+		/** List of children, or null if not listed yet. */
 		private ArrayList<FileNode> children;
+		/** If the children are being listed in the background (Swing thread only). */
+		private boolean listing;
+		/** If the children changed during a background listing (Swing thread only). */
+		private boolean stale;
 		
 		/**
 		 * Creates a node.
@@ -1187,7 +1462,10 @@ public class DirectoryTreePanel extends JPanel
 		{
 			this.parent = parent;
 			this.file = FileUtils.canonizeFile(file);
+			this.directory = this.file.isDirectory();
 			this.children = null;
+			this.listing = false;
+			this.stale = false;
 		}
 
 		/**
@@ -1199,22 +1477,38 @@ public class DirectoryTreePanel extends JPanel
 		}
 		
 		/**
-		 * Refreshes the children.
+		 * Lists this node's directory, without changing this node. 
+		 * Can be called off of the Swing thread.
+		 * @return the new list of child nodes, sorted, or null if this could not be listed.
 		 */
-		public synchronized void refreshChildren()
+		private List<FileNode> listChildren()
 		{
-			if (children != null)
-				return;
-			
 			File[] files = file.listFiles();
 			if (files == null)
-				return;
-			
-			Arrays.sort(files, FileUtils.getFileListComparator());
+				return null;
 			
-			children = new ArrayList<>(files.length);
+			List<FileNode> out = new ArrayList<>(files.length);
 			for (int i = 0; i < files.length; i++) 
-				children.add(new FileNode(this, files[i]));
+				out.add(new FileNode(this, files[i]));
+			out.sort(CHILD_COMPARATOR);
+			return out;
+		}
+		
+		/**
+		 * Refreshes the children now, if they were not listed yet.
+		 * @return true if the children were listed by this call, false if not.
+		 */
+		public synchronized boolean refreshChildren()
+		{
+			if (children != null)
+				return false;
+			
+			List<FileNode> listed = listChildren();
+			if (listed == null)
+				return false;
+			
+			children = new ArrayList<>(listed);
+			return true;
 		}
 
 		@Override
@@ -1227,8 +1521,14 @@ public class DirectoryTreePanel extends JPanel
 		@Override
 		public int getChildCount() 
 		{
-			refreshChildren();
-			return children == null ? 0 : children.size();
+			// Called by the tree while drawing: list in the background, and add the children when done.
+			if (children == null)
+			{
+				if (directory && !listing)
+					reloadNode(this);
+				return 0;
+			}
+			return children.size();
 		}
 
 		@Override
@@ -1247,13 +1547,13 @@ public class DirectoryTreePanel extends JPanel
 		@Override
 		public boolean getAllowsChildren() 
 		{
-			return file.isDirectory();
+			return directory;
 		}
 
 		@Override
 		public boolean isLeaf() 
 		{
-			return !file.isDirectory();
+			return !directory;
 		}
 
 		@Override
@@ -1266,7 +1566,7 @@ public class DirectoryTreePanel extends JPanel
 		@Override
 		public void insert(MutableTreeNode child, int index)
 		{
-			if (child instanceof FileNode)
+			if (child instanceof FileNode && children != null)
 			{
 				FileNode childNode = (FileNode)child;
 				children.add(index, childNode);
@@ -1277,13 +1577,14 @@ public class DirectoryTreePanel extends JPanel
 		@Override
 		public void remove(int index) 
 		{
-			children.remove(index);
+			if (children != null)
+				children.remove(index);
 		}
 
 		@Override
 		public void remove(MutableTreeNode node)
 		{
-			if (node instanceof FileNode)
+			if (node instanceof FileNode && children != null)
 			{
 				FileNode fileNode = (FileNode)node;
 				children.remove(fileNode);
@@ -1300,11 +1601,14 @@ public class DirectoryTreePanel extends JPanel
 				File newFile = new File(oldFile.getParent() + File.separator + String.valueOf(object));
 				if (oldFile.renameTo(new File(oldFile.getParent() + File.separator + String.valueOf(object))))
 				{
-					file = newFile;
+					file = FileUtils.canonizeFile(newFile);
 					if (directoryTreeListener != null)
 						directoryTreeListener.onFileRename(oldFile, String.valueOf(object));
 					SwingUtils.invoke(() -> {
-						reloadNode(this);
+						// re-add in sorted order.
+						removeNode(this);
+						if (parent != null)
+							reloadNode(parent);
 						selectNone();
 					});
 				}
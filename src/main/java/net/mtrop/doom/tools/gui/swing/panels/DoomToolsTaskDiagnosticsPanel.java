@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.gui.swing.panels;
+
+import java.awt.BorderLayout;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+import net.mtrop.doom.tools.gui.managers.DoomToolsGUIUtils;
+import net.mtrop.doom.tools.gui.managers.DoomToolsLanguageManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Metrics;
+import net.mtrop.doom.tools.struct.swing.ClipboardUtils;
+
+import static net.mtrop.doom.tools.struct.swing.ContainerFactory.*;
+import static net.mtrop.doom.tools.struct.swing.ComponentFactory.*;
+import static net.mtrop.doom.tools.struct.swing.LayoutFactory.*;
+
+/**
+ * A panel that shows the background task metrics per lane.
+ * Refreshes itself while it is showing.
+ * @author Matthew Tropiano
+ */
+public class DoomToolsTaskDiagnosticsPanel extends JPanel
+{
+	private static final long serialVersionUID = -2702155467329542064L;
+
+	/** Refresh interval in milliseconds. */
+	private static final int REFRESH_MILLIS = 500;
+
+	/** Task manager singleton. */
+	private final DoomToolsTaskManager tasks;
+	/** Language singleton. */
+	private final DoomToolsLanguageManager language;
+
+	private JLabel metricsLabel;
+	private Timer refreshTimer;
+
+	/**
+	 * Creates the diagnostics panel.
+	 */
+	public DoomToolsTaskDiagnosticsPanel()
+	{
+		DoomToolsGUIUtils utils = DoomToolsGUIUtils.get();
+		this.tasks = DoomToolsTaskManager.get();
+		this.language = DoomToolsLanguageManager.get();
+		this.metricsLabel = label();
+		this.refreshTimer = new Timer(REFRESH_MILLIS, (e) -> refresh());
+
+		containerOf(this,
+			node(BorderLayout.CENTER, metricsLabel),
+			node(BorderLayout.SOUTH, containerOf(flowLayout(Flow.TRAILING),
+				node(utils.createButtonFromLanguageKey("doomtools.tasks.copy", (b) -> {
+					ClipboardUtils.sendStringToClipboard(createText());
+				}))
+			))
+		);
+		refresh();
+	}
+
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		refreshTimer.start();
+	}
+
+	@Override
+	public void removeNotify()
+	{
+		refreshTimer.stop();
+		super.removeNotify();
+	}
+
+	private void refresh()
+	{
+		StringBuilder sb = new StringBuilder("<html><table cellpadding=\"2\">");
+		sb.append("<tr>");
+		sb.append("<th align=\"left\">").append(language.getText("doomtools.tasks.lane")).append("</th>");
+		sb.append("<th align=\"left\">").append(language.getText("doomtools.tasks.threads")).append("</th>");
+		sb.append("<th align=\"right\">").append(language.getText("doomtools.tasks.queued")).append("</th>");
+		sb.append("<th align=\"right\">").append(language.getText("doomtools.tasks.running")).append("</th>");
+		sb.append("<th align=\"right\">").append(language.getText("doomtools.tasks.completed")).append("</th>");
+		sb.append("<th align=\"right\">").append(language.getText("doomtools.tasks.failed")).append("</th>");
+		sb.append("<th align=\"right\">").append(language.getText("doomtools.tasks.wait")).append("</th>");
+		sb.append("<th align=\"right\">").append(language.getText("doomtools.tasks.run")).append("</th>");
+		sb.append("</tr>");
+		for (Lane lane : Lane.values())
+		{
+			Metrics metrics = tasks.getMetrics(lane);
+			sb.append("<tr>");
+			sb.append("<td><b>").append(lane.name()).append("</b></td>");
+			sb.append("<td>").append(metrics.getDescription()).append("</td>");
+			sb.append("<td align=\"right\">").append(metrics.getQueued()).append("</td>");
+			sb.append("<td align=\"right\">").append(metrics.getRunning()).append("</td>");
+			sb.append("<td align=\"right\">").append(metrics.getCompleted()).append("</td>");
+			sb.append("<td align=\"right\">").append(metrics.getFailed()).append("</td>");
+			sb.append("<td align=\"right\">").append(metrics.getAverageWaitMillis()).append(" / ").append(metrics.getMaxWaitMillis()).append("</td>");
+			sb.append("<td align=\"right\">").append(metrics.getAverageRunMillis()).append(" / ").append(metrics.getMaxRunMillis()).append("</td>");
+			sb.append("</tr>");
+		}
+		sb.append("</table></html>");
+		metricsLabel.setText(sb.toString());
+	}
+
+	private String createText()
+	{
+		StringBuilder sb = new StringBuilder();
+		for (Lane lane : Lane.values())
+		{
+			Metrics metrics = tasks.getMetrics(lane);
+			sb.append(lane.name()).append(" (").append(metrics.getDescription()).append("): ")
+				.append("queued ").append(metrics.getQueued())
+				.append(", running ").append(metrics.getRunning())
+				.append(", completed ").append(metrics.getCompleted())
+				.append(", failed ").append(metrics.getFailed())
+				.append(", wait avg/max ").append(metrics.getAverageWaitMillis()).append("/").append(metrics.getMaxWaitMillis()).append(" ms")
+				.append(", run avg/max ").append(metrics.getAverageRunMillis()).append("/").append(metrics.getMaxRunMillis()).append(" ms")
+				.append("\n");
+		}
+		return sb.toString();
+	}
+
+}
@@ -6,24 +6,31 @@
 package net.mtrop.doom.tools.gui.swing.panels;
 
 import java.awt.Font;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
-import java.io.Reader;
-import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 
 import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
 
 import net.mtrop.doom.tools.gui.managers.DoomToolsLogger;
+import net.mtrop.doom.tools.gui.managers.settings.DoomToolsSettingsManager;
 import net.mtrop.doom.tools.struct.LoggingFactory.Logger;
+import net.mtrop.doom.tools.struct.OutputLineBuffer;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.IOUtils;
 
@@ -31,6 +38,10 @@ import net.mtrop.doom.tools.struct.util.IOUtils;
  * Text output panel.
  * This panel also provides two streams for writing to the text panel like a console or to an optional log file.
  * Both streams are synchronized such that output does not step on each other.
+ * <p>
+ * Written text is gathered in an {@link OutputLineBuffer} and added to the text area in batches on a timer,
+ * so that very verbose output does not flood the Swing thread. Only the last few lines are kept in the text area
+ * (see {@link DoomToolsSettingsManager#getOutputMaxLines()}) - the log file gets everything.
  * @author Matthew Tropiano
  */
 public class DoomToolsTextOutputPanel extends JTextArea
@@ -42,16 +53,38 @@ public class DoomToolsTextOutputPanel extends JTextArea
 
 	private static final Font DEFAULT_FONT = new Font("Monospaced", Font.PLAIN, 12);
 	
+	/** Milliseconds between text area updates. */
+	private static final int UPDATE_MILLIS = 50;
+	/** Stream buffer size in bytes/chars. */
+	private static final int STREAM_BUFFER_SIZE = 8192;
+	
 	private Object printMutex;
 	private Writer logFileWriter;
 	
+	private final int maxLines;
+	private final OutputLineBuffer outputBuffer;
+	private final Timer updateTimer;
+	
 	/**
 	 * Creates a new output panel.
 	 */
 	public DoomToolsTextOutputPanel()
+	{
+		this(DoomToolsSettingsManager.get().getOutputMaxLines());
+	}
+
+	/**
+	 * Creates a new output panel.
+	 * @param maxLines the maximum amount of lines to keep in the panel.
+	 */
+	public DoomToolsTextOutputPanel(int maxLines)
 	{
 		super(25, 84);
 		this.printMutex = new Object();
+		this.maxLines = Math.max(1, maxLines);
+		this.outputBuffer = new OutputLineBuffer(this.maxLines);
+		this.updateTimer = new Timer(UPDATE_MILLIS, (e) -> update());
+		this.updateTimer.setRepeats(false);
 		setFont(DEFAULT_FONT);
 		setEditable(false);
 	}
@@ -62,7 +95,17 @@ public class DoomToolsTextOutputPanel extends JTextArea
 	 */
 	public DoomToolsTextOutputPanel(File logFile)
 	{
-		this();
+		this(logFile, DoomToolsSettingsManager.get().getOutputMaxLines());
+	}
+
+	/**
+	 * Creates a new output panel.
+	 * @param logFile the file to log the output to.
+	 * @param maxLines the maximum amount of lines to keep in the panel.
+	 */
+	public DoomToolsTextOutputPanel(File logFile, int maxLines)
+	{
+		this(maxLines);
 		this.logFileWriter = null;
 		try {
 			if (FileUtils.createPathForFile(logFile))
@@ -72,30 +115,42 @@ public class DoomToolsTextOutputPanel extends JTextArea
 		}
 	}
 
+	/**
+	 * @return the maximum amount of lines kept in this panel.
+	 */
+	public int getMaxLines()
+	{
+		return maxLines;
+	}
+	
 	/**
 	 * Writes a character to this panel.
 	 * @param c the character.
 	 */
 	public void writeChar(char c)
 	{
-		synchronized (printMutex) 
-		{
-			append(String.valueOf(c));
-			setCaretPosition(getDocument().getLength());
-		}
+		writeString(String.valueOf(c));
 	}
 	
 	/**
 	 * Writes a string to this panel.
+	 * The panel is updated shortly after.
 	 * @param str the string.
 	 */
 	public void writeString(String str)
 	{
-		synchronized (printMutex) 
-		{
-			append(str);
-			setCaretPosition(getDocument().getLength());
-		}
+		if (outputBuffer.append(str))
+			scheduleUpdate();
+	}
+	
+	/**
+	 * Adds all pending output to the text area right away.
+	 * Must be called from the Swing thread.
+	 */
+	public void flushOutput()
+	{
+		updateTimer.stop();
+		update();
 	}
 	
 	/**
@@ -130,15 +185,82 @@ public class DoomToolsTextOutputPanel extends JTextArea
 		return new PrintStream(new Printer()); // do not enable flush - Printer auto-flushes.
 	}
 	
+	private void scheduleUpdate()
+	{
+		SwingUtilities.invokeLater(() -> {
+			if (!updateTimer.isRunning())
+				updateTimer.start();
+		});
+	}
+	
+	// Called on the Swing thread.
+	private void update()
+	{
+		OutputLineBuffer.Drain drain = outputBuffer.drain();
+		if (drain == null)
+			return;
+		
+		Element root = getDocument().getDefaultRootElement();
+		if (drain.isReplace())
+		{
+			setText(drain.getText());
+		}
+		else
+		{
+			if (drain.isReplaceLine())
+			{
+				// The last element is the current line.
+				int start = root.getElement(root.getElementCount() - 1).getStartOffset();
+				try {
+					getDocument().remove(start, getDocument().getLength() - start);
+				} catch (BadLocationException e) {
+					// Should not happen.
+				}
+			}
+			append(drain.getText());
+		}
+		
+		// Trim to the line limit (the last element is the current line).
+		int excess = root.getElementCount() - 1 - maxLines;
+		if (excess > 0)
+		{
+			try {
+				getDocument().remove(0, root.getElement(excess).getStartOffset());
+			} catch (BadLocationException e) {
+				// Should not happen.
+			}
+		}
+		
+		setCaretPosition(getDocument().getLength());
+	}
+	
+	private void writeLog(char[] chars, int offset, int length) throws IOException
+	{
+		if (logFileWriter == null)
+			return;
+		synchronized (printMutex)
+		{
+			logFileWriter.write(chars, offset, length);
+			logFileWriter.flush();
+		}
+	}
+	
+	/**
+	 * Decodes written bytes into characters as they arrive, keeping incomplete characters for the next write.
+	 */
 	private class Printer extends OutputStream
 	{
-		private ByteArrayOutputStream buffer;
-		private StringWriter charBuffer;
+		private final CharsetDecoder decoder;
+		private final ByteBuffer byteBuffer;
+		private final CharBuffer charBuffer;
 		
 		public Printer()
 		{
-			this.buffer = new ByteArrayOutputStream(512);
-			this.charBuffer = new StringWriter(512);
+			this.decoder = Charset.defaultCharset().newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			this.byteBuffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+			this.charBuffer = CharBuffer.allocate(STREAM_BUFFER_SIZE);
 		}
 		
 		@Override
@@ -149,34 +271,54 @@ public class DoomToolsTextOutputPanel extends JTextArea
 		}
 		
 		@Override
-		public void flush() throws IOException 
+		public synchronized void flush() throws IOException 
 		{
-			if (buffer.size() == 0)
+			if (byteBuffer.position() == 0)
 				return;
 			
-			// TODO: Creates far too much garbage on flush. Write better in-place solution.
-			try (Reader reader = new InputStreamReader(new ByteArrayInputStream(buffer.toByteArray())))
-			{
-				charBuffer.getBuffer().delete(0, charBuffer.getBuffer().length());
-				IOUtils.relay(reader, charBuffer);
-				if (logFileWriter != null)
-				{
-					logFileWriter.append(charBuffer.toString());
-					logFileWriter.flush();
-				}
-			}
-			writeString(charBuffer.toString());
-			buffer.reset();
+			byteBuffer.flip();
+			CoderResult result;
+			do {
+				result = decoder.decode(byteBuffer, charBuffer, false);
+				emit();
+			} while (result.isOverflow());
+			byteBuffer.compact();
 		}
 		
 		@Override
-		public void write(int b) throws IOException 
+		public synchronized void write(int b) throws IOException 
 		{
-			buffer.write(b);
-			if (b == '\n')
+			byteBuffer.put((byte)b);
+			if (b == '\n' || !byteBuffer.hasRemaining())
 				flush();
 		}
 		
+		@Override
+		public synchronized void write(byte[] b, int off, int len) throws IOException 
+		{
+			while (len > 0)
+			{
+				int amount = Math.min(len, byteBuffer.remaining());
+				byteBuffer.put(b, off, amount);
+				off += amount;
+				len -= amount;
+				if (!byteBuffer.hasRemaining())
+					flush();
+			}
+			flush();
+		}
+		
+		private void emit() throws IOException
+		{
+			if (charBuffer.position() == 0)
+				return;
+			
+			writeLog(charBuffer.array(), 0, charBuffer.position());
+			if (outputBuffer.append(charBuffer.array(), 0, charBuffer.position()))
+				scheduleUpdate();
+			charBuffer.clear();
+		}
+		
 	}
 	
 }
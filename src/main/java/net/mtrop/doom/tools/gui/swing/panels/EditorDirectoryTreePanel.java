@@ -7,6 +7,7 @@ package net.mtrop.doom.tools.gui.swing.panels;
 
 import java.awt.BorderLayout;
 import java.io.File;
+import java.util.Collection;
 
 import javax.swing.JButton;
 import javax.swing.JLabel;
@@ -132,6 +133,16 @@ public class EditorDirectoryTreePanel extends JPanel
 		return rootDirectory;
 	}
 	
+	/**
+	 * Refreshes the parts of the tree that contain a set of changed files.
+	 * @param changedFiles the changed files (created, modified, or deleted).
+	 * @see DirectoryTreePanel#refreshFiles(Collection)
+	 */
+	public void refreshFiles(Collection<File> changedFiles)
+	{
+		treePanel.refreshFiles(changedFiles);
+	}
+	
 	/**
 	 * Sets the listener on the tree panel.
 	 * @param listener the tree listener.
@@ -65,6 +65,7 @@ import org.fife.ui.autocomplete.AutoCompletion;
 import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 import org.fife.ui.rsyntaxtextarea.SyntaxConstants;
 import org.fife.ui.rsyntaxtextarea.Theme;
+import org.fife.ui.rsyntaxtextarea.parser.Parser;
 import org.fife.ui.rtextarea.RTextArea;
 import org.fife.ui.rtextarea.RTextScrollPane;
 
@@ -2233,6 +2234,36 @@ public class EditorMultiFilePanel extends JPanel
 			editorPanel.textArea.setText(editorContent);
 		}
 
+		/**
+		 * Adds a parser to this editor's text area.
+		 * Its notices are shown in the editor and its gutter.
+		 * @param parser the parser to add.
+		 */
+		public void addParser(Parser parser)
+		{
+			editorPanel.textArea.addParser(parser);
+		}
+		
+		/**
+		 * Removes a parser from this editor's text area.
+		 * @param parser the parser to remove.
+		 * @return true if removed, false if it was not added.
+		 */
+		public boolean removeParser(Parser parser)
+		{
+			return editorPanel.textArea.removeParser(parser);
+		}
+		
+		/**
+		 * Forces a parser on this editor's text area to parse the content again, and refresh its notices.
+		 * @param parser the parser.
+		 * @return true if reparsed, false if it was not added.
+		 */
+		public boolean forceReparsing(Parser parser)
+		{
+			return editorPanel.textArea.forceReparsing(parser);
+		}
+
 		/**
 		 * @return the editor charset encoding.
 		 */
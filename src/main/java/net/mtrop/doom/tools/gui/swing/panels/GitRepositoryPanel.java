@@ -27,6 +27,7 @@ import javax.swing.JPopupMenu;
 import javax.swing.JTextArea;
 import javax.swing.ListModel;
 import javax.swing.ListSelectionModel;
+import javax.swing.Timer;
 import javax.swing.event.ListDataEvent;
 import javax.swing.event.ListDataListener;
 
@@ -35,8 +36,10 @@ import net.mtrop.doom.tools.gui.managers.DoomToolsGUIUtils;
 import net.mtrop.doom.tools.gui.managers.DoomToolsIconManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLanguageManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
 import net.mtrop.doom.tools.gui.RepositoryHelper.BranchStatus;
 import net.mtrop.doom.tools.gui.RepositoryHelper.Git;
+import net.mtrop.doom.tools.gui.RepositoryHelper.Snapshot;
 import net.mtrop.doom.tools.struct.Loader.LoaderFuture;
 import net.mtrop.doom.tools.struct.swing.FormFactory.JFormField;
 import net.mtrop.doom.tools.struct.swing.SwingUtils;
@@ -60,6 +63,9 @@ public class GitRepositoryPanel extends JPanel
 	
 	private static final Pattern BRANCH_REGEX = Pattern.compile("[!\"#$%&'()+,\\-0-9;<=>@A-Z\\]_`a-z{|}]+");
 	
+	/** Refresh requests made within this many milliseconds of the first are done as one. */
+	private static final int REFRESH_WINDOW_MILLIS = 150;
+	
 	private final DoomToolsGUIUtils utils;
 	private final DoomToolsLanguageManager language;
 	private final DoomToolsTaskManager tasks;
@@ -91,6 +97,11 @@ public class GitRepositoryPanel extends JPanel
 	private final JTextArea commitArea;
 	
 	private DoomToolsStatusPanel statusPanel;
+	
+	private final Timer refreshTimer;
+	// Only used on the Swing thread.
+	private boolean refreshRunning;
+	private boolean refreshQueued;
 
 	/**
 	 * Creates a Git repository management panel. 
@@ -181,11 +192,12 @@ public class GitRepositoryPanel extends JPanel
 		this.commitAction = utils.createActionFromLanguageKey("git.repo.commit", (e) -> onCommit());
 		this.pullAction = utils.createActionFromLanguageKey("git.repo.pull", (e) -> onPull());
 		this.pushAction = utils.createActionFromLanguageKey("git.repo.push", (e) -> onPush());
-		this.refreshAction = actionItem(refreshIcon.result(), (e) -> {
-			refreshInfoSynchronous();
-			refreshEntries();
-			refreshBranches();
-		});
+		this.refreshAction = actionItem(refreshIcon.result(), (e) -> refreshEntries());
+		
+		this.refreshTimer = new Timer(REFRESH_WINDOW_MILLIS, (e) -> onRefreshTimer());
+		this.refreshTimer.setRepeats(false);
+		this.refreshRunning = false;
+		this.refreshQueued = false;
 		
 		this.commitArea = textArea();
 		this.statusPanel = new DoomToolsStatusPanel();
@@ -257,62 +269,105 @@ public class GitRepositoryPanel extends JPanel
 			))
 		);
 		
-		refreshInfoSynchronous();
-		refreshEntries();
-		refreshBranches();
+		refreshSynchronous();
 	}
 	
-	public void refreshInfo()
+	/**
+	 * Requests a refresh of the branch status, the changes, and the branch list.
+	 * Requests made close together are done as one repository read, and if the
+	 * repository did not change since the last read, Git is not called at all.
+	 */
+	public void refresh()
 	{
-		tasks.spawn(() -> 
+		SwingUtils.invoke(() -> 
 		{
-			refreshInfoSynchronous();
+			if (!refreshTimer.isRunning())
+				refreshTimer.start();
 		});
 	}
 
-	public void refreshInfoSynchronous()
+	/**
+	 * Requests a refresh after working files may have changed, discarding the last read.
+	 * Only call this for file system changes (or an explicit refresh) - operations done through
+	 * the repository client discard it themselves, and index changes are detected.
+	 * @see #refresh()
+	 */
+	public void refreshEntries()
 	{
-		BranchStatus bs = client.fetchBranchStatus();
-		branchPanel.setText(bs.getName());
-		String remote = bs.getRemoteName();
-		remoteBranchPanel.setText(remote != null ? remote : "");
-		aheadBehindPanel.setText("+" + bs.getAhead() + ", " + "-" + bs.getBehind());
+		client.invalidate();
+		refresh();
 	}
 
-	public void refreshEntries()
+	/**
+	 * Refreshes the branch status, the changes, and the branch list on the calling thread.
+	 */
+	public void refreshSynchronous()
 	{
-		tasks.spawn(() -> 
+		applySnapshot(client.fetchSnapshot());
+	}
+
+	private void onRefreshTimer()
+	{
+		if (refreshRunning)
 		{
-			List<StatusEntry> staged = new LinkedList<>(); 
-			List<StatusEntry> unstaged = new LinkedList<>();
-			for (StatusEntry status : client.fetchStatus())
-			{
-				if (status.isStaged())
-					staged.add(status);
-				else
-					unstaged.add(status);
+			refreshQueued = true;
+			return;
+		}
+		
+		refreshRunning = true;
+		tasks.spawn(Lane.IO, () -> 
+		{
+			Snapshot snapshot = null;
+			try {
+				snapshot = client.fetchSnapshot();
+			} finally {
+				final Snapshot result = snapshot;
+				SwingUtils.invoke(() -> 
+				{
+					if (result != null)
+						applySnapshot(result);
+					refreshRunning = false;
+					if (refreshQueued)
+					{
+						refreshQueued = false;
+						onRefreshTimer();
+					}
+				});
 			}
-			stagedChangesModel.setEntries(staged.toArray(new StatusEntry[staged.size()]));
-			unstagedChangesModel.setEntries(unstaged.toArray(new StatusEntry[unstaged.size()]));
-			
-			stageAction.setEnabled(!unstaged.isEmpty());
-			stageAllAction.setEnabled(!unstaged.isEmpty());
-			unstageAction.setEnabled(!staged.isEmpty());
-			unstageAllAction.setEnabled(!staged.isEmpty());
 		});
 	}
-
-	public void refreshBranches()
+	
+	private void applySnapshot(Snapshot snapshot)
 	{
-		tasks.spawn(() ->
-		{
-			List<MenuNode> menuNodes = new LinkedList<>();
-			for (String branch : client.fetchBranches())
-				menuNodes.add(checkBoxItem(branch, branchPanel.getText().equals(branch), (c) -> onCheckout(branch)));
-			menuNodes.add(separator());
-			menuNodes.add(utils.createItemFromLanguageKey("git.repo.branch.create", (i) -> onBranchCreate()));
-			branchMenu = popupMenu(ArrayUtils.items(menuNodes, MenuNode.class));
-		});
+		BranchStatus bs = snapshot.getBranchStatus();
+		branchPanel.setText(bs.getName());
+		String remote = bs.getRemoteName();
+		remoteBranchPanel.setText(remote != null ? remote : "");
+		aheadBehindPanel.setText("+" + bs.getAhead() + ", " + "-" + bs.getBehind());
+
+		List<StatusEntry> staged = new LinkedList<>(); 
+		List<StatusEntry> unstaged = new LinkedList<>();
+		for (StatusEntry status : snapshot.getStatus())
+		{
+			if (status.isStaged())
+				staged.add(status);
+			else
+				unstaged.add(status);
+		}
+		stagedChangesModel.setEntries(staged.toArray(new StatusEntry[staged.size()]));
+		unstagedChangesModel.setEntries(unstaged.toArray(new StatusEntry[unstaged.size()]));
+		
+		stageAction.setEnabled(!unstaged.isEmpty());
+		stageAllAction.setEnabled(!unstaged.isEmpty());
+		unstageAction.setEnabled(!staged.isEmpty());
+		unstageAllAction.setEnabled(!staged.isEmpty());
+
+		List<MenuNode> menuNodes = new LinkedList<>();
+		for (String branch : snapshot.getBranches())
+			menuNodes.add(checkBoxItem(branch, branch.equals(bs.getName()), (c) -> onCheckout(branch)));
+		menuNodes.add(separator());
+		menuNodes.add(utils.createItemFromLanguageKey("git.repo.branch.create", (i) -> onBranchCreate()));
+		branchMenu = popupMenu(ArrayUtils.items(menuNodes, MenuNode.class));
 	}
 	
 	private void onBranchCreate()
@@ -340,12 +395,11 @@ public class GitRepositoryPanel extends JPanel
 		}
 		
 		setActionsEnabled(false);
-		tasks.spawn(() ->
+		tasks.spawn(Lane.IO, () -> 
 		{
 			if (client.branch(branch) == 0)
 				client.checkout(branch);
-			refreshInfoSynchronous();
-			refreshBranches();
+			refreshSynchronous();
 			setActionsEnabled(true);
 		});
 	}
@@ -381,7 +435,7 @@ public class GitRepositoryPanel extends JPanel
 		
 		statusPanel.setSuccessMessage(language.getText("git.repo.status.staged", paths.length));
 		
-		refreshEntries();
+		refresh();
 	}
 
 	private void onStageAll()
@@ -395,7 +449,7 @@ public class GitRepositoryPanel extends JPanel
 		}
 		
 		statusPanel.setSuccessMessage(language.getText("git.repo.status.staged.all"));
-		refreshEntries();
+		refresh();
 	}
 
 	private void onRevert()
@@ -423,7 +477,7 @@ public class GitRepositoryPanel extends JPanel
 		}
 		
 		statusPanel.setSuccessMessage(language.getText("git.repo.status.reverted", paths.length));
-		refreshEntries();
+		refresh();
 	}
 
 	private void onUnstage()
@@ -447,7 +501,7 @@ public class GitRepositoryPanel extends JPanel
 		}
 		
 		statusPanel.setSuccessMessage(language.getText("git.repo.status.unstaged", paths.length));
-		refreshEntries();
+		refresh();
 	}
 
 	private void onUnstageAll() 
@@ -471,7 +525,7 @@ public class GitRepositoryPanel extends JPanel
 		}
 		
 		statusPanel.setSuccessMessage(language.getText("git.repo.status.unstaged", paths.length));
-		refreshEntries();
+		refresh();
 	}
 
 	private void onCommit() 
@@ -502,8 +556,7 @@ public class GitRepositoryPanel extends JPanel
 		commitArea.setText("");
 		
 		statusPanel.setSuccessMessage(language.getText("git.repo.status.commit"));
-		refreshInfo();
-		refreshEntries();
+		refresh();
 		setActionsEnabled(true);
 	}
 
@@ -526,7 +579,7 @@ public class GitRepositoryPanel extends JPanel
 		setActionsEnabled(false);
 		statusPanel.setActivityMessage(language.getText("git.repo.status.pushing"));
 
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			int result;
 			if ((result = client.push()) != 0)
@@ -538,8 +591,7 @@ public class GitRepositoryPanel extends JPanel
 			}
 
 			statusPanel.setSuccessMessage(language.getText("git.repo.status.push"));
-			refreshInfo();
-			refreshEntries();
+			refresh();
 			setActionsEnabled(true);
 		});
 	}
@@ -571,7 +623,7 @@ public class GitRepositoryPanel extends JPanel
 		setActionsEnabled(false);
 		statusPanel.setActivityMessage(language.getText("git.repo.status.pushing"));
 
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			int result;
 			if ((result = client.pushNewBranch(remote, branchName)) != 0)
@@ -583,8 +635,7 @@ public class GitRepositoryPanel extends JPanel
 			}
 
 			statusPanel.setSuccessMessage(language.getText("git.repo.status.push"));
-			refreshInfo();
-			refreshEntries();
+			refresh();
 			setActionsEnabled(true);
 		});
 	}
@@ -600,7 +651,7 @@ public class GitRepositoryPanel extends JPanel
 		setActionsEnabled(false);
 		statusPanel.setActivityMessage(language.getText("git.repo.status.pulling"));
 
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			int result;
 			if ((result = client.pull()) != 0)
@@ -612,8 +663,7 @@ public class GitRepositoryPanel extends JPanel
 			}
 
 			statusPanel.setSuccessMessage(language.getText("git.repo.status.pull"));
-			refreshInfo();
-			refreshEntries();
+			refresh();
 			setActionsEnabled(true);
 		});
 	}
@@ -623,7 +673,7 @@ public class GitRepositoryPanel extends JPanel
 		setActionsEnabled(false);
 		statusPanel.setActivityMessage(language.getText("git.repo.status.checkingout", branchName));
 
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			int result;
 			if ((result = client.checkout(branchName)) != 0)
@@ -635,9 +685,7 @@ public class GitRepositoryPanel extends JPanel
 			}
 
 			statusPanel.setSuccessMessage(language.getText("git.repo.status.checkout", branchName));
-			refreshInfoSynchronous();
-			refreshEntries();
-			refreshBranches();
+			refreshSynchronous();
 			setActionsEnabled(true);
 		});
 	}
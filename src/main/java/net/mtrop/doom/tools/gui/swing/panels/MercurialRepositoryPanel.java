@@ -35,6 +35,7 @@ import net.mtrop.doom.tools.gui.managers.DoomToolsGUIUtils;
 import net.mtrop.doom.tools.gui.managers.DoomToolsIconManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLanguageManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
 import net.mtrop.doom.tools.gui.RepositoryHelper.BranchStatus;
 import net.mtrop.doom.tools.gui.RepositoryHelper.Mercurial;
 import net.mtrop.doom.tools.struct.Loader.LoaderFuture;
@@ -264,7 +265,7 @@ public class MercurialRepositoryPanel extends JPanel
 	
 	public void refreshInfo()
 	{
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			refreshInfoSynchronous();
 		});
@@ -281,7 +282,7 @@ public class MercurialRepositoryPanel extends JPanel
 
 	public void refreshEntries()
 	{
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			List<StatusEntry> staged = new LinkedList<>(); 
 			List<StatusEntry> unstaged = new LinkedList<>();
@@ -304,7 +305,7 @@ public class MercurialRepositoryPanel extends JPanel
 
 	public void refreshBranches()
 	{
-		tasks.spawn(() ->
+		tasks.spawn(Lane.IO, () -> 
 		{
 			List<MenuNode> menuNodes = new LinkedList<>();
 			for (String branch : client.fetchBranches())
@@ -340,7 +341,7 @@ public class MercurialRepositoryPanel extends JPanel
 		}
 		
 		setActionsEnabled(false);
-		tasks.spawn(() ->
+		tasks.spawn(Lane.IO, () -> 
 		{
 			if (client.branch(branch) == 0)
 				client.checkout(branch);
@@ -526,7 +527,7 @@ public class MercurialRepositoryPanel extends JPanel
 		setActionsEnabled(false);
 		statusPanel.setActivityMessage(language.getText("hg.repo.status.pushing"));
 
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			int result;
 			if ((result = client.push()) != 0)
@@ -571,7 +572,7 @@ public class MercurialRepositoryPanel extends JPanel
 		setActionsEnabled(false);
 		statusPanel.setActivityMessage(language.getText("hg.repo.status.pushing"));
 
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			int result;
 			if ((result = client.pushNewBranch(branchName)) != 0)
@@ -600,7 +601,7 @@ public class MercurialRepositoryPanel extends JPanel
 		setActionsEnabled(false);
 		statusPanel.setActivityMessage(language.getText("hg.repo.status.pulling"));
 
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			int result;
 			if ((result = client.pull()) != 0)
@@ -623,7 +624,7 @@ public class MercurialRepositoryPanel extends JPanel
 		setActionsEnabled(false);
 		statusPanel.setActivityMessage(language.getText("hg.repo.status.checkingout", branchName));
 
-		tasks.spawn(() -> 
+		tasks.spawn(Lane.IO, () -> 
 		{
 			int result;
 			if ((result = client.checkout(branchName)) != 0)
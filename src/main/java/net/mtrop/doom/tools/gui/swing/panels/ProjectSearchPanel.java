@@ -17,6 +17,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -27,6 +28,7 @@ import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.ListModel;
 import javax.swing.ListSelectionModel;
+import javax.swing.Timer;
 import javax.swing.event.ListDataEvent;
 import javax.swing.event.ListDataListener;
 
@@ -35,6 +37,8 @@ import net.mtrop.doom.tools.gui.managers.DoomToolsGUIUtils;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLanguageManager;
 import net.mtrop.doom.tools.gui.managers.DoomToolsLogger;
 import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager;
+import net.mtrop.doom.tools.gui.managers.DoomToolsTaskManager.Lane;
+import net.mtrop.doom.tools.struct.TextSearchIndex;
 import net.mtrop.doom.tools.struct.LoggingFactory.Logger;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.ObjectUtils;
@@ -47,6 +51,11 @@ import static net.mtrop.doom.tools.struct.swing.LayoutFactory.*;
 
 /**
  * A panel that searches all available files in a project.
+ * <p>
+ * Registered files are kept in a {@link TextSearchIndex}, so a search only reads the files
+ * that could contain the phrase. If an index file is provided, the index is loaded from it
+ * when the registry is built and saved back to it shortly after any change, so that unchanged
+ * files are not re-read the next time the project is opened.
  * @author Matthew Tropiano
  */
 public class ProjectSearchPanel extends JPanel
@@ -56,11 +65,17 @@ public class ProjectSearchPanel extends JPanel
 	/** Logger. */
 	private static final Logger LOG = DoomToolsLogger.getLogger(ProjectSearchPanel.class); 
 
+	/** Delay after the last index change before the index is saved, in milliseconds. */
+	private static final int INDEX_SAVE_DELAY = 3000;
+
 	private DoomToolsTaskManager tasks;
 	private DoomToolsLanguageManager language;
 	private DoomToolsGUIUtils utils;
 	
 	private Set<File> registeredFiles;
+	private TextSearchIndex searchIndex;
+	private File indexFile;
+	private Timer indexSaveTimer;
 	
 	private JFormField<String> findField;
 	private JFormField<Boolean> caseSensitiveField;
@@ -70,16 +85,30 @@ public class ProjectSearchPanel extends JPanel
 	private DoomToolsStatusPanel statusPanel;
 	
 	/**
-	 * Creates a new search panel.
+	 * Creates a new search panel without a persistent index.
 	 * @param onSearchSelect the function to call when a search result is selected.
 	 */
 	public ProjectSearchPanel(final Consumer<SearchResult> onSearchSelect)
+	{
+		this(null, onSearchSelect);
+	}
+	
+	/**
+	 * Creates a new search panel.
+	 * @param indexFile the file to load and save the search index from/to. Can be null for no persistence.
+	 * @param onSearchSelect the function to call when a search result is selected.
+	 */
+	public ProjectSearchPanel(File indexFile, final Consumer<SearchResult> onSearchSelect)
 	{
 		this.tasks = DoomToolsTaskManager.get();
 		this.language = DoomToolsLanguageManager.get();
 		this.utils = DoomToolsGUIUtils.get();
 		
 		this.registeredFiles = Collections.synchronizedSet(new TreeSet<>());
+		this.searchIndex = new TextSearchIndex(Common::isBinaryFile);
+		this.indexFile = indexFile;
+		this.indexSaveTimer = new Timer(INDEX_SAVE_DELAY, (e) -> tasks.spawn(Lane.BULK, this::saveIndex));
+		this.indexSaveTimer.setRepeats(false);
 		
 		this.statusPanel = new DoomToolsStatusPanel();
 		
@@ -130,15 +159,24 @@ public class ProjectSearchPanel extends JPanel
 	
 	/**
 	 * Builds the registry of files asynchronously.
+	 * If this panel has an index file, the saved index is loaded first, and only
+	 * files that changed since it was saved are re-read.
 	 * @param files the list of files to register.
 	 */
 	public void buildRegistry(final File ... files)
 	{
 		deregisterAllFiles();
-		tasks.spawn(() -> {
+		tasks.spawn(Lane.BULK, () -> {
 			statusPanel.setActivityMessage(language.getText("doommake.search.prep"));
+			if (indexFile != null && searchIndex.size() == 0 && searchIndex.load(indexFile))
+				LOG.debugf("Loaded search index: %s", indexFile.getPath());
 			for (File file : files)
 				registerFile(file);
+			synchronized (registeredFiles)
+			{
+				searchIndex.retain(new ArrayList<>(registeredFiles));
+			}
+			saveIndex();
 			statusPanel.setSuccessMessage(language.getText("doommake.search.ready"));
 		});
 	}
@@ -151,11 +189,23 @@ public class ProjectSearchPanel extends JPanel
 	 */
 	public void registerFile(File file)
 	{
+		file = FileUtils.canonizeFile(file);
 		// detect a change.
-		if (Common.isBinaryFile(file) || file.isHidden() || file.isDirectory())
+		if (file.isHidden() || file.isDirectory())
+		{
 			deregisterFile(file);
+		}
+		else if (searchIndex.update(file))
+		{
+			registeredFiles.add(file);
+			scheduleIndexSave();
+		}
 		else
-			registeredFiles.add(FileUtils.canonizeFile(file));
+		{
+			// binary files stay in the index so that they are not re-tested later.
+			registeredFiles.remove(file);
+			scheduleIndexSave();
+		}
 	}
 	
 	/**
@@ -164,17 +214,43 @@ public class ProjectSearchPanel extends JPanel
 	 */
 	public void deregisterFile(File file)
 	{
-		registeredFiles.remove(FileUtils.canonizeFile(file));
+		file = FileUtils.canonizeFile(file);
+		registeredFiles.remove(file);
+		searchIndex.remove(file);
+		scheduleIndexSave();
 	}
 	
 	/**
 	 * De-registers all files from search.
+	 * The index is kept until the registry is rebuilt, so that unchanged files are not re-read.
 	 */
 	public void deregisterAllFiles()
 	{
 		registeredFiles.clear();
 	}
 	
+	/**
+	 * Saves the search index to its index file now, if it has one and it changed.
+	 */
+	public void saveIndex()
+	{
+		if (indexFile == null || !searchIndex.isChanged())
+			return;
+		try {
+			searchIndex.save(indexFile);
+			LOG.debugf("Saved search index: %s", indexFile.getPath());
+		} catch (IOException e) {
+			LOG.errorf(e, "Could not save search index: %s", indexFile.getPath());
+		}
+	}
+	
+	// Coalesces index saves after a burst of changes.
+	private void scheduleIndexSave()
+	{
+		if (indexFile != null)
+			indexSaveTimer.restart();
+	}
+	
 	/**
 	 * Searches for a specific phrase.
 	 * @param phrase the phrase to search for.
@@ -195,9 +271,14 @@ public class ProjectSearchPanel extends JPanel
 		statusPanel.setActivityMessage(language.getText("doommake.search.searching"));
 		tasks.spawn(() -> 
 		{
+			List<List<SearchResult>> fileResults = new ArrayList<>();
 			int count = 0;
-			for (File file : registeredFiles)
+			for (File file : searchIndex.getCandidates(finalPhrase))
 			{
+				if (!registeredFiles.contains(file))
+					continue;
+				
+				List<SearchResult> results = new ArrayList<>(4);
 				try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file))))
 				{
 					int offset = 0;
@@ -212,7 +293,7 @@ public class ProjectSearchPanel extends JPanel
 						int lineSearch = 0;
 						while ((index = line.indexOf(finalPhrase, lineSearch)) >= 0)
 						{
-							searchResultListModel.addResult(new SearchResult(file, lines, index, index + finalPhrase.length() - 1, offset + index));
+							results.add(new SearchResult(file, lines, index, index + finalPhrase.length() - 1, offset + index));
 							lineSearch = index + finalPhrase.length();
 							count++;
 						}
@@ -228,8 +309,21 @@ public class ProjectSearchPanel extends JPanel
 				{
 					// Do nothing.
 				}
+				
+				if (!results.isEmpty())
+					fileResults.add(results);
 			}
 			
+			// Rank files by match count, then by path.
+			fileResults.sort((a, b) -> {
+				int c = Integer.compare(b.size(), a.size());
+				return c != 0 ? c : a.get(0).getSource().compareTo(b.get(0).getSource());
+			});
+			List<SearchResult> ranked = new ArrayList<>(count);
+			for (List<SearchResult> results : fileResults)
+				ranked.addAll(results);
+			searchResultListModel.addResults(ranked);
+			
 			if (count == 0)
 				statusPanel.setSuccessMessage(language.getText("doommake.search.results.none"));
 			else
@@ -330,6 +424,18 @@ public class ProjectSearchPanel extends JPanel
 				new ListDataEvent(this, ListDataEvent.CONTENTS_CHANGED, 0, 0)
 			));
 		}
+		
+		/**
+		 * Adds several results to the model at once.
+		 * @param results the results.
+		 */
+		public void addResults(Collection<SearchResult> results)
+		{
+			this.results.addAll(results);
+			listeners.forEach((listener) -> listener.intervalAdded(
+				new ListDataEvent(this, ListDataEvent.CONTENTS_CHANGED, 0, 0)
+			));
+		}
 
 		@Override
 		public int getSize() 
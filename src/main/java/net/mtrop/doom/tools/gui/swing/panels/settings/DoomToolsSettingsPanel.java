@@ -99,14 +99,29 @@ public class DoomToolsSettingsPanel extends JPanel
 			settings::setFileChooserDefault
 		);
 		
+		JFormField<Integer> taskThreadsField = integerField(settings.getTaskThreadCount(), 
+			(v) -> settings.setTaskThreadCount(v != null ? v : 0)
+		);
+		
+		JFormField<Boolean> taskVirtualThreadsField = checkBoxField(checkBox(settings.getTaskVirtualThreads(), 
+			(v) -> settings.setTaskVirtualThreads(v)
+		));
+		
+		JFormField<Integer> outputMaxLinesField = integerField(settings.getOutputMaxLines(), 
+			(v) -> settings.setOutputMaxLines(v != null ? v : 0)
+		);
+		
 		return containerOf(
 			node(BorderLayout.NORTH, form(language.getInteger("doomtools.settings.label.width"))
 				.addField(language.getText("doomtools.settings.theme"), themeField)
 				.addField(language.getText("doomtools.settings.chooser.default"), chooserDirectoryField)
+				.addField(language.getText("doomtools.settings.task.threads"), taskThreadsField)
+				.addField(language.getText("doomtools.settings.task.virtual"), taskVirtualThreadsField)
+				.addField(language.getText("doomtools.settings.output.lines"), outputMaxLinesField)
 			),
 			node(BorderLayout.CENTER, containerOf()),
 			node(BorderLayout.SOUTH, containerOf(createEmptyBorder(4, 4, 4, 4),
-				node(BorderLayout.CENTER, wrappedLabel(language.getText("doomtools.settings.theme.notice")))
+				node(BorderLayout.CENTER, wrappedLabel(language.getText("doomtools.settings.theme.notice") + "\n" + language.getText("doomtools.settings.task.notice")))
 			))
 		);
 	}
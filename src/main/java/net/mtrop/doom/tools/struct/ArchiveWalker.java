@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Enumeration;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Walks the entries of Zip archives (PK3s, PKEs, and so on), including archives inside of archives.
+ * <p>Nested archives are read as streams straight out of the archive that contains them:
+ * nothing is copied to temporary files, and only one entry is read at a time, so memory use does not
+ * depend on the size of the nested archive.
+ * <p>Nested entry paths are the path of the archive entry, a slash, and the path inside of it
+ * (e.g. <code>maps/pack.pk3/maps/map01.wad</code>).
+ * @author Matthew Tropiano
+ */
+public final class ArchiveWalker
+{
+	/** The deepest that nested archives are walked into. */
+	public static final int MAX_DEPTH = 8;
+
+	/** Predicate for "is this entry an archive?" that accepts PK3s and PKEs (by extension). */
+	public static final Predicate<String> PK3_EXTENSIONS = (name) -> {
+		String lower = name.toLowerCase();
+		return lower.endsWith(".pk3") || lower.endsWith(".pke");
+	};
+
+	private ArchiveWalker() {}
+
+	/**
+	 * Walks an archive file's entries, walking into nested archives.
+	 * Directory entries are skipped.
+	 * @param file the archive file.
+	 * @param isArchive the predicate for deciding if an entry (by its name) is an archive to walk into.
+	 * @param visitor the visitor to call for each entry that is not walked into.
+	 * @throws IOException if the archive could not be read, or the visitor throws it.
+	 */
+	public static void walk(File file, Predicate<String> isArchive, Visitor visitor) throws IOException
+	{
+		try (ZipFile zf = new ZipFile(file))
+		{
+			walk(zf, isArchive, visitor);
+		}
+	}
+
+	/**
+	 * Walks an open archive's entries, walking into nested archives.
+	 * Directory entries are skipped.
+	 * @param zf the open archive.
+	 * @param isArchive the predicate for deciding if an entry (by its name) is an archive to walk into.
+	 * @param visitor the visitor to call for each entry that is not walked into.
+	 * @throws IOException if the archive could not be read, or the visitor throws it.
+	 */
+	public static void walk(ZipFile zf, Predicate<String> isArchive, Visitor visitor) throws IOException
+	{
+		Enumeration<? extends ZipEntry> en = zf.entries();
+		while (en.hasMoreElements())
+		{
+			ZipEntry ze = en.nextElement();
+			if (ze.isDirectory())
+				continue;
+			try (InputStream in = zf.getInputStream(ze))
+			{
+				visit("", ze, in, 0, isArchive, visitor);
+			}
+		}
+	}
+
+	/**
+	 * Opens an input stream to an entry in an open archive, by its (possibly nested) path.
+	 * If the entry is in a nested archive, the archives that contain it are read through as streams
+	 * until the entry is found.
+	 * @param zf the open archive.
+	 * @param path the entry path.
+	 * @param isArchive the predicate for deciding if an entry (by its name) is an archive that can contain other entries.
+	 * @return an open input stream for reading the entry (must be closed), or null if the entry could not be found.
+	 * @throws IOException if the archive could not be read.
+	 */
+	public static InputStream open(ZipFile zf, String path, Predicate<String> isArchive) throws IOException
+	{
+		ZipEntry entry = zf.getEntry(path);
+		if (entry != null && !entry.isDirectory())
+			return zf.getInputStream(entry);
+
+		// Find an archive entry on the way to the path.
+		int slash = -1;
+		while ((slash = path.indexOf('/', slash + 1)) >= 0)
+		{
+			String archivePath = path.substring(0, slash);
+			if (!isArchive.test(archivePath) || (entry = zf.getEntry(archivePath)) == null || entry.isDirectory())
+				continue;
+			InputStream in = zf.getInputStream(entry);
+			InputStream out = null;
+			try {
+				out = openNested(in, path.substring(slash + 1), 1, isArchive);
+				if (out != null)
+					return out;
+			} finally {
+				if (out == null)
+					in.close();
+			}
+		}
+		return null;
+	}
+
+	// Finds a path inside of an archive stream. Returns the stream positioned at that entry, or null if not found.
+	private static InputStream openNested(InputStream in, String path, int depth, Predicate<String> isArchive) throws IOException
+	{
+		if (depth > MAX_DEPTH)
+			return null;
+		ZipInputStream zin = new ZipInputStream(in);
+		ZipEntry ze;
+		while ((ze = zin.getNextEntry()) != null)
+		{
+			if (ze.isDirectory())
+				continue;
+			String name = ze.getName();
+			if (name.equals(path))
+				return zin;
+			if (path.startsWith(name + "/") && isArchive.test(name))
+				return openNested(zin, path.substring(name.length() + 1), depth + 1, isArchive);
+		}
+		return null;
+	}
+
+	private static void visit(String parentPath, ZipEntry ze, InputStream in, int depth, Predicate<String> isArchive, Visitor visitor) throws IOException
+	{
+		String path = parentPath + ze.getName();
+		if (depth < MAX_DEPTH && isArchive.test(ze.getName()))
+		{
+			ZipInputStream zin = new ZipInputStream(in);
+			ZipEntry nested;
+			while ((nested = zin.getNextEntry()) != null)
+			{
+				if (!nested.isDirectory())
+					visit(path + "/", nested, zin, depth + 1, isArchive, visitor);
+			}
+		}
+		else
+		{
+			visitor.visit(new Entry(path, ze, new EntryInputStream(in), depth));
+		}
+	}
+
+	/**
+	 * An entry found in an archive walk.
+	 * The entry's input stream is only valid during the visit.
+	 */
+	public static class Entry
+	{
+		private final String path;
+		private final ZipEntry zipEntry;
+		private final InputStream in;
+		private final int depth;
+
+		private Entry(String path, ZipEntry zipEntry, InputStream in, int depth)
+		{
+			this.path = path;
+			this.zipEntry = zipEntry;
+			this.in = in;
+			this.depth = depth;
+		}
+
+		/**
+		 * @return the full entry path, including the paths of the archives that it is in.
+		 */
+		public String getPath()
+		{
+			return path;
+		}
+
+		/**
+		 * @return the entry's name in the archive that directly contains it.
+		 */
+		public String getName()
+		{
+			return zipEntry.getName();
+		}
+
+		/**
+		 * @return the underlying zip entry.
+		 */
+		public ZipEntry getZipEntry()
+		{
+			return zipEntry;
+		}
+
+		/**
+		 * @return the uncompressed size of this entry, or -1 if not known (this can happen in nested archives).
+		 */
+		public long getSize()
+		{
+			return zipEntry.getSize();
+		}
+
+		/**
+		 * @return how many archives deep this entry is (0 is an entry in the archive that was walked).
+		 */
+		public int getDepth()
+		{
+			return depth;
+		}
+
+		/**
+		 * Gets the input stream for reading this entry.
+		 * Closing it does nothing - the walk takes care of that.
+		 * @return the input stream.
+		 */
+		public InputStream getInputStream()
+		{
+			return in;
+		}
+	}
+
+	/**
+	 * The visitor called for each entry in a walk.
+	 */
+	@FunctionalInterface
+	public interface Visitor
+	{
+		/**
+		 * Visits an entry.
+		 * @param entry the entry.
+		 * @throws IOException if the entry could not be read.
+		 */
+		void visit(Entry entry) throws IOException;
+	}
+
+	// Entry stream that leaves the archive stream open on close.
+	private static class EntryInputStream extends FilterInputStream
+	{
+		private EntryInputStream(InputStream in)
+		{
+			super(in);
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			// Do nothing.
+		}
+	}
+
+}
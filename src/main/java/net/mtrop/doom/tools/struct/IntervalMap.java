@@ -7,28 +7,39 @@ package net.mtrop.doom.tools.struct;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
  * A sorted map of exclusive intervals used for defining values over a large contiguous range.
  * Size gets larger as intervals get more fragmented.
+ * <p>Intervals are kept in a balanced tree keyed by their lowest index, so setting or getting
+ * a value is <code>O(log n)</code> on the amount of intervals. A running tally of how many indices
+ * each value occupies is also kept, so {@link #getIndexWidth(Object)} does not scan the intervals.
  * @author Matthew Tropiano
  * @param <V> the value type that this contains.
  */
 public class IntervalMap<V>
 {
-	/** The main interval list. */
-	private List<Interval> intervalList;
+	/** The main interval tree, keyed by interval min. */
+	private NavigableMap<Long, Interval> intervalTree;
+	/** The running index widths per value. */
+	private Map<V, Long> widthMap;
 	
 	/**
 	 * Creates a new interval map.
 	 */
 	public IntervalMap()
 	{
-		this.intervalList = new ArrayList<>(4);
+		this.intervalTree = new TreeMap<>();
+		this.widthMap = new HashMap<>(4);
 	}
 
 	/**
@@ -65,248 +76,61 @@ public class IntervalMap<V>
 		long actualMax = Math.max(minIndex, maxIndex);
 		minIndex = actualMin;
 		maxIndex = actualMax;
-		int minSlot = search(minIndex);
-		int maxSlot = search(maxIndex);
-		int size = intervalList.size();
-		Interval newInterval = new Interval(minIndex, maxIndex, value);
 
-		// empty list.
-		if (intervalList.isEmpty())
+		if (intervalTree.isEmpty())
 		{
-			intervalList.add(newInterval);
+			if (value != null)
+				addInterval(new Interval(minIndex, maxIndex, value));
+			return;
 		}
-		// interval starts before.
-		else if (minSlot < 0)
+		
+		// keep the range contiguous - fill gaps with null.
+		long headMin = intervalTree.firstKey();
+		long tailMax = intervalTree.lastEntry().getValue().max;
+		if (maxIndex < headMin - 1)
+			addInterval(new Interval(maxIndex + 1, headMin - 1, null));
+		if (minIndex > tailMax + 1)
+			addInterval(new Interval(tailMax + 1, minIndex - 1, null));
+		
+		// split the intervals straddling the bounds, then clear everything between them.
+		split(minIndex);
+		if (maxIndex != Long.MAX_VALUE)
+			split(maxIndex + 1);
+		
+		Iterator<Interval> it = intervalTree.subMap(minIndex, true, maxIndex, true).values().iterator();
+		while (it.hasNext())
 		{
-			// completely before
-			if (maxSlot < 0)
-			{
-				Interval headInterval = intervalList.get(0);
-				if (newInterval.max < headInterval.min - 1)
-				{
-					intervalList.add(0, new Interval(newInterval.max + 1, headInterval.min - 1, null));
-					intervalList.add(0, newInterval);
-				}
-				else if (Objects.equals(newInterval.value, headInterval.value))
-				{
-					headInterval.min = newInterval.min;
-				}
-				else // adjacent
-				{
-					intervalList.add(0, newInterval);
-					reduceRight(0);
-				}
-			}
-			else
-			{
-				while (!intervalList.isEmpty() && newInterval.max >= intervalList.get(0).max)
-					intervalList.remove(0);
-				
-				if (intervalList.isEmpty())
-				{
-					intervalList.add(newInterval);
-				}
-				else
-				{
-					Interval headInterval = intervalList.get(0);
-					if (Objects.equals(newInterval.value, headInterval.value))
-					{
-						headInterval.min = newInterval.min;
-					}
-					else
-					{
-						if (newInterval.max >= headInterval.min)
-							headInterval.min = newInterval.max + 1;
-						intervalList.add(0, newInterval);
-					}
-				}
-			}
+			Interval removed = it.next();
+			addWidth(removed.value, -removed.width());
+			it.remove();
 		}
-		// interval starts after.
-		else if (minSlot >= size)
-		{
-			Interval tailInterval = intervalList.get(size - 1);
-			if (newInterval.min > tailInterval.max + 1)
-			{
-				intervalList.add(new Interval(tailInterval.max + 1, newInterval.min - 1, null));
-				intervalList.add(newInterval);
-			}
-			else if (Objects.equals(newInterval.value, tailInterval.value))
-			{
-				tailInterval.max = newInterval.max;
-			}
-			else // adjacent
-			{
-				intervalList.add(newInterval);
-				reduceLeft(intervalList.size() - 1);
-			}
-		}
-		// new interval goes past the end.
-		else if (maxSlot >= size)
-		{
-			while (!intervalList.isEmpty() && intervalList.get(intervalList.size() - 1).min >= newInterval.min)
-				intervalList.remove(intervalList.size() - 1);
-			
-			if (intervalList.isEmpty())
-			{
-				intervalList.add(newInterval);
-			}
-			else
-			{
-				Interval tailInterval = intervalList.get(size - 1);
-				if (Objects.equals(newInterval.value, tailInterval.value))
-				{
-					tailInterval.max = newInterval.max;
-				}
-				else
-				{
-					tailInterval.max = newInterval.min - 1;
-					intervalList.add(newInterval);
-				}
-			}
-		}
-		// inside one interval.
-		else if (minSlot == maxSlot)
+		
+		Interval newInterval = new Interval(minIndex, maxIndex, value);
+		addInterval(newInterval);
+		
+		// merge with neighbors of the same value.
+		Map.Entry<Long, Interval> left = intervalTree.lowerEntry(minIndex);
+		if (left != null && left.getValue().max == minIndex - 1 && Objects.equals(left.getValue().value, value))
 		{
-			Interval middleInterval = intervalList.get(minSlot);
-			if (Objects.equals(newInterval.value, middleInterval.value))
-			{
-				// Do nothing.
-			}
-			// touches min
-			else if (middleInterval.min == newInterval.min)
-			{
-				// complete overlap
-				if (middleInterval.max == newInterval.max)
-				{
-					middleInterval.value = newInterval.value;
-					reduceRight(minSlot);
-				}
-				// new interval max is less
-				else
-				{
-					middleInterval.min = newInterval.max + 1;
-					intervalList.add(minSlot, newInterval);
-				}
-				reduceLeft(minSlot);
-			}
-			// touches max
-			else if (middleInterval.max == newInterval.max)
-			{
-				middleInterval.max = newInterval.min - 1;
-				intervalList.add(minSlot + 1, newInterval);
-				reduceRight(minSlot + 1);
-			}
-			// touches max
-			else
-			{
-				Interval splitInterval = new Interval(newInterval.max + 1, middleInterval.max, middleInterval.value);
-				middleInterval.max = newInterval.min - 1;
-				intervalList.add(minSlot + 1, newInterval);
-				intervalList.add(minSlot + 2, splitInterval);
-			}
+			intervalTree.remove(minIndex);
+			left.getValue().max = newInterval.max;
+			newInterval = left.getValue();
 		}
-		else
+		if (maxIndex != Long.MAX_VALUE)
 		{
-			// remove complete overlaps
-			int amount = maxSlot - minSlot - 1;
-			int removeIndex = minSlot + 1;
-			while (amount-- > 0)
-				intervalList.remove(removeIndex);
-			
-			int firstSlot = minSlot;
-			int secondSlot = minSlot + 1;
-
-			Interval firstInterval = intervalList.get(firstSlot);
-			Interval secondInterval = intervalList.get(secondSlot);
-			
-			// touches first min
-			if (newInterval.min == firstInterval.min)
+			Interval right = intervalTree.get(maxIndex + 1);
+			if (right != null && Objects.equals(right.value, value))
 			{
-				// touches second max
-				if (newInterval.max == secondInterval.max)
-				{
-					// delete both and add into the same slot
-					intervalList.remove(firstSlot);
-					intervalList.remove(firstSlot); // second shuffled down into first
-					intervalList.add(firstSlot, newInterval);
-					reduceRight(firstSlot);
-				}
-				// absorb into first interval.
-				else if (Objects.equals(newInterval.value, firstInterval.value))
-				{
-					firstInterval.max = newInterval.max;
-					secondInterval.min = newInterval.max + 1;
-				}
-				// absorb into second interval.
-				else if (Objects.equals(newInterval.value, secondInterval.value))
-				{
-					// overlaps first completely - delete.
-					intervalList.remove(firstSlot);
-					secondInterval.min = newInterval.min;
-				}
-				else
-				{
-					secondInterval.min = newInterval.max + 1;
-					intervalList.remove(firstSlot);
-					intervalList.add(firstSlot, newInterval);
-				}
-				reduceLeft(firstSlot);
-			}
-			// touches second max
-			else if (newInterval.max == secondInterval.max)
-			{
-				// absorb into first interval.
-				if (Objects.equals(newInterval.value, firstInterval.value))
-				{
-					// overlaps second completely - delete.
-					intervalList.remove(secondSlot);
-					firstInterval.max = newInterval.max;
-				}
-				// absorb into second interval.
-				else if (Objects.equals(newInterval.value, secondInterval.value))
-				{
-					firstInterval.max = newInterval.min - 1;
-					secondInterval.min = newInterval.min;
-				}
-				else
-				{
-					firstInterval.max = newInterval.min - 1;
-					intervalList.remove(secondSlot);
-					intervalList.add(secondSlot, newInterval);
-				}
-				reduceRight(secondSlot);
-			}
-			// overlap, no touch.
-			else
-			{
-				// absorb into first interval.
-				if (Objects.equals(newInterval.value, firstInterval.value))
-				{
-					firstInterval.max = newInterval.max;
-					secondInterval.min = newInterval.max + 1;
-				}
-				// absorb into second interval.
-				else if (Objects.equals(newInterval.value, secondInterval.value))
-				{
-					firstInterval.max = newInterval.min;
-					secondInterval.min = newInterval.min + 1;
-				}
-				// adjust and insert.
-				else
-				{
-					firstInterval.max = newInterval.min - 1;
-					secondInterval.min = newInterval.max + 1;
-					intervalList.add(secondSlot, newInterval);
-				}
+				intervalTree.remove(right.min);
+				newInterval.max = right.max;
 			}
 		}
 		
 		// clean up end nulls.
-		while (!intervalList.isEmpty() && intervalList.get(intervalList.size() - 1).value == null)
-			intervalList.remove(intervalList.size() - 1);
-		while (!intervalList.isEmpty() && intervalList.get(0).value == null)
-			intervalList.remove(0);
+		while (!intervalTree.isEmpty() && intervalTree.lastEntry().getValue().value == null)
+			removeInterval(intervalTree.lastEntry().getValue());
+		while (!intervalTree.isEmpty() && intervalTree.firstEntry().getValue().value == null)
+			removeInterval(intervalTree.firstEntry().getValue());
 	}
 	
 	/**
@@ -316,13 +140,8 @@ public class IntervalMap<V>
 	 */
 	public V get(long index)
 	{
-		int idx = search(index);
-		if (idx < 0)
-			return null;
-		else if (idx >= intervalList.size())
-			return null;
-		else
-			return intervalList.get(idx).value;
+		Interval interval = search(index);
+		return interval != null ? interval.value : null;
 	}
 	
 	/**
@@ -366,19 +185,19 @@ public class IntervalMap<V>
 	// Gets a set of values across an interval and returns them in the collection.
 	private <U extends Collection<V>> U getValueCollection(long minIndex, long maxIndex, U collection)
 	{
-		int slotA = search(Math.min(minIndex, maxIndex));
-		int slotB = search(Math.max(minIndex, maxIndex));
+		long min = Math.min(minIndex, maxIndex);
+		long max = Math.max(minIndex, maxIndex);
+		
+		// Start at the interval that contains min, or else the first one after it.
+		Map.Entry<Long, Interval> floor = intervalTree.floorEntry(min);
+		Long startKey = floor != null && floor.getValue().max >= min ? floor.getKey() : intervalTree.ceilingKey(min);
+		if (startKey == null || startKey > max)
+			return collection;
 		
-		if (slotB >= 0)
+		for (Interval interval : intervalTree.subMap(startKey, true, max, true).values())
 		{
-			slotA = slotA < 0 ? 0 : slotA;
-			slotB = slotB >= intervalList.size() ? intervalList.size() - 1 : slotB;
-			for (int i = slotA; i <= slotB; i++)
-			{
-				V value = intervalList.get(i).value;
-				if (value != null)
-					collection.add(value);
-			}
+			if (interval.value != null)
+				collection.add(interval.value);
 		}
 		
 		return collection;
@@ -389,7 +208,7 @@ public class IntervalMap<V>
 	 */
 	public Long getMinIndex()
 	{
-		return intervalList.isEmpty() ? null : intervalList.get(0).min;
+		return intervalTree.isEmpty() ? null : intervalTree.firstKey();
 	}
 	
 	/**
@@ -397,7 +216,7 @@ public class IntervalMap<V>
 	 */
 	public Long getMaxIndex()
 	{
-		return intervalList.isEmpty() ? null : intervalList.get(intervalList.size() - 1).max;
+		return intervalTree.isEmpty() ? null : intervalTree.lastEntry().getValue().max;
 	}
 	
 	/**
@@ -407,86 +226,66 @@ public class IntervalMap<V>
 	 */
 	public long getIndexWidth(V value)
 	{
-		long out = 0L;
-		for (int i = 0; i < intervalList.size(); i++)
-			if (Objects.equals(intervalList.get(i).value, value))
-				out += intervalList.get(i).width();
-		return out;
+		Long out = widthMap.get(value);
+		return out != null ? out : 0L;
 	}
 	
-	// Attempts to merge intervals by same value going backwards in the list.
-	private void reduceLeft(int startSlot)
+	/**
+	 * @return the amount of distinct intervals in this map.
+	 */
+	public int getIntervalCount()
 	{
-		if (startSlot <= 0)
-			return;
-		if (!Objects.equals(intervalList.get(startSlot - 1).value, intervalList.get(startSlot).value))
-			return;
-		
-		Interval newLeft = intervalList.get(startSlot);
-		Interval oldLeft = intervalList.get(startSlot - 1);
-		
-		newLeft.min = oldLeft.min;
-		intervalList.remove(startSlot - 1);
-		reduceLeft(startSlot - 1);
+		return intervalTree.size();
 	}
-
-	// Attempts to merge intervals by same value going forwards in the list.
-	private void reduceRight(int startSlot)
+	
+	// Splits the interval that contains an index so that a new interval starts at that index.
+	private void split(long index)
 	{
-		if (startSlot >= intervalList.size() - 1)
+		Interval interval = search(index);
+		if (interval == null || interval.min == index)
 			return;
-		if (!Objects.equals(intervalList.get(startSlot + 1).value, intervalList.get(startSlot).value))
-			return;
-
-		Interval newRight = intervalList.get(startSlot);
-		Interval oldRight = intervalList.get(startSlot + 1);
-		
-		newRight.max = oldRight.max;
-		intervalList.remove(startSlot + 1);
-		reduceRight(startSlot);
+		Interval splitInterval = new Interval(index, interval.max, interval.value);
+		interval.max = index - 1;
+		intervalTree.put(splitInterval.min, splitInterval);
 	}
-
-	// Searches for a suitable interval index to fetch or start an insert.
-	// Returns index, -1 to insert at the beginning, the list size to add at the end.
-	private int search(long index)
+	
+	// Adds an interval to the tree and tallies its width.
+	private void addInterval(Interval interval)
 	{
-		final int size = intervalList.size();
-		
-		int low = 0;
-		int high = size - 1;
-		
-		int slot = 0;
-		while (slot >= 0 && slot < size)
-		{
-			slot = (low + high) >>> 1;
-			Interval currentInterval = intervalList.get(slot);
-			if (currentInterval.includes(index))
-			{
-				return slot;
-			}
-			else if (index < currentInterval.min)
-			{
-				if (slot == 0)
-					slot = -1;
-				else
-					high = slot - 1;
-			}
-			else // index > currentInterval.max
-			{
-				if (slot == size - 1)
-					slot = size;
-				else
-					low = slot + 1;
-			}
-		}
-		
-		return slot;
+		intervalTree.put(interval.min, interval);
+		addWidth(interval.value, interval.width());
+	}
+	
+	// Removes an interval from the tree and removes its width.
+	private void removeInterval(Interval interval)
+	{
+		intervalTree.remove(interval.min);
+		addWidth(interval.value, -interval.width());
+	}
+	
+	// Adjusts the running width of a value.
+	private void addWidth(V value, long amount)
+	{
+		long width = getIndexWidth(value) + amount;
+		if (width == 0L)
+			widthMap.remove(value);
+		else
+			widthMap.put(value, width);
+	}
+	
+	// Searches for the interval that contains an index, or null if no interval contains it.
+	private Interval search(long index)
+	{
+		Map.Entry<Long, Interval> entry = intervalTree.floorEntry(index);
+		if (entry == null || !entry.getValue().includes(index))
+			return null;
+		return entry.getValue();
 	}
 	
 	@Override
 	public String toString() 
 	{
-		return intervalList.toString();
+		return intervalTree.values().toString();
 	}
 	
 	/**
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+/**
+ * A bounded buffer for console-like text output that is written by one or more threads
+ * and shown by another, in batches.
+ * <p>Written text is kept until the next {@link #drain()}. Completed lines are kept in a ring of a fixed
+ * amount of lines, so if more lines are written between drains than the ring can hold, the oldest are dropped
+ * and the drain reports that whatever is showing should be replaced instead of appended to.
+ * The memory used is bounded by the line count (and the length of the lines), no matter how much is written.
+ * <p>As on a console, a carriage return that is not followed by a line feed starts the current line over,
+ * so output that keeps rewriting its line (like progress) does not pile up. If that line was partly drained
+ * already, the next drain reports that the last line showing should be replaced.
+ * <p>All methods are thread-safe.
+ * @author Matthew Tropiano
+ */
+public class OutputLineBuffer
+{
+	/** The completed lines, without line endings. */
+	private final String[] lines;
+	/** Index of the first line in the ring. */
+	private int first;
+	/** Amount of lines in the ring. */
+	private int count;
+	/** The current, incomplete line. */
+	private final StringBuilder partial;
+	/** Was anything dropped since the last drain? */
+	private boolean dropped;
+	/** Was part of the current line drained already? */
+	private boolean lineShown;
+	/** Was the line that was incomplete at the last drain started over? */
+	private boolean replaceLine;
+	/** Was the last character a carriage return? */
+	private boolean carriageReturn;
+	/** Was anything written since the last drain? */
+	private boolean pending;
+
+	/**
+	 * Creates a new buffer.
+	 * @param maxLines the maximum amount of completed lines to keep between drains.
+	 * @throws IllegalArgumentException if maxLines is less than 1.
+	 */
+	public OutputLineBuffer(int maxLines)
+	{
+		if (maxLines < 1)
+			throw new IllegalArgumentException("maxLines must be 1 or greater.");
+		this.lines = new String[maxLines];
+		this.first = 0;
+		this.count = 0;
+		this.partial = new StringBuilder(128);
+		this.dropped = false;
+		this.lineShown = false;
+		this.replaceLine = false;
+		this.carriageReturn = false;
+		this.pending = false;
+	}
+
+	/**
+	 * @return the maximum amount of completed lines kept between drains.
+	 */
+	public int getMaxLines()
+	{
+		return lines.length;
+	}
+
+	/**
+	 * Appends text to this buffer.
+	 * A carriage return not followed by a line feed starts the current line over.
+	 * @param text the text to append.
+	 * @return true if this buffer was empty before this call (nothing pending since the last drain), false if not.
+	 */
+	public boolean append(CharSequence text)
+	{
+		synchronized (lines)
+		{
+			boolean out = !pending;
+			for (int i = 0; i < text.length(); i++)
+				appendChar(text.charAt(i));
+			pending = pending || text.length() > 0;
+			return out && pending;
+		}
+	}
+
+	/**
+	 * Appends characters to this buffer.
+	 * A carriage return not followed by a line feed starts the current line over.
+	 * @param chars the source array.
+	 * @param offset the offset into the array.
+	 * @param length the amount of characters to append.
+	 * @return true if this buffer was empty before this call (nothing pending since the last drain), false if not.
+	 */
+	public boolean append(char[] chars, int offset, int length)
+	{
+		synchronized (lines)
+		{
+			boolean out = !pending;
+			for (int i = offset; i < offset + length; i++)
+				appendChar(chars[i]);
+			pending = pending || length > 0;
+			return out && pending;
+		}
+	}
+
+	/**
+	 * Takes everything written since the last drain, and empties this buffer.
+	 * @return the drained text, or null if nothing was written since the last drain.
+	 */
+	public Drain drain()
+	{
+		synchronized (lines)
+		{
+			if (!pending)
+				return null;
+
+			int length = partial.length();
+			for (int i = 0; i < count; i++)
+				length += lines[(first + i) % lines.length].length() + 1;
+
+			StringBuilder sb = new StringBuilder(length);
+			for (int i = 0; i < count; i++)
+			{
+				int index = (first + i) % lines.length;
+				sb.append(lines[index]).append('\n');
+				lines[index] = null;
+			}
+			sb.append(partial);
+
+			Drain out = new Drain(sb.toString(), dropped, replaceLine && !dropped);
+			lineShown = lineShown || partial.length() > 0;
+			first = 0;
+			count = 0;
+			partial.setLength(0);
+			if (partial.capacity() > 4096)
+				partial.trimToSize();
+			dropped = false;
+			replaceLine = false;
+			pending = false;
+			return out;
+		}
+	}
+
+	/**
+	 * Discards everything written since the last drain.
+	 */
+	public void clear()
+	{
+		synchronized (lines)
+		{
+			for (int i = 0; i < count; i++)
+				lines[(first + i) % lines.length] = null;
+			first = 0;
+			count = 0;
+			partial.setLength(0);
+			dropped = false;
+			replaceLine = false;
+			carriageReturn = false;
+			pending = false;
+		}
+	}
+
+	// Must be called in a synchronized block.
+	private void appendChar(char c)
+	{
+		if (carriageReturn && c != '\n' && c != '\r')
+		{
+			// Start the line over, including any part of it that is showing already.
+			partial.setLength(0);
+			replaceLine = replaceLine || lineShown;
+			lineShown = false;
+		}
+		carriageReturn = c == '\r';
+		if (carriageReturn)
+			return;
+		if (c != '\n')
+		{
+			partial.append(c);
+			return;
+		}
+
+		String line = partial.toString();
+		partial.setLength(0);
+		lineShown = false;
+		if (count < lines.length)
+		{
+			lines[(first + count) % lines.length] = line;
+			count++;
+		}
+		else
+		{
+			lines[first] = line;
+			first = (first + 1) % lines.length;
+			dropped = true;
+		}
+	}
+
+	/**
+	 * The text taken from a buffer in one drain.
+	 */
+	public static class Drain
+	{
+		private final String text;
+		private final boolean replace;
+		private final boolean replaceLine;
+
+		private Drain(String text, boolean replace, boolean replaceLine)
+		{
+			this.text = text;
+			this.replace = replace;
+			this.replaceLine = replaceLine;
+		}
+
+		/**
+		 * @return the drained text.
+		 */
+		public String getText()
+		{
+			return text;
+		}
+
+		/**
+		 * @return true if lines were dropped since the last drain, and the drained text should replace
+		 * 		everything shown so far instead of being appended to it.
+		 */
+		public boolean isReplace()
+		{
+			return replace;
+		}
+
+		/**
+		 * @return true if the last line shown (the one that was incomplete at the last drain) was started over,
+		 * 		and should be removed before the drained text is appended. Never true if {@link #isReplace()} is.
+		 */
+		public boolean isReplaceLine()
+		{
+			return replaceLine;
+		}
+	}
+
+}
@@ -0,0 +1,459 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A persistent trigram index over a set of text files, for narrowing down which files
+ * could contain a phrase before reading any of them.
+ * <p>
+ * Each indexed file is broken up into overlapping, case-folded three-character sequences,
+ * and each sequence maps to the set of files that contain it. A phrase can only be in a file
+ * that contains all of the phrase's trigrams, so only those files need to be read to find it.
+ * Trigrams outside of ASCII share hashed keys, which only ever adds candidates, never removes them.
+ * <p>
+ * A file is only re-read if its length or modification time differ from what was last indexed.
+ * <p>This class is thread-safe.
+ * @author Matthew Tropiano
+ */
+public class TextSearchIndex
+{
+	/** Index file magic number. */
+	private static final int INDEX_MAGIC = 0x54534931;
+	/** Bit count for ASCII trigram keys. */
+	private static final int ASCII_KEY_BITS = 21;
+	/** Hashed trigram key flag. */
+	private static final int HASHED_KEY = 1 << ASCII_KEY_BITS;
+	/** Hashed trigram key mask. */
+	private static final int HASHED_KEY_MASK = HASHED_KEY - 1;
+
+	/** Per-thread trigram accumulator. */
+	private static final ThreadLocal<BitSet> TRIGRAMS = ThreadLocal.withInitial(() -> new BitSet(HASHED_KEY << 1));
+	/** Per-thread read buffer. */
+	private static final ThreadLocal<char[]> READ_BUFFER = ThreadLocal.withInitial(() -> new char[16384]);
+
+	/** Test for binary files - binary files are tracked, but not indexed. */
+	private Predicate<File> binaryTest;
+	/** File entries by file. */
+	private Map<File, Entry> entryMap;
+	/** File entries by id. */
+	private List<Entry> entryList;
+	/** Ids of removed entries, free for reuse. */
+	private Deque<Integer> freeIds;
+	/** Trigram key to file id set. */
+	private Map<Integer, BitSet> postings;
+	/** Set if changed since the last load or save. */
+	private boolean changed;
+
+	/**
+	 * Creates a new, empty index.
+	 * @param binaryTest the test to use for detecting binary (non-searchable) files.
+	 */
+	public TextSearchIndex(Predicate<File> binaryTest)
+	{
+		this.binaryTest = binaryTest;
+		this.entryMap = new HashMap<>(256);
+		this.entryList = new ArrayList<>(256);
+		this.freeIds = new ArrayDeque<>();
+		this.postings = new HashMap<>(8192);
+		this.changed = false;
+	}
+
+	/**
+	 * Adds or refreshes a file in this index.
+	 * If the file is unchanged since it was last indexed, this does not read it.
+	 * @param file the file to add.
+	 * @return true if the file is indexed as a text file, false if it is binary or unreadable.
+	 */
+	public boolean update(File file)
+	{
+		long length = file.length();
+		long lastModified = file.lastModified();
+
+		synchronized (this)
+		{
+			Entry entry = entryMap.get(file);
+			if (entry != null && entry.length == length && entry.lastModified == lastModified)
+				return !entry.binary;
+		}
+
+		// read outside of the lock, so queries are not held up.
+		int[] trigrams = null;
+		boolean binary = binaryTest.test(file);
+		if (!binary)
+		{
+			BitSet trigramSet = TRIGRAMS.get();
+			trigramSet.clear();
+			try {
+				readTrigrams(file, trigramSet);
+			} catch (IOException e) {
+				remove(file);
+				return false;
+			}
+			trigrams = trigramSet.stream().toArray();
+		}
+
+		synchronized (this)
+		{
+			removeEntry(file);
+			Entry entry = new Entry(nextId(), file, length, lastModified, binary);
+			entry.trigrams = trigrams;
+			entryMap.put(file, entry);
+			entryList.set(entry.id, entry);
+			if (trigrams != null)
+			{
+				for (int key : trigrams)
+				{
+					BitSet ids;
+					if ((ids = postings.get(key)) == null)
+						postings.put(key, ids = new BitSet());
+					ids.set(entry.id);
+				}
+			}
+			changed = true;
+		}
+		return !binary;
+	}
+
+	/**
+	 * Removes a file from this index.
+	 * @param file the file to remove.
+	 */
+	public synchronized void remove(File file)
+	{
+		if (removeEntry(file))
+			changed = true;
+	}
+
+	/**
+	 * Removes every file from this index that is not in the provided collection.
+	 * @param files the files to keep.
+	 */
+	public synchronized void retain(Collection<File> files)
+	{
+		Set<File> keep = new HashSet<>(files);
+		List<File> toRemove = new ArrayList<>();
+		for (File file : entryMap.keySet())
+			if (!keep.contains(file))
+				toRemove.add(file);
+		for (File file : toRemove)
+			removeEntry(file);
+		if (!toRemove.isEmpty())
+			changed = true;
+	}
+
+	/**
+	 * Removes every file from this index.
+	 */
+	public synchronized void clear()
+	{
+		changed = changed || !entryMap.isEmpty();
+		entryMap.clear();
+		entryList.clear();
+		freeIds.clear();
+		postings.clear();
+	}
+
+	/**
+	 * @return the amount of files tracked in this index, text or binary.
+	 */
+	public synchronized int size()
+	{
+		return entryMap.size();
+	}
+
+	/**
+	 * @return true if this index changed since it was last loaded or saved.
+	 */
+	public synchronized boolean isChanged()
+	{
+		return changed;
+	}
+
+	/**
+	 * Gets the indexed text files that could contain a phrase.
+	 * The phrase is matched regardless of case - the files still need to be
+	 * searched for actual matches, but no file outside of the returned set can contain it.
+	 * Phrases shorter than three characters return every text file.
+	 * @param phrase the phrase to look up.
+	 * @return the list of candidate files.
+	 */
+	public synchronized List<File> getCandidates(String phrase)
+	{
+		BitSet candidates = null;
+		char c0 = 0, c1 = 0;
+		for (int i = 0; i < phrase.length(); i++)
+		{
+			char c2 = Character.toLowerCase(phrase.charAt(i));
+			// Only ASCII trigrams are used for lookup: non-ASCII case folding is not always one-to-one.
+			if (i >= 2 && c0 < 128 && c1 < 128 && c2 < 128)
+			{
+				BitSet ids = postings.get(trigramKey(c0, c1, c2));
+				if (ids == null)
+					return new ArrayList<>(0);
+				if (candidates == null)
+					candidates = (BitSet)ids.clone();
+				else
+					candidates.and(ids);
+				if (candidates.isEmpty())
+					return new ArrayList<>(0);
+			}
+			c0 = c1;
+			c1 = c2;
+		}
+
+		List<File> out = new ArrayList<>();
+		if (candidates == null)
+		{
+			for (Entry entry : entryMap.values())
+				if (!entry.binary)
+					out.add(entry.file);
+		}
+		else
+		{
+			for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1))
+				out.add(entryList.get(id).file);
+		}
+		return out;
+	}
+
+	/**
+	 * Replaces the contents of this index with the contents of an index file.
+	 * If the file cannot be read or is not an index file, this index is left empty.
+	 * @param indexFile the file to read.
+	 * @return true if loaded, false if not.
+	 */
+	public synchronized boolean load(File indexFile)
+	{
+		clear();
+		changed = false;
+		if (!indexFile.exists())
+			return false;
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(indexFile)))))
+		{
+			if (in.readInt() != INDEX_MAGIC)
+				return false;
+
+			int entryCount = in.readInt();
+			for (int i = 0; i < entryCount; i++)
+			{
+				int id = in.readInt();
+				File file = new File(in.readUTF());
+				long length = in.readLong();
+				long lastModified = in.readLong();
+				boolean binary = in.readBoolean();
+				Entry entry = new Entry(id, file, length, lastModified, binary);
+				while (entryList.size() <= id)
+					entryList.add(null);
+				entryList.set(id, entry);
+				entryMap.put(file, entry);
+			}
+			for (int id = 0; id < entryList.size(); id++)
+				if (entryList.get(id) == null)
+					freeIds.add(id);
+
+			int postingCount = in.readInt();
+			for (int i = 0; i < postingCount; i++)
+			{
+				int key = in.readInt();
+				long[] words = new long[in.readInt()];
+				for (int w = 0; w < words.length; w++)
+					words[w] = in.readLong();
+				postings.put(key, BitSet.valueOf(words));
+			}
+			fillEntryTrigrams();
+			return true;
+		}
+		catch (IOException | RuntimeException e)
+		{
+			clear();
+			changed = false;
+			return false;
+		}
+	}
+
+	/**
+	 * Writes this index to an index file.
+	 * The file is written to a temporary file first and then moved into place,
+	 * so an interrupted save never leaves a partial index behind.
+	 * @param indexFile the file to write.
+	 * @throws IOException if the file could not be written.
+	 */
+	public synchronized void save(File indexFile) throws IOException
+	{
+		File parent = indexFile.getAbsoluteFile().getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs())
+			throw new IOException("Could not create directory: " + parent.getPath());
+
+		File tempFile = new File(indexFile.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(tempFile)))))
+		{
+			out.writeInt(INDEX_MAGIC);
+			out.writeInt(entryMap.size());
+			for (Entry entry : entryMap.values())
+			{
+				out.writeInt(entry.id);
+				out.writeUTF(entry.file.getPath());
+				out.writeLong(entry.length);
+				out.writeLong(entry.lastModified);
+				out.writeBoolean(entry.binary);
+			}
+			out.writeInt(postings.size());
+			for (Map.Entry<Integer, BitSet> posting : postings.entrySet())
+			{
+				long[] words = posting.getValue().toLongArray();
+				out.writeInt(posting.getKey());
+				out.writeInt(words.length);
+				for (long w : words)
+					out.writeLong(w);
+			}
+		}
+		Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		changed = false;
+	}
+
+	// Removes an entry and its postings. Must be called while synchronized.
+	private boolean removeEntry(File file)
+	{
+		Entry entry = entryMap.remove(file);
+		if (entry == null)
+			return false;
+
+		entryList.set(entry.id, null);
+		freeIds.add(entry.id);
+		if (entry.trigrams != null)
+		{
+			for (int key : entry.trigrams)
+			{
+				BitSet ids = postings.get(key);
+				if (ids == null)
+					continue;
+				ids.clear(entry.id);
+				if (ids.isEmpty())
+					postings.remove(key);
+			}
+		}
+		return true;
+	}
+
+	// Rebuilds each text entry's trigram keys from the postings, after a load. Must be called while synchronized.
+	private void fillEntryTrigrams()
+	{
+		int[] counts = new int[entryList.size()];
+		for (BitSet ids : postings.values())
+			for (int id = ids.nextSetBit(0); id >= 0 && id < counts.length; id = ids.nextSetBit(id + 1))
+				counts[id]++;
+
+		for (Entry entry : entryMap.values())
+			if (!entry.binary)
+				entry.trigrams = new int[counts[entry.id]];
+
+		int[] filled = new int[counts.length];
+		for (Map.Entry<Integer, BitSet> posting : postings.entrySet())
+		{
+			BitSet ids = posting.getValue();
+			for (int id = ids.nextSetBit(0); id >= 0 && id < counts.length; id = ids.nextSetBit(id + 1))
+			{
+				Entry entry = entryList.get(id);
+				if (entry != null && entry.trigrams != null)
+					entry.trigrams[filled[id]++] = posting.getKey();
+			}
+		}
+	}
+
+	// Gets the next free file id, reusing removed ids first. Must be called while synchronized.
+	private int nextId()
+	{
+		Integer id = freeIds.pollFirst();
+		if (id != null)
+			return id;
+		entryList.add(null);
+		return entryList.size() - 1;
+	}
+
+	// Reads every trigram in a file into a set.
+	private static void readTrigrams(File file, BitSet out) throws IOException
+	{
+		char[] buffer = READ_BUFFER.get();
+		try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file))))
+		{
+			char c0 = 0, c1 = 0;
+			long count = 0;
+			int buf;
+			while ((buf = reader.read(buffer)) > 0)
+			{
+				for (int i = 0; i < buf; i++)
+				{
+					char c2 = Character.toLowerCase(buffer[i]);
+					if (++count >= 3)
+						out.set(trigramKey(c0, c1, c2));
+					c0 = c1;
+					c1 = c2;
+				}
+			}
+		}
+	}
+
+	// Packs ASCII trigrams exactly, and hashes the rest into a separate key range.
+	private static int trigramKey(char c0, char c1, char c2)
+	{
+		if (c0 < 128 && c1 < 128 && c2 < 128)
+			return (c0 << 14) | (c1 << 7) | c2;
+		return HASHED_KEY | (((c0 * 31 + c1) * 31 + c2) & HASHED_KEY_MASK);
+	}
+
+	/**
+	 * A single file entry.
+	 */
+	private static class Entry
+	{
+		private final int id;
+		private final File file;
+		private final long length;
+		private final long lastModified;
+		private final boolean binary;
+		/** The trigram keys in this file, or null if binary. */
+		private int[] trigrams;
+
+		private Entry(int id, File file, long length, long lastModified, boolean binary)
+		{
+			this.id = id;
+			this.file = file;
+			this.length = length;
+			this.lastModified = lastModified;
+			this.binary = binary;
+			this.trigrams = null;
+		}
+	}
+
+}
@@ -0,0 +1,475 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A streaming scanner for UDMF (TEXTMAP) data that only reads the fields it is asked for.
+ * <p>The data is read through once, and nothing is built for blocks or fields that were not asked for:
+ * unwanted values are skipped, not parsed. Wanted fields are handed to a {@link Listener} as they are read,
+ * along with the type and index of the block that they are in.
+ * <p>Block types and field names are matched case-insensitively, and are always passed to the listener in lower case.
+ * Values are passed as: {@link String} for quoted strings (and unknown keywords), {@link Boolean} for <code>true</code> or <code>false</code>,
+ * {@link Integer} (or {@link Long}, if too large) for integers, and {@link Double} for floating-point numbers.
+ * <p>A scanner can be reused, but not by more than one thread at a time.
+ * @author Matthew Tropiano
+ */
+public class UDMFFieldScanner
+{
+	private static final int BUFFER_SIZE = 16384;
+
+	/** Wanted blocks. */
+	private final List<BlockFields> blocks;
+
+	// Read state.
+	private Reader reader;
+	private char[] buffer;
+	private int position;
+	private int length;
+	private int line;
+	/** Current identifier or value token. */
+	private char[] token;
+	private int tokenLength;
+	/** Quoted string builder. */
+	private StringBuilder builder;
+
+	/**
+	 * Creates a new scanner that wants nothing yet.
+	 * @see #field(String, String...)
+	 */
+	public UDMFFieldScanner()
+	{
+		this.blocks = new ArrayList<>(4);
+		this.buffer = new char[BUFFER_SIZE];
+		this.token = new char[64];
+		this.builder = new StringBuilder(64);
+	}
+
+	/**
+	 * Adds wanted fields for a block type.
+	 * @param type the block type (e.g. "sidedef").
+	 * @param fieldNames the names of the fields to read in that type of block.
+	 * @return this scanner.
+	 */
+	public UDMFFieldScanner field(String type, String ... fieldNames)
+	{
+		BlockFields block = null;
+		for (BlockFields bf : blocks)
+			if (bf.type.equalsIgnoreCase(type))
+				block = bf;
+		if (block == null)
+			blocks.add(block = new BlockFields(type.toLowerCase()));
+		for (String name : fieldNames)
+			if (block.indexOf(name) < 0)
+				block.names.add(name.toLowerCase());
+		return this;
+	}
+
+	/**
+	 * Scans UDMF data from an input stream (as UTF-8).
+	 * The stream is not closed.
+	 * @param in the input stream.
+	 * @param listener the listener to call for each wanted field.
+	 * @return the amount of wanted blocks read, of all types.
+	 * @throws ParseException if the data is not valid UDMF.
+	 * @throws IOException if a read error occurs.
+	 */
+	public int scan(InputStream in, Listener listener) throws IOException
+	{
+		return scan(new InputStreamReader(in, StandardCharsets.UTF_8), listener);
+	}
+
+	/**
+	 * Scans UDMF data from a reader.
+	 * The reader is not closed.
+	 * @param reader the reader.
+	 * @param listener the listener to call for each wanted field.
+	 * @return the amount of wanted blocks read, of all types.
+	 * @throws ParseException if the data is not valid UDMF.
+	 * @throws IOException if a read error occurs.
+	 */
+	public int scan(Reader reader, Listener listener) throws IOException
+	{
+		this.reader = reader;
+		this.position = 0;
+		this.length = 0;
+		this.line = 1;
+
+		int[] counts = new int[blocks.size()];
+		int total = 0;
+		try {
+			while (skipSpace())
+			{
+				readIdentifier();
+				skipSpace();
+				int c = read();
+				if (c == '=')
+				{
+					skipSpace();
+					skipValue();
+					expectEnd();
+				}
+				else if (c == '{')
+				{
+					int b = blockIndex();
+					BlockFields block = b >= 0 ? blocks.get(b) : null;
+					int index = b >= 0 ? counts[b]++ : -1;
+					readBlock(block, index, listener);
+					if (block != null)
+					{
+						listener.onBlockEnd(block.type, index);
+						total++;
+					}
+				}
+				else
+				{
+					throw error("Expected \"=\" or \"{\" after identifier.");
+				}
+			}
+		} finally {
+			this.reader = null;
+		}
+		return total;
+	}
+
+	// Reads the block body after the opening brace.
+	private void readBlock(BlockFields block, int index, Listener listener) throws IOException
+	{
+		while (true)
+		{
+			if (!skipSpace())
+				throw error("Unexpected end of data in block.");
+			if (peek() == '}')
+			{
+				read();
+				return;
+			}
+			readIdentifier();
+			skipSpace();
+			if (read() != '=')
+				throw error("Expected \"=\" after field name.");
+			skipSpace();
+			int f = block != null ? block.indexOf(token, tokenLength) : -1;
+			if (f >= 0)
+				listener.onField(block.type, index, block.names.get(f), readValue());
+			else
+				skipValue();
+			expectEnd();
+		}
+	}
+
+	private void expectEnd() throws IOException
+	{
+		skipSpace();
+		if (read() != ';')
+			throw error("Expected \";\" after value.");
+	}
+
+	// Reads an identifier into the token buffer.
+	private void readIdentifier() throws IOException
+	{
+		int c = peek();
+		if (!isIdentifierStart(c))
+			throw error("Expected identifier.");
+		tokenLength = 0;
+		while (isIdentifierPart(c = peek()))
+			addToken((char)read());
+	}
+
+	private Object readValue() throws IOException
+	{
+		int c = peek();
+		if (c == '"')
+		{
+			read();
+			builder.setLength(0);
+			while ((c = read()) != '"')
+			{
+				if (c < 0)
+					throw error("Unexpected end of data in string.");
+				if (c == '\\')
+				{
+					if ((c = read()) < 0)
+						throw error("Unexpected end of data in string.");
+				}
+				builder.append((char)c);
+			}
+			return builder.toString();
+		}
+
+		readBareValue();
+		return parseBareValue();
+	}
+
+	private void skipValue() throws IOException
+	{
+		int c = peek();
+		if (c == '"')
+		{
+			read();
+			while ((c = read()) != '"')
+			{
+				if (c < 0)
+					throw error("Unexpected end of data in string.");
+				if (c == '\\' && read() < 0)
+					throw error("Unexpected end of data in string.");
+			}
+		}
+		else
+		{
+			readBareValue();
+		}
+	}
+
+	// Reads a number or keyword into the token buffer.
+	private void readBareValue() throws IOException
+	{
+		tokenLength = 0;
+		int c;
+		while ((c = peek()) >= 0 && c != ';' && c != '/' && !Character.isWhitespace(c))
+			addToken((char)read());
+		if (tokenLength == 0)
+			throw error("Expected value.");
+	}
+
+	private Object parseBareValue() throws ParseException
+	{
+		String value = new String(token, 0, tokenLength);
+		if (value.equalsIgnoreCase("true"))
+			return Boolean.TRUE;
+		if (value.equalsIgnoreCase("false"))
+			return Boolean.FALSE;
+
+		char first = token[0];
+		if (first == '+' || first == '-' || first == '.' || (first >= '0' && first <= '9'))
+		{
+			try {
+				if (isHex(value))
+					return narrow(Long.parseLong(value.substring(first == '+' || first == '-' ? 3 : 2), 16) * (first == '-' ? -1 : 1));
+				if (value.indexOf('.') >= 0 || value.indexOf('e') >= 0 || value.indexOf('E') >= 0)
+					return Double.parseDouble(value);
+				return narrow(Long.parseLong(value.charAt(0) == '+' ? value.substring(1) : value));
+			} catch (NumberFormatException e) {
+				throw error("Bad number: " + value);
+			}
+		}
+		return value;
+	}
+
+	private static boolean isHex(String value)
+	{
+		int start = value.charAt(0) == '+' || value.charAt(0) == '-' ? 1 : 0;
+		return value.length() > start + 2
+			&& value.charAt(start) == '0'
+			&& (value.charAt(start + 1) == 'x' || value.charAt(start + 1) == 'X');
+	}
+
+	private static Object narrow(long value)
+	{
+		if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)
+			return (int)value;
+		return value;
+	}
+
+	// Finds the wanted block type that matches the token buffer.
+	private int blockIndex()
+	{
+		for (int i = 0; i < blocks.size(); i++)
+			if (matches(blocks.get(i).type, token, tokenLength))
+				return i;
+		return -1;
+	}
+
+	private void addToken(char c)
+	{
+		if (tokenLength == token.length)
+		{
+			char[] next = new char[token.length * 2];
+			System.arraycopy(token, 0, next, 0, tokenLength);
+			token = next;
+		}
+		token[tokenLength++] = c;
+	}
+
+	/**
+	 * Skips whitespace and comments.
+	 * @return false if the end of the data was reached, true if not.
+	 */
+	private boolean skipSpace() throws IOException
+	{
+		while (true)
+		{
+			int c = peek();
+			if (c < 0)
+				return false;
+			else if (Character.isWhitespace(c))
+				read();
+			else if (c == '/')
+			{
+				read();
+				c = read();
+				if (c == '/')
+				{
+					while ((c = peek()) >= 0 && c != '\n')
+						read();
+				}
+				else if (c == '*')
+				{
+					int last = 0;
+					while (true)
+					{
+						if ((c = read()) < 0)
+							throw error("Unexpected end of data in comment.");
+						if (last == '*' && c == '/')
+							break;
+						last = c;
+					}
+				}
+				else
+				{
+					throw error("Unexpected \"/\".");
+				}
+			}
+			else
+				return true;
+		}
+	}
+
+	private int peek() throws IOException
+	{
+		if (position == length && !fill())
+			return -1;
+		return buffer[position];
+	}
+
+	private int read() throws IOException
+	{
+		if (position == length && !fill())
+			return -1;
+		char c = buffer[position++];
+		if (c == '\n')
+			line++;
+		return c;
+	}
+
+	private boolean fill() throws IOException
+	{
+		int read = reader.read(buffer, 0, buffer.length);
+		if (read <= 0)
+			return false;
+		position = 0;
+		length = read;
+		return true;
+	}
+
+	private ParseException error(String message)
+	{
+		return new ParseException("Line " + line + ": " + message);
+	}
+
+	private static boolean isIdentifierStart(int c)
+	{
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || c == '_';
+	}
+
+	private static boolean isIdentifierPart(int c)
+	{
+		return isIdentifierStart(c) || (c >= '0' && c <= '9');
+	}
+
+	private static boolean matches(String lowerName, char[] chars, int length)
+	{
+		if (lowerName.length() != length)
+			return false;
+		for (int i = 0; i < length; i++)
+			if (lowerName.charAt(i) != Character.toLowerCase(chars[i]))
+				return false;
+		return true;
+	}
+
+	/**
+	 * The wanted fields for one block type.
+	 */
+	private static class BlockFields
+	{
+		private final String type;
+		private final List<String> names;
+
+		private BlockFields(String type)
+		{
+			this.type = type;
+			this.names = new ArrayList<>(4);
+		}
+
+		private int indexOf(String name)
+		{
+			for (int i = 0; i < names.size(); i++)
+				if (names.get(i).equalsIgnoreCase(name))
+					return i;
+			return -1;
+		}
+
+		private int indexOf(char[] chars, int length)
+		{
+			for (int i = 0; i < names.size(); i++)
+				if (matches(names.get(i), chars, length))
+					return i;
+			return -1;
+		}
+	}
+
+	/**
+	 * Receives the wanted fields from a scan.
+	 */
+	@FunctionalInterface
+	public interface Listener
+	{
+		/**
+		 * Called for each wanted field, in the order that they appear.
+		 * @param type the block type (lower case).
+		 * @param index the index of the block among the blocks of the same type, starting from 0.
+		 * @param name the field name (lower case).
+		 * @param value the field value.
+		 */
+		void onField(String type, int index, String name, Object value);
+
+		/**
+		 * Called at the end of each block of a wanted type, after all of its wanted fields.
+		 * Does nothing by default.
+		 * @param type the block type (lower case).
+		 * @param index the index of the block among the blocks of the same type, starting from 0.
+		 */
+		default void onBlockEnd(String type, int index)
+		{
+			// Do nothing.
+		}
+	}
+
+	/**
+	 * Thrown if the scanned data is not valid UDMF.
+	 */
+	public static class ParseException extends IOException
+	{
+		private static final long serialVersionUID = -3163394830316738611L;
+
+		/**
+		 * Creates a new exception.
+		 * @param message the message.
+		 */
+		public ParseException(String message)
+		{
+			super(message);
+		}
+	}
+
+}
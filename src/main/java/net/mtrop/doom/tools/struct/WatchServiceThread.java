@@ -29,6 +29,7 @@ import java.util.function.Consumer;
 public class WatchServiceThread extends Thread
 {
 	private File directory;
+	private boolean recursive;
 	private Consumer<File> onFileCreated;
 	private Consumer<File> onFileModified;
 	private Consumer<File> onFileDeleted;
@@ -53,6 +54,7 @@ public class WatchServiceThread extends Thread
 		if (!directory.isDirectory())
 			throw new IllegalArgumentException("input directory is not a directory.");
 		
+		this.recursive = recursive;
 		this.onFileCreated = onFileCreated;
 		this.onFileModified = onFileModified;
 		this.onFileDeleted = onFileDeleted;
@@ -123,7 +125,8 @@ public class WatchServiceThread extends Thread
 		try {
 			service = FileSystems.getDefault().newWatchService();
 			registerDirectory(directory);
-			registerSubdirectoriesOf(directory);
+			if (recursive)
+				registerSubdirectoriesOf(directory);
 		} catch (UnsupportedOperationException e) {
 			throw new RuntimeException("Could not start filesystem monitor: unsupported by platform.", e);
 		} catch (IOException e) {
@@ -146,6 +149,9 @@ public class WatchServiceThread extends Thread
 						default:
 							break;
 						case "ENTRY_CREATE":
+							// new directories need watching, too.
+							if (recursive && f.isDirectory() && !f.isHidden())
+								registerSubdirectoriesOf(f);
 							if (onFileCreated != null)
 								onFileCreated.accept(f);
 							break;
@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
@@ -29,6 +30,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.AbstractMap;
 import java.util.ArrayList;
@@ -42,6 +47,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.Random;
 import java.util.TimeZone;
 import java.util.TreeMap;
@@ -2921,6 +2927,14 @@ public final class HTTPUtils
 			return create(HTTP_METHOD_POST, url);
 		}
 
+		/**
+		 * @return this request's HTTP method.
+		 */
+		public String getMethod()
+		{
+			return method;
+		}
+
 		/**
 		 * Makes a deep copy of this request, such that
 		 * changes to this one do not affect the original 
@@ -3509,6 +3523,594 @@ public final class HTTPUtils
 			return (() -> send(reader));
 		}
 
+		/**
+		 * Starts a resumable download of this request's content to a file.
+		 * This request should be a GET request - other methods are not range-requestable.
+		 * @param targetFile the file to download to.
+		 * @return a new {@link HTTPDownload} for setting download options and starting the download.
+		 * @see HTTPDownload
+		 */
+		public HTTPDownload download(File targetFile)
+		{
+			return new HTTPDownload(this, targetFile);
+		}
+
+	}
+	
+	/**
+	 * A resumable, optionally segmented download of a request's content to a file.
+	 * <p>
+	 * Content is written to a <code>.part</code> file next to the target file, and a small
+	 * metadata file records the remote file's length, validators (ETag/Last-Modified), and 
+	 * the progress of each segment. If the download is interrupted (dropped connection, cancel, 
+	 * process exit), starting the same download again resumes from the partial file via
+	 * <code>Range</code> requests, provided that the server supports ranges and the remote file
+	 * still matches the recorded validators. Otherwise, the download starts over.
+	 * <p>
+	 * If more than one segment is requested and the server supports ranges, the content is 
+	 * fetched over several connections at once, each writing to its own region of the partial file.
+	 * <p>
+	 * Progress is saved to the metadata file as the download runs, not just when it stops,
+	 * so a download in a process that was killed outright can still be resumed.
+	 * <p>
+	 * When the download completes, the content is optionally verified against a checksum,
+	 * and the partial file is renamed to the target file.
+	 * <pre><code>
+	 * File file = HTTPRequest.get(url).download(new File("file.zip"))
+	 *     .segments(4)
+	 *     .checksum("SHA-256", expectedHash)
+	 *     .send();
+	 * </code></pre>
+	 */
+	public static final class HTTPDownload
+	{
+		private static final String PART_EXTENSION = ".part";
+		private static final String META_EXTENSION = ".part.meta";
+		/** Segments are never made smaller than this. */
+		private static final long MIN_SEGMENT_LENGTH = 1024L * 1024L;
+		/** Milliseconds between saves of the download progress. */
+		private static final long CHECKPOINT_INTERVAL = 1000L;
+		
+		private HTTPRequest request;
+		private File targetFile;
+		private int segments;
+		private String checksumAlgorithm;
+		private byte[] checksum;
+		private TransferMonitor monitor;
+		private HTTPResponse response;
+		
+		private String etag;
+		private String lastModified;
+		
+		private HTTPDownload(HTTPRequest request, File targetFile)
+		{
+			this.request = Objects.requireNonNull(request);
+			this.targetFile = Objects.requireNonNull(targetFile);
+			this.segments = 1;
+			this.checksumAlgorithm = null;
+			this.checksum = null;
+			this.monitor = null;
+			this.response = null;
+			this.etag = null;
+			this.lastModified = null;
+		}
+		
+		/**
+		 * Sets the maximum amount of concurrent segments (connections) to download with.
+		 * Segments are only used if the server supports range requests and reports a content length.
+		 * @param segments the maximum amount of segments. Values less than 1 are treated as 1.
+		 * @return this download, for chaining.
+		 */
+		public HTTPDownload segments(int segments)
+		{
+			this.segments = Math.max(1, segments);
+			return this;
+		}
+		
+		/**
+		 * Sets a checksum to verify the completed download against.
+		 * If the check fails, the partial download is discarded and {@link #send()} throws an {@link IOException}.
+		 * @param algorithm the {@link MessageDigest} algorithm name (e.g. "SHA-256").
+		 * @param checksum the expected digest.
+		 * @return this download, for chaining.
+		 */
+		public HTTPDownload checksum(String algorithm, byte[] checksum)
+		{
+			this.checksumAlgorithm = algorithm;
+			this.checksum = checksum;
+			return this;
+		}
+		
+		/**
+		 * Sets a transfer monitor for the download. 
+		 * When resuming, the current amount includes what was already downloaded.
+		 * Note that for segmented downloads, this may be called from several threads.
+		 * @param monitor the monitor to use. Can be null.
+		 * @return this download, for chaining.
+		 */
+		public HTTPDownload monitor(TransferMonitor monitor)
+		{
+			this.monitor = monitor;
+			return this;
+		}
+		
+		/**
+		 * Uses a response that was already opened for this download's request, instead of
+		 * sending a HEAD request to probe the remote file. Its headers describe the remote file,
+		 * and if the download starts from the beginning, its content is read instead of being 
+		 * requested again. The response is closed when the download ends.
+		 * <p>
+		 * Only a plain <code>200 OK</code> response with unencoded content can be used this way - 
+		 * anything else is closed, and the remote file is probed as usual.
+		 * @param response the open response. Can be null.
+		 * @return this download, for chaining.
+		 */
+		public HTTPDownload response(HTTPResponse response)
+		{
+			this.response = response;
+			return this;
+		}
+		
+		/**
+		 * @return the partial file that content is written to before completion.
+		 */
+		public File getPartFile()
+		{
+			return new File(targetFile.getPath() + PART_EXTENSION);
+		}
+		
+		/**
+		 * @return the ETag of the remote file, or null if not sent yet or the server did not provide one.
+		 */
+		public String getETag()
+		{
+			return etag;
+		}
+		
+		/**
+		 * @return the Last-Modified date of the remote file, or null if not sent yet or the server did not provide one.
+		 */
+		public String getLastModified()
+		{
+			return lastModified;
+		}
+		
+		/**
+		 * Starts or resumes this download, and waits for it to complete.
+		 * @return the target file.
+		 * @throws IOException if an error happens during the read/write, the server responds with an error, or the checksum does not match.
+		 * @throws SocketTimeoutException if the socket read times out.
+		 */
+		public File send() throws IOException
+		{
+			return send(new AtomicBoolean(false));
+		}
+
+		/**
+		 * Starts or resumes this download, and waits for it to complete.
+		 * If cancelled, the partial file is kept so that the download can be resumed later.
+		 * @param cancelSwitch the cancel switch. Set to <code>true</code> to attempt to cancel.
+		 * @return the target file, or null if the download was cancelled.
+		 * @throws IOException if an error happens during the read/write, the server responds with an error, or the checksum does not match.
+		 * @throws SocketTimeoutException if the socket read times out.
+		 */
+		public File send(AtomicBoolean cancelSwitch) throws IOException
+		{
+			File partFile = getPartFile();
+			File metaFile = new File(targetFile.getPath() + META_EXTENSION);
+			
+			HTTPResponse opened = response;
+			response = null;
+			if (opened != null && (opened.getStatusCode() != 200 || !isIdentityEncoded(opened)))
+			{
+				close(opened);
+				opened = null;
+			}
+			
+			try
+			{
+				Long length = null;
+				boolean ranged = false;
+				if (opened != null)
+				{
+					length = opened.getLength();
+					etag = opened.getHeader("ETag");
+					lastModified = opened.getHeader("Last-Modified");
+					ranged = length != null && "bytes".equalsIgnoreCase(opened.getHeader("Accept-Ranges")) && getValidator() != null;
+				}
+				else
+				{
+					// Probe the remote file.
+					HTTPRequest probe = request.copy().setHeader("Accept-Encoding", "identity");
+					probe.method = HTTP_METHOD_HEAD;
+					try (HTTPResponse response = probe.send(cancelSwitch))
+					{
+						if (response == null)
+							return null;
+						// Some servers do not answer HEAD properly - just treat as an unranged download.
+						if (response.isSuccess())
+						{
+							length = response.getLength();
+							etag = response.getHeader("ETag");
+							lastModified = response.getHeader("Last-Modified");
+							ranged = length != null && "bytes".equalsIgnoreCase(response.getHeader("Accept-Ranges")) && getValidator() != null;
+						}
+					}
+				}
+				
+				DownloadState state = partFile.exists() ? DownloadState.read(metaFile) : null;
+				if (state != null && !(ranged && state.matches(length, etag, lastModified)))
+					state = null;
+				
+				if (state == null)
+				{
+					state = ranged 
+						? DownloadState.create(length, etag, lastModified, (int)Math.max(1, Math.min(segments, length / MIN_SEGMENT_LENGTH)))
+						: DownloadState.create(null, etag, lastModified, 1);
+					try (RandomAccessFile raf = new RandomAccessFile(partFile, "rw"))
+					{
+						raf.setLength(ranged ? length : 0L);
+					}
+					state.write(metaFile);
+				}
+				
+				// The open response's content only helps if it starts where the download starts.
+				if (opened != null && ranged && state.segmentDone[0].get() > 0)
+				{
+					close(opened);
+					opened = null;
+				}
+				
+				try 
+				{
+					if (ranged)
+						downloadSegments(state, partFile, metaFile, opened, cancelSwitch);
+					else
+						downloadWhole(state, partFile, opened, cancelSwitch);
+				}
+				finally
+				{
+					if (ranged)
+						state.write(metaFile);
+				}
+			}
+			finally
+			{
+				close(opened);
+			}
+			
+			if (cancelSwitch.get())
+				return null;
+			
+			if (checksumAlgorithm != null && !MessageDigest.isEqual(checksum, digest(partFile)))
+			{
+				partFile.delete();
+				metaFile.delete();
+				throw new IOException("Downloaded file does not match expected " + checksumAlgorithm + " checksum.");
+			}
+			
+			Files.move(partFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			metaFile.delete();
+			return targetFile;
+		}
+		
+		// Checks if a response's content is sent as-is (no compression).
+		private static boolean isIdentityEncoded(HTTPResponse response)
+		{
+			String encoding = response.getEncoding();
+			return encoding == null || encoding.trim().length() == 0 || "identity".equalsIgnoreCase(encoding.trim());
+		}
+		
+		// The validator to use for "If-Range".
+		private String getValidator()
+		{
+			if (etag != null && !etag.startsWith("W/")) // weak ETags cannot be used for ranges.
+				return etag;
+			return lastModified;
+		}
+
+		// Downloads without ranges, in one stream, from the start.
+		private void downloadWhole(DownloadState state, File partFile, HTTPResponse opened, AtomicBoolean cancelSwitch) throws IOException
+		{
+			try (HTTPResponse response = opened != null ? opened : request.copy().setHeader("Accept-Encoding", "identity").send(cancelSwitch))
+			{
+				if (response == null)
+					return;
+				if (!response.isSuccess())
+					throw new IOException("Server responded: HTTP " + response.getStatusCode() + " " + response.getStatusMessage());
+				
+				try (FileOutputStream fos = new FileOutputStream(partFile))
+				{
+					relay(response.getContentStream(), fos, 8192, response.getLength(), cancelSwitch, monitor);
+				}
+			}
+		}
+		
+		// Downloads each unfinished segment with a range request, concurrently if more than one.
+		// If an open response is provided, it is read for the first segment instead.
+		private void downloadSegments(final DownloadState state, final File partFile, final File metaFile, final HTTPResponse opened, final AtomicBoolean cancelSwitch) throws IOException
+		{
+			final String validator = getValidator();
+			final Throwable[] errors = new Throwable[state.segmentCount()];
+			final AtomicBoolean failSwitch = new AtomicBoolean(false);
+			final AtomicBoolean stopSwitch = new AtomicBoolean(false);
+			
+			if (monitor != null)
+				monitor.onProgressChange(state.getDone(), state.length);
+			
+			List<Thread> threads = new ArrayList<>(state.segmentCount());
+			for (int i = 0; i < state.segmentCount(); i++)
+			{
+				final int segment = i;
+				if (state.isSegmentDone(segment))
+					continue;
+				
+				final HTTPResponse segmentResponse = segment == 0 ? opened : null;
+				Runnable task = () -> {
+					try {
+						downloadSegment(state, segment, validator, partFile, metaFile, segmentResponse, stopSwitch, cancelSwitch);
+					} catch (Throwable e) {
+						errors[segment] = e;
+						failSwitch.set(true);
+						stopSwitch.set(true);
+					}
+				};
+				
+				if (state.segmentCount() == 1)
+				{
+					task.run();
+				}
+				else
+				{
+					Thread thread = DEFAULT_THREADFACTORY.newThread(task);
+					thread.start();
+					threads.add(thread);
+				}
+			}
+			
+			for (Thread thread : threads)
+			{
+				while (thread.isAlive())
+				{
+					try {
+						thread.join(100L);
+					} catch (InterruptedException e) {
+						stopSwitch.set(true);
+						cancelSwitch.set(true);
+					}
+				}
+			}
+			if (cancelSwitch.get())
+				return;
+			
+			if (failSwitch.get())
+			{
+				for (Throwable t : errors)
+				{
+					if (t instanceof IOException)
+						throw (IOException)t;
+					else if (t != null)
+						throw new IOException("Segment download failed.", t);
+				}
+			}
+			
+			if (state.getDone() != state.length)
+				throw new IOException("Download incomplete: " + state.getDone() + " of " + state.length + " bytes.");
+		}
+		
+		// Downloads the rest of a single segment, from a range request or an already-open response to the whole file.
+		private void downloadSegment(DownloadState state, int segment, String validator, File partFile, File metaFile, HTTPResponse opened, AtomicBoolean stopSwitch, AtomicBoolean cancelSwitch) throws IOException
+		{
+			long start = state.segmentStart[segment] + state.segmentDone[segment].get();
+			long end = state.segmentEnd[segment];
+			
+			HTTPResponse response;
+			if (opened != null)
+			{
+				response = opened;
+			}
+			else
+			{
+				HTTPRequest rangeRequest = request.copy()
+					.setHeader("Accept-Encoding", "identity")
+					.setHeader("Range", "bytes=" + start + "-" + end)
+					.setHeader("If-Range", validator);
+				response = rangeRequest.send(stopSwitch);
+			}
+			
+			if (response == null)
+				return;
+			
+			try
+			{
+				if (opened == null && response.getStatusCode() == 200)
+					throw new IOException("Remote file changed during download. Restart the download.");
+				if (opened == null && response.getStatusCode() != 206)
+					throw new IOException("Server responded: HTTP " + response.getStatusCode() + " " + response.getStatusMessage());
+				
+				try (RandomAccessFile raf = new RandomAccessFile(partFile, "rw"))
+				{
+					raf.seek(start);
+					InputStream in = response.getContentStream();
+					byte[] buffer = new byte[8192];
+					long remaining = end - start + 1;
+					int buf;
+					while (remaining > 0 && !stopSwitch.get() && !cancelSwitch.get() && (buf = in.read(buffer, 0, (int)Math.min(buffer.length, remaining))) > 0)
+					{
+						raf.write(buffer, 0, buf);
+						remaining -= buf;
+						state.segmentDone[segment].addAndGet(buf);
+						state.checkpoint(metaFile);
+						if (monitor != null)
+							monitor.onProgressChange(state.getDone(), state.length);
+					}
+				}
+			}
+			finally
+			{
+				response.close();
+			}
+		}
+		
+		// Digests a file.
+		private byte[] digest(File file) throws IOException
+		{
+			MessageDigest digest;
+			try {
+				digest = MessageDigest.getInstance(checksumAlgorithm);
+			} catch (NoSuchAlgorithmException e) {
+				throw new IOException("Checksum algorithm not available: " + checksumAlgorithm, e);
+			}
+			byte[] buffer = new byte[8192];
+			try (FileInputStream in = new FileInputStream(file))
+			{
+				int buf;
+				while ((buf = in.read(buffer)) > 0)
+					digest.update(buffer, 0, buf);
+			}
+			return digest.digest();
+		}
+		
+		/**
+		 * The recorded state of a partial download.
+		 */
+		private static class DownloadState
+		{
+			private Long length;
+			private String etag;
+			private String lastModified;
+			private long[] segmentStart;
+			private long[] segmentEnd;
+			private AtomicLong[] segmentDone;
+			private AtomicLong lastCheckpoint;
+			
+			private DownloadState()
+			{
+				this.lastCheckpoint = new AtomicLong(System.currentTimeMillis());
+			}
+			
+			// Creates a new state, splitting the length into evenly-sized segments.
+			private static DownloadState create(Long length, String etag, String lastModified, int segments)
+			{
+				DownloadState out = new DownloadState();
+				out.length = length;
+				out.etag = etag;
+				out.lastModified = lastModified;
+				out.segmentStart = new long[segments];
+				out.segmentEnd = new long[segments];
+				out.segmentDone = new AtomicLong[segments];
+				long len = length != null ? length : 0L;
+				for (int i = 0; i < segments; i++)
+				{
+					out.segmentStart[i] = len * i / segments;
+					out.segmentEnd[i] = (len * (i + 1) / segments) - 1;
+					out.segmentDone[i] = new AtomicLong(0L);
+				}
+				return out;
+			}
+			
+			// Reads a state from a metadata file, or null if it is missing or unreadable.
+			private static DownloadState read(File metaFile)
+			{
+				if (!metaFile.exists())
+					return null;
+				
+				Properties properties = new Properties();
+				try (FileInputStream in = new FileInputStream(metaFile))
+				{
+					properties.load(in);
+					DownloadState out = new DownloadState();
+					out.length = Long.parseLong(properties.getProperty("length"));
+					out.etag = properties.getProperty("etag");
+					out.lastModified = properties.getProperty("lastModified");
+					int segments = Integer.parseInt(properties.getProperty("segments"));
+					out.segmentStart = new long[segments];
+					out.segmentEnd = new long[segments];
+					out.segmentDone = new AtomicLong[segments];
+					for (int i = 0; i < segments; i++)
+					{
+						out.segmentStart[i] = Long.parseLong(properties.getProperty("segment." + i + ".start"));
+						out.segmentEnd[i] = Long.parseLong(properties.getProperty("segment." + i + ".end"));
+						out.segmentDone[i] = new AtomicLong(Long.parseLong(properties.getProperty("segment." + i + ".done")));
+					}
+					return out;
+				} 
+				catch (IOException | RuntimeException e) 
+				{
+					return null;
+				}
+			}
+			
+			// Writes this state to a metadata file if enough time has passed since the last write.
+			// Segment progress only counts bytes already written to the partial file, so a saved state is never ahead of it.
+			private void checkpoint(File metaFile) throws IOException
+			{
+				long now = System.currentTimeMillis();
+				long last = lastCheckpoint.get();
+				if (now - last < CHECKPOINT_INTERVAL || !lastCheckpoint.compareAndSet(last, now))
+					return;
+				write(metaFile);
+			}
+			
+			// Writes this state to a metadata file. Only ranged downloads are worth writing.
+			// The file is replaced in one move, so a process killed mid-write leaves the previous state.
+			private synchronized void write(File metaFile) throws IOException
+			{
+				if (length == null)
+					return;
+				
+				Properties properties = new Properties();
+				properties.setProperty("length", String.valueOf(length));
+				if (etag != null)
+					properties.setProperty("etag", etag);
+				if (lastModified != null)
+					properties.setProperty("lastModified", lastModified);
+				properties.setProperty("segments", String.valueOf(segmentCount()));
+				for (int i = 0; i < segmentCount(); i++)
+				{
+					properties.setProperty("segment." + i + ".start", String.valueOf(segmentStart[i]));
+					properties.setProperty("segment." + i + ".end", String.valueOf(segmentEnd[i]));
+					properties.setProperty("segment." + i + ".done", String.valueOf(segmentDone[i].get()));
+				}
+				File tempFile = new File(metaFile.getPath() + ".tmp");
+				try (FileOutputStream out = new FileOutputStream(tempFile))
+				{
+					properties.store(out, null);
+				}
+				Files.move(tempFile.toPath(), metaFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			
+			// Checks if this state is for the same remote file.
+			private boolean matches(Long length, String etag, String lastModified)
+			{
+				if (!Objects.equals(this.length, length))
+					return false;
+				if (etag != null && this.etag != null)
+					return etag.equals(this.etag);
+				if (lastModified != null && this.lastModified != null)
+					return lastModified.equals(this.lastModified);
+				return false;
+			}
+			
+			private int segmentCount()
+			{
+				return segmentStart.length;
+			}
+			
+			private boolean isSegmentDone(int segment)
+			{
+				return segmentDone[segment].get() >= segmentEnd[segment] - segmentStart[segment] + 1;
+			}
+			
+			// Total bytes finished.
+			private long getDone()
+			{
+				long out = 0L;
+				for (int i = 0; i < segmentDone.length; i++)
+					out += segmentDone[i].get();
+				return out;
+			}
+		}
 	}
 	
 	/**
@@ -3835,7 +4437,7 @@ public final class HTTPUtils
 	{
 		long total = 0;
 		int buf = 0;
-		long origMax = maxLength;
+		Long origMax = maxLength;
 		final byte[] RELAY_BUFFER = new byte[bufferSize];
 		
 		while (!cancelSwitch.get() && (buf = in.read(RELAY_BUFFER, 0, Math.min(maxLength == null ? Integer.MAX_VALUE : (int)Math.min(maxLength, Integer.MAX_VALUE), bufferSize))) > 0)
@@ -15,6 +15,7 @@ import java.util.NoSuchElementException;
 
 import net.mtrop.doom.exception.WadException;
 import net.mtrop.doom.tools.common.Response;
+import net.mtrop.doom.tools.common.Timings;
 import net.mtrop.doom.tools.struct.ArgumentScanner;
 import net.mtrop.doom.tools.struct.TokenScanner;
 import net.mtrop.doom.tools.struct.TokenScanner.ParseException;
@@ -1297,7 +1298,11 @@ public enum WadMergeCommand
 						return false;
 					}
 					
-					Response out = mergeCommand.execute(context, scanner);
+					Response out;
+					try (Timings.Span span = context.getTimings().start("command", mergeCommand.name(), streamName + ":" + linenum))
+					{
+						out = mergeCommand.execute(context, scanner);
+					}
 					if (out == null)
 						return true;
 					if (out != Response.OK)
@@ -38,6 +38,7 @@ import net.mtrop.doom.texture.Switches;
 import net.mtrop.doom.texture.TextureSet;
 import net.mtrop.doom.texture.TextureSet.Texture;
 import net.mtrop.doom.tools.common.Response;
+import net.mtrop.doom.tools.common.Timings;
 import net.mtrop.doom.tools.common.Utility;
 import net.mtrop.doom.tools.struct.util.FileUtils;
 import net.mtrop.doom.tools.struct.util.IOUtils;
@@ -85,6 +86,8 @@ public class WadMergeContext
 	private boolean verbose;
 	/** Map of character substitutions in filenames. */
 	private Map<Character, Character> charSubstitutions;
+	/** Command timings. */
+	private Timings timings;
 
 	/**
 	 * Creates a new context. No output.
@@ -105,6 +108,24 @@ public class WadMergeContext
 		this.charSubstitutions = new TreeMap<>();
 		this.logout = log;
 		this.verbose = verbose;
+		this.timings = Timings.NONE;
+	}
+	
+	/**
+	 * Sets the timings to record each script command's run in.
+	 * @param timings the timings, or {@link Timings#NONE} (or null) for none.
+	 */
+	public void setTimings(Timings timings)
+	{
+		this.timings = timings != null ? timings : Timings.NONE;
+	}
+	
+	/**
+	 * @return the timings that script commands are recorded in.
+	 */
+	public Timings getTimings()
+	{
+		return timings;
 	}
 	
 	public void verboseln(String seq)
@@ -58,6 +58,7 @@ import net.mtrop.doom.map.udmf.attributes.UDMFMBFThingAttributes;
 import net.mtrop.doom.map.udmf.attributes.UDMFStrifeLinedefAttributes;
 import net.mtrop.doom.map.udmf.attributes.UDMFStrifeThingAttributes;
 import net.mtrop.doom.map.udmf.attributes.UDMFZDoomLinedefAttributes;
+import net.mtrop.doom.tools.struct.UDMFFieldScanner;
 import net.mtrop.doom.util.MapUtils;
 import net.mtrop.doom.util.NameUtils;
 
@@ -67,9 +68,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.Writer;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Script functions for Doom Maps.
@@ -968,6 +971,301 @@ public enum DoomMapFunctions implements ScriptFunctionType
 		}
 	},
 
+	COLUMN(3)
+	{
+		@Override
+		protected Usage usage()
+		{
+			return ScriptFunctionUsage.create()
+				.instructions(
+					"Reads one field from every element of a type in a MapView, in index order. " +
+					"This is far cheaper than iterating with THINGS(), LINEDEFS(), etc. if only one field is needed, " +
+					"since it does not build a map for each element. " +
+					"UDMF data can also be read directly, without reading it into a MapView first: only the requested field is read from it, " +
+					"and the field names are the UDMF field names."
+				)
+				.parameter("mapview", 
+					type(Type.OBJECTREF, "MapView", "The map view to use."),
+					type(Type.STRING, "The UDMF data."),
+					type(Type.BUFFER, "The data in the UDMF Map entry (TEXTMAP)."),
+					type(Type.OBJECTREF, "InputStream", "An input stream for reading a UDMF Map entry (TEXTMAP)."),
+					type(Type.OBJECTREF, "Reader", "An open reader for reading a UDMF Map entry (TEXTMAP).")
+				)
+				.parameter("type", 
+					type(Type.STRING, "The element type: \"thing\", \"strifething\" (thing with Strife flags), \"vertex\", \"linedef\", \"sidedef\", or \"sector\".")
+				)
+				.parameter("field", 
+					type(Type.STRING, "The field to read (same names as the maps returned by THING(), LINEDEF(), etc.).")
+				)
+				.returns(
+					type(Type.LIST, "[ANY, ...]", "The field value for each element (null if an element does not have the field)."),
+					type(Type.ERROR, "BadParameter", "If [mapview] is not a valid MapView or UDMF data, or [type] is not a valid element type."),
+					type(Type.ERROR, "IOError", "If the UDMF data could not be read.")
+				)
+			;
+		}
+		
+		@Override
+		public boolean execute(ScriptInstance scriptInstance, ScriptValue returnValue)
+		{
+			ScriptValue temp = CACHEVALUE1.get();
+			ScriptValue value = CACHEVALUE2.get();
+			try 
+			{
+				scriptInstance.popStackValue(temp);
+				String field = temp.asString();
+				scriptInstance.popStackValue(temp);
+				String typeName = temp.asString();
+				MapElementType type = MapElementType.get(typeName);
+				scriptInstance.popStackValue(temp);
+				if (!temp.isObjectRef(MapView.class))
+				{
+					try {
+						if (!udmfColumn(temp, typeName, field, value, returnValue))
+							returnValue.setError("BadParameter", "First parameter is not a MapView or UDMF data.");
+					} catch (IOException e) {
+						returnValue.setError("IOError", e.getMessage(), e.getLocalizedMessage());
+					}
+					return true;
+				}
+				if (type == null)
+				{
+					returnValue.setError("BadParameter", "Second parameter is not a valid element type.");
+					return true;
+				}
+
+				MapView<?,?,?,?,?> mapView = temp.asObjectType(MapView.class);
+				int count = type.getCount(mapView);
+				returnValue.setEmptyList(count);
+				for (int i = 0; i < count; i++)
+				{
+					elementField(type.getElement(mapView, i), field, type.strife, value);
+					returnValue.listAdd(value);
+				}
+				return true;
+			}
+			finally
+			{
+				temp.setNull();
+				value.setNull();
+			}
+		}
+	},
+	
+	SELECT(4)
+	{
+		@Override
+		protected Usage usage()
+		{
+			return ScriptFunctionUsage.create()
+				.instructions(
+					"Creates an iterator that iterates through the elements of a type in a MapView that match a set of field values, " +
+					"producing only the requested fields. " +
+					"The value that this produces can be used in an each(...) loop. The key is the element index, and " +
+					"values are maps that contain only the requested fields."
+				)
+				.parameter("mapview", 
+					type(Type.OBJECTREF, "MapView", "The map view to use.")
+				)
+				.parameter("type", 
+					type(Type.STRING, "The element type: \"thing\", \"strifething\" (thing with Strife flags), \"vertex\", \"linedef\", \"sidedef\", or \"sector\".")
+				)
+				.parameter("fields", 
+					type(Type.NULL, "Produce all fields (same as THING(), LINEDEF(), etc.)."),
+					type(Type.STRING, "The single field to produce."),
+					type(Type.LIST, "[STRING, ...]", "The fields to produce.")
+				)
+				.parameter("where", 
+					type(Type.NULL, "Produce all elements."),
+					type(Type.MAP, "Only produce elements whose fields match each of the values in this map. " +
+						"If a value is a list, the field can match any of the list's values. " +
+						"Strings are compared case-insensitively.")
+				)
+				.returns(
+					type(Type.OBJECTREF, "ScriptIteratorType", "The iterator returned."),
+					type(Type.ERROR, "BadParameter", "If [mapview] is not a valid MapView, or [type] is not a valid element type.")
+				)
+			;
+		}
+		
+		@Override
+		public boolean execute(ScriptInstance scriptInstance, ScriptValue returnValue)
+		{
+			ScriptValue temp = CACHEVALUE1.get();
+			try 
+			{
+				scriptInstance.popStackValue(temp);
+				ElementFilter filter = ElementFilter.create(temp);
+				scriptInstance.popStackValue(temp);
+				String[] fields = getFieldNames(temp);
+				scriptInstance.popStackValue(temp);
+				MapElementType type = MapElementType.get(temp.asString());
+				scriptInstance.popStackValue(temp);
+				if (!temp.isObjectRef(MapView.class))
+				{
+					returnValue.setError("BadParameter", "First parameter is not a MapView.");
+					return true;
+				}
+				if (type == null)
+				{
+					returnValue.setError("BadParameter", "Second parameter is not a valid element type.");
+					return true;
+				}
+
+				returnValue.set(new SelectIterator(temp.asObjectType(MapView.class), type, fields, filter));
+				return true;
+			}
+			finally
+			{
+				temp.setNull();
+			}
+		}
+	},
+	
+	COUNT(3)
+	{
+		@Override
+		protected Usage usage()
+		{
+			return ScriptFunctionUsage.create()
+				.instructions(
+					"Counts the elements of a type in a MapView that match a set of field values."
+				)
+				.parameter("mapview", 
+					type(Type.OBJECTREF, "MapView", "The map view to use.")
+				)
+				.parameter("type", 
+					type(Type.STRING, "The element type: \"thing\", \"strifething\" (thing with Strife flags), \"vertex\", \"linedef\", \"sidedef\", or \"sector\".")
+				)
+				.parameter("where", 
+					type(Type.NULL, "Count all elements."),
+					type(Type.MAP, "Only count elements whose fields match each of the values in this map (see SELECT()).")
+				)
+				.returns(
+					type(Type.INTEGER, "The amount of matching elements."),
+					type(Type.ERROR, "BadParameter", "If [mapview] is not a valid MapView, or [type] is not a valid element type.")
+				)
+			;
+		}
+		
+		@Override
+		public boolean execute(ScriptInstance scriptInstance, ScriptValue returnValue)
+		{
+			ScriptValue temp = CACHEVALUE1.get();
+			try 
+			{
+				scriptInstance.popStackValue(temp);
+				ElementFilter filter = ElementFilter.create(temp);
+				scriptInstance.popStackValue(temp);
+				MapElementType type = MapElementType.get(temp.asString());
+				scriptInstance.popStackValue(temp);
+				if (!temp.isObjectRef(MapView.class))
+				{
+					returnValue.setError("BadParameter", "First parameter is not a MapView.");
+					return true;
+				}
+				if (type == null)
+				{
+					returnValue.setError("BadParameter", "Second parameter is not a valid element type.");
+					return true;
+				}
+
+				MapView<?,?,?,?,?> mapView = temp.asObjectType(MapView.class);
+				int count = type.getCount(mapView);
+				if (filter == null)
+				{
+					returnValue.set(count);
+					return true;
+				}
+				
+				int out = 0;
+				for (int i = 0; i < count; i++)
+				{
+					if (filter.matches(type.getElement(mapView, i), type.strife))
+						out++;
+				}
+				returnValue.set(out);
+				return true;
+			}
+			finally
+			{
+				temp.setNull();
+			}
+		}
+	},
+	
+	TALLY(3)
+	{
+		@Override
+		protected Usage usage()
+		{
+			return ScriptFunctionUsage.create()
+				.instructions(
+					"Counts how many elements of a type in a MapView have each distinct value of a field " +
+					"(for example, how many sidedefs use each middle texture)."
+				)
+				.parameter("mapview", 
+					type(Type.OBJECTREF, "MapView", "The map view to use.")
+				)
+				.parameter("type", 
+					type(Type.STRING, "The element type: \"thing\", \"strifething\" (thing with Strife flags), \"vertex\", \"linedef\", \"sidedef\", or \"sector\".")
+				)
+				.parameter("field", 
+					type(Type.STRING, "The field to tally.")
+				)
+				.returns(
+					type(Type.MAP, "A map of field value (as a string) to the amount of elements with that value. Elements without the field are not counted."),
+					type(Type.ERROR, "BadParameter", "If [mapview] is not a valid MapView, or [type] is not a valid element type.")
+				)
+			;
+		}
+		
+		@Override
+		public boolean execute(ScriptInstance scriptInstance, ScriptValue returnValue)
+		{
+			ScriptValue temp = CACHEVALUE1.get();
+			ScriptValue value = CACHEVALUE2.get();
+			try 
+			{
+				scriptInstance.popStackValue(temp);
+				String field = temp.asString();
+				scriptInstance.popStackValue(temp);
+				MapElementType type = MapElementType.get(temp.asString());
+				scriptInstance.popStackValue(temp);
+				if (!temp.isObjectRef(MapView.class))
+				{
+					returnValue.setError("BadParameter", "First parameter is not a MapView.");
+					return true;
+				}
+				if (type == null)
+				{
+					returnValue.setError("BadParameter", "Second parameter is not a valid element type.");
+					return true;
+				}
+
+				MapView<?,?,?,?,?> mapView = temp.asObjectType(MapView.class);
+				int count = type.getCount(mapView);
+				Map<String, Integer> tally = new TreeMap<>();
+				for (int i = 0; i < count; i++)
+				{
+					elementField(type.getElement(mapView, i), field, type.strife, value);
+					if (!value.isNull())
+						tally.merge(value.asString(), 1, Integer::sum);
+				}
+				
+				returnValue.setEmptyMap(tally.size());
+				for (Map.Entry<String, Integer> entry : tally.entrySet())
+					returnValue.mapSet(entry.getKey(), entry.getValue());
+				return true;
+			}
+			finally
+			{
+				temp.setNull();
+				value.setNull();
+			}
+		}
+	},
+
 	ELEMENTS(2)
 	{
 		@Override
@@ -2641,6 +2939,452 @@ public enum DoomMapFunctions implements ScriptFunctionType
 		return true;
 	}
 	
+	/**
+	 * Map element types for the columnar functions.
+	 */
+	private enum MapElementType
+	{
+		THING(false),
+		STRIFETHING(true),
+		VERTEX(false),
+		LINEDEF(false),
+		SIDEDEF(false),
+		SECTOR(false);
+		
+		private final boolean strife;
+		
+		private MapElementType(boolean strife)
+		{
+			this.strife = strife;
+		}
+		
+		private static MapElementType get(String name)
+		{
+			if (name == null)
+				return null;
+			for (MapElementType type : values())
+				if (type.name().equalsIgnoreCase(name))
+					return type;
+			return null;
+		}
+		
+		private int getCount(MapView<?,?,?,?,?> mapView)
+		{
+			switch (this)
+			{
+				case THING:
+				case STRIFETHING:
+					return mapView.getThingCount();
+				case VERTEX:
+					return mapView.getVertexCount();
+				case LINEDEF:
+					return mapView.getLinedefCount();
+				case SIDEDEF:
+					return mapView.getSidedefCount();
+				case SECTOR:
+					return mapView.getSectorCount();
+				default:
+					return 0;
+			}
+		}
+		
+		private Object getElement(MapView<?,?,?,?,?> mapView, int index)
+		{
+			switch (this)
+			{
+				case THING:
+				case STRIFETHING:
+					return mapView.getThing(index);
+				case VERTEX:
+					return mapView.getVertex(index);
+				case LINEDEF:
+					return mapView.getLinedef(index);
+				case SIDEDEF:
+					return mapView.getSidedef(index);
+				case SECTOR:
+					return mapView.getSector(index);
+				default:
+					return null;
+			}
+		}
+	}
+	
+	/**
+	 * A filter on element field values.
+	 */
+	private static class ElementFilter
+	{
+		private String[] fields;
+		private ScriptValue[] values;
+		
+		private ElementFilter(int count)
+		{
+			this.fields = new String[count];
+			this.values = new ScriptValue[count];
+		}
+		
+		// Creates a filter from a map of field to value, or null if no filter.
+		private static ElementFilter create(ScriptValue where)
+		{
+			if (!where.isMap() || where.isEmpty())
+				return null;
+			
+			ElementFilter out = new ElementFilter(where.length());
+			int i = 0;
+			for (IteratorPair pair : where)
+			{
+				out.fields[i] = pair.getKey().asString();
+				out.values[i] = ScriptValue.create(null);
+				out.values[i].set(pair.getValue());
+				i++;
+			}
+			return out;
+		}
+		
+		private boolean matches(Object element, boolean strifeThings)
+		{
+			ScriptValue value = CACHEFIELD.get();
+			try {
+				for (int i = 0; i < fields.length; i++)
+				{
+					elementField(element, fields[i], strifeThings, value);
+					if (!valueMatches(value, values[i]))
+						return false;
+				}
+				return true;
+			} finally {
+				value.setNull();
+			}
+		}
+		
+		private static boolean valueMatches(ScriptValue value, ScriptValue expected)
+		{
+			if (expected.isList())
+			{
+				ScriptValue item = CACHEMATCH.get();
+				try {
+					for (int i = 0; i < expected.length(); i++)
+					{
+						expected.listGetByIndex(i, item);
+						if (valueMatches(value, item))
+							return true;
+					}
+					return false;
+				} finally {
+					item.setNull();
+				}
+			}
+			else if (expected.isNull() || value.isNull())
+				return expected.isNull() && value.isNull();
+			else if (expected.isBoolean())
+				return value.asBoolean() == expected.asBoolean();
+			else if (expected.isNumeric())
+				return value.isNumeric() && value.asFloat() == expected.asFloat();
+			else
+				return value.asString().equalsIgnoreCase(expected.asString());
+		}
+	}
+	
+	// Gets a list of field names from a value, or null for "all".
+	private static String[] getFieldNames(ScriptValue value)
+	{
+		if (value.isNull())
+			return null;
+		if (!value.isList())
+			return new String[]{value.asString()};
+		
+		ScriptValue temp = CACHEMATCH.get();
+		try {
+			String[] out = new String[value.length()];
+			for (int i = 0; i < out.length; i++)
+			{
+				value.listGetByIndex(i, temp);
+				out[i] = temp.asString();
+			}
+			return out;
+		} finally {
+			temp.setNull();
+		}
+	}
+	
+	/**
+	 * Reads a single field from a map element, without building the element's full map if it can help it.
+	 * Sets the output to null if the element does not have the field.
+	 */
+	private static void elementField(Object object, String field, boolean strifeThings, ScriptValue out)
+	{
+		out.setNull();
+		if (object == null)
+			return;
+		
+		if (object instanceof UDMFObject)
+		{
+			for (Map.Entry<String, Object> entry : (UDMFObject)object)
+			{
+				if (entry.getKey().equals(field))
+				{
+					out.set(entry.getValue());
+					return;
+				}
+			}
+			return;
+		}
+		
+		if (elementFieldDirect(object, field, out))
+			return;
+		
+		// Flags and derived fields - fall back to the full element map.
+		ScriptValue temp = CACHEELEMENT.get();
+		try {
+			mapElementToMap(object, temp, strifeThings);
+			if (!temp.mapGet(field, out))
+				out.setNull();
+		} finally {
+			temp.setNull();
+		}
+	}
+
+	/**
+	 * Reads one field of each UDMF block of a type straight from UDMF data.
+	 * @return false if the input is not UDMF data.
+	 */
+	private static boolean udmfColumn(ScriptValue input, String type, String field, ScriptValue value, ScriptValue out) throws IOException
+	{
+		UDMFFieldScanner scanner = new UDMFFieldScanner().field(type, field);
+		Object[] current = new Object[1];
+		out.setEmptyList();
+		UDMFFieldScanner.Listener listener = new UDMFFieldScanner.Listener()
+		{
+			@Override
+			public void onField(String blockType, int index, String name, Object fieldValue)
+			{
+				current[0] = fieldValue;
+			}
+			
+			@Override
+			public void onBlockEnd(String blockType, int index)
+			{
+				value.set(current[0]);
+				out.listAdd(value);
+				current[0] = null;
+			}
+		};
+		
+		if (input.isString())
+			scanner.scan(new StringReader(input.asString()), listener);
+		else if (input.isBuffer())
+			scanner.scan(input.asObjectType(BufferType.class).getInputStream(), listener);
+		else if (input.isObjectRef(InputStream.class))
+			scanner.scan(input.asObjectType(InputStream.class), listener);
+		else if (input.isObjectRef(Reader.class))
+			scanner.scan(input.asObjectType(Reader.class), listener);
+		else
+			return false;
+		return true;
+	}
+	
+	// Reads the plain (non-flag) fields of binary map elements. Returns false if not a plain field.
+	private static boolean elementFieldDirect(Object object, String field, ScriptValue out)
+	{
+		if (object instanceof DoomVertex)
+		{
+			DoomVertex vertex = (DoomVertex)object;
+			if (UDMFDoomVertexAttributes.ATTRIB_POSITION_X.equals(field))
+				out.set(vertex.getX());
+			else if (UDMFDoomVertexAttributes.ATTRIB_POSITION_Y.equals(field))
+				out.set(vertex.getY());
+			else
+				return false;
+			return true;
+		}
+		else if (object instanceof DoomSidedef)
+		{
+			DoomSidedef sidedef = (DoomSidedef)object;
+			if (UDMFDoomSidedefAttributes.ATTRIB_OFFSET_X.equals(field))
+				out.set(sidedef.getOffsetX());
+			else if (UDMFDoomSidedefAttributes.ATTRIB_OFFSET_Y.equals(field))
+				out.set(sidedef.getOffsetY());
+			else if (UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_TOP.equals(field))
+				out.set(sidedef.getTextureTop());
+			else if (UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_BOTTOM.equals(field))
+				out.set(sidedef.getTextureBottom());
+			else if (UDMFDoomSidedefAttributes.ATTRIB_TEXTURE_MIDDLE.equals(field))
+				out.set(sidedef.getTextureMiddle());
+			else if (UDMFDoomSidedefAttributes.ATTRIB_SECTOR_INDEX.equals(field))
+				out.set(sidedef.getSectorIndex());
+			else
+				return false;
+			return true;
+		}
+		else if (object instanceof DoomSector)
+		{
+			DoomSector sector = (DoomSector)object;
+			if (UDMFDoomSectorAttributes.ATTRIB_HEIGHT_FLOOR.equals(field))
+				out.set(sector.getHeightFloor());
+			else if (UDMFDoomSectorAttributes.ATTRIB_HEIGHT_CEILING.equals(field))
+				out.set(sector.getHeightCeiling());
+			else if (UDMFDoomSectorAttributes.ATTRIB_TEXTURE_FLOOR.equals(field))
+				out.set(sector.getTextureFloor());
+			else if (UDMFDoomSectorAttributes.ATTRIB_TEXTURE_CEILING.equals(field))
+				out.set(sector.getTextureCeiling());
+			else if (UDMFDoomSectorAttributes.ATTRIB_LIGHT_LEVEL.equals(field))
+				out.set(sector.getLightLevel());
+			else if (UDMFDoomSectorAttributes.ATTRIB_SPECIAL.equals(field))
+				out.set(sector.getSpecial());
+			else if (UDMFDoomSectorAttributes.ATTRIB_ID.equals(field))
+				out.set(sector.getTag());
+			else
+				return false;
+			return true;
+		}
+		else if (object instanceof DoomLinedef)
+		{
+			DoomLinedef linedef = (DoomLinedef)object;
+			if (UDMFDoomLinedefAttributes.ATTRIB_VERTEX_START.equals(field))
+				out.set(linedef.getVertexStartIndex());
+			else if (UDMFDoomLinedefAttributes.ATTRIB_VERTEX_END.equals(field))
+				out.set(linedef.getVertexEndIndex());
+			else if (UDMFDoomLinedefAttributes.ATTRIB_SPECIAL.equals(field))
+				out.set(linedef.getSpecial());
+			else if (UDMFDoomLinedefAttributes.ATTRIB_SIDEDEF_FRONT.equals(field))
+				out.set(linedef.getSidedefFrontIndex());
+			else if (UDMFDoomLinedefAttributes.ATTRIB_SIDEDEF_BACK.equals(field))
+				out.set(linedef.getSidedefBackIndex());
+			else if (UDMFDoomLinedefAttributes.ATTRIB_ID.equals(field))
+				out.set(linedef.getTag());
+			else
+				return false;
+			return true;
+		}
+		else if (object instanceof HexenLinedef)
+		{
+			HexenLinedef linedef = (HexenLinedef)object;
+			if (UDMFHexenLinedefAttributes.ATTRIB_VERTEX_START.equals(field))
+				out.set(linedef.getVertexStartIndex());
+			else if (UDMFHexenLinedefAttributes.ATTRIB_VERTEX_END.equals(field))
+				out.set(linedef.getVertexEndIndex());
+			else if (UDMFHexenLinedefAttributes.ATTRIB_SPECIAL.equals(field))
+				out.set(linedef.getSpecial());
+			else if (UDMFHexenLinedefAttributes.ATTRIB_SIDEDEF_FRONT.equals(field))
+				out.set(linedef.getSidedefFrontIndex());
+			else if (UDMFHexenLinedefAttributes.ATTRIB_SIDEDEF_BACK.equals(field))
+				out.set(linedef.getSidedefBackIndex());
+			else if ((field.startsWith("arg")) && field.length() == 4 && field.charAt(3) >= '0' && field.charAt(3) <= '4')
+				out.set(linedef.getArgument(field.charAt(3) - '0'));
+			else
+				return false;
+			return true;
+		}
+		else if (object instanceof DoomThing)
+		{
+			DoomThing thing = (DoomThing)object;
+			if (UDMFDoomThingAttributes.ATTRIB_POSITION_X.equals(field))
+				out.set(thing.getX());
+			else if (UDMFDoomThingAttributes.ATTRIB_POSITION_Y.equals(field))
+				out.set(thing.getY());
+			else if (UDMFDoomThingAttributes.ATTRIB_ANGLE.equals(field))
+				out.set(thing.getAngle());
+			else if (UDMFDoomThingAttributes.ATTRIB_TYPE.equals(field))
+				out.set(thing.getType());
+			else
+				return false;
+			return true;
+		}
+		else if (object instanceof HexenThing)
+		{
+			HexenThing thing = (HexenThing)object;
+			if (UDMFHexenThingAttributes.ATTRIB_POSITION_X.equals(field))
+				out.set(thing.getX());
+			else if (UDMFHexenThingAttributes.ATTRIB_POSITION_Y.equals(field))
+				out.set(thing.getY());
+			else if (UDMFHexenThingAttributes.ATTRIB_ANGLE.equals(field))
+				out.set(thing.getAngle());
+			else if (UDMFHexenThingAttributes.ATTRIB_TYPE.equals(field))
+				out.set(thing.getType());
+			else if (UDMFHexenThingAttributes.ATTRIB_HEIGHT.equals(field))
+				out.set(thing.getHeight());
+			else if (UDMFHexenThingAttributes.ATTRIB_ID.equals(field))
+				out.set(thing.getId());
+			else if (UDMFHexenThingAttributes.ATTRIB_SPECIAL.equals(field))
+				out.set(thing.getSpecial());
+			else if ((field.startsWith("arg")) && field.length() == 4 && field.charAt(3) >= '0' && field.charAt(3) <= '4')
+				out.set(thing.getArgument(field.charAt(3) - '0'));
+			else
+				return false;
+			return true;
+		}
+		return false;
+	}
+	
+	private static class SelectIterator implements ScriptIteratorType
+	{
+		private MapView<?,?,?,?,?> mapView;
+		private MapElementType type;
+		private String[] fields;
+		private ElementFilter filter;
+		private IteratorPair pair;
+		private int count;
+		private int cur;
+		
+		private SelectIterator(MapView<?,?,?,?,?> mapView, MapElementType type, String[] fields, ElementFilter filter)
+		{
+			this.mapView = mapView;
+			this.type = type;
+			this.fields = fields;
+			this.filter = filter;
+			this.pair = new IteratorPair();
+			this.count = type.getCount(mapView);
+			this.cur = 0;
+			advance();
+		}
+		
+		// Advances to the next matching element.
+		private void advance()
+		{
+			if (filter == null)
+				return;
+			while (cur < count && !filter.matches(type.getElement(mapView, cur), type.strife))
+				cur++;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return cur < count;
+		}
+
+		@Override
+		public IteratorPair next() 
+		{
+			ScriptValue value = pair.getValue();
+			Object element = type.getElement(mapView, cur);
+			pair.getKey().set(cur);
+			
+			if (fields == null)
+			{
+				mapElementToMap(element, value, type.strife);
+			}
+			else
+			{
+				ScriptValue temp = CACHEFIELD.get();
+				try {
+					value.setEmptyMap(fields.length);
+					for (int i = 0; i < fields.length; i++)
+					{
+						elementField(element, fields[i], type.strife, temp);
+						value.mapSet(fields[i], temp);
+					}
+				} finally {
+					temp.setNull();
+				}
+			}
+			
+			cur++;
+			advance();
+			return pair;
+		}
+	}
+	
 	private static abstract class MapViewObjectIterator implements ScriptIteratorType
 	{
 		protected MapView<?,?,?,?,?> mapView;
@@ -3004,5 +3748,8 @@ public enum DoomMapFunctions implements ScriptFunctionType
 	private static final ThreadLocal<UDMFObject> CACHEUDMFOBJECT = ThreadLocal.withInitial(()->new UDMFObject());
 	
 	private static final ThreadLocal<ScriptValue> CACHETEMP = ThreadLocal.withInitial(()->ScriptValue.create(null));
+	private static final ThreadLocal<ScriptValue> CACHEFIELD = ThreadLocal.withInitial(()->ScriptValue.create(null));
+	private static final ThreadLocal<ScriptValue> CACHEMATCH = ThreadLocal.withInitial(()->ScriptValue.create(null));
+	private static final ThreadLocal<ScriptValue> CACHEELEMENT = ThreadLocal.withInitial(()->ScriptValue.create(null));
 
 }
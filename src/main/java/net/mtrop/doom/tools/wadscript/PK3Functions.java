@@ -18,6 +18,7 @@ import net.mtrop.doom.DoomPK3;
 import net.mtrop.doom.Wad;
 import net.mtrop.doom.WadBuffer;
 import net.mtrop.doom.exception.WadException;
+import net.mtrop.doom.tools.struct.ArchiveWalker;
 
 import static com.blackrook.rookscript.lang.ScriptFunctionUsage.type;
 
@@ -220,7 +221,9 @@ public enum PK3Functions implements ScriptFunctionType
 		{
 			return ScriptFunctionUsage.create()
 				.instructions(
-					"Reads a PK3/PKE entry as though it were a WAD file and returns an in-memory Wad buffer (not a resource - does not require closing)."
+					"Reads a PK3/PKE entry as though it were a WAD file and returns an in-memory Wad buffer (not a resource - does not require closing). " +
+					"The entry can also be in a PK3/PKE inside of this one, by adding its path after the inner PK3's path and a slash " +
+					"(for example, \"maps/pack.pk3/maps/map01.wad\"). The inner PK3s are read straight from this one, not extracted."
 				)
 				.parameter("zip", 
 					type(Type.OBJECTREF, "ZipFile", "The open zip/PK3/PKE file.")
@@ -272,20 +275,12 @@ public enum PK3Functions implements ScriptFunctionType
 
 				ZipFile zf = temp.asObjectType(ZipFile.class);
 				
-				ZipEntry entry;
-				try {
-					entry = zf.getEntry(name);
-					if (entry == null)
-					{
+				try (InputStream in = ArchiveWalker.open(zf, name, ArchiveWalker.PK3_EXTENSIONS)) 
+				{
+					if (in == null)
 						returnValue.setError("BadEntry", "Entry named \"" + name + "\" could not be found.");
-					}
 					else
-					{
-						try (InputStream in = zf.getInputStream(entry))
-						{
-							returnValue.set((Wad)(new WadBuffer(in)));
-						}
-					}
+						returnValue.set((Wad)(new WadBuffer(in)));
 				} catch (WadException e) {
 					returnValue.setError("BadWad", e.getMessage(), e.getLocalizedMessage());
 				} catch (IllegalStateException | IOException e) {
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wadscript;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.blackrook.rookscript.Script;
+import com.blackrook.rookscript.compiler.ScriptReaderIncluder;
+
+import net.mtrop.doom.tools.Version;
+import net.mtrop.doom.tools.struct.util.FileUtils;
+import net.mtrop.doom.tools.struct.util.IOUtils;
+
+/**
+ * A cache of compiled scripts, so that the same script is not recompiled on every invocation.
+ * <p>
+ * Entries are keyed by the script file, its charset, and a signature of the function resolvers
+ * it was compiled against, and are only valid while the digests of the script file and of every file
+ * it included (directly or not) are unchanged. Compiled scripts are kept in memory for the life of
+ * the JVM, so only runs in the same JVM reuse them (DoomTools batches, the GUI, and targets started
+ * by RUNTARGETS()). They are not written to disk, since compiled RookScript scripts cannot be serialized,
+ * so separate command-line runs still compile their script.
+ * <p>
+ * A cached script can be used by more than one script instance at the same time (like targets that RUNTARGETS()
+ * runs in parallel). Each instance has its own stack, scopes, and environment, and the script is only reused with
+ * resolvers that provide the same functions, so every instance that shares it calls equivalent host functions.
+ * @author Matthew Tropiano
+ */
+public class ScriptCache
+{
+	/** Amount of compiled scripts to keep in memory. */
+	private static final int MEMORY_CACHE_SIZE = 16;
+
+	/** In-memory entries, shared by every cache. */
+	private static final Map<String, CacheEntry> MEMORY = Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry>(MEMORY_CACHE_SIZE, 0.75f, true)
+	{
+		private static final long serialVersionUID = -7213464930410768513L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest)
+		{
+			return size() > MEMORY_CACHE_SIZE;
+		}
+	});
+
+	/**
+	 * Fetches a compiled script, if it is cached and still valid.
+	 * @param scriptFile the script file.
+	 * @param charset the script charset.
+	 * @param signature the signature of the resolvers that the script is compiled with.
+	 * @param includer the includer used for fetching included resources, for checking if they changed.
+	 * @return the compiled script, or null if not cached or out of date.
+	 */
+	public Script get(File scriptFile, Charset charset, String signature, ScriptReaderIncluder includer)
+	{
+		String key = getKey(scriptFile, charset, signature);
+
+		CacheEntry entry = MEMORY.get(key);
+		if (entry == null)
+			return null;
+
+		if (!entry.isValid(scriptFile, includer))
+		{
+			MEMORY.remove(key);
+			return null;
+		}
+
+		MEMORY.put(key, entry);
+		return entry.script;
+	}
+
+	/**
+	 * Creates an includer that records the digest of everything it includes.
+	 * Compile a script with it, then pass it to {@link #put(File, Charset, String, RecordingIncluder, Script)}.
+	 * @param includer the includer to wrap.
+	 * @return a new recording includer.
+	 */
+	public static RecordingIncluder record(ScriptReaderIncluder includer)
+	{
+		return new RecordingIncluder(includer);
+	}
+
+	/**
+	 * Adds a compiled script to this cache.
+	 * @param scriptFile the script file.
+	 * @param charset the script charset.
+	 * @param signature the signature of the resolvers that the script was compiled with.
+	 * @param includer the recording includer that the script was compiled with.
+	 * @param script the compiled script.
+	 */
+	public void put(File scriptFile, Charset charset, String signature, RecordingIncluder includer, Script script)
+	{
+		byte[] scriptDigest;
+		try {
+			scriptDigest = digest(IOUtils.getBinaryContents(scriptFile));
+		} catch (IOException e) {
+			return;
+		}
+
+		String key = getKey(scriptFile, charset, signature);
+		CacheEntry entry = new CacheEntry(scriptDigest, new ArrayList<>(includer.includes), script);
+		MEMORY.put(key, entry);
+	}
+
+	/**
+	 * Creates a resolver signature from function names.
+	 * Any change in available functions changes the signature.
+	 * @param names the namespaces and function names, in the order that they are added.
+	 * @return the signature.
+	 */
+	public static String createSignature(Iterable<String> names)
+	{
+		MessageDigest digest = sha256();
+		for (String name : names)
+		{
+			digest.update(name.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)0);
+		}
+		return toHex(digest.digest());
+	}
+
+	// Gets the cache key for a script.
+	private static String getKey(File scriptFile, Charset charset, String signature)
+	{
+		String key = FileUtils.canonizeFile(scriptFile).getPath() + "\n" + charset.name() + "\n" + signature + "\n" + Version.ROOKSCRIPT;
+		return toHex(digest(key.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static byte[] digest(byte[] data)
+	{
+		return sha256().digest(data);
+	}
+
+	private static MessageDigest sha256()
+	{
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("SHA-256 is not available.", e);
+		}
+	}
+
+	private static String toHex(byte[] bytes)
+	{
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes)
+			sb.append(String.format("%02x", b & 0x0ff));
+		return sb.toString();
+	}
+
+	/**
+	 * An includer that records the digests of every resource that it includes.
+	 */
+	public static class RecordingIncluder implements ScriptReaderIncluder
+	{
+		private ScriptReaderIncluder includer;
+		private List<Include> includes;
+
+		private RecordingIncluder(ScriptReaderIncluder includer)
+		{
+			this.includer = includer;
+			this.includes = Collections.synchronizedList(new ArrayList<>());
+		}
+
+		@Override
+		public String getIncludeResourcePath(String streamName, String path) throws IOException
+		{
+			return includer.getIncludeResourcePath(streamName, path);
+		}
+
+		@Override
+		public InputStream getIncludeResource(String path) throws IOException
+		{
+			byte[] data;
+			try (InputStream in = includer.getIncludeResource(path))
+			{
+				data = IOUtils.getBinaryContents(in);
+			}
+			includes.add(new Include(path, digest(data)));
+			return new ByteArrayInputStream(data);
+		}
+
+		@Override
+		public Charset getEncodingForIncludedResource(String path)
+		{
+			return includer.getEncodingForIncludedResource(path);
+		}
+	}
+
+	/**
+	 * A single included resource.
+	 */
+	private static class Include
+	{
+		private final String path;
+		private final byte[] digest;
+
+		private Include(String path, byte[] digest)
+		{
+			this.path = path;
+			this.digest = digest;
+		}
+	}
+
+	/**
+	 * A single cache entry.
+	 */
+	private static class CacheEntry
+	{
+		private final byte[] scriptDigest;
+		private final List<Include> includes;
+		private final Script script;
+
+		private CacheEntry(byte[] scriptDigest, List<Include> includes, Script script)
+		{
+			this.scriptDigest = scriptDigest;
+			this.includes = includes;
+			this.script = script;
+		}
+
+		// Checks if the script and its includes are unchanged.
+		private boolean isValid(File scriptFile, ScriptReaderIncluder includer)
+		{
+			try {
+				if (!MessageDigest.isEqual(scriptDigest, digest(IOUtils.getBinaryContents(scriptFile))))
+					return false;
+				for (Include include : includes)
+				{
+					try (InputStream in = includer.getIncludeResource(include.path))
+					{
+						if (in == null || !MessageDigest.isEqual(include.digest, digest(IOUtils.getBinaryContents(in))))
+							return false;
+					}
+				}
+				return true;
+			} catch (IOException e) {
+				return false;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wadscript;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.blackrook.rookscript.ScriptInstance;
+import com.blackrook.rookscript.ScriptValue;
+import com.blackrook.rookscript.lang.ScriptFunctionType;
+import com.blackrook.rookscript.resolvers.ScriptFunctionResolver;
+
+import net.mtrop.doom.tools.common.Timings;
+
+/**
+ * A function resolver that times every call to the host functions of another resolver.
+ * Each call is recorded in the "function" category, named by namespace and function name (e.g. <code>TOOL::wadmerge</code>).
+ * @author Matthew Tropiano
+ */
+public final class TimedFunctionResolver implements ScriptFunctionResolver
+{
+	/** Timing category for host function calls. */
+	public static final String CATEGORY_FUNCTION = "function";
+	
+	private final ScriptFunctionResolver resolver;
+	private final Timings timings;
+	private final String prefix;
+	/** Wrapped functions, by resolved name. */
+	private final Map<String, ScriptFunctionType> functions;
+	
+	private TimedFunctionResolver(String namespace, ScriptFunctionResolver resolver, Timings timings)
+	{
+		this.resolver = resolver;
+		this.timings = timings;
+		this.prefix = namespace != null ? namespace + "::" : "";
+		this.functions = new ConcurrentHashMap<>(32);
+	}
+	
+	/**
+	 * Wraps a resolver so that its function calls are timed.
+	 * @param namespace the namespace that the resolver is added to (can be null).
+	 * @param resolver the resolver to wrap.
+	 * @param timings the timings to record calls in.
+	 * @return a timed resolver, or the same resolver if timings are not enabled.
+	 */
+	public static ScriptFunctionResolver wrap(String namespace, ScriptFunctionResolver resolver, Timings timings)
+	{
+		return timings.isEnabled() ? new TimedFunctionResolver(namespace, resolver, timings) : resolver;
+	}
+	
+	@Override
+	public boolean containsFunction(String name)
+	{
+		return resolver.containsFunction(name);
+	}
+
+	@Override
+	public ScriptFunctionType getFunction(String name)
+	{
+		ScriptFunctionType function = functions.get(name);
+		if (function == null)
+		{
+			ScriptFunctionType found = resolver.getFunction(name);
+			if (found == null)
+				return null;
+			function = functions.computeIfAbsent(name, (n) -> new TimedFunction(found));
+		}
+		return function;
+	}
+
+	@Override
+	public ScriptFunctionType[] getFunctions()
+	{
+		ScriptFunctionType[] found = resolver.getFunctions();
+		ScriptFunctionType[] out = new ScriptFunctionType[found.length];
+		for (int i = 0; i < found.length; i++)
+			out[i] = getFunction(found[i].name());
+		return out;
+	}
+	
+	private class TimedFunction implements ScriptFunctionType
+	{
+		private final ScriptFunctionType function;
+		private final String timedName;
+		
+		private TimedFunction(ScriptFunctionType function)
+		{
+			this.function = function;
+			this.timedName = prefix + function.name();
+		}
+		
+		@Override
+		public String name()
+		{
+			return function.name();
+		}
+
+		@Override
+		public int getParameterCount()
+		{
+			return function.getParameterCount();
+		}
+
+		@Override
+		public Usage getUsage()
+		{
+			return function.getUsage();
+		}
+
+		@Override
+		public boolean execute(ScriptInstance scriptInstance, ScriptValue returnValue)
+		{
+			try (Timings.Span span = timings.start(CATEGORY_FUNCTION, timedName))
+			{
+				return function.execute(scriptInstance, returnValue);
+			}
+		}
+	}
+	
+}
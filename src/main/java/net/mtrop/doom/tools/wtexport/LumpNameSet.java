@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wtexport;
+
+import java.util.Arrays;
+
+/**
+ * A set of 8-byte lump/texture names, read straight from raw bytes.
+ * <p>Each name is packed into a <code>long</code> (upper-cased, and cut off at its first NUL byte) and kept in an
+ * open-addressing hash table, so adding a name that is already in the set does not allocate anything.
+ * A name is only decoded into a String the first time it is added.
+ * <p>Empty names are never added. This class is not thread-safe.
+ * @author Matthew Tropiano
+ */
+public class LumpNameSet
+{
+	/** Length of a name in bytes. */
+	public static final int NAME_LENGTH = 8;
+	
+	private static final int DEFAULT_CAPACITY = 256;
+	
+	/** The packed names. 0 is an empty slot. */
+	private long[] keys;
+	/** Amount of names in the set. */
+	private int size;
+
+	/**
+	 * Creates a new, empty set.
+	 */
+	public LumpNameSet()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Creates a new, empty set.
+	 * @param capacity the expected amount of names.
+	 */
+	public LumpNameSet(int capacity)
+	{
+		int slots = 16;
+		while (slots < capacity * 2)
+			slots <<= 1;
+		this.keys = new long[slots];
+		this.size = 0;
+	}
+
+	/**
+	 * Adds a name from a byte array.
+	 * @param data the source data.
+	 * @param offset the offset into the data of the name's first byte (the name is at most {@value #NAME_LENGTH} bytes).
+	 * @return the name as a String if it was added, or null if it was empty or already in the set.
+	 */
+	public String add(byte[] data, int offset)
+	{
+		long key = pack(data, offset);
+		if (key == 0L || !addKey(key))
+			return null;
+		return unpack(key);
+	}
+	
+	/**
+	 * Checks if a name is in this set.
+	 * @param name the name to look for (compared case-insensitively).
+	 * @return true if so, false if not.
+	 */
+	public boolean contains(String name)
+	{
+		long key = pack(name);
+		if (key == 0L)
+			return false;
+		int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		long k;
+		while ((k = keys[i]) != 0L)
+		{
+			if (k == key)
+				return true;
+			i = (i + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the amount of names in this set.
+	 */
+	public int size()
+	{
+		return size;
+	}
+	
+	/**
+	 * Removes all names from this set.
+	 */
+	public void clear()
+	{
+		Arrays.fill(keys, 0L);
+		size = 0;
+	}
+	
+	private boolean addKey(long key)
+	{
+		int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		long k;
+		while ((k = keys[i]) != 0L)
+		{
+			if (k == key)
+				return false;
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		if (++size * 2 > keys.length)
+			grow();
+		return true;
+	}
+
+	private void grow()
+	{
+		long[] old = keys;
+		keys = new long[old.length * 2];
+		int mask = keys.length - 1;
+		for (long key : old)
+		{
+			if (key == 0L)
+				continue;
+			int i = hash(key) & mask;
+			while (keys[i] != 0L)
+				i = (i + 1) & mask;
+			keys[i] = key;
+		}
+	}
+
+	private static int hash(long key)
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+	
+	private static long pack(byte[] data, int offset)
+	{
+		long out = 0L;
+		for (int i = 0; i < NAME_LENGTH; i++)
+		{
+			int b = data[offset + i] & 0xff;
+			if (b == 0)
+				break;
+			if (b >= 'a' && b <= 'z')
+				b -= 32;
+			out |= ((long)b) << (i * 8);
+		}
+		return out;
+	}
+
+	private static long pack(String name)
+	{
+		long out = 0L;
+		for (int i = 0; i < NAME_LENGTH && i < name.length(); i++)
+		{
+			int b = Character.toUpperCase(name.charAt(i)) & 0xff;
+			if (b == 0)
+				break;
+			out |= ((long)b) << (i * 8);
+		}
+		return out;
+	}
+
+	private static String unpack(long key)
+	{
+		char[] chars = new char[NAME_LENGTH];
+		int length = 0;
+		while (length < NAME_LENGTH && (key & 0xffL) != 0L)
+		{
+			chars[length++] = (char)(key & 0xffL);
+			key >>>= 8;
+		}
+		return new String(chars, 0, length);
+	}
+	
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wtexport;
+
+import java.util.function.Consumer;
+
+/**
+ * Reads texture and flat names straight out of binary (Doom and Hexen format) map lumps,
+ * without reading each sidedef or sector into an object first.
+ * <p>Doom and Hexen maps share the same SIDEDEFS and SECTORS layouts, so this works for both.
+ * Names already seen by the passed-in {@link LumpNameSet} are skipped without allocating anything.
+ * @author Matthew Tropiano
+ */
+public final class MapLumpScanner
+{
+	/** Length of a single sidedef in SIDEDEFS. */
+	public static final int SIDEDEF_LENGTH = 30;
+	/** Length of a single sector in SECTORS. */
+	public static final int SECTOR_LENGTH = 26;
+
+	/** Offset of the upper texture name in a sidedef. */
+	private static final int SIDEDEF_TEXTURE_TOP = 4;
+	/** Offset of the lower texture name in a sidedef. */
+	private static final int SIDEDEF_TEXTURE_BOTTOM = 12;
+	/** Offset of the middle texture name in a sidedef. */
+	private static final int SIDEDEF_TEXTURE_MIDDLE = 20;
+	/** Offset of the floor texture name in a sector. */
+	private static final int SECTOR_TEXTURE_FLOOR = 4;
+	/** Offset of the ceiling texture name in a sector. */
+	private static final int SECTOR_TEXTURE_CEILING = 12;
+
+	private MapLumpScanner() {}
+	
+	/**
+	 * Scans SIDEDEFS lump data for texture names.
+	 * Any trailing bytes that do not make a whole sidedef are ignored.
+	 * @param data the lump data.
+	 * @param seen the set of names seen so far (added to).
+	 * @param newName called with each name that was not in the set before.
+	 * @return the amount of sidedefs scanned.
+	 */
+	public static int scanSidedefs(byte[] data, LumpNameSet seen, Consumer<String> newName)
+	{
+		int count = data.length / SIDEDEF_LENGTH;
+		int end = count * SIDEDEF_LENGTH;
+		for (int offset = 0; offset < end; offset += SIDEDEF_LENGTH)
+		{
+			accept(seen.add(data, offset + SIDEDEF_TEXTURE_TOP), newName);
+			accept(seen.add(data, offset + SIDEDEF_TEXTURE_MIDDLE), newName);
+			accept(seen.add(data, offset + SIDEDEF_TEXTURE_BOTTOM), newName);
+		}
+		return count;
+	}
+	
+	/**
+	 * Scans SECTORS lump data for flat names.
+	 * Any trailing bytes that do not make a whole sector are ignored.
+	 * @param data the lump data.
+	 * @param seen the set of names seen so far (added to).
+	 * @param newName called with each name that was not in the set before.
+	 * @return the amount of sectors scanned.
+	 */
+	public static int scanSectors(byte[] data, LumpNameSet seen, Consumer<String> newName)
+	{
+		int count = data.length / SECTOR_LENGTH;
+		int end = count * SECTOR_LENGTH;
+		for (int offset = 0; offset < end; offset += SECTOR_LENGTH)
+		{
+			accept(seen.add(data, offset + SECTOR_TEXTURE_FLOOR), newName);
+			accept(seen.add(data, offset + SECTOR_TEXTURE_CEILING), newName);
+		}
+		return count;
+	}
+	
+	private static void accept(String name, Consumer<String> newName)
+	{
+		if (name != null)
+			newName.accept(name);
+	}
+	
+}
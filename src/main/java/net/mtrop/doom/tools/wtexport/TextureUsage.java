@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wtexport;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * A set of used texture and flat names, as found by WTexScan and used by WTExport.
+ * <p>This lets WTexScan hand its results to WTExport directly, instead of writing them out as
+ * a text list and reading it back in (see {@link #writeList(PrintStream)} for that list format).
+ * @author Matthew Tropiano
+ */
+public class TextureUsage
+{
+	/** Texture names. */
+	private SortedSet<String> textures;
+	/** Flat names. */
+	private SortedSet<String> flats;
+
+	/**
+	 * Creates a new, empty usage set.
+	 */
+	public TextureUsage()
+	{
+		this.textures = new TreeSet<>();
+		this.flats = new TreeSet<>();
+	}
+
+	/**
+	 * Adds a texture name.
+	 * Null, blank, or "-" (no texture) names are not added.
+	 * @param name the texture name.
+	 * @return true if added, false if not (already added or not a name).
+	 */
+	public synchronized boolean addTexture(String name)
+	{
+		return name != null && !name.trim().isEmpty() && !name.equals("-") && textures.add(name);
+	}
+
+	/**
+	 * Adds a flat name.
+	 * Null or blank names are not added.
+	 * @param name the flat name.
+	 * @return true if added, false if not (already added or not a name).
+	 */
+	public synchronized boolean addFlat(String name)
+	{
+		return name != null && !name.trim().isEmpty() && flats.add(name);
+	}
+
+	/**
+	 * Adds all of the textures and flats from another usage set.
+	 * @param usage the other usage set.
+	 */
+	public synchronized void addAll(TextureUsage usage)
+	{
+		for (String name : usage.getTextures())
+			addTexture(name);
+		for (String name : usage.getFlats())
+			addFlat(name);
+	}
+
+	/**
+	 * @return an unmodifiable, sorted view of the texture names.
+	 */
+	public SortedSet<String> getTextures()
+	{
+		return Collections.unmodifiableSortedSet(textures);
+	}
+
+	/**
+	 * @return an unmodifiable, sorted view of the flat names.
+	 */
+	public SortedSet<String> getFlats()
+	{
+		return Collections.unmodifiableSortedSet(flats);
+	}
+
+	/**
+	 * @return true if there are no textures nor flats in this set, false otherwise.
+	 */
+	public synchronized boolean isEmpty()
+	{
+		return textures.isEmpty() && flats.isEmpty();
+	}
+
+	/**
+	 * Writes this usage set out as a WTExport input list: the textures after a <code>:textures</code> line,
+	 * the flats after a <code>:flats</code> line, then an <code>:end</code> line. A section is left out if it is empty.
+	 * @param out the print stream to write to.
+	 */
+	public synchronized void writeList(PrintStream out)
+	{
+		if (!textures.isEmpty())
+		{
+			out.println(":textures");
+			for (String name : textures)
+				out.println(name);
+		}
+		if (!flats.isEmpty())
+		{
+			out.println(":flats");
+			for (String name : flats)
+				out.println(name);
+		}
+		out.println(":end");
+	}
+
+}
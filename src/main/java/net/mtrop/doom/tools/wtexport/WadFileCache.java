@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wtexport;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.mtrop.doom.WadFile;
+import net.mtrop.doom.tools.common.MappedWadFile;
+import net.mtrop.doom.tools.struct.util.IOUtils;
+
+/**
+ * A set of open WAD files that are shared between tools in the same pipeline (for example,
+ * WTexScan and WTExport), so that a WAD that both of them read is only opened and indexed once.
+ * <p>If the cache is mapped, each WAD's lump content can also be read through a memory-mapped view of
+ * the same file ({@link #getContent(WadFile)}), instead of a seek and read for each lump.
+ * <p>WAD files fetched from this cache must not be closed by the callers - they are closed when this cache is closed.
+ * @author Matthew Tropiano
+ */
+public class WadFileCache implements AutoCloseable
+{
+	/** Open WADs by canonical path. */
+	private Map<String, WadFile> openWads;
+	/** Mapped content of open WADs. */
+	private Map<WadFile, MappedWadFile> mappedWads;
+	/** Map the WADs? */
+	private boolean mapped;
+
+	/**
+	 * Creates a new, empty cache that does not map its WADs.
+	 */
+	public WadFileCache()
+	{
+		this(false);
+	}
+
+	/**
+	 * Creates a new, empty cache.
+	 * @param mapped if true, each WAD's content is also memory-mapped when it is opened.
+	 */
+	public WadFileCache(boolean mapped)
+	{
+		this.openWads = new HashMap<>();
+		this.mappedWads = new HashMap<>();
+		this.mapped = mapped;
+	}
+
+	/**
+	 * @return true if this cache maps the content of its WADs, false if not.
+	 */
+	public boolean isMapped()
+	{
+		return mapped;
+	}
+
+	/**
+	 * Gets an open WAD file, opening it if it was not opened before through this cache.
+	 * @param file the WAD file to open.
+	 * @return the open WAD file.
+	 * @throws IOException if the file could not be read, or is not a WAD file.
+	 * @throws SecurityException if the file could not be read due to access permissions.
+	 */
+	public synchronized WadFile open(File file) throws IOException
+	{
+		String key = file.getCanonicalPath();
+		WadFile out;
+		if ((out = openWads.get(key)) == null)
+		{
+			out = new WadFile(file);
+			if (mapped)
+			{
+				try {
+					mappedWads.put(out, new MappedWadFile(file));
+				} catch (IOException | SecurityException e) {
+					IOUtils.close(out);
+					throw e;
+				}
+			}
+			openWads.put(key, out);
+		}
+		return out;
+	}
+
+	/**
+	 * Gets the memory-mapped content of a WAD file that was opened through this cache.
+	 * Entries from the WAD file can be read through it.
+	 * @param wadFile the open WAD file.
+	 * @return the mapped content, or null if this cache is not mapped or the WAD was not opened through it.
+	 */
+	public synchronized MappedWadFile getContent(WadFile wadFile)
+	{
+		return mappedWads.get(wadFile);
+	}
+
+	/**
+	 * Closes all of the WAD files in this cache, and empties it.
+	 */
+	@Override
+	public synchronized void close()
+	{
+		for (WadFile wad : openWads.values())
+			IOUtils.close(wad);
+		for (MappedWadFile wad : mappedWads.values())
+			IOUtils.close(wad);
+		openWads.clear();
+		mappedWads.clear();
+	}
+
+}
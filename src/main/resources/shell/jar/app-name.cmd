@@ -8,16 +8,23 @@ SET JAVAOPTS={{JAVA_OPTIONS}}
 SET MAINCLASS={{MAIN_CLASSNAME}}
 SET DOOMTOOLS_PATH=%~dp0
 SET DOOMTOOLS_JAR=
+SET CDSOPTS=
 
 REM ===== Get latest JAR.
 FOR /F %%F in ('dir "%DOOMTOOLS_PATH%\jar\*.jar" /a/b/n') DO (SET DOOMTOOLS_JAR=jar\%%F)
 
 REM =========================================================================
 
-if not "%DOOMTOOLS_JAR%"=="" goto _findjava
+if not "%DOOMTOOLS_JAR%"=="" goto _findcds
 echo FATAL ERROR: DoomTools application JAR NOT FOUND!
 goto _end
 
+:_findcds
+REM ===== Class-data sharing archive (see "doomtools --update-cds"), unless it is being replaced.
+
+if /I "%~1"=="--update-cds" goto _findjava
+if exist "%DOOMTOOLS_PATH%\%DOOMTOOLS_JAR:~0,-4%.jsa" SET CDSOPTS="-XX:SharedArchiveFile=%DOOMTOOLS_PATH%\%DOOMTOOLS_JAR:~0,-4%.jsa" -Xshare:auto
+
 :_findjava
 REM ===== Java Scan
 
@@ -60,7 +67,7 @@ goto _end
 REM =========================
 
 :_calljava
-"%JAVAEXE%" -cp "%DOOMTOOLS_PATH%\%DOOMTOOLS_JAR%" %JAVAOPTS% %MAINCLASS% %*
+"%JAVAEXE%" -cp "%DOOMTOOLS_PATH%\%DOOMTOOLS_JAR%" %JAVAOPTS% %CDSOPTS% %MAINCLASS% %*
 
 :_end
 ENDLOCAL && exit /B %ERRORLEVEL%
@@ -18,8 +18,18 @@ MAINCLASS={{MAIN_CLASSNAME}}
 export DOOMTOOLS_PATH="$(cd "$(dirname $($CMD_READLINK "$0"))"; pwd)"
 export DOOMTOOLS_JAR="jar/$((cd ${DOOMTOOLS_PATH}/jar && ls -1a *.jar) | sort | tail -1)"
 JAR_PATH="${DOOMTOOLS_PATH}/${DOOMTOOLS_JAR}"
+
+# Class-data sharing archive (see `doomtools --update-cds`), unless it is being replaced.
+CDS_PATH="${JAR_PATH%.jar}.jsa"
+if [ ! -f "${CDS_PATH}" ] || [ "$1" == "--update-cds" ]; then
+	CDS_PATH=
+fi
+
 if [[ "$OSTYPE" == "cygwin"* ]]; then
 	JAR_PATH="$(cygpath -w -a "${JAR_PATH}")"
+	if [ -n "${CDS_PATH}" ]; then
+		CDS_PATH="$(cygpath -w -a "${CDS_PATH}")"
+	fi
 	DOOMTOOLS_PATH="$(cygpath -w -a "${DOOMTOOLS_PATH}")"
 fi
 
@@ -38,7 +48,7 @@ elif [ -n "${JRE_HOME}" ]; then
 fi
 
 if [[ -n "$JAVACMD" ]]; then
-	"$JAVACMD" -cp "${JAR_PATH}" $JAVAOPTS $MAINCLASS $*
+	"$JAVACMD" -cp "${JAR_PATH}" $JAVAOPTS ${CDS_PATH:+"-XX:SharedArchiveFile=${CDS_PATH}"} ${CDS_PATH:+-Xshare:auto} $MAINCLASS $*
 else
 	echo "Java 8 or higher could not be detected. To use these tools, a JRE must be"
 	echo "installed."
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools;
+
+import java.awt.AWTEvent;
+import java.awt.GraphicsEnvironment;
+import java.awt.Toolkit;
+import java.awt.event.WindowEvent;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.mtrop.doom.tools.common.Common;
+import net.mtrop.doom.tools.gui.DoomToolsGUIMain;
+import net.mtrop.doom.tools.struct.util.FileUtils;
+import net.mtrop.doom.tools.struct.util.FileUtils.TempFile;
+
+/**
+ * Compares tool startup time with and without the class-data sharing archive
+ * (see <code>doomtools --update-cds</code> or the <code>cds</code> build target).
+ * <p>
+ * Measures time-to-first-output for <code>decohack --version</code>, a small WadMerge run,
+ * and the time until the DoomTools GUI main window is shown (skipped if headless).
+ * <p>
+ * Usage: <code>StartupBenchmarkMain [path to doomtools JAR] [runs]</code>
+ */
+public final class StartupBenchmarkMain
+{
+	/** Line printed by the window probe when a window opens. */
+	private static final String WINDOW_MARKER = "@@WINDOW-SHOWN@@";
+
+	public static void main(String[] args) throws Exception
+	{
+		if (args.length < 1)
+		{
+			System.err.println("Usage: StartupBenchmarkMain [path to doomtools JAR] [runs]");
+			System.exit(1);
+		}
+
+		File jarFile = new File(args[0]);
+		int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		File archiveFile = Common.getCDSArchiveFile(jarFile);
+
+		System.out.println("Java:    " + System.getProperty("java.version") + " (" + System.getProperty("java.home") + ")");
+		System.out.println("JAR:     " + jarFile.getPath());
+		if (!archiveFile.exists())
+			System.out.println("Archive: " + archiveFile.getPath() + " NOT FOUND - baseline only.");
+		else
+			System.out.println("Archive: " + archiveFile.getPath() + (isArchiveUsable(jarFile, archiveFile) ? "" : " (NOT USABLE by this JVM - CDS runs will fall back)"));
+		System.out.println("Runs:    " + runs + " (median, after one warm-up run)");
+		System.out.println();
+
+		try (TempFile script = FileUtils.createTempFile(); TempFile wad = FileUtils.createTempFile())
+		{
+			try (Writer writer = new OutputStreamWriter(new FileOutputStream(script), StandardCharsets.UTF_8))
+			{
+				writer.write("create out\nmarker out MAP01\nmarker out THINGS\nfinish out \"" + wad.getPath().replace('\\', '/') + "\"\nend\n");
+			}
+
+			String classPath = jarFile.getPath();
+			benchmark("decohack --version", runs, archiveFile, classPath, DecoHackMain.class.getName(), null, "--version");
+			benchmark("wadmerge (small)", runs, archiveFile, classPath, WadMergeMain.class.getName(), null, script.getPath());
+		}
+
+		if (GraphicsEnvironment.isHeadless())
+		{
+			System.out.println("GUI window shown: skipped (headless).");
+		}
+		else
+		{
+			// The probe class is not in the JAR - append this class's location.
+			String classPath = jarFile.getPath() + File.pathSeparator + getClassLocation().getPath();
+			benchmark("GUI window shown", runs, archiveFile, classPath, WindowProbe.class.getName(), WINDOW_MARKER);
+		}
+	}
+
+	private static void benchmark(String name, int runs, File archiveFile, String classPath, String mainClass, String marker, String ... args) throws IOException, InterruptedException
+	{
+		long base = median(runs, () -> timeToOutput(null, classPath, mainClass, marker, args));
+		if (!archiveFile.exists())
+		{
+			System.out.printf("%-20s  %6d ms\n", name, base);
+			return;
+		}
+		long cds = median(runs, () -> timeToOutput(archiveFile, classPath, mainClass, marker, args));
+		System.out.printf("%-20s  %6d ms -> %6d ms with CDS (%+.1f%%)\n", name, base, cds, (cds - base) * 100.0 / base);
+	}
+
+	private static long median(int runs, Timing timing) throws IOException, InterruptedException
+	{
+		timing.time(); // warm-up (file cache).
+		long[] times = new long[runs];
+		for (int i = 0; i < runs; i++)
+			times[i] = timing.time();
+		Arrays.sort(times);
+		return times[runs / 2];
+	}
+
+	// Milliseconds until the first line of output (or the marker line, if not null).
+	private static long timeToOutput(File archiveFile, String classPath, String mainClass, String marker, String ... args) throws IOException, InterruptedException
+	{
+		List<String> command = javaCommand(archiveFile, classPath, "-Xshare:auto");
+		command.add(mainClass);
+		command.addAll(Arrays.asList(args));
+
+		long start = System.nanoTime();
+		Process process = (new ProcessBuilder(command)).redirectErrorStream(true).start();
+		long elapsed = -1L;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream())))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (elapsed < 0 && (marker == null || marker.equals(line)))
+					elapsed = (System.nanoTime() - start) / 1000000L;
+			}
+		}
+		process.waitFor();
+		if (elapsed < 0)
+			throw new IOException(mainClass + " produced no output (exit " + process.exitValue() + ").");
+		return elapsed;
+	}
+
+	// With -Xshare:on, the JVM refuses to start if it cannot map the archive.
+	private static boolean isArchiveUsable(File jarFile, File archiveFile) throws IOException, InterruptedException
+	{
+		List<String> command = javaCommand(archiveFile, jarFile.getPath(), "-Xshare:on");
+		command.add(DecoHackMain.class.getName());
+		command.add("--version");
+		return (new ProcessBuilder(command)).redirectErrorStream(true).redirectOutput(FileUtils.NULL_FILE).start().waitFor() == 0;
+	}
+
+	private static List<String> javaCommand(File archiveFile, String classPath, String shareMode)
+	{
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.add("-Xms64M");
+		command.add("-Xmx4G");
+		if (archiveFile != null)
+		{
+			command.add("-XX:SharedArchiveFile=" + archiveFile.getPath());
+			command.add(shareMode);
+		}
+		command.add("-cp");
+		command.add(classPath);
+		return command;
+	}
+
+	private static File getClassLocation() throws URISyntaxException
+	{
+		return new File(StartupBenchmarkMain.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+	}
+
+	@FunctionalInterface
+	private interface Timing
+	{
+		long time() throws IOException, InterruptedException;
+	}
+
+	/**
+	 * Starts the DoomTools GUI, prints a marker when its first window opens, and exits.
+	 */
+	public static final class WindowProbe
+	{
+		public static void main(String[] args)
+		{
+			Toolkit.getDefaultToolkit().addAWTEventListener((event) -> {
+				if (event.getID() == WindowEvent.WINDOW_OPENED)
+				{
+					System.out.println(WINDOW_MARKER);
+					System.out.flush();
+					Runtime.getRuntime().halt(0);
+				}
+			}, AWTEvent.WINDOW_EVENT_MASK);
+			DoomToolsGUIMain.main(new String[0]);
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import net.mtrop.doom.WadBuffer;
+import net.mtrop.doom.WadEntry;
+import net.mtrop.doom.WadFile;
+
+/**
+ * Checks that every way of reading a lump from a {@link MappedWadFile} gives the same bytes as {@link WadFile#getData(int)},
+ * for every entry: markers and other empty lumps, duplicated names, and lumps of all sizes.
+ */
+public final class MappedWadFileTest
+{
+	public static void main(String[] args) throws Exception
+	{
+		Random random = new Random(0L);
+		File dir = Files.createTempDirectory("mappedwadfiletest").toFile();
+		try {
+			File file = new File(dir, "test.wad");
+			WadBuffer buffer = new WadBuffer();
+			buffer.addMarker("MAP01");
+			for (int i = 0; i < 200; i++)
+			{
+				switch (random.nextInt(5))
+				{
+					case 0:
+						buffer.addMarker("MARK" + i);
+						break;
+					case 1:
+						buffer.addData("EMPTY", new byte[0]);
+						break;
+					case 2:
+						buffer.addData("DUPE", data(random, 1 + random.nextInt(16)));
+						break;
+					default:
+						buffer.addData("LUMP" + i, data(random, 1 + random.nextInt(20000)));
+						break;
+				}
+			}
+			buffer.addData("BIG", data(random, 1 << 20));
+			buffer.addMarker("F_END");
+			buffer.writeToFile(file);
+
+			try (WadFile wad = new WadFile(file); MappedWadFile mapped = new MappedWadFile(file))
+			{
+				check(mapped.getEntryCount() == wad.getEntryCount(), "entry count " + mapped.getEntryCount() + ", expected " + wad.getEntryCount());
+				check(mapped.isIWAD() == (wad.getType() == WadFile.Type.IWAD), "IWAD flag differs");
+				int empty = 0;
+				for (int i = 0; i < wad.getEntryCount(); i++)
+				{
+					WadEntry entry = wad.getEntry(i);
+					byte[] expected = wad.getData(i);
+					String label = "entry " + i + " (" + entry.getName() + ")";
+					if (expected.length == 0)
+						empty++;
+
+					check(mapped.getEntryName(i).equals(entry.getName()), label + ": name " + mapped.getEntryName(i));
+					check(mapped.getEntrySize(i) == entry.getSize(), label + ": size " + mapped.getEntrySize(i));
+					check(Arrays.equals(mapped.getData(i), expected), label + ": getData(index) differs");
+					check(Arrays.equals(mapped.getData(entry), expected), label + ": getData(entry) differs");
+					check(Arrays.equals(toBytes(mapped.slice(i)), expected), label + ": slice(index) differs");
+					check(Arrays.equals(toBytes(mapped.slice(entry)), expected), label + ": slice(entry) differs");
+					check(Arrays.equals(readAll(mapped.getInputStream(i), random), expected), label + ": getInputStream(index) differs");
+					check(Arrays.equals(readAll(mapped.getInputStream(entry), random), expected), label + ": getInputStream(entry) differs");
+
+					ByteBuffer slice = mapped.slice(i);
+					check(slice.order() == ByteOrder.LITTLE_ENDIAN, label + ": slice is not little-endian");
+					check(slice.position() == 0 && slice.remaining() == expected.length, label + ": slice bounds are wrong");
+					if (expected.length >= 4)
+					{
+						int value = (expected[0] & 0xff) | (expected[1] & 0xff) << 8 | (expected[2] & 0xff) << 16 | (expected[3] & 0xff) << 24;
+						check(slice.getInt(0) == value, label + ": slice does not read little-endian");
+					}
+					try {
+						slice.put((byte)0);
+						throw new IllegalStateException("Failed: " + label + ": slice is writable");
+					} catch (ReadOnlyBufferException e) {
+						// Good.
+					}
+
+					int skip = expected.length / 3;
+					try (InputStream in = mapped.getInputStream(i))
+					{
+						check(in.skip(skip) == skip, label + ": skip() skipped the wrong amount");
+						check(Arrays.equals(readAll(in, random), Arrays.copyOfRange(expected, skip, expected.length)), label + ": content after skip() differs");
+					}
+				}
+				check(empty > 0, "no empty entries were tested");
+
+				for (String name : new String[]{"MAP01", "DUPE", "EMPTY", "BIG", "F_END", "dupe", "NOTHERE"})
+				{
+					check(mapped.indexOf(name) == wad.indexOf(name), "indexOf(" + name + ") is " + mapped.indexOf(name) + ", expected " + wad.indexOf(name));
+					check(mapped.lastIndexOf(name) == wad.lastIndexOf(name), "lastIndexOf(" + name + ") is " + mapped.lastIndexOf(name) + ", expected " + wad.lastIndexOf(name));
+					check(mapped.contains(name) == wad.contains(name), "contains(" + name + ") differs");
+					int index = wad.indexOf(name);
+					check(index < 0 ? mapped.getData(name) == null : Arrays.equals(mapped.getData(name), wad.getData(index)), "getData(" + name + ") differs");
+				}
+				int first = wad.indexOf("DUPE");
+				if (first >= 0)
+					check(mapped.indexOf("DUPE", first + 1) == wad.indexOf("DUPE", first + 1), "indexOf(DUPE, start) differs");
+
+				try {
+					mapped.getData(wad.getEntryCount());
+					throw new IllegalStateException("Failed: getData() past the last entry did not throw");
+				} catch (IndexOutOfBoundsException e) {
+					// Good.
+				}
+			}
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+		System.out.println("OK");
+	}
+
+	private static byte[] data(Random random, int length)
+	{
+		byte[] out = new byte[length];
+		random.nextBytes(out);
+		return out;
+	}
+
+	private static byte[] toBytes(ByteBuffer buffer)
+	{
+		byte[] out = new byte[buffer.remaining()];
+		buffer.duplicate().get(out);
+		return out;
+	}
+
+	// Reads to the end with a mix of single-byte and block reads, checking available() along the way.
+	private static byte[] readAll(InputStream in, Random random) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream stream = in)
+		{
+			byte[] block = new byte[1 + random.nextInt(4096)];
+			while (true)
+			{
+				int available = stream.available();
+				int choice = random.nextInt(3);
+				if (choice == 0)
+				{
+					int b = stream.read();
+					if (b < 0)
+						break;
+					out.write(b);
+				}
+				else
+				{
+					int n = stream.read(block, 0, block.length);
+					if (n < 0)
+						break;
+					check(n <= available, "read more than available");
+					out.write(block, 0, n);
+				}
+			}
+			check(stream.available() == 0, "bytes still available at end of stream");
+			check(stream.skip(10) == 0, "skipped past end of stream");
+		}
+		return out.toByteArray();
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
@@ -4,7 +4,6 @@ import static net.mtrop.doom.tools.decohack.patches.ConstantsID24.*;
 
 import java.util.Map;
 
-import net.mtrop.doom.tools.decohack.data.DEHThing;
 import net.mtrop.doom.tools.decohack.data.DEHWeapon;
 
 public final class ExtractData 
@@ -13,26 +12,26 @@ public final class ExtractData
 	{
 		int strlen = Integer.MIN_VALUE;
 		
-		for (Map.Entry<Integer, DEHThing> entry : DEHTHINGID24.entrySet())
+		for (int i = DEHTHINGID24.getFirstIndex(); i < DEHTHINGID24.getFirstIndex() + DEHTHINGID24.size(); i++)
 		{
-			strlen = Math.max(strlen, toFriendlyName(entry.getValue().getName()).length());
+			strlen = Math.max(strlen, toFriendlyName(DEHTHINGID24.get(i).getName()).length());
 		}
 
-		for (Map.Entry<Integer, DEHThing> entry : DEHTHINGID24.entrySet())
+		for (int i = DEHTHINGID24.getFirstIndex(); i < DEHTHINGID24.getFirstIndex() + DEHTHINGID24.size(); i++)
 		{
-			System.out.printf("#define MTF_%-" + strlen + "s %d\n", toFriendlyName(entry.getValue().getName()), entry.getKey());
+			System.out.printf("#define MTF_%-" + strlen + "s %d\n", toFriendlyName(DEHTHINGID24.get(i).getName()), i);
 		}
 
 		strlen = Integer.MIN_VALUE;
 
-		for (Map.Entry<Integer, DEHThing> entry : DEHTHINGID24.entrySet())
+		for (int i = DEHTHINGID24.getFirstIndex(); i < DEHTHINGID24.getFirstIndex() + DEHTHINGID24.size(); i++)
 		{
-			strlen = Math.max(strlen, toAlias(entry.getValue().getName()).length());
+			strlen = Math.max(strlen, toAlias(DEHTHINGID24.get(i).getName()).length());
 		}
 
-		for (Map.Entry<Integer, DEHThing> entry : DEHTHINGID24.entrySet())
+		for (int i = DEHTHINGID24.getFirstIndex(); i < DEHTHINGID24.getFirstIndex() + DEHTHINGID24.size(); i++)
 		{
-			System.out.printf("alias thing %-" + strlen + "s %d\n", toAlias(entry.getValue().getName()), entry.getKey());
+			System.out.printf("alias thing %-" + strlen + "s %d\n", toAlias(DEHTHINGID24.get(i).getName()), i);
 		}
 
 		strlen = Integer.MIN_VALUE;
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doomfetch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Searches a set of fake drivers with uneven answer times, and checks that matches come in
+ * priority order, later matches can be fallen back on, and unused searches are cancelled and their responses closed.
+ */
+public final class DriverSearchTest
+{
+	public static void main(String[] args) throws Exception
+	{
+		Map<String, FakeDriver> created = new LinkedHashMap<>();
+		Map<String, BiFunction<PrintStream, PrintStream, FetchDriver>> drivers = new LinkedHashMap<>();
+		drivers.put("slowmiss", fake(created, "slowmiss", 200, false));
+		drivers.put("slowhit", fake(created, "slowhit", 300, true));
+		drivers.put("fasthit", fake(created, "fasthit", 10, true));
+		drivers.put("hang", fake(created, "hang", 60000, true));
+
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(bos, true);
+
+		// Take the first match, and drop the rest.
+		long start = System.currentTimeMillis();
+		DriverSearch winner;
+		try (DriverSearch.Matches matches = DriverSearch.search(drivers, "test", out, out))
+		{
+			winner = matches.next();
+		}
+		long time = System.currentTimeMillis() - start;
+
+		check(winner != null, "a driver should match");
+		check(winner.getDriverName().equals("slowhit"), "first match in priority order should win, not " + winner.getDriverName());
+		check(winner.getResponse() != null && !((FakeResponse)winner.getResponse()).closed, "winning response should be open");
+		check(time < 5000, "search should not wait for cancelled drivers: " + time + " ms");
+		check(bos.toString().replace("\r", "").equals("slowmiss searching\nslowhit searching\n"), "output should be in priority order, up to the winner:\n" + bos);
+
+		check(!created.get("slowhit").isCancelled(), "winner should not be cancelled");
+		check(created.get("fasthit").isCancelled(), "fasthit should be cancelled");
+		check(created.get("hang").isCancelled(), "hang should be cancelled");
+		
+		// the cancelled drivers finish (or notice the cancel) in the background; give them a moment.
+		Thread.sleep(200);
+		check(created.get("fasthit").response.closed, "fasthit's response should be closed");
+		check(created.get("hang").response == null || created.get("hang").response.closed, "hang's response should be closed");
+
+		// Fall through to the next match (as if the first download failed).
+		created.clear();
+		bos.reset();
+		try (DriverSearch.Matches matches = DriverSearch.search(drivers, "test", out, out))
+		{
+			DriverSearch first = matches.next();
+			check(first != null && first.getDriverName().equals("slowhit"), "first match should be slowhit");
+			DriverSearch second = matches.next();
+			check(second != null && second.getDriverName().equals("fasthit"), "second match should be fasthit, not " + (second != null ? second.getDriverName() : null));
+			check(!((FakeResponse)second.getResponse()).closed, "second match's response should be open");
+		}
+		check(!created.get("fasthit").isCancelled(), "a returned match should not be cancelled");
+		check(!created.get("fasthit").response.closed, "a returned match's response should not be closed");
+		check(created.get("hang").isCancelled(), "hang should be cancelled once the matches are closed");
+		check(bos.toString().replace("\r", "").equals("slowmiss searching\nslowhit searching\nfasthit searching\n"), "output should be in priority order, up to the second match:\n" + bos);
+
+		// No matches.
+		drivers.clear();
+		created.clear();
+		drivers.put("miss1", fake(created, "miss1", 50, false));
+		drivers.put("miss2", fake(created, "miss2", 10, false));
+		try (DriverSearch.Matches matches = DriverSearch.search(drivers, "test", out, out))
+		{
+			check(matches.next() == null, "no driver should match");
+		}
+		
+		System.out.println("OK");
+	}
+
+	private static BiFunction<PrintStream, PrintStream, FetchDriver> fake(Map<String, FakeDriver> created, String name, long delay, boolean found)
+	{
+		return (out, err) -> {
+			FakeDriver driver = new FakeDriver(out, err, name, delay, found);
+			created.put(name, driver);
+			return driver;
+		};
+	}
+
+	private static class FakeDriver extends FetchDriver
+	{
+		private String name;
+		private long delay;
+		private boolean found;
+		private volatile FakeResponse response;
+
+		private FakeDriver(PrintStream out, PrintStream err, String name, long delay, boolean found)
+		{
+			super(out, err);
+			this.name = name;
+			this.delay = delay;
+			this.found = found;
+		}
+
+		@Override
+		public Response getStreamFor(String name) throws IOException
+		{
+			out.println(this.name + " searching");
+			long end = System.currentTimeMillis() + delay;
+			while (System.currentTimeMillis() < end)
+			{
+				if (isCancelled())
+					return null;
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException e) {
+					return null;
+				}
+			}
+			return found ? (response = new FakeResponse(name + ".zip")) : null;
+		}
+	}
+
+	private static class FakeResponse extends FetchDriver.Response
+	{
+		private volatile boolean closed;
+
+		private FakeResponse(String filename)
+		{
+			super(filename, "", "", null);
+			this.closed = false;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			closed = true;
+		}
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
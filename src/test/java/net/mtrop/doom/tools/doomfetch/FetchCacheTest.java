@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doomfetch;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import net.mtrop.doom.tools.struct.util.FileUtils;
+
+/**
+ * Checks that cached downloads are found by lock entry and by name, and that name lookups expire.
+ */
+public final class FetchCacheTest
+{
+	public static void main(String[] args) throws Exception
+	{
+		File root = Files.createTempDirectory("fetchcache").toFile();
+		try {
+			File download = new File(root, "download.zip");
+			Files.write(download.toPath(), "test content".getBytes(StandardCharsets.UTF_8));
+
+			FetchCache cache = new FetchCache(new File(root, "cache"));
+			check(cache.get("test", "idgames", "abc", "") == null, "empty cache should miss");
+			check(cache.getLatest("test", 60000L) == null, "empty cache should miss by name");
+
+			cache.put("test", "idgames", "abc", "Mon, 01 Jan 2024 00:00:00 GMT", "test.zip", download);
+
+			FetchCache.Entry entry = cache.get("test", "idgames", "abc", "Mon, 01 Jan 2024 00:00:00 GMT");
+			check(entry != null, "lock entry should hit");
+			check(entry.getFilename().equals("test.zip"), "file name should be kept: " + entry.getFilename());
+			check(new String(Files.readAllBytes(entry.getFile().toPath()), StandardCharsets.UTF_8).equals("test content"), "content should match");
+			check(cache.get("test", "idgames", "abd", "Mon, 01 Jan 2024 00:00:00 GMT") == null, "changed ETag should miss");
+			check(cache.get("test", "doomshack", "abc", "Mon, 01 Jan 2024 00:00:00 GMT") == null, "other driver should miss");
+
+			entry = cache.getLatest("TEST", 60000L);
+			check(entry != null, "fresh name lookup should hit");
+			check(entry.getDriver().equals("idgames") && entry.getETag().equals("abc"), "name lookup should carry the lock entry");
+
+			Thread.sleep(50);
+			check(cache.getLatest("test", 10L) == null, "stale name lookup should miss");
+			check(cache.getLatest("test", 0L) == null, "zero age should always miss");
+
+			// No ETag or date: only found by name.
+			cache.put("other", "dogsoft", "", "", "other.zip", download);
+			check(cache.get("other", "dogsoft", "", "") == null, "unversioned entry should not be indexed");
+			check(cache.getLatest("other", 60000L) != null, "unversioned entry should be found by name");
+		} finally {
+			FileUtils.deleteDirectory(root, true);
+		}
+		System.out.println("OK");
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doommake;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a small target graph with uneven target times, and checks that independent targets overlap,
+ * dependencies finish first, output comes out in declaration order, and failures and cycles are handled.
+ */
+public final class TargetSchedulerTest
+{
+	public static void main(String[] args) throws Exception
+	{
+		Map<String, List<String>> targets = new LinkedHashMap<>();
+		targets.put("assets", Collections.emptyList());
+		targets.put("textures", Collections.emptyList());
+		targets.put("maps", Collections.emptyList());
+		targets.put("maptextures", Arrays.asList("maps", "textures"));
+		targets.put("patch", Collections.emptyList());
+
+		StringBuilder expected = new StringBuilder();
+		for (String name : targets.keySet())
+			expected.append(name).append(" start\n").append(name).append(" warning\n").append(name).append(" end\n");
+
+		AtomicInteger running = new AtomicInteger(0);
+		AtomicInteger mostRunning = new AtomicInteger(0);
+		Map<String, Long> finished = Collections.synchronizedMap(new LinkedHashMap<>());
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(bos, true);
+
+		long start = System.currentTimeMillis();
+		Map<String, Integer> results = new TargetScheduler(4).run(targets, (name, o, e) -> {
+			mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			for (String dependency : targets.get(name))
+				check(finished.containsKey(dependency), name + " started before " + dependency + " finished");
+			o.println(name + " start");
+			e.println(name + " warning");
+			sleep(name.equals("assets") ? 400 : 100);
+			o.println(name + " end");
+			finished.put(name, System.currentTimeMillis());
+			running.decrementAndGet();
+			return 0;
+		}, out, out);
+		long time = System.currentTimeMillis() - start;
+
+		check(results.size() == targets.size(), "all targets should run");
+		for (Map.Entry<String, Integer> entry : results.entrySet())
+			check(entry.getValue() == 0, entry.getKey() + " should succeed:\n" + bos);
+		check(bos.toString().replace("\r", "").equals(expected.toString()), "output should be in declaration order:\n" + bos);
+		check(mostRunning.get() > 1 && mostRunning.get() <= 4, "targets should overlap, up to the jobs: " + mostRunning.get());
+		System.out.println("Parallel: " + time + " ms (one at a time is about 800 ms).");
+
+		// Failure: nothing that depends on it runs.
+		results = new TargetScheduler(1).run(targets, (name, o, e) -> name.equals("maps") ? 3 : 0, out, out);
+		check(results.get("maps") == 3, "maps should fail");
+		check(!results.containsKey("maptextures"), "maptextures should not run after maps failed");
+
+		// Nothing to run.
+		results = new TargetScheduler(4).run(new LinkedHashMap<>(), (name, o, e) -> 0, out, out);
+		check(results.isEmpty(), "no targets should give no results");
+
+		// Cycle.
+		targets.put("maps", Arrays.asList("maptextures"));
+		try {
+			new TargetScheduler(2).run(targets, (name, o, e) -> 0, out, out);
+			check(false, "cycle should be found");
+		} catch (IllegalArgumentException e) {
+			System.out.println(e.getMessage());
+		}
+		System.out.println("OK");
+	}
+
+	private static void sleep(long millis)
+	{
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
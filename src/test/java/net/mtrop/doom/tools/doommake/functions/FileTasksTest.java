@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doommake.functions;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.blackrook.rookscript.ScriptValue;
+import com.blackrook.rookscript.ScriptValue.ErrorType;
+
+import net.mtrop.doom.tools.struct.util.FileUtils;
+
+/**
+ * Tests the parallel file tasks behind COPYDIR() and UNZIP(): results come back in task order,
+ * the first error in task order wins with everything before it finished, nothing is still running
+ * once they return, and files copied into the same new directories at once all land.
+ */
+public final class FileTasksTest
+{
+	private static final int TASKS = 200;
+
+	public static void main(String[] args) throws Exception
+	{
+		System.setProperty("doommake.io.threads", "8");
+		Random random = new Random(0L);
+
+		// Order.
+		List<Consumer<ScriptValue>> tasks = new ArrayList<>();
+		for (int i = 0; i < TASKS; i++)
+		{
+			final int index = i;
+			final int delay = random.nextInt(5);
+			tasks.add((value) -> {
+				pause(delay);
+				value.set(index);
+			});
+		}
+		ScriptValue result = ScriptValue.create(null);
+		result.setEmptyList(TASKS);
+		DoomMakeFunctions.runFileTasks(tasks, result);
+		check(result.isList() && result.length() == TASKS, "expected a list of " + TASKS + " results");
+		ScriptValue temp = ScriptValue.create(null);
+		for (int i = 0; i < TASKS; i++)
+		{
+			result.listGetByIndex(i, temp);
+			check(temp.asInt() == i, "result " + i + " is " + temp.asInt());
+		}
+		System.out.println("Order OK.");
+
+		// First error. The later error finishes first, but the earlier one must win.
+		for (int run = 0; run < 5; run++)
+		{
+			final int firstError = 50 + run * 10;
+			final int laterError = firstError + 20;
+			final boolean[] ran = new boolean[TASKS];
+			final AtomicInteger running = new AtomicInteger(0);
+			final AtomicBoolean returned = new AtomicBoolean(false);
+			final AtomicBoolean ranAfterReturn = new AtomicBoolean(false);
+			tasks.clear();
+			for (int i = 0; i < TASKS; i++)
+			{
+				final int index = i;
+				final int delay = index == firstError ? 50 : random.nextInt(3);
+				tasks.add((value) -> {
+					running.incrementAndGet();
+					try {
+						if (returned.get())
+							ranAfterReturn.set(true);
+						pause(delay);
+						ran[index] = true;
+						if (index == firstError || index == laterError)
+							value.setError("IOError", "task " + index);
+						else
+							value.set(index);
+					} finally {
+						running.decrementAndGet();
+					}
+				});
+			}
+			result = ScriptValue.create(null);
+			result.setEmptyList(TASKS);
+			DoomMakeFunctions.runFileTasks(tasks, result);
+			returned.set(true);
+			check(running.get() == 0, "tasks still running after return");
+			check(result.isError(), "expected an error");
+			String message = result.asObjectType(ErrorType.class).getMessage();
+			check(message.equals("task " + firstError), "expected the error from task " + firstError + ", got: " + message);
+			for (int i = 0; i <= firstError; i++)
+				check(ran[i], "task " + i + " before the first error did not run");
+			pause(20);
+			check(!ranAfterReturn.get(), "a task started after return");
+		}
+		System.out.println("First error OK.");
+
+		// Parallel copies into directories that do not exist yet.
+		File dir = Files.createTempDirectory("filetaskstest").toFile();
+		try {
+			File src = new File(dir, "src");
+			File dest = new File(dir, "dest");
+			List<File> sources = new ArrayList<>();
+			for (int i = 0; i < TASKS; i++)
+			{
+				File f = new File(src, "a" + (i % 3) + File.separator + "b" + (i % 5) + File.separator + "file" + i + ".txt");
+				check(FileUtils.createPathForFile(f), "could not create source directories");
+				Files.write(f.toPath(), ("file " + i).getBytes(StandardCharsets.UTF_8));
+				sources.add(f);
+			}
+			tasks.clear();
+			for (File f : sources)
+			{
+				final File destFile = new File(dest, f.getPath().substring(src.getPath().length()));
+				tasks.add((value) -> DoomMakeFunctions.copyFile(f, destFile, true, value));
+			}
+			result = ScriptValue.create(null);
+			result.setEmptyList(TASKS);
+			DoomMakeFunctions.runFileTasks(tasks, result);
+			check(!result.isError(), "copy failed: " + (result.isError() ? result.asObjectType(ErrorType.class).getMessage() : ""));
+			for (int i = 0; i < TASKS; i++)
+			{
+				File destFile = new File(dest, sources.get(i).getPath().substring(src.getPath().length()));
+				check(Arrays.equals(Files.readAllBytes(sources.get(i).toPath()), Files.readAllBytes(destFile.toPath())), destFile.getPath() + " was not copied");
+			}
+			System.out.println("Directory creation OK.");
+		} finally {
+			FileUtils.deleteDirectory(dir, true);
+		}
+		System.out.println("OK");
+	}
+
+	private static void pause(long millis)
+	{
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2025 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doommake.functions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.blackrook.rookscript.ScriptIteratorType.IteratorPair;
+import com.blackrook.rookscript.ScriptValue;
+import com.blackrook.rookscript.resolvers.ScriptFunctionResolver;
+import com.blackrook.rookscript.resolvers.ScriptVariableResolver;
+import com.blackrook.rookscript.resolvers.variable.DefaultVariableResolver;
+
+import net.mtrop.doom.tools.WadScriptMain;
+import net.mtrop.doom.tools.WadScriptMain.Mode;
+
+/**
+ * Runs targets with RUNTARGETS() the way DoomMake does, and checks that each target's GLOBAL scope
+ * starts with the caller's [globals] and those of the targets it depends on (and nothing from the others),
+ * that the caller's values are not changed by the targets, and that everything is merged back at the end.
+ */
+public final class TargetFunctionsTest
+{
+	private static final String SCRIPT = String.join("\n",
+		"function built() {",
+		"	if (global::buildState === null) {",
+		"		global::buildState = [];",
+		"	}",
+		"	return global::buildState;",
+		"}",
+		"",
+		"check function build(target, needed) {",
+		"	each (name : needed) {",
+		"		if (!built()->setContains(name)) {",
+		"			return error(\"NotBuilt\", target + \" started before \" + name + \" was built.\");",
+		"		}",
+		"	}",
+		"	built()->setAdd(target);",
+		"	println(target + \" built\");",
+		"}",
+		"",
+		"check entry maps(args) { build(\"maps\", [\"setup\"]); }",
+		"check entry textures(args) { build(\"textures\", [\"setup\"]); }",
+		"check entry maptextures(args) { build(\"maptextures\", [\"setup\", \"maps\", \"textures\"]); }",
+		"check entry patch(args) { build(\"patch\", [\"setup\"]); }",
+		"check entry release(args) { build(\"release\", [\"setup\", \"maps\", \"textures\", \"maptextures\", \"patch\"]); }",
+		"",
+		"check entry main(args) {",
+		"	global::buildState = [\"setup\"];",
+		"	globals = runtargets({",
+		"		maps: [],",
+		"		textures: [],",
+		"		maptextures: [\"maps\", \"textures\"],",
+		"		patch: [],",
+		"		release: [\"maptextures\", \"patch\"]",
+		"	}, [\"buildState\"]);",
+		"	each (target : globals.buildState) {",
+		"		built()->setAdd(target);",
+		"	}",
+		"	none = runtargets([], [\"buildState\"]);",
+		"	if (length(none) != 0) {",
+		"		return error(\"Bad\", \"No targets returned \" + none);",
+		"	}",
+		"}"
+	);
+
+	public static void main(String[] args) throws Exception
+	{
+		File dir = Files.createTempDirectory("targetfunctionstest").toFile();
+		try {
+			File scriptFile = new File(dir, "doommake.script");
+			Files.write(scriptFile.toPath(), SCRIPT.getBytes(StandardCharsets.UTF_8));
+			for (int jobs : new int[]{1, 4})
+				run(scriptFile, jobs);
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+		System.out.println("OK");
+	}
+
+	private static void run(File scriptFile, int jobs) throws Exception
+	{
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(bos, true);
+		ScriptVariableResolver callerScope = new DefaultVariableResolver();
+		Map<String, Set<String>> seen = new ConcurrentHashMap<>();
+		ScriptFunctionResolver[] resolver = new ScriptFunctionResolver[1];
+		resolver[0] = TargetFunctions.createResolver((name, o, e, globals) -> {
+			ScriptValue value = ScriptValue.create(null);
+			check(globals.getValue(TargetFunctions.GLOBAL_IN_RUNTARGETS, value) && value.asBoolean(), name + ": inRunTargets is not set");
+			seen.put(name, getBuildState(globals));
+			int result = call(scriptFile, name, o, e, globals, resolver[0]);
+			check(getBuildState(callerScope).equals(set("setup")), name + ": the caller's buildState was changed: " + getBuildState(callerScope));
+			return result;
+		}, jobs);
+
+		int result = call(scriptFile, "main", out, out, callerScope, resolver[0]);
+		check(result == 0, "jobs " + jobs + ": main returned " + result + ":\n" + bos);
+
+		check(seen.get("maps").equals(set("setup")), "maps started with " + seen.get("maps"));
+		check(seen.get("textures").equals(set("setup")), "textures started with " + seen.get("textures"));
+		check(seen.get("patch").equals(set("setup")), "patch started with " + seen.get("patch"));
+		check(seen.get("maptextures").equals(set("setup", "maps", "textures")), "maptextures started with " + seen.get("maptextures"));
+		check(seen.get("release").equals(set("setup", "maps", "textures", "maptextures", "patch")), "release started with " + seen.get("release"));
+		check(getBuildState(callerScope).equals(set("setup", "maps", "textures", "maptextures", "patch", "release")), "merged buildState is " + getBuildState(callerScope));
+		System.out.println("Jobs " + jobs + " OK.");
+	}
+
+	private static int call(File scriptFile, String entryPoint, PrintStream out, PrintStream err, ScriptVariableResolver globals, ScriptFunctionResolver resolver)
+	{
+		try {
+			return WadScriptMain.call(WadScriptMain.options(out, err, new ByteArrayInputStream(new byte[0]))
+				.setMode(Mode.EXECUTE)
+				.setScriptFile(scriptFile)
+				.setScriptCharsetName(StandardCharsets.UTF_8.displayName())
+				.setEntryPointName(entryPoint)
+				.setGlobalScope(globals)
+				.addResolver("Target Functions", resolver)
+			);
+		} catch (Exception e) {
+			throw new IllegalStateException("Failed: could not run " + entryPoint, e);
+		}
+	}
+
+	private static Set<String> getBuildState(ScriptVariableResolver scope)
+	{
+		Set<String> out = new TreeSet<>();
+		ScriptValue value = ScriptValue.create(null);
+		if (scope.getValue("buildState", value) && value.isList())
+			for (IteratorPair pair : value)
+				out.add(pair.getValue().asString());
+		return out;
+	}
+
+	private static Set<String> set(String ... names)
+	{
+		Set<String> out = new TreeSet<>();
+		for (String name : names)
+			out.add(name);
+		return out;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
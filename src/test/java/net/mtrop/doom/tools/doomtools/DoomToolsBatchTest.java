@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.doomtools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Runs the same WadScript script as two batch steps, and checks that the second step
+ * does not see the GLOBAL variables that the first one set.
+ */
+public final class DoomToolsBatchTest
+{
+	private static final String SCRIPT = String.join("\n",
+		"entry main(args) {",
+		"	if (global::ran !== null) {",
+		"		return error(\"Leaked\", \"GLOBAL scope was kept from an earlier step.\");",
+		"	}",
+		"	global::ran = true;",
+		"}"
+	);
+
+	public static void main(String[] args) throws Exception
+	{
+		File dir = Files.createTempDirectory("doomtoolsbatchtest").toFile();
+		try {
+			File scriptFile = new File(dir, "global.script");
+			Files.write(scriptFile.toPath(), SCRIPT.getBytes(StandardCharsets.UTF_8));
+			String path = scriptFile.getPath().replace("\\", "\\\\");
+
+			DoomToolsBatch batch = DoomToolsBatch.read(new StringReader(
+				"{\"keepGoing\": true, \"steps\": ["
+				+ "{\"id\": \"first\", \"tool\": \"wadscript\", \"args\": [\"" + path + "\"]},"
+				+ "{\"id\": \"second\", \"tool\": \"wadscript\", \"args\": [\"" + path + "\"]}"
+				+ "]}"
+			));
+
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream(bos, true);
+			int result = batch.execute(out, out, new ByteArrayInputStream(new byte[0]));
+			for (DoomToolsBatch.Step step : batch.getSteps())
+				check(step.getState() == DoomToolsBatch.State.SUCCESS, "step " + step.getId() + " is " + step.getState() + ":\n" + bos);
+			check(result == 0, "batch returned " + result);
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+		System.out.println("OK");
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
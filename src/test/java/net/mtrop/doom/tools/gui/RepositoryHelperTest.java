@@ -6,18 +6,88 @@
 package net.mtrop.doom.tools.gui;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 
 import net.mtrop.doom.tools.gui.RepositoryHelper.Git;
 import net.mtrop.doom.tools.gui.RepositoryHelper.Operation;
+import net.mtrop.doom.tools.gui.RepositoryHelper.Snapshot;
+import net.mtrop.doom.tools.gui.RepositoryHelper.StatusEntry;
+import net.mtrop.doom.tools.struct.ProcessCallable;
+import net.mtrop.doom.tools.struct.util.FileUtils;
 
 public final class RepositoryHelperTest 
 {
 
-	public static void main(String[] args)
+	public static void main(String[] args) throws Exception
 	{
 		new Git(new File(".")).perform(Operation.UNSTAGE, "src/main/java/net/mtrop/doom/tools/struct/ReplacerReader.java",
 				"src/main/java/net/mtrop/doom/tools/gui/RepositoryHelper.java",
 				"src/test/java/net/mtrop/doom/tools/gui/RepositoryHelperTest.java");
+
+		snapshotTest();
+	}
+
+	private static void snapshotTest() throws Exception
+	{
+		File directory = Files.createTempDirectory("repohelpertest").toFile();
+		try {
+			check(ProcessCallable.shell("git", "init", "-q", "-b", "main").setWorkingDirectory(directory).call() == 0, "git init");
+			Files.write(new File(directory, ".git/config").toPath(),
+				"[user]\n\tname = Test\n\temail = test@example.com\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+			Git git = new Git(directory);
+			Files.write(new File(directory, "a.txt").toPath(), "A".getBytes(StandardCharsets.UTF_8));
+			git.invalidate();
+
+			Snapshot snapshot = git.fetchSnapshot();
+			print(snapshot);
+			check(snapshot.getStatus().size() == 1 && !snapshot.getStatus().get(0).isStaged(), "one unstaged file");
+			check("main".equals(snapshot.getBranchStatus().getName()), "branch name");
+
+			// Nothing changed: same snapshot, no process.
+			git.fetchSnapshot();
+			check(git.fetchSnapshot() == git.fetchSnapshot(), "cached snapshot");
+
+			check(git.stage("a.txt") == 0, "stage");
+			snapshot = git.fetchSnapshot();
+			print(snapshot);
+			check(snapshot.getStatus().size() == 1 && snapshot.getStatus().get(0).isStaged(), "one staged file");
+
+			check(git.commit("First") == 0, "commit");
+			check(git.branch("feature/test") == 0, "branch");
+			snapshot = git.fetchSnapshot();
+			print(snapshot);
+			check(snapshot.getStatus().isEmpty(), "clean after commit");
+			check(snapshot.getBranches().contains("main") && snapshot.getBranches().contains("feature/test"), "branches");
+			check(snapshot.getBranchStatus().getCommit().length() == 40, "commit hash");
+
+			// Working file changes need an invalidate.
+			Files.write(new File(directory, "a.txt").toPath(), "AB".getBytes(StandardCharsets.UTF_8));
+			git.invalidate();
+			snapshot = git.fetchSnapshot();
+			print(snapshot);
+			check(snapshot.getStatus().size() == 1 && snapshot.getStatus().get(0).getType() == StatusEntry.StatusType.MODIFIED, "modified file");
+
+			System.out.println("OK");
+		} finally {
+			FileUtils.deleteDirectory(directory, true);
+		}
+	}
+
+	private static void print(Snapshot snapshot)
+	{
+		System.out.println(snapshot.getBranchStatus().getName() + " " + snapshot.getBranchStatus().getCommit() + " " + snapshot.getBranches());
+		for (StatusEntry entry : snapshot.getStatus())
+			System.out.println("\t" + entry);
+	}
+
+	private static void check(boolean condition, String message) throws IOException
+	{
+		if (!condition)
+			throw new IOException("Failed: " + message);
 	}
 
 }
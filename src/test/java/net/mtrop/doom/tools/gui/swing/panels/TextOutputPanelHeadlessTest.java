@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.gui.swing.panels;
+
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+
+import javax.swing.SwingUtilities;
+
+import net.mtrop.doom.tools.struct.OutputLineBuffer;
+
+/**
+ * Pushes a million lines through an output panel (without showing it),
+ * draining it now and then like its timer would, and checks that memory stays bounded.
+ * Also checks that carriage returns start lines over, like on a console.
+ */
+public final class TextOutputPanelHeadlessTest
+{
+	private static final int LINES = 1000000;
+	private static final int MAX_LINES = 1000;
+
+	public static void main(String[] args) throws Exception
+	{
+		System.setProperty("java.awt.headless", "true");
+
+		checkCarriageReturns();
+
+		// Buffer alone, never drained.
+		OutputLineBuffer buffer = new OutputLineBuffer(MAX_LINES);
+		long before = usedMemory();
+		for (int i = 0; i < LINES; i++)
+			buffer.append("Line " + i + " of output.\n");
+		long after = usedMemory();
+		OutputLineBuffer.Drain drain = buffer.drain();
+		check(drain.isReplace(), "buffer should report dropped lines");
+		check(drain.getText().startsWith("Line " + (LINES - MAX_LINES) + " "), "buffer should keep the last lines");
+		check(buffer.drain() == null, "buffer should be empty after drain");
+		System.out.println("Buffer: " + ((after - before) / 1024) + " KB retained.");
+		check(after - before < 16 * 1024 * 1024, "buffer memory should be bounded");
+
+		// Whole panel, through a print stream from another thread.
+		DoomToolsTextOutputPanel panel = new DoomToolsTextOutputPanel(MAX_LINES);
+		long start = System.currentTimeMillis();
+		Thread writer = new Thread(() -> {
+			PrintStream out = panel.getPrintStream();
+			for (int i = 0; i < LINES; i++)
+				out.println("Line " + i + " of output, with a \u00e9.");
+		});
+		writer.start();
+		while (writer.isAlive())
+		{
+			SwingUtilities.invokeAndWait(panel::flushOutput);
+			check(panel.getLineCount() <= MAX_LINES + 1, "panel should stay under its line limit");
+			Thread.sleep(50);
+		}
+		SwingUtilities.invokeAndWait(panel::flushOutput);
+		long end = System.currentTimeMillis();
+
+		String text = panel.getText();
+		check(panel.getLineCount() == MAX_LINES + 1, "panel should have its line limit: " + panel.getLineCount());
+		// The print stream encodes with the default charset, which may not have the accented character.
+		String lastLine = "Line " + (LINES - 1) + " of output, with a \u00e9.\n";
+		lastLine = new String(lastLine.getBytes(Charset.defaultCharset()), Charset.defaultCharset());
+		check(text.endsWith(lastLine), "panel should end with the last line");
+		check(text.startsWith("Line " + (LINES - MAX_LINES) + " "), "panel should start with the oldest kept line");
+		System.out.println("Panel: " + LINES + " lines in " + (end - start) + " ms, " + (usedMemory() / 1024) + " KB used.");
+		System.out.println("OK");
+	}
+
+	private static void checkCarriageReturns() throws Exception
+	{
+		OutputLineBuffer buffer = new OutputLineBuffer(MAX_LINES);
+
+		// CRLF, even when split between writes, just ends lines.
+		buffer.append("one\r");
+		buffer.append("\ntwo\r\r\n");
+		OutputLineBuffer.Drain drain = buffer.drain();
+		check(drain.getText().equals("one\ntwo\n") && !drain.isReplaceLine(), "CRLF should end lines: " + drain.getText());
+
+		// Rewriting a line within one drain.
+		buffer.append("10%\r20%\r30%\ndone\n");
+		drain = buffer.drain();
+		check(drain.getText().equals("30%\ndone\n") && !drain.isReplaceLine(), "line should be started over: " + drain.getText());
+
+		// Rewriting a line that was partly drained already.
+		buffer.append("10%");
+		check(buffer.drain().getText().equals("10%"), "partial line should be drained");
+		buffer.append("\r");
+		drain = buffer.drain();
+		check(drain.getText().isEmpty() && !drain.isReplaceLine(), "a trailing carriage return should wait for the next character");
+		buffer.append("20%");
+		drain = buffer.drain();
+		check(drain.getText().equals("20%") && drain.isReplaceLine(), "drained line should be replaced: " + drain.getText());
+		buffer.append("\r30%\nnext\n");
+		drain = buffer.drain();
+		check(drain.getText().equals("30%\nnext\n") && drain.isReplaceLine(), "drained line should be replaced: " + drain.getText());
+
+		// A line completed since the last drain is not replaced.
+		buffer.append("a\nb\rc");
+		drain = buffer.drain();
+		check(drain.getText().equals("a\nc") && !drain.isReplaceLine(), "only the new line should be started over: " + drain.getText());
+
+		// The panel removes the replaced line.
+		DoomToolsTextOutputPanel panel = new DoomToolsTextOutputPanel(MAX_LINES);
+		panel.writeString("start\n10%");
+		SwingUtilities.invokeAndWait(panel::flushOutput);
+		panel.writeString("\r20%");
+		SwingUtilities.invokeAndWait(panel::flushOutput);
+		panel.writeString("\r100%\nend\n");
+		SwingUtilities.invokeAndWait(panel::flushOutput);
+		check(panel.getText().equals("start\n100%\nend\n"), "panel should show rewritten lines once: " + panel.getText());
+	}
+
+	private static long usedMemory()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++)
+			System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
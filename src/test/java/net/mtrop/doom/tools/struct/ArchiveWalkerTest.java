@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import net.mtrop.doom.tools.struct.util.IOUtils;
+
+/**
+ * Walks a PK3 with PK3s nested two deep, and opens nested entries by path.
+ */
+public final class ArchiveWalkerTest
+{
+	public static void main(String[] args) throws Exception
+	{
+		byte[] inner = zip("maps/map01.wad", "inner", "readme.txt", "hi");
+		byte[] middle = zip("inner.pk3", inner, "dir/x.wad", "middle");
+		File file = File.createTempFile("archivewalkertest", ".pk3");
+		try {
+			try (FileOutputStream out = new FileOutputStream(file))
+			{
+				out.write(zip("pack/middle.pke", middle, "top.wad", "top"));
+			}
+
+			Map<String, String> found = new TreeMap<>();
+			ArchiveWalker.walk(file, ArchiveWalker.PK3_EXTENSIONS, (entry) -> {
+				found.put(entry.getPath(), read(entry.getInputStream()));
+			});
+			System.out.println(found);
+			check(found.size() == 4, "entry count");
+			check("inner".equals(found.get("pack/middle.pke/inner.pk3/maps/map01.wad")), "doubly nested entry");
+			check("middle".equals(found.get("pack/middle.pke/dir/x.wad")), "nested entry");
+			check("top".equals(found.get("top.wad")), "top entry");
+
+			try (ZipFile zf = new ZipFile(file))
+			{
+				for (Map.Entry<String, String> entry : found.entrySet())
+				{
+					try (InputStream in = ArchiveWalker.open(zf, entry.getKey(), ArchiveWalker.PK3_EXTENSIONS))
+					{
+						check(in != null && entry.getValue().equals(read(in)), "open " + entry.getKey());
+					}
+				}
+				check(ArchiveWalker.open(zf, "pack/middle.pke/missing.wad", ArchiveWalker.PK3_EXTENSIONS) == null, "missing entry");
+			}
+			System.out.println("OK");
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static byte[] zip(Object ... namesAndContents) throws IOException
+	{
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try (ZipOutputStream zout = new ZipOutputStream(bos))
+		{
+			for (int i = 0; i < namesAndContents.length; i += 2)
+			{
+				Object content = namesAndContents[i + 1];
+				zout.putNextEntry(new ZipEntry((String)namesAndContents[i]));
+				zout.write(content instanceof byte[] ? (byte[])content : ((String)content).getBytes(StandardCharsets.UTF_8));
+				zout.closeEntry();
+			}
+		}
+		return bos.toByteArray();
+	}
+
+	private static String read(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		IOUtils.relay(in, bos);
+		return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static void check(boolean condition, String message) throws IOException
+	{
+		if (!condition)
+			throw new IOException("Failed: " + message);
+	}
+
+}
@@ -6,6 +6,10 @@
 package net.mtrop.doom.tools.struct;
 
 import java.io.IOException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
 
 public final class TestIntervalMap 
 {
@@ -64,5 +68,58 @@ public final class TestIntervalMap
 		System.out.println(map);
 		map.set(-200, 200, null);
 		System.out.println(map);
+		
+		fuzz(new Random(0L), 100000);
+	}
+	
+	// Checks random sets against a plain array model.
+	private static void fuzz(Random random, int iterations)
+	{
+		final int range = 512;
+		final String[] values = {null, "apple", "banana", "carrot"};
+		
+		String[] model = new String[range];
+		IntervalMap<String> map = new IntervalMap<>();
+		for (int n = 0; n < iterations; n++)
+		{
+			int min = random.nextInt(range);
+			int max = random.nextBoolean() ? min : Math.min(range - 1, min + random.nextInt(32));
+			String value = values[random.nextInt(values.length)];
+			map.set(min, max, value);
+			for (int i = min; i <= max; i++)
+				model[i] = value;
+
+			int index = random.nextInt(range);
+			if (!Objects.equals(model[index], map.get(index)))
+				throw new IllegalStateException("Mismatch at " + index + " after " + n + " sets: " + map);
+			
+			// Ranges can start before the first index or past the last one.
+			int queryMin = random.nextInt(range + 128) - 64;
+			int queryMax = queryMin + random.nextInt(64);
+			Set<String> expected = new TreeSet<>();
+			for (int i = Math.max(0, queryMin); i <= Math.min(range - 1, queryMax); i++)
+				if (model[i] != null)
+					expected.add(model[i]);
+			Set<String> actual = random.nextBoolean() ? map.getValueSet(queryMin, queryMax) : map.getValueSet(queryMax, queryMin);
+			if (!expected.equals(actual))
+				throw new IllegalStateException("Bad values for " + queryMin + " to " + queryMax + " after " + n + " sets: expected " + expected + ", got " + actual + ": " + map);
+			Long maxIndex = map.getMaxIndex();
+			if (maxIndex != null && !map.getValueList(maxIndex + 1, maxIndex + 1 + random.nextInt(64)).isEmpty())
+				throw new IllegalStateException("Values found past the last index " + maxIndex + " after " + n + " sets: " + map);
+			
+			if (n % 1000 == 0)
+			{
+				for (int v = 1; v < values.length; v++)
+				{
+					long width = 0;
+					for (int i = 0; i < range; i++)
+						if (Objects.equals(model[i], values[v]))
+							width++;
+					if (width != map.getIndexWidth(values[v]))
+						throw new IllegalStateException("Bad width for " + values[v] + ": expected " + width + ", got " + map.getIndexWidth(values[v]));
+				}
+			}
+		}
+		System.out.println("Fuzz OK: " + iterations + " sets, " + map.getIntervalCount() + " intervals.");
 	}
 }
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tests that index candidates match a brute-force scan of the files through adds, changes, and removals.
+ */
+public final class TextSearchIndexTest
+{
+	private static final String[] WORDS = {
+		"linedef", "sector", "thing", "Texture", "FLAT", "patch", "sidedef", "vertex", "map01", "e1m1", "Doom", "hexen",
+		"special", "tag", "ceiling", "floor", "caf\u00e9", "na\u00efve"
+	};
+
+	public static void main(String[] args) throws Exception
+	{
+		Random random = new Random(0L);
+		File dir = Files.createTempDirectory("textsearchindextest").toFile();
+		Map<File, String> contents = new HashMap<>();
+		TextSearchIndex index = new TextSearchIndex((file) -> file.getName().endsWith(".bin"));
+		try {
+			for (int i = 0; i < 40; i++)
+				write(dir, "file" + i + ".txt", random, contents, index);
+			File binary = new File(dir, "data.bin");
+			Files.write(binary.toPath(), "linedef sector thing".getBytes(StandardCharsets.UTF_8));
+			check(!index.update(binary), "binary file was indexed as text");
+			checkAll(index, contents, random, "added");
+
+			// rewrite some, remove some, then add new ones that reuse the removed ids.
+			for (int i = 0; i < 40; i += 3)
+				write(dir, "file" + i + ".txt", random, contents, index);
+			for (int i = 1; i < 40; i += 4)
+			{
+				File file = new File(dir, "file" + i + ".txt");
+				index.remove(file);
+				contents.remove(file);
+				file.delete();
+			}
+			checkAll(index, contents, random, "changed");
+			for (int i = 40; i < 50; i++)
+				write(dir, "file" + i + ".txt", random, contents, index);
+			checkAll(index, contents, random, "reused");
+
+			List<File> keep = new ArrayList<>(contents.keySet());
+			for (int i = 0; i < keep.size(); i += 5)
+				contents.remove(keep.get(i));
+			List<File> retained = new ArrayList<>(contents.keySet());
+			retained.add(binary);
+			index.retain(retained);
+			checkAll(index, contents, random, "retained");
+
+			// a loaded index must remove entries as cleanly as a built one.
+			File indexFile = new File(dir, "index.gz");
+			index.save(indexFile);
+			TextSearchIndex loaded = new TextSearchIndex((file) -> file.getName().endsWith(".bin"));
+			check(loaded.load(indexFile), "index did not load");
+			checkAll(loaded, contents, random, "loaded");
+			for (int i = 0; i < 50; i += 2)
+			{
+				File file = new File(dir, "file" + i + ".txt");
+				if (contents.containsKey(file))
+					write(dir, "file" + i + ".txt", random, contents, loaded);
+			}
+			for (int i = 3; i < 50; i += 7)
+			{
+				File file = new File(dir, "file" + i + ".txt");
+				loaded.remove(file);
+				contents.remove(file);
+			}
+			checkAll(loaded, contents, random, "loaded and changed");
+			check(loaded.size() == contents.size() + 1, "size is " + loaded.size() + ", expected " + (contents.size() + 1));
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+		System.out.println("OK");
+	}
+
+	private static void write(File dir, String name, Random random, Map<File, String> contents, TextSearchIndex index) throws IOException
+	{
+		File file = new File(dir, name);
+		StringBuilder sb = new StringBuilder();
+		int count = 5 + random.nextInt(30);
+		for (int i = 0; i < count; i++)
+			sb.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(4) == 0 ? '\n' : ' ');
+		String text = sb.toString();
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+		// make sure the change is seen even if the file system clock is coarse.
+		file.setLastModified(file.lastModified() + 1000L + random.nextInt(1000));
+		contents.put(file, text);
+		check(index.update(file), "text file " + name + " was not indexed");
+	}
+
+	private static void checkAll(TextSearchIndex index, Map<File, String> contents, Random random, String stage)
+	{
+		List<String> phrases = new ArrayList<>();
+		for (String word : WORDS)
+			phrases.add(word);
+		phrases.add("sector thing");
+		phrases.add("DOOM");
+		phrases.add("zzz");
+		phrases.add("ta");
+		phrases.add("caf\u00e9");
+		for (String text : contents.values())
+		{
+			int start = random.nextInt(text.length() - 4);
+			phrases.add(text.substring(start, start + 3 + random.nextInt(Math.min(8, text.length() - start - 3))));
+		}
+
+		for (String phrase : phrases)
+		{
+			Set<String> candidates = new TreeSet<>();
+			for (File file : index.getCandidates(phrase))
+				candidates.add(file.getName());
+
+			Set<String> expected = new TreeSet<>();
+			for (Map.Entry<File, String> entry : contents.entrySet())
+			{
+				String text = entry.getValue();
+				if (hasAllTrigrams(text, phrase))
+					expected.add(entry.getKey().getName());
+				if (text.toLowerCase().contains(phrase.toLowerCase()) && !candidates.contains(entry.getKey().getName()))
+					throw new IllegalStateException("Failed: " + stage + ": \"" + phrase + "\" is in " + entry.getKey().getName() + " but it is not a candidate.");
+			}
+			check(candidates.equals(expected), stage + ": \"" + phrase + "\" candidates " + candidates + ", expected " + expected);
+		}
+	}
+
+	// Brute force: every ASCII trigram of the phrase is somewhere in the text, regardless of case.
+	private static boolean hasAllTrigrams(String text, String phrase)
+	{
+		String lowerText = text.toLowerCase();
+		String lowerPhrase = phrase.toLowerCase();
+		for (int i = 2; i < lowerPhrase.length(); i++)
+		{
+			String trigram = lowerPhrase.substring(i - 2, i + 1);
+			boolean ascii = true;
+			for (int c = 0; c < 3; c++)
+				ascii = ascii && trigram.charAt(c) < 128;
+			if (ascii && !lowerText.contains(trigram))
+				return false;
+		}
+		return true;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under 
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import net.mtrop.doom.map.udmf.UDMFObject;
+import net.mtrop.doom.map.udmf.UDMFReader;
+import net.mtrop.doom.map.udmf.UDMFTable;
+
+/**
+ * Checks that {@link UDMFFieldScanner} reads the same values as {@link UDMFReader} on generated maps.
+ */
+public final class UDMFFieldScannerTest
+{
+	private static final String[] TYPES = {"vertex", "linedef", "sidedef", "sector", "thing"};
+	private static final String[] FIELDS = {"texturetop", "texturemiddle", "texturefloor", "heightfloor", "x", "alpha", "blocking", "comment"};
+	
+	public static void main(String[] args) throws Exception
+	{
+		for (long seed = 0; seed < 20; seed++)
+			check(generate(new Random(seed), 2000));
+		System.out.println("OK");
+	}
+	
+	private static String generate(Random random, int blocks)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("// Generated.\nnamespace = \"zdoom\";\n\n");
+		for (int i = 0; i < blocks; i++)
+		{
+			sb.append(TYPES[random.nextInt(TYPES.length)]);
+			sb.append(random.nextBoolean() ? "\n{\n" : " { ");
+			if (random.nextInt(10) == 0)
+				sb.append("/* note */ ");
+			for (String field : FIELDS)
+			{
+				if (random.nextInt(3) == 0)
+					continue;
+				sb.append(field).append(" = ");
+				switch (field)
+				{
+					case "heightfloor":
+						sb.append(random.nextInt(2048) - 1024);
+						break;
+					case "x":
+					case "alpha":
+						sb.append(random.nextInt(100000) / 100.0);
+						break;
+					case "blocking":
+						sb.append(random.nextBoolean());
+						break;
+					case "comment":
+						sb.append("\"say \\\"hi\\\" \\\\ ").append(random.nextInt(100)).append('"');
+						break;
+					default:
+						sb.append('"').append(random.nextInt(5) == 0 ? "-" : "TEX" + random.nextInt(50)).append('"');
+						break;
+				}
+				sb.append(";\n");
+			}
+			sb.append("}\n\n");
+		}
+		return sb.toString();
+	}
+	
+	private static void check(String data) throws IOException
+	{
+		UDMFTable table = UDMFReader.readData(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)));
+		
+		UDMFFieldScanner scanner = new UDMFFieldScanner();
+		for (String type : TYPES)
+			scanner.field(type, FIELDS);
+		
+		Map<String, Map<String, Object>> scanned = new HashMap<>();
+		Map<String, Integer> counts = new HashMap<>();
+		scanner.scan(new StringReader(data), new UDMFFieldScanner.Listener()
+		{
+			@Override
+			public void onField(String type, int index, String name, Object value)
+			{
+				scanned.computeIfAbsent(type + index, (k) -> new HashMap<>()).put(name, value);
+			}
+			
+			@Override
+			public void onBlockEnd(String type, int index)
+			{
+				counts.put(type, index + 1);
+			}
+		});
+		
+		for (String type : TYPES)
+		{
+			UDMFObject[] objects = table.getObjects(type);
+			int count = counts.getOrDefault(type, 0);
+			if (objects.length != count)
+				throw new IOException("Failed: " + type + " count " + count + ", expected " + objects.length);
+			for (int i = 0; i < objects.length; i++)
+			{
+				Map<String, Object> fields = scanned.getOrDefault(type + i, new HashMap<>());
+				Map<String, Object> expected = new HashMap<>();
+				for (Map.Entry<String, Object> entry : objects[i])
+					expected.put(entry.getKey(), entry.getValue());
+				for (String field : FIELDS)
+					if (!same(expected.get(field), fields.get(field)))
+						throw new IOException("Failed: " + type + " " + i + " " + field + " is " + fields.get(field) + ", expected " + expected.get(field));
+			}
+		}
+	}
+	
+	private static boolean same(Object expected, Object actual)
+	{
+		if (expected == null || actual == null)
+			return expected == actual;
+		if (expected instanceof Number && actual instanceof Number)
+			return Math.abs(((Number)expected).doubleValue() - ((Number)actual).doubleValue()) < 0.001;
+		return String.valueOf(expected).equals(String.valueOf(actual));
+	}
+	
+}
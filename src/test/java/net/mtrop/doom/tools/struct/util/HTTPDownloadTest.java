@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.struct.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPRequest;
+import net.mtrop.doom.tools.struct.util.HTTPUtils.HTTPResponse;
+
+/**
+ * Tests resumable and segmented downloads against a tiny local HTTP server.
+ */
+public final class HTTPDownloadTest
+{
+	private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+	public static void main(String[] args) throws Exception
+	{
+		byte[] content = new byte[5 * 1024 * 1024 + 123];
+		new Random(0L).nextBytes(content);
+		byte[] sha = MessageDigest.getInstance("SHA-256").digest(content);
+
+		File dir = Files.createTempDirectory("httpdownloadtest").toFile();
+		try (TestServer server = new TestServer(content, "\"v1\""))
+		{
+			String url = "http://127.0.0.1:" + server.getPort() + "/file.bin";
+
+			// Segmented.
+			File target = new File(dir, "segmented.bin");
+			HTTPRequest.get(url).download(target).segments(4).checksum("SHA-256", sha).send();
+			check("segmented", content, target);
+			System.out.println("Segmented OK: " + server.rangeRequests.get() + " range requests.");
+
+			// Resume after cancel. The server is throttled so that the cancel lands mid-download.
+			server.throttle = 8;
+			target = new File(dir, "resumed.bin");
+			final File metaFile = new File(target.getPath() + ".part.meta");
+			final AtomicBoolean cancel = new AtomicBoolean(false);
+			final AtomicBoolean checked = new AtomicBoolean(false);
+			final AtomicLong saved = new AtomicLong(-1L);
+			File result = HTTPRequest.get(url).download(target).segments(2).monitor((current, max) -> {
+				if (current > content.length * 3 / 4 && checked.compareAndSet(false, true))
+				{
+					// what a killed process would resume from.
+					saved.set(getDone(readMeta(metaFile)));
+					cancel.set(true);
+				}
+			}).send(cancel);
+			server.throttle = 0;
+			if (result != null || target.exists() || !new File(target.getPath() + ".part").exists())
+				throw new IllegalStateException("Cancel did not leave a partial file.");
+			if (saved.get() <= 0)
+				throw new IllegalStateException("Progress was not saved while downloading: " + saved.get());
+			
+			Properties meta = readMeta(metaFile);
+			long done = getDone(meta);
+			if (done <= 0 || done >= content.length)
+				throw new IllegalStateException("Cancel did not stop mid-download: " + done + " of " + content.length + " bytes.");
+			List<String> expected = new ArrayList<>();
+			long remaining = 0;
+			for (int i = 0; i < Integer.parseInt(meta.getProperty("segments")); i++)
+			{
+				long start = Long.parseLong(meta.getProperty("segment." + i + ".start")) + Long.parseLong(meta.getProperty("segment." + i + ".done"));
+				long end = Long.parseLong(meta.getProperty("segment." + i + ".end"));
+				if (start <= end)
+				{
+					expected.add("GET " + start + "-" + end);
+					remaining += end - start + 1;
+				}
+			}
+			
+			server.waitIdle();
+			server.bytesSent.set(0);
+			server.requests.clear();
+			HTTPRequest.get(url).download(target).segments(2).checksum("SHA-256", sha).send();
+			check("resumed", content, target);
+			List<String> requested = server.getRequests();
+			requested.remove("HEAD");
+			Collections.sort(expected);
+			if (!requested.equals(expected))
+				throw new IllegalStateException("Resume requested " + requested + ", expected " + expected);
+			if (server.bytesSent.get() != remaining)
+				throw new IllegalStateException("Resume fetched " + server.bytesSent.get() + " bytes, expected " + remaining);
+			System.out.println("Resume OK: " + done + " bytes kept, " + remaining + " of " + content.length + " bytes fetched after cancel.");
+
+			// An open response is read directly, without a probe or a second request for the same bytes.
+			target = new File(dir, "reused.bin");
+			server.bytesSent.set(0);
+			server.requests.clear();
+			HTTPResponse opened = HTTPRequest.get(url).send();
+			opened.getRequest().download(target).response(opened).checksum("SHA-256", sha).send();
+			check("reused", content, target);
+			if (!server.getRequests().equals(Collections.singletonList("GET")) || server.bytesSent.get() != content.length)
+				throw new IllegalStateException("Reused response made other requests: " + server.getRequests() + ", " + server.bytesSent.get() + " bytes");
+			
+			target = new File(dir, "reusedsegmented.bin");
+			server.requests.clear();
+			opened = HTTPRequest.get(url).send();
+			opened.getRequest().download(target).response(opened).segments(2).checksum("SHA-256", sha).send();
+			check("reused segmented", content, target);
+			List<String> reused = server.getRequests();
+			if (reused.contains("HEAD") || reused.size() != 2 || !reused.get(0).equals("GET"))
+				throw new IllegalStateException("Reused segmented response made other requests: " + reused);
+			System.out.println("Reused response OK: " + reused);
+
+			// Changed remote file discards the partial.
+			target = new File(dir, "changed.bin");
+			cancel.set(false);
+			HTTPRequest.get(url).download(target).monitor((current, max) -> {
+				if (current > content.length / 2)
+					cancel.set(true);
+			}).send(cancel);
+			server.etag = "\"v2\"";
+			HTTPRequest.get(url).download(target).checksum("SHA-256", sha).send();
+			check("changed", content, target);
+			System.out.println("Changed ETag OK.");
+
+			// Bad checksum.
+			target = new File(dir, "bad.bin");
+			try {
+				HTTPRequest.get(url).download(target).checksum("SHA-256", new byte[32]).send();
+				throw new IllegalStateException("Bad checksum not detected.");
+			} catch (IOException e) {
+				if (target.exists() || new File(target.getPath() + ".part").exists())
+					throw new IllegalStateException("Bad checksum left files behind.");
+				System.out.println("Bad checksum OK: " + e.getMessage());
+			}
+
+			// No range support.
+			server.ranges = false;
+			target = new File(dir, "unranged.bin");
+			HTTPRequest.get(url).download(target).segments(4).checksum("SHA-256", sha).send();
+			check("unranged", content, target);
+			System.out.println("Unranged OK.");
+		}
+		finally
+		{
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+	}
+
+	private static Properties readMeta(File metaFile)
+	{
+		Properties out = new Properties();
+		try (FileInputStream in = new FileInputStream(metaFile))
+		{
+			out.load(in);
+		}
+		catch (IOException e)
+		{
+			// Not written yet.
+		}
+		return out;
+	}
+
+	private static long getDone(Properties meta)
+	{
+		long out = 0L;
+		for (int i = 0; meta.containsKey("segment." + i + ".done"); i++)
+			out += Long.parseLong(meta.getProperty("segment." + i + ".done"));
+		return out;
+	}
+
+	private static void check(String name, byte[] content, File file) throws IOException
+	{
+		if (!Arrays.equals(content, Files.readAllBytes(file.toPath())))
+			throw new IllegalStateException(name + ": content mismatch.");
+	}
+
+	/**
+	 * A minimal HTTP/1.0 server that serves one file, with HEAD and Range support.
+	 */
+	private static class TestServer extends Thread implements AutoCloseable
+	{
+		private final ServerSocket socket;
+		private final byte[] content;
+		private volatile String etag;
+		private volatile boolean ranges;
+		private final AtomicInteger rangeRequests;
+		private final AtomicInteger bytesSent;
+		private final List<String> requests;
+		private volatile int throttle;
+		private final AtomicInteger active;
+
+		private TestServer(byte[] content, String etag) throws IOException
+		{
+			this.socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+			this.content = content;
+			this.etag = etag;
+			this.ranges = true;
+			this.rangeRequests = new AtomicInteger(0);
+			this.bytesSent = new AtomicInteger(0);
+			this.requests = Collections.synchronizedList(new ArrayList<>());
+			this.throttle = 0;
+			this.active = new AtomicInteger(0);
+			setDaemon(true);
+			start();
+		}
+
+		// Requests in a stable order: HEAD, GET, or GET with a range.
+		private List<String> getRequests()
+		{
+			List<String> out;
+			synchronized (requests)
+			{
+				out = new ArrayList<>(requests);
+			}
+			Collections.sort(out);
+			return out;
+		}
+
+		// Waits for responses to abandoned requests to stop sending.
+		private void waitIdle()
+		{
+			while (active.get() > 0)
+				pause(10);
+		}
+
+		private int getPort()
+		{
+			return socket.getLocalPort();
+		}
+
+		@Override
+		public void run()
+		{
+			while (!socket.isClosed())
+			{
+				try {
+					final Socket client = socket.accept();
+					active.incrementAndGet();
+					Thread t = new Thread(() -> {
+						try {
+							handle(client);
+						} finally {
+							active.decrementAndGet();
+						}
+					});
+					t.setDaemon(true);
+					t.start();
+				} catch (IOException e) {
+					// closed.
+				}
+			}
+		}
+
+		private void handle(Socket client)
+		{
+			try (Socket s = client)
+			{
+				BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.ISO_8859_1));
+				String requestLine = reader.readLine();
+				if (requestLine == null)
+					return;
+				String range = null;
+				String ifRange = null;
+				String line;
+				while ((line = reader.readLine()) != null && !line.isEmpty())
+				{
+					int colon = line.indexOf(':');
+					String header = line.substring(0, colon).trim();
+					String value = line.substring(colon + 1).trim();
+					if (header.equalsIgnoreCase("Range"))
+						range = value;
+					else if (header.equalsIgnoreCase("If-Range"))
+						ifRange = value;
+				}
+
+				boolean head = requestLine.startsWith("HEAD ");
+				int start = 0;
+				int end = content.length - 1;
+				boolean partial = false;
+				if (ranges && range != null && (ifRange == null || ifRange.equals(etag)))
+				{
+					Matcher m = RANGE.matcher(range);
+					if (m.matches())
+					{
+						start = Integer.parseInt(m.group(1));
+						end = Math.min(end, Integer.parseInt(m.group(2)));
+						partial = true;
+						rangeRequests.incrementAndGet();
+					}
+				}
+
+				requests.add(head ? "HEAD" : partial ? "GET " + start + "-" + end : "GET");
+
+				StringBuilder sb = new StringBuilder();
+				sb.append(partial ? "HTTP/1.0 206 Partial Content\r\n" : "HTTP/1.0 200 OK\r\n");
+				sb.append("Content-Type: application/octet-stream\r\n");
+				sb.append("Content-Length: ").append(end - start + 1).append("\r\n");
+				sb.append("ETag: ").append(etag).append("\r\n");
+				if (ranges)
+					sb.append("Accept-Ranges: bytes\r\n");
+				if (partial)
+					sb.append("Content-Range: bytes ").append(start).append('-').append(end).append('/').append(content.length).append("\r\n");
+				sb.append("Connection: close\r\n\r\n");
+
+				OutputStream out = s.getOutputStream();
+				out.write(sb.toString().getBytes(StandardCharsets.ISO_8859_1));
+				if (!head)
+				{
+					for (int i = start; i <= end; i += 8192)
+					{
+						int len = Math.min(8192, end - i + 1);
+						out.write(content, i, len);
+						bytesSent.addAndGet(len);
+						if (throttle > 0)
+							pause(throttle);
+					}
+				}
+				out.flush();
+			}
+			catch (IOException e)
+			{
+				// Client went away.
+			}
+		}
+
+		private static void pause(long millis)
+		{
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			socket.close();
+		}
+	}
+}
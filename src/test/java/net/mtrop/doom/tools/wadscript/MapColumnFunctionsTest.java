@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wadscript;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import net.mtrop.doom.WadBuffer;
+import net.mtrop.doom.map.MapObjectConstants;
+import net.mtrop.doom.map.data.DoomLinedef;
+import net.mtrop.doom.map.data.DoomSector;
+import net.mtrop.doom.map.data.DoomSidedef;
+import net.mtrop.doom.map.data.DoomThing;
+import net.mtrop.doom.map.data.DoomVertex;
+import net.mtrop.doom.map.data.HexenLinedef;
+import net.mtrop.doom.map.data.HexenThing;
+import net.mtrop.doom.map.data.flags.DoomLinedefFlags;
+import net.mtrop.doom.map.data.flags.DoomThingFlags;
+import net.mtrop.doom.map.data.flags.HexenLinedefFlags;
+import net.mtrop.doom.map.data.flags.HexenThingFlags;
+import net.mtrop.doom.object.BinaryObject;
+import net.mtrop.doom.tools.WadScriptMain;
+
+/**
+ * Builds a Doom-format and a Hexen-format map, and checks that COLUMN(), SELECT(), COUNT(), and TALLY()
+ * agree with the maps that THING(), LINEDEF(), etc. return for every field, including ones
+ * that are not read directly from the map objects (flags, and fields an element type does not have).
+ */
+public final class MapColumnFunctionsTest
+{
+	private static final String[] TEXTURES = {"-", "STARTAN2", "BROWN1", "SUPPORT3", "DOORTRAK"};
+	private static final String[] FLATS = {"FLOOR4_8", "CEIL3_5", "NUKAGE1"};
+
+	private static final String SCRIPT = String.join("\n",
+		"function element(view, type, i) {",
+		"	if (type == \"thing\") { return map::thing(view, i, false); }",
+		"	if (type == \"strifething\") { return map::thing(view, i, true); }",
+		"	if (type == \"vertex\") { return map::vertex(view, i); }",
+		"	if (type == \"linedef\") { return map::linedef(view, i); }",
+		"	if (type == \"sidedef\") { return map::sidedef(view, i); }",
+		"	return map::sector(view, i);",
+		"}",
+		"",
+		"function elementCount(view, type) {",
+		"	if (type == \"thing\" || type == \"strifething\") { iter = map::things(view, false); }",
+		"	else if (type == \"vertex\") { iter = map::vertices(view); }",
+		"	else if (type == \"linedef\") { iter = map::linedefs(view); }",
+		"	else if (type == \"sidedef\") { iter = map::sidedefs(view); }",
+		"	else { iter = map::sectors(view); }",
+		"	out = 0;",
+		"	each (i, e : iter) { out = out + 1; }",
+		"	return out;",
+		"}",
+		"",
+		"function fail(message) {",
+		"	println(\"Failed: \" + message);",
+		"	return false;",
+		"}",
+		"",
+		"function checkType(view, header, type) {",
+		"	n = elementCount(view, type);",
+		"	if (n == 0) { return fail(header + \" has no \" + type); }",
+		"	fields = [\"notafield\"];",
+		"	each (k, v : element(view, type, 0)) { fields->listadd(k); }",
+		"	each (field : fields) {",
+		"		label = header + \" \" + type + \".\" + field;",
+		"		column = map::column(view, type, field);",
+		"		if (length(column) != n) { return fail(label + \": column length \" + length(column) + \", expected \" + n); }",
+		"		tally = {};",
+		"		tallied = 0;",
+		"		for (i = 0; i < n; i = i + 1) {",
+		"			expected = element(view, type, i)->mapget(field);",
+		"			if (column[i] !== expected) { return fail(label + \"[\" + i + \"]: column \" + column[i] + \", map \" + expected); }",
+		"			if (expected !== null) {",
+		"				key = \"\" + expected;",
+		"				c = tally->mapget(key);",
+		"				if (c === null) { c = 0; tallied = tallied + 1; }",
+		"				tally->mapset(key, c + 1);",
+		"			}",
+		"		}",
+		"",
+		"		actual = map::tally(view, type, field);",
+		"		actualKeys = 0;",
+		"		each (k, v : actual) {",
+		"			actualKeys = actualKeys + 1;",
+		"			if (tally->mapget(k) !== v) { return fail(label + \": tally of \" + k + \" is \" + v + \", expected \" + tally->mapget(k)); }",
+		"		}",
+		"		if (actualKeys != tallied) { return fail(label + \": tally has \" + actualKeys + \" values, expected \" + tallied); }",
+		"",
+		"		value = column[0];",
+		"		if (value !== null) {",
+		"			where = {};",
+		"			where->mapset(field, value);",
+		"			matched = 0;",
+		"			for (i = 0; i < n; i = i + 1) {",
+		"				if (column[i] === value) { matched = matched + 1; }",
+		"			}",
+		"			if (map::count(view, type, where) != matched) { return fail(label + \": count \" + map::count(view, type, where) + \", expected \" + matched); }",
+		"			selected = 0;",
+		"			each (i, m : map::select(view, type, [field, \"notafield\"], where)) {",
+		"				selected = selected + 1;",
+		"				if (m->mapget(field) !== value) { return fail(label + \": select produced \" + m->mapget(field) + \" at \" + i); }",
+		"				if (m->mapget(\"notafield\") !== null) { return fail(label + \": select produced a field that does not exist at \" + i); }",
+		"			}",
+		"			if (selected != matched) { return fail(label + \": select produced \" + selected + \", expected \" + matched); }",
+		"		}",
+		"	}",
+		"",
+		"	each (i, m : map::select(view, type, null, null)) {",
+		"		each (k, v : element(view, type, i)) {",
+		"			if (m->mapget(k) !== v) { return fail(header + \" \" + type + \"[\" + i + \"].\" + k + \": select \" + m->mapget(k) + \", map \" + v); }",
+		"		}",
+		"	}",
+		"	return true;",
+		"}",
+		"",
+		"entry main(args) {",
+		"	wad = wadfile(args[0]);",
+		"	each (header : map::headers(wad)) {",
+		"		view = map::view(wad, header);",
+		"		each (type : [\"thing\", \"strifething\", \"vertex\", \"linedef\", \"sidedef\", \"sector\"]) {",
+		"			if (!checkType(view, header, type)) { close(wad); return 1; }",
+		"		}",
+		"		println(header + \" OK\");",
+		"	}",
+		"	close(wad);",
+		"	return 0;",
+		"}",
+		""
+	);
+
+	public static void main(String[] args) throws Exception
+	{
+		Random random = new Random(0L);
+		WadBuffer wad = new WadBuffer();
+		addDoomMap(wad, "MAP01", random);
+		addHexenMap(wad, "MAP02", random);
+
+		File dir = Files.createTempDirectory("mapcolumntest").toFile();
+		File wadFile = new File(dir, "maps.wad");
+		File scriptFile = new File(dir, "test.script");
+		try {
+			wad.writeToFile(wadFile);
+			Files.write(scriptFile.toPath(), SCRIPT.getBytes(StandardCharsets.UTF_8));
+
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream(bos, true);
+			int result = WadScriptMain.run(out, out, System.in, scriptFile.getPath(), wadFile.getPath());
+			System.out.print(bos.toString());
+			if (result != 0)
+				throw new IllegalStateException("Failed: script returned " + result);
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+		System.out.println("OK");
+	}
+
+	private static void addDoomMap(WadBuffer wad, String header, Random random) throws IOException
+	{
+		DoomThing[] things = new DoomThing[40];
+		for (int i = 0; i < things.length; i++)
+		{
+			DoomThing thing = new DoomThing();
+			thing.setX(random.nextInt(2048) - 1024);
+			thing.setY(random.nextInt(2048) - 1024);
+			thing.setAngle(random.nextInt(8) * 45);
+			thing.setType(1 + random.nextInt(4));
+			thing.setFlag(DoomThingFlags.EASY, random.nextBoolean());
+			thing.setFlag(DoomThingFlags.HARD, random.nextBoolean());
+			thing.setFlag(DoomThingFlags.AMBUSH, random.nextBoolean());
+			things[i] = thing;
+		}
+
+		DoomLinedef[] linedefs = new DoomLinedef[30];
+		for (int i = 0; i < linedefs.length; i++)
+		{
+			DoomLinedef linedef = new DoomLinedef();
+			linedef.setVertexStartIndex(i);
+			linedef.setVertexEndIndex(i + 1);
+			linedef.setSpecial(random.nextInt(3));
+			linedef.setTag(random.nextInt(3));
+			linedef.setSidedefFrontIndex(i);
+			linedef.setSidedefBackIndex(random.nextBoolean() ? i + 30 : MapObjectConstants.NULL_REFERENCE);
+			linedef.setFlag(DoomLinedefFlags.IMPASSABLE, random.nextBoolean());
+			linedef.setFlag(DoomLinedefFlags.SECRET, random.nextBoolean());
+			linedefs[i] = linedef;
+		}
+
+		wad.addMarker(header);
+		wad.addData("THINGS", toBytes(things));
+		wad.addData("LINEDEFS", toBytes(linedefs));
+		wad.addData("SIDEDEFS", toBytes(sidedefs(60, random)));
+		wad.addData("VERTEXES", toBytes(vertices(31, random)));
+		addNodeLumps(wad);
+		wad.addData("SECTORS", toBytes(sectors(8, random)));
+		wad.addMarker("REJECT");
+		wad.addMarker("BLOCKMAP");
+	}
+
+	private static void addHexenMap(WadBuffer wad, String header, Random random) throws IOException
+	{
+		HexenThing[] things = new HexenThing[40];
+		for (int i = 0; i < things.length; i++)
+		{
+			HexenThing thing = new HexenThing();
+			thing.setX(random.nextInt(2048) - 1024);
+			thing.setY(random.nextInt(2048) - 1024);
+			thing.setAngle(random.nextInt(8) * 45);
+			thing.setType(1 + random.nextInt(4));
+			thing.setHeight(random.nextInt(3) * 8);
+			thing.setId(random.nextInt(3));
+			thing.setSpecial(random.nextInt(3));
+			thing.setArguments(random.nextInt(4), random.nextInt(4), 0, 0, random.nextInt(2));
+			thing.setFlag(HexenThingFlags.EASY, random.nextBoolean());
+			thing.setFlag(HexenThingFlags.DORMANT, random.nextBoolean());
+			thing.setFlag(HexenThingFlags.FIGHTER, random.nextBoolean());
+			things[i] = thing;
+		}
+
+		HexenLinedef[] linedefs = new HexenLinedef[30];
+		for (int i = 0; i < linedefs.length; i++)
+		{
+			HexenLinedef linedef = new HexenLinedef();
+			linedef.setVertexStartIndex(i);
+			linedef.setVertexEndIndex(i + 1);
+			linedef.setSpecial(random.nextInt(3));
+			linedef.setArguments(random.nextInt(4), random.nextInt(4), 0, random.nextInt(2), 0);
+			linedef.setSidedefFrontIndex(i);
+			linedef.setSidedefBackIndex(random.nextBoolean() ? i + 30 : MapObjectConstants.NULL_REFERENCE);
+			linedef.setFlag(HexenLinedefFlags.TWO_SIDED, random.nextBoolean());
+			linedef.setFlag(HexenLinedefFlags.REPEATABLE, random.nextBoolean());
+			linedef.setActivationType(random.nextBoolean() ? HexenLinedef.ACTIVATION_PLAYER_CROSSES : HexenLinedef.ACTIVATION_PLAYER_USES);
+			linedefs[i] = linedef;
+		}
+
+		wad.addMarker(header);
+		wad.addData("THINGS", toBytes(things));
+		wad.addData("LINEDEFS", toBytes(linedefs));
+		wad.addData("SIDEDEFS", toBytes(sidedefs(60, random)));
+		wad.addData("VERTEXES", toBytes(vertices(31, random)));
+		addNodeLumps(wad);
+		wad.addData("SECTORS", toBytes(sectors(8, random)));
+		wad.addMarker("REJECT");
+		wad.addMarker("BLOCKMAP");
+		wad.addMarker("BEHAVIOR");
+	}
+
+	private static DoomVertex[] vertices(int count, Random random)
+	{
+		DoomVertex[] out = new DoomVertex[count];
+		for (int i = 0; i < count; i++)
+		{
+			out[i] = new DoomVertex();
+			out[i].setX(random.nextInt(2048) - 1024);
+			out[i].setY(random.nextInt(2048) - 1024);
+		}
+		return out;
+	}
+
+	private static DoomSidedef[] sidedefs(int count, Random random)
+	{
+		DoomSidedef[] out = new DoomSidedef[count];
+		for (int i = 0; i < count; i++)
+		{
+			out[i] = new DoomSidedef();
+			out[i].setOffsetX(random.nextInt(4) * 16);
+			out[i].setOffsetY(random.nextInt(4) * 16);
+			out[i].setTextureTop(TEXTURES[random.nextInt(TEXTURES.length)]);
+			out[i].setTextureMiddle(TEXTURES[random.nextInt(TEXTURES.length)]);
+			out[i].setTextureBottom(TEXTURES[random.nextInt(TEXTURES.length)]);
+			out[i].setSectorIndex(random.nextInt(8));
+		}
+		return out;
+	}
+
+	private static DoomSector[] sectors(int count, Random random)
+	{
+		DoomSector[] out = new DoomSector[count];
+		for (int i = 0; i < count; i++)
+		{
+			out[i] = new DoomSector();
+			out[i].setHeightFloor(random.nextInt(4) * 8);
+			out[i].setHeightCeiling(128 + random.nextInt(4) * 8);
+			out[i].setTextureFloor(FLATS[random.nextInt(FLATS.length)]);
+			out[i].setTextureCeiling(FLATS[random.nextInt(FLATS.length)]);
+			out[i].setLightLevel(96 + random.nextInt(4) * 32);
+			out[i].setSpecial(random.nextInt(3));
+			out[i].setTag(random.nextInt(3));
+		}
+		return out;
+	}
+
+	private static void addNodeLumps(WadBuffer wad) throws IOException
+	{
+		wad.addMarker("SEGS");
+		wad.addMarker("SSECTORS");
+		wad.addMarker("NODES");
+	}
+
+	private static byte[] toBytes(BinaryObject[] objects) throws IOException
+	{
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		for (BinaryObject object : objects)
+			object.writeBytes(bos);
+		return bos.toByteArray();
+	}
+}
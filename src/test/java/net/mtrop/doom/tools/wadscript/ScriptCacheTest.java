@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wadscript;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import com.blackrook.rookscript.Script;
+import com.blackrook.rookscript.ScriptEnvironment;
+import com.blackrook.rookscript.ScriptInstance;
+import com.blackrook.rookscript.compiler.ScriptReaderIncluder;
+import com.blackrook.rookscript.struct.PreprocessorLexer;
+
+/**
+ * Checks that {@link ScriptCache} returns a cached script until the script, something it includes,
+ * or the resolver signature changes.
+ */
+public final class ScriptCacheTest
+{
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+	private static final ScriptReaderIncluder INCLUDER = new ScriptReaderIncluder()
+	{
+		@Override
+		public String getIncludeResourcePath(String streamName, String path) throws IOException
+		{
+			return PreprocessorLexer.DEFAULT_INCLUDER.getIncludeResourcePath(streamName, path);
+		}
+
+		@Override
+		public InputStream getIncludeResource(String path) throws IOException
+		{
+			return PreprocessorLexer.DEFAULT_INCLUDER.getIncludeResource(path);
+		}
+
+		@Override
+		public Charset getEncodingForIncludedResource(String path)
+		{
+			return CHARSET;
+		}
+	};
+
+	public static void main(String[] args) throws Exception
+	{
+		File dir = Files.createTempDirectory("scriptcachetest").toFile();
+		try {
+			File scriptFile = new File(dir, "main.script");
+			File includeFile = new File(dir, "lib.script");
+			write(includeFile, "function value() { return 1; }");
+			write(scriptFile, "#include \"lib.script\"\nentry main(args) { return value(); }");
+
+			String signature = ScriptCache.createSignature(Arrays.asList("test", "value"));
+			ScriptCache cache = new ScriptCache();
+			check(cache.get(scriptFile, CHARSET, signature, INCLUDER) == null, "script was cached before it was compiled");
+
+			Script script = compile(cache, scriptFile, signature);
+			check(cache.get(scriptFile, CHARSET, signature, INCLUDER) == script, "compiled script was not returned");
+			check(new ScriptCache().get(scriptFile, CHARSET, signature, INCLUDER) == script, "compiled script was not shared between caches");
+			check(cache.get(scriptFile, CHARSET, ScriptCache.createSignature(Arrays.asList("test")), INCLUDER) == null, "script was returned for a different signature");
+
+			write(scriptFile, "#include \"lib.script\"\nentry main(args) { return value() + 1; }");
+			check(cache.get(scriptFile, CHARSET, signature, INCLUDER) == null, "script was returned after the script changed");
+
+			script = compile(cache, scriptFile, signature);
+			check(cache.get(scriptFile, CHARSET, signature, INCLUDER) == script, "recompiled script was not returned");
+
+			write(includeFile, "function value() { return 2; }");
+			check(cache.get(scriptFile, CHARSET, signature, INCLUDER) == null, "script was returned after an included file changed");
+
+			script = compile(cache, scriptFile, signature);
+			check(cache.get(scriptFile, CHARSET, signature, INCLUDER) == script, "script was not returned after recompiling with the changed include");
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+		System.out.println("OK");
+	}
+
+	// Compiles the script the way WadScript does, and caches it.
+	private static Script compile(ScriptCache cache, File scriptFile, String signature) throws Exception
+	{
+		ScriptCache.RecordingIncluder includer = ScriptCache.record(INCLUDER);
+		PrintStream out = new PrintStream(new ByteArrayOutputStream(), true);
+		Script script = ScriptInstance.createBuilder()
+			.withSource(scriptFile)
+			.usingReaderIncluder(includer)
+			.withEnvironment(ScriptEnvironment.create(out, out, new ByteArrayInputStream(new byte[0])))
+			.withScriptStack(16, 512)
+			.createInstance()
+			.getScript();
+		cache.put(scriptFile, CHARSET, signature, includer, script);
+		return script;
+	}
+
+	private static void write(File file, String content) throws IOException
+	{
+		Files.write(file.toPath(), content.getBytes(CHARSET));
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
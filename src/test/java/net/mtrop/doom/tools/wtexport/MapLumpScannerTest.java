@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wtexport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.TreeSet;
+
+import net.mtrop.doom.WadBuffer;
+import net.mtrop.doom.map.MapFormat;
+import net.mtrop.doom.map.data.DoomLinedef;
+import net.mtrop.doom.map.data.DoomSector;
+import net.mtrop.doom.map.data.DoomSidedef;
+import net.mtrop.doom.map.data.DoomThing;
+import net.mtrop.doom.map.data.HexenLinedef;
+import net.mtrop.doom.map.data.HexenThing;
+import net.mtrop.doom.object.BinaryObject;
+import net.mtrop.doom.util.MapUtils;
+
+/**
+ * Checks that {@link MapLumpScanner} and {@link LumpNameSet} find the same texture and flat names
+ * as reading every {@link DoomSidedef} and {@link DoomSector}, for Doom and Hexen maps.
+ * The lumps are written byte by byte, so that names in odd shapes (lower case, all 8 characters,
+ * garbage after a NUL, empty) are covered.
+ */
+public final class MapLumpScannerTest
+{
+	private static final String[] ODD_NAMES = {
+		"STARTAN2", "brown1", "Sky1", "-", "", "AB\0GARBG", "W_1[2]", "\0\0\0\0\0\0\0X", "SUPPORT3", "sUpPoRt3"
+	};
+	private static final char[] NAME_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_-[]\\".toCharArray();
+
+	public static void main(String[] args) throws Exception
+	{
+		Random random = new Random(0L);
+		WadBuffer wad = new WadBuffer();
+		addMap(wad, "MAP01", false, random);
+		addMap(wad, "MAP02", true, random);
+		check(MapUtils.getMapFormat(wad, "MAP01") == MapFormat.DOOM, "MAP01 is not a Doom map");
+		check(MapUtils.getMapFormat(wad, "MAP02") == MapFormat.HEXEN, "MAP02 is not a Hexen map");
+
+		for (String mapName : new String[]{"MAP01", "MAP02"})
+		{
+			int header = wad.lastIndexOf(mapName);
+
+			// The old way: read every object.
+			TextureUsage expected = new TextureUsage();
+			TreeSet<String> expectedTextureNames = new TreeSet<>();
+			TreeSet<String> expectedFlatNames = new TreeSet<>();
+			DoomSidedef[] sides = wad.getDataAs("SIDEDEFS", header, DoomSidedef.class, DoomSidedef.LENGTH);
+			for (DoomSidedef s : sides)
+			{
+				for (String name : new String[]{s.getTextureTop(), s.getTextureMiddle(), s.getTextureBottom()})
+				{
+					expected.addTexture(name);
+					if (name != null && !name.isEmpty())
+						expectedTextureNames.add(name);
+				}
+			}
+			DoomSector[] sectors = wad.getDataAs("SECTORS", header, DoomSector.class, DoomSector.LENGTH);
+			for (DoomSector s : sectors)
+			{
+				for (String name : new String[]{s.getTextureFloor(), s.getTextureCeiling()})
+				{
+					expected.addFlat(name);
+					if (name != null && !name.isEmpty())
+						expectedFlatNames.add(name);
+				}
+			}
+
+			// The new way: scan the bytes.
+			TextureUsage actual = new TextureUsage();
+			LumpNameSet seenTextures = new LumpNameSet(4);
+			LumpNameSet seenFlats = new LumpNameSet(4);
+			TreeSet<String> textureNames = new TreeSet<>();
+			TreeSet<String> flatNames = new TreeSet<>();
+			int sideCount = MapLumpScanner.scanSidedefs(wad.getData(wad.indexOf("SIDEDEFS", header)), seenTextures, (name) -> {
+				check(textureNames.add(name), mapName + ": texture " + name + " reported as new twice");
+				actual.addTexture(name);
+			});
+			int sectorCount = MapLumpScanner.scanSectors(wad.getData(wad.indexOf("SECTORS", header)), seenFlats, (name) -> {
+				check(flatNames.add(name), mapName + ": flat " + name + " reported as new twice");
+				actual.addFlat(name);
+			});
+
+			check(sideCount == sides.length, mapName + ": scanned " + sideCount + " sidedefs, expected " + sides.length);
+			check(sectorCount == sectors.length, mapName + ": scanned " + sectorCount + " sectors, expected " + sectors.length);
+			check(actual.getTextures().equals(expected.getTextures()), mapName + ": textures " + actual.getTextures() + ", expected " + expected.getTextures());
+			check(actual.getFlats().equals(expected.getFlats()), mapName + ": flats " + actual.getFlats() + ", expected " + expected.getFlats());
+			check(textureNames.equals(expectedTextureNames), mapName + ": texture names " + textureNames + ", expected " + expectedTextureNames);
+			check(flatNames.equals(expectedFlatNames), mapName + ": flat names " + flatNames + ", expected " + expectedFlatNames);
+			check(seenTextures.size() == expectedTextureNames.size(), mapName + ": texture set has " + seenTextures.size() + " names, expected " + expectedTextureNames.size());
+			check(seenFlats.size() == expectedFlatNames.size(), mapName + ": flat set has " + seenFlats.size() + " names, expected " + expectedFlatNames.size());
+			for (String name : expectedTextureNames)
+				check(seenTextures.contains(name) && seenTextures.contains(name.toLowerCase()), mapName + ": texture set does not contain " + name);
+			check(!seenTextures.contains("NOTHERE") && !seenTextures.contains(""), mapName + ": texture set contains names it should not");
+
+			System.out.println(mapName + ": " + textureNames.size() + " textures, " + flatNames.size() + " flats OK");
+		}
+		System.out.println("OK");
+	}
+
+	private static void addMap(WadBuffer wad, String header, boolean hexen, Random random) throws IOException
+	{
+		int sideCount = 400 + random.nextInt(100);
+		int sectorCount = 100 + random.nextInt(50);
+
+		ByteArrayOutputStream sides = new ByteArrayOutputStream();
+		for (int i = 0; i < sideCount; i++)
+		{
+			writeShort(sides, random.nextInt(64));
+			writeShort(sides, random.nextInt(64));
+			writeName(sides, randomName(random));
+			writeName(sides, randomName(random));
+			writeName(sides, randomName(random));
+			writeShort(sides, random.nextInt(sectorCount));
+		}
+
+		ByteArrayOutputStream sectors = new ByteArrayOutputStream();
+		for (int i = 0; i < sectorCount; i++)
+		{
+			writeShort(sectors, 0);
+			writeShort(sectors, 128);
+			writeName(sectors, randomName(random));
+			writeName(sectors, randomName(random));
+			writeShort(sectors, 160);
+			writeShort(sectors, 0);
+			writeShort(sectors, 0);
+		}
+
+		wad.addMarker(header);
+		if (hexen)
+		{
+			HexenThing thing = new HexenThing();
+			thing.setType(1);
+			HexenLinedef linedef = new HexenLinedef();
+			linedef.setSidedefFrontIndex(0);
+			wad.addData("THINGS", toBytes(thing));
+			wad.addData("LINEDEFS", toBytes(linedef));
+		}
+		else
+		{
+			DoomThing thing = new DoomThing();
+			thing.setType(1);
+			DoomLinedef linedef = new DoomLinedef();
+			linedef.setSidedefFrontIndex(0);
+			wad.addData("THINGS", toBytes(thing));
+			wad.addData("LINEDEFS", toBytes(linedef));
+		}
+		wad.addData("SIDEDEFS", sides.toByteArray());
+		wad.addData("VERTEXES", new byte[8]);
+		wad.addMarker("SEGS");
+		wad.addMarker("SSECTORS");
+		wad.addMarker("NODES");
+		wad.addData("SECTORS", sectors.toByteArray());
+		wad.addMarker("REJECT");
+		wad.addMarker("BLOCKMAP");
+		if (hexen)
+			wad.addMarker("BEHAVIOR");
+	}
+
+	private static String randomName(Random random)
+	{
+		if (random.nextInt(4) == 0)
+			return ODD_NAMES[random.nextInt(ODD_NAMES.length)];
+		char[] out = new char[1 + random.nextInt(8)];
+		for (int i = 0; i < out.length; i++)
+			out[i] = NAME_CHARS[random.nextInt(NAME_CHARS.length)];
+		return new String(out);
+	}
+
+	private static void writeShort(ByteArrayOutputStream out, int value)
+	{
+		out.write(value & 0x0ff);
+		out.write((value >> 8) & 0x0ff);
+	}
+
+	private static void writeName(ByteArrayOutputStream out, String name)
+	{
+		byte[] bytes = new byte[8];
+		byte[] nameBytes = name.getBytes(StandardCharsets.US_ASCII);
+		System.arraycopy(nameBytes, 0, bytes, 0, Math.min(nameBytes.length, 8));
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static byte[] toBytes(BinaryObject object) throws IOException
+	{
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		object.writeBytes(bos);
+		return bos.toByteArray();
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2020-2024 Matt Tropiano
+ * This program and the accompanying materials are made available under
+ * the terms of the MIT License, which accompanies this distribution.
+ ******************************************************************************/
+package net.mtrop.doom.tools.wtexport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.mtrop.doom.WadBuffer;
+import net.mtrop.doom.WadFile;
+import net.mtrop.doom.graphics.Picture;
+import net.mtrop.doom.map.MapObjectConstants;
+import net.mtrop.doom.map.data.DoomLinedef;
+import net.mtrop.doom.map.data.DoomSector;
+import net.mtrop.doom.map.data.DoomSidedef;
+import net.mtrop.doom.map.data.DoomThing;
+import net.mtrop.doom.map.data.DoomVertex;
+import net.mtrop.doom.object.BinaryObject;
+import net.mtrop.doom.texture.DoomTextureList;
+import net.mtrop.doom.texture.PatchNames;
+import net.mtrop.doom.texture.TextureSet;
+import net.mtrop.doom.tools.WTExportMain;
+import net.mtrop.doom.tools.WTexScanMain;
+
+/**
+ * Checks that handing WTexScan's results to WTEXport in memory (with <code>--scan</code>, or with a shared
+ * {@link TextureUsage} and {@link WadFileCache}) makes the same WAD as printing the list and reading it back from STDIN.
+ */
+public final class WTExportScanTest
+{
+	private static final String[] USED_TEXTURES = {"-", "STARTAN2", "BROWN1", "SUPPORT3", "NOTBASE"};
+	private static final String[] UNUSED_TEXTURES = {"DOORTRAK", "COMPBLUE"};
+	private static final String[] USED_FLATS = {"FLOOR4_8", "CEIL3_5", "NUKAGE1"};
+	private static final String[] UNUSED_FLATS = {"FLAT14", "RROCK01"};
+
+	public static void main(String[] args) throws Exception
+	{
+		Random random = new Random(0L);
+		File dir = Files.createTempDirectory("wtexportscantest").toFile();
+		try {
+			File baseWad = new File(dir, "base.wad");
+			File mapWad = new File(dir, "maps.wad");
+			writeBaseWad(baseWad, random);
+			writeMapWad(mapWad, random);
+
+			ByteArrayOutputStream log = new ByteArrayOutputStream();
+			PrintStream err = new PrintStream(log, true);
+
+			// Print, then parse from STDIN.
+			ByteArrayOutputStream list = new ByteArrayOutputStream();
+			check(WTexScanMain.run(new PrintStream(list, true), err, System.in, "-q", mapWad.getPath()) == 0, "WTexScan failed: " + log);
+			File stdinWad = new File(dir, "stdin.wad");
+			check(WTExportMain.run(new PrintStream(new ByteArrayOutputStream(), true), err, new ByteArrayInputStream(list.toByteArray()),
+				"-b", baseWad.getPath(), "-o", stdinWad.getPath(), "-c"
+			) == 0, "WTEXport from STDIN failed: " + log);
+
+			// Scanned by WTEXport.
+			File scanWad = new File(dir, "scan.wad");
+			check(WTExportMain.run(new PrintStream(new ByteArrayOutputStream(), true), err, new ByteArrayInputStream(new byte[0]),
+				"--scan", mapWad.getPath(), "-b", baseWad.getPath(), "-o", scanWad.getPath(), "-c"
+			) == 0, "WTEXport with --scan failed: " + log);
+
+			// Shared usage set and WAD cache, the way TOOL::wtexscanexport hands it over.
+			File sharedWad = new File(dir, "shared.wad");
+			TextureUsage usage = new TextureUsage();
+			try (WadFileCache cache = new WadFileCache())
+			{
+				check(WTexScanMain.call(WTexScanMain.options(err, err)
+					.setUsage(usage)
+					.setWadFileCache(cache)
+					.addWadFile(mapWad)
+				) == 0, "WTexScan to a usage set failed: " + log);
+				check(WTExportMain.call(WTExportMain.options(err, err, new ByteArrayInputStream(new byte[0]))
+					.setUsage(usage)
+					.setWadFileCache(cache)
+					.setBaseWad(baseWad)
+					.setOutWad(sharedWad)
+					.setAdditive(false)
+				) == 0, "WTEXport from a usage set failed: " + log);
+			}
+
+			List<String> expected = getContents(stdinWad);
+			for (String name : new String[]{"STARTAN2", "BROWN1", "SUPPORT3", "FLOOR4_8", "CEIL3_5", "NUKAGE1"})
+				check(expected.contains(name), "STDIN export is missing " + name + ": " + expected);
+			for (String name : new String[]{"DOORTRAK", "COMPBLUE", "FLAT14", "RROCK01"})
+				check(!expected.contains(name), "STDIN export has unused " + name + ": " + expected);
+
+			checkSame("--scan", stdinWad, scanWad);
+			checkSame("shared usage", stdinWad, sharedWad);
+			System.out.println("Exported: " + expected);
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+		System.out.println("OK");
+	}
+
+	// Every patch and flat is its own lump, so a wrong list shows up as a missing or extra entry.
+	private static void writeBaseWad(File file, Random random) throws IOException
+	{
+		List<String> textures = new ArrayList<>(Arrays.asList(USED_TEXTURES).subList(1, USED_TEXTURES.length - 1));
+		textures.addAll(Arrays.asList(UNUSED_TEXTURES));
+		textures.add("SKY1");
+
+		TextureSet textureSet = new TextureSet();
+		List<String> patchNames = new ArrayList<>();
+		for (String name : textures)
+		{
+			TextureSet.Texture texture = textureSet.createTexture(name);
+			texture.setWidth(64);
+			texture.setHeight(128);
+			for (int p = 0; p < 2; p++)
+			{
+				String patchName = name.substring(0, Math.min(name.length(), 6)) + "P" + p;
+				TextureSet.Patch patch = texture.createPatch(patchName);
+				patch.setOriginX(p * 32);
+				patch.setOriginY(0);
+				patchNames.add(patchName);
+			}
+		}
+		PatchNames pnames = new PatchNames();
+		DoomTextureList texture1 = new DoomTextureList();
+		textureSet.export(pnames, texture1);
+
+		WadBuffer wad = new WadBuffer();
+		wad.addData("PNAMES", pnames);
+		wad.addData("TEXTURE1", texture1);
+		wad.addMarker("P_START");
+		for (String name : patchNames)
+			wad.addData(name, picture(random));
+		wad.addMarker("P_END");
+		wad.addMarker("F_START");
+		for (String name : USED_FLATS)
+			wad.addData(name, flat(random));
+		for (String name : UNUSED_FLATS)
+			wad.addData(name, flat(random));
+		wad.addData("F_SKY1", flat(random));
+		wad.addMarker("F_END");
+		wad.writeToFile(file);
+	}
+
+	private static void writeMapWad(File file, Random random) throws IOException
+	{
+		DoomThing thing = new DoomThing();
+		thing.setType(1);
+
+		DoomVertex[] vertices = new DoomVertex[9];
+		for (int i = 0; i < vertices.length; i++)
+		{
+			vertices[i] = new DoomVertex();
+			vertices[i].setX(i * 64);
+			vertices[i].setY((i % 2) * 64);
+		}
+
+		DoomSidedef[] sidedefs = new DoomSidedef[16];
+		for (int i = 0; i < sidedefs.length; i++)
+		{
+			sidedefs[i] = new DoomSidedef();
+			sidedefs[i].setTextureTop(USED_TEXTURES[random.nextInt(USED_TEXTURES.length)]);
+			sidedefs[i].setTextureMiddle(USED_TEXTURES[i % USED_TEXTURES.length]);
+			sidedefs[i].setTextureBottom(USED_TEXTURES[random.nextInt(USED_TEXTURES.length)]);
+			sidedefs[i].setSectorIndex(i % USED_FLATS.length);
+		}
+
+		DoomLinedef[] linedefs = new DoomLinedef[8];
+		for (int i = 0; i < linedefs.length; i++)
+		{
+			linedefs[i] = new DoomLinedef();
+			linedefs[i].setVertexStartIndex(i);
+			linedefs[i].setVertexEndIndex(i + 1);
+			linedefs[i].setSidedefFrontIndex(i * 2);
+			linedefs[i].setSidedefBackIndex(i % 2 == 0 ? i * 2 + 1 : MapObjectConstants.NULL_REFERENCE);
+		}
+
+		DoomSector[] sectors = new DoomSector[USED_FLATS.length];
+		for (int i = 0; i < sectors.length; i++)
+		{
+			sectors[i] = new DoomSector();
+			sectors[i].setHeightCeiling(128);
+			sectors[i].setTextureFloor(USED_FLATS[i]);
+			sectors[i].setTextureCeiling(USED_FLATS[(i + 1) % USED_FLATS.length]);
+			sectors[i].setLightLevel(160);
+		}
+
+		WadBuffer wad = new WadBuffer();
+		wad.addMarker("MAP01");
+		wad.addData("THINGS", toBytes(new BinaryObject[]{thing}));
+		wad.addData("LINEDEFS", toBytes(linedefs));
+		wad.addData("SIDEDEFS", toBytes(sidedefs));
+		wad.addData("VERTEXES", toBytes(vertices));
+		wad.addMarker("SEGS");
+		wad.addMarker("SSECTORS");
+		wad.addMarker("NODES");
+		wad.addData("SECTORS", toBytes(sectors));
+		wad.addMarker("REJECT");
+		wad.addMarker("BLOCKMAP");
+		wad.writeToFile(file);
+	}
+
+	private static Picture picture(Random random)
+	{
+		Picture out = new Picture(32, 16);
+		for (int x = 0; x < out.getWidth(); x++)
+			for (int y = 0; y < out.getHeight(); y++)
+				out.setPixel(x, y, random.nextInt(256));
+		return out;
+	}
+
+	private static byte[] flat(Random random)
+	{
+		byte[] out = new byte[4096];
+		random.nextBytes(out);
+		return out;
+	}
+
+	private static byte[] toBytes(BinaryObject[] objects) throws IOException
+	{
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		for (BinaryObject object : objects)
+			object.writeBytes(bos);
+		return bos.toByteArray();
+	}
+
+	private static List<String> getContents(File file) throws IOException
+	{
+		List<String> out = new ArrayList<>();
+		try (WadFile wad = new WadFile(file))
+		{
+			for (int i = 0; i < wad.getEntryCount(); i++)
+				out.add(wad.getEntry(i).getName());
+		}
+		return out;
+	}
+
+	private static void checkSame(String name, File expectedFile, File actualFile) throws IOException
+	{
+		try (WadFile expected = new WadFile(expectedFile); WadFile actual = new WadFile(actualFile))
+		{
+			check(expected.getEntryCount() == actual.getEntryCount(), name + ": " + actual.getEntryCount() + " entries, expected " + expected.getEntryCount());
+			for (int i = 0; i < expected.getEntryCount(); i++)
+			{
+				String entryName = expected.getEntry(i).getName();
+				check(entryName.equals(actual.getEntry(i).getName()), name + ": entry " + i + " is " + actual.getEntry(i).getName() + ", expected " + entryName);
+				check(Arrays.equals(expected.getData(i), actual.getData(i)), name + ": entry " + entryName + " has different content");
+			}
+		}
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException("Failed: " + message);
+	}
+}